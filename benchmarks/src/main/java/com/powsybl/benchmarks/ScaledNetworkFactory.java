@@ -0,0 +1,247 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.benchmarks;
+
+import com.powsybl.iidm.network.*;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
+/**
+ * Generate networks of arbitrary size for benchmarks.
+ * <p>
+ * Each substation is modelled after the substations of {@link com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory}
+ * (node/breaker topology, two coupled busbar sections, a generator, a load and one bay per line) or of
+ * {@link com.powsybl.iidm.network.test.EurostagTutorialExample1Factory} (bus/breaker topology, one bus per voltage level).
+ * Substations are connected in a ring, with additional lines between distant substations so that the grid is meshed.
+ * Flows and voltages are filled so that a few percent of the lines are overloaded.
+ *
+ * @author Elia Group
+ */
+public final class ScaledNetworkFactory {
+
+    private static final Country[] COUNTRIES = {Country.FR, Country.BE, Country.NL, Country.DE};
+
+    private static final double NOMINAL_V = 400;
+
+    private static final int MESH_STEP = 7;
+
+    private static final int OVERLOADED_LINE_STEP = 20;
+
+    private ScaledNetworkFactory() {
+    }
+
+    public static Network create(int substationCount, TopologyKind topologyKind) {
+        return create(substationCount, topologyKind, NetworkFactory.findDefault());
+    }
+
+    public static Network create(int substationCount, TopologyKind topologyKind, NetworkFactory networkFactory) {
+        if (substationCount < 2) {
+            throw new IllegalArgumentException("At least 2 substations are required");
+        }
+        Objects.requireNonNull(topologyKind);
+        Objects.requireNonNull(networkFactory);
+
+        Network network = networkFactory.createNetwork("scaled" + substationCount, "test");
+        network.setCaseDate(ZonedDateTime.parse("2017-06-25T17:43:00.000+01:00"));
+
+        int[] nextNodes = new int[substationCount];
+        for (int i = 0; i < substationCount; i++) {
+            VoltageLevel vl = network.newSubstation()
+                    .setId(substationId(i))
+                    .setCountry(COUNTRIES[i % COUNTRIES.length])
+                    .add()
+                    .newVoltageLevel()
+                    .setId(voltageLevelId(i))
+                    .setNominalV(NOMINAL_V)
+                    .setLowVoltageLimit(390)
+                    .setHighVoltageLimit(420)
+                    .setTopologyKind(topologyKind)
+                    .add();
+            if (topologyKind == TopologyKind.NODE_BREAKER) {
+                nextNodes[i] = createNodeBreakerTopology(vl);
+            } else {
+                createBusBreakerTopology(vl);
+            }
+            createInjections(vl, i, nextNodes);
+        }
+
+        int lineCount = 0;
+        for (int i = 0; i < substationCount; i++) {
+            lineCount = createLine(network, i, (i + 1) % substationCount, lineCount, nextNodes);
+            if (substationCount > 2 * MESH_STEP && i % 2 == 0) {
+                lineCount = createLine(network, i, (i + MESH_STEP) % substationCount, lineCount, nextNodes);
+            }
+        }
+
+        fillStateVariables(network);
+
+        return network;
+    }
+
+    public static String substationId(int i) {
+        return "S" + i;
+    }
+
+    public static String voltageLevelId(int i) {
+        return "VL" + i;
+    }
+
+    private static int createNodeBreakerTopology(VoltageLevel vl) {
+        VoltageLevel.NodeBreakerView view = vl.getNodeBreakerView();
+        view.newBusbarSection()
+                .setId(vl.getId() + "_BBS1")
+                .setNode(0)
+                .add();
+        view.newBusbarSection()
+                .setId(vl.getId() + "_BBS2")
+                .setNode(1)
+                .add();
+        view.newDisconnector()
+                .setId(vl.getId() + "_COUPLER_DISCONNECTOR1")
+                .setNode1(0)
+                .setNode2(2)
+                .setOpen(false)
+                .add();
+        view.newBreaker()
+                .setId(vl.getId() + "_COUPLER")
+                .setNode1(2)
+                .setNode2(3)
+                .setOpen(false)
+                .add();
+        view.newDisconnector()
+                .setId(vl.getId() + "_COUPLER_DISCONNECTOR2")
+                .setNode1(3)
+                .setNode2(1)
+                .setOpen(false)
+                .add();
+        return 4;
+    }
+
+    private static void createBusBreakerTopology(VoltageLevel vl) {
+        vl.getBusBreakerView().newBus()
+                .setId(busId(vl))
+                .add();
+    }
+
+    private static String busId(VoltageLevel vl) {
+        return vl.getId() + "_BUS";
+    }
+
+    /**
+     * Create a disconnector and a breaker between the given busbar section and a new node, and return that node.
+     */
+    private static int createBay(VoltageLevel vl, String id, int busbarSectionNode, int[] nextNodes, int vlNum) {
+        int node1 = nextNodes[vlNum]++;
+        int node2 = nextNodes[vlNum]++;
+        vl.getNodeBreakerView().newDisconnector()
+                .setId(id + "_DISCONNECTOR")
+                .setNode1(busbarSectionNode)
+                .setNode2(node1)
+                .setOpen(false)
+                .add();
+        vl.getNodeBreakerView().newBreaker()
+                .setId(id + "_BREAKER")
+                .setNode1(node1)
+                .setNode2(node2)
+                .setOpen(false)
+                .add();
+        return node2;
+    }
+
+    private static void createInjections(VoltageLevel vl, int i, int[] nextNodes) {
+        String generatorId = "G" + i;
+        GeneratorAdder generatorAdder = vl.newGenerator()
+                .setId(generatorId)
+                .setEnergySource(EnergySource.THERMAL)
+                .setMinP(0)
+                .setMaxP(1000)
+                .setVoltageRegulatorOn(true)
+                .setTargetV(NOMINAL_V)
+                .setTargetP(300)
+                .setTargetQ(0);
+        String loadId = "LD" + i;
+        LoadAdder loadAdder = vl.newLoad()
+                .setId(loadId)
+                .setLoadType(LoadType.UNDEFINED)
+                .setP0(300)
+                .setQ0(50);
+        if (vl.getTopologyKind() == TopologyKind.NODE_BREAKER) {
+            generatorAdder.setNode(createBay(vl, generatorId, 0, nextNodes, i));
+            loadAdder.setNode(createBay(vl, loadId, 1, nextNodes, i));
+        } else {
+            generatorAdder.setBus(busId(vl)).setConnectableBus(busId(vl));
+            loadAdder.setBus(busId(vl)).setConnectableBus(busId(vl));
+        }
+        generatorAdder.add().newMinMaxReactiveLimits()
+                .setMinQ(-500)
+                .setMaxQ(500)
+                .add();
+        loadAdder.add();
+    }
+
+    private static int createLine(Network network, int i1, int i2, int lineCount, int[] nextNodes) {
+        VoltageLevel vl1 = network.getVoltageLevel(voltageLevelId(i1));
+        VoltageLevel vl2 = network.getVoltageLevel(voltageLevelId(i2));
+        String id = "L" + i1 + "_" + i2;
+        LineAdder adder = network.newLine()
+                .setId(id)
+                .setVoltageLevel1(vl1.getId())
+                .setVoltageLevel2(vl2.getId())
+                .setR(1.0)
+                .setX(10.0)
+                .setG1(0)
+                .setB1(0)
+                .setG2(0)
+                .setB2(0);
+        if (vl1.getTopologyKind() == TopologyKind.NODE_BREAKER) {
+            adder.setNode1(createBay(vl1, id + "_1", lineCount % 2, nextNodes, i1))
+                    .setNode2(createBay(vl2, id + "_2", lineCount % 2, nextNodes, i2));
+        } else {
+            adder.setBus1(busId(vl1))
+                    .setConnectableBus1(busId(vl1))
+                    .setBus2(busId(vl2))
+                    .setConnectableBus2(busId(vl2));
+        }
+        Line line = adder.add();
+        line.newCurrentLimits1()
+                .setPermanentLimit(1000)
+                .beginTemporaryLimit()
+                .setName("20'")
+                .setAcceptableDuration(20 * 60)
+                .setValue(1200)
+                .endTemporaryLimit()
+                .add();
+        line.newCurrentLimits2()
+                .setPermanentLimit(1000)
+                .add();
+        return lineCount + 1;
+    }
+
+    private static void fillStateVariables(Network network) {
+        int i = 0;
+        for (Line line : network.getLines()) {
+            // around 690 MW are needed to exceed 1000 A at 400 kV
+            double p = i % OVERLOADED_LINE_STEP == 0 ? 750 : 100 + i % 300;
+            line.getTerminal1().setP(p).setQ(20);
+            line.getTerminal2().setP(-p + 1).setQ(-18);
+            i++;
+        }
+        for (Generator generator : network.getGenerators()) {
+            generator.getTerminal().setP(-generator.getTargetP()).setQ(-generator.getTargetQ());
+        }
+        for (Load load : network.getLoads()) {
+            load.getTerminal().setP(load.getP0()).setQ(load.getQ0());
+        }
+        int j = 0;
+        for (Bus bus : network.getBusView().getBuses()) {
+            bus.setV(NOMINAL_V + j % 30 - 10).setAngle(j % 10 * 0.1);
+            j++;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.benchmarks.cgmes;
+
+import com.powsybl.cgmes.conformity.CgmesConformity1Catalog;
+import com.powsybl.cgmes.conversion.CgmesImport;
+import com.powsybl.cgmes.model.GridModelReferenceResources;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.NetworkFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the CGMES import of conformity test models, using a triple store or the streaming CGMES model.
+ *
+ * @author Elia Group
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CgmesImportBenchmark {
+
+    @Param({"microGridBaseCaseBE", "microGridBaseCaseAssembled", "smallBusBranch"})
+    private String model;
+
+    @Param({"rdf4j", "streaming"})
+    private String implementation;
+
+    private ReadOnlyDataSource dataSource;
+
+    private Properties importParams;
+
+    private CgmesImport cgmesImport;
+
+    @Setup
+    public void setUp() {
+        GridModelReferenceResources gridModel = switch (model) {
+            case "microGridBaseCaseBE" -> CgmesConformity1Catalog.microGridBaseCaseBE();
+            case "microGridBaseCaseAssembled" -> CgmesConformity1Catalog.microGridBaseCaseAssembled();
+            case "smallBusBranch" -> CgmesConformity1Catalog.smallBusBranch();
+            default -> throw new IllegalArgumentException("Unknown model: " + model);
+        };
+        dataSource = gridModel.dataSource();
+        cgmesImport = new CgmesImport();
+        importParams = new Properties();
+        importParams.put(CgmesImport.POWSYBL_TRIPLESTORE, implementation);
+    }
+
+    @Benchmark
+    public Network importData() {
+        return cgmesImport.importData(dataSource, NetworkFactory.findDefault(), importParams);
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.benchmarks.cgmes;
+
+import com.powsybl.triplestore.api.PropertyBag;
+import com.powsybl.triplestore.api.PropertyBags;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the creation of query results and of the typed accessors used by the CGMES conversion, on rows shaped
+ * like the ones of the AC line segments query. The end to end effect on imports is measured by {@link CgmesImportBenchmark}.
+ *
+ * @author Elia Group
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PropertyBagBenchmark {
+
+    private static final List<String> PROPERTY_NAMES = List.of("ACLineSegment", "name", "Terminal1", "Terminal2",
+            "r", "x", "bch", "gch", "b0ch", "g0ch", "r0", "x0", "shortCircuitEndTemperature");
+
+    private static final String NAMESPACE = "http://entsoe.eu/CIM/SchemaExtension/3/1#";
+
+    @Param({"100000"})
+    private int rowCount;
+
+    private PropertyBags rows;
+
+    private static PropertyBag createRow(int i) {
+        PropertyBag row = new PropertyBag(PROPERTY_NAMES, true, true);
+        row.put("ACLineSegment", NAMESPACE + "_line" + i);
+        row.put("name", "line " + i);
+        row.put("Terminal1", NAMESPACE + "_line" + i + "_t1");
+        row.put("Terminal2", NAMESPACE + "_line" + i + "_t2");
+        row.put("r", Double.toString(i * 0.01));
+        row.put("x", Double.toString(i * 0.1));
+        row.put("bch", "0.0001");
+        row.put("gch", "0");
+        return row;
+    }
+
+    @Setup
+    public void setUp() {
+        rows = new PropertyBags();
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(createRow(i));
+        }
+    }
+
+    @Benchmark
+    public PropertyBags createRows() {
+        PropertyBags result = new PropertyBags();
+        for (int i = 0; i < rowCount; i++) {
+            result.add(createRow(i));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void readRows(Blackhole blackhole) {
+        for (PropertyBag row : rows) {
+            blackhole.consume(row.getId("ACLineSegment"));
+            blackhole.consume(row.getId("Terminal1"));
+            blackhole.consume(row.getId("Terminal2"));
+            blackhole.consume(row.asDouble("r"));
+            blackhole.consume(row.asDouble("x"));
+            blackhole.consume(row.asDouble("bch", 0));
+            blackhole.consume(row.asDouble("gch", 0));
+            blackhole.consume(row.asDouble("r0", 0));
+            blackhole.consume(row.asBoolean("shortCircuitEndTemperature", false));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.benchmarks.iidm;
+
+import com.powsybl.benchmarks.ScaledNetworkFactory;
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Switch;
+import com.powsybl.iidm.network.TopologyKind;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the bus view and connected components refresh after a topology change.
+ *
+ * @author Elia Group
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BusViewBenchmark {
+
+    @Param({"1000", "10000"})
+    private int substationCount;
+
+    private Network network;
+
+    private Switch lineBreaker;
+
+    private Switch coupler;
+
+    @Setup
+    public void setUp() {
+        network = ScaledNetworkFactory.create(substationCount, TopologyKind.NODE_BREAKER);
+        lineBreaker = network.getSwitch("L0_1_1_BREAKER");
+        coupler = network.getSwitch(ScaledNetworkFactory.voltageLevelId(0) + "_COUPLER");
+    }
+
+    private void consumeBuses(Blackhole bh) {
+        for (Bus bus : network.getBusView().getBuses()) {
+            bh.consume(bus.getConnectedComponent());
+        }
+    }
+
+    /**
+     * Disconnect and reconnect a line, the bus view of the voltage level does not change.
+     */
+    @Benchmark
+    public void toggleLineBreaker(Blackhole bh) {
+        lineBreaker.setOpen(true);
+        consumeBuses(bh);
+        lineBreaker.setOpen(false);
+        consumeBuses(bh);
+    }
+
+    /**
+     * Open and close a bus coupler, the voltage level is split in two buses and merged back.
+     */
+    @Benchmark
+    public void toggleCoupler(Blackhole bh) {
+        coupler.setOpen(true);
+        consumeBuses(bh);
+        coupler.setOpen(false);
+        consumeBuses(bh);
+    }
+}
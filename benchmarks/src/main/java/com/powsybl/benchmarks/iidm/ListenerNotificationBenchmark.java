@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.benchmarks.iidm;
+
+import com.powsybl.benchmarks.ScaledNetworkFactory;
+import com.powsybl.iidm.network.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the variant dependent setters of the injections, with and without a listener on the network.
+ *
+ * @author Elia Group
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListenerNotificationBenchmark {
+
+    private static final int VARIANT_COUNT = 4;
+
+    /**
+     * One generator per substation.
+     */
+    @Param({"100000"})
+    private int injectionCount;
+
+    @Param({"false", "true"})
+    private boolean withListener;
+
+    private VariantManager variantManager;
+
+    private final List<String> variantIds = new ArrayList<>();
+
+    private Generator[] generators;
+
+    private double delta = 0;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        Network network = ScaledNetworkFactory.create(injectionCount, TopologyKind.BUS_BREAKER);
+        variantManager = network.getVariantManager();
+        variantIds.add(VariantManagerConstants.INITIAL_VARIANT_ID);
+        for (int i = 1; i < VARIANT_COUNT; i++) {
+            String variantId = "variant" + i;
+            variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, variantId);
+            variantIds.add(variantId);
+        }
+        generators = network.getGeneratorStream().toArray(Generator[]::new);
+        if (withListener) {
+            network.addListener(new DefaultNetworkListener() {
+                @Override
+                public void onUpdate(Identifiable<?> identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+                    blackhole.consume(newValue);
+                }
+            });
+        }
+    }
+
+    /**
+     * Set the active and reactive power targets of all the generators, in each variant.
+     */
+    @Benchmark
+    public void setTargets() {
+        // change the values at each invocation so that an update is notified
+        delta = delta == 0 ? 1 : 0;
+        for (String variantId : variantIds) {
+            variantManager.setWorkingVariant(variantId);
+            for (Generator generator : generators) {
+                generator.setTargetP(100 + delta);
+                generator.setTargetQ(10 + delta);
+            }
+        }
+    }
+}
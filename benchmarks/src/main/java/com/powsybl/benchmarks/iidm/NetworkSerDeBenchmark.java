@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.benchmarks.iidm;
+
+import com.powsybl.benchmarks.ScaledNetworkFactory;
+import com.powsybl.commons.datasource.DirectoryDataSource;
+import com.powsybl.commons.io.TreeDataFormat;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.NetworkFactory;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.serde.ExportOptions;
+import com.powsybl.iidm.serde.ImportOptions;
+import com.powsybl.iidm.serde.NetworkSerDe;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of IIDM serialization and deserialization in the XML, JSON and binary formats.
+ * The network is read from memory, and from a file of a directory data source, which is memory mapped
+ * for the binary format.
+ *
+ * @author Elia Group
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NetworkSerDeBenchmark {
+
+    @Param({"1000", "10000"})
+    private int substationCount;
+
+    @Param({"NODE_BREAKER", "BUS_BREAKER"})
+    private TopologyKind topologyKind;
+
+    @Param({"XML", "JSON", "BIN"})
+    private TreeDataFormat format;
+
+    private Network network;
+
+    private byte[] data;
+
+    private Path directory;
+
+    private DirectoryDataSource dataSource;
+
+    @Setup
+    public void setUp() throws IOException {
+        network = ScaledNetworkFactory.create(substationCount, topologyKind);
+        data = write();
+        directory = Files.createTempDirectory("network-serde-benchmark");
+        Files.write(directory.resolve("network." + extension()), data);
+        dataSource = new DirectoryDataSource(directory, "network");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(directory.resolve("network." + extension()));
+        Files.delete(directory);
+    }
+
+    private String extension() {
+        return switch (format) {
+            case XML -> "xiidm";
+            case JSON -> "jiidm";
+            case BIN -> "biidm";
+        };
+    }
+
+    private byte[] write() {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkSerDe.write(network, new ExportOptions().setFormat(format), os);
+        return os.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeNetwork() {
+        return write();
+    }
+
+    @Benchmark
+    public Network readNetwork() {
+        return NetworkSerDe.read(new ByteArrayInputStream(data), new ImportOptions().setFormat(format), null);
+    }
+
+    @Benchmark
+    public Network readNetworkFile() throws IOException {
+        return NetworkSerDe.read(dataSource, NetworkFactory.findDefault(), new ImportOptions().setFormat(format), extension(), ReportNode.NO_OP);
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.benchmarks.iidm;
+
+import com.powsybl.benchmarks.ScaledNetworkFactory;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of variant cloning, as done by security analysis for each contingency.
+ *
+ * @author Elia Group
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VariantBenchmark {
+
+    private static final String VARIANT_ID = "benchmark";
+
+    @Param({"1000", "10000"})
+    private int substationCount;
+
+    private VariantManager variantManager;
+
+    @Setup
+    public void setUp() {
+        Network network = ScaledNetworkFactory.create(substationCount, TopologyKind.NODE_BREAKER);
+        variantManager = network.getVariantManager();
+    }
+
+    /**
+     * Clone and remove a variant, so that the variant array is extended and reduced at each invocation.
+     */
+    @Benchmark
+    public void cloneAndRemoveVariant() {
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, VARIANT_ID);
+        variantManager.removeVariant(VARIANT_ID);
+    }
+
+    /**
+     * Overwrite an existing variant, which is the pattern used to reset the working variant between contingencies.
+     */
+    @Benchmark
+    public void overwriteVariant() {
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, VARIANT_ID, true);
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.benchmarks.security;
+
+import com.powsybl.benchmarks.ScaledNetworkFactory;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.limitmodification.LimitsComputer;
+import com.powsybl.security.LimitViolation;
+import com.powsybl.security.LimitViolationDetection;
+import com.powsybl.security.detectors.LoadingLimitType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the limit violations detection on the whole network, as done after each contingency.
+ *
+ * @author Elia Group
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LimitViolationDetectionBenchmark {
+
+    @Param({"1000", "10000"})
+    private int substationCount;
+
+    private Network network;
+
+    @Setup
+    public void setUp() {
+        network = ScaledNetworkFactory.create(substationCount, TopologyKind.NODE_BREAKER);
+    }
+
+    @Benchmark
+    public List<LimitViolation> checkAll() {
+        List<LimitViolation> violations = new ArrayList<>();
+        LimitViolationDetection.checkAll(network, EnumSet.allOf(LoadingLimitType.class), LimitsComputer.NO_MODIFICATIONS, violations::add);
+        return violations;
+    }
+}
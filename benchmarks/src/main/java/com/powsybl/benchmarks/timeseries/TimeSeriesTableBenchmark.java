@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.benchmarks.timeseries;
+
+import com.powsybl.timeseries.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the loading of hourly yearly time series into a {@link TimeSeriesTable}.
+ *
+ * @author Elia Group
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimeSeriesTableBenchmark {
+
+    private static final int POINT_COUNT = 8760;
+
+    @Param({"100", "1000"})
+    private int timeSeriesCount;
+
+    @Param({"false", "true"})
+    private boolean compressed;
+
+    private TimeSeriesTable table;
+
+    private List<TimeSeries> timeSeriesList;
+
+    @Setup
+    public void setUp() {
+        TimeSeriesIndex index = RegularTimeSeriesIndex.create(Instant.parse("2026-01-01T00:00:00Z"), Instant.parse("2026-01-01T00:00:00Z").plus(Duration.ofHours(POINT_COUNT - 1L)),
+                Duration.ofHours(1));
+        timeSeriesList = new ArrayList<>(timeSeriesCount);
+        for (int i = 0; i < timeSeriesCount; i++) {
+            double[] values = new double[POINT_COUNT];
+            for (int j = 0; j < POINT_COUNT; j++) {
+                // daily profile, repeated values are then compressible
+                values[j] = i + (j % 24) / 4;
+            }
+            DoubleDataChunk chunk = new UncompressedDoubleDataChunk(0, values);
+            if (compressed) {
+                chunk = chunk.tryToCompress();
+            }
+            timeSeriesList.add(new StoredDoubleTimeSeries(new TimeSeriesMetadata("ts" + i, TimeSeriesDataType.DOUBLE, index), chunk));
+        }
+        table = new TimeSeriesTable(1, 1, index);
+    }
+
+    @Benchmark
+    public TimeSeriesTable load() {
+        table.load(1, timeSeriesList);
+        return table;
+    }
+}
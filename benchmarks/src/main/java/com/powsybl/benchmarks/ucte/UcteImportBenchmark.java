@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.benchmarks.ucte;
+
+import com.powsybl.commons.datasource.DirectoryDataSource;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.NetworkFactory;
+import com.powsybl.ucte.converter.UcteImporter;
+import com.powsybl.ucte.network.*;
+import com.powsybl.ucte.network.io.UcteWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the UCTE import of a generated meshed 380 kV grid.
+ *
+ * @author Elia Group
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UcteImportBenchmark {
+
+    private static final String BASE_NAME = "benchmark";
+
+    private static final UcteCountryCode[] COUNTRIES = {UcteCountryCode.FR, UcteCountryCode.BE, UcteCountryCode.NL, UcteCountryCode.DE};
+
+    private static final int MESH_STEP = 7;
+
+    @Param({"1000", "10000"})
+    private int nodeCount;
+
+    private Path directory;
+
+    private ReadOnlyDataSource dataSource;
+
+    private UcteImporter importer;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("ucte-benchmark");
+        try (BufferedWriter writer = Files.newBufferedWriter(directory.resolve(BASE_NAME + ".uct"))) {
+            new UcteWriter(createUcteNetwork(nodeCount)).write(writer);
+        }
+        dataSource = new DirectoryDataSource(directory, BASE_NAME);
+        importer = new UcteImporter();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (var paths = Files.list(directory)) {
+            paths.forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        Files.delete(directory);
+    }
+
+    private static UcteNodeCode nodeCode(int i) {
+        // 5 characters base 36 geographical spot
+        String spot = Integer.toString(i, Character.MAX_RADIX).toUpperCase();
+        return new UcteNodeCode(COUNTRIES[i % COUNTRIES.length], "0".repeat(5 - spot.length()) + spot, UcteVoltageLevelCode.VL_380, '1');
+    }
+
+    static UcteNetwork createUcteNetwork(int nodeCount) {
+        UcteNetwork network = new UcteNetworkImpl();
+        network.setVersion(UcteFormatVersion.SECOND);
+        for (int i = 0; i < nodeCount; i++) {
+            network.addNode(new UcteNode(nodeCode(i), "N" + i, UcteNodeStatus.REAL, i == 0 ? UcteNodeTypeCode.UT : UcteNodeTypeCode.PU,
+                    400, 300, 50, -300, 0, 0, -1000, -500, 500, Double.NaN, Double.NaN, Double.NaN, Double.NaN, null));
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            addLine(network, i, (i + 1) % nodeCount);
+            if (nodeCount > 2 * MESH_STEP && i % 2 == 0) {
+                addLine(network, i, (i + MESH_STEP) % nodeCount);
+            }
+        }
+        return network;
+    }
+
+    private static void addLine(UcteNetwork network, int i1, int i2) {
+        network.addLine(new UcteLine(new UcteElementId(nodeCode(i1), nodeCode(i2), '1'), UcteElementStatus.REAL_ELEMENT_IN_OPERATION,
+                1.0, 10.0, 0.0, 1000, null));
+    }
+
+    @Benchmark
+    public Network importData() {
+        return importer.importData(dataSource, NetworkFactory.findDefault(), null);
+    }
+}
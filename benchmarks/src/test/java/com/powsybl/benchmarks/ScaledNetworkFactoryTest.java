@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.benchmarks;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.limitmodification.LimitsComputer;
+import com.powsybl.security.LimitViolation;
+import com.powsybl.security.LimitViolationDetection;
+import com.powsybl.security.detectors.LoadingLimitType;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Elia Group
+ */
+class ScaledNetworkFactoryTest {
+
+    @ParameterizedTest
+    @EnumSource(value = TopologyKind.class)
+    void test(TopologyKind topologyKind) {
+        Network network = ScaledNetworkFactory.create(100, topologyKind);
+        assertEquals(100, network.getSubstationCount());
+        assertEquals(150, network.getLineCount());
+        assertEquals(100, network.getGeneratorCount());
+        assertEquals(100, network.getLoadCount());
+        assertEquals(100, network.getBusView().getBusStream().count());
+        assertEquals(1, network.getBusView().getConnectedComponents().size());
+
+        List<LimitViolation> violations = new ArrayList<>();
+        LimitViolationDetection.checkAll(network, EnumSet.allOf(LoadingLimitType.class), LimitsComputer.NO_MODIFICATIONS, violations::add);
+        assertFalse(violations.isEmpty());
+    }
+}
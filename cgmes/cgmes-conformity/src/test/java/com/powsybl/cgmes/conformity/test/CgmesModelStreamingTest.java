@@ -0,0 +1,164 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.cgmes.conformity.test;
+
+import com.powsybl.cgmes.conformity.Cgmes3Catalog;
+import com.powsybl.cgmes.conformity.CgmesConformity1Catalog;
+import com.powsybl.cgmes.model.CgmesModel;
+import com.powsybl.cgmes.model.CgmesModelFactory;
+import com.powsybl.cgmes.model.GridModelReference;
+import com.powsybl.cgmes.model.streaming.CgmesModelStreaming;
+import com.powsybl.triplestore.api.PropertyBags;
+import com.powsybl.triplestore.api.TripleStoreFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Check that the streaming CGMES model gives the same query results as the triple store one.
+ *
+ * @author Elia Group
+ */
+class CgmesModelStreamingTest {
+
+    @Test
+    void microGridBaseCaseBE() {
+        compare(CgmesConformity1Catalog.microGridBaseCaseBE());
+    }
+
+    @Test
+    void microGridBaseCaseNL() {
+        compare(CgmesConformity1Catalog.microGridBaseCaseNL());
+    }
+
+    @Test
+    void microGridBaseCaseAssembled() {
+        compare(CgmesConformity1Catalog.microGridBaseCaseAssembled());
+    }
+
+    @Test
+    void microGridType4BE() {
+        compare(CgmesConformity1Catalog.microGridType4BE());
+    }
+
+    @Test
+    void miniNodeBreaker() {
+        compare(CgmesConformity1Catalog.miniNodeBreaker());
+    }
+
+    @Test
+    void smallBusBranch() {
+        compare(CgmesConformity1Catalog.smallBusBranch());
+    }
+
+    @Test
+    void cgmes3MicroGrid() {
+        compare(Cgmes3Catalog.microGrid());
+    }
+
+    @Test
+    void cgmes3MiniGrid() {
+        compare(Cgmes3Catalog.miniGrid());
+    }
+
+    private static void compare(GridModelReference gridModel) {
+        CgmesModel expected = CgmesModelFactory.create(gridModel.dataSource(), TripleStoreFactory.DEFAULT_IMPLEMENTATION);
+        CgmesModel actual = CgmesModelFactory.create(gridModel.dataSource(), CgmesModelFactory.STREAMING_IMPLEMENTATION);
+        assertInstanceOf(CgmesModelStreaming.class, actual);
+
+        assertEquals(expected.version(), actual.version());
+        assertEquals(expected.modelId(), actual.modelId());
+        assertEquals(expected.scenarioTime(), actual.scenarioTime());
+        assertEquals(expected.created(), actual.created());
+        assertEquals(expected.isNodeBreaker(), actual.isNodeBreaker());
+        assertEquals(expected.hasBoundary(), actual.hasBoundary());
+
+        Map<String, Function<CgmesModel, PropertyBags>> queries = new LinkedHashMap<>();
+        queries.put("graph", CgmesModel::graph);
+        queries.put("fullModels", CgmesModel::fullModels);
+        queries.put("modelProfiles", CgmesModel::modelProfiles);
+        queries.put("numObjectsByType", CgmesModel::numObjectsByType);
+        queries.put("allObjectsOfType", m -> m.allObjectsOfType("ACLineSegment"));
+        queries.put("boundaryNodes", CgmesModel::boundaryNodes);
+        queries.put("baseVoltages", CgmesModel::baseVoltages);
+        queries.put("substations", CgmesModel::substations);
+        queries.put("voltageLevels", CgmesModel::voltageLevels);
+        queries.put("terminals", CgmesModel::terminals);
+        queries.put("connectivityNodes", CgmesModel::connectivityNodes);
+        queries.put("topologicalNodes", CgmesModel::topologicalNodes);
+        queries.put("topologicalIslands", CgmesModel::topologicalIslands);
+        queries.put("connectivityNodeContainers", CgmesModel::connectivityNodeContainers);
+        queries.put("operationalLimits", CgmesModel::operationalLimits);
+        queries.put("busBarSections", CgmesModel::busBarSections);
+        queries.put("switches", CgmesModel::switches);
+        queries.put("acLineSegments", CgmesModel::acLineSegments);
+        queries.put("equivalentBranches", CgmesModel::equivalentBranches);
+        queries.put("seriesCompensators", CgmesModel::seriesCompensators);
+        queries.put("transformers", CgmesModel::transformers);
+        queries.put("transformerEnds", CgmesModel::transformerEnds);
+        queries.put("ratioTapChangers", CgmesModel::ratioTapChangers);
+        queries.put("ratioTapChangerTablesPoints", CgmesModel::ratioTapChangerTablesPoints);
+        queries.put("phaseTapChangers", CgmesModel::phaseTapChangers);
+        queries.put("phaseTapChangerTablesPoints", CgmesModel::phaseTapChangerTablesPoints);
+        queries.put("regulatingControls", CgmesModel::regulatingControls);
+        queries.put("energyConsumers", CgmesModel::energyConsumers);
+        queries.put("energySources", CgmesModel::energySources);
+        queries.put("shuntCompensators", CgmesModel::shuntCompensators);
+        queries.put("synchronousMachinesGenerators", CgmesModel::synchronousMachinesGenerators);
+        queries.put("synchronousMachinesCondensers", CgmesModel::synchronousMachinesCondensers);
+        queries.put("equivalentInjections", CgmesModel::equivalentInjections);
+        queries.put("equivalentShunts", CgmesModel::equivalentShunts);
+        queries.put("svInjections", CgmesModel::svInjections);
+        queries.put("reactiveCapabilityCurveData", CgmesModel::reactiveCapabilityCurveData);
+        queries.put("externalNetworkInjections", CgmesModel::externalNetworkInjections);
+        queries.put("staticVarCompensators", CgmesModel::staticVarCompensators);
+        queries.put("asynchronousMachines", CgmesModel::asynchronousMachines);
+        queries.put("controlAreas", CgmesModel::controlAreas);
+        queries.put("acDcConverters", CgmesModel::acDcConverters);
+        queries.put("dcTerminals", CgmesModel::dcTerminals);
+        queries.put("dcLineSegments", CgmesModel::dcLineSegments);
+        queries.put("tieFlows", CgmesModel::tieFlows);
+        queries.put("grounds", CgmesModel::grounds);
+        List<String> differences = new ArrayList<>();
+        queries.forEach((name, query) -> {
+            PropertyBags expectedRows = query.apply(expected);
+            PropertyBags actualRows = query.apply(actual);
+            Map<Map<String, String>, Long> missing = difference(rows(expectedRows), rows(actualRows));
+            Map<Map<String, String>, Long> unexpected = difference(rows(actualRows), rows(expectedRows));
+            if (!missing.isEmpty() || !unexpected.isEmpty()) {
+                differences.add(String.format("%s: %d missing rows %s, %d unexpected rows %s", name,
+                        missing.size(), missing.keySet().stream().limit(2).toList(), unexpected.size(), unexpected.keySet().stream().limit(2).toList()));
+            } else if (!expectedRows.isEmpty() && !expectedRows.get(0).propertyNames().equals(actualRows.get(0).propertyNames())) {
+                differences.add(String.format("%s: property names %s, expected %s", name, actualRows.get(0).propertyNames(), expectedRows.get(0).propertyNames()));
+            }
+        });
+        assertTrue(differences.isEmpty(), String.join(System.lineSeparator(), differences));
+    }
+
+    private static Map<Map<String, String>, Long> difference(Map<Map<String, String>, Long> rows, Map<Map<String, String>, Long> others) {
+        Map<Map<String, String>, Long> difference = new HashMap<>();
+        rows.forEach((row, count) -> {
+            long d = count - others.getOrDefault(row, 0L);
+            if (d > 0) {
+                difference.put(row, d);
+            }
+        });
+        return difference;
+    }
+
+    private static Map<Map<String, String>, Long> rows(PropertyBags bags) {
+        // Property bags are compared only by content, and the order of rows is not significant
+        return bags.stream()
+                .map(bag -> (Map<String, String>) new HashMap<>(bag))
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+}
@@ -17,6 +17,7 @@ import com.powsybl.cgmes.model.CgmesMetadataModel;
 import com.powsybl.cgmes.model.CgmesMetadataModelImpl;
 import com.powsybl.cgmes.model.CgmesNamespace;
 import com.powsybl.cgmes.model.CgmesSubset;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.commons.datasource.DataSource;
 import com.powsybl.commons.exceptions.UncheckedXmlStreamException;
@@ -34,11 +35,16 @@ import org.slf4j.LoggerFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import static com.powsybl.cgmes.conversion.CgmesReports.inconsistentProfilesTPRequiredReport;
@@ -130,18 +136,32 @@ public class CgmesExport implements Exporter {
 
         // Export the SSH for the IGMs and the SV for the CGM
         String baseName = getBaseName(context, dataSource, network);
+        String cgmSvFileName = baseName + "_" + CgmesSubset.STATE_VARIABLES.getIdentifier() + ".xml";
+        if (context.isParallelExport()) {
+            // The mappings of all the IGMs are added before writing any file, then every file is written by its own task
+            List<List<SubsetExport>> tasks = new ArrayList<>();
+            for (Network subnetwork : network.getSubnetworks()) {
+                context.addIidmMappings(subnetwork);
+                SteadyStateHypothesisExport.precomputeSharedContext(subnetwork, context);
+                tasks.add(List.of(new SubsetExport(subnetwork, CgmesSubset.STEADY_STATE_HYPOTHESIS, getIgmSshFileName(baseName, subnetwork), igmModels.get(subnetwork).updatedSsh)));
+            }
+            tasks.add(List.of(new SubsetExport(network, CgmesSubset.STATE_VARIABLES, cgmSvFileName, updatedCgmSvModel)));
+            concurrentExport(network, tasks, dataSource, context);
+            return;
+        }
         for (Network subnetwork : network.getSubnetworks()) {
             context.addIidmMappings(subnetwork);
-
-            String country = getCountry(subnetwork);
-            String igmName = country != null ? country : subnetwork.getNameOrId();
-            String igmSshFileName = baseName + "_" + igmName + "_" + CgmesSubset.STEADY_STATE_HYPOTHESIS.getIdentifier() + ".xml";
-            subsetExport(subnetwork, CgmesSubset.STEADY_STATE_HYPOTHESIS, igmSshFileName, dataSource, context, igmModels.get(subnetwork).updatedSsh);
+            subsetExport(subnetwork, CgmesSubset.STEADY_STATE_HYPOTHESIS, getIgmSshFileName(baseName, subnetwork), dataSource, context, igmModels.get(subnetwork).updatedSsh);
         }
-        String cgmSvFileName = baseName + "_" + CgmesSubset.STATE_VARIABLES.getIdentifier() + ".xml";
         subsetExport(network, CgmesSubset.STATE_VARIABLES, cgmSvFileName, dataSource, context, updatedCgmSvModel);
     }
 
+    private static String getIgmSshFileName(String baseName, Network subnetwork) {
+        String country = getCountry(subnetwork);
+        String igmName = country != null ? country : subnetwork.getNameOrId();
+        return baseName + "_" + igmName + "_" + CgmesSubset.STEADY_STATE_HYPOTHESIS.getIdentifier() + ".xml";
+    }
+
     /**
      * Individual Grid Model export.
      * This consists in providing the requested subsets among EQ, TP, SSH, SV.
@@ -170,14 +190,122 @@ public class CgmesExport implements Exporter {
         // Export requested subsets
         context.setExportEquipment(requestedSubsets.contains(CgmesSubset.EQUIPMENT));
         String baseName = getBaseName(context, dataSource, network);
-        for (CgmesSubset subset : requestedSubsets) {
-            String fileName = baseName + "_" + subset.getIdentifier() + ".xml";
-            subsetExport(network, subset, fileName, dataSource, context, subsetModels.get(subset));
+        if (context.isParallelExport()) {
+            concurrentExportIGM(network, requestedSubsets, baseName, dataSource, context, subsetModels);
+        } else {
+            for (CgmesSubset subset : requestedSubsets) {
+                String fileName = baseName + "_" + subset.getIdentifier() + ".xml";
+                subsetExport(network, subset, fileName, dataSource, context, subsetModels.get(subset));
+            }
         }
 
         context.getNamingStrategy().debug(baseName, dataSource);
     }
 
+    /**
+     * Export the requested subsets of an Individual Grid Model concurrently.
+     * The changes made to the network and to the context by the EQ and SSH exports are applied before writing,
+     * so that every subset is the same as in a sequential export.
+     * The topological nodes written in TP are used by SV, both subsets are written by the same task.
+     */
+    private void concurrentExportIGM(Network network, List<CgmesSubset> requestedSubsets, String baseName, DataSource dataSource,
+                                     CgmesExportContext context, Map<CgmesSubset, CgmesMetadataModel> subsetModels) {
+        if (requestedSubsets.contains(CgmesSubset.EQUIPMENT)) {
+            EquipmentExport.precomputeSharedContext(network, context);
+        } else if (requestedSubsets.contains(CgmesSubset.STEADY_STATE_HYPOTHESIS)) {
+            SteadyStateHypothesisExport.precomputeSharedContext(network, context);
+        }
+
+        List<List<SubsetExport>> tasks = new ArrayList<>();
+        List<SubsetExport> topologyTask = null;
+        for (CgmesSubset subset : requestedSubsets) {
+            SubsetExport subsetExport = new SubsetExport(network, subset, baseName + "_" + subset.getIdentifier() + ".xml", subsetModels.get(subset));
+            if (subset == CgmesSubset.STATE_VARIABLES && topologyTask != null) {
+                topologyTask.add(subsetExport);
+            } else {
+                List<SubsetExport> task = new ArrayList<>();
+                task.add(subsetExport);
+                tasks.add(task);
+                if (subset == CgmesSubset.TOPOLOGY) {
+                    topologyTask = task;
+                }
+            }
+        }
+        concurrentExport(network, tasks, dataSource, context);
+    }
+
+    /**
+     * Write the subsets of every task in a separate thread, the subsets of a task being written in order.
+     * The network and the context must not be modified anymore by the export of the subsets.
+     * Data sources are not thread safe: every subset is written to its own stream in memory,
+     * then the files are copied to the data source in the order of a sequential export.
+     */
+    private void concurrentExport(Network network, List<List<SubsetExport>> tasks, DataSource dataSource, CgmesExportContext context) {
+        // Buses and components are computed lazily by the network, they are computed before being read concurrently
+        network.getBusBreakerView().getBuses().forEach(CgmesExport::computeComponents);
+        network.getBusView().getBuses().forEach(CgmesExport::computeComponents);
+
+        // Model identifiers are reported in the order of a sequential export
+        ReportNode reportNode = context.getReportNode();
+        if (context.getCimVersion() >= 16) {
+            tasks.stream().flatMap(List::stream).forEach(e -> CgmesExportUtil.reportExportedModelId(e.network(), e.subset(), e.model(), context));
+        }
+
+        VariantManager variantManager = network.getVariantManager();
+        String variantId = variantManager.isVariantMultiThreadAccessAllowed() ? variantManager.getWorkingVariantId() : null;
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(tasks.size(), Runtime.getRuntime().availableProcessors()));
+        context.setReportNode(ReportNode.NO_OP);
+        try {
+            List<Future<List<byte[]>>> futures = new ArrayList<>(tasks.size());
+            for (List<SubsetExport> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    if (variantId != null) {
+                        variantManager.setWorkingVariant(variantId);
+                    }
+                    List<byte[]> files = new ArrayList<>(task.size());
+                    for (SubsetExport e : task) {
+                        ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        subsetExport(e.network(), e.subset(), out, context, e.model());
+                        files.add(out.toByteArray());
+                    }
+                    return files;
+                }));
+            }
+            for (int i = 0; i < tasks.size(); i++) {
+                List<byte[]> files = waitForSubsetExport(futures.get(i));
+                for (int j = 0; j < files.size(); j++) {
+                    try (OutputStream out = dataSource.newOutputStream(tasks.get(i).get(j).fileName(), false)) {
+                        out.write(files.get(j));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            executor.shutdownNow();
+            context.setReportNode(reportNode);
+        }
+    }
+
+    private static void computeComponents(Bus bus) {
+        bus.getConnectedComponent();
+        bus.getSynchronousComponent();
+    }
+
+    private static List<byte[]> waitForSubsetExport(Future<List<byte[]>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PowsyblException("Interrupted while exporting", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new PowsyblException("Exporting", e.getCause());
+        }
+    }
+
     /**
      * Initialize the model (= the metadata information) that is used by the export.
      * If existing, the network model extension is used for the initialization.
@@ -351,6 +479,14 @@ public class CgmesExport implements Exporter {
      */
     private void subsetExport(Network network, CgmesSubset subset, String fileName, DataSource dataSource, CgmesExportContext context, CgmesMetadataModel model) {
         try (OutputStream out = new BufferedOutputStream(dataSource.newOutputStream(fileName, false))) {
+            subsetExport(network, subset, out, context, model);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void subsetExport(Network network, CgmesSubset subset, OutputStream out, CgmesExportContext context, CgmesMetadataModel model) {
+        try {
             XMLStreamWriter writer = XmlUtil.initializeWriter(true, "    ", out);
             switch (subset) {
                 case EQUIPMENT:
@@ -368,8 +504,6 @@ public class CgmesExport implements Exporter {
                 default:
                     throw new IllegalArgumentException("Invalid subset, one of the following value is expected: EQ/TP/SSH/SV.");
             }
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
         } catch (XMLStreamException e) {
             throw new UncheckedXmlStreamException(e);
         }
@@ -434,7 +568,8 @@ public class CgmesExport implements Exporter {
                 .setProfiles(Parameter.readStringList(getFormat(), params, PROFILES_PARAMETER, defaultValueConfig))
                 .setBaseName(Parameter.readString(getFormat(), params, BASE_NAME_PARAMETER))
                 .setReportNode(reportNode)
-                .setUpdateDependencies(Parameter.readBoolean(getFormat(), params, UPDATE_DEPENDENCIES_PARAMETER, defaultValueConfig));
+                .setUpdateDependencies(Parameter.readBoolean(getFormat(), params, UPDATE_DEPENDENCIES_PARAMETER, defaultValueConfig))
+                .setParallelExport(Parameter.readBoolean(getFormat(), params, PARALLEL_EXPORT_PARAMETER, defaultValueConfig));
 
         // If sourcing actor data has been found and the modeling authority set has not been specified explicitly, set it
         PropertyBag sourcingActor = referenceDataProvider.getSourcingActor();
@@ -498,6 +633,12 @@ public class CgmesExport implements Exporter {
         }
     }
 
+    /**
+     * A subset of a network to write in a file.
+     */
+    private record SubsetExport(Network network, CgmesSubset subset, String fileName, CgmesMetadataModel model) {
+    }
+
     /**
      * A small class to manipulate models of an IGM
      * when setting the relationships (dependOn, supersedes) between them in a CGM export.
@@ -552,6 +693,7 @@ public class CgmesExport implements Exporter {
     public static final String MODEL_VERSION = "iidm.export.cgmes.model-version";
     public static final String BUSINESS_PROCESS = "iidm.export.cgmes.business-process";
     public static final String UPDATE_DEPENDENCIES = "iidm.export.cgmes.update-dependencies";
+    public static final String PARALLEL_EXPORT = "iidm.export.cgmes.parallel-export";
 
     private static final Parameter BASE_NAME_PARAMETER = new Parameter(
             BASE_NAME,
@@ -678,6 +820,12 @@ public class CgmesExport implements Exporter {
             "True if dependencies should be updated automatically. False if the user has already put them in the extension for metadata models",
             CgmesExportContext.UPDATE_DEPENDENCIES_DEFAULT_VALUE);
 
+    private static final Parameter PARALLEL_EXPORT_PARAMETER = new Parameter(
+            PARALLEL_EXPORT,
+            ParameterType.BOOLEAN,
+            "True to write the exported files concurrently, each one to its own output stream",
+            CgmesExportContext.PARALLEL_EXPORT_DEFAULT_VALUE);
+
     private static final List<Parameter> STATIC_PARAMETERS = List.of(
             BASE_NAME_PARAMETER,
             CIM_VERSION_PARAMETER,
@@ -699,7 +847,8 @@ public class CgmesExport implements Exporter {
             UUID_NAMESPACE_PARAMETER,
             MODEL_VERSION_PARAMETER,
             BUSINESS_PROCESS_PARAMETER,
-            UPDATE_DEPENDENCIES_PARAMETER);
+            UPDATE_DEPENDENCIES_PARAMETER,
+            PARALLEL_EXPORT_PARAMETER);
 
     private static final Logger LOG = LoggerFactory.getLogger(CgmesExport.class);
 }
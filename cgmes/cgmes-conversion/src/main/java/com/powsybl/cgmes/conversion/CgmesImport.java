@@ -627,7 +627,7 @@ public class CgmesImport implements Importer {
     private static final Parameter POWSYBL_TRIPLESTORE_PARAMETER = new Parameter(
             POWSYBL_TRIPLESTORE,
             ParameterType.STRING,
-            "The triplestore used during the import",
+            "The triplestore used during the import (\"streaming\" reads the files without triplestore)",
             TripleStoreFactory.defaultImplementation(),
             null,
             ParameterScope.TECHNICAL)
@@ -15,6 +15,7 @@ import com.powsybl.cgmes.conversion.elements.transformers.TwoWindingsTransformer
 import com.powsybl.cgmes.conversion.naming.NamingStrategy;
 import com.powsybl.cgmes.extensions.*;
 import com.powsybl.cgmes.model.*;
+import com.powsybl.cgmes.model.streaming.CgmesModelStreaming;
 import com.powsybl.cgmes.model.triplestore.CgmesModelTripleStore;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.iidm.network.*;
@@ -581,12 +582,18 @@ public class Conversion {
     }
 
     private void addCimCharacteristics(Network network) {
+        int cimVersion;
         if (cgmes instanceof CgmesModelTripleStore cgmesModelTripleStore) {
-            network.newExtension(CimCharacteristicsAdder.class)
-                    .setTopologyKind(cgmes.isNodeBreaker() ? CgmesTopologyKind.NODE_BREAKER : CgmesTopologyKind.BUS_BRANCH)
-                    .setCimVersion(cgmesModelTripleStore.getCimVersion())
-                    .add();
+            cimVersion = cgmesModelTripleStore.getCimVersion();
+        } else if (cgmes instanceof CgmesModelStreaming cgmesModelStreaming) {
+            cimVersion = cgmesModelStreaming.getCimVersion();
+        } else {
+            return;
         }
+        network.newExtension(CimCharacteristicsAdder.class)
+                .setTopologyKind(cgmes.isNodeBreaker() ? CgmesTopologyKind.NODE_BREAKER : CgmesTopologyKind.BUS_BRANCH)
+                .setCimVersion(cimVersion)
+                .add();
     }
 
     private void putVoltageLevelRefByLineContainerIdIfPresent(String lineContainerId, Supplier<String> terminalId1,
@@ -26,6 +26,7 @@ import java.nio.charset.StandardCharsets;
 import java.text.DecimalFormat;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static com.powsybl.cgmes.conversion.export.CgmesExportUtil.obtainSynchronousMachineKind;
@@ -82,6 +83,7 @@ public class CgmesExportContext {
     public static final UUID DEFAULT_UUID_NAMESPACE = Generators.nameBasedGenerator().generate(DEFAULT_MODELING_AUTHORITY_SET_VALUE);
     public static final String DEFAULT_BUSINESS_PROCESS = "1D";
     public static final boolean UPDATE_DEPENDENCIES_DEFAULT_VALUE = true;
+    public static final boolean PARALLEL_EXPORT_DEFAULT_VALUE = false;
 
     private boolean exportBoundaryPowerFlows = EXPORT_BOUNDARY_POWER_FLOWS_DEFAULT_VALUE;
     private boolean exportFlowsForSwitches = EXPORT_POWER_FLOWS_FOR_SWITCHES_DEFAULT_VALUE;
@@ -92,6 +94,7 @@ public class CgmesExportContext {
     private double maxQMismatchConverged = MAX_Q_MISMATCH_CONVERGED_DEFAULT_VALUE;
     private boolean isExportSvInjectionsForSlacks = EXPORT_SV_INJECTIONS_FOR_SLACKS_DEFAULT_VALUE;
     private boolean updateDependencies = UPDATE_DEPENDENCIES_DEFAULT_VALUE;
+    private boolean parallelExport = PARALLEL_EXPORT_DEFAULT_VALUE;
     private boolean exportEquipment = false;
     private boolean encodeIds = ENCODE_IDS_DEFAULT_VALUE;
 
@@ -99,7 +102,8 @@ public class CgmesExportContext {
 
     private final BiMap<String, String> regionsIdsByRegionName = HashBiMap.create();
     private final BiMap<String, String> subRegionsIdsBySubRegionName = HashBiMap.create();
-    private final Map<String, String> fictitiousContainers = new HashMap<>();
+    // Read by the TP export while the EQ export may still write it when the subsets are exported concurrently
+    private final Map<String, String> fictitiousContainers = new ConcurrentHashMap<>();
     private final Map<String, Bus> topologicalNodes = new HashMap<>();
     private final ReferenceDataProvider referenceDataProvider;
 
@@ -802,5 +806,14 @@ public class CgmesExportContext {
     public boolean updateDependencies() {
         return updateDependencies;
     }
+
+    public CgmesExportContext setParallelExport(boolean parallelExport) {
+        this.parallelExport = parallelExport;
+        return this;
+    }
+
+    public boolean isParallelExport() {
+        return parallelExport;
+    }
 }
 
@@ -112,6 +112,49 @@ public final class EquipmentExport {
         }
     }
 
+    /**
+     * Apply to the network and to the context, without writing anything, the changes made by the EQ export that are
+     * used by the export of the other subsets: identifiers and extensions of tap changers, boundary nodes of paired
+     * dangling lines and fictitious containers created for dangling lines without boundary node.
+     * When these changes are made before the subsets are written concurrently, the content of each subset does not
+     * depend on the order in which they are written.
+     */
+    public static void precomputeSharedContext(Network network, CgmesExportContext context) {
+        for (TwoWindingsTransformer twt : network.getTwoWindingsTransformers()) {
+            CgmesExportUtil.addUpdateCgmesTapChangerExtension(twt, context);
+            adjustTapChangerAliases2wt(twt, twt.getPhaseTapChanger(), CgmesNames.PHASE_TAP_CHANGER);
+            adjustTapChangerAliases2wt(twt, twt.getRatioTapChanger(), CgmesNames.RATIO_TAP_CHANGER);
+        }
+        for (ThreeWindingsTransformer twt : network.getThreeWindingsTransformers()) {
+            CgmesExportUtil.addUpdateCgmesTapChangerExtension(twt, context);
+        }
+
+        boolean writeConnectivityNodes = context.writeConnectivityNodes();
+        for (List<DanglingLine> danglingLineList : getUnpairedOrPairedDanglingLines(network)) {
+            boolean hasBoundaryNode;
+            if (writeConnectivityNodes) {
+                // Connectivity nodes of boundaries are only used by the EQ export, they are left to it
+                hasBoundaryNode = danglingLineList.stream().anyMatch(dl -> dl.hasProperty(Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + CgmesNames.CONNECTIVITY_NODE_BOUNDARY));
+            } else {
+                Set<String> topologicalNodeIdSet = danglingLineList.stream()
+                        .map(EquipmentExport::obtainTopologicalNodeId)
+                        .flatMap(Optional::stream)
+                        .collect(Collectors.toSet());
+                if (topologicalNodeIdSet.size() > 1) { // Only in paired danglingLines
+                    throw new PowsyblException("Paired danglingLines with different topologicalNode on the boundarySide. ParingKey: " + danglingLineList.get(0).getPairingKey());
+                } else if (topologicalNodeIdSet.size() == 1) {
+                    setDanglingLinesProperty(danglingLineList, Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + CgmesNames.TOPOLOGICAL_NODE_BOUNDARY, topologicalNodeIdSet.iterator().next());
+                }
+                hasBoundaryNode = !topologicalNodeIdSet.isEmpty();
+            }
+            if (!hasBoundaryNode) {
+                DanglingLine danglingLine = danglingLineList.stream().min(Comparator.comparing(Identifiable::getId)).orElseThrow();
+                String containerId = getFictitiousVoltageLevelId(danglingLine, context);
+                danglingLineList.forEach(dl -> context.setFictitiousContainerFor(dl, containerId));
+            }
+        }
+    }
+
     private static void writeConnectivityNodes(Network network, Map <String, String> mapNodeKey2NodeId, String cimNamespace, XMLStreamWriter writer, CgmesExportContext context) throws XMLStreamException {
         for (VoltageLevel vl : network.getVoltageLevels()) {
             String cgmesVlId = context.getNamingStrategy().getCgmesId(vl);
@@ -953,19 +996,24 @@ public final class EquipmentExport {
                                             String limitKindClassName, Set<String> exportedLimitTypes, boolean writeInfiniteDuration, XMLStreamWriter writer, CgmesExportContext context, Set<Double> exportedBaseVoltagesByNominalV) throws XMLStreamException {
         List<String> exported = new ArrayList<>();
 
-        for (DanglingLine danglingLine : network.getDanglingLines(DanglingLineFilter.UNPAIRED)) {
-            writeUnpairedOrPairedDanglingLines(Collections.singletonList(danglingLine), mapTerminal2Id, cimNamespace, euNamespace,
+        for (List<DanglingLine> danglingLineList : getUnpairedOrPairedDanglingLines(network)) {
+            writeUnpairedOrPairedDanglingLines(danglingLineList, mapTerminal2Id, cimNamespace, euNamespace,
                     valueAttributeName, limitTypeAttributeName, limitKindClassName, exportedLimitTypes, writeInfiniteDuration, writer,
                     context, exportedBaseVoltagesByNominalV, exported);
         }
+    }
+
+    private static List<List<DanglingLine>> getUnpairedOrPairedDanglingLines(Network network) {
+        List<List<DanglingLine>> danglingLineLists = new ArrayList<>();
+        for (DanglingLine danglingLine : network.getDanglingLines(DanglingLineFilter.UNPAIRED)) {
+            danglingLineLists.add(Collections.singletonList(danglingLine));
+        }
 
         Set<String> pairingKeys = network.getDanglingLineStream(DanglingLineFilter.PAIRED).map(DanglingLine::getPairingKey).collect(Collectors.toSet());
         for (String pairingKey : pairingKeys) {
-            List<DanglingLine> danglingLineList = network.getDanglingLineStream(DanglingLineFilter.PAIRED).filter(danglingLine -> pairingKey.equals(danglingLine.getPairingKey())).toList();
-            writeUnpairedOrPairedDanglingLines(danglingLineList, mapTerminal2Id, cimNamespace, euNamespace,
-                    valueAttributeName, limitTypeAttributeName, limitKindClassName, exportedLimitTypes, writeInfiniteDuration, writer,
-                    context, exportedBaseVoltagesByNominalV, exported);
+            danglingLineLists.add(network.getDanglingLineStream(DanglingLineFilter.PAIRED).filter(danglingLine -> pairingKey.equals(danglingLine.getPairingKey())).toList());
         }
+        return danglingLineLists;
     }
 
     private static void writeUnpairedOrPairedDanglingLines(List<DanglingLine> danglingLineList, Map<Terminal, String> mapTerminal2Id, String cimNamespace, String euNamespace,
@@ -1106,9 +1154,12 @@ public final class EquipmentExport {
                 .flatMap(Optional::stream)
                 .collect(Collectors.toSet());
 
-        if (topologicalNodeIdSet.size() > 1) { // Only in paired danglingLines
+        // When the fictitious container has been decided before a concurrent export of the subsets,
+        // the topological node of the boundary may already have been created by the TP export
+        boolean precomputed = context.getFictitiousContainerFor(danglingLineList.get(0)) != null;
+        if (!precomputed && topologicalNodeIdSet.size() > 1) { // Only in paired danglingLines
             throw new PowsyblException("Paired danglingLines with different topologicalNode on the boundarySide. ParingKey: " + danglingLineList.get(0).getPairingKey());
-        } else if (topologicalNodeIdSet.size() == 1) {
+        } else if (!precomputed && topologicalNodeIdSet.size() == 1) {
             String topologicalNodeId = topologicalNodeIdSet.iterator().next();
             setDanglingLinesProperty(danglingLineList, Conversion.CGMES_PREFIX_ALIAS_PROPERTIES + CgmesNames.TOPOLOGICAL_NODE_BOUNDARY, topologicalNodeId);
         } else {
@@ -1130,7 +1181,10 @@ public final class EquipmentExport {
         DanglingLine danglingLine = danglingLineList.stream().min(Comparator.comparing(Identifiable::getId)).orElseThrow();
         String substationId = writeFictitiousSubstationFor(danglingLine, cimNamespace, writer, context);
         String containerId = writeFictitiousVoltageLevelFor(danglingLine, substationId, baseVoltageId, cimNamespace, writer, context);
-        danglingLineList.forEach(dl -> context.setFictitiousContainerFor(dl, containerId));
+        // Already set if the shared context has been precomputed
+        danglingLineList.stream()
+                .filter(dl -> context.getFictitiousContainerFor(dl) == null)
+                .forEach(dl -> context.setFictitiousContainerFor(dl, containerId));
         return containerId;
     }
 
@@ -1159,11 +1213,15 @@ public final class EquipmentExport {
 
     private static String writeFictitiousVoltageLevelFor(Identifiable<?> identifiable, String substationId, String baseVoltageId, String cimNamespace, XMLStreamWriter writer, CgmesExportContext context) throws XMLStreamException {
         // New VoltageLevel
-        String voltageLevelId = context.getNamingStrategy().getCgmesId(refTyped(identifiable), FICTITIOUS, VOLTAGE_LEVEL);
+        String voltageLevelId = getFictitiousVoltageLevelId(identifiable, context);
         VoltageLevelEq.write(voltageLevelId, identifiable.getNameOrId() + "_VL", Double.NaN, Double.NaN, substationId, baseVoltageId, cimNamespace, writer, context);
         return voltageLevelId;
     }
 
+    private static String getFictitiousVoltageLevelId(Identifiable<?> identifiable, CgmesExportContext context) {
+        return context.getNamingStrategy().getCgmesId(refTyped(identifiable), FICTITIOUS, VOLTAGE_LEVEL);
+    }
+
     private static void writeBranchLimits(Branch<?> branch, String terminalId1, String terminalId2, String cimNamespace, String euNamespace, String valueAttributeName, String limitTypeAttributeName, String limitKindClassName, Set<String> exportedLimitTypes, boolean writeInfiniteDuration, XMLStreamWriter writer, CgmesExportContext context) throws XMLStreamException {
         Collection<OperationalLimitsGroup> limitsGroups1 = new ArrayList<>();
         if (context.isExportAllLimitsGroup()) {
@@ -55,6 +55,19 @@ public final class SteadyStateHypothesisExport {
         write(network, writer, context, model);
     }
 
+    /**
+     * Apply to the network, without writing anything, the changes made by the SSH export that are used by the export
+     * of the other subsets: identifiers and extensions of tap changers.
+     */
+    public static void precomputeSharedContext(Network network, CgmesExportContext context) {
+        for (TwoWindingsTransformer twt : network.getTwoWindingsTransformers()) {
+            CgmesExportUtil.addUpdateCgmesTapChangerExtension(twt, context);
+        }
+        for (ThreeWindingsTransformer twt : network.getThreeWindingsTransformers()) {
+            CgmesExportUtil.addUpdateCgmesTapChangerExtension(twt, context);
+        }
+    }
+
     public static void write(Network network, XMLStreamWriter writer, CgmesExportContext context, CgmesMetadataModel model) {
         final Map<String, List<RegulatingControlView>> regulatingControlViews = new HashMap<>();
         String cimNamespace = context.getCim().getNamespace();
@@ -32,6 +32,8 @@ import static com.powsybl.cgmes.conversion.naming.CgmesObjectReference.ref;
  */
 public abstract class AbstractCgmesAliasNamingStrategy implements NamingStrategy {
 
+    // Identifiers may be requested concurrently when the subsets are exported in parallel,
+    // all the accesses to these maps are synchronized
     private final BiMap<String, String> idByUuid = HashBiMap.create();
     private final Map<String, String> uuidSeed = new HashMap<>();
     private final NameBasedGenerator nameBasedGenerator;
@@ -42,7 +44,7 @@ public abstract class AbstractCgmesAliasNamingStrategy implements NamingStrategy
     }
 
     @Override
-    public String getIidmId(String type, String id) {
+    public synchronized String getIidmId(String type, String id) {
         return idByUuid.getOrDefault(id, id);
     }
 
@@ -52,7 +54,7 @@ public abstract class AbstractCgmesAliasNamingStrategy implements NamingStrategy
     }
 
     @Override
-    public String getCgmesId(Identifiable<?> identifiable) {
+    public synchronized String getCgmesId(Identifiable<?> identifiable) {
         String identifier = identifiable.getId();
         if (idByUuid.containsValue(identifier)) {
             return idByUuid.inverse().get(identifier);
@@ -94,7 +96,7 @@ public abstract class AbstractCgmesAliasNamingStrategy implements NamingStrategy
     }
 
     @Override
-    public String getCgmesId(String identifier) {
+    public synchronized String getCgmesId(String identifier) {
         // This is a hack to save in the naming strategy an identifier for something that has no related IIDM object
         // Control Area identifiers
         if (idByUuid.containsValue(identifier)) {
@@ -112,7 +114,7 @@ public abstract class AbstractCgmesAliasNamingStrategy implements NamingStrategy
     }
 
     @Override
-    public void debug(String baseName, DataSource ds) {
+    public synchronized void debug(String baseName, DataSource ds) {
         if (!LOG.isDebugEnabled()) {
             return;
         }
@@ -155,7 +157,7 @@ public abstract class AbstractCgmesAliasNamingStrategy implements NamingStrategy
     }
 
     @Override
-    public String getCgmesId(CgmesObjectReference... refs) {
+    public synchronized String getCgmesId(CgmesObjectReference... refs) {
         String seed = "_" + combine(refs);
         String uuid = nameBasedGenerator.generate(seed).toString();
         if (uuidSeed.containsKey(uuid)) {
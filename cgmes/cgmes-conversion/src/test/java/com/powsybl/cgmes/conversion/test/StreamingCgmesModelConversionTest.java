@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.cgmes.conversion.test;
+
+import com.powsybl.cgmes.conformity.Cgmes3Catalog;
+import com.powsybl.cgmes.conformity.CgmesConformity1Catalog;
+import com.powsybl.cgmes.conversion.CgmesImport;
+import com.powsybl.cgmes.model.CgmesModelFactory;
+import com.powsybl.cgmes.model.GridModelReference;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.NetworkFactory;
+import com.powsybl.iidm.serde.NetworkSerDe;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Check that the networks imported using the streaming CGMES model are the same as the ones imported using a triple store.
+ *
+ * @author Elia Group
+ */
+class StreamingCgmesModelConversionTest {
+
+    @Test
+    void microGridBaseCaseAssembled() {
+        compare(CgmesConformity1Catalog.microGridBaseCaseAssembled());
+    }
+
+    @Test
+    void microGridType4BE() {
+        compare(CgmesConformity1Catalog.microGridType4BE());
+    }
+
+    @Test
+    void miniNodeBreaker() {
+        compare(CgmesConformity1Catalog.miniNodeBreaker());
+    }
+
+    @Test
+    void cgmes3MicroGrid() {
+        compare(Cgmes3Catalog.microGrid());
+    }
+
+    private static void compare(GridModelReference gridModel) {
+        // Query results of both models have the same rows but not always in the same order,
+        // so the order of equipments in the serialized networks is not checked
+        assertEquals(sortedLines(importAndWrite(gridModel, null)),
+                sortedLines(importAndWrite(gridModel, CgmesModelFactory.STREAMING_IMPLEMENTATION)));
+    }
+
+    private static List<String> sortedLines(String xml) {
+        return xml.lines().sorted().toList();
+    }
+
+    private static String importAndWrite(GridModelReference gridModel, String implementation) {
+        Properties importParams = new Properties();
+        // Subnetworks are not created, as their order is not defined
+        importParams.put(CgmesImport.IMPORT_CGM_WITH_SUBNETWORKS, "false");
+        if (implementation != null) {
+            importParams.put(CgmesImport.POWSYBL_TRIPLESTORE, implementation);
+        }
+        Network network = new CgmesImport().importData(gridModel.dataSource(), NetworkFactory.findDefault(), importParams);
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkSerDe.write(network, os);
+        return os.toString(StandardCharsets.UTF_8);
+    }
+}
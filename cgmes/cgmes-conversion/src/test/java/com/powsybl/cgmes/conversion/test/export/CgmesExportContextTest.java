@@ -29,7 +29,7 @@ class CgmesExportContextTest {
     void testExporter() {
         var exporter = new CgmesExport();
         assertEquals("ENTSO-E CGMES version 2.4.15", exporter.getComment());
-        assertEquals(21, exporter.getParameters().size());
+        assertEquals(22, exporter.getParameters().size());
     }
 
     @Test
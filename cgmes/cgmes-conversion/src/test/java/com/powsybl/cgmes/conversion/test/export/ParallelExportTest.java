@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.cgmes.conversion.test.export;
+
+import com.powsybl.cgmes.conformity.CgmesConformity1Catalog;
+import com.powsybl.cgmes.conversion.CgmesExport;
+import com.powsybl.cgmes.conversion.CgmesImport;
+import com.powsybl.cgmes.conversion.naming.NamingStrategyFactory;
+import com.powsybl.cgmes.model.GridModelReference;
+import com.powsybl.commons.datasource.MemDataSource;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.NetworkFactory;
+import com.powsybl.iidm.network.test.DanglingLineNetworkFactory;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.serde.NetworkSerDe;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Check that the files written by a parallel export are the same as the ones written by a sequential export.
+ *
+ * @author Elia Group
+ */
+class ParallelExportTest {
+
+    // The creation time of the models and the random identifiers of state variables are the only content
+    // that differs between two exports
+    private static final Pattern CREATED = Pattern.compile("<md:Model.created>.*</md:Model.created>");
+    private static final Pattern STATE_VARIABLE_ID = Pattern.compile("(<cim:Sv\\w+ rdf:ID=\")[^\"]*\"");
+
+    @Test
+    void microGridBaseCaseBE() throws IOException {
+        compare(() -> importNetwork(CgmesConformity1Catalog.microGridBaseCaseBE()), new Properties(), 4);
+    }
+
+    @Test
+    void microGridBaseCaseBENamingStrategy() throws IOException {
+        Properties params = new Properties();
+        params.put(CgmesExport.NAMING_STRATEGY, NamingStrategyFactory.CGMES_FIX_ALL_INVALID_IDS);
+        compare(() -> importNetwork(CgmesConformity1Catalog.microGridBaseCaseBE()), params, 4);
+    }
+
+    @Test
+    void miniNodeBreaker() throws IOException {
+        compare(() -> importNetwork(CgmesConformity1Catalog.miniNodeBreaker()), new Properties(), 4);
+    }
+
+    @Test
+    void danglingLinesWithoutBoundaryNodes() throws IOException {
+        compare(DanglingLineNetworkFactory::create, new Properties(), 4);
+    }
+
+    @Test
+    void danglingLinesWithoutBoundaryNodesCim100() throws IOException {
+        Properties params = new Properties();
+        params.put(CgmesExport.CIM_VERSION, "100");
+        compare(DanglingLineNetworkFactory::create, params, 4);
+    }
+
+    @Test
+    void someSubsets() throws IOException {
+        Properties params = new Properties();
+        params.put(CgmesExport.PROFILES, "SSH,SV");
+        compare(EurostagTutorialExample1Factory::createWithMoreGenerators, params, 2);
+    }
+
+    @Test
+    void commonGridModel() throws IOException {
+        Properties params = new Properties();
+        params.put(CgmesExport.CGM_EXPORT, "true");
+        params.put(CgmesExport.MODEL_VERSION, "3");
+        // The order of the elements of an assembled network depends on the order in which the IGMs are imported,
+        // both exports are done on copies of the same imported network
+        Network network = importNetwork(CgmesConformity1Catalog.microGridBaseCaseAssembled());
+        // One updated SSH for each of the two IGMs and a SV for the CGM
+        compare(() -> NetworkSerDe.copy(network), params, 3);
+    }
+
+    private static Network importNetwork(GridModelReference gridModel) {
+        return new CgmesImport().importData(gridModel.dataSource(), NetworkFactory.findDefault(), new Properties());
+    }
+
+    private static void compare(Supplier<Network> networkSupplier, Properties params, int expectedFiles) throws IOException {
+        // The export modifies the network, each export is done on a new one
+        ReportNode sequentialReportNode = ReportNode.newRootReportNode().withMessageTemplate("test", "Test").build();
+        MemDataSource sequential = export(networkSupplier.get(), params, false, sequentialReportNode);
+        ReportNode parallelReportNode = ReportNode.newRootReportNode().withMessageTemplate("test", "Test").build();
+        MemDataSource parallel = export(networkSupplier.get(), params, true, parallelReportNode);
+
+        Set<String> names = sequential.listNames(".*");
+        assertEquals(expectedFiles, names.size());
+        assertEquals(names, parallel.listNames(".*"));
+        for (String name : names) {
+            String expected = content(sequential, name);
+            assertFalse(expected.isEmpty());
+            assertEquals(expected, content(parallel, name), name);
+        }
+        assertEquals(print(sequentialReportNode), print(parallelReportNode));
+    }
+
+    private static MemDataSource export(Network network, Properties params, boolean parallel, ReportNode reportNode) {
+        Properties exportParams = new Properties();
+        exportParams.putAll(params);
+        exportParams.put(CgmesExport.PARALLEL_EXPORT, String.valueOf(parallel));
+        MemDataSource dataSource = new MemDataSource();
+        new CgmesExport().export(network, exportParams, dataSource, reportNode);
+        return dataSource;
+    }
+
+    private static String content(MemDataSource dataSource, String name) {
+        String content = CREATED.matcher(new String(dataSource.getData(name), StandardCharsets.UTF_8)).replaceAll("");
+        return STATE_VARIABLE_ID.matcher(content).replaceAll("$1\"");
+    }
+
+    private static String print(ReportNode reportNode) throws IOException {
+        StringWriter writer = new StringWriter();
+        reportNode.print(writer);
+        return writer.toString();
+    }
+}
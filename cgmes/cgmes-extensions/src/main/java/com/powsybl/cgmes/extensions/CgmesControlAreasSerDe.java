@@ -130,6 +130,11 @@ public class CgmesControlAreasSerDe extends AbstractExtensionSerDe<Network, Cgme
                     String id = networkContext.getAnonymizer().deanonymizeString(reader.readStringAttribute("id"));
                     TwoSides side = reader.readEnumAttribute("side", TwoSides.class);
                     Identifiable<?> identifiable = network.getIdentifiable(id);
+                    if (identifiable == null && networkContext.isPartialImport()) {
+                        // Left out by the import projection
+                        reader.readEndNode();
+                        return;
+                    }
                     if (identifiable instanceof DanglingLine dl) {
                         cgmesControlArea.add(dl.getBoundary());
                     } else if (identifiable instanceof TieLine tl) {
@@ -139,7 +144,12 @@ public class CgmesControlAreasSerDe extends AbstractExtensionSerDe<Network, Cgme
                     }
                     reader.readEndNode();
                 }
-                case TERMINAL_ROOT_ELEMENT -> cgmesControlArea.add(TerminalRefSerDe.readTerminal(networkContext, network));
+                case TERMINAL_ROOT_ELEMENT -> {
+                    Terminal terminal = TerminalRefSerDe.readTerminal(networkContext, network);
+                    if (terminal != null) {
+                        cgmesControlArea.add(terminal);
+                    }
+                }
                 default -> throw new PowsyblException("Unknown element name '" + elementName + "' in 'controlArea'");
             }
         });
@@ -18,9 +18,19 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static com.powsybl.cgmes.model.CgmesNamespace.CGMES_EQ_3_OR_GREATER_PREFIX;
+import static com.powsybl.cgmes.model.CgmesNamespace.CIM_100_EQ_PROFILE;
+
 /**
  * @author Luma Zamarreño {@literal <zamarrenolm at aia.es>}
  */
@@ -226,6 +236,166 @@ public abstract class AbstractCgmesModel implements CgmesModel {
         return cs;
     }
 
+    // Model description
+
+    private static boolean isEquipmentCore(String profile) {
+        return profile.contains("/EquipmentCore/") || profile.contains("/CIM/CoreEquipment");
+    }
+
+    private static boolean isEquipmentOperation(String profile) {
+        return profile.contains("/EquipmentOperation/") || profile.contains("/CIM/Operation");
+    }
+
+    /**
+     * Check if the given model profiles, as returned by {@link #modelProfiles()}, contain Equipment Core data.
+     */
+    protected static boolean hasEquipmentCore(PropertyBags modelProfiles) {
+        for (PropertyBag m : modelProfiles) {
+            String p = m.get(PROFILE);
+            if (p != null && isEquipmentCore(p)) {
+                if (LOG.isInfoEnabled()) {
+                    LOG.info("Model contains Equipment Core data profile in model {}",
+                            m.get(CgmesNames.FULL_MODEL));
+                }
+                return true;
+            }
+        }
+        // None of the FullModel objects contains EquipmentCore profile
+        return false;
+    }
+
+    /**
+     * Check if the given model profiles, as returned by {@link #modelProfiles()}, contain boundary data.
+     */
+    protected static boolean hasBoundary(PropertyBags modelProfiles) {
+        // The Model has boundary if we are able to find models
+        // that have EquipmentBoundary profile
+        // and models that have TopologyBoundary profile
+        boolean hasEquipmentBoundary = false;
+        boolean hasTopologyBoundary = false;
+        for (PropertyBag m : modelProfiles) {
+            String p = m.get(PROFILE);
+            String mid = m.get(CgmesNames.FULL_MODEL);
+            if (p != null && p.contains("/EquipmentBoundary/")) {
+                LOG.info("Model contains EquipmentBoundary data in model {}", mid);
+                hasEquipmentBoundary = true;
+            }
+            if (p != null && p.contains("/TopologyBoundary/")) {
+                LOG.info("Model contains TopologyBoundary data in model {}", mid);
+                hasTopologyBoundary = true;
+            }
+        }
+        return hasEquipmentBoundary && hasTopologyBoundary;
+    }
+
+    /**
+     * Check if the given model profiles, as returned by {@link #modelProfiles()}, describe a node-breaker model.
+     */
+    protected static boolean isNodeBreaker(PropertyBags modelProfiles) {
+        if (allEqCgmes3OrGreater(modelProfiles)) {
+            return true;
+        }
+        // Only consider is node breaker if all models that have profile
+        // EquipmentCore or EquipmentBoundary
+        // also have EquipmentOperation or EquipmentBoundaryOperation
+        Map<String, Boolean> modelHasOperationProfile = computeModelHasOperationProfile(modelProfiles);
+        boolean consideredNodeBreaker = modelHasOperationProfile.values().stream().allMatch(Boolean::valueOf);
+        if (LOG.isInfoEnabled()) {
+            logNodeBreaker(consideredNodeBreaker, modelHasOperationProfile);
+        }
+        return consideredNodeBreaker;
+    }
+
+    private static boolean allEqCgmes3OrGreater(PropertyBags modelProfiles) {
+        for (PropertyBag mp : modelProfiles) {
+            String p = mp.get(PROFILE);
+            if (p != null && isEquipmentCore(p) && !isEqCgmes3OrGreater(p)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEqCgmes3OrGreater(String profile) {
+        return profile.startsWith(CGMES_EQ_3_OR_GREATER_PREFIX) && profile.compareTo(CIM_100_EQ_PROFILE) >= 0;
+    }
+
+    private static void logNodeBreaker(boolean consideredNodeBreaker, Map<String, Boolean> modelHasOperationProfile) {
+        if (consideredNodeBreaker) {
+            LOG.info(
+                    "All FullModel objects have EquipmentOperation profile, so conversion will be considered node-breaker");
+        } else {
+            LOG.info(
+                    "Following FullModel objects do not have EquipmentOperation profile, so conversion will not be considered node-breaker:");
+            modelHasOperationProfile.entrySet().forEach(meqop -> {
+                if (!meqop.getValue()) {
+                    LOG.info("    {}", meqop.getKey());
+                }
+            });
+        }
+    }
+
+    private static Map<String, Boolean> computeModelHasOperationProfile(PropertyBags modelProfiles) {
+        // A bus/branch model with a single instance file where its node/breaker boundary has been assembled
+        // Must not be considered as node-breaker
+        Map<String, Boolean> modelHasOperationProfile = new HashMap<>();
+        Map<String, Boolean> modelHasBoundaryOperationProfile = new HashMap<>();
+        for (PropertyBag mp : modelProfiles) {
+            String m = mp.get("FullModel");
+            String p = mp.get(PROFILE);
+            if (p != null) {
+                updateModelHasOperationProfile(modelHasOperationProfile, modelHasBoundaryOperationProfile, m, p);
+            }
+        }
+        modelHasBoundaryOperationProfile.forEach((m, v) -> modelHasOperationProfile.merge(m, v, (vm, vbd) -> vm && vbd));
+        return modelHasOperationProfile;
+    }
+
+    private static void updateModelHasOperationProfile(Map<String, Boolean> modelHasOperationProfile, Map<String, Boolean> modelHasBoundaryOperationProfile, String model, String profile) {
+        if (isEquipmentCore(profile)) {
+            // Set to false only if we do not have a value already
+            modelHasOperationProfile.putIfAbsent(model, false);
+        }
+        if (isEquipmentOperation(profile)) {
+            modelHasOperationProfile.put(model, true);
+            LOG.info("Model {} is considered node-breaker", model);
+        }
+        if (profile.contains("/EquipmentBoundary/")) {
+            // Set to false only if we do not have a value already
+            modelHasBoundaryOperationProfile.putIfAbsent(model, false);
+        }
+        if (profile.contains("/EquipmentBoundaryOperation/")) {
+            modelHasBoundaryOperationProfile.put(model, true);
+            LOG.info("Model {} boundary is considered node-breaker", model);
+        }
+    }
+
+    /**
+     * Parse a date in ISO format. If the offset is not present at the end (ie. no "Z" nor "+xx:xx" or "+xxxx"), it is
+     * assumed that the date is given as UTC.
+     * @param dateAsString Date in ISO format
+     * @return the date as ZonedDateTime
+     */
+    protected static ZonedDateTime parseDateTime(String dateAsString) {
+        // Definition of the parser according to the expected date format
+        DateTimeFormatter dateTimeFormatterLocalised = new DateTimeFormatterBuilder()
+            // Fixed mandatory pattern
+            .appendPattern("yyyy-MM-dd'T'HH:mm:ss")
+            // Between 0 and 9 decimals (9 is the maximum)
+            .appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true)
+            // Potentially a suffix for localisation (VV: zoneId, x: +HHmm, xx: +HHMM, xxx: +HH:MM)
+            .appendPattern("[VV][x][xx][xxx]")
+            .toFormatter();
+
+        // Parsing
+        TemporalAccessor dateParsed = dateTimeFormatterLocalised.parseBest(dateAsString, ZonedDateTime::from, LocalDateTime::from);
+        if (dateParsed instanceof ZonedDateTime zonedDateTime) {
+            return zonedDateTime;
+        } else {
+            return ZonedDateTime.of((LocalDateTime) dateParsed, ZoneOffset.UTC);
+        }
+    }
+
     // read/write
 
     @Override
@@ -252,14 +422,25 @@ public abstract class AbstractCgmesModel implements CgmesModel {
         Objects.requireNonNull(reportNode);
         invalidateCaches();
         CgmesOnDataSource cds = new CgmesOnDataSource(ds);
-        for (String name : cds.names()) {
+        List<String> names = new ArrayList<>(cds.names());
+        for (String name : names) {
             LOG.info("Reading [{}]", name);
             reportNode.newReportNode()
                     .withMessageTemplate("CGMESFileRead", "Instance file ${instanceFile}")
                     .withTypedValue("instanceFile", name, TypedValue.FILENAME)
                     .withSeverity(TypedValue.INFO_SEVERITY)
                     .add();
-            try (InputStream is = cds.dataSource().newInputStream(name)) {
+        }
+        read(cds.dataSource(), names, reportNode);
+    }
+
+    /**
+     * Read the given files of the data source, in the given order. Implementations backed by a store able to parse
+     * several files at the same time may override this method.
+     */
+    protected void read(ReadOnlyDataSource ds, List<String> names, ReportNode reportNode) {
+        for (String name : names) {
+            try (InputStream is = ds.newInputStream(name)) {
                 read(is, baseName, name, reportNode);
             } catch (IOException e) {
                 String msg = String.format("Reading [%s]", name);
@@ -302,4 +483,5 @@ public abstract class AbstractCgmesModel implements CgmesModel {
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractCgmesModel.class);
     private static final String SUBSTATION = "Substation";
+    private static final String PROFILE = "profile";
 }
@@ -8,6 +8,7 @@
 
 package com.powsybl.cgmes.model;
 
+import com.powsybl.cgmes.model.streaming.CgmesModelStreaming;
 import com.powsybl.cgmes.model.triplestore.CgmesModelTripleStore;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.datasource.ReadOnlyDataSource;
@@ -21,6 +22,11 @@ import java.util.Objects;
  */
 public final class CgmesModelFactory {
 
+    /**
+     * Name of the implementation reading the instance files directly into compact object tables, without a triple store.
+     */
+    public static final String STREAMING_IMPLEMENTATION = "streaming";
+
     private CgmesModelFactory() {
     }
 
@@ -63,9 +69,11 @@ public final class CgmesModelFactory {
     }
 
     private static CgmesModel createImplementation(String implementation, TripleStoreOptions tripleStoreOptions, ReadOnlyDataSource ds, ReadOnlyDataSource alternativeDataSourceForBoundary) {
-        // Only triple store implementations are available
-        TripleStore tripleStore = TripleStoreFactory.create(implementation, tripleStoreOptions);
         String cimNamespace = obtainCimNamespace(ds, alternativeDataSourceForBoundary);
+        if (STREAMING_IMPLEMENTATION.equals(implementation)) {
+            return new CgmesModelStreaming(cimNamespace, tripleStoreOptions);
+        }
+        TripleStore tripleStore = TripleStoreFactory.create(implementation, tripleStoreOptions);
         return new CgmesModelTripleStore(cimNamespace, tripleStore);
     }
 
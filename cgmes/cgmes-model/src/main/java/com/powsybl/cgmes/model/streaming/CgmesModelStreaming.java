@@ -0,0 +1,2175 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.cgmes.model.streaming;
+
+import com.powsybl.cgmes.model.*;
+import com.powsybl.cgmes.model.streaming.CgmesObjects.CgmesObject;
+import com.powsybl.cgmes.model.streaming.CgmesObjects.Reference;
+import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.triplestore.api.PropertyBag;
+import com.powsybl.triplestore.api.PropertyBags;
+import com.powsybl.triplestore.api.TripleStore;
+import com.powsybl.triplestore.api.TripleStoreOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static com.powsybl.cgmes.model.streaming.CgmesObjects.ANY_CONTEXT;
+
+/**
+ * CGMES model that reads instance files in a single streaming pass into compact object tables and answers the
+ * conversion queries directly from them, without loading a triple store and evaluating SPARQL queries.
+ * <p>
+ * Results have the same property names and values as the ones of the queries of the catalogs
+ * <code>CIM16.sparql</code> and <code>CIM100.sparql</code> evaluated by {@link com.powsybl.cgmes.model.triplestore.CgmesModelTripleStore},
+ * rows are given in the order the objects have been read. Only CIM16 and CIM100 instance files are supported, and
+ * the model can not be written or updated.
+ * </p>
+ *
+ * @author Elia Group
+ */
+public class CgmesModelStreaming extends AbstractCgmesModel {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CgmesModelStreaming.class);
+
+    private static final String MD = CgmesNamespace.MD_NAMESPACE;
+    private static final String ENTSOE = CgmesNamespace.ENTSOE_NAMESPACE;
+    private static final String EU = CgmesNamespace.EU_NAMESPACE;
+    private static final String CGMBP = "http://entsoe.eu/CIM/Extensions/CGM-BP/2020#";
+    private static final String NAMESPACE_FOR_CONTEXTS = "contexts:";
+
+    private static final String FULL_MODEL = MD + "FullModel";
+    private static final String MODEL_PROFILE = MD + "Model.profile";
+    private static final String MODEL_MODELING_AUTHORITY_SET = MD + "Model.modelingAuthoritySet";
+    private static final String MODEL_CREATED = MD + "Model.created";
+    private static final String MODEL_SCENARIO_TIME = MD + "Model.scenarioTime";
+
+    private static final String GRAPH = "graph";
+    private static final String GRAPH_SSH = "graphSSH";
+    private static final String GRAPH_SV = "graphSV";
+    private static final String NAME = "name";
+    private static final String TERMINAL = "Terminal";
+    private static final String TERMINAL1 = "Terminal1";
+    private static final String TERMINAL2 = "Terminal2";
+    private static final String TYPE = "type";
+    private static final String PROFILE = "profile";
+
+    private static final List<String> GRAPH_NAMES = List.of(GRAPH);
+    private static final List<String> FULL_MODELS_NAMES = List.of(GRAPH, "FullModel", "scenarioTime", "created", "version",
+            "modelingAuthoritySet", "profileList", "description", "dependentOnList", "supersedesList");
+    private static final List<String> MODEL_PROFILES_NAMES = List.of(GRAPH, "FullModel", PROFILE);
+    private static final List<String> MODEL_IDS_NAMES = List.of(GRAPH, "FullModel", "modelingAuthoritySet", PROFILE);
+    private static final List<String> MODEL_DATES_NAMES = List.of(GRAPH, "FullModel", "modelingAuthoritySet", "created", "scenarioTime", PROFILE);
+    private static final List<String> VERSION_NAMES = List.of("version");
+    private static final List<String> NUM_OBJECTS_BY_TYPE_NAMES = List.of("Type", "numObjects");
+    private static final List<String> ALL_OBJECTS_OF_TYPE_NAMES = List.of(GRAPH, "object", "attribute", "value");
+    private static final List<String> BOUNDARY_NODES_NAMES = List.of("graphBDEQ", "FullModel", "modelProfile", "ConnectivityNode", NAME, "container",
+            "energyIdentCodeEicFromNode", "energyIdentCodeEicFromNodeContainer", "description", "grapBDTP", "TopologicalNode", "topologicalNodeName");
+    private static final List<String> BOUNDARY_NODES_CIM100_NAMES = List.of("graphBDEQ", "FullModel", "modelProfile", "ConnectivityNode", NAME, "container",
+            "BoundaryPoint", "energyIdentCodeEicFromNode", "energyIdentCodeEicFromNodeContainer", "description", "grapBDTP", "TopologicalNode", "topologicalNodeName");
+    private static final List<String> BASE_VOLTAGES_NAMES = List.of(GRAPH, "BaseVoltage", "nominalVoltage");
+    private static final List<String> COUNTRY_SOURCING_ACTORS_NAMES = List.of("GeographicalRegion", "sourcingActorName");
+    private static final List<String> SOURCING_ACTOR_NAMES = List.of("ModelingAuthority", NAME, "uri", "GeographicalRegion", "geographicalRegionName",
+            "energyIdentCodeEic", "masUri");
+    private static final List<String> SUBSTATIONS_NAMES = List.of("Substation", NAME, "SubRegion", "subRegionName", "Region", "regionName");
+    private static final List<String> VOLTAGE_LEVELS_NAMES = List.of(GRAPH, "VoltageLevel", "Substation", NAME, "BaseVoltage", "lowVoltageLimit",
+            "highVoltageLimit", "graph2", "nominalVoltage");
+    private static final List<String> TERMINALS_NAMES = List.of(GRAPH, TERMINAL, "ConductingEquipment", "conductingEquipmentType", "sequenceNumber", NAME,
+            GRAPH_SSH, "connected", GRAPH_SV, "SvPowerFlow", "p", "q", "graphSV2", "SvStatus", "inService", "graphCN", "ConnectivityNode", "graphTPCN",
+            "TopologicalNodeConnectivityNode", "graphTPT", "TopologicalNodeTerminal");
+    private static final List<String> CONNECTIVITY_NODES_NAMES = List.of("graphCN2", "ConnectivityNode", "ConnectivityNodeContainer", NAME,
+            "fromEndIsoCode", "toEndIsoCode", "TopologicalNode", "BaseVoltage", "graphSVT", "SvVoltageT", "v", "angle");
+    private static final List<String> TOPOLOGICAL_NODES_NAMES = List.of("graphTP", "TopologicalNode", NAME, "BaseVoltage", "ConnectivityNodeContainer",
+            "fromEndIsoCode", "toEndIsoCode", "graphSVT", "SvVoltageT", "v", "angle");
+    private static final List<String> TOPOLOGICAL_ISLANDS_NAMES = List.of(GRAPH, "TopologicalIsland", NAME, "AngleRefTopologicalNode", "TopologicalNodes");
+    private static final List<String> CONNECTIVITY_NODE_CONTAINERS_NAMES = List.of("ConnectivityNodeContainer", "connectivityNodeContainerType",
+            "Substation", "VoltageLevel");
+    private static final List<String> OPERATIONAL_LIMITS_NAMES = List.of(GRAPH, "OperationalLimit", "OperationalLimitSubclass", NAME, "OperationalLimitSet",
+            "OperationalLimitType", "shortName", "value", "OperationalLimitSetName", TERMINAL, "graph2", "Equipment", "EquipmentContainer",
+            "operationalLimitTypeName", "direction", "limitType", "acceptableDuration");
+    private static final List<String> OPERATIONAL_LIMITS_CIM100_NAMES = List.of(GRAPH, "OperationalLimit", "OperationalLimitType", "OperationalLimitSet",
+            NAME, "OperationalLimitSubclass", "operationalLimitTypeName", "normalValue", "OperationalLimitSetName", TERMINAL, "graph2", "Equipment",
+            "EquipmentContainer", "direction", "limitType", "acceptableDuration", GRAPH_SSH, "value");
+    private static final List<String> BUSBAR_SECTIONS_NAMES = List.of(GRAPH, "BusbarSection", NAME, TERMINAL);
+    private static final List<String> SWITCHES_NAMES = List.of(GRAPH, "Switch", TYPE, "EquipmentContainer", NAME, "retained", "normalOpen",
+            TERMINAL1, "seq1", TERMINAL2, "seq2", GRAPH_SSH, "open");
+    private static final List<String> AC_LINE_SEGMENTS_NAMES = List.of(GRAPH, "ACLineSegment", "r", "x", "bch", NAME, "gch", TERMINAL1, "seq1",
+            TERMINAL2, "seq2", "Line", "lineName");
+    private static final List<String> EQUIVALENT_BRANCHES_NAMES = List.of(GRAPH, "EquivalentBranch", NAME, "r", "x", "BaseVoltage", "r21", "x21",
+            TERMINAL1, TERMINAL2, "graph2", "baseVoltageNominalVoltage");
+    private static final List<String> SERIES_COMPENSATORS_NAMES = List.of(GRAPH, "SeriesCompensator", "r", "x", NAME, TERMINAL1, "seq1", TERMINAL2, "seq2");
+    private static final List<String> TRANSFORMERS_NAMES = List.of(GRAPH, "PowerTransformer", NAME);
+    private static final List<String> TRANSFORMER_ENDS_NAMES = List.of(GRAPH, "PowerTransformer", NAME, "EquipmentContainer", "TransformerEnd", "b", "r",
+            "x", "ratedU", "endNumber", TERMINAL, "connectionKind", "phaseAngleClock", "g", "ratedS", "RatioTapChanger", "PhaseTapChanger");
+    private static final List<String> RATIO_TAP_CHANGERS_NAMES = List.of("graphEQ", "RatioTapChanger", NAME, "lowStep", "highStep", "neutralStep",
+            "normalStep", "neutralU", "stepVoltageIncrement", "ltcFlag", "TransformerEnd", "TapChangerControl", "tculControlMode", "RatioTapChangerTable",
+            GRAPH_SSH, "tapChangerControlEnabled", "step", GRAPH_SV, "SvTapStep", "SVtapStep");
+    private static final List<String> RATIO_TAP_CHANGER_TABLE_NAMES = List.of("RatioTapChangerTablePoint", "Table", "step", "ratio", "r", "x", "g", "b");
+    private static final List<String> RATIO_TAP_CHANGER_TABLES_POINTS_NAMES = List.of("RatioTapChangerTablePoint", "RatioTapChangerTable", "step",
+            "ratio", "r", "x", "g", "b");
+    private static final List<String> PHASE_TAP_CHANGERS_NAMES = List.of(GRAPH, "PhaseTapChanger", "phaseTapChangerType", NAME, "lowStep", "highStep",
+            "neutralStep", "normalStep", "neutralU", "ltcFlag", "TransformerEnd", "transformerWindingRatedU", "xMax", "stepPhaseShiftIncrement", "xMin",
+            "windingConnectionAngle", "voltageStepIncrement", "PhaseTapChangerTable", "TapChangerControl", GRAPH_SSH, "tapChangerControlEnabled", "step",
+            GRAPH_SV, "SVTapStep", "SVtapStep");
+    private static final List<String> PHASE_TAP_CHANGER_TABLE_NAMES = List.of("PhaseTapChangerTablePoint", "Table", "angle", "step", "ratio", "r", "x",
+            "g", "b");
+    private static final List<String> PHASE_TAP_CHANGER_TABLES_POINTS_NAMES = List.of("PhaseTapChangerTablePoint", "PhaseTapChangerTable", "angle",
+            "step", "ratio", "r", "x", "g", "b");
+    private static final List<String> REGULATING_CONTROLS_NAMES = List.of(GRAPH, "RegulatingControl", "mode", TERMINAL, GRAPH_SSH, "enabled",
+            "targetValue", "targetValueUnitMultiplier", "discrete", "targetDeadband");
+    private static final List<String> ENERGY_CONSUMERS_NAMES = List.of(GRAPH, "EnergyConsumer", TYPE, NAME, "LoadResponseCharacteristic",
+            "exponentModel", "pConstantCurrent", "pConstantImpedance", "pConstantPower", "qConstantCurrent", "qConstantImpedance", "qConstantPower",
+            "pVoltageExponent", "qVoltageExponent", TERMINAL, "pfixed", "qfixed", GRAPH_SSH, "p", "q");
+    private static final List<String> ENERGY_SOURCES_NAMES = List.of(GRAPH, "EnergySource", NAME, TERMINAL, GRAPH_SSH, "p", "q");
+    private static final List<String> SHUNT_COMPENSATORS_NAMES = List.of(GRAPH, "ShuntCompensator", TYPE, NAME, "normalSections", "maximumSections",
+            "nomU", TERMINAL, "gPerSection", "bPerSection", "RegulatingControl", GRAPH_SV, "SvShuntCompensatorSections", "SVsections", GRAPH_SSH,
+            "SSHsections", "controlEnabled");
+    private static final List<String> NONLINEAR_SHUNT_COMPENSATOR_POINTS_NAMES = List.of("NonlinearShuntCompensatorPoint", "Shunt", "sectionNumber",
+            "b", "g");
+    private static final List<String> SYNCHRONOUS_MACHINES_GENERATORS_NAMES = List.of(GRAPH, "SynchronousMachine", NAME, TYPE, "GeneratingUnit",
+            "ratedS", "generatingUnitType", "minP", "maxP", "initialP", "nameGeneratingUnit", "generatingUnitDescription", "HydroPowerPlant",
+            "hydroPlantStorageType", "fossilFuelTypeList", TERMINAL, "minQ", "maxQ", "ReactiveCapabilityCurve", "RegulatingControl", "qPercent",
+            GRAPH_SSH, "p", "q", "referencePriority", "operatingMode", "controlEnabled", "graphSSH2", "normalPF");
+    private static final List<String> SYNCHRONOUS_MACHINES_GENERATORS_CIM100_NAMES = List.of(GRAPH, "SynchronousMachine", NAME, TYPE, "GeneratingUnit",
+            "ratedS", "generatingUnitType", "minP", "maxP", "nameGeneratingUnit", "HydroPowerPlant", "hydroPlantStorageType", "fossilFuelTypeList",
+            TERMINAL, "minQ", "maxQ", "ReactiveCapabilityCurve", "RegulatingControl", "qPercent", GRAPH_SSH, "p", "q", "referencePriority",
+            "operatingMode", "controlEnabled", "graphSSH2", "normalPF");
+    private static final List<String> SYNCHRONOUS_MACHINES_CONDENSERS_NAMES = List.of(GRAPH, "SynchronousMachine", NAME, TYPE, "ratedS", TERMINAL,
+            "minQ", "maxQ", "ReactiveCapabilityCurve", "RegulatingControl", "qPercent", GRAPH_SSH, "q", "referencePriority", "controlEnabled", "p");
+    private static final List<String> EQUIVALENT_INJECTIONS_NAMES = List.of(GRAPH, "EquivalentInjection", NAME, TERMINAL, "minP", "maxP", "minQ", "maxQ",
+            "regulationCapability", "ReactiveCapabilityCurve", GRAPH_SSH, "p", "q", "regulationStatus", "regulationTarget");
+    private static final List<String> EQUIVALENT_SHUNTS_NAMES = List.of(GRAPH, "EquivalentShunt", NAME, "b", "g", TERMINAL);
+    private static final List<String> SV_INJECTIONS_NAMES = List.of(GRAPH, "SvInjection", "TopologicalNode", "pInjection", "qInjection");
+    private static final List<String> REACTIVE_CAPABILITY_CURVE_DATA_NAMES = List.of("CurveData", "ReactiveCapabilityCurve", "xvalue", "y1value",
+            "y2value");
+    private static final List<String> EXTERNAL_NETWORK_INJECTIONS_NAMES = List.of(GRAPH, "ExternalNetworkInjection", NAME, "minP", "maxP", TERMINAL,
+            "governorSCD", "minQ", "maxQ", "RegulatingControl", GRAPH_SSH, "p", "q", "controlEnabled");
+    private static final List<String> STATIC_VAR_COMPENSATORS_NAMES = List.of(GRAPH, "StaticVarCompensator", NAME, "capacitiveRating", "inductiveRating",
+            "slope", "controlMode", "voltageSetPoint", TERMINAL, "RegulatingControl", GRAPH_SSH, "q", "controlEnabled");
+    private static final List<String> ASYNCHRONOUS_MACHINES_NAMES = List.of(GRAPH, "AsynchronousMachine", NAME, TERMINAL, GRAPH_SSH, TYPE, "p", "q",
+            "controlEnabled");
+    private static final List<String> CONTROL_AREAS_NAMES = List.of(GRAPH, "ControlArea", NAME, "controlAreaType", "energyIdentCodeEic", GRAPH_SSH,
+            "netInterchange", "pTolerance");
+    private static final List<String> AC_DC_CONVERTERS_NAMES = List.of(GRAPH, "ACDCConverter", TYPE, NAME, "ratedUdc", TERMINAL, "PccTerminal",
+            "ReactiveCapabilityCurve", GRAPH_SSH, "targetPpcc", "p", "q", GRAPH_SV, "poleLossP", "operatingMode", "controlMode", "targetUdc",
+            "qPccControl", "pPccControl", "targetQpcc", "targetUpcc");
+    private static final List<String> DC_TERMINALS_NAMES = List.of(GRAPH, "DCTerminal", "DCConductingEquipment", "dcConductingEquipmentType",
+            "sequenceNumber", "graphACDC", NAME, GRAPH_SSH, "connected", "graphCN", "DCNode", "graphTPT", "DCTopologicalNode");
+    private static final List<String> DC_LINE_SEGMENTS_NAMES = List.of(GRAPH, "DCLineSegment", NAME, "r", "l", "c", "length", "DCTerminal1", "seq1",
+            "DCTerminal2", "seq2");
+    private static final List<String> TIE_FLOWS_NAMES = List.of(GRAPH, "TieFlow", "terminal", "ControlArea");
+    private static final List<String> GROUNDS_NAMES = List.of(GRAPH, "Ground", NAME, TERMINAL);
+
+    private final String cimNamespace;
+    private final boolean cim100;
+    private final TripleStoreOptions options;
+    private final CgmesObjects objects = new CgmesObjects();
+    private Boolean nodeBreaker = null;
+
+    public CgmesModelStreaming(String cimNamespace) {
+        this(cimNamespace, new TripleStoreOptions());
+    }
+
+    public CgmesModelStreaming(String cimNamespace, TripleStoreOptions options) {
+        super();
+        this.cimNamespace = Objects.requireNonNull(cimNamespace);
+        this.options = Objects.requireNonNull(options);
+        if (CgmesNamespace.CIM_100_NAMESPACE.equals(cimNamespace)) {
+            cim100 = true;
+        } else if (CgmesNamespace.CIM_16_NAMESPACE.equals(cimNamespace)) {
+            cim100 = false;
+        } else {
+            throw new CgmesModelException("Unsupported CIM namespace for streaming CGMES model: " + cimNamespace);
+        }
+    }
+
+    public String getCimNamespace() {
+        return cimNamespace;
+    }
+
+    public int getCimVersion() {
+        return cim100 ? 100 : 16;
+    }
+
+    // read/write
+
+    @Override
+    public void read(InputStream is, String baseName, String contextName, ReportNode reportNode) {
+        // Reset cached nodeBreaker value everytime we read new data
+        nodeBreaker = null;
+        RdfXmlStreamReader.read(is, baseName, contextName, objects);
+    }
+
+    @Override
+    public void write(DataSource ds) {
+        throw new UnsupportedOperationException("Writing is not supported by the streaming CGMES model");
+    }
+
+    @Override
+    public void write(DataSource ds, CgmesSubset subset) {
+        throw new UnsupportedOperationException("Writing is not supported by the streaming CGMES model");
+    }
+
+    @Override
+    public void clear(CgmesSubset subset) {
+        objects.clear(context -> subset.isValidName(objects.contextName(context)));
+        nodeBreaker = null;
+        invalidateCaches();
+    }
+
+    @Override
+    public void add(CgmesSubset subset, String type, PropertyBags objects) {
+        throw new UnsupportedOperationException("Adding objects is not supported by the streaming CGMES model");
+    }
+
+    @Override
+    public void print(PrintStream out) {
+        print(out::println);
+    }
+
+    @Override
+    public void print(Consumer<String> liner) {
+        liner.accept("Streaming CGMES model. Objects read: " + objects.size());
+        for (CgmesObject o : objects.objects()) {
+            for (int i = 0; i < o.size(); i++) {
+                liner.accept("    " + o.id() + " " + o.predicate(i) + " " + o.value(i) + " " + graph(o.context(i)));
+            }
+        }
+    }
+
+    @Override
+    public TripleStore tripleStore() {
+        return new EmptyTripleStore();
+    }
+
+    // Model description
+
+    @Override
+    public boolean hasEquipmentCore() {
+        return hasEquipmentCore(modelProfiles());
+    }
+
+    @Override
+    public boolean hasBoundary() {
+        return hasBoundary(modelProfiles());
+    }
+
+    @Override
+    public boolean isNodeBreaker() {
+        if (nodeBreaker == null) {
+            nodeBreaker = isNodeBreaker(modelProfiles());
+        }
+        return nodeBreaker;
+    }
+
+    @Override
+    public String modelId() {
+        PropertyBags r = modelIds();
+        if (!r.isEmpty()) {
+            String v = r.get(0).get("FullModel");
+            if (v != null) {
+                return v;
+            }
+        }
+        return "unknown";
+    }
+
+    @Override
+    public ZonedDateTime scenarioTime() {
+        return modelDate("scenarioTime", ZonedDateTime.now());
+    }
+
+    @Override
+    public ZonedDateTime created() {
+        return modelDate("created", ZonedDateTime.now());
+    }
+
+    private ZonedDateTime modelDate(String propertyName, ZonedDateTime defaultValue) {
+        PropertyBags r = modelDates();
+        if (!r.isEmpty()) {
+            String s = r.get(0).get(propertyName);
+            if (s != null && !s.isEmpty()) {
+                try {
+                    return parseDateTime(s);
+                } catch (DateTimeParseException e) {
+                    LOG.error("Invalid date: {}. The date has been fixed to {}.", s, defaultValue);
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    @Override
+    public String version() {
+        String predicate = cim("IEC61970CIMVersion.version");
+        for (CgmesObject o : objects.objects()) {
+            String version = o.get(predicate, ANY_CONTEXT);
+            if (version != null) {
+                return version;
+            }
+        }
+        return "unknown";
+    }
+
+    @Override
+    public PropertyBags graph() {
+        boolean[] used = new boolean[objects.contextNames().size()];
+        for (CgmesObject o : objects.objects()) {
+            for (int i = 0; i < o.size(); i++) {
+                used[o.context(i)] = true;
+            }
+        }
+        PropertyBags r = new PropertyBags();
+        for (int c = 0; c < used.length; c++) {
+            if (used[c]) {
+                PropertyBag row = bag(GRAPH_NAMES);
+                row.put(GRAPH, graph(c));
+                r.add(row);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags fullModels() {
+        String version = MD + "Model.version";
+        String description = MD + "Model.description";
+        String dependentOn = MD + "Model.DependentOn";
+        String supersedes = MD + "Model.Supersedes";
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject fm : objects.objectsOfType(FULL_MODEL)) {
+            for (int c : fm.typeContexts(FULL_MODEL)) {
+                List<String> profiles = fm.getAll(MODEL_PROFILE, c);
+                if (!fm.hasAll(c, MODEL_SCENARIO_TIME, MODEL_CREATED, version, MODEL_MODELING_AUTHORITY_SET) || profiles.isEmpty()) {
+                    continue;
+                }
+                PropertyBag row = bag(FULL_MODELS_NAMES);
+                row.put(GRAPH, graph(c));
+                row.put("FullModel", fm.id());
+                row.put("scenarioTime", fm.get(MODEL_SCENARIO_TIME, c));
+                row.put("created", fm.get(MODEL_CREATED, c));
+                row.put("version", fm.get(version, c));
+                row.put("modelingAuthoritySet", fm.get(MODEL_MODELING_AUTHORITY_SET, c));
+                row.put("profileList", String.join(" ", profiles));
+                row.putNonNull("description", fm.get(description, c));
+                putJoined(row, "dependentOnList", fm.getAll(dependentOn, c));
+                putJoined(row, "supersedesList", fm.getAll(supersedes, c));
+                r.add(row);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags modelProfiles() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject fm : objects.objectsOfType(FULL_MODEL)) {
+            for (int c : fm.typeContexts(FULL_MODEL)) {
+                for (String profile : fm.getAll(MODEL_PROFILE, c)) {
+                    PropertyBag row = bag(MODEL_PROFILES_NAMES);
+                    row.put(GRAPH, graph(c));
+                    row.put("FullModel", fm.id());
+                    row.put(PROFILE, profile);
+                    r.add(row);
+                }
+            }
+        }
+        return r;
+    }
+
+    private PropertyBags modelIds() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject fm : objects.objectsOfType(FULL_MODEL)) {
+            for (int c : fm.typeContexts(FULL_MODEL)) {
+                String mas = fm.get(MODEL_MODELING_AUTHORITY_SET, c);
+                if (mas == null) {
+                    continue;
+                }
+                for (String profile : fm.getAll(MODEL_PROFILE, c)) {
+                    String p = profile.toLowerCase();
+                    boolean equipment = cim100
+                            ? p.contains("coreequipment") && !p.contains("equipmentboundary")
+                            : p.contains("equipmentcore") && !p.contains("equipmentboundary") && !p.contains("topologyboundary");
+                    if (equipment) {
+                        PropertyBag row = bag(MODEL_IDS_NAMES);
+                        row.put(GRAPH, graph(c));
+                        row.put("FullModel", fm.id());
+                        row.put("modelingAuthoritySet", mas);
+                        row.put(PROFILE, profile);
+                        r.add(row);
+                    }
+                }
+            }
+        }
+        return r;
+    }
+
+    private PropertyBags modelDates() {
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject fm : objects.objectsOfType(FULL_MODEL)) {
+            for (int c : fm.typeContexts(FULL_MODEL)) {
+                if (!fm.hasAll(c, MODEL_MODELING_AUTHORITY_SET, MODEL_CREATED, MODEL_SCENARIO_TIME)) {
+                    continue;
+                }
+                for (String profile : fm.getAll(MODEL_PROFILE, c)) {
+                    String p = profile.toLowerCase();
+                    if (!p.contains("equipmentboundary") && !p.contains("topologyboundary")) {
+                        PropertyBag row = bag(MODEL_DATES_NAMES);
+                        row.put(GRAPH, graph(c));
+                        row.put("FullModel", fm.id());
+                        row.put("modelingAuthoritySet", fm.get(MODEL_MODELING_AUTHORITY_SET, c));
+                        row.put("created", fm.get(MODEL_CREATED, c));
+                        row.put("scenarioTime", fm.get(MODEL_SCENARIO_TIME, c));
+                        row.put(PROFILE, profile);
+                        r.add(row);
+                    }
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags numObjectsByType() {
+        PropertyBags r = new PropertyBags();
+        objects.types().stream()
+                .filter(type -> type.startsWith(cimNamespace))
+                .sorted()
+                .forEach(type -> {
+                    PropertyBag row = bag(NUM_OBJECTS_BY_TYPE_NAMES);
+                    row.put("Type", type);
+                    row.put("numObjects", Integer.toString(objects.objectsOfType(type).size()));
+                    r.add(row);
+                });
+        return r;
+    }
+
+    @Override
+    public PropertyBags allObjectsOfType(String type) {
+        Objects.requireNonNull(type);
+        String t = cim(type);
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject o : objects.objectsOfType(t)) {
+            for (int c : o.typeContexts(t)) {
+                for (int i = 0; i < o.size(); i++) {
+                    if (o.context(i) == c) {
+                        PropertyBag row = bag(ALL_OBJECTS_OF_TYPE_NAMES);
+                        row.put(GRAPH, graph(c));
+                        row.put("object", o.id());
+                        row.put("attribute", o.predicate(i));
+                        row.put("value", o.value(i));
+                        r.add(row);
+                    }
+                }
+            }
+        }
+        return r;
+    }
+
+    // Containers and nodes
+
+    @Override
+    public PropertyBags boundaryNodes() {
+        String cnType = cim("ConnectivityNode");
+        String name = cim("IdentifiedObject.name");
+        String container = cim("ConnectivityNode.ConnectivityNodeContainer");
+        String description = cim("IdentifiedObject.description");
+        String topologicalNode = cim("ConnectivityNode.TopologicalNode");
+        String eic = ENTSOE + "IdentifiedObject.energyIdentCodeEic";
+        String boundaryPoint = EU + "BoundaryPoint";
+        String boundaryPointNode = EU + "BoundaryPoint.ConnectivityNode";
+        String boundaryProfile = cim100 ? "equipmentboundary-" : "equipmentboundaryoperation";
+        Map<Integer, List<String[]>> boundaryModels = new HashMap<>();
+        for (CgmesObject o : objects.objects()) {
+            for (int i = 0; i < o.size(); i++) {
+                if (o.predicate(i).equals(MODEL_PROFILE) && o.value(i).toLowerCase().contains(boundaryProfile)) {
+                    boundaryModels.computeIfAbsent(o.context(i), k -> new ArrayList<>()).add(new String[] {o.id(), o.value(i)});
+                }
+            }
+        }
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject cn : objects.objectsOfType(cnType)) {
+            for (int c : cn.typeContexts(cnType)) {
+                List<String[]> models = boundaryModels.get(c);
+                String containerId = cn.get(container, c);
+                if (models == null || containerId == null || !cn.hasAll(c, name)
+                        || !cim100 && !cn.has(ENTSOE + "ConnectivityNode.boundaryPoint", "true", c)) {
+                    continue;
+                }
+                List<CgmesObject> boundaryPoints = cim100 ? referencing(boundaryPointNode, cn.id(), c, boundaryPoint) : Collections.singletonList(null);
+                for (String[] model : models) {
+                    for (CgmesObject bp : boundaryPoints) {
+                        PropertyBag row = bag(cim100 ? BOUNDARY_NODES_CIM100_NAMES : BOUNDARY_NODES_NAMES);
+                        row.put("graphBDEQ", graph(c));
+                        row.put("FullModel", model[0]);
+                        row.put("modelProfile", model[1]);
+                        row.put("ConnectivityNode", cn.id());
+                        row.put(NAME, cn.get(name, c));
+                        row.put("container", containerId);
+                        if (bp != null) {
+                            row.put("BoundaryPoint", bp.id());
+                            row.putNonNull("energyIdentCodeEicFromNode", bp.get(EU + "IdentifiedObject.energyIdentCodeEic", c));
+                        } else {
+                            row.putNonNull("energyIdentCodeEicFromNode", cn.get(eic, c));
+                        }
+                        row.putNonNull("energyIdentCodeEicFromNodeContainer", value(containerId, eic, c));
+                        row.putNonNull("description", cn.get(description, c));
+                        List<PropertyBag> rows = expand(row, topologicalNodes(cn, topologicalNode, name), (rw, tn) -> {
+                            rw.put("grapBDTP", graph(tn.context()));
+                            rw.put("TopologicalNode", tn.subject().id());
+                            rw.put("topologicalNodeName", tn.subject().get(name, tn.context()));
+                        }, cim100);
+                        r.addAll(rows);
+                    }
+                }
+            }
+        }
+        return r;
+    }
+
+    private List<Reference> topologicalNodes(CgmesObject cn, String topologicalNode, String name) {
+        List<Reference> found = new ArrayList<>(1);
+        for (int c : cn.contextsHaving(topologicalNode)) {
+            CgmesObject tn = objects.get(cn.get(topologicalNode, c));
+            if (tn != null && tn.get(name, c) != null) {
+                found.add(new Reference(tn, c));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public PropertyBags baseVoltages() {
+        String type = cim("BaseVoltage");
+        String nominalVoltage = cim("BaseVoltage.nominalVoltage");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject bv : objects.objectsOfType(type)) {
+            for (int c : bv.contextsHaving(nominalVoltage)) {
+                PropertyBag row = bag(BASE_VOLTAGES_NAMES);
+                row.put(GRAPH, graph(c));
+                row.put("BaseVoltage", bv.id());
+                row.put("nominalVoltage", bv.get(nominalVoltage, c));
+                r.add(row);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags countrySourcingActors(String countryName) {
+        String name = cim("IdentifiedObject.name");
+        String sourcingActor = CGMBP + "NetworkRegion.sourcingActor";
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject region : objects.objectsOfType(cim("GeographicalRegion"))) {
+            if (region.has(name, countryName, ANY_CONTEXT)) {
+                for (String sourcingActorName : region.getAll(sourcingActor, ANY_CONTEXT)) {
+                    PropertyBag row = bag(COUNTRY_SOURCING_ACTORS_NAMES);
+                    row.put("GeographicalRegion", region.id());
+                    row.put("sourcingActorName", sourcingActorName);
+                    r.add(row);
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags sourcingActor(String sourcingActor) {
+        String name = cim("IdentifiedObject.name");
+        String sourceName = CGMBP + "Party.sourceName";
+        String uri = CGMBP + "Party.uri";
+        String regionType = cim("GeographicalRegion");
+        String eic = ENTSOE + "IdentifiedObject.energyIdentCodeEic";
+        String masUri = CGMBP + "NetworkRegion.masUri";
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject authority : objects.objectsOfType(CGMBP + "ModelingAuthority")) {
+            if (!authority.has(sourceName, sourcingActor, ANY_CONTEXT) || !authority.hasAll(ANY_CONTEXT, name, uri)) {
+                continue;
+            }
+            for (Reference ref : objects.references(CGMBP + "MARegion.ModelingAuthority", authority.id())) {
+                CgmesObject region = ref.subject();
+                if (region.hasType(regionType, ANY_CONTEXT) && region.hasAll(ANY_CONTEXT, name, eic, masUri)
+                        && region.has(CGMBP + "NetworkRegion.sourcingActor", sourcingActor, ANY_CONTEXT)) {
+                    PropertyBag row = bag(SOURCING_ACTOR_NAMES);
+                    row.put("ModelingAuthority", authority.id());
+                    row.put(NAME, authority.get(name, ANY_CONTEXT));
+                    row.put("uri", authority.get(uri, ANY_CONTEXT));
+                    row.put("GeographicalRegion", region.id());
+                    row.put("geographicalRegionName", region.get(name, ANY_CONTEXT));
+                    row.put("energyIdentCodeEic", region.get(eic, ANY_CONTEXT));
+                    row.put("masUri", region.get(masUri, ANY_CONTEXT));
+                    r.add(row);
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags substations() {
+        String name = cim("IdentifiedObject.name");
+        String subRegionType = cim("SubGeographicalRegion");
+        String regionType = cim("GeographicalRegion");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject substation : objects.objectsOfType(cim("Substation"))) {
+            String substationName = substation.get(name, ANY_CONTEXT);
+            CgmesObject subRegion = firstOfType(substation.getAll(cim("Substation.Region"), ANY_CONTEXT), subRegionType);
+            String subRegionName = subRegion != null ? subRegion.get(name, ANY_CONTEXT) : null;
+            CgmesObject region = subRegionName != null ? firstOfType(subRegion.getAll(cim("SubGeographicalRegion.Region"), ANY_CONTEXT), regionType) : null;
+            String regionName = region != null ? region.get(name, ANY_CONTEXT) : null;
+            if (substationName != null && regionName != null) {
+                PropertyBag row = bag(SUBSTATIONS_NAMES);
+                row.put("Substation", substation.id());
+                row.put(NAME, substationName);
+                row.put("SubRegion", subRegion.id());
+                row.put("subRegionName", subRegionName);
+                row.put("Region", region.id());
+                row.put("regionName", regionName);
+                r.add(row);
+            }
+        }
+        return r;
+    }
+
+    private CgmesObject firstOfType(List<String> ids, String type) {
+        for (String id : ids) {
+            CgmesObject o = objects.get(id);
+            if (o != null && o.hasType(type, ANY_CONTEXT)) {
+                return o;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public PropertyBags voltageLevels() {
+        String type = cim("VoltageLevel");
+        String substation = cim("VoltageLevel.Substation");
+        String name = cim("IdentifiedObject.name");
+        String baseVoltage = cim("VoltageLevel.BaseVoltage");
+        String nominalVoltage = cim("BaseVoltage.nominalVoltage");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject vl : objects.objectsOfType(type)) {
+            for (int c : vl.typeContexts(type)) {
+                if (!vl.hasAll(c, substation, name, baseVoltage)) {
+                    continue;
+                }
+                PropertyBag row = bag(VOLTAGE_LEVELS_NAMES);
+                row.put(GRAPH, graph(c));
+                row.put("VoltageLevel", vl.id());
+                row.put("Substation", vl.get(substation, c));
+                row.put(NAME, vl.get(name, c));
+                String bv = vl.get(baseVoltage, c);
+                row.put("BaseVoltage", bv);
+                row.putNonNull("lowVoltageLimit", vl.get(cim("VoltageLevel.lowVoltageLimit"), c));
+                row.putNonNull("highVoltageLimit", vl.get(cim("VoltageLevel.highVoltageLimit"), c));
+                r.addAll(optionalGraph(row, objects.get(bv), "graph2", List.of("nominalVoltage"), List.of(nominalVoltage)));
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags terminals() {
+        String type = cim("Terminal");
+        String conductingEquipment = cim("Terminal.ConductingEquipment");
+        String sequenceNumber = cim("ACDCTerminal.sequenceNumber");
+        String name = cim("IdentifiedObject.name");
+        String connected = cim("ACDCTerminal.connected");
+        String svPowerFlowTerminal = cim("SvPowerFlow.Terminal");
+        String svStatusEquipment = cim("SvStatus.ConductingEquipment");
+        String connectivityNode = cim("Terminal.ConnectivityNode");
+        String topologicalNode = cim("ConnectivityNode.TopologicalNode");
+        String terminalTopologicalNode = cim("Terminal.TopologicalNode");
+        List<String> svPowerFlowNames = List.of("p", "q");
+        List<String> svPowerFlowPredicates = List.of(cim("SvPowerFlow.p"), cim("SvPowerFlow.q"));
+        List<String> svStatusNames = List.of("inService");
+        List<String> svStatusPredicates = List.of(cim("SvStatus.inService"));
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject t : objects.objectsOfType(type)) {
+            for (int c : t.typeContexts(type)) {
+                String ceId = t.get(conductingEquipment, c);
+                CgmesObject ce = ceId != null ? objects.get(ceId) : null;
+                if (ce == null) {
+                    continue;
+                }
+                for (String ceType : ce.getAll(CgmesObjects.RDF_TYPE, c)) {
+                    PropertyBag row = bag(TERMINALS_NAMES);
+                    row.put(GRAPH, graph(c));
+                    row.put(TERMINAL, t.id());
+                    row.put("ConductingEquipment", ceId);
+                    row.put("conductingEquipmentType", ceType);
+                    row.putNonNull("sequenceNumber", t.get(sequenceNumber, c));
+                    row.putNonNull(NAME, t.get(name, c));
+                    List<PropertyBag> rows = optionalGraph(row, t, GRAPH_SSH, List.of("connected"), List.of(connected));
+                    rows = optionalSubjects(rows, GRAPH_SV, "SvPowerFlow", svPowerFlowTerminal, t.id(), cim("SvPowerFlow"), svPowerFlowNames, svPowerFlowPredicates);
+                    rows = optionalSubjects(rows, "graphSV2", "SvStatus", svStatusEquipment, ceId, cim("SvStatus"), svStatusNames, svStatusPredicates);
+                    rows = expand(rows, contextValues(t, connectivityNode), (rw, cn) -> {
+                        rw.put("graphCN", graph(cn.context()));
+                        rw.put("ConnectivityNode", cn.value());
+                    }, true);
+                    for (PropertyBag rw : new ArrayList<>(rows)) {
+                        String cnId = rw.get("ConnectivityNode");
+                        if (cnId != null) {
+                            List<PropertyBag> expanded = optionalGraph(rw, objects.get(cnId), "graphTPCN", List.of("TopologicalNodeConnectivityNode"), List.of(topologicalNode));
+                            if (expanded.size() > 1) {
+                                rows.addAll(expanded.subList(0, expanded.size() - 1));
+                            }
+                        }
+                    }
+                    rows = optionalGraph(rows, t, "graphTPT", List.of("TopologicalNodeTerminal"), List.of(terminalTopologicalNode));
+                    r.addAll(rows);
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags connectivityNodes() {
+        if (cachedNodes) {
+            return cachedConnectivityNodes;
+        }
+        String container = cim("ConnectivityNode.ConnectivityNodeContainer");
+        String topologicalNode = cim("ConnectivityNode.TopologicalNode");
+        String terminalConnectivityNode = cim("Terminal.ConnectivityNode");
+        String terminalTopologicalNode = cim("Terminal.TopologicalNode");
+        String baseVoltage = cim("TopologicalNode.BaseVoltage");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject cn : objects.objectsOfType(cim("ConnectivityNode"))) {
+            int[] contexts = cn.contextsHaving(container);
+            if (contexts.length == 0) {
+                continue;
+            }
+            // The topological node is given directly or through one of the terminals of the connectivity node
+            String tnId = cn.get(topologicalNode, ANY_CONTEXT);
+            if (tnId == null) {
+                for (Reference ref : objects.references(terminalConnectivityNode, cn.id())) {
+                    tnId = ref.subject().get(terminalTopologicalNode, ANY_CONTEXT);
+                    if (tnId != null) {
+                        break;
+                    }
+                }
+            }
+            CgmesObject tn = tnId != null ? objects.get(tnId) : null;
+            String bv = tn != null ? tn.get(baseVoltage, ANY_CONTEXT) : null;
+            for (int c : contexts) {
+                PropertyBag row = bag(CONNECTIVITY_NODES_NAMES);
+                row.put("graphCN2", graph(c));
+                row.put("ConnectivityNode", cn.id());
+                row.put("ConnectivityNodeContainer", cn.get(container, c));
+                row.putNonNull(NAME, cn.get(cim("IdentifiedObject.name"), c));
+                row.putNonNull("fromEndIsoCode", cn.get(ENTSOE + "ConnectivityNode.fromEndIsoCode", c));
+                row.putNonNull("toEndIsoCode", cn.get(ENTSOE + "ConnectivityNode.toEndIsoCode", c));
+                if (bv != null) {
+                    row.put("TopologicalNode", tnId);
+                    row.put("BaseVoltage", bv);
+                    r.addAll(svVoltages(row, tnId));
+                } else {
+                    r.add(row);
+                }
+            }
+        }
+        return r;
+    }
+
+    private List<PropertyBag> svVoltages(PropertyBag row, String topologicalNodeId) {
+        return optionalSubjects(Collections.singletonList(row), "graphSVT", "SvVoltageT", cim("SvVoltage.TopologicalNode"), topologicalNodeId,
+                cim("SvVoltage"), List.of("v", "angle"), List.of(cim("SvVoltage.v"), cim("SvVoltage.angle")));
+    }
+
+    @Override
+    public PropertyBags topologicalNodes() {
+        if (cachedNodes) {
+            return cachedTopologicalNodes;
+        }
+        String name = cim("IdentifiedObject.name");
+        String baseVoltage = cim("TopologicalNode.BaseVoltage");
+        String container = cim("TopologicalNode.ConnectivityNodeContainer");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject tn : objects.objectsOfType(cim("TopologicalNode"))) {
+            for (int c : tn.contextsHaving(name, baseVoltage, container)) {
+                PropertyBag row = bag(TOPOLOGICAL_NODES_NAMES);
+                row.put("graphTP", graph(c));
+                row.put("TopologicalNode", tn.id());
+                row.put(NAME, tn.get(name, c));
+                row.put("BaseVoltage", tn.get(baseVoltage, c));
+                row.put("ConnectivityNodeContainer", tn.get(container, c));
+                row.putNonNull("fromEndIsoCode", tn.get(ENTSOE + "TopologicalNode.fromEndIsoCode", c));
+                row.putNonNull("toEndIsoCode", tn.get(ENTSOE + "TopologicalNode.toEndIsoCode", c));
+                r.addAll(svVoltages(row, tn.id()));
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags topologicalIslands() {
+        String type = cim("TopologicalIsland");
+        String name = cim("IdentifiedObject.name");
+        String angleRef = cim("TopologicalIsland.AngleRefTopologicalNode");
+        String nodes = cim("TopologicalIsland.TopologicalNodes");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject island : objects.objectsOfType(type)) {
+            for (int c : island.typeContexts(type)) {
+                if (!island.hasAll(c, name, angleRef)) {
+                    continue;
+                }
+                for (String node : island.getAll(nodes, c)) {
+                    PropertyBag row = bag(TOPOLOGICAL_ISLANDS_NAMES);
+                    row.put(GRAPH, graph(c));
+                    row.put("TopologicalIsland", island.id());
+                    row.put(NAME, island.get(name, c));
+                    row.put("AngleRefTopologicalNode", island.get(angleRef, c));
+                    row.put("TopologicalNodes", node);
+                    r.add(row);
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags connectivityNodeContainers() {
+        String voltageLevelType = cim("VoltageLevel");
+        String bayType = cim("Bay");
+        String substation = cim("VoltageLevel.Substation");
+        PropertyBags r = new PropertyBags();
+        for (String type : List.of(voltageLevelType, bayType, cim("Line"))) {
+            for (CgmesObject container : objects.objectsOfType(type)) {
+                PropertyBag row = bag(CONNECTIVITY_NODE_CONTAINERS_NAMES);
+                row.put("ConnectivityNodeContainer", container.id());
+                row.put("connectivityNodeContainerType", type);
+                String s = null;
+                String vl = null;
+                if (container.hasType(voltageLevelType, ANY_CONTEXT)) {
+                    s = container.get(substation, ANY_CONTEXT);
+                    vl = container.id();
+                }
+                if (s == null && container.hasType(bayType, ANY_CONTEXT)) {
+                    vl = container.get(cim("Bay.VoltageLevel"), ANY_CONTEXT);
+                    s = vl != null ? value(vl, substation, ANY_CONTEXT) : null;
+                }
+                if (s != null) {
+                    row.put("Substation", s);
+                    row.put("VoltageLevel", vl);
+                }
+                r.add(row);
+            }
+        }
+        return r;
+    }
+
+    // Equipment
+
+    @Override
+    public PropertyBags operationalLimits() {
+        String limitType = cim("OperationalLimit.OperationalLimitType");
+        String limitSet = cim("OperationalLimit.OperationalLimitSet");
+        String name = cim("IdentifiedObject.name");
+        String limitTypeType = cim("OperationalLimitType");
+        List<String> values = List.of(cim("CurrentLimit.value"), cim("ApparentPowerLimit.value"), cim("VoltageLimit.value"));
+        List<String> normalValues = List.of(cim("CurrentLimit.normalValue"), cim("ApparentPowerLimit.normalValue"), cim("VoltageLimit.normalValue"));
+        String setEquipment = cim("OperationalLimitSet.Equipment");
+        String equipmentContainer = cim("Equipment.EquipmentContainer");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject limit : objects.subjects(limitType)) {
+            for (int c : limit.contextsHaving(limitType, limitSet, name)) {
+                String olsId = limit.get(limitSet, c);
+                String oltId = limit.get(limitType, c);
+                CgmesObject ols = objects.get(olsId);
+                CgmesObject olt = objects.get(oltId);
+                if (olt == null || !olt.hasType(limitTypeType, c) || olt.get(name, c) == null) {
+                    continue;
+                }
+                for (String subclass : limit.getAll(CgmesObjects.RDF_TYPE, c)) {
+                    PropertyBag row = bag(cim100 ? OPERATIONAL_LIMITS_CIM100_NAMES : OPERATIONAL_LIMITS_NAMES);
+                    row.put(GRAPH, graph(c));
+                    row.put("OperationalLimit", limit.id());
+                    row.put("OperationalLimitSubclass", subclass);
+                    row.put(NAME, limit.get(name, c));
+                    row.put("OperationalLimitSet", olsId);
+                    row.put("OperationalLimitType", oltId);
+                    if (cim100) {
+                        row.putNonNull("normalValue", first(limit, normalValues, c));
+                    } else {
+                        row.putNonNull("shortName", limit.get(ENTSOE + "IdentifiedObject.shortName", c));
+                        row.putNonNull("value", first(limit, values, c));
+                    }
+                    row.putNonNull("OperationalLimitSetName", value(ols, name, c));
+                    row.putNonNull(TERMINAL, value(ols, cim("OperationalLimitSet.Terminal"), c));
+                    row.put("operationalLimitTypeName", olt.get(name, c));
+                    row.putNonNull("direction", olt.get(cim("OperationalLimitType.direction"), c));
+                    row.putNonNull("limitType", olt.get(cim100 ? EU + "OperationalLimitType.kind" : ENTSOE + "OperationalLimitType.limitType", c));
+                    row.putNonNull("acceptableDuration", olt.get(cim("OperationalLimitType.acceptableDuration"), c));
+                    List<PropertyBag> rows = expand(row, ols != null ? contextValues(ols, setEquipment) : List.of(), (rw, equipment) -> {
+                        rw.put("graph2", graph(equipment.context()));
+                        rw.put("Equipment", equipment.value());
+                        rw.put("EquipmentContainer", value(equipment.value(), equipmentContainer, equipment.context()));
+                    }, true, equipment -> value(equipment.value(), equipmentContainer, equipment.context()) != null);
+                    if (cim100) {
+                        rows = operationalLimitValues(rows, limit, values);
+                    }
+                    r.addAll(rows);
+                }
+            }
+        }
+        return r;
+    }
+
+    private List<PropertyBag> operationalLimitValues(List<PropertyBag> rows, CgmesObject limit, List<String> values) {
+        for (String value : values) {
+            int[] contexts = limit.contextsHaving(value);
+            if (contexts.length > 0) {
+                return expand(rows, contextValues(limit, value), (rw, v) -> {
+                    rw.put(GRAPH_SSH, graph(v.context()));
+                    rw.put("value", v.value());
+                }, true);
+            }
+        }
+        return rows;
+    }
+
+    @Override
+    public PropertyBags busBarSections() {
+        String type = cim("BusbarSection");
+        String name = cim("IdentifiedObject.name");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject bbs : objects.objectsOfType(type)) {
+            for (int c : bbs.typeContexts(type)) {
+                if (!bbs.hasAll(c, name)) {
+                    continue;
+                }
+                for (CgmesObject t : terminals(bbs, c, false)) {
+                    PropertyBag row = bag(BUSBAR_SECTIONS_NAMES);
+                    row.put(GRAPH, graph(c));
+                    row.put("BusbarSection", bbs.id());
+                    row.put(NAME, bbs.get(name, c));
+                    row.put(TERMINAL, t.id());
+                    r.add(row);
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags switches() {
+        String equipmentContainer = cim("Equipment.EquipmentContainer");
+        String open = cim("Switch.open");
+        PropertyBags r = new PropertyBags();
+        for (String type : List.of(cim("Switch"), cim("Breaker"), cim("Disconnector"), cim("LoadBreakSwitch"), cim("ProtectedSwitch"), cim("GroundDisconnector"))) {
+            for (CgmesObject sw : objects.objectsOfType(type)) {
+                for (int c : sw.typeContexts(type)) {
+                    if (!sw.hasAll(c, equipmentContainer)) {
+                        continue;
+                    }
+                    for (String[] terminals : terminalPairs(sw, c, true)) {
+                        PropertyBag row = bag(SWITCHES_NAMES);
+                        row.put(GRAPH, graph(c));
+                        row.put("Switch", sw.id());
+                        row.put(TYPE, type);
+                        row.put("EquipmentContainer", sw.get(equipmentContainer, c));
+                        row.putNonNull(NAME, sw.get(cim("IdentifiedObject.name"), c));
+                        row.putNonNull("retained", sw.get(cim("Switch.retained"), c));
+                        row.putNonNull("normalOpen", sw.get(cim("Switch.normalOpen"), c));
+                        putTerminals(row, terminals, TERMINAL1, TERMINAL2);
+                        r.addAll(optionalGraph(row, sw, GRAPH_SSH, List.of("open"), List.of(open)));
+                    }
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags acLineSegments() {
+        String type = cim("ACLineSegment");
+        String rp = cim("ACLineSegment.r");
+        String xp = cim("ACLineSegment.x");
+        String bch = cim("ACLineSegment.bch");
+        String name = cim("IdentifiedObject.name");
+        String lineType = cim("Line");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject line : objects.objectsOfType(type)) {
+            for (int c : line.typeContexts(type)) {
+                if (!line.hasAll(c, rp, xp, bch, name)) {
+                    continue;
+                }
+                for (String[] terminals : terminalPairs(line, c, true)) {
+                    PropertyBag row = bag(AC_LINE_SEGMENTS_NAMES);
+                    row.put(GRAPH, graph(c));
+                    row.put("ACLineSegment", line.id());
+                    row.put("r", line.get(rp, c));
+                    row.put("x", line.get(xp, c));
+                    row.put("bch", line.get(bch, c));
+                    row.put(NAME, line.get(name, c));
+                    row.putNonNull("gch", line.get(cim("ACLineSegment.gch"), c));
+                    putTerminals(row, terminals, TERMINAL1, TERMINAL2);
+                    String containerId = line.get(cim("Equipment.EquipmentContainer"), c);
+                    CgmesObject container = containerId != null ? objects.get(containerId) : null;
+                    if (container != null && container.hasType(lineType, c) && container.get(name, c) != null) {
+                        row.put("Line", containerId);
+                        row.put("lineName", container.get(name, c));
+                    }
+                    r.add(row);
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags equivalentBranches() {
+        String type = cim("EquivalentBranch");
+        String name = cim("IdentifiedObject.name");
+        String rp = cim("EquivalentBranch.r");
+        String xp = cim("EquivalentBranch.x");
+        String baseVoltage = cim("ConductingEquipment.BaseVoltage");
+        String r21 = cim("EquivalentBranch.r21");
+        String x21 = cim("EquivalentBranch.x21");
+        String sequenceNumber = cim("ACDCTerminal.sequenceNumber");
+        String baseVoltageType = cim("BaseVoltage");
+        String nominalVoltage = cim("BaseVoltage.nominalVoltage");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject branch : objects.objectsOfType(type)) {
+            for (int c : branch.typeContexts(type)) {
+                if (!branch.hasAll(c, name, rp, xp, baseVoltage)) {
+                    continue;
+                }
+                CgmesObject bv = objects.get(branch.get(baseVoltage, c));
+                int[] bvContexts = bv != null ? bv.contextsHaving(nominalVoltage) : new int[0];
+                List<CgmesObject> terminals = terminals(branch, c, true);
+                for (CgmesObject t1 : terminals) {
+                    if (!t1.has(sequenceNumber, "1", c)) {
+                        continue;
+                    }
+                    for (CgmesObject t2 : terminals) {
+                        if (!t2.has(sequenceNumber, "2", c)) {
+                            continue;
+                        }
+                        for (int c2 : bvContexts) {
+                            if (!bv.hasType(baseVoltageType, c2)) {
+                                continue;
+                            }
+                            PropertyBag row = bag(EQUIVALENT_BRANCHES_NAMES);
+                            row.put(GRAPH, graph(c));
+                            row.put("EquivalentBranch", branch.id());
+                            row.put(NAME, branch.get(name, c));
+                            row.put("r", branch.get(rp, c));
+                            row.put("x", branch.get(xp, c));
+                            row.put("BaseVoltage", bv.id());
+                            if (branch.hasAll(c, r21, x21)) {
+                                row.put("r21", branch.get(r21, c));
+                                row.put("x21", branch.get(x21, c));
+                            }
+                            row.put(TERMINAL1, t1.id());
+                            row.put(TERMINAL2, t2.id());
+                            row.put("graph2", graph(c2));
+                            row.put("baseVoltageNominalVoltage", bv.get(nominalVoltage, c2));
+                            r.add(row);
+                        }
+                    }
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags seriesCompensators() {
+        String type = cim("SeriesCompensator");
+        String rp = cim("SeriesCompensator.r");
+        String xp = cim("SeriesCompensator.x");
+        String name = cim("IdentifiedObject.name");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject sc : objects.objectsOfType(type)) {
+            for (int c : sc.typeContexts(type)) {
+                if (!sc.hasAll(c, rp, xp, name)) {
+                    continue;
+                }
+                for (String[] terminals : terminalPairs(sc, c, true)) {
+                    PropertyBag row = bag(SERIES_COMPENSATORS_NAMES);
+                    row.put(GRAPH, graph(c));
+                    row.put("SeriesCompensator", sc.id());
+                    row.put("r", sc.get(rp, c));
+                    row.put("x", sc.get(xp, c));
+                    row.put(NAME, sc.get(name, c));
+                    putTerminals(row, terminals, TERMINAL1, TERMINAL2);
+                    r.add(row);
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags transformers() {
+        String type = cim("PowerTransformer");
+        String name = cim("IdentifiedObject.name");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject pt : objects.objectsOfType(type)) {
+            for (int c : pt.typeContexts(type)) {
+                String ptName = pt.get(name, c);
+                if (ptName != null) {
+                    PropertyBag row = bag(TRANSFORMERS_NAMES);
+                    row.put(GRAPH, graph(c));
+                    row.put("PowerTransformer", pt.id());
+                    row.put(NAME, ptName);
+                    r.add(row);
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags transformerEnds() {
+        String type = cim("PowerTransformer");
+        String name = cim("IdentifiedObject.name");
+        String endType = cim("PowerTransformerEnd");
+        String[] endPredicates = {cim("PowerTransformerEnd.b"), cim("PowerTransformerEnd.r"), cim("PowerTransformerEnd.x"),
+            cim("PowerTransformerEnd.ratedU"), cim("TransformerEnd.endNumber"), cim("TransformerEnd.Terminal")};
+        String[] endNames = {"b", "r", "x", "ratedU", "endNumber", TERMINAL};
+        String[] optionalEndPredicates = {cim("PowerTransformerEnd.connectionKind"), cim("PowerTransformerEnd.phaseAngleClock"),
+            cim("PowerTransformerEnd.g"), cim("PowerTransformerEnd.ratedS")};
+        String[] optionalEndNames = {"connectionKind", "phaseAngleClock", "g", "ratedS"};
+        String rtcEnd = cim("RatioTapChanger.TransformerEnd");
+        String ptcEnd = cim("PhaseTapChanger.TransformerEnd");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject pt : objects.objectsOfType(type)) {
+            for (int c : pt.typeContexts(type)) {
+                String ptName = pt.get(name, c);
+                if (ptName == null) {
+                    continue;
+                }
+                for (CgmesObject end : referencing(cim("PowerTransformerEnd.PowerTransformer"), pt.id(), c, endType)) {
+                    if (!end.hasAll(c, endPredicates)) {
+                        continue;
+                    }
+                    PropertyBag row = bag(TRANSFORMER_ENDS_NAMES);
+                    row.put(GRAPH, graph(c));
+                    row.put("PowerTransformer", pt.id());
+                    row.put(NAME, ptName);
+                    row.putNonNull("EquipmentContainer", pt.get(cim("Equipment.EquipmentContainer"), c));
+                    row.put("TransformerEnd", end.id());
+                    for (int i = 0; i < endNames.length; i++) {
+                        row.put(endNames[i], end.get(endPredicates[i], c));
+                    }
+                    for (int i = 0; i < optionalEndNames.length; i++) {
+                        row.putNonNull(optionalEndNames[i], end.get(optionalEndPredicates[i], c));
+                    }
+                    List<PropertyBag> rows = expand(row, referencing(rtcEnd, end.id(), c, null), (rw, rtc) -> rw.put("RatioTapChanger", rtc.id()), true);
+                    rows = expand(rows, referencing(ptcEnd, end.id(), c, null), (rw, ptc) -> rw.put("PhaseTapChanger", ptc.id()), true);
+                    r.addAll(rows);
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags ratioTapChangers() {
+        String type = cim("RatioTapChanger");
+        String[] predicates = {cim("IdentifiedObject.name"), cim("TapChanger.lowStep"), cim("TapChanger.highStep"), cim("TapChanger.neutralStep"),
+            cim("TapChanger.normalStep"), cim("TapChanger.neutralU"), cim("RatioTapChanger.stepVoltageIncrement"), cim("TapChanger.ltcFlag"),
+            cim("RatioTapChanger.TransformerEnd")};
+        String[] names = {NAME, "lowStep", "highStep", "neutralStep", "normalStep", "neutralU", "stepVoltageIncrement", "ltcFlag", "TransformerEnd"};
+        String tapChangerControl = cim("TapChanger.TapChangerControl");
+        List<String> sshNames = List.of("tapChangerControlEnabled", "step");
+        List<String> sshPredicates = List.of(cim("TapChanger.controlEnabled"), cim("TapChanger.step"));
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject rtc : objects.objectsOfType(type)) {
+            for (int c : rtc.typeContexts(type)) {
+                if (!rtc.hasAll(c, predicates)) {
+                    continue;
+                }
+                PropertyBag row = bag(RATIO_TAP_CHANGERS_NAMES);
+                row.put("graphEQ", graph(c));
+                row.put("RatioTapChanger", rtc.id());
+                for (int i = 0; i < names.length; i++) {
+                    row.put(names[i], rtc.get(predicates[i], c));
+                }
+                String tcc = rtc.get(tapChangerControl, c);
+                if (tcc != null) {
+                    row.put("TapChangerControl", tcc);
+                    row.putNonNull("tculControlMode", rtc.get(cim("RatioTapChanger.tculControlMode"), c));
+                }
+                row.putNonNull("RatioTapChangerTable", rtc.get(cim("RatioTapChanger.RatioTapChangerTable"), c));
+                List<PropertyBag> rows = optionalGraph(row, rtc, GRAPH_SSH, sshNames, sshPredicates);
+                rows = optionalSubjects(rows, GRAPH_SV, "SvTapStep", cim("SvTapStep.TapChanger"), rtc.id(), cim("SvTapStep"),
+                        List.of("SVtapStep"), List.of(cim("SvTapStep.position")));
+                r.addAll(rows);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags ratioTapChangerTable(String tableId) {
+        Objects.requireNonNull(tableId);
+        return tablePoints(RATIO_TAP_CHANGER_TABLE_NAMES, "RatioTapChangerTablePoint", "RatioTapChangerTable", "Table", Pattern.compile(tableId), false);
+    }
+
+    @Override
+    public PropertyBags ratioTapChangerTablesPoints() {
+        return tablePoints(RATIO_TAP_CHANGER_TABLES_POINTS_NAMES, "RatioTapChangerTablePoint", "RatioTapChangerTable", "RatioTapChangerTable", null, false);
+    }
+
+    @Override
+    public PropertyBags phaseTapChangerTable(String tableId) {
+        Objects.requireNonNull(tableId);
+        return tablePoints(PHASE_TAP_CHANGER_TABLE_NAMES, "PhaseTapChangerTablePoint", "PhaseTapChangerTable", "Table", Pattern.compile(tableId), true);
+    }
+
+    @Override
+    public PropertyBags phaseTapChangerTablesPoints() {
+        return tablePoints(PHASE_TAP_CHANGER_TABLES_POINTS_NAMES, "PhaseTapChangerTablePoint", "PhaseTapChangerTable", "PhaseTapChangerTable", null, true);
+    }
+
+    private PropertyBags tablePoints(List<String> propertyNames, String pointType, String tableType, String tableName, Pattern tableFilter, boolean angle) {
+        String table = cim(pointType + "." + tableType);
+        String step = cim("TapChangerTablePoint.step");
+        String anglePredicate = cim("PhaseTapChangerTablePoint.angle");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject point : objects.objectsOfType(cim(pointType))) {
+            String tableId = point.get(table, ANY_CONTEXT);
+            String stepValue = point.get(step, ANY_CONTEXT);
+            String angleValue = angle ? point.get(anglePredicate, ANY_CONTEXT) : null;
+            if (tableId == null || stepValue == null || angle && angleValue == null || tableFilter != null && !tableFilter.matcher(tableId).find()) {
+                continue;
+            }
+            PropertyBag row = bag(propertyNames);
+            row.put(pointType, point.id());
+            row.put(tableName, tableId);
+            row.putNonNull("angle", angleValue);
+            row.put("step", stepValue);
+            for (String p : List.of("ratio", "r", "x", "g", "b")) {
+                row.putNonNull(p, point.get(cim("TapChangerTablePoint." + p), ANY_CONTEXT));
+            }
+            r.add(row);
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags phaseTapChangers() {
+        String[] predicates = {cim("IdentifiedObject.name"), cim("TapChanger.lowStep"), cim("TapChanger.highStep"), cim("TapChanger.neutralStep"),
+            cim("TapChanger.normalStep"), cim("TapChanger.neutralU"), cim("TapChanger.ltcFlag"), cim("PhaseTapChanger.TransformerEnd")};
+        String[] names = {NAME, "lowStep", "highStep", "neutralStep", "normalStep", "neutralU", "ltcFlag", "TransformerEnd"};
+        String endType = cim("PowerTransformerEnd");
+        String ratedU = cim("PowerTransformerEnd.ratedU");
+        String linearXMax = cim("PhaseTapChangerLinear.xMax");
+        String stepPhaseShiftIncrement = cim("PhaseTapChangerLinear.stepPhaseShiftIncrement");
+        String nonLinearXMax = cim("PhaseTapChangerNonLinear.xMax");
+        String voltageStepIncrement = cim("PhaseTapChangerNonLinear.voltageStepIncrement");
+        List<String> sshNames = List.of("tapChangerControlEnabled", "step");
+        List<String> sshPredicates = List.of(cim("TapChanger.controlEnabled"), cim("TapChanger.step"));
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject ptc : objects.subjects(predicates[predicates.length - 1])) {
+            for (int c : ptc.contextsHaving(predicates)) {
+                String endId = ptc.get(predicates[predicates.length - 1], c);
+                CgmesObject end = objects.get(endId);
+                if (end == null || !end.hasType(endType, c) || end.get(ratedU, c) == null) {
+                    continue;
+                }
+                for (String ptcType : ptc.getAll(CgmesObjects.RDF_TYPE, c)) {
+                    PropertyBag row = bag(PHASE_TAP_CHANGERS_NAMES);
+                    row.put(GRAPH, graph(c));
+                    row.put("PhaseTapChanger", ptc.id());
+                    row.put("phaseTapChangerType", ptcType);
+                    for (int i = 0; i < names.length; i++) {
+                        row.put(names[i], ptc.get(predicates[i], c));
+                    }
+                    row.put("transformerWindingRatedU", end.get(ratedU, c));
+                    if (ptc.hasAll(c, linearXMax, stepPhaseShiftIncrement)) {
+                        row.put("xMax", ptc.get(linearXMax, c));
+                        row.put("stepPhaseShiftIncrement", ptc.get(stepPhaseShiftIncrement, c));
+                        row.putNonNull("xMin", ptc.get(cim("PhaseTapChangerLinear.xMin"), c));
+                    }
+                    row.putNonNull("windingConnectionAngle", ptc.get(cim("PhaseTapChangerAsymmetrical.windingConnectionAngle"), c));
+                    String xMax = ptc.get(nonLinearXMax, c);
+                    if (xMax != null && ptc.hasAll(c, voltageStepIncrement) && compatible(row, "xMax", xMax)) {
+                        String xMin = ptc.get(cim("PhaseTapChangerNonLinear.xMin"), c);
+                        row.put("xMax", xMax);
+                        row.put("voltageStepIncrement", ptc.get(voltageStepIncrement, c));
+                        if (xMin != null && compatible(row, "xMin", xMin)) {
+                            row.put("xMin", xMin);
+                        }
+                    }
+                    row.putNonNull("PhaseTapChangerTable", ptc.get(cim("PhaseTapChangerTabular.PhaseTapChangerTable"), c));
+                    row.putNonNull("TapChangerControl", ptc.get(cim("TapChanger.TapChangerControl"), c));
+                    List<PropertyBag> rows = optionalGraph(row, ptc, GRAPH_SSH, sshNames, sshPredicates);
+                    rows = optionalSubjects(rows, GRAPH_SV, "SVTapStep", cim("SvTapStep.TapChanger"), ptc.id(), cim("SvTapStep"),
+                            List.of("SVtapStep"), List.of(cim("SvTapStep.position")));
+                    r.addAll(rows);
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags regulatingControls() {
+        String mode = cim("RegulatingControl.mode");
+        String terminal = cim("RegulatingControl.Terminal");
+        List<String> sshNames = List.of("enabled", "targetValue", "targetValueUnitMultiplier", "discrete");
+        List<String> sshPredicates = List.of(cim("RegulatingControl.enabled"), cim("RegulatingControl.targetValue"),
+                cim("RegulatingControl.targetValueUnitMultiplier"), cim("RegulatingControl.discrete"));
+        String targetDeadband = cim("RegulatingControl.targetDeadband");
+        Set<CgmesObject> controls = new LinkedHashSet<>(objects.objectsOfType(cim("RegulatingControl")));
+        controls.addAll(objects.objectsOfType(cim("TapChangerControl")));
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject rc : controls) {
+            for (int c : rc.contextsHaving(mode, terminal)) {
+                if (!rc.hasType(cim("RegulatingControl"), c) && !rc.hasType(cim("TapChangerControl"), c)) {
+                    continue;
+                }
+                PropertyBag row = bag(REGULATING_CONTROLS_NAMES);
+                row.put(GRAPH, graph(c));
+                row.put("RegulatingControl", rc.id());
+                row.put("mode", rc.get(mode, c));
+                row.put(TERMINAL, rc.get(terminal, c));
+                r.addAll(optionalGraph(Collections.singletonList(row), rc, GRAPH_SSH, sshNames, sshPredicates, List.of("targetDeadband"), List.of(targetDeadband)));
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags energyConsumers() {
+        String name = cim("IdentifiedObject.name");
+        String loadResponse = cim("EnergyConsumer.LoadResponse");
+        String exponentModel = cim("LoadResponseCharacteristic.exponentModel");
+        List<String> lrcNames = List.of("pConstantCurrent", "pConstantImpedance", "pConstantPower", "qConstantCurrent", "qConstantImpedance",
+                "qConstantPower", "pVoltageExponent", "qVoltageExponent");
+        List<String> sshNames = List.of("p", "q");
+        List<String> sshPredicates = List.of(cim("EnergyConsumer.p"), cim("EnergyConsumer.q"));
+        PropertyBags r = new PropertyBags();
+        for (String type : List.of(cim("EnergyConsumer"), cim("ConformLoad"), cim("NonConformLoad"), cim("StationSupply"))) {
+            for (CgmesObject ec : objects.objectsOfType(type)) {
+                for (int c : ec.typeContexts(type)) {
+                    String ecName = ec.get(name, c);
+                    if (ecName == null) {
+                        continue;
+                    }
+                    for (CgmesObject t : terminals(ec, c, false)) {
+                        PropertyBag row = bag(ENERGY_CONSUMERS_NAMES);
+                        row.put(GRAPH, graph(c));
+                        row.put("EnergyConsumer", ec.id());
+                        row.put(TYPE, type);
+                        row.put(NAME, ecName);
+                        String lrcId = ec.get(loadResponse, c);
+                        CgmesObject lrc = lrcId != null ? objects.get(lrcId) : null;
+                        if (lrc != null && lrc.get(exponentModel, c) != null) {
+                            row.put("LoadResponseCharacteristic", lrcId);
+                            row.put("exponentModel", lrc.get(exponentModel, c));
+                            for (String lrcName : lrcNames) {
+                                row.putNonNull(lrcName, lrc.get(cim("LoadResponseCharacteristic." + lrcName), c));
+                            }
+                        }
+                        row.put(TERMINAL, t.id());
+                        row.putNonNull("pfixed", ec.get(cim("EnergyConsumer.pfixed"), c));
+                        row.putNonNull("qfixed", ec.get(cim("EnergyConsumer.qfixed"), c));
+                        r.addAll(optionalGraph(row, ec, GRAPH_SSH, sshNames, sshPredicates));
+                    }
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags energySources() {
+        String type = cim("EnergySource");
+        String name = cim("IdentifiedObject.name");
+        List<String> sshNames = List.of("p", "q");
+        List<String> sshPredicates = List.of(cim("EnergySource.activePower"), cim("EnergySource.reactivePower"));
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject es : objects.objectsOfType(type)) {
+            for (int c : es.typeContexts(type)) {
+                if (!es.hasAll(c, name)) {
+                    continue;
+                }
+                for (CgmesObject t : terminals(es, c, false)) {
+                    PropertyBag row = bag(ENERGY_SOURCES_NAMES);
+                    row.put(GRAPH, graph(c));
+                    row.put("EnergySource", es.id());
+                    row.put(NAME, es.get(name, c));
+                    row.put(TERMINAL, t.id());
+                    r.addAll(optionalGraph(row, es, GRAPH_SSH, sshNames, sshPredicates));
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags shuntCompensators() {
+        String[] predicates = {cim("IdentifiedObject.name"), cim("ShuntCompensator.normalSections"), cim("ShuntCompensator.maximumSections"),
+            cim("ShuntCompensator.nomU")};
+        String[] names = {NAME, "normalSections", "maximumSections", "nomU"};
+        List<String> sshNames = List.of("SSHsections", "controlEnabled");
+        List<String> sshPredicates = List.of(cim("ShuntCompensator.sections"), cim("RegulatingCondEq.controlEnabled"));
+        PropertyBags r = new PropertyBags();
+        for (String type : List.of(cim("LinearShuntCompensator"), cim("NonlinearShuntCompensator"))) {
+            for (CgmesObject sc : objects.objectsOfType(type)) {
+                for (int c : sc.typeContexts(type)) {
+                    if (!sc.hasAll(c, predicates)) {
+                        continue;
+                    }
+                    for (CgmesObject t : terminals(sc, c, false)) {
+                        PropertyBag row = bag(SHUNT_COMPENSATORS_NAMES);
+                        row.put(GRAPH, graph(c));
+                        row.put("ShuntCompensator", sc.id());
+                        row.put(TYPE, type);
+                        for (int i = 0; i < names.length; i++) {
+                            row.put(names[i], sc.get(predicates[i], c));
+                        }
+                        row.put(TERMINAL, t.id());
+                        row.putNonNull("gPerSection", sc.get(cim("LinearShuntCompensator.gPerSection"), c));
+                        row.putNonNull("bPerSection", sc.get(cim("LinearShuntCompensator.bPerSection"), c));
+                        row.putNonNull("RegulatingControl", sc.get(cim("RegulatingCondEq.RegulatingControl"), c));
+                        List<PropertyBag> rows = optionalSubjects(Collections.singletonList(row), GRAPH_SV, "SvShuntCompensatorSections",
+                                cim("SvShuntCompensatorSections.ShuntCompensator"), sc.id(), cim("SvShuntCompensatorSections"),
+                                List.of("SVsections"), List.of(cim("SvShuntCompensatorSections.sections")));
+                        r.addAll(optionalGraph(rows, sc, GRAPH_SSH, sshNames, sshPredicates));
+                    }
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags nonlinearShuntCompensatorPoints(String id) {
+        Objects.requireNonNull(id);
+        Pattern shuntFilter = Pattern.compile(id);
+        String[] predicates = {cim("NonlinearShuntCompensatorPoint.NonlinearShuntCompensator"), cim("NonlinearShuntCompensatorPoint.sectionNumber"),
+            cim("NonlinearShuntCompensatorPoint.b"), cim("NonlinearShuntCompensatorPoint.g")};
+        String[] names = {"Shunt", "sectionNumber", "b", "g"};
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject point : objects.objectsOfType(cim("NonlinearShuntCompensatorPoint"))) {
+            if (!point.hasAll(ANY_CONTEXT, predicates) || !shuntFilter.matcher(point.get(predicates[0], ANY_CONTEXT)).find()) {
+                continue;
+            }
+            PropertyBag row = bag(NONLINEAR_SHUNT_COMPENSATOR_POINTS_NAMES);
+            row.put("NonlinearShuntCompensatorPoint", point.id());
+            for (int i = 0; i < names.length; i++) {
+                row.put(names[i], point.get(predicates[i], ANY_CONTEXT));
+            }
+            r.add(row);
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags synchronousMachinesGenerators() {
+        String type = cim("SynchronousMachine");
+        String name = cim("IdentifiedObject.name");
+        String smType = cim("SynchronousMachine.type");
+        String generatingUnit = cim("RotatingMachine.GeneratingUnit");
+        String[] unitPredicates = cim100
+                ? new String[] {cim("GeneratingUnit.minOperatingP"), cim("GeneratingUnit.maxOperatingP"), name}
+                : new String[] {cim("GeneratingUnit.minOperatingP"), cim("GeneratingUnit.maxOperatingP"), cim("GeneratingUnit.initialP"), name};
+        String[] unitNames = cim100
+                ? new String[] {"minP", "maxP", "nameGeneratingUnit"}
+                : new String[] {"minP", "maxP", "initialP", "nameGeneratingUnit"};
+        Set<String> generatorKinds = Set.of(cim("SynchronousMachineKind.generator"), cim("SynchronousMachineKind.generatorOrCondenser"),
+                cim("SynchronousMachineKind.motor"), cim("SynchronousMachineKind.generatorOrMotor"), cim("SynchronousMachineKind.motorOrCondenser"),
+                cim("SynchronousMachineKind.generatorOrCondenserOrMotor"));
+        String hydroPowerPlant = cim("HydroGeneratingUnit.HydroPowerPlant");
+        String fossilFuelType = cim("FossilFuel.fossilFuelType");
+        List<String> sshNames = List.of("p", "q", "referencePriority", "operatingMode", "controlEnabled");
+        List<String> sshPredicates = List.of(cim("RotatingMachine.p"), cim("RotatingMachine.q"), cim("SynchronousMachine.referencePriority"),
+                cim("SynchronousMachine.operatingMode"), cim("RegulatingCondEq.controlEnabled"));
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject sm : objects.objectsOfType(type)) {
+            for (int c : sm.typeContexts(type)) {
+                String kind = sm.get(smType, c);
+                String unitId = sm.get(generatingUnit, c);
+                CgmesObject unit = unitId != null ? objects.get(unitId) : null;
+                if (kind == null || unit == null || sm.get(name, c) == null || !unit.hasAll(c, unitPredicates)
+                        || (cim100 ? kind.contains("Kind.condenser") : !generatorKinds.contains(kind))) {
+                    continue;
+                }
+                List<CgmesObject> terminals = terminals(sm, c, false);
+                for (String unitType : unit.getAll(CgmesObjects.RDF_TYPE, c)) {
+                    for (CgmesObject t : terminals) {
+                        PropertyBag row = bag(cim100 ? SYNCHRONOUS_MACHINES_GENERATORS_CIM100_NAMES : SYNCHRONOUS_MACHINES_GENERATORS_NAMES);
+                        row.put(GRAPH, graph(c));
+                        row.put("SynchronousMachine", sm.id());
+                        row.put(NAME, sm.get(name, c));
+                        row.put(TYPE, kind);
+                        row.put("GeneratingUnit", unitId);
+                        row.putNonNull("ratedS", sm.get(cim("RotatingMachine.ratedS"), c));
+                        row.put("generatingUnitType", unitType);
+                        for (int i = 0; i < unitNames.length; i++) {
+                            row.put(unitNames[i], unit.get(unitPredicates[i], c));
+                        }
+                        if (!cim100) {
+                            row.putNonNull("generatingUnitDescription", unit.get(cim("IdentifiedObject.description"), c));
+                        }
+                        String plant = unit.get(hydroPowerPlant, c);
+                        if (plant != null) {
+                            row.put("HydroPowerPlant", plant);
+                            row.putNonNull("hydroPlantStorageType", value(plant, cim("HydroPowerPlant.hydroPlantStorageType"), c));
+                        }
+                        List<String> fuels = new ArrayList<>();
+                        for (CgmesObject fuel : referencing(cim("FossilFuel.ThermalGeneratingUnit"), unitId, c, cim("FossilFuel"))) {
+                            fuels.addAll(fuel.getAll(fossilFuelType, c));
+                        }
+                        if (!fuels.isEmpty()) {
+                            row.put("fossilFuelTypeList", String.join(";", fuels));
+                        }
+                        row.put(TERMINAL, t.id());
+                        putRegulatingMachine(row, sm, c);
+                        List<PropertyBag> rows = optionalGraph(row, sm, GRAPH_SSH, sshNames, sshPredicates);
+                        r.addAll(optionalGraph(rows, unit, "graphSSH2", List.of("normalPF"), List.of(cim("GeneratingUnit.normalPF"))));
+                    }
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags synchronousMachinesCondensers() {
+        String type = cim("SynchronousMachine");
+        String name = cim("IdentifiedObject.name");
+        String condenser = cim("SynchronousMachineKind.condenser");
+        List<String> sshNames = List.of("q", "referencePriority", "controlEnabled");
+        List<String> sshPredicates = List.of(cim("RotatingMachine.q"), cim("SynchronousMachine.referencePriority"), cim("RegulatingCondEq.controlEnabled"));
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject sm : objects.objectsOfType(type)) {
+            for (int c : sm.typeContexts(type)) {
+                if (sm.get(name, c) == null || !sm.has(cim("SynchronousMachine.type"), condenser, c)) {
+                    continue;
+                }
+                for (CgmesObject t : terminals(sm, c, false)) {
+                    PropertyBag row = bag(SYNCHRONOUS_MACHINES_CONDENSERS_NAMES);
+                    row.put(GRAPH, graph(c));
+                    row.put("SynchronousMachine", sm.id());
+                    row.put(NAME, sm.get(name, c));
+                    row.put(TYPE, condenser);
+                    row.putNonNull("ratedS", sm.get(cim("RotatingMachine.ratedS"), c));
+                    row.put(TERMINAL, t.id());
+                    putRegulatingMachine(row, sm, c);
+                    List<PropertyBag> rows = optionalGraph(row, sm, GRAPH_SSH, sshNames, sshPredicates);
+                    for (PropertyBag rw : rows) {
+                        if (rw.containsKey(GRAPH_SSH)) {
+                            // For condensers, the p value is always 0
+                            rw.put("p", "0");
+                        }
+                    }
+                    r.addAll(rows);
+                }
+            }
+        }
+        return r;
+    }
+
+    private void putRegulatingMachine(PropertyBag row, CgmesObject sm, int c) {
+        row.putNonNull("minQ", sm.get(cim("SynchronousMachine.minQ"), c));
+        row.putNonNull("maxQ", sm.get(cim("SynchronousMachine.maxQ"), c));
+        row.putNonNull("ReactiveCapabilityCurve", sm.get(cim("SynchronousMachine.InitialReactiveCapabilityCurve"), c));
+        row.putNonNull("RegulatingControl", sm.get(cim("RegulatingCondEq.RegulatingControl"), c));
+        row.putNonNull("qPercent", sm.get(cim("SynchronousMachine.qPercent"), c));
+    }
+
+    @Override
+    public PropertyBags equivalentInjections() {
+        String type = cim("EquivalentInjection");
+        String name = cim("IdentifiedObject.name");
+        List<String> optionalNames = List.of("minP", "maxP", "minQ", "maxQ", "regulationCapability", "ReactiveCapabilityCurve");
+        List<String> sshNames = List.of("p", "q");
+        List<String> sshPredicates = List.of(cim("EquivalentInjection.p"), cim("EquivalentInjection.q"));
+        List<String> sshOptionalNames = List.of("regulationStatus", "regulationTarget");
+        List<String> sshOptionalPredicates = List.of(cim("EquivalentInjection.regulationStatus"), cim("EquivalentInjection.regulationTarget"));
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject ei : objects.objectsOfType(type)) {
+            for (int c : ei.typeContexts(type)) {
+                if (!ei.hasAll(c, name)) {
+                    continue;
+                }
+                for (CgmesObject t : terminals(ei, c, false)) {
+                    PropertyBag row = bag(EQUIVALENT_INJECTIONS_NAMES);
+                    row.put(GRAPH, graph(c));
+                    row.put("EquivalentInjection", ei.id());
+                    row.put(NAME, ei.get(name, c));
+                    row.put(TERMINAL, t.id());
+                    for (String optionalName : optionalNames) {
+                        row.putNonNull(optionalName, ei.get(cim("EquivalentInjection." + optionalName), c));
+                    }
+                    r.addAll(optionalGraph(Collections.singletonList(row), ei, GRAPH_SSH, sshNames, sshPredicates, sshOptionalNames, sshOptionalPredicates));
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags equivalentShunts() {
+        String type = cim("EquivalentShunt");
+        String name = cim("IdentifiedObject.name");
+        String b = cim("EquivalentShunt.b");
+        String g = cim("EquivalentShunt.g");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject es : objects.objectsOfType(type)) {
+            for (int c : es.typeContexts(type)) {
+                if (!es.hasAll(c, name, b, g)) {
+                    continue;
+                }
+                for (CgmesObject t : terminals(es, c, false)) {
+                    PropertyBag row = bag(EQUIVALENT_SHUNTS_NAMES);
+                    row.put(GRAPH, graph(c));
+                    row.put("EquivalentShunt", es.id());
+                    row.put(NAME, es.get(name, c));
+                    row.put("b", es.get(b, c));
+                    row.put("g", es.get(g, c));
+                    row.put(TERMINAL, t.id());
+                    r.add(row);
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags svInjections() {
+        String type = cim("SvInjection");
+        String topologicalNode = cim("SvInjection.TopologicalNode");
+        String pInjection = cim("SvInjection.pInjection");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject svi : objects.objectsOfType(type)) {
+            for (int c : svi.typeContexts(type)) {
+                if (!svi.hasAll(c, topologicalNode, pInjection)) {
+                    continue;
+                }
+                PropertyBag row = bag(SV_INJECTIONS_NAMES);
+                row.put(GRAPH, graph(c));
+                row.put("SvInjection", svi.id());
+                row.put("TopologicalNode", svi.get(topologicalNode, c));
+                row.put("pInjection", svi.get(pInjection, c));
+                row.putNonNull("qInjection", svi.get(cim("SvInjection.qInjection"), c));
+                r.add(row);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags reactiveCapabilityCurveData() {
+        String[] predicates = {cim("CurveData.Curve"), cim("CurveData.xvalue"), cim("CurveData.y1value")};
+        String[] names = {"ReactiveCapabilityCurve", "xvalue", "y1value"};
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject data : objects.objectsOfType(cim("CurveData"))) {
+            if (!data.hasAll(ANY_CONTEXT, predicates)) {
+                continue;
+            }
+            PropertyBag row = bag(REACTIVE_CAPABILITY_CURVE_DATA_NAMES);
+            row.put("CurveData", data.id());
+            for (int i = 0; i < names.length; i++) {
+                row.put(names[i], data.get(predicates[i], ANY_CONTEXT));
+            }
+            row.putNonNull("y2value", data.get(cim("CurveData.y2value"), ANY_CONTEXT));
+            r.add(row);
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags externalNetworkInjections() {
+        String type = cim("ExternalNetworkInjection");
+        String name = cim("IdentifiedObject.name");
+        String minP = cim("ExternalNetworkInjection.minP");
+        String maxP = cim("ExternalNetworkInjection.maxP");
+        List<String> sshNames = List.of("p", "q", "controlEnabled");
+        List<String> sshPredicates = List.of(cim("ExternalNetworkInjection.p"), cim("ExternalNetworkInjection.q"), cim("RegulatingCondEq.controlEnabled"));
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject eni : objects.objectsOfType(type)) {
+            for (int c : eni.typeContexts(type)) {
+                if (!eni.hasAll(c, name, minP, maxP)) {
+                    continue;
+                }
+                for (CgmesObject t : terminals(eni, c, false)) {
+                    PropertyBag row = bag(EXTERNAL_NETWORK_INJECTIONS_NAMES);
+                    row.put(GRAPH, graph(c));
+                    row.put("ExternalNetworkInjection", eni.id());
+                    row.put(NAME, eni.get(name, c));
+                    row.put("minP", eni.get(minP, c));
+                    row.put("maxP", eni.get(maxP, c));
+                    row.put(TERMINAL, t.id());
+                    row.putNonNull("governorSCD", eni.get(cim("ExternalNetworkInjection.governorSCD"), c));
+                    row.putNonNull("minQ", eni.get(cim("ExternalNetworkInjection.minQ"), c));
+                    row.putNonNull("maxQ", eni.get(cim("ExternalNetworkInjection.maxQ"), c));
+                    row.putNonNull("RegulatingControl", eni.get(cim("RegulatingCondEq.RegulatingControl"), c));
+                    r.addAll(optionalGraph(row, eni, GRAPH_SSH, sshNames, sshPredicates));
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags staticVarCompensators() {
+        String type = cim("StaticVarCompensator");
+        String[] predicates = {cim("IdentifiedObject.name"), cim("StaticVarCompensator.capacitiveRating"), cim("StaticVarCompensator.inductiveRating"),
+            cim("StaticVarCompensator.slope"), cim("StaticVarCompensator.sVCControlMode"), cim("StaticVarCompensator.voltageSetPoint")};
+        String[] names = {NAME, "capacitiveRating", "inductiveRating", "slope", "controlMode", "voltageSetPoint"};
+        List<String> sshNames = List.of("q", "controlEnabled");
+        List<String> sshPredicates = List.of(cim("StaticVarCompensator.q"), cim("RegulatingCondEq.controlEnabled"));
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject svc : objects.objectsOfType(type)) {
+            for (int c : svc.typeContexts(type)) {
+                if (!svc.hasAll(c, predicates)) {
+                    continue;
+                }
+                for (CgmesObject t : terminals(svc, c, false)) {
+                    PropertyBag row = bag(STATIC_VAR_COMPENSATORS_NAMES);
+                    row.put(GRAPH, graph(c));
+                    row.put("StaticVarCompensator", svc.id());
+                    for (int i = 0; i < names.length; i++) {
+                        row.put(names[i], svc.get(predicates[i], c));
+                    }
+                    row.put(TERMINAL, t.id());
+                    row.putNonNull("RegulatingControl", svc.get(cim("RegulatingCondEq.RegulatingControl"), c));
+                    r.addAll(optionalGraph(row, svc, GRAPH_SSH, sshNames, sshPredicates));
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags asynchronousMachines() {
+        String type = cim("AsynchronousMachine");
+        String name = cim("IdentifiedObject.name");
+        List<String> sshNames = List.of(TYPE, "p", "q", "controlEnabled");
+        List<String> sshPredicates = List.of(cim("AsynchronousMachine.asynchronousMachineType"), cim("RotatingMachine.p"), cim("RotatingMachine.q"),
+                cim("RegulatingCondEq.controlEnabled"));
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject am : objects.objectsOfType(type)) {
+            for (int c : am.typeContexts(type)) {
+                if (!am.hasAll(c, name)) {
+                    continue;
+                }
+                for (CgmesObject t : terminals(am, c, false)) {
+                    PropertyBag row = bag(ASYNCHRONOUS_MACHINES_NAMES);
+                    row.put(GRAPH, graph(c));
+                    row.put("AsynchronousMachine", am.id());
+                    row.put(NAME, am.get(name, c));
+                    row.put(TERMINAL, t.id());
+                    r.addAll(optionalGraph(row, am, GRAPH_SSH, sshNames, sshPredicates));
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags controlAreas() {
+        String type = cim("ControlArea");
+        String name = cim("IdentifiedObject.name");
+        String areaType = cim("ControlArea.type");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject area : objects.objectsOfType(type)) {
+            for (int c : area.typeContexts(type)) {
+                String controlAreaType = area.get(areaType, c);
+                if (area.get(name, c) == null || controlAreaType == null || !controlAreaType.toLowerCase().contains("interchange")) {
+                    continue;
+                }
+                PropertyBag row = bag(CONTROL_AREAS_NAMES);
+                row.put(GRAPH, graph(c));
+                row.put("ControlArea", area.id());
+                row.put(NAME, area.get(name, c));
+                row.put("controlAreaType", controlAreaType);
+                row.putNonNull("energyIdentCodeEic", area.get(ENTSOE + "IdentifiedObject.energyIdentCodeEic", c));
+                r.addAll(optionalGraph(Collections.singletonList(row), area, GRAPH_SSH, List.of("netInterchange"), List.of(cim("ControlArea.netInterchange")),
+                        List.of("pTolerance"), List.of(cim("ControlArea.pTolerance"))));
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags acDcConverters() {
+        String name = cim("IdentifiedObject.name");
+        String ratedUdc = cim("ACDCConverter.ratedUdc");
+        String csType = cim("CsConverter");
+        String vsType = cim("VsConverter");
+        String operatingMode = cim("CsConverter.operatingMode");
+        String csPPccControl = cim("CsConverter.pPccControl");
+        String qPccControl = cim("VsConverter.qPccControl");
+        String vsPPccControl = cim("VsConverter.pPccControl");
+        List<String> sshNames = List.of("targetPpcc", "p", "q");
+        List<String> sshPredicates = List.of(cim("ACDCConverter.targetPpcc"), cim("ACDCConverter.p"), cim("ACDCConverter.q"));
+        PropertyBags r = new PropertyBags();
+        for (String type : List.of(cim("ACDCConverter"), csType, vsType)) {
+            for (CgmesObject converter : objects.objectsOfType(type)) {
+                for (int c : converter.typeContexts(type)) {
+                    if (!converter.hasAll(c, name, ratedUdc)) {
+                        continue;
+                    }
+                    for (CgmesObject t : terminals(converter, c, false)) {
+                        PropertyBag row = bag(AC_DC_CONVERTERS_NAMES);
+                        row.put(GRAPH, graph(c));
+                        row.put("ACDCConverter", converter.id());
+                        row.put(TYPE, type);
+                        row.put(NAME, converter.get(name, c));
+                        row.put("ratedUdc", converter.get(ratedUdc, c));
+                        row.put(TERMINAL, t.id());
+                        row.putNonNull("PccTerminal", converter.get(cim("ACDCConverter.PccTerminal"), c));
+                        row.putNonNull("ReactiveCapabilityCurve", converter.get(cim("VsConverter.CapabilityCurve"), c));
+                        List<PropertyBag> rows = optionalGraph(row, converter, GRAPH_SSH, sshNames, sshPredicates);
+                        rows = optionalGraph(rows, converter, GRAPH_SV, List.of("poleLossP"), List.of(cim("ACDCConverter.poleLossP")));
+                        for (PropertyBag rw : rows) {
+                            if (converter.hasType(csType, ANY_CONTEXT) && converter.hasAll(ANY_CONTEXT, operatingMode, csPPccControl)) {
+                                rw.put("operatingMode", converter.get(operatingMode, ANY_CONTEXT));
+                                rw.put("controlMode", converter.get(csPPccControl, ANY_CONTEXT));
+                                rw.putNonNull("targetUdc", converter.get(cim("ACDCConverter.targetUdc"), ANY_CONTEXT));
+                            }
+                            if (converter.hasType(vsType, ANY_CONTEXT) && converter.hasAll(ANY_CONTEXT, qPccControl, vsPPccControl)) {
+                                rw.put("qPccControl", converter.get(qPccControl, ANY_CONTEXT));
+                                rw.put("pPccControl", converter.get(vsPPccControl, ANY_CONTEXT));
+                                rw.putNonNull("targetQpcc", converter.get(cim("VsConverter.targetQpcc"), ANY_CONTEXT));
+                                rw.putNonNull("targetUpcc", converter.get(cim("VsConverter.targetUpcc"), ANY_CONTEXT));
+                            }
+                        }
+                        r.addAll(rows);
+                    }
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags dcTerminals() {
+        String sequenceNumber = cim("ACDCTerminal.sequenceNumber");
+        PropertyBags r = new PropertyBags();
+        dcTerminals(r, cim("DCTerminal"), cim("DCTerminal.DCConductingEquipment"), GRAPH, sequenceNumber);
+        dcTerminals(r, cim("ACDCConverterDCTerminal"), cim("ACDCConverterDCTerminal.DCConductingEquipment"), "graphACDC", sequenceNumber);
+        return r;
+    }
+
+    private void dcTerminals(PropertyBags r, String type, String dcConductingEquipment, String graphName, String sequenceNumber) {
+        for (CgmesObject t : objects.objectsOfType(type)) {
+            for (int c : t.typeContexts(type)) {
+                String equipmentId = t.get(dcConductingEquipment, c);
+                CgmesObject equipment = equipmentId != null ? objects.get(equipmentId) : null;
+                if (equipment == null) {
+                    continue;
+                }
+                for (String equipmentType : equipment.getAll(CgmesObjects.RDF_TYPE, c)) {
+                    PropertyBag row = bag(DC_TERMINALS_NAMES);
+                    row.put(graphName, graph(c));
+                    row.put("DCTerminal", t.id());
+                    row.put("DCConductingEquipment", equipmentId);
+                    row.put("dcConductingEquipmentType", equipmentType);
+                    row.putNonNull("sequenceNumber", t.get(sequenceNumber, c));
+                    row.putNonNull(NAME, t.get(cim("IdentifiedObject.name"), ANY_CONTEXT));
+                    List<PropertyBag> rows = optionalGraph(row, t, GRAPH_SSH, List.of("connected"), List.of(cim("ACDCTerminal.connected")));
+                    rows = optionalGraph(rows, t, "graphCN", List.of("DCNode"), List.of(cim("DCBaseTerminal.DCNode")));
+                    rows = optionalGraph(rows, t, "graphTPT", List.of("DCTopologicalNode"), List.of(cim("DCBaseTerminal.DCTopologicalNode")));
+                    r.addAll(rows);
+                }
+            }
+        }
+    }
+
+    @Override
+    public PropertyBags dcLineSegments() {
+        String type = cim("DCLineSegment");
+        String name = cim("IdentifiedObject.name");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject line : objects.objectsOfType(type)) {
+            for (int c : line.typeContexts(type)) {
+                if (!line.hasAll(c, name)) {
+                    continue;
+                }
+                for (String[] terminals : terminalPairs(line, c, cim("DCTerminal.DCConductingEquipment"), cim("DCTerminal"))) {
+                    PropertyBag row = bag(DC_LINE_SEGMENTS_NAMES);
+                    row.put(GRAPH, graph(c));
+                    row.put("DCLineSegment", line.id());
+                    row.put(NAME, line.get(name, c));
+                    row.putNonNull("r", line.get(cim("DCLineSegment.resistance"), c));
+                    row.putNonNull("l", line.get(cim("DCLineSegment.inductance"), c));
+                    row.putNonNull("c", line.get(cim("DCLineSegment.capacitance"), c));
+                    row.putNonNull("length", line.get(cim("DCLineSegment.length"), c));
+                    putTerminals(row, terminals, "DCTerminal1", "DCTerminal2");
+                    r.add(row);
+                }
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags tieFlows() {
+        String type = cim("TieFlow");
+        String terminal = cim("TieFlow.Terminal");
+        String controlArea = cim("TieFlow.ControlArea");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject tieFlow : objects.objectsOfType(type)) {
+            for (int c : tieFlow.typeContexts(type)) {
+                if (!tieFlow.hasAll(c, terminal, controlArea)) {
+                    continue;
+                }
+                PropertyBag row = bag(TIE_FLOWS_NAMES);
+                row.put(GRAPH, graph(c));
+                row.put("TieFlow", tieFlow.id());
+                row.put("terminal", tieFlow.get(terminal, c));
+                row.put("ControlArea", tieFlow.get(controlArea, c));
+                r.add(row);
+            }
+        }
+        return r;
+    }
+
+    @Override
+    public PropertyBags grounds() {
+        String type = cim("Ground");
+        String name = cim("IdentifiedObject.name");
+        PropertyBags r = new PropertyBags();
+        for (CgmesObject ground : objects.objectsOfType(type)) {
+            for (int c : ground.typeContexts(type)) {
+                if (!ground.hasAll(c, name)) {
+                    continue;
+                }
+                for (CgmesObject t : terminals(ground, c, false)) {
+                    PropertyBag row = bag(GROUNDS_NAMES);
+                    row.put(GRAPH, graph(c));
+                    row.put("Ground", ground.id());
+                    row.put(NAME, ground.get(name, c));
+                    row.put(TERMINAL, t.id());
+                    r.add(row);
+                }
+            }
+        }
+        return r;
+    }
+
+    // Helpers to join the object tables the way the catalog queries do
+
+    private String cim(String name) {
+        return cimNamespace + name;
+    }
+
+    private String graph(int context) {
+        return NAMESPACE_FOR_CONTEXTS + objects.contextName(context);
+    }
+
+    private PropertyBag bag(List<String> propertyNames) {
+        return new PropertyBag(propertyNames, options.isRemoveInitialUnderscoreForIdentifiers(), options.unescapeIdentifiers());
+    }
+
+    private String value(String id, String predicate, int context) {
+        return value(objects.get(id), predicate, context);
+    }
+
+    private static String value(CgmesObject o, String predicate, int context) {
+        return o != null ? o.get(predicate, context) : null;
+    }
+
+    private static String first(CgmesObject o, List<String> predicates, int context) {
+        for (String predicate : predicates) {
+            String v = o.get(predicate, context);
+            if (v != null) {
+                return v;
+            }
+        }
+        return null;
+    }
+
+    private static boolean compatible(PropertyBag row, String name, String value) {
+        String current = row.get(name);
+        return current == null || current.equals(value);
+    }
+
+    private static void putJoined(PropertyBag row, String name, List<String> values) {
+        if (!values.isEmpty()) {
+            row.put(name, String.join(" ", values));
+        }
+    }
+
+    private static void putTerminals(PropertyBag row, String[] terminals, String terminal1, String terminal2) {
+        row.put(terminal1, terminals[0]);
+        row.putNonNull("seq1", terminals[1]);
+        row.put(terminal2, terminals[2]);
+        row.putNonNull("seq2", terminals[3]);
+    }
+
+    /**
+     * Values of a predicate of an object, with the context where each one has been read.
+     */
+    private static List<ContextValue> contextValues(CgmesObject o, String predicate) {
+        List<ContextValue> found = new ArrayList<>(1);
+        for (int i = 0; i < o.size(); i++) {
+            if (o.predicate(i).equals(predicate)) {
+                found.add(new ContextValue(o.value(i), o.context(i)));
+            }
+        }
+        return found;
+    }
+
+    private record ContextValue(String value, int context) {
+    }
+
+    /**
+     * Objects referencing the given one through the predicate in the given context, optionally declared of a type in
+     * that context.
+     */
+    private List<CgmesObject> referencing(String predicate, String id, int context, String type) {
+        List<Reference> references = objects.references(predicate, id);
+        List<CgmesObject> found = new ArrayList<>(references.size());
+        for (Reference ref : references) {
+            if (ref.context() == context && (type == null || ref.subject().hasType(type, context))) {
+                found.add(ref.subject());
+            }
+        }
+        return found;
+    }
+
+    private List<CgmesObject> terminals(CgmesObject equipment, int context, boolean typed) {
+        return referencing(cim("Terminal.ConductingEquipment"), equipment.id(), context, typed ? cim("Terminal") : null);
+    }
+
+    private List<String[]> terminalPairs(CgmesObject equipment, int context, boolean typed) {
+        return terminalPairs(equipment, context, cim("Terminal.ConductingEquipment"), typed ? cim("Terminal") : null);
+    }
+
+    /**
+     * Pairs of terminals of an equipment, as {terminal1, seq1, terminal2, seq2}: the terminals with sequence numbers
+     * 1 and 2, or the terminals without sequence number in ascending order of identifier.
+     */
+    private List<String[]> terminalPairs(CgmesObject equipment, int context, String predicate, String type) {
+        String sequenceNumber = cim("ACDCTerminal.sequenceNumber");
+        List<CgmesObject> terminals = referencing(predicate, equipment.id(), context, type);
+        List<String[]> pairs = new ArrayList<>(1);
+        for (CgmesObject t1 : terminals) {
+            String seq1 = t1.get(sequenceNumber, context);
+            for (CgmesObject t2 : terminals) {
+                String seq2 = t2.get(sequenceNumber, context);
+                if ("1".equals(seq1) && "2".equals(seq2) || seq1 == null && seq2 == null && t1.id().compareTo(t2.id()) < 0) {
+                    pairs.add(new String[] {t1.id(), seq1, t2.id(), seq2});
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private List<PropertyBag> optionalGraph(PropertyBag row, CgmesObject o, String graphName, List<String> names, List<String> predicates) {
+        return optionalGraph(Collections.singletonList(row), o, graphName, names, predicates);
+    }
+
+    private List<PropertyBag> optionalGraph(List<PropertyBag> rows, CgmesObject o, String graphName, List<String> names, List<String> predicates) {
+        return optionalGraph(rows, o, graphName, names, predicates, List.of(), List.of());
+    }
+
+    /**
+     * Optional graph pattern on an object: every row is extended with the values of the predicates for each context
+     * where the object has all of them, and is kept unchanged if there is no such context.
+     */
+    private List<PropertyBag> optionalGraph(List<PropertyBag> rows, CgmesObject o, String graphName, List<String> names, List<String> predicates,
+                                            List<String> optionalNames, List<String> optionalPredicates) {
+        if (o == null) {
+            return rows;
+        }
+        List<Integer> contexts = new ArrayList<>(1);
+        for (int c : o.contextsHaving(predicates.toArray(new String[0]))) {
+            contexts.add(c);
+        }
+        return expand(rows, contexts, (row, c) -> {
+            row.put(graphName, graph(c));
+            for (int i = 0; i < names.size(); i++) {
+                row.put(names.get(i), o.get(predicates.get(i), c));
+            }
+            for (int i = 0; i < optionalNames.size(); i++) {
+                row.putNonNull(optionalNames.get(i), o.get(optionalPredicates.get(i), c));
+            }
+        }, true);
+    }
+
+    /**
+     * Optional graph pattern on the objects of a type referencing a given object: every row is extended with the
+     * values of the predicates of each referencing object having all of them in the context of the reference.
+     */
+    private List<PropertyBag> optionalSubjects(List<PropertyBag> rows, String graphName, String subjectName, String predicate, String id, String type,
+                                               List<String> names, List<String> predicates) {
+        String[] required = predicates.toArray(new String[0]);
+        List<Reference> found = new ArrayList<>(1);
+        for (Reference ref : objects.references(predicate, id)) {
+            if (ref.subject().hasType(type, ref.context()) && ref.subject().hasAll(ref.context(), required)) {
+                found.add(ref);
+            }
+        }
+        return expand(rows, found, (row, ref) -> {
+            row.put(graphName, graph(ref.context()));
+            row.put(subjectName, ref.subject().id());
+            for (int i = 0; i < names.size(); i++) {
+                row.put(names.get(i), ref.subject().get(predicates.get(i), ref.context()));
+            }
+        }, true);
+    }
+
+    private static <T> List<PropertyBag> expand(PropertyBag row, List<T> matches, BiConsumer<PropertyBag, T> binder, boolean optional) {
+        return expand(Collections.singletonList(row), matches, binder, optional);
+    }
+
+    private static <T> List<PropertyBag> expand(List<PropertyBag> rows, List<T> matches, BiConsumer<PropertyBag, T> binder, boolean optional,
+                                                Predicate<T> filter) {
+        List<T> accepted = new ArrayList<>(matches.size());
+        for (T match : matches) {
+            if (filter.test(match)) {
+                accepted.add(match);
+            }
+        }
+        return expand(rows, accepted, binder, optional);
+    }
+
+    private static <T> List<PropertyBag> expand(PropertyBag row, List<T> matches, BiConsumer<PropertyBag, T> binder, boolean optional,
+                                                Predicate<T> filter) {
+        return expand(Collections.singletonList(row), matches, binder, optional, filter);
+    }
+
+    /**
+     * Join the rows with the matches: each row is copied for every match and bound with it. Without any match, rows
+     * are kept if the pattern is optional and discarded otherwise.
+     */
+    private static <T> List<PropertyBag> expand(List<PropertyBag> rows, List<T> matches, BiConsumer<PropertyBag, T> binder, boolean optional) {
+        if (matches.isEmpty()) {
+            return optional ? rows : List.of();
+        }
+        if (matches.size() == 1) {
+            for (PropertyBag row : rows) {
+                binder.accept(row, matches.get(0));
+            }
+            return rows;
+        }
+        List<PropertyBag> expanded = new ArrayList<>(rows.size() * matches.size());
+        for (PropertyBag row : rows) {
+            for (int k = 0; k < matches.size(); k++) {
+                PropertyBag r = k == matches.size() - 1 ? row : row.copy();
+                binder.accept(r, matches.get(k));
+                expanded.add(r);
+            }
+        }
+        return expanded;
+    }
+}
@@ -0,0 +1,304 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.cgmes.model.streaming;
+
+import java.util.*;
+import java.util.function.IntPredicate;
+
+/**
+ * Compact tables of the objects read from CGMES instance files.
+ * <p>
+ * Every object keeps its statements (predicate, value and context where the statement has been read) in parallel
+ * arrays, in reading order. Objects are indexed by identifier and by type. Predicates, types and references are
+ * interned, so the identifier of an object and all the references to it share the same string.
+ * </p>
+ *
+ * @author Elia Group
+ */
+final class CgmesObjects {
+
+    static final String RDF_TYPE = "http://www.w3.org/1999/02/22-rdf-syntax-ns#type";
+
+    static final int ANY_CONTEXT = -1;
+
+    static final class CgmesObject {
+
+        private final String id;
+        private String[] predicates = new String[4];
+        private String[] values = new String[4];
+        private int[] contexts = new int[4];
+        private int size = 0;
+
+        private CgmesObject(String id) {
+            this.id = id;
+        }
+
+        String id() {
+            return id;
+        }
+
+        int size() {
+            return size;
+        }
+
+        String predicate(int i) {
+            return predicates[i];
+        }
+
+        String value(int i) {
+            return values[i];
+        }
+
+        int context(int i) {
+            return contexts[i];
+        }
+
+        private void add(String predicate, String value, int context) {
+            if (size == predicates.length) {
+                int capacity = size * 2;
+                predicates = Arrays.copyOf(predicates, capacity);
+                values = Arrays.copyOf(values, capacity);
+                contexts = Arrays.copyOf(contexts, capacity);
+            }
+            predicates[size] = predicate;
+            values[size] = value;
+            contexts[size] = context;
+            size++;
+        }
+
+        /**
+         * First value of the predicate in the given context, or in any context if {@link #ANY_CONTEXT} is given.
+         */
+        String get(String predicate, int context) {
+            for (int i = 0; i < size; i++) {
+                if ((context == ANY_CONTEXT || contexts[i] == context) && predicates[i].equals(predicate)) {
+                    return values[i];
+                }
+            }
+            return null;
+        }
+
+        boolean has(String predicate, String value, int context) {
+            for (int i = 0; i < size; i++) {
+                if ((context == ANY_CONTEXT || contexts[i] == context) && predicates[i].equals(predicate) && values[i].equals(value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean hasType(String type, int context) {
+            return has(RDF_TYPE, type, context);
+        }
+
+        /**
+         * All the values of the predicate in the given context, in reading order.
+         */
+        List<String> getAll(String predicate, int context) {
+            List<String> all = new ArrayList<>(1);
+            for (int i = 0; i < size; i++) {
+                if ((context == ANY_CONTEXT || contexts[i] == context) && predicates[i].equals(predicate)) {
+                    all.add(values[i]);
+                }
+            }
+            return all;
+        }
+
+        /**
+         * Contexts where the object has a value for all the given predicates, in reading order.
+         */
+        int[] contextsHaving(String... requiredPredicates) {
+            int[] found = new int[0];
+            for (int i = 0; i < size; i++) {
+                int context = contexts[i];
+                if (predicates[i].equals(requiredPredicates[0]) && !contains(found, context) && hasAll(requiredPredicates, context)) {
+                    found = Arrays.copyOf(found, found.length + 1);
+                    found[found.length - 1] = context;
+                }
+            }
+            return found;
+        }
+
+        /**
+         * Contexts where the object has been declared of the given type, in reading order.
+         */
+        int[] typeContexts(String type) {
+            int[] found = new int[0];
+            for (int i = 0; i < size; i++) {
+                if (predicates[i].equals(RDF_TYPE) && values[i].equals(type) && !contains(found, contexts[i])) {
+                    found = Arrays.copyOf(found, found.length + 1);
+                    found[found.length - 1] = contexts[i];
+                }
+            }
+            return found;
+        }
+
+        /**
+         * Check that the object has a value for all the given predicates in the given context.
+         */
+        boolean hasAll(int context, String... requiredPredicates) {
+            return hasAll(requiredPredicates, context);
+        }
+
+        private boolean hasAll(String[] requiredPredicates, int context) {
+            for (String p : requiredPredicates) {
+                if (get(p, context) == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void removeStatements(IntPredicate contextFilter) {
+            int j = 0;
+            for (int i = 0; i < size; i++) {
+                if (!contextFilter.test(contexts[i])) {
+                    predicates[j] = predicates[i];
+                    values[j] = values[i];
+                    contexts[j] = contexts[i];
+                    j++;
+                }
+            }
+            Arrays.fill(predicates, j, size, null);
+            Arrays.fill(values, j, size, null);
+            size = j;
+        }
+
+        private static boolean contains(int[] a, int v) {
+            for (int x : a) {
+                if (x == v) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A statement referencing an object: its subject and the context where it has been read.
+     */
+    record Reference(CgmesObject subject, int context) {
+    }
+
+    private final Map<String, String> strings = new HashMap<>();
+    private final List<String> contextNames = new ArrayList<>();
+    private final Map<String, CgmesObject> objectsById = new LinkedHashMap<>();
+    private final Map<String, List<CgmesObject>> objectsByType = new HashMap<>();
+    private final Map<String, Map<String, List<Reference>>> referencesByPredicate = new HashMap<>();
+
+    String intern(String s) {
+        String interned = strings.putIfAbsent(s, s);
+        return interned != null ? interned : s;
+    }
+
+    int context(String contextName) {
+        int context = contextNames.indexOf(contextName);
+        if (context < 0) {
+            contextNames.add(contextName);
+            context = contextNames.size() - 1;
+        }
+        return context;
+    }
+
+    String contextName(int context) {
+        return contextNames.get(context);
+    }
+
+    List<String> contextNames() {
+        return Collections.unmodifiableList(contextNames);
+    }
+
+    CgmesObject getOrCreate(String id) {
+        return objectsById.computeIfAbsent(intern(id), CgmesObject::new);
+    }
+
+    CgmesObject get(String id) {
+        return objectsById.get(id);
+    }
+
+    Collection<CgmesObject> objects() {
+        return Collections.unmodifiableCollection(objectsById.values());
+    }
+
+    void add(CgmesObject subject, String predicate, String value, boolean resource, int context) {
+        String p = intern(predicate);
+        String v = resource ? intern(value) : value;
+        if (p.equals(RDF_TYPE) && !subject.has(RDF_TYPE, v, ANY_CONTEXT)) {
+            objectsByType.computeIfAbsent(v, k -> new ArrayList<>()).add(subject);
+        }
+        subject.add(p, v, context);
+        if (!referencesByPredicate.isEmpty()) {
+            referencesByPredicate.clear();
+        }
+    }
+
+    /**
+     * Objects declared of the given type in any context, in reading order.
+     */
+    List<CgmesObject> objectsOfType(String type) {
+        return objectsByType.getOrDefault(type, Collections.emptyList());
+    }
+
+    /**
+     * Objects having at least one value for the given predicate, in reading order.
+     */
+    List<CgmesObject> subjects(String predicate) {
+        List<CgmesObject> subjects = new ArrayList<>();
+        for (CgmesObject o : objectsById.values()) {
+            if (o.get(predicate, ANY_CONTEXT) != null) {
+                subjects.add(o);
+            }
+        }
+        return subjects;
+    }
+
+    Set<String> types() {
+        return objectsByType.keySet();
+    }
+
+    /**
+     * Statements with the given predicate referencing the object with the given identifier, in reading order.
+     */
+    List<Reference> references(String predicate, String id) {
+        Map<String, List<Reference>> references = referencesByPredicate.computeIfAbsent(predicate, this::indexReferences);
+        return references.getOrDefault(id, Collections.emptyList());
+    }
+
+    private Map<String, List<Reference>> indexReferences(String predicate) {
+        Map<String, List<Reference>> references = new HashMap<>();
+        for (CgmesObject o : objectsById.values()) {
+            for (int i = 0; i < o.size(); i++) {
+                if (o.predicate(i).equals(predicate)) {
+                    references.computeIfAbsent(o.value(i), k -> new ArrayList<>(2)).add(new Reference(o, o.context(i)));
+                }
+            }
+        }
+        return references;
+    }
+
+    /**
+     * Remove all the statements read in the contexts accepted by the filter.
+     */
+    void clear(IntPredicate contextFilter) {
+        for (CgmesObject o : objectsById.values()) {
+            o.removeStatements(contextFilter);
+        }
+        objectsById.values().removeIf(o -> o.size() == 0);
+        objectsByType.clear();
+        for (CgmesObject o : objectsById.values()) {
+            for (String type : new LinkedHashSet<>(o.getAll(RDF_TYPE, ANY_CONTEXT))) {
+                objectsByType.computeIfAbsent(type, k -> new ArrayList<>()).add(o);
+            }
+        }
+        referencesByPredicate.clear();
+    }
+
+    int size() {
+        return objectsById.size();
+    }
+}
@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.cgmes.model.streaming;
+
+import com.google.common.base.Suppliers;
+import com.powsybl.cgmes.model.CgmesModelException;
+import com.powsybl.cgmes.model.streaming.CgmesObjects.CgmesObject;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Single pass StAX reader of the RDF/XML subset used by CGMES instance files: node elements identified by
+ * <code>rdf:ID</code> or <code>rdf:about</code>, literal property elements and property elements referencing other
+ * objects with <code>rdf:resource</code>. Statements are added to {@link CgmesObjects} as they are read.
+ *
+ * @author Elia Group
+ */
+final class RdfXmlStreamReader {
+
+    private static final String RDF_NAMESPACE = "http://www.w3.org/1999/02/22-rdf-syntax-ns#";
+    private static final Pattern ABSOLUTE_IRI = Pattern.compile("^[a-zA-Z][a-zA-Z0-9+.-]*:.*");
+
+    private static final Supplier<XMLInputFactory> XML_INPUT_FACTORY_SUPPLIER = Suppliers.memoize(() -> {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    });
+
+    private final CgmesObjects objects;
+    private final int context;
+    private final StringBuilder text = new StringBuilder();
+    private String base;
+    private int blankNodeCount = 0;
+
+    private RdfXmlStreamReader(CgmesObjects objects, String baseName, int context) {
+        this.objects = objects;
+        this.base = baseIri(baseName);
+        this.context = context;
+    }
+
+    static void read(InputStream is, String baseName, String contextName, CgmesObjects objects) {
+        RdfXmlStreamReader reader = new RdfXmlStreamReader(objects, baseName, objects.context(contextName));
+        try {
+            XMLStreamReader xmlsr = XML_INPUT_FACTORY_SUPPLIER.get().createXMLStreamReader(is);
+            try {
+                reader.readDocument(xmlsr);
+            } finally {
+                xmlsr.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new CgmesModelException(String.format("Reading %s %s", baseName, contextName), e);
+        }
+    }
+
+    private void readDocument(XMLStreamReader xmlsr) throws XMLStreamException {
+        while (xmlsr.hasNext()) {
+            if (xmlsr.next() == XMLStreamConstants.START_ELEMENT) {
+                String xmlBase = xmlsr.getAttributeValue(XMLConstants.XML_NS_URI, "base");
+                if (xmlBase != null) {
+                    base = baseIri(xmlBase);
+                }
+                if (isRdf(xmlsr, "RDF")) {
+                    readNodeElements(xmlsr);
+                } else {
+                    readNodeElement(xmlsr);
+                }
+                return;
+            }
+        }
+    }
+
+    private void readNodeElements(XMLStreamReader xmlsr) throws XMLStreamException {
+        while (xmlsr.hasNext()) {
+            int event = xmlsr.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                readNodeElement(xmlsr);
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Read a node element, the reader being on its start element. Returns the identifier of the object.
+     */
+    private String readNodeElement(XMLStreamReader xmlsr) throws XMLStreamException {
+        CgmesObject subject = objects.getOrCreate(subjectId(xmlsr));
+        if (!isRdf(xmlsr, "Description")) {
+            objects.add(subject, CgmesObjects.RDF_TYPE, xmlsr.getNamespaceURI() + xmlsr.getLocalName(), true, context);
+        }
+        for (int i = 0; i < xmlsr.getAttributeCount(); i++) {
+            String namespace = xmlsr.getAttributeNamespace(i);
+            if (RDF_NAMESPACE.equals(namespace) && "type".equals(xmlsr.getAttributeLocalName(i))) {
+                objects.add(subject, CgmesObjects.RDF_TYPE, resolve(xmlsr.getAttributeValue(i)), true, context);
+            } else if (namespace != null && !namespace.isEmpty() && !RDF_NAMESPACE.equals(namespace) && !XMLConstants.XML_NS_URI.equals(namespace)) {
+                objects.add(subject, namespace + xmlsr.getAttributeLocalName(i), xmlsr.getAttributeValue(i), false, context);
+            }
+        }
+        while (xmlsr.hasNext()) {
+            int event = xmlsr.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                readPropertyElement(xmlsr, subject);
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                break;
+            }
+        }
+        return subject.id();
+    }
+
+    private void readPropertyElement(XMLStreamReader xmlsr, CgmesObject subject) throws XMLStreamException {
+        String predicate = xmlsr.getNamespaceURI() + xmlsr.getLocalName();
+        if (xmlsr.getAttributeValue(RDF_NAMESPACE, "parseType") != null) {
+            throw new XMLStreamException("rdf:parseType is not supported", xmlsr.getLocation());
+        }
+        String resource = xmlsr.getAttributeValue(RDF_NAMESPACE, "resource");
+        if (resource == null) {
+            String nodeId = xmlsr.getAttributeValue(RDF_NAMESPACE, "nodeID");
+            resource = nodeId != null ? "_:" + nodeId : null;
+        }
+        text.setLength(0);
+        String nested = null;
+        while (xmlsr.hasNext()) {
+            int event = xmlsr.next();
+            if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE || event == XMLStreamConstants.ENTITY_REFERENCE) {
+                text.append(xmlsr.getText());
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                // Striped syntax, the value is an object described inside the property element
+                nested = readNodeElement(xmlsr);
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                break;
+            }
+        }
+        if (resource != null) {
+            objects.add(subject, predicate, resolve(resource), true, context);
+        } else if (nested != null) {
+            objects.add(subject, predicate, nested, true, context);
+        } else {
+            objects.add(subject, predicate, text.toString(), false, context);
+        }
+    }
+
+    private String subjectId(XMLStreamReader xmlsr) {
+        String id = xmlsr.getAttributeValue(RDF_NAMESPACE, "ID");
+        if (id != null) {
+            return base + "#" + id;
+        }
+        String about = xmlsr.getAttributeValue(RDF_NAMESPACE, "about");
+        if (about != null) {
+            return resolve(about);
+        }
+        String nodeId = xmlsr.getAttributeValue(RDF_NAMESPACE, "nodeID");
+        if (nodeId != null) {
+            return "_:" + nodeId;
+        }
+        return "_:genid" + context + "-" + ++blankNodeCount;
+    }
+
+    private String resolve(String reference) {
+        if (reference.startsWith("#")) {
+            return base + reference;
+        }
+        if (ABSOLUTE_IRI.matcher(reference).matches()) {
+            return reference;
+        }
+        try {
+            return URI.create(base).resolve(reference).toString();
+        } catch (IllegalArgumentException e) {
+            return base + reference;
+        }
+    }
+
+    /**
+     * Base IRI without fragment, with an empty path normalized to "/" as RFC 3986 reference resolution does.
+     */
+    private static String baseIri(String iri) {
+        int hash = iri.indexOf('#');
+        String base = hash >= 0 ? iri.substring(0, hash) : iri;
+        try {
+            URI uri = URI.create(base);
+            if (uri.getRawAuthority() != null && (uri.getRawPath() == null || uri.getRawPath().isEmpty()) && uri.getRawQuery() == null) {
+                return base + "/";
+            }
+        } catch (IllegalArgumentException e) {
+            // Not a valid URI, keep it as given
+        }
+        return base;
+    }
+
+    private static boolean isRdf(XMLStreamReader xmlsr, String localName) {
+        return RDF_NAMESPACE.equals(xmlsr.getNamespaceURI()) && localName.equals(xmlsr.getLocalName());
+    }
+}
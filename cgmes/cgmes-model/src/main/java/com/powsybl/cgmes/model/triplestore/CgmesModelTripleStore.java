@@ -10,6 +10,7 @@ package com.powsybl.cgmes.model.triplestore;
 
 import com.powsybl.cgmes.model.*;
 import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.triplestore.api.*;
 import org.apache.commons.lang3.EnumUtils;
@@ -18,25 +19,15 @@ import org.slf4j.LoggerFactory;
 
 import java.io.InputStream;
 import java.io.PrintStream;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
-import java.time.temporal.ChronoField;
-import java.time.temporal.TemporalAccessor;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import static com.powsybl.cgmes.model.CgmesNamespace.CGMES_EQ_3_OR_GREATER_PREFIX;
-import static com.powsybl.cgmes.model.CgmesNamespace.CIM_100_EQ_PROFILE;
-
 /**
  * @author Luma Zamarreño {@literal <zamarrenolm at aia.es>}
  */
@@ -61,6 +52,20 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
         tripleStore.read(is, baseName, contextName);
     }
 
+    @Override
+    protected void read(ReadOnlyDataSource ds, List<String> names, ReportNode reportNode) {
+        // Reset cached nodeBreaker value everytime we read new data
+        nodeBreaker = null;
+        try {
+            tripleStore.read(ds, getBasename(), names);
+        } catch (TripleStoreReadException e) {
+            // same failure as when the files are read one by one
+            String msg = String.format("Reading [%s]", e.getContextName());
+            LOG.warn(msg);
+            throw new CgmesModelException(msg, e.getCause());
+        }
+    }
+
     @Override
     public void print(PrintStream out) {
         tripleStore.print(out);
@@ -91,35 +96,11 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
 
     // Queries
 
-    private static boolean isEquipmentCore(String profile) {
-        return profile.contains("/EquipmentCore/") || profile.contains("/CIM/CoreEquipment");
-    }
-
-    private static boolean isEquipmentOperation(String profile) {
-        return profile.contains("/EquipmentOperation/") || profile.contains("/CIM/Operation");
-    }
-
     @Override
     public boolean hasEquipmentCore() {
         if (queryCatalog.containsKey(MODEL_PROFILES)) {
             PropertyBags r = namedQuery(MODEL_PROFILES);
-            if (r == null) {
-                return false;
-            }
-            for (PropertyBag m : r) {
-                String p = m.get(PROFILE);
-                if (p != null && isEquipmentCore(p)) {
-                    if (LOG.isInfoEnabled()) {
-                        LOG.info("Model contains Equipment Core data profile in model {}",
-                                m.get(CgmesNames.FULL_MODEL));
-                    }
-                    return true;
-                }
-            }
-
-            // We have a query for model profiles
-            // but none of the FullModel objects contains EquipmentCore profile
-            return false;
+            return r != null && hasEquipmentCore(r);
         }
         // If we do not have a query for model profiles we assume equipment core is
         // available
@@ -129,32 +110,13 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
 
     @Override
     public boolean hasBoundary() {
-        // The Model has boundary if we are able to find models
-        // that have EquipmentBoundary profile
-        // and models that have TopologyBoundary profile
-        boolean hasEquipmentBoundary = false;
-        boolean hasTopologyBoundary = false;
         if (queryCatalog.containsKey(MODEL_PROFILES)) {
             PropertyBags r = namedQuery(MODEL_PROFILES);
-            if (r == null) {
-                return false;
-            }
-            for (PropertyBag m : r) {
-                String p = m.get(PROFILE);
-                String mid = m.get(CgmesNames.FULL_MODEL);
-                if (p != null && p.contains("/EquipmentBoundary/")) {
-                    LOG.info("Model contains EquipmentBoundary data in model {}", mid);
-                    hasEquipmentBoundary = true;
-                }
-                if (p != null && p.contains("/TopologyBoundary/")) {
-                    LOG.info("Model contains TopologyBoundary data in model {}", mid);
-                    hasTopologyBoundary = true;
-                }
-            }
+            return r != null && hasBoundary(r);
         }
         // If we do not have a query for model profiles we assume no boundary exist
         // (Maybe for CIM14 data sources we should rely on file names ?)
-        return hasEquipmentBoundary && hasTopologyBoundary;
+        return false;
     }
 
     @Override
@@ -172,85 +134,7 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
             return false;
         }
         PropertyBags r = namedQuery(MODEL_PROFILES);
-        if (r == null) {
-            return false;
-        }
-        if (allEqCgmes3OrGreater(r)) {
-            return true;
-        }
-        // Only consider is node breaker if all models that have profile
-        // EquipmentCore or EquipmentBoundary
-        // also have EquipmentOperation or EquipmentBoundaryOperation
-        Map<String, Boolean> modelHasOperationProfile = computeModelHasOperationProfile(r);
-        boolean consideredNodeBreaker = modelHasOperationProfile.values().stream().allMatch(Boolean::valueOf);
-        if (LOG.isInfoEnabled()) {
-            logNodeBreaker(consideredNodeBreaker, modelHasOperationProfile);
-        }
-        return consideredNodeBreaker;
-    }
-
-    private boolean allEqCgmes3OrGreater(PropertyBags modelProfiles) {
-        for (PropertyBag mp : modelProfiles) {
-            String p = mp.get(PROFILE);
-            if (p != null && isEquipmentCore(p) && !isEqCgmes3OrGreater(p)) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    private static boolean isEqCgmes3OrGreater(String profile) {
-        return profile.startsWith(CGMES_EQ_3_OR_GREATER_PREFIX) && profile.compareTo(CIM_100_EQ_PROFILE) >= 0;
-    }
-
-    private void logNodeBreaker(boolean consideredNodeBreaker, Map<String, Boolean> modelHasOperationProfile) {
-        if (consideredNodeBreaker) {
-            LOG.info(
-                    "All FullModel objects have EquipmentOperation profile, so conversion will be considered node-breaker");
-        } else {
-            LOG.info(
-                    "Following FullModel objects do not have EquipmentOperation profile, so conversion will not be considered node-breaker:");
-            modelHasOperationProfile.entrySet().forEach(meqop -> {
-                if (!meqop.getValue()) {
-                    LOG.info("    {}", meqop.getKey());
-                }
-            });
-        }
-    }
-
-    private Map<String, Boolean> computeModelHasOperationProfile(PropertyBags modelProfiles) {
-        // A bus/branch model with a single instance file where its node/breaker boundary has been assembled
-        // Must not be considered as node-breaker
-        Map<String, Boolean> modelHasOperationProfile = new HashMap<>();
-        Map<String, Boolean> modelHasBoundaryOperationProfile = new HashMap<>();
-        for (PropertyBag mp : modelProfiles) {
-            String m = mp.get("FullModel");
-            String p = mp.get(PROFILE);
-            if (p != null) {
-                updateModelHasOperationProfile(modelHasOperationProfile, modelHasBoundaryOperationProfile, m, p);
-            }
-        }
-        modelHasBoundaryOperationProfile.forEach((m, v) -> modelHasOperationProfile.merge(m, v, (vm, vbd) -> vm && vbd));
-        return modelHasOperationProfile;
-    }
-
-    private void updateModelHasOperationProfile(Map<String, Boolean> modelHasOperationProfile, Map<String, Boolean> modelHasBoundaryOperationProfile, String model, String profile) {
-        if (isEquipmentCore(profile)) {
-            // Set to false only if we do not have a value already
-            modelHasOperationProfile.putIfAbsent(model, false);
-        }
-        if (isEquipmentOperation(profile)) {
-            modelHasOperationProfile.put(model, true);
-            LOG.info("Model {} is considered node-breaker", model);
-        }
-        if (profile.contains("/EquipmentBoundary/")) {
-            // Set to false only if we do not have a value already
-            modelHasBoundaryOperationProfile.putIfAbsent(model, false);
-        }
-        if (profile.contains("/EquipmentBoundaryOperation/")) {
-            modelHasBoundaryOperationProfile.put(model, true);
-            LOG.info("Model {} boundary is considered node-breaker", model);
-        }
+        return r != null && isNodeBreaker(r);
     }
 
     /**
@@ -315,32 +199,6 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
         return d;
     }
 
-    /**
-     * Parse a date in ISO format. If the offset is not present at the end (ie. no "Z" nor "+xx:xx" or "+xxxx"), it is
-     * assumed that the date is given as UTC.
-     * @param dateAsString Date in ISO format
-     * @return the date as ZonedDateTime
-     */
-    private ZonedDateTime parseDateTime(String dateAsString) {
-        // Definition of the parser according to the expected date format
-        DateTimeFormatter dateTimeFormatterLocalised = new DateTimeFormatterBuilder()
-            // Fixed mandatory pattern
-            .appendPattern("yyyy-MM-dd'T'HH:mm:ss")
-            // Between 0 and 9 decimals (9 is the maximum)
-            .appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true)
-            // Potentially a suffix for localisation (VV: zoneId, x: +HHmm, xx: +HHMM, xxx: +HH:MM)
-            .appendPattern("[VV][x][xx][xxx]")
-            .toFormatter();
-
-        // Parsing
-        TemporalAccessor dateParsed = dateTimeFormatterLocalised.parseBest(dateAsString, ZonedDateTime::from, LocalDateTime::from);
-        if (dateParsed instanceof ZonedDateTime zonedDateTime) {
-            return zonedDateTime;
-        } else {
-            return ZonedDateTime.of((LocalDateTime) dateParsed, ZoneOffset.UTC);
-        }
-    }
-
     @Override
     public String version() {
         String version = "unknown";
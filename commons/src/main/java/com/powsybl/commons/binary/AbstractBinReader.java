@@ -0,0 +1,250 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.binary;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.io.TreeDataHeader;
+import com.powsybl.commons.io.TreeDataReader;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+import static com.powsybl.commons.binary.BinUtil.END_NODE;
+import static com.powsybl.commons.binary.BinUtil.NULL_ENUM;
+
+/**
+ * Decoding of the binary tree data format, independent of the source the bytes are read from.
+ * The implementations only have to provide the reading of the primitive values.
+ *
+ * @author Elia Group
+ */
+public abstract class AbstractBinReader implements TreeDataReader {
+
+    private static final ClassValue<Object[]> ENUM_CONSTANTS = new ClassValue<>() {
+        @Override
+        protected Object[] computeValue(Class<?> type) {
+            return type.getEnumConstants();
+        }
+    };
+
+    private static final String[] EMPTY_DICTIONARY = new String[1];
+
+    private final byte[] binaryMagicNumber;
+
+    /**
+     * Element names indexed by their dictionary index, the index 0 being reserved for the end node
+     */
+    private String[] dictionary = EMPTY_DICTIONARY;
+
+    protected AbstractBinReader(byte[] binaryMagicNumber) {
+        this.binaryMagicNumber = Objects.requireNonNull(binaryMagicNumber);
+    }
+
+    protected abstract short readShort();
+
+    protected abstract int readInt();
+
+    protected abstract double readDouble();
+
+    protected abstract float readFloat();
+
+    protected abstract boolean readBoolean();
+
+    /**
+     * Read a string, encoded as its number of UTF-8 bytes followed by the bytes, or -1 for a null string
+     */
+    protected abstract String readString();
+
+    /**
+     * Read the given number of bytes, or less if the end of the data is reached
+     */
+    protected abstract byte[] readBytes(int nbBytes);
+
+    /**
+     * Read the given number of int values
+     */
+    protected int[] readInts(int nbValues) {
+        int[] values = new int[nbValues];
+        for (int i = 0; i < nbValues; i++) {
+            values[i] = readInt();
+        }
+        return values;
+    }
+
+    @Override
+    public TreeDataHeader readHeader() {
+        readMagicNumber();
+        TreeDataHeader header = new TreeDataHeader(readString(), readExtensionVersions());
+        readDictionary();
+        return header;
+    }
+
+    private void readMagicNumber() {
+        byte[] read = readBytes(binaryMagicNumber.length);
+        if (!Arrays.equals(read, binaryMagicNumber)) {
+            throw new PowsyblException("Unexpected bytes at file start");
+        }
+    }
+
+    public Map<String, String> readExtensionVersions() {
+        int nbVersions = readShort();
+        Map<String, String> versions = new HashMap<>();
+        for (int i = 0; i < nbVersions; i++) {
+            versions.put(readString(), readString());
+        }
+        return versions;
+    }
+
+    private void readDictionary() {
+        int nbEntries = readShort();
+        dictionary = new String[Math.max(nbEntries, 0) + 1];
+        for (int i = 0; i < nbEntries; i++) {
+            dictionary[i + 1] = readString();
+        }
+    }
+
+    private <T extends Enum<T>> T readEnum(Class<T> clazz) {
+        short ordinal = readShort();
+        return ordinal != NULL_ENUM ? clazz.cast(ENUM_CONSTANTS.get(clazz)[ordinal]) : null;
+    }
+
+    private <T> List<T> readArray(Supplier<T> valueReader) {
+        int nbValues = readShort();
+        List<T> values = new ArrayList<>(nbValues);
+        for (int i = 0; i < nbValues; i++) {
+            values.add(valueReader.get());
+        }
+        return values;
+    }
+
+    @Override
+    public double readDoubleAttribute(String name) {
+        return readDouble();
+    }
+
+    @Override
+    public double readDoubleAttribute(String name, double defaultValue) {
+        return readDouble();
+    }
+
+    @Override
+    public OptionalDouble readOptionalDoubleAttribute(String name) {
+        if (!readBoolean()) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(readDouble());
+    }
+
+    @Override
+    public float readFloatAttribute(String name) {
+        return readFloat();
+    }
+
+    @Override
+    public float readFloatAttribute(String name, float defaultValue) {
+        return readFloat();
+    }
+
+    @Override
+    public String readStringAttribute(String name) {
+        return readString();
+    }
+
+    @Override
+    public int readIntAttribute(String name) {
+        return readInt();
+    }
+
+    @Override
+    public OptionalInt readOptionalIntAttribute(String name) {
+        if (!readBoolean()) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(readInt());
+    }
+
+    @Override
+    public int readIntAttribute(String name, int defaultValue) {
+        return readInt();
+    }
+
+    @Override
+    public boolean readBooleanAttribute(String name) {
+        return readBoolean();
+    }
+
+    @Override
+    public boolean readBooleanAttribute(String name, boolean defaultValue) {
+        return readBoolean();
+    }
+
+    @Override
+    public Optional<Boolean> readOptionalBooleanAttribute(String name) {
+        if (!readBoolean()) {
+            return Optional.empty();
+        }
+        return Optional.of(readBoolean());
+    }
+
+    @Override
+    public <T extends Enum<T>> T readEnumAttribute(String name, Class<T> clazz) {
+        return readEnum(clazz);
+    }
+
+    @Override
+    public <T extends Enum<T>> T readEnumAttribute(String name, Class<T> clazz, T defaultValue) {
+        return readEnum(clazz);
+    }
+
+    @Override
+    public String readContent() {
+        String content = readString();
+        readEndNode();
+        return content;
+    }
+
+    @Override
+    public List<Integer> readIntArrayAttribute(String name) {
+        int[] values = readInts(readShort());
+        List<Integer> list = new ArrayList<>(values.length);
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Override
+    public List<String> readStringArrayAttribute(String name) {
+        return readArray(this::readString);
+    }
+
+    @Override
+    public void skipChildNodes() {
+        throw new PowsyblException("Binary format does not support skipping child nodes");
+    }
+
+    @Override
+    public void readChildNodes(ChildNodeReader childNodeReader) {
+        int nodeNameIndex;
+        while ((nodeNameIndex = readShort()) != END_NODE) {
+            String nodeName = nodeNameIndex > 0 && nodeNameIndex < dictionary.length ? dictionary[nodeNameIndex] : null;
+            if (nodeName == null) {
+                throw new PowsyblException("Cannot read child node: unknown element name index " + nodeNameIndex);
+            }
+            childNodeReader.onStartNode(nodeName);
+        }
+    }
+
+    @Override
+    public void readEndNode() {
+        int nextIndex = readShort();
+        if (nextIndex != END_NODE) {
+            throw new PowsyblException("Binary parsing: expected end node but got " + nextIndex);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.binary;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.io.TreeDataNode;
+import com.powsybl.commons.io.TreeDataNodeCodec;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Binary encoding of tree data nodes. Contrary to the binary format written by {@link BinWriter}, each value is
+ * preceded by its attribute name index and its type, so that the nodes can be decoded without knowing their schema.
+ * <p>
+ * The encoding starts with the dictionary of the node and attribute names, followed by the nodes. Each node is
+ * encoded as its name index, its attributes, its optional content and its child nodes.
+ *
+ * @author Elia Group
+ */
+public class BinTreeDataNodeCodec implements TreeDataNodeCodec {
+
+    private static final byte STRING = 0;
+    private static final byte INT = 1;
+    private static final byte FLOAT = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte INT_LIST = 5;
+    private static final byte STRING_LIST = 6;
+
+    @Override
+    public void write(TreeDataNode node, OutputStream os) {
+        try {
+            Map<String, Integer> dictionary = new LinkedHashMap<>();
+            fillDictionary(node, dictionary);
+            DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(os));
+            dos.writeInt(dictionary.size());
+            for (String name : dictionary.keySet()) {
+                writeString(name, dos);
+            }
+            writeNode(node, dictionary, dos);
+            dos.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void fillDictionary(TreeDataNode node, Map<String, Integer> dictionary) {
+        dictionary.putIfAbsent(node.getName(), dictionary.size());
+        for (String attributeName : node.getAttributes().keySet()) {
+            dictionary.putIfAbsent(attributeName, dictionary.size());
+        }
+        for (TreeDataNode child : node.getChildren()) {
+            fillDictionary(child, dictionary);
+        }
+    }
+
+    private static void writeString(String value, DataOutputStream dos) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        dos.writeInt(bytes.length);
+        dos.write(bytes);
+    }
+
+    private static void writeNode(TreeDataNode node, Map<String, Integer> dictionary, DataOutputStream dos) throws IOException {
+        dos.writeInt(dictionary.get(node.getName()));
+        dos.writeInt(node.getAttributes().size());
+        for (Map.Entry<String, Object> e : node.getAttributes().entrySet()) {
+            dos.writeInt(dictionary.get(e.getKey()));
+            writeValue(e.getValue(), dos);
+        }
+        dos.writeBoolean(node.getContent() != null);
+        if (node.getContent() != null) {
+            writeString(node.getContent(), dos);
+        }
+        dos.writeInt(node.getChildren().size());
+        for (TreeDataNode child : node.getChildren()) {
+            writeNode(child, dictionary, dos);
+        }
+    }
+
+    private static void writeValue(Object value, DataOutputStream dos) throws IOException {
+        if (value instanceof Integer i) {
+            dos.writeByte(INT);
+            dos.writeInt(i);
+        } else if (value instanceof Float f) {
+            dos.writeByte(FLOAT);
+            dos.writeFloat(f);
+        } else if (value instanceof Double d) {
+            dos.writeByte(DOUBLE);
+            dos.writeDouble(d);
+        } else if (value instanceof Boolean b) {
+            dos.writeByte(BOOLEAN);
+            dos.writeBoolean(b);
+        } else if (value instanceof List<?> list) {
+            boolean intList = !list.isEmpty() && list.get(0) instanceof Integer;
+            dos.writeByte(intList ? INT_LIST : STRING_LIST);
+            dos.writeInt(list.size());
+            for (Object element : list) {
+                if (intList) {
+                    dos.writeInt((Integer) element);
+                } else {
+                    writeString(element.toString(), dos);
+                }
+            }
+        } else {
+            dos.writeByte(STRING);
+            writeString(value.toString(), dos);
+        }
+    }
+
+    @Override
+    public TreeDataNode read(InputStream is) {
+        try {
+            DataInputStream dis = new DataInputStream(new BufferedInputStream(Objects.requireNonNull(is)));
+            String[] dictionary = new String[dis.readInt()];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = readString(dis);
+            }
+            return readNode(dis, dictionary, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String readString(DataInputStream dis) throws IOException {
+        byte[] bytes = new byte[dis.readInt()];
+        dis.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static TreeDataNode readNode(DataInputStream dis, String[] dictionary, TreeDataNode parent) throws IOException {
+        String name = dictionary[dis.readInt()];
+        TreeDataNode node = parent != null ? parent.addChild(name) : new TreeDataNode(name);
+        int attributeCount = dis.readInt();
+        for (int i = 0; i < attributeCount; i++) {
+            String attributeName = dictionary[dis.readInt()];
+            node.setAttribute(attributeName, readValue(dis));
+        }
+        if (dis.readBoolean()) {
+            node.setContent(readString(dis));
+        }
+        int childCount = dis.readInt();
+        for (int i = 0; i < childCount; i++) {
+            readNode(dis, dictionary, node);
+        }
+        return node;
+    }
+
+    private static Object readValue(DataInputStream dis) throws IOException {
+        byte type = dis.readByte();
+        return switch (type) {
+            case STRING -> readString(dis);
+            case INT -> dis.readInt();
+            case FLOAT -> dis.readFloat();
+            case DOUBLE -> dis.readDouble();
+            case BOOLEAN -> dis.readBoolean();
+            case INT_LIST -> {
+                int size = dis.readInt();
+                List<Integer> values = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    values.add(dis.readInt());
+                }
+                yield values;
+            }
+            case STRING_LIST -> {
+                int size = dis.readInt();
+                List<String> values = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    values.add(readString(dis));
+                }
+                yield values;
+            }
+            default -> throw new PowsyblException("Binary tree data node: unknown value type " + type);
+        };
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.binary;
+
+import com.powsybl.commons.PowsyblException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Binary reader decoding the values directly from a {@link ByteBuffer}, typically a memory mapped file.
+ * Contrary to {@link BinReader}, there is no intermediate buffering and no checked exception to wrap on each
+ * read value: reading past the end of the buffer throws a {@link java.nio.BufferUnderflowException}.
+ *
+ * @author Elia Group
+ */
+public class ByteBufferBinReader extends AbstractBinReader {
+
+    private final ByteBuffer buffer;
+
+    private byte[] stringBytes = new byte[64];
+
+    public ByteBufferBinReader(ByteBuffer buffer, byte[] binaryMagicNumber) {
+        super(binaryMagicNumber);
+        // Same byte order as the DataOutputStream used by the writer
+        this.buffer = Objects.requireNonNull(buffer).duplicate().order(ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Create a reader over the given file mapped in memory.
+     * The file is unmapped when the buffer is garbage collected, closing the reader has no effect on it.
+     */
+    public static ByteBufferBinReader map(Path file, byte[] binaryMagicNumber) throws IOException {
+        return new ByteBufferBinReader(mapFile(file), binaryMagicNumber);
+    }
+
+    /**
+     * Map the given file in memory, in read only mode
+     */
+    public static ByteBuffer mapFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new PowsyblException("Cannot map file " + file + ": size " + size + " is too large");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    @Override
+    protected byte[] readBytes(int nbBytes) {
+        byte[] bytes = new byte[Math.min(nbBytes, buffer.remaining())];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    @Override
+    protected String readString() {
+        int stringNbBytes = buffer.getShort();
+        if (stringNbBytes == -1) {
+            return null;
+        }
+        int remaining = buffer.remaining();
+        if (remaining < stringNbBytes) {
+            throw new PowsyblException("Cannot read the full string, bytes missing: " + (stringNbBytes - remaining));
+        }
+        String string;
+        if (buffer.hasArray()) {
+            string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), stringNbBytes, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + stringNbBytes);
+        } else {
+            if (stringBytes.length < stringNbBytes) {
+                stringBytes = new byte[Math.max(stringNbBytes, 2 * stringBytes.length)];
+            }
+            buffer.get(stringBytes, 0, stringNbBytes);
+            string = new String(stringBytes, 0, stringNbBytes, StandardCharsets.UTF_8);
+        }
+        return string;
+    }
+
+    @Override
+    protected short readShort() {
+        return buffer.getShort();
+    }
+
+    @Override
+    protected int readInt() {
+        return buffer.getInt();
+    }
+
+    @Override
+    protected int[] readInts(int nbValues) {
+        int[] values = new int[nbValues];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + nbValues * Integer.BYTES);
+        return values;
+    }
+
+    @Override
+    protected double readDouble() {
+        return buffer.getDouble();
+    }
+
+    @Override
+    protected float readFloat() {
+        return buffer.getFloat();
+    }
+
+    @Override
+    protected boolean readBoolean() {
+        return buffer.get() != 0;
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release, the buffer is owned by the caller
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.io;
+
+import java.util.*;
+
+/**
+ * In-memory node of tree data, holding its attributes, its content and its child nodes.
+ * <p>
+ * Attribute values are {@link String}, {@link Integer}, {@link Float}, {@link Double}, {@link Boolean} or lists of
+ * integers or strings. Enum values are stored as their name. Depending on the format the node has been decoded from,
+ * all the values may also be given as strings.
+ *
+ * @author Elia Group
+ */
+public final class TreeDataNode {
+
+    private final String name;
+
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+
+    private final List<TreeDataNode> children = new ArrayList<>();
+
+    private String content;
+
+    public TreeDataNode(String name) {
+        this.name = Objects.requireNonNull(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Map<String, Object> getAttributes() {
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    public TreeDataNode setAttribute(String name, Object value) {
+        attributes.put(Objects.requireNonNull(name), Objects.requireNonNull(value));
+        return this;
+    }
+
+    public List<TreeDataNode> getChildren() {
+        return Collections.unmodifiableList(children);
+    }
+
+    public TreeDataNode addChild(String name) {
+        TreeDataNode child = new TreeDataNode(name);
+        children.add(child);
+        return child;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public TreeDataNode setContent(String content) {
+        this.content = content;
+        return this;
+    }
+}
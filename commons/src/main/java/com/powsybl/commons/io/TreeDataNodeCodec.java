@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.io;
+
+import com.powsybl.commons.binary.BinTreeDataNodeCodec;
+import com.powsybl.commons.json.JsonTreeDataNodeCodec;
+import com.powsybl.commons.xml.XmlTreeDataNodeCodec;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Encoding of a {@link TreeDataNode} and its descendants in a self-describing form, so that it can be decoded without
+ * knowing the schema of the data. The implementations are stateless and can be used concurrently.
+ *
+ * @author Elia Group
+ */
+public interface TreeDataNodeCodec {
+
+    static TreeDataNodeCodec of(TreeDataFormat format) {
+        return switch (format) {
+            case XML -> new XmlTreeDataNodeCodec();
+            case JSON -> new JsonTreeDataNodeCodec();
+            case BIN -> new BinTreeDataNodeCodec();
+        };
+    }
+
+    void write(TreeDataNode node, OutputStream os);
+
+    TreeDataNode read(InputStream is);
+}
@@ -0,0 +1,215 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.io;
+
+import com.powsybl.commons.PowsyblException;
+
+import java.util.*;
+
+/**
+ * Reader of tree data held in {@link TreeDataNode} objects. The reader starts inside the given node, as a reader
+ * of another format would be just after having notified the start of that node to a {@link ChildNodeReader}.
+ * <p>
+ * Attributes are looked up by name in the current node, and converted to the requested type if they are given as
+ * strings.
+ *
+ * @author Elia Group
+ */
+public class TreeDataNodeReader implements TreeDataReader {
+
+    private final Deque<TreeDataNode> nodes = new ArrayDeque<>();
+
+    public TreeDataNodeReader(TreeDataNode node) {
+        nodes.push(Objects.requireNonNull(node));
+    }
+
+    private TreeDataNode currentNode() {
+        TreeDataNode node = nodes.peek();
+        if (node == null) {
+            throw new PowsyblException("Tree data node reader: all the nodes have already been read");
+        }
+        return node;
+    }
+
+    private Object getAttribute(String name) {
+        return currentNode().getAttribute(Objects.requireNonNull(name));
+    }
+
+    private Object getRequiredAttribute(String name) {
+        Object value = getAttribute(name);
+        if (value == null) {
+            throw new PowsyblException("Tree data node reader: attribute '" + name + "' not found in node '" + currentNode().getName() + "'");
+        }
+        return value;
+    }
+
+    private static double toDouble(Object value) {
+        return value instanceof Number number ? number.doubleValue() : Double.parseDouble(value.toString());
+    }
+
+    private static float toFloat(Object value) {
+        return value instanceof Number number ? number.floatValue() : Float.parseFloat(value.toString());
+    }
+
+    private static int toInt(Object value) {
+        return value instanceof Number number ? number.intValue() : Integer.parseInt(value.toString());
+    }
+
+    private static boolean toBoolean(Object value) {
+        return value instanceof Boolean b ? b : Boolean.parseBoolean(value.toString());
+    }
+
+    private static List<?> toList(Object value) {
+        return value instanceof List<?> list ? list : Arrays.asList(value.toString().split(","));
+    }
+
+    @Override
+    public TreeDataHeader readHeader() {
+        throw new PowsyblException("Tree data node reader does not support reading a header");
+    }
+
+    @Override
+    public double readDoubleAttribute(String name) {
+        return readDoubleAttribute(name, Double.NaN);
+    }
+
+    @Override
+    public double readDoubleAttribute(String name, double defaultValue) {
+        Object value = getAttribute(name);
+        return value != null ? toDouble(value) : defaultValue;
+    }
+
+    @Override
+    public OptionalDouble readOptionalDoubleAttribute(String name) {
+        Object value = getAttribute(name);
+        return value != null ? OptionalDouble.of(toDouble(value)) : OptionalDouble.empty();
+    }
+
+    @Override
+    public float readFloatAttribute(String name) {
+        return readFloatAttribute(name, Float.NaN);
+    }
+
+    @Override
+    public float readFloatAttribute(String name, float defaultValue) {
+        Object value = getAttribute(name);
+        return value != null ? toFloat(value) : defaultValue;
+    }
+
+    @Override
+    public String readStringAttribute(String name) {
+        Object value = getAttribute(name);
+        return value != null ? value.toString() : null;
+    }
+
+    @Override
+    public int readIntAttribute(String name) {
+        return toInt(getRequiredAttribute(name));
+    }
+
+    @Override
+    public OptionalInt readOptionalIntAttribute(String name) {
+        Object value = getAttribute(name);
+        return value != null ? OptionalInt.of(toInt(value)) : OptionalInt.empty();
+    }
+
+    @Override
+    public int readIntAttribute(String name, int defaultValue) {
+        Object value = getAttribute(name);
+        return value != null ? toInt(value) : defaultValue;
+    }
+
+    @Override
+    public boolean readBooleanAttribute(String name) {
+        return toBoolean(getRequiredAttribute(name));
+    }
+
+    @Override
+    public boolean readBooleanAttribute(String name, boolean defaultValue) {
+        Object value = getAttribute(name);
+        return value != null ? toBoolean(value) : defaultValue;
+    }
+
+    @Override
+    public Optional<Boolean> readOptionalBooleanAttribute(String name) {
+        Object value = getAttribute(name);
+        return value != null ? Optional.of(toBoolean(value)) : Optional.empty();
+    }
+
+    @Override
+    public <T extends Enum<T>> T readEnumAttribute(String name, Class<T> clazz) {
+        return readEnumAttribute(name, clazz, null);
+    }
+
+    @Override
+    public <T extends Enum<T>> T readEnumAttribute(String name, Class<T> clazz, T defaultValue) {
+        Object value = getAttribute(name);
+        return value != null ? Enum.valueOf(clazz, value.toString()) : defaultValue;
+    }
+
+    @Override
+    public String readContent() {
+        String content = currentNode().getContent();
+        readEndNode();
+        return content;
+    }
+
+    @Override
+    public List<Integer> readIntArrayAttribute(String name) {
+        Object value = getAttribute(name);
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        List<?> values = toList(value);
+        List<Integer> ints = new ArrayList<>(values.size());
+        for (Object v : values) {
+            ints.add(toInt(v));
+        }
+        return ints;
+    }
+
+    @Override
+    public List<String> readStringArrayAttribute(String name) {
+        Object value = getAttribute(name);
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        return toList(value).stream().map(Object::toString).toList();
+    }
+
+    @Override
+    public void skipChildNodes() {
+        readEndNode();
+    }
+
+    @Override
+    public void readChildNodes(ChildNodeReader childNodeReader) {
+        Objects.requireNonNull(childNodeReader);
+        TreeDataNode node = currentNode();
+        int depth = nodes.size();
+        for (TreeDataNode child : node.getChildren()) {
+            nodes.push(child);
+            childNodeReader.onStartNode(child.getName());
+            if (nodes.size() != depth) {
+                throw new PowsyblException("Tree data node reader: node '" + child.getName() + "' has not been fully read");
+            }
+        }
+        readEndNode();
+    }
+
+    @Override
+    public void readEndNode() {
+        currentNode();
+        nodes.pop();
+    }
+
+    @Override
+    public void close() {
+        // nothing to close
+    }
+}
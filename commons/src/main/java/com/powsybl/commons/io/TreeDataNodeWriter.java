@@ -0,0 +1,173 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.io;
+
+import com.powsybl.commons.PowsyblException;
+
+import java.util.*;
+
+/**
+ * Writer recording the written tree data in {@link TreeDataNode} objects.
+ * All the values are recorded, even if they are equal to the absent value, except null ones.
+ *
+ * @author Elia Group
+ */
+public class TreeDataNodeWriter implements TreeDataWriter {
+
+    private final Deque<TreeDataNode> nodes = new ArrayDeque<>();
+
+    private TreeDataNode root;
+
+    /**
+     * Get the first node written, or null if no node has been written yet
+     */
+    public TreeDataNode getRoot() {
+        return root;
+    }
+
+    private TreeDataNode currentNode() {
+        TreeDataNode node = nodes.peek();
+        if (node == null) {
+            throw new PowsyblException("No started node");
+        }
+        return node;
+    }
+
+    @Override
+    public void writeStartNodes() {
+        // nothing to do
+    }
+
+    @Override
+    public void writeEndNodes() {
+        // nothing to do
+    }
+
+    @Override
+    public void writeStartNode(String namespace, String name) {
+        TreeDataNode node;
+        if (nodes.isEmpty()) {
+            if (root != null) {
+                throw new PowsyblException("Root node already written");
+            }
+            node = new TreeDataNode(name);
+            root = node;
+        } else {
+            node = nodes.peek().addChild(name);
+        }
+        nodes.push(node);
+    }
+
+    @Override
+    public void writeEndNode() {
+        currentNode();
+        nodes.pop();
+    }
+
+    @Override
+    public void writeNamespace(String prefix, String namespace) {
+        // nothing to do
+    }
+
+    @Override
+    public void writeNodeContent(String value) {
+        currentNode().setContent(value);
+    }
+
+    private void writeAttribute(String name, Object value) {
+        if (value != null) {
+            currentNode().setAttribute(name, value);
+        }
+    }
+
+    @Override
+    public void writeStringAttribute(String name, String value) {
+        writeAttribute(name, value);
+    }
+
+    @Override
+    public void writeFloatAttribute(String name, float value) {
+        writeAttribute(name, value);
+    }
+
+    @Override
+    public void writeDoubleAttribute(String name, double value) {
+        writeAttribute(name, value);
+    }
+
+    @Override
+    public void writeDoubleAttribute(String name, double value, double absentValue) {
+        writeAttribute(name, value);
+    }
+
+    @Override
+    public void writeOptionalDoubleAttribute(String name, Double value) {
+        writeAttribute(name, value);
+    }
+
+    @Override
+    public void writeIntAttribute(String name, int value) {
+        writeAttribute(name, value);
+    }
+
+    @Override
+    public void writeIntAttribute(String name, int value, int absentValue) {
+        writeAttribute(name, value);
+    }
+
+    @Override
+    public void writeOptionalIntAttribute(String name, Integer value) {
+        writeAttribute(name, value);
+    }
+
+    @Override
+    public void writeIntArrayAttribute(String name, Collection<Integer> values) {
+        if (!values.isEmpty()) {
+            writeAttribute(name, List.copyOf(values));
+        }
+    }
+
+    @Override
+    public void writeStringArrayAttribute(String name, Collection<String> values) {
+        if (!values.isEmpty()) {
+            writeAttribute(name, List.copyOf(values));
+        }
+    }
+
+    @Override
+    public <E extends Enum<E>> void writeEnumAttribute(String name, E value) {
+        if (value != null) {
+            writeAttribute(name, value.name());
+        }
+    }
+
+    @Override
+    public void writeBooleanAttribute(String name, boolean value) {
+        writeAttribute(name, value);
+    }
+
+    @Override
+    public void writeBooleanAttribute(String name, boolean value, boolean absentValue) {
+        writeAttribute(name, value);
+    }
+
+    @Override
+    public void writeOptionalBooleanAttribute(String name, Boolean value) {
+        writeAttribute(name, value);
+    }
+
+    @Override
+    public void close() {
+        // nothing to do
+    }
+
+    @Override
+    public void setVersions(Map<String, String> extensionVersions) {
+        // nothing to do
+    }
+}
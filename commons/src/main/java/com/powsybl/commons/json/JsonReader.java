@@ -269,6 +269,29 @@ public class JsonReader extends AbstractTreeDataReader {
         }
     }
 
+    /**
+     * Skip the remaining attributes and child nodes of the current node, up to its end, without decoding them.
+     */
+    @Override
+    public void skipChildNodes() {
+        try {
+            JsonToken token;
+            while ((token = getNextToken()) != JsonToken.END_OBJECT) {
+                currentJsonTokenConsumed = true;
+                if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                } else if (token == null) {
+                    throw new PowsyblException("JSON parsing: unexpected end of input");
+                }
+            }
+            checkNodeChain(ContextType.OBJECT);
+            contextQueue.removeLast();
+            currentJsonTokenConsumed = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private Context checkNodeChain(ContextType expectedNodeType) {
         return Optional.ofNullable(contextQueue.peekLast())
                 .filter(n -> n.getType() == expectedNodeType)
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.io.TreeDataNode;
+import com.powsybl.commons.io.TreeDataNodeCodec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * JSON encoding of tree data nodes: each node is an object with a name, an object of attributes, an optional content
+ * and an array of child nodes.
+ *
+ * @author Elia Group
+ */
+public class JsonTreeDataNodeCodec implements TreeDataNodeCodec {
+
+    private static final String NAME = "name";
+    private static final String ATTRIBUTES = "attributes";
+    private static final String CONTENT = "content";
+    private static final String CHILDREN = "children";
+
+    private static final JsonFactory JSON_FACTORY = JsonUtil.createJsonFactory();
+
+    @Override
+    public void write(TreeDataNode node, OutputStream os) {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(os)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writeNode(node, generator);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeNode(TreeDataNode node, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(NAME, node.getName());
+        if (!node.getAttributes().isEmpty()) {
+            generator.writeObjectFieldStart(ATTRIBUTES);
+            for (Map.Entry<String, Object> e : node.getAttributes().entrySet()) {
+                generator.writeFieldName(e.getKey());
+                writeValue(e.getValue(), generator);
+            }
+            generator.writeEndObject();
+        }
+        if (node.getContent() != null) {
+            generator.writeStringField(CONTENT, node.getContent());
+        }
+        if (!node.getChildren().isEmpty()) {
+            generator.writeArrayFieldStart(CHILDREN);
+            for (TreeDataNode child : node.getChildren()) {
+                writeNode(child, generator);
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeValue(Object value, JsonGenerator generator) throws IOException {
+        if (value instanceof Integer i) {
+            generator.writeNumber(i);
+        } else if (value instanceof Float f) {
+            // Floats are written with their exact double value, so that no rounding occurs when reading them as doubles
+            generator.writeNumber(f.doubleValue());
+        } else if (value instanceof Double d) {
+            generator.writeNumber(d);
+        } else if (value instanceof Boolean b) {
+            generator.writeBoolean(b);
+        } else if (value instanceof List<?> list) {
+            generator.writeStartArray();
+            for (Object element : list) {
+                writeValue(element, generator);
+            }
+            generator.writeEndArray();
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+
+    @Override
+    public TreeDataNode read(InputStream is) {
+        Objects.requireNonNull(is);
+        try (JsonParser parser = JSON_FACTORY.createParser(is)) {
+            parser.nextToken();
+            return readNode(parser, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static TreeDataNode readNode(JsonParser parser, TreeDataNode parent) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        parser.nextToken();
+        if (!NAME.equals(parser.currentName())) {
+            throw new PowsyblException("JSON tree data node: expected '" + NAME + "' field but got '" + parser.currentName() + "'");
+        }
+        String name = parser.nextTextValue();
+        TreeDataNode node = parent != null ? parent.addChild(name) : new TreeDataNode(name);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case ATTRIBUTES -> readAttributes(parser, node);
+                case CONTENT -> node.setContent(parser.getText());
+                case CHILDREN -> {
+                    expect(parser, JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        readNode(parser, node);
+                    }
+                }
+                default -> throw new PowsyblException("JSON tree data node: unexpected field '" + fieldName + "'");
+            }
+        }
+        expect(parser, JsonToken.END_OBJECT);
+        return node;
+    }
+
+    private static void readAttributes(JsonParser parser, TreeDataNode node) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String attributeName = parser.currentName();
+            parser.nextToken();
+            node.setAttribute(attributeName, readValue(parser));
+        }
+    }
+
+    private static Object readValue(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT -> parser.getIntValue();
+            case VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_STRING -> parser.getText();
+            case START_ARRAY -> {
+                List<Object> values = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    values.add(readValue(parser));
+                }
+                yield values;
+            }
+            default -> throw new PowsyblException("JSON tree data node: unexpected token " + parser.currentToken());
+        };
+    }
+
+    private static void expect(JsonParser parser, JsonToken token) {
+        if (parser.currentToken() != token) {
+            throw new PowsyblException("JSON tree data node: expected " + token + " but got " + parser.currentToken());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.xml;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.exceptions.UncheckedXmlStreamException;
+import com.powsybl.commons.io.TreeDataNode;
+import com.powsybl.commons.io.TreeDataNodeCodec;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * XML encoding of tree data nodes: each node is an element, whose attributes are the node attributes. Lists are
+ * written as comma separated values, as done by {@link XmlWriter}.
+ *
+ * @author Elia Group
+ */
+public class XmlTreeDataNodeCodec implements TreeDataNodeCodec {
+
+    // Input factories are not guaranteed to be thread safe, one is used per thread
+    private static final ThreadLocal<XMLInputFactory> XML_INPUT_FACTORY = ThreadLocal.withInitial(XMLInputFactory::newInstance);
+
+    @Override
+    public void write(TreeDataNode node, OutputStream os) {
+        try {
+            XMLStreamWriter writer = XmlUtil.initializeWriter(false, "", os);
+            writeNode(node, writer);
+            writer.writeEndDocument();
+            writer.flush();
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new UncheckedXmlStreamException(e);
+        }
+    }
+
+    private static void writeNode(TreeDataNode node, XMLStreamWriter writer) throws XMLStreamException {
+        writer.writeStartElement(node.getName());
+        for (Map.Entry<String, Object> e : node.getAttributes().entrySet()) {
+            writer.writeAttribute(e.getKey(), toString(e.getValue()));
+        }
+        if (node.getContent() != null) {
+            writer.writeCharacters(node.getContent());
+        }
+        for (TreeDataNode child : node.getChildren()) {
+            writeNode(child, writer);
+        }
+        writer.writeEndElement();
+    }
+
+    private static String toString(Object value) {
+        if (value instanceof List<?> list) {
+            return list.stream().map(Object::toString).collect(Collectors.joining(","));
+        }
+        return value.toString();
+    }
+
+    @Override
+    public TreeDataNode read(InputStream is) {
+        Objects.requireNonNull(is);
+        try {
+            XMLStreamReader reader = XML_INPUT_FACTORY.get().createXMLStreamReader(is);
+            try {
+                return readNode(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new UncheckedXmlStreamException(e);
+        }
+    }
+
+    private static TreeDataNode readNode(XMLStreamReader reader) throws XMLStreamException {
+        Deque<TreeDataNode> nodes = new ArrayDeque<>();
+        TreeDataNode root = null;
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> {
+                    String name = reader.getLocalName();
+                    TreeDataNode node = nodes.isEmpty() ? new TreeDataNode(name) : nodes.peek().addChild(name);
+                    for (int i = 0; i < reader.getAttributeCount(); i++) {
+                        node.setAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+                    }
+                    if (root == null) {
+                        root = node;
+                    }
+                    nodes.push(node);
+                }
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+                    TreeDataNode node = nodes.peek();
+                    if (node != null) {
+                        node.setContent(node.getContent() == null ? reader.getText() : node.getContent() + reader.getText());
+                    }
+                }
+                case XMLStreamConstants.END_ELEMENT -> nodes.pop();
+                default -> {
+                    // nothing to do
+                }
+            }
+        }
+        if (root == null) {
+            throw new PowsyblException("XML tree data node: no element found");
+        }
+        return root;
+    }
+}
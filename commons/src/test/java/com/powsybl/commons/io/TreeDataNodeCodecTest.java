@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.io;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Elia Group
+ */
+class TreeDataNodeCodecTest {
+
+    private enum Color {
+        RED,
+        GREEN
+    }
+
+    private static TreeDataNode writeNode() {
+        TreeDataNodeWriter writer = new TreeDataNodeWriter();
+        writer.writeStartNode("ns", "root");
+        writer.writeStringAttribute("string", "a \"quoted\" <string> é");
+        writer.writeStringAttribute("nullString", null);
+        writer.writeDoubleAttribute("double", 0.1);
+        writer.writeDoubleAttribute("nan", Double.NaN, 0);
+        writer.writeFloatAttribute("float", 1.1f);
+        writer.writeIntAttribute("int", -3);
+        writer.writeOptionalIntAttribute("optionalInt", null);
+        writer.writeBooleanAttribute("boolean", true);
+        writer.writeEnumAttribute("enum", Color.GREEN);
+        writer.writeIntArrayAttribute("ints", List.of(1, 2, 3));
+        writer.writeStringArrayAttribute("strings", List.of("x", "y"));
+        writer.writeStartNodes();
+        writer.writeStartNode("ns", "child");
+        writer.writeIntAttribute("index", 0);
+        writer.writeEndNode();
+        writer.writeStartNode("ns", "child");
+        writer.writeIntAttribute("index", 1);
+        writer.writeEndNode();
+        writer.writeEndNodes();
+        writer.writeStartNode("ns", "text");
+        writer.writeNodeContent("some content");
+        writer.writeEndNode();
+        writer.writeEndNode();
+        return writer.getRoot();
+    }
+
+    @ParameterizedTest
+    @EnumSource(TreeDataFormat.class)
+    void testRoundTrip(TreeDataFormat format) {
+        TreeDataNodeCodec codec = TreeDataNodeCodec.of(format);
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        codec.write(writeNode(), os);
+        TreeDataNode node = codec.read(new ByteArrayInputStream(os.toByteArray()));
+        assertEquals("root", node.getName());
+
+        try (TreeDataNodeReader reader = new TreeDataNodeReader(node)) {
+            assertEquals("a \"quoted\" <string> é", reader.readStringAttribute("string"));
+            assertNull(reader.readStringAttribute("nullString"));
+            assertEquals(0.1, reader.readDoubleAttribute("double"));
+            assertTrue(Double.isNaN(reader.readDoubleAttribute("nan", 0)));
+            assertEquals(OptionalDouble.empty(), reader.readOptionalDoubleAttribute("missing"));
+            assertEquals(1.1f, reader.readFloatAttribute("float"));
+            assertEquals(-3, reader.readIntAttribute("int"));
+            assertEquals(OptionalInt.empty(), reader.readOptionalIntAttribute("optionalInt"));
+            assertEquals(Optional.of(true), reader.readOptionalBooleanAttribute("boolean"));
+            assertEquals(Color.GREEN, reader.readEnumAttribute("enum", Color.class));
+            assertEquals(List.of(1, 2, 3), reader.readIntArrayAttribute("ints"));
+            assertEquals(List.of("x", "y"), reader.readStringArrayAttribute("strings"));
+            assertEquals(List.of(), reader.readIntArrayAttribute("missing"));
+
+            List<String> read = new ArrayList<>();
+            reader.readChildNodes(name -> {
+                if (name.equals("child")) {
+                    read.add(name + reader.readIntAttribute("index"));
+                    reader.readEndNode();
+                } else {
+                    read.add(reader.readContent());
+                }
+            });
+            assertEquals(List.of("child0", "child1", "some content"), read);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(TreeDataFormat.class)
+    void testReadFromByteBuffer(TreeDataFormat format) {
+        TreeDataNodeCodec codec = TreeDataNodeCodec.of(format);
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        codec.write(writeNode(), os);
+        byte[] bytes = os.toByteArray();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        TreeDataNode node = codec.read(new ByteBufferInputStream(buffer));
+        assertEquals(2, node.getChildren().stream().filter(c -> c.getName().equals("child")).count());
+        assertEquals("some content", node.getChildren().get(2).getContent());
+    }
+}
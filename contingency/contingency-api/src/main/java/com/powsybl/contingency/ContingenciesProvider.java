@@ -10,6 +10,7 @@ package com.powsybl.contingency;
 import com.powsybl.iidm.network.Network;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -18,6 +19,14 @@ public interface ContingenciesProvider {
 
     List<Contingency> getContingencies(Network network);
 
+    /**
+     * Return a stream of the contingencies for the given network, in the same order as {@link #getContingencies(Network)}.
+     * Implementations may generate the contingencies lazily.
+     */
+    default Stream<Contingency> getContingencyStream(Network network) {
+        return getContingencies(network).stream();
+    }
+
     default String asScript() {
         throw new UnsupportedOperationException("Serialization not supported for contingencies provider of type " + this.getClass().getName());
     }
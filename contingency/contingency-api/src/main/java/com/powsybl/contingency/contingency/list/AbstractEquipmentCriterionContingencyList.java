@@ -10,20 +10,23 @@ package com.powsybl.contingency.contingency.list;
 import com.google.common.collect.ImmutableList;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.contingency.ContingencyElement;
-import com.powsybl.iidm.criteria.Criterion;
-import com.powsybl.iidm.criteria.PropertyCriterion;
-import com.powsybl.iidm.criteria.RegexCriterion;
-import com.powsybl.iidm.network.IdentifiableType;
-import com.powsybl.iidm.network.Network;
-
-import java.util.List;
-import java.util.Objects;
+import com.powsybl.iidm.criteria.*;
+import com.powsybl.iidm.network.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Etienne Lesot {@literal <etienne.lesot@rte-france.com>}
  */
 public abstract class AbstractEquipmentCriterionContingencyList implements ContingencyList {
+    private static final Set<IdentifiableType> SINGLE_VOLTAGE_LEVEL_TYPES = EnumSet.of(IdentifiableType.STATIC_VAR_COMPENSATOR,
+            IdentifiableType.SHUNT_COMPENSATOR, IdentifiableType.BUSBAR_SECTION, IdentifiableType.GENERATOR, IdentifiableType.DANGLING_LINE,
+            IdentifiableType.LOAD, IdentifiableType.BATTERY, IdentifiableType.HVDC_CONVERTER_STATION, IdentifiableType.SWITCH);
+
     private final String name;
     private final IdentifiableType identifiableType;
     private final List<PropertyCriterion> propertyCriteria;
@@ -43,13 +46,65 @@ public abstract class AbstractEquipmentCriterionContingencyList implements Conti
 
     @Override
     public List<Contingency> getContingencies(Network network) {
+        return getContingencyStream(network).collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<Contingency> getContingencyStream(Network network) {
+        Predicate<Identifiable<?>> filter = compileCriteria();
         return network.getIdentifiableStream(getIdentifiableType())
-                .filter(identifiable -> getCountryCriterion() == null || getCountryCriterion().filter(identifiable, getIdentifiableType()))
-                .filter(identifiable -> getNominalVoltageCriterion() == null || getNominalVoltageCriterion().filter(identifiable, getIdentifiableType()))
-                .filter(identifiable -> getPropertyCriteria().stream().allMatch(propertyCriterion -> propertyCriterion.filter(identifiable, getIdentifiableType())))
-                .filter(identifiable -> getRegexCriterion() == null || getRegexCriterion().filter(identifiable, getIdentifiableType()))
-                .map(identifiable -> new Contingency(identifiable.getId(), ContingencyElement.of(identifiable)))
-                .collect(Collectors.toList());
+                .filter(filter)
+                .map(identifiable -> new Contingency(identifiable.getId(), ContingencyElement.of(identifiable)));
+    }
+
+    /**
+     * Compile the criteria of this list into a single filter, for one evaluation on a network.
+     * <p>
+     * For equipments in a single voltage level, the criteria only depending on the voltage level (country, nominal
+     * voltage and properties of the voltage level or of the substation) are evaluated once per voltage level, and
+     * first. The other criteria are then evaluated from the cheapest to the most expensive one: criteria on the
+     * countries and nominal voltage, on the properties and finally the regex criterion.
+     * </p>
+     */
+    private Predicate<Identifiable<?>> compileCriteria() {
+        IdentifiableType type = getIdentifiableType();
+        boolean singleVoltageLevel = SINGLE_VOLTAGE_LEVEL_TYPES.contains(type);
+        List<Criterion> voltageLevelCriteria = new ArrayList<>();
+        List<Criterion> equipmentCriteria = new ArrayList<>();
+        for (Criterion criterion : Arrays.asList(getCountryCriterion(), getNominalVoltageCriterion())) {
+            if (criterion != null) {
+                boolean voltageLevelCriterion = criterion instanceof SingleCountryCriterion || criterion instanceof SingleNominalVoltageCriterion;
+                (singleVoltageLevel && voltageLevelCriterion ? voltageLevelCriteria : equipmentCriteria).add(criterion);
+            }
+        }
+        for (PropertyCriterion criterion : getPropertyCriteria()) {
+            boolean voltageLevelCriterion = criterion.getEquipmentToCheck() != PropertyCriterion.EquipmentToCheck.SELF;
+            (singleVoltageLevel && voltageLevelCriterion ? voltageLevelCriteria : equipmentCriteria).add(criterion);
+        }
+        if (getRegexCriterion() != null) {
+            equipmentCriteria.add(getRegexCriterion());
+        }
+
+        Predicate<Identifiable<?>> equipmentFilter = identifiable -> allMatch(equipmentCriteria, identifiable, type);
+        if (voltageLevelCriteria.isEmpty()) {
+            return equipmentFilter;
+        }
+        Map<VoltageLevel, Boolean> voltageLevelResults = new ConcurrentHashMap<>();
+        return identifiable -> voltageLevelResults.computeIfAbsent(getVoltageLevel(identifiable), voltageLevel -> allMatch(voltageLevelCriteria, identifiable, type))
+                && equipmentFilter.test(identifiable);
+    }
+
+    private static boolean allMatch(List<Criterion> criteria, Identifiable<?> identifiable, IdentifiableType type) {
+        for (Criterion criterion : criteria) {
+            if (!criterion.filter(identifiable, type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static VoltageLevel getVoltageLevel(Identifiable<?> identifiable) {
+        return identifiable instanceof Switch sw ? sw.getVoltageLevel() : ((Injection<?>) identifiable).getTerminal().getVoltageLevel();
     }
 
     public IdentifiableType getIdentifiableType() {
@@ -23,6 +23,7 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Mathieu Bague {@literal <mathieu.bague@rte-france.com>}
@@ -51,6 +52,15 @@ public interface ContingencyList {
      */
     List<Contingency> getContingencies(Network network);
 
+    /**
+     * Return a stream of the contingencies for the given network, in the same order as {@link #getContingencies(Network)}.
+     * Implementations may generate the contingencies lazily, and support parallel streams as long as the network is
+     * not modified.
+     */
+    default Stream<Contingency> getContingencyStream(Network network) {
+        return getContingencies(network).stream();
+    }
+
     /**
      * Load a {@link ContingencyList} from a path
      *
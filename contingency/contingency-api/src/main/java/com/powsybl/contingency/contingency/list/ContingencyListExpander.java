@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.contingency.contingency.list;
+
+import com.powsybl.contingency.ContingenciesProvider;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.Network;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Expands a {@link ContingencyList} on a network: the contingencies are generated from
+ * {@link ContingencyList#getContingencyStream(Network)}, optionally validated against the network and deduplicated,
+ * keeping the first occurrence of equal contingencies.
+ * <p>
+ * {@link #expand(ContingencyList, Network)} runs the generation, the validation and the deduplication in parallel in a
+ * fork-join pool, and returns the contingencies in the order of {@link ContingencyList#getContingencies(Network)}.
+ * {@link #stream(ContingencyList, Network)} gives them lazily instead, for consumers which do not need all of them at
+ * once. The network must not be modified while contingencies are expanded.
+ * </p>
+ *
+ * @author Elia Group
+ */
+public class ContingencyListExpander {
+
+    private final ForkJoinPool pool;
+
+    private final boolean validate;
+
+    private final boolean deduplicate;
+
+    public ContingencyListExpander() {
+        this(ForkJoinPool.commonPool(), true, true);
+    }
+
+    /**
+     * @param pool the pool running the parallel expansions.
+     * @param validate if true, only the contingencies valid on the network are kept, see {@link Contingency#isValid(Network)}.
+     * @param deduplicate if true, only the first of equal contingencies is kept.
+     */
+    public ContingencyListExpander(ForkJoinPool pool, boolean validate, boolean deduplicate) {
+        this.pool = Objects.requireNonNull(pool);
+        this.validate = validate;
+        this.deduplicate = deduplicate;
+    }
+
+    private Stream<Contingency> filter(Stream<Contingency> contingencies, Network network) {
+        return validate ? contingencies.filter(contingency -> contingency.isValid(network)) : contingencies;
+    }
+
+    /**
+     * Expand the contingency list in parallel.
+     */
+    public List<Contingency> expand(ContingencyList contingencyList, Network network) {
+        Objects.requireNonNull(contingencyList);
+        Objects.requireNonNull(network);
+        return pool.submit(() -> {
+            Stream<Contingency> contingencies = filter(contingencyList.getContingencyStream(network).parallel(), network);
+            // collecting an ordered stream to a linked hash set keeps the first occurrence of each contingency
+            return deduplicate ? new ArrayList<>(contingencies.collect(Collectors.toCollection(LinkedHashSet::new)))
+                               : contingencies.collect(Collectors.toList());
+        }).join();
+    }
+
+    /**
+     * Expand the contingency list lazily, in the calling thread.
+     */
+    public Stream<Contingency> stream(ContingencyList contingencyList, Network network) {
+        Objects.requireNonNull(contingencyList);
+        Objects.requireNonNull(network);
+        Stream<Contingency> contingencies = filter(contingencyList.getContingencyStream(network), network);
+        if (deduplicate) {
+            Set<Contingency> encountered = ConcurrentHashMap.newKeySet();
+            contingencies = contingencies.filter(encountered::add);
+        }
+        return contingencies;
+    }
+
+    /**
+     * Create a contingencies provider expanding the given contingency list with this expander.
+     */
+    public ContingenciesProvider createProvider(ContingencyList contingencyList) {
+        Objects.requireNonNull(contingencyList);
+        return new ContingenciesProvider() {
+            @Override
+            public List<Contingency> getContingencies(Network network) {
+                return expand(contingencyList, network);
+            }
+
+            @Override
+            public Stream<Contingency> getContingencyStream(Network network) {
+                return stream(contingencyList, network);
+            }
+        };
+    }
+}
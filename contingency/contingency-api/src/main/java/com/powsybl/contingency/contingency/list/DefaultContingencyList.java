@@ -14,6 +14,7 @@ import com.powsybl.iidm.network.Network;
 
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Mathieu Bague {@literal <mathieu.bague@rte-france.com>}
@@ -53,8 +54,12 @@ public class DefaultContingencyList implements ContingencyList {
 
     @Override
     public List<Contingency> getContingencies(Network network) {
+        return getContingencyStream(network).collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<Contingency> getContingencyStream(Network network) {
         return contingencies.stream()
-                .filter(ctg -> ctg.isValid(network))
-                .collect(Collectors.toList());
+                .filter(ctg -> ctg.isValid(network));
     }
 }
@@ -10,11 +10,13 @@ package com.powsybl.contingency.contingency.list;
 import com.google.common.collect.ImmutableList;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.contingency.ContingencyElement;
+import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.iidm.network.identifiers.NetworkElementIdentifier;
 import com.powsybl.iidm.network.Network;
 
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Etienne Lesot {@literal <etienne.lesot@rte-france.com>}
@@ -51,18 +53,27 @@ public class IdentifierContingencyList implements ContingencyList {
 
     @Override
     public List<Contingency> getContingencies(Network network) {
+        return getContingencyStream(network).collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<Contingency> getContingencyStream(Network network) {
         return networkElementIdentifiers.stream()
-            .filter(identifier -> !identifier.filterIdentifiable(network).isEmpty())
-            .map(identifier -> {
-                List<ContingencyElement> contingencyElements = identifier.filterIdentifiable(network)
-                    .stream()
-                    .map(ContingencyElement::of)
-                    .toList();
-                String contingencyId = identifier.getContingencyId().orElse(getGeneratedContingencyId(contingencyElements));
-                return new Contingency(contingencyId, contingencyElements);
-            })
-            .filter(contingency -> contingency.isValid(network))
-            .collect(Collectors.toList());
+            .map(identifier -> createContingency(identifier, network))
+            .filter(Objects::nonNull)
+            .filter(contingency -> contingency.isValid(network));
+    }
+
+    private Contingency createContingency(NetworkElementIdentifier identifier, Network network) {
+        Set<Identifiable> identifiables = identifier.filterIdentifiable(network);
+        if (identifiables.isEmpty()) {
+            return null;
+        }
+        List<ContingencyElement> contingencyElements = identifiables.stream()
+            .map(ContingencyElement::of)
+            .toList();
+        String contingencyId = identifier.getContingencyId().orElse(getGeneratedContingencyId(contingencyElements));
+        return new Contingency(contingencyId, contingencyElements);
     }
 
     public Map<String, Set<String>> getNotFoundElements(Network network) {
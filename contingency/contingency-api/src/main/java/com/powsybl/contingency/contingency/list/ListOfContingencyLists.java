@@ -14,6 +14,7 @@ import com.powsybl.iidm.network.Network;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Etienne Lesot {@literal <etienne.lesot@rte-france.com>}
@@ -41,9 +42,13 @@ public class ListOfContingencyLists implements ContingencyList {
 
     @Override
     public List<Contingency> getContingencies(Network network) {
+        return getContingencyStream(network).collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<Contingency> getContingencyStream(Network network) {
         return contingencyLists.stream()
-                .flatMap(contingencyList -> contingencyList.getContingencies(network).stream())
-                .collect(Collectors.toList());
+                .flatMap(contingencyList -> contingencyList.getContingencyStream(network));
     }
 
     public List<ContingencyList> getContingencyLists() {
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.contingency;
+
+import com.powsybl.contingency.contingency.list.*;
+import com.powsybl.iidm.criteria.SingleCountryCriterion;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.IdentifiableType;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.identifiers.IdWithWildcardsNetworkElementIdentifier;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Elia Group
+ */
+class ContingencyListExpanderTest {
+
+    private Network network;
+
+    private ContingencyList contingencyList;
+
+    @BeforeEach
+    void setUp() {
+        network = FourSubstationsNodeBreakerFactory.create();
+        network.getSubstation("S1").setCountry(Country.FR);
+        network.getSubstation("S2").setCountry(Country.BE);
+        network.getSubstation("S3").setCountry(Country.FR);
+        network.getSubstation("S4").setCountry(Country.LU);
+        ContingencyList loads = new InjectionCriterionContingencyList("loads", IdentifiableType.LOAD,
+                new SingleCountryCriterion(List.of(Country.FR)), null, Collections.emptyList(), null);
+        ContingencyList generators = new InjectionCriterionContingencyList("generators", IdentifiableType.GENERATOR,
+                null, null, Collections.emptyList(), null);
+        ContingencyList identifiers = new IdentifierContingencyList("identifiers",
+                List.of(new IdWithWildcardsNetworkElementIdentifier("LINE_S?S?")));
+        ContingencyList others = new DefaultContingencyList("others",
+                new Contingency("GH1", new GeneratorContingency("GH1")),
+                new Contingency("UNKNOWN", new GeneratorContingency("UNKNOWN")));
+        contingencyList = new ListOfContingencyLists("list", List.of(loads, generators, identifiers, others, generators));
+    }
+
+    @Test
+    void testExpand() {
+        List<Contingency> contingencies = contingencyList.getContingencies(network);
+        List<Contingency> expected = new ArrayList<>(new LinkedHashSet<>(contingencies));
+        assertTrue(expected.size() < contingencies.size());
+        assertTrue(contingencies.stream().noneMatch(c -> c.getId().equals("UNKNOWN")));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(expected, new ContingencyListExpander(pool, true, true).expand(contingencyList, network));
+            assertEquals(contingencies, new ContingencyListExpander(pool, false, false).expand(contingencyList, network));
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(expected, new ContingencyListExpander().expand(contingencyList, network));
+    }
+
+    @Test
+    void testStream() {
+        List<Contingency> contingencies = contingencyList.getContingencies(network);
+        assertEquals(contingencies, contingencyList.getContingencyStream(network).toList());
+        List<Contingency> expected = new ArrayList<>(new LinkedHashSet<>(contingencies));
+
+        ContingencyListExpander expander = new ContingencyListExpander();
+        assertEquals(expected, expander.stream(contingencyList, network).toList());
+        // contingencies are generated on demand
+        assertEquals(expected.subList(0, 3), expander.stream(contingencyList, network).limit(3).toList());
+
+        ContingenciesProvider provider = expander.createProvider(contingencyList);
+        assertEquals(expected, provider.getContingencies(network));
+        assertEquals(expected, provider.getContingencyStream(network).toList());
+    }
+}
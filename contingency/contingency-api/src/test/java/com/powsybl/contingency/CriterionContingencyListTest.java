@@ -558,4 +558,26 @@ class CriterionContingencyListTest {
         assertEquals(new Contingency("S1VL2_BBS2", new BusbarSectionContingency("S1VL2_BBS2")), contingencies.get(1));
         assertEquals(new Contingency("S3VL1_BBS", new BusbarSectionContingency("S3VL1_BBS")), contingencies.get(2));
     }
+
+    @Test
+    void testVoltageLevelAndEquipmentCriteria() {
+        fourSubstationNetwork.getVoltageLevel("S1VL2").setProperty("property", "value");
+        fourSubstationNetwork.getSwitch("S1VL2_TWT_BREAKER").setProperty("switchProperty", "value");
+        fourSubstationNetwork.getSwitch("S1VL2_VSC1_BREAKER").setProperty("switchProperty", "value");
+        fourSubstationNetwork.getSwitch("S3VL1_LINES2S3_BREAKER").setProperty("switchProperty", "value");
+        List<PropertyCriterion> propertyCriteria = List.of(
+                new PropertyCriterion("switchProperty", List.of("value"), PropertyCriterion.EquipmentToCheck.SELF),
+                new PropertyCriterion("property", List.of("value"), PropertyCriterion.EquipmentToCheck.VOLTAGE_LEVEL));
+        // criteria on the voltage level are evaluated once per voltage level, the other ones for each switch
+        InjectionCriterionContingencyList contingencyList = new InjectionCriterionContingencyList("list",
+                IdentifiableType.SWITCH, new SingleCountryCriterion(List.of(Country.FR)), null, propertyCriteria, new RegexCriterion("TWT"));
+        assertEquals(List.of(new Contingency("S1VL2_TWT_BREAKER", new SwitchContingency("S1VL2_TWT_BREAKER"))),
+                contingencyList.getContingencies(fourSubstationNetwork));
+
+        contingencyList = new InjectionCriterionContingencyList("list",
+                IdentifiableType.SWITCH, null, null, propertyCriteria, null);
+        assertEquals(List.of(new Contingency("S1VL2_TWT_BREAKER", new SwitchContingency("S1VL2_TWT_BREAKER")),
+                        new Contingency("S1VL2_VSC1_BREAKER", new SwitchContingency("S1VL2_VSC1_BREAKER"))),
+                contingencyList.getContingencies(fourSubstationNetwork));
+    }
 }
@@ -219,6 +219,13 @@ class NetworkElementIdentifierContingencyListTest {
         Assertions.assertEquals(1, identifiables.size());
         assertTrue(identifiables.contains("NHV1.NHV2-1"));
 
+        // wildcards at the beginning of the identifier and matching a supplementary character
+        network.newSubstation().setId("NHV1_NHV2_\uD83D\uDE00").add();
+        elementIdentifier = new IdWithWildcardsNetworkElementIdentifier("?HV1_NHV2_?");
+        identifiables = elementIdentifier.filterIdentifiable(network).stream().map(Identifiable::getId).toList();
+        Assertions.assertEquals(3, identifiables.size());
+        assertTrue(identifiables.containsAll(Arrays.asList("NHV1_NHV2_1", "NHV1_NHV2_2", "NHV1_NHV2_\uD83D\uDE00")));
+
         String message3 = assertThrows(PowsyblException.class, () -> new IdWithWildcardsNetworkElementIdentifier("TEST_WITH_NO_WILDCARDS")).getMessage();
         assertEquals("There is no wildcard in your identifier, please use IdBasedNetworkElementIdentifier instead", message3);
     }
@@ -1509,6 +1509,32 @@ public interface Network extends Container<Network> {
         };
     }
 
+    /**
+     * <p>Export the given state attributes of all the elements of a type, for the working variant.</p>
+     * <p>The rows follow the iteration order of the elements of the network, which is stable as long as no element
+     * is added or removed. The buses are the buses of the bus view ({@link IdentifiableType#BUS}).</p>
+     *
+     * @param identifiableType the type of the elements
+     * @param attributes the attributes to export, which have to be applicable to the type
+     * @return a table holding one column per attribute
+     */
+    default StateTable exportState(IdentifiableType identifiableType, Collection<StateAttribute> attributes) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * <p>Set the state attributes of a table back to the elements of the network, for the working variant.</p>
+     * <p>The values are checked as by the individual setters. Instead of one notification per modified attribute,
+     * the listeners are notified once with {@link NetworkListener#onStateUpdate}.</p>
+     * <p>Undefined values ({@link Double#NaN} and {@link StateTable#UNDEFINED_INT}) are skipped: the elements keep
+     * their current values. If a value is rejected, the import is rolled back and no notification is sent.</p>
+     *
+     * @param table the table to import, typically exported by {@link #exportState} and then modified
+     */
+    default void importState(StateTable table) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Write the network to a given format.
      *
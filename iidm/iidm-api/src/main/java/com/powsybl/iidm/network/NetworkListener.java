@@ -55,4 +55,11 @@ public interface NetworkListener {
     default void onVariantRemoved(String variantId) {
         // empty default implementation
     }
+
+    /**
+     * Called once after the state attributes of a table have been imported by {@link Network#importState}.
+     */
+    default void onStateUpdate(Network network, StateTable table, String variantId) {
+        // empty default implementation
+    }
 }
@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network;
+
+import java.util.Set;
+
+/**
+ * State attribute which can be exported and imported in bulk with a {@link StateTable}.
+ *
+ * @author Elia Group
+ */
+public enum StateAttribute {
+
+    /**
+     * Active power of the terminal of an injection.
+     */
+    P(ValueType.DOUBLE, IdentifiableType.GENERATOR, IdentifiableType.LOAD, IdentifiableType.BATTERY,
+            IdentifiableType.SHUNT_COMPENSATOR, IdentifiableType.STATIC_VAR_COMPENSATOR,
+            IdentifiableType.HVDC_CONVERTER_STATION, IdentifiableType.DANGLING_LINE),
+
+    /**
+     * Reactive power of the terminal of an injection.
+     */
+    Q(ValueType.DOUBLE, IdentifiableType.GENERATOR, IdentifiableType.LOAD, IdentifiableType.BATTERY,
+            IdentifiableType.SHUNT_COMPENSATOR, IdentifiableType.STATIC_VAR_COMPENSATOR,
+            IdentifiableType.HVDC_CONVERTER_STATION, IdentifiableType.DANGLING_LINE),
+
+    /**
+     * Active power of the terminal at side 1 of a branch or of a three windings transformer.
+     */
+    P1(ValueType.DOUBLE, IdentifiableType.LINE, IdentifiableType.TWO_WINDINGS_TRANSFORMER, IdentifiableType.THREE_WINDINGS_TRANSFORMER),
+
+    /**
+     * Reactive power of the terminal at side 1 of a branch or of a three windings transformer.
+     */
+    Q1(ValueType.DOUBLE, IdentifiableType.LINE, IdentifiableType.TWO_WINDINGS_TRANSFORMER, IdentifiableType.THREE_WINDINGS_TRANSFORMER),
+
+    /**
+     * Active power of the terminal at side 2 of a branch or of a three windings transformer.
+     */
+    P2(ValueType.DOUBLE, IdentifiableType.LINE, IdentifiableType.TWO_WINDINGS_TRANSFORMER, IdentifiableType.THREE_WINDINGS_TRANSFORMER),
+
+    /**
+     * Reactive power of the terminal at side 2 of a branch or of a three windings transformer.
+     */
+    Q2(ValueType.DOUBLE, IdentifiableType.LINE, IdentifiableType.TWO_WINDINGS_TRANSFORMER, IdentifiableType.THREE_WINDINGS_TRANSFORMER),
+
+    /**
+     * Active power of the terminal at side 3 of a three windings transformer.
+     */
+    P3(ValueType.DOUBLE, IdentifiableType.THREE_WINDINGS_TRANSFORMER),
+
+    /**
+     * Reactive power of the terminal at side 3 of a three windings transformer.
+     */
+    Q3(ValueType.DOUBLE, IdentifiableType.THREE_WINDINGS_TRANSFORMER),
+
+    /**
+     * Voltage magnitude of a bus of the bus view.
+     */
+    V(ValueType.DOUBLE, IdentifiableType.BUS),
+
+    /**
+     * Voltage angle of a bus of the bus view.
+     */
+    ANGLE(ValueType.DOUBLE, IdentifiableType.BUS),
+
+    /**
+     * Active power target of a generator or of a battery.
+     */
+    TARGET_P(ValueType.DOUBLE, IdentifiableType.GENERATOR, IdentifiableType.BATTERY),
+
+    /**
+     * Reactive power target of a generator or of a battery.
+     */
+    TARGET_Q(ValueType.DOUBLE, IdentifiableType.GENERATOR, IdentifiableType.BATTERY),
+
+    /**
+     * Voltage target of a generator.
+     */
+    TARGET_V(ValueType.DOUBLE, IdentifiableType.GENERATOR),
+
+    /**
+     * Constant active power of a load.
+     */
+    P0(ValueType.DOUBLE, IdentifiableType.LOAD),
+
+    /**
+     * Constant reactive power of a load.
+     */
+    Q0(ValueType.DOUBLE, IdentifiableType.LOAD),
+
+    /**
+     * Section count of a shunt compensator.
+     */
+    SECTION_COUNT(ValueType.INT, IdentifiableType.SHUNT_COMPENSATOR),
+
+    /**
+     * Tap position of the ratio tap changer of a two windings transformer, {@link StateTable#UNDEFINED_INT} if it has
+     * none.
+     */
+    RATIO_TAP_POSITION(ValueType.INT, IdentifiableType.TWO_WINDINGS_TRANSFORMER),
+
+    /**
+     * Tap position of the phase tap changer of a two windings transformer, {@link StateTable#UNDEFINED_INT} if it has
+     * none.
+     */
+    PHASE_TAP_POSITION(ValueType.INT, IdentifiableType.TWO_WINDINGS_TRANSFORMER),
+
+    /**
+     * Open status of a switch.
+     */
+    OPEN(ValueType.BOOLEAN, IdentifiableType.SWITCH);
+
+    public enum ValueType {
+        DOUBLE,
+        INT,
+        BOOLEAN
+    }
+
+    private final ValueType valueType;
+
+    private final Set<IdentifiableType> identifiableTypes;
+
+    StateAttribute(ValueType valueType, IdentifiableType... identifiableTypes) {
+        this.valueType = valueType;
+        this.identifiableTypes = Set.of(identifiableTypes);
+    }
+
+    public ValueType getValueType() {
+        return valueType;
+    }
+
+    /**
+     * Get the types of the elements having this attribute.
+     */
+    public Set<IdentifiableType> getIdentifiableTypes() {
+        return identifiableTypes;
+    }
+
+    public boolean isApplicableTo(IdentifiableType identifiableType) {
+        return identifiableTypes.contains(identifiableType);
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network;
+
+import com.powsybl.commons.PowsyblException;
+
+import java.util.*;
+
+/**
+ * <p>Columnar state of the elements of a given type: the row {@code i} of each column holds the value of an attribute
+ * for the element {@code getIds().get(i)}.</p>
+ * <p>A table is exported from a network with {@link Network#exportState}, the columns can then be read and modified
+ * in place, and the table imported back with {@link Network#importState}. A table can also be created from scratch
+ * for a subset of the elements.</p>
+ * <p>Double values are {@link Double#NaN} and int values {@link #UNDEFINED_INT} when undefined.</p>
+ *
+ * @author Elia Group
+ */
+public final class StateTable {
+
+    public static final int UNDEFINED_INT = Integer.MIN_VALUE;
+
+    private final IdentifiableType identifiableType;
+
+    private final List<String> ids;
+
+    private final Map<StateAttribute, Object> columns = new EnumMap<>(StateAttribute.class);
+
+    /**
+     * Create a table with undefined values for the given elements and attributes.
+     */
+    public StateTable(IdentifiableType identifiableType, List<String> ids, Collection<StateAttribute> attributes) {
+        this.identifiableType = Objects.requireNonNull(identifiableType);
+        this.ids = List.copyOf(ids);
+        for (StateAttribute attribute : attributes) {
+            if (!attribute.isApplicableTo(identifiableType)) {
+                throw new PowsyblException("State attribute " + attribute + " is not applicable to " + identifiableType);
+            }
+            columns.put(attribute, createColumn(attribute.getValueType(), this.ids.size()));
+        }
+    }
+
+    private static Object createColumn(StateAttribute.ValueType valueType, int size) {
+        return switch (valueType) {
+            case DOUBLE -> {
+                double[] values = new double[size];
+                Arrays.fill(values, Double.NaN);
+                yield values;
+            }
+            case INT -> {
+                int[] values = new int[size];
+                Arrays.fill(values, UNDEFINED_INT);
+                yield values;
+            }
+            case BOOLEAN -> new boolean[size];
+        };
+    }
+
+    public IdentifiableType getIdentifiableType() {
+        return identifiableType;
+    }
+
+    /**
+     * Get the ids of the elements, in the order of the rows.
+     */
+    public List<String> getIds() {
+        return ids;
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    public Set<StateAttribute> getAttributes() {
+        return Collections.unmodifiableSet(columns.keySet());
+    }
+
+    /**
+     * Get the column of a double attribute. The returned array is the table storage, not a copy.
+     */
+    public double[] getDoubles(StateAttribute attribute) {
+        return (double[]) getColumn(attribute, StateAttribute.ValueType.DOUBLE);
+    }
+
+    /**
+     * Get the column of an int attribute. The returned array is the table storage, not a copy.
+     */
+    public int[] getInts(StateAttribute attribute) {
+        return (int[]) getColumn(attribute, StateAttribute.ValueType.INT);
+    }
+
+    /**
+     * Get the column of a boolean attribute. The returned array is the table storage, not a copy.
+     */
+    public boolean[] getBooleans(StateAttribute attribute) {
+        return (boolean[]) getColumn(attribute, StateAttribute.ValueType.BOOLEAN);
+    }
+
+    private Object getColumn(StateAttribute attribute, StateAttribute.ValueType valueType) {
+        Object column = columns.get(Objects.requireNonNull(attribute));
+        if (column == null) {
+            throw new PowsyblException("State attribute " + attribute + " not found in table");
+        }
+        if (attribute.getValueType() != valueType) {
+            throw new PowsyblException("State attribute " + attribute + " is of type " + attribute.getValueType());
+        }
+        return column;
+    }
+}
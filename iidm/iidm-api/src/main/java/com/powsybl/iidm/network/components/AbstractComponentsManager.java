@@ -8,9 +8,11 @@
 
 package com.powsybl.iidm.network.components;
 
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.*;
 import com.powsybl.math.graph.GraphUtil;
 import com.powsybl.math.graph.GraphUtil.ConnectedComponentsComputationResult;
+import com.powsybl.math.graph.UnionFind;
 import gnu.trove.list.array.TIntArrayList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,16 +26,72 @@ abstract class AbstractComponentsManager<C extends Component> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractComponentsManager.class);
 
+    /**
+     * Number of edges from which the components are computed in parallel.
+     */
+    private static final int PARALLEL_EDGE_COUNT_THRESHOLD = 50000;
+
+    /**
+     * The buses of the bus view, numbered in iteration order, and the equipments linking them.
+     */
+    protected static final class BusGraph {
+
+        private final List<Bus> buses = new ArrayList<>();
+
+        private final Map<String, Integer> busNums = new HashMap<>();
+
+        private final TIntArrayList edgeBus1 = new TIntArrayList();
+
+        private final TIntArrayList edgeBus2 = new TIntArrayList();
+
+        private final List<String> edgeIds = new ArrayList<>();
+
+        private BusGraph(Iterable<Bus> buses) {
+            for (Bus bus : buses) {
+                busNums.put(bus.getId(), this.buses.size());
+                this.buses.add(bus);
+            }
+        }
+
+        /**
+         * Add an edge between two buses of the bus view, if both are defined.
+         *
+         * @param id the id of the equipment linking the buses.
+         */
+        public void addEdge(String id, Bus bus1, Bus bus2) {
+            if (bus1 != null && bus2 != null) {
+                edgeBus1.add(busNums.get(bus1.getId()));
+                edgeBus2.add(busNums.get(bus2.getId()));
+                edgeIds.add(id);
+            }
+        }
+
+        private int getBusNum(Bus bus) {
+            Integer num = busNums.get(Objects.requireNonNull(bus).getId());
+            if (num == null) {
+                throw new PowsyblException("Bus '" + bus.getId() + "' not found in the bus view");
+            }
+            return num;
+        }
+    }
+
     private final String label;
 
     private List<C> components;
 
+    private BusGraph busGraph;
+
+    /* component number of each bus of the bus graph */
+    private int[] componentNumbers;
+
     protected AbstractComponentsManager(String label) {
         this.label = Objects.requireNonNull(label);
     }
 
     public void invalidate() {
         components = null;
+        busGraph = null;
+        componentNumbers = null;
     }
 
     public void update() {
@@ -48,21 +106,13 @@ abstract class AbstractComponentsManager<C extends Component> {
             setComponentNumber(bus, -1);
         }
 
-        int num = 0;
-        Map<String, Integer> id2num = new HashMap<>();
-        List<Bus> num2bus = new ArrayList<>();
-        for (Bus bus : getNetwork().getBusView().getBuses()) {
-            num2bus.add(bus);
-            id2num.put(bus.getId(), num);
-            num++;
-        }
-        TIntArrayList[] adjacencyList = new TIntArrayList[num];
-        for (int i = 0; i < adjacencyList.length; i++) {
-            adjacencyList[i] = new TIntArrayList(3);
-        }
-        fillAdjacencyList(id2num, adjacencyList);
+        BusGraph graph = new BusGraph(getNetwork().getBusView().getBuses());
+        fillEdges(graph);
 
-        ConnectedComponentsComputationResult result = GraphUtil.computeConnectedComponents(adjacencyList);
+        int[] edgeBus1 = graph.edgeBus1.toArray();
+        int[] edgeBus2 = graph.edgeBus2.toArray();
+        ConnectedComponentsComputationResult result = GraphUtil.computeConnectedComponents(graph.buses.size(), edgeBus1, edgeBus2,
+                edgeBus1.length >= PARALLEL_EDGE_COUNT_THRESHOLD);
 
         components = new ArrayList<>(result.getComponentSize().length);
         for (int i = 0; i < result.getComponentSize().length; i++) {
@@ -70,9 +120,11 @@ abstract class AbstractComponentsManager<C extends Component> {
         }
 
         for (int i = 0; i < result.getComponentNumber().length; i++) {
-            Bus bus = num2bus.get(i);
+            Bus bus = graph.buses.get(i);
             setComponentNumber(bus, result.getComponentNumber()[i]);
         }
+        busGraph = graph;
+        componentNumbers = result.getComponentNumber();
 
         LOGGER.debug("{} components computed in {} ms", getComponentLabel(), System.currentTimeMillis() - startTime);
     }
@@ -89,38 +141,82 @@ abstract class AbstractComponentsManager<C extends Component> {
         return num != -1 ? components.get(num) : null;
     }
 
-    void addToAdjacencyList(Bus bus1, Bus bus2, Map<String, Integer> id2num, TIntArrayList[] adjacencyList) {
-        if (bus1 != null && bus2 != null) {
-            int busNum1 = id2num.get(bus1.getId());
-            int busNum2 = id2num.get(bus2.getId());
-            adjacencyList[busNum1].add(busNum2);
-            adjacencyList[busNum2].add(busNum1);
+    /**
+     * Check if two buses of the bus view would still be in the same component if the given equipments were
+     * disconnected, without modifying the network.
+     *
+     * @param disconnectedIds the ids of the lines, tie lines, transformers or HVDC lines to disconnect.
+     */
+    public boolean isConnected(Bus bus1, Bus bus2, Set<String> disconnectedIds) {
+        Objects.requireNonNull(disconnectedIds);
+        update();
+        int num1 = busGraph.getBusNum(bus1);
+        int num2 = busGraph.getBusNum(bus2);
+        if (componentNumbers[num1] != componentNumbers[num2]) {
+            return false;
+        }
+        return computeUnionFind(componentNumbers[num1], disconnectedIds).connected(num1, num2);
+    }
+
+    /**
+     * Get the buses of the component of the given bus of the bus view which would not be connected to it anymore if
+     * the given equipments were disconnected, without modifying the network.
+     *
+     * @param disconnectedIds the ids of the lines, tie lines, transformers or HVDC lines to disconnect.
+     */
+    public List<Bus> getDisconnectedBuses(Bus bus, Set<String> disconnectedIds) {
+        Objects.requireNonNull(disconnectedIds);
+        update();
+        int num = busGraph.getBusNum(bus);
+        int component = componentNumbers[num];
+        UnionFind unionFind = computeUnionFind(component, disconnectedIds);
+        List<Bus> disconnectedBuses = new ArrayList<>();
+        for (int i = 0; i < componentNumbers.length; i++) {
+            if (componentNumbers[i] == component && !unionFind.connected(num, i)) {
+                disconnectedBuses.add(busGraph.buses.get(i));
+            }
+        }
+        return disconnectedBuses;
+    }
+
+    /**
+     * Merge the buses linked by the edges of the given component which are not disconnected: removing edges can only
+     * split the components containing them.
+     */
+    private UnionFind computeUnionFind(int component, Set<String> disconnectedIds) {
+        UnionFind unionFind = new UnionFind(componentNumbers.length);
+        for (int e = 0; e < busGraph.edgeIds.size(); e++) {
+            int num1 = busGraph.edgeBus1.getQuick(e);
+            if (componentNumbers[num1] == component && !disconnectedIds.contains(busGraph.edgeIds.get(e))) {
+                unionFind.union(num1, busGraph.edgeBus2.getQuick(e));
+            }
         }
+        return unionFind;
     }
 
-    protected void fillAdjacencyList(Map<String, Integer> id2num, TIntArrayList[] adjacencyList) {
+    protected void fillEdges(BusGraph graph) {
         for (Line line : getNetwork().getLines()) {
             Bus bus1 = line.getTerminal1().getBusView().getBus();
             Bus bus2 = line.getTerminal2().getBusView().getBus();
-            addToAdjacencyList(bus1, bus2, id2num, adjacencyList);
+            graph.addEdge(line.getId(), bus1, bus2);
         }
         for (TieLine tl : getNetwork().getTieLines()) {
             Bus bus1 = tl.getDanglingLine1().getTerminal().getBusView().getBus();
             Bus bus2 = tl.getDanglingLine2().getTerminal().getBusView().getBus();
-            addToAdjacencyList(bus1, bus2, id2num, adjacencyList);
+            graph.addEdge(tl.getId(), bus1, bus2);
         }
         for (TwoWindingsTransformer transfo : getNetwork().getTwoWindingsTransformers()) {
             Bus bus1 = transfo.getTerminal1().getBusView().getBus();
             Bus bus2 = transfo.getTerminal2().getBusView().getBus();
-            addToAdjacencyList(bus1, bus2, id2num, adjacencyList);
+            graph.addEdge(transfo.getId(), bus1, bus2);
         }
         for (ThreeWindingsTransformer transfo : getNetwork().getThreeWindingsTransformers()) {
             Bus bus1 = transfo.getLeg1().getTerminal().getBusView().getBus();
             Bus bus2 = transfo.getLeg2().getTerminal().getBusView().getBus();
             Bus bus3 = transfo.getLeg3().getTerminal().getBusView().getBus();
-            addToAdjacencyList(bus1, bus2, id2num, adjacencyList);
-            addToAdjacencyList(bus1, bus3, id2num, adjacencyList);
-            addToAdjacencyList(bus2, bus3, id2num, adjacencyList);
+            graph.addEdge(transfo.getId(), bus1, bus2);
+            graph.addEdge(transfo.getId(), bus1, bus3);
+            graph.addEdge(transfo.getId(), bus2, bus3);
         }
     }
 
@@ -11,9 +11,6 @@ package com.powsybl.iidm.network.components;
 import com.powsybl.iidm.network.Bus;
 import com.powsybl.iidm.network.Component;
 import com.powsybl.iidm.network.HvdcLine;
-import gnu.trove.list.array.TIntArrayList;
-
-import java.util.Map;
 
 /**
  * @author Mathieu Bague {@literal <mathieu.bague@rte-france.com>}
@@ -25,12 +22,12 @@ public abstract class AbstractConnectedComponentsManager<C extends Component> ex
     }
 
     @Override
-    protected void fillAdjacencyList(Map<String, Integer> id2num, TIntArrayList[] adjacencyList) {
-        super.fillAdjacencyList(id2num, adjacencyList);
+    protected void fillEdges(BusGraph graph) {
+        super.fillEdges(graph);
         for (HvdcLine line : getNetwork().getHvdcLines()) {
             Bus bus1 = line.getConverterStation1().getTerminal().getBusView().getBus();
             Bus bus2 = line.getConverterStation2().getTerminal().getBusView().getBus();
-            addToAdjacencyList(bus1, bus2, id2num, adjacencyList);
+            graph.addEdge(line.getId(), bus1, bus2);
         }
     }
 
@@ -16,6 +16,7 @@ import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static com.powsybl.iidm.network.identifiers.NetworkElementIdentifier.IdentifierType.ID_WITH_WILDCARDS;
@@ -35,6 +36,10 @@ public class IdWithWildcardsNetworkElementIdentifier implements NetworkElementId
     public static final char WILDCARD = '?';
     public static final int ALLOWED_WILDCARDS_NUMBER = 5;
     private final String contingencyId;
+    private Pattern pattern;
+    private String prefix;
+    private int minLength;
+    private int maxLength;
 
     public IdWithWildcardsNetworkElementIdentifier(String identifier) {
         this(identifier, null);
@@ -59,17 +64,28 @@ public class IdWithWildcardsNetworkElementIdentifier implements NetworkElementId
         if (separatorNumber == 0) {
             throw new PowsyblException("There is no wildcard in your identifier, please use IdBasedNetworkElementIdentifier instead");
         }
+        prefix = identifier.substring(0, identifier.indexOf(WILDCARD));
+        minLength = identifier.length();
+        // a wildcard may match a supplementary character, made of two chars
+        maxLength = minLength + separatorNumber;
         identifier = identifier.replace(".", "\\.").replace(WILDCARD, '.');
+        pattern = Pattern.compile(identifier);
     }
 
     @Override
     public Set<Identifiable> filterIdentifiable(Network network) {
         return network.getIdentifiables()
             .stream()
-            .filter(identifiable -> identifiable.getId().matches(identifier))
+            .filter(identifiable -> matches(identifiable.getId()))
             .collect(Collectors.toUnmodifiableSet());
     }
 
+    private boolean matches(String id) {
+        // each wildcard matches exactly one character: cheap checks on the length and on the prefix before the first
+        // wildcard discard most of the identifiables without running the pattern
+        return id.length() >= minLength && id.length() <= maxLength && id.startsWith(prefix) && pattern.matcher(id).matches();
+    }
+
     @Override
     public Set<String> getNotFoundElements(Network network) {
         Identifiable<?> identifiable = network.getIdentifiable(identifier);
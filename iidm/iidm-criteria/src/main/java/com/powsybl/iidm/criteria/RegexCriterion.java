@@ -19,8 +19,12 @@ public class RegexCriterion implements Criterion {
 
     private final String regex;
 
+    private final Pattern pattern;
+
     public RegexCriterion(String regex) {
         this.regex = regex;
+        // compiled once, as the criterion is usually tested against all the identifiables of a type
+        this.pattern = regex != null ? Pattern.compile(regex) : null;
     }
 
     @Override
@@ -30,7 +34,7 @@ public class RegexCriterion implements Criterion {
 
     @Override
     public boolean filter(Identifiable<?> identifiable, IdentifiableType type) {
-        return Pattern.compile(regex).matcher(identifiable.getId()).find();
+        return pattern.matcher(identifiable.getId()).find();
     }
 
     public String getRegex() {
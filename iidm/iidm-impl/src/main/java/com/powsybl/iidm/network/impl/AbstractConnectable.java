@@ -88,12 +88,36 @@ abstract class AbstractConnectable<I extends Connectable<I>> extends AbstractIde
         getNetwork().getListeners().notifyUpdate(this, attribute, oldValue, newValue);
     }
 
-    protected void notifyUpdate(Supplier<String> attribute, String variantId, Object oldValue, Object newValue) {
-        getNetwork().getListeners().notifyUpdate(this, attribute, variantId, oldValue, newValue);
+    protected void notifyUpdate(String attribute, double oldValue, double newValue) {
+        getNetwork().getListeners().notifyUpdate(this, attribute, oldValue, newValue);
+    }
+
+    protected void notifyUpdate(String attribute, int oldValue, int newValue) {
+        getNetwork().getListeners().notifyUpdate(this, attribute, oldValue, newValue);
+    }
+
+    protected void notifyUpdate(String attribute, boolean oldValue, boolean newValue) {
+        getNetwork().getListeners().notifyUpdate(this, attribute, oldValue, newValue);
+    }
+
+    protected void notifyUpdate(Supplier<String> attribute, int variantIndex, double oldValue, double newValue) {
+        getNetwork().getListeners().notifyUpdate(this, attribute, variantIndex, oldValue, newValue);
+    }
+
+    protected void notifyUpdate(String attribute, int variantIndex, double oldValue, double newValue) {
+        getNetwork().getListeners().notifyUpdate(this, attribute, variantIndex, oldValue, newValue);
+    }
+
+    protected void notifyUpdate(String attribute, int variantIndex, int oldValue, int newValue) {
+        getNetwork().getListeners().notifyUpdate(this, attribute, variantIndex, oldValue, newValue);
+    }
+
+    protected void notifyUpdate(String attribute, int variantIndex, boolean oldValue, boolean newValue) {
+        getNetwork().getListeners().notifyUpdate(this, attribute, variantIndex, oldValue, newValue);
     }
 
-    protected void notifyUpdate(String attribute, String variantId, Object oldValue, Object newValue) {
-        getNetwork().getListeners().notifyUpdate(this, attribute, variantId, oldValue, newValue);
+    protected void notifyUpdate(String attribute, int variantIndex, Object oldValue, Object newValue) {
+        getNetwork().getListeners().notifyUpdate(this, attribute, variantIndex, oldValue, newValue);
     }
 
     @Override
@@ -18,6 +18,7 @@ import java.time.ZonedDateTime;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -78,6 +79,16 @@ abstract class AbstractNetwork extends AbstractIdentifiable<Network> implements
         return "Network";
     }
 
+    @Override
+    public StateTable exportState(IdentifiableType identifiableType, Collection<StateAttribute> attributes) {
+        return StateTables.exportState(this, identifiableType, attributes);
+    }
+
+    @Override
+    public void importState(StateTable table) {
+        StateTables.importState(this, Objects.requireNonNull(table));
+    }
+
     /**
      * Transfer the extensions of a network to another one.
      * @param from the network whose extensions must be transferred
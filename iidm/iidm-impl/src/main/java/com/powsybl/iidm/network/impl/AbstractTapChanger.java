@@ -13,7 +13,6 @@ import com.powsybl.iidm.network.ValidationUtil;
 import com.powsybl.commons.ref.Ref;
 import gnu.trove.list.array.TDoubleArrayList;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.OptionalInt;
@@ -39,7 +38,7 @@ abstract class AbstractTapChanger<H extends TapChangerParent, C extends Abstract
 
     // attributes depending on the variant
 
-    protected final ArrayList<Integer> tapPosition;
+    protected final VariantValueArray<Integer> tapPosition;
 
     protected final TDoubleArrayList targetDeadband;
 
@@ -56,10 +55,9 @@ abstract class AbstractTapChanger<H extends TapChangerParent, C extends Abstract
         int variantArraySize = network.get().getVariantManager().getVariantArraySize();
         regulatingPoint = createRegulatingPoint(variantArraySize, regulating);
         regulatingPoint.setRegulatingTerminal(regulationTerminal);
-        this.tapPosition = new ArrayList<>(variantArraySize);
+        this.tapPosition = VariantValueArray.create(network, tapPosition);
         this.targetDeadband = new TDoubleArrayList(variantArraySize);
         for (int i = 0; i < variantArraySize; i++) {
-            this.tapPosition.add(tapPosition);
             this.targetDeadband.add(targetDeadband);
         }
         this.type = Objects.requireNonNull(type);
@@ -123,9 +121,8 @@ abstract class AbstractTapChanger<H extends TapChangerParent, C extends Abstract
         }
         int variantIndex = n.getVariantIndex();
         Integer oldValue = this.tapPosition.set(variantIndex, tapPosition);
-        String variantId = n.getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        parent.getNetwork().getListeners().notifyUpdate(parent.getTransformer(), () -> getTapChangerAttribute() + ".tapPosition", variantId, oldValue, tapPosition);
+        parent.getNetwork().getListeners().notifyUpdate(parent.getTransformer(), () -> getTapChangerAttribute() + ".tapPosition", variantIndex, oldValue, Integer.valueOf(tapPosition));
         return (C) this;
     }
 
@@ -134,9 +131,8 @@ abstract class AbstractTapChanger<H extends TapChangerParent, C extends Abstract
         ValidationUtil.throwExceptionOrLogError(parent, "tap position has been unset", n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         int variantIndex = network.get().getVariantIndex();
         Integer oldValue = this.tapPosition.set(variantIndex, null);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        n.getListeners().notifyUpdate(parent.getTransformer(), () -> getTapChangerAttribute() + ".tapPosition", variantId, oldValue, null);
+        n.getListeners().notifyUpdate(parent.getTransformer(), () -> getTapChangerAttribute() + ".tapPosition", variantIndex, oldValue, null);
         return (C) this;
     }
 
@@ -181,9 +177,8 @@ abstract class AbstractTapChanger<H extends TapChangerParent, C extends Abstract
         int variantIndex = network.get().getVariantIndex();
         ValidationUtil.checkTargetDeadband(parent, type, regulating, targetDeadband.get(variantIndex), n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         boolean oldValue = regulatingPoint.setRegulating(variantIndex, regulating);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        n.getListeners().notifyUpdate(parent.getTransformer(), () -> getTapChangerAttribute() + ".regulating", variantId, oldValue, regulating);
+        n.getListeners().notifyUpdate(parent.getTransformer(), () -> getTapChangerAttribute() + ".regulating", variantIndex, oldValue, regulating);
         return (C) this;
     }
 
@@ -211,18 +206,16 @@ abstract class AbstractTapChanger<H extends TapChangerParent, C extends Abstract
         ValidationUtil.checkTargetDeadband(parent, type, regulatingPoint.isRegulating(variantIndex),
                 targetDeadband, n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         double oldValue = this.targetDeadband.set(variantIndex, targetDeadband);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        n.getListeners().notifyUpdate(parent.getTransformer(), () -> getTapChangerAttribute() + ".targetDeadband", variantId, oldValue, targetDeadband);
+        n.getListeners().notifyUpdate(parent.getTransformer(), () -> getTapChangerAttribute() + ".targetDeadband", variantIndex, oldValue, targetDeadband);
         return (C) this;
     }
 
     @Override
     public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
         targetDeadband.ensureCapacity(targetDeadband.size() + number);
-        tapPosition.ensureCapacity(tapPosition.size() + number);
+        tapPosition.extendVariantArraySize(number, sourceIndex);
         for (int i = 0; i < number; i++) {
-            tapPosition.add(tapPosition.get(sourceIndex));
             targetDeadband.add(targetDeadband.get(sourceIndex));
         }
         regulatingPoint.extendVariantArraySize(initVariantArraySize, number, sourceIndex);
@@ -230,22 +223,21 @@ abstract class AbstractTapChanger<H extends TapChangerParent, C extends Abstract
 
     @Override
     public void reduceVariantArraySize(int number) {
-        List<Integer> tmpInt = new ArrayList<>(tapPosition.subList(0, tapPosition.size() - number));
-        tapPosition.clear();
-        tapPosition.addAll(tmpInt);
+        tapPosition.reduceVariantArraySize(number);
         targetDeadband.remove(targetDeadband.size() - number, number);
         regulatingPoint.reduceVariantArraySize(number);
     }
 
     @Override
     public void deleteVariantArrayElement(int index) {
+        tapPosition.deleteVariantArrayElement(index);
         regulatingPoint.deleteVariantArrayElement(index);
     }
 
     @Override
     public void allocateVariantArrayElement(int[] indexes, final int sourceIndex) {
+        tapPosition.allocateVariantArrayElement(indexes, sourceIndex);
         for (int index : indexes) {
-            tapPosition.set(index, tapPosition.get(sourceIndex));
             targetDeadband.set(index, targetDeadband.get(sourceIndex));
         }
         regulatingPoint.allocateVariantArrayElement(indexes, sourceIndex);
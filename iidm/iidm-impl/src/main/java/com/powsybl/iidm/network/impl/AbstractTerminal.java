@@ -11,7 +11,6 @@ import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.*;
 import com.powsybl.commons.ref.Ref;
 import com.powsybl.iidm.network.util.SwitchPredicates;
-import gnu.trove.list.array.TDoubleArrayList;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -37,22 +36,18 @@ abstract class AbstractTerminal implements TerminalExt {
 
     // attributes depending on the variant
 
-    protected final TDoubleArrayList p;
+    protected final VariantDoubleArray p;
 
-    protected final TDoubleArrayList q;
+    protected final VariantDoubleArray q;
 
     protected boolean removed = false;
 
     AbstractTerminal(Ref<? extends VariantManagerHolder> network, ThreeSides side) {
         this.side = side;
         this.network = network;
-        int variantArraySize = network.get().getVariantManager().getVariantArraySize();
-        p = new TDoubleArrayList(variantArraySize);
-        q = new TDoubleArrayList(variantArraySize);
-        for (int i = 0; i < variantArraySize; i++) {
-            p.add(Double.NaN);
-            q.add(Double.NaN);
-        }
+        // the network reference changes when the terminal is attached to a voltage level
+        p = VariantDoubleArray.create(this::getVariantManagerHolder, Double.NaN);
+        q = VariantDoubleArray.create(this::getVariantManagerHolder, Double.NaN);
     }
 
     @Override
@@ -118,8 +113,7 @@ abstract class AbstractTerminal implements TerminalExt {
         }
         int variantIndex = network.get().getVariantIndex();
         double oldValue = this.p.set(variantIndex, p);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
-        getConnectable().notifyUpdate(() -> "p" + getAttributeSideSuffix(), variantId, oldValue, p);
+        getConnectable().notifyUpdate(() -> "p" + getAttributeSideSuffix(), variantIndex, oldValue, p);
         return this;
     }
 
@@ -141,11 +135,30 @@ abstract class AbstractTerminal implements TerminalExt {
         }
         int variantIndex = network.get().getVariantIndex();
         double oldValue = this.q.set(variantIndex, q);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
-        getConnectable().notifyUpdate(() -> "q" + getAttributeSideSuffix(), variantId, oldValue, q);
+        getConnectable().notifyUpdate(() -> "q" + getAttributeSideSuffix(), variantIndex, oldValue, q);
         return this;
     }
 
+    /**
+     * Set p for a variant without notifying the listeners, used by bulk state imports which notify once for all.
+     */
+    void setPWithoutNotification(int variantIndex, double p) {
+        if (removed) {
+            throw new PowsyblException(UNMODIFIABLE_REMOVED_EQUIPMENT + connectable.id);
+        }
+        this.p.set(variantIndex, p);
+    }
+
+    /**
+     * Set q for a variant without notifying the listeners, used by bulk state imports which notify once for all.
+     */
+    void setQWithoutNotification(int variantIndex, double q) {
+        if (removed) {
+            throw new PowsyblException(UNMODIFIABLE_REMOVED_EQUIPMENT + connectable.id);
+        }
+        this.q.set(variantIndex, q);
+    }
+
     protected abstract double getV();
 
     @Override
@@ -179,12 +192,11 @@ abstract class AbstractTerminal implements TerminalExt {
             throw new PowsyblException(UNMODIFIABLE_REMOVED_EQUIPMENT + connectable.id);
         }
         int variantIndex = getVariantManagerHolder().getVariantIndex();
-        String variantId = getVariantManagerHolder().getVariantManager().getVariantId(variantIndex);
         boolean connectedBefore = isConnected();
-        connectable.notifyUpdate("beginConnect", variantId, connectedBefore, null);
+        connectable.notifyUpdate("beginConnect", variantIndex, connectedBefore, null);
         boolean connected = voltageLevel.connect(this, isTypeSwitchToOperate);
         boolean connectedAfter = isConnected();
-        connectable.notifyUpdate("endConnect", variantId, null, connectedAfter);
+        connectable.notifyUpdate("endConnect", variantIndex, null, connectedAfter);
         return connected;
     }
 
@@ -206,42 +218,36 @@ abstract class AbstractTerminal implements TerminalExt {
             throw new PowsyblException(UNMODIFIABLE_REMOVED_EQUIPMENT + connectable.id);
         }
         int variantIndex = getVariantManagerHolder().getVariantIndex();
-        String variantId = getVariantManagerHolder().getVariantManager().getVariantId(variantIndex);
         boolean disconnectedBefore = !isConnected();
-        connectable.notifyUpdate("beginDisconnect", variantId, disconnectedBefore, null);
+        connectable.notifyUpdate("beginDisconnect", variantIndex, disconnectedBefore, null);
         boolean disconnected = voltageLevel.disconnect(this, isSwitchOpenable);
         boolean disconnectedAfter = !isConnected();
-        connectable.notifyUpdate("endDisconnect", variantId, null, disconnectedAfter);
+        connectable.notifyUpdate("endDisconnect", variantIndex, null, disconnectedAfter);
         return disconnected;
     }
 
     @Override
     public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
-        p.ensureCapacity(p.size() + number);
-        q.ensureCapacity(q.size() + number);
-        for (int i = 0; i < number; i++) {
-            p.add(p.get(sourceIndex));
-            q.add(q.get(sourceIndex));
-        }
+        p.extendVariantArraySize(number, sourceIndex);
+        q.extendVariantArraySize(number, sourceIndex);
     }
 
     @Override
     public void reduceVariantArraySize(int number) {
-        p.remove(p.size() - number, number);
-        q.remove(q.size() - number, number);
+        p.reduceVariantArraySize(number);
+        q.reduceVariantArraySize(number);
     }
 
     @Override
     public void deleteVariantArrayElement(int index) {
-        // nothing to do
+        p.deleteVariantArrayElement(index);
+        q.deleteVariantArrayElement(index);
     }
 
     @Override
     public void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
-        for (int index : indexes) {
-            p.set(index, p.get(sourceIndex));
-            q.set(index, q.get(sourceIndex));
-        }
+        p.allocateVariantArrayElement(indexes, sourceIndex);
+        q.allocateVariantArrayElement(indexes, sourceIndex);
     }
 
     @Override
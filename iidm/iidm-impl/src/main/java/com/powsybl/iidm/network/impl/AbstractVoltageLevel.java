@@ -14,6 +14,9 @@ import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.iidm.network.*;
 import com.powsybl.commons.ref.Ref;
+import com.powsybl.math.graph.CsrUndirectedGraph;
+import com.powsybl.math.graph.UndirectedGraph;
+import com.powsybl.math.graph.UndirectedGraphImpl;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -29,6 +32,8 @@ abstract class AbstractVoltageLevel extends AbstractIdentifiable<VoltageLevel> i
 
     public static final int NODE_INDEX_LIMIT = loadNodeIndexLimit(PlatformConfig.defaultConfig());
 
+    public static final boolean CSR_GRAPH = loadCsrGraph(PlatformConfig.defaultConfig());
+
     private final Ref<NetworkImpl> networkRef;
     private Ref<SubnetworkImpl> subnetworkRef;
 
@@ -63,6 +68,21 @@ abstract class AbstractVoltageLevel extends AbstractIdentifiable<VoltageLevel> i
             .orElse(DEFAULT_NODE_INDEX_LIMIT);
     }
 
+    protected static boolean loadCsrGraph(PlatformConfig platformConfig) {
+        return platformConfig
+            .getOptionalModuleConfig("iidm")
+            .map(moduleConfig -> moduleConfig.getBooleanProperty("csr-graph", false))
+            .orElse(false);
+    }
+
+    /**
+     * Create the topology graph of a voltage level, a {@link CsrUndirectedGraph} if the {@code csr-graph} property of
+     * the {@code iidm} module is true, a {@link UndirectedGraphImpl} otherwise.
+     */
+    protected static <V, E> UndirectedGraph<V, E> createGraph() {
+        return CSR_GRAPH ? new CsrUndirectedGraph<>(NODE_INDEX_LIMIT) : new UndirectedGraphImpl<>(NODE_INDEX_LIMIT);
+    }
+
     @Override
     public String getSubnetworkId() {
         return Optional.ofNullable(subnetworkRef.get()).map(Identifiable::getId).orElse(null);
@@ -128,8 +128,7 @@ public class AreaImpl extends AbstractIdentifiable<Area> implements Area {
         NetworkImpl n = getNetwork();
         int variantIndex = n.getVariantIndex();
         double oldValue = this.interchangeTarget.set(variantIndex, interchangeTarget);
-        String variantId = n.getVariantManager().getVariantId(variantIndex);
-        notifyUpdate("interchangeTarget", variantId, oldValue, interchangeTarget);
+        notifyUpdate("interchangeTarget", variantIndex, oldValue, interchangeTarget);
         return this;
     }
 
@@ -259,8 +258,8 @@ public class AreaImpl extends AbstractIdentifiable<Area> implements Area {
         }
     }
 
-    protected void notifyUpdate(String attribute, String variantId, Object oldValue, Object newValue) {
-        getNetwork().getListeners().notifyUpdate(this, attribute, variantId, oldValue, newValue);
+    protected void notifyUpdate(String attribute, int variantIndex, double oldValue, double newValue) {
+        getNetwork().getListeners().notifyUpdate(this, attribute, variantIndex, oldValue, newValue);
     }
 
     @Override
@@ -9,7 +9,6 @@ package com.powsybl.iidm.network.impl;
 
 import com.powsybl.iidm.network.*;
 import com.powsybl.commons.ref.Ref;
-import gnu.trove.list.array.TDoubleArrayList;
 
 /**
  * {@inheritDoc}
@@ -20,9 +19,9 @@ public class BatteryImpl extends AbstractConnectable<Battery> implements Battery
 
     private final ReactiveLimitsHolderImpl reactiveLimits;
 
-    private final TDoubleArrayList targetP;
+    private final VariantDoubleArray targetP;
 
-    private final TDoubleArrayList targetQ;
+    private final VariantDoubleArray targetQ;
 
     private double minP;
 
@@ -34,13 +33,8 @@ public class BatteryImpl extends AbstractConnectable<Battery> implements Battery
         this.maxP = maxP;
         this.reactiveLimits = new ReactiveLimitsHolderImpl(this, new MinMaxReactiveLimitsImpl(-Double.MAX_VALUE, Double.MAX_VALUE));
 
-        int variantArraySize = ref.get().getVariantManager().getVariantArraySize();
-        this.targetP = new TDoubleArrayList(variantArraySize);
-        this.targetQ = new TDoubleArrayList(variantArraySize);
-        for (int i = 0; i < variantArraySize; i++) {
-            this.targetP.add(targetP);
-            this.targetQ.add(targetQ);
-        }
+        this.targetP = VariantDoubleArray.create(ref, targetP);
+        this.targetQ = VariantDoubleArray.create(ref, targetQ);
     }
 
     /**
@@ -68,9 +62,8 @@ public class BatteryImpl extends AbstractConnectable<Battery> implements Battery
         ValidationUtil.checkP0(this, targetP, network.getMinValidationLevel(), network.getReportNodeContext().getReportNode());
         int variantIndex = network.getVariantIndex();
         double oldValue = this.targetP.set(variantIndex, targetP);
-        String variantId = network.getVariantManager().getVariantId(variantIndex);
         network.invalidateValidationLevel();
-        notifyUpdate("targetP", variantId, oldValue, targetP);
+        notifyUpdate("targetP", variantIndex, oldValue, targetP);
         return this;
     }
 
@@ -91,9 +84,8 @@ public class BatteryImpl extends AbstractConnectable<Battery> implements Battery
         ValidationUtil.checkQ0(this, targetQ, network.getMinValidationLevel(), network.getReportNodeContext().getReportNode());
         int variantIndex = network.getVariantIndex();
         double oldValue = this.targetQ.set(variantIndex, targetQ);
-        String variantId = network.getVariantManager().getVariantId(variantIndex);
         network.invalidateValidationLevel();
-        notifyUpdate("targetQ", variantId, oldValue, targetQ);
+        notifyUpdate("targetQ", variantIndex, oldValue, targetQ);
         return this;
     }
 
@@ -193,12 +185,8 @@ public class BatteryImpl extends AbstractConnectable<Battery> implements Battery
     @Override
     public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
         super.extendVariantArraySize(initVariantArraySize, number, sourceIndex);
-        targetP.ensureCapacity(targetP.size() + number);
-        targetQ.ensureCapacity(targetQ.size() + number);
-        for (int i = 0; i < number; i++) {
-            targetP.add(targetP.get(sourceIndex));
-            targetQ.add(targetQ.get(sourceIndex));
-        }
+        targetP.extendVariantArraySize(number, sourceIndex);
+        targetQ.extendVariantArraySize(number, sourceIndex);
     }
 
     /**
@@ -207,8 +195,18 @@ public class BatteryImpl extends AbstractConnectable<Battery> implements Battery
     @Override
     public void reduceVariantArraySize(int number) {
         super.reduceVariantArraySize(number);
-        targetP.remove(targetP.size() - number, number);
-        targetQ.remove(targetQ.size() - number, number);
+        targetP.reduceVariantArraySize(number);
+        targetQ.reduceVariantArraySize(number);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteVariantArrayElement(int index) {
+        super.deleteVariantArrayElement(index);
+        targetP.deleteVariantArrayElement(index);
+        targetQ.deleteVariantArrayElement(index);
     }
 
     /**
@@ -217,9 +215,7 @@ public class BatteryImpl extends AbstractConnectable<Battery> implements Battery
     @Override
     public void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
         super.allocateVariantArrayElement(indexes, sourceIndex);
-        for (int index : indexes) {
-            targetP.set(index, targetP.get(sourceIndex));
-            targetQ.set(index, targetQ.get(sourceIndex));
-        }
+        targetP.allocateVariantArrayElement(indexes, sourceIndex);
+        targetQ.allocateVariantArrayElement(indexes, sourceIndex);
     }
 }
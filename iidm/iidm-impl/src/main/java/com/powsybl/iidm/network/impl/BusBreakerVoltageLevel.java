@@ -19,7 +19,7 @@ import com.powsybl.iidm.network.util.Networks;
 import com.powsybl.iidm.network.util.ShortIdDictionary;
 import com.powsybl.math.graph.TraversalType;
 import com.powsybl.math.graph.TraverseResult;
-import com.powsybl.math.graph.UndirectedGraphImpl;
+import com.powsybl.math.graph.UndirectedGraph;
 import com.powsybl.math.graph.UndirectedGraphListener;
 import org.anarres.graphviz.builder.GraphVizAttribute;
 import org.anarres.graphviz.builder.GraphVizEdge;
@@ -108,7 +108,7 @@ class BusBreakerVoltageLevel extends AbstractVoltageLevel {
 
     }
 
-    private final UndirectedGraphImpl<ConfiguredBus, SwitchImpl> graph = new UndirectedGraphImpl<>(NODE_INDEX_LIMIT);
+    private final UndirectedGraph<ConfiguredBus, SwitchImpl> graph = createGraph();
 
     /* buses indexed by vertex number */
     private final Map<String, Integer> buses = new HashMap<>();
@@ -1022,7 +1022,7 @@ class BusBreakerVoltageLevel extends AbstractVoltageLevel {
     @Override
     public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
         super.extendVariantArraySize(initVariantArraySize, number, sourceIndex);
-        variants.push(number, () -> variants.copy(sourceIndex));
+        variants.push(number);
     }
 
     @Override
@@ -1040,7 +1040,7 @@ class BusBreakerVoltageLevel extends AbstractVoltageLevel {
     @Override
     public void allocateVariantArrayElement(int[] indexes, final int sourceIndex) {
         super.allocateVariantArrayElement(indexes, sourceIndex);
-        variants.allocate(indexes, () -> variants.copy(sourceIndex));
+        variants.allocate(indexes);
     }
 
     @Override
@@ -74,8 +74,7 @@ class BusTerminal extends AbstractTerminal {
             int variantIndex = getVariantManagerHolder().getVariantIndex();
             String oldValue = BusTerminal.this.connectableBusId.set(variantIndex, busId);
             vl.attach(BusTerminal.this, false);
-            String variantId = getVariantManagerHolder().getVariantManager().getVariantId(variantIndex);
-            getConnectable().notifyUpdate("connectableBusId", variantId, oldValue, busId);
+            getConnectable().notifyUpdate("connectableBusId", variantIndex, oldValue, busId);
         }
 
         @Override
@@ -138,8 +137,7 @@ class BusTerminal extends AbstractTerminal {
         }
         int variantIndex = getVariantManagerHolder().getVariantIndex();
         String oldValue = this.connectableBusId.set(variantIndex, connectableBusId);
-        String variantId = getVariantManagerHolder().getVariantManager().getVariantId(variantIndex);
-        getConnectable().notifyUpdate("connectableBusId", variantId, oldValue, connectableBusId);
+        getConnectable().notifyUpdate("connectableBusId", variantIndex, oldValue, connectableBusId);
     }
 
     String getConnectableBusId() {
@@ -155,8 +153,7 @@ class BusTerminal extends AbstractTerminal {
         }
         int variantIndex = getVariantManagerHolder().getVariantIndex();
         boolean oldValue = this.connected.set(variantIndex, connected);
-        String variantId = getVariantManagerHolder().getVariantManager().getVariantId(variantIndex);
-        getConnectable().notifyUpdate("connected" + getAttributeSideSuffix(), variantId, oldValue, connected);
+        getConnectable().notifyUpdate("connected" + getAttributeSideSuffix(), variantIndex, oldValue, connected);
     }
 
     @Override
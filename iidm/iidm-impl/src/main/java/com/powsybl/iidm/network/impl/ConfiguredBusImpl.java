@@ -98,8 +98,12 @@ class ConfiguredBusImpl extends AbstractBus implements ConfiguredBus {
         }
     }
 
-    protected <S, T extends S> void notifyUpdate(String attribute, String variantId, S oldValue, T newValue) {
-        network.get().getListeners().notifyUpdate(this, attribute, variantId, oldValue, newValue);
+    protected void notifyUpdate(String attribute, int variantIndex, double oldValue, double newValue) {
+        network.get().getListeners().notifyUpdate(this, attribute, variantIndex, oldValue, newValue);
+    }
+
+    protected void notifyUpdate(String attribute, int variantIndex, int oldValue, int newValue) {
+        network.get().getListeners().notifyUpdate(this, attribute, variantIndex, oldValue, newValue);
     }
 
     @Override
@@ -114,8 +118,7 @@ class ConfiguredBusImpl extends AbstractBus implements ConfiguredBus {
         }
         int variantIndex = network.get().getVariantIndex();
         double oldValue = this.v.set(variantIndex, v);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
-        notifyUpdate("v", variantId, oldValue, v);
+        notifyUpdate("v", variantIndex, oldValue, v);
         return this;
     }
 
@@ -128,8 +131,7 @@ class ConfiguredBusImpl extends AbstractBus implements ConfiguredBus {
     public BusExt setAngle(double angle) {
         int variantIndex = network.get().getVariantIndex();
         double oldValue = this.angle.set(variantIndex, angle);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
-        notifyUpdate("angle", variantId, oldValue, angle);
+        notifyUpdate("angle", variantIndex, oldValue, angle);
         return this;
     }
 
@@ -145,8 +147,7 @@ class ConfiguredBusImpl extends AbstractBus implements ConfiguredBus {
         }
         int variantIndex = network.get().getVariantIndex();
         double oldValue = this.fictitiousP0.set(variantIndex, p0);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
-        notifyUpdate("fictitiousP0", variantId, oldValue, p0);
+        notifyUpdate("fictitiousP0", variantIndex, oldValue, p0);
         return this;
     }
 
@@ -162,8 +163,7 @@ class ConfiguredBusImpl extends AbstractBus implements ConfiguredBus {
         }
         int variantIndex = network.get().getVariantIndex();
         double oldValue = this.fictitiousQ0.set(variantIndex, q0);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
-        notifyUpdate("fictitiousQ0", variantId, oldValue, q0);
+        notifyUpdate("fictitiousQ0", variantIndex, oldValue, q0);
         return this;
     }
 
@@ -171,8 +171,7 @@ class ConfiguredBusImpl extends AbstractBus implements ConfiguredBus {
     public void setConnectedComponentNumber(int connectedComponentNumber) {
         int variantIndex = network.get().getVariantIndex();
         int oldValue = this.connectedComponentNumber.set(variantIndex, connectedComponentNumber);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
-        notifyUpdate("connectedComponentNumber", variantId, oldValue, connectedComponentNumber);
+        notifyUpdate("connectedComponentNumber", variantIndex, oldValue, connectedComponentNumber);
     }
 
     @Override
@@ -186,8 +185,7 @@ class ConfiguredBusImpl extends AbstractBus implements ConfiguredBus {
     public void setSynchronousComponentNumber(int componentNumber) {
         int variantIndex = network.get().getVariantIndex();
         int oldValue = this.synchronousComponentNumber.set(variantIndex, componentNumber);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
-        notifyUpdate("synchronousComponentNumber", variantId, oldValue, componentNumber);
+        notifyUpdate("synchronousComponentNumber", variantIndex, oldValue, componentNumber);
     }
 
     @Override
@@ -81,9 +81,8 @@ class DanglingLineImpl extends AbstractConnectable<DanglingLine> implements Dang
             ValidationUtil.checkActivePowerSetpoint(danglingLine, targetP, n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
             int variantIndex = danglingLine.network.get().getVariantIndex();
             double oldValue = this.targetP.set(variantIndex, targetP);
-            String variantId = danglingLine.network.get().getVariantManager().getVariantId(variantIndex);
             n.invalidateValidationLevel();
-            danglingLine.notifyUpdate("targetP", variantId, oldValue, targetP);
+            danglingLine.notifyUpdate("targetP", variantIndex, oldValue, targetP);
             return this;
         }
 
@@ -129,9 +128,8 @@ class DanglingLineImpl extends AbstractConnectable<DanglingLine> implements Dang
             ValidationUtil.checkVoltageControl(danglingLine, voltageRegulationOn.get(variantIndex), targetV.get(variantIndex), targetQ,
                     n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
             double oldValue = this.targetQ.set(variantIndex, targetQ);
-            String variantId = n.getVariantManager().getVariantId(variantIndex);
             n.invalidateValidationLevel();
-            danglingLine.notifyUpdate("targetQ", variantId, oldValue, targetQ);
+            danglingLine.notifyUpdate("targetQ", variantIndex, oldValue, targetQ);
             return this;
         }
 
@@ -148,9 +146,8 @@ class DanglingLineImpl extends AbstractConnectable<DanglingLine> implements Dang
                     n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
             boolean oldValue = this.voltageRegulationOn.get(variantIndex);
             this.voltageRegulationOn.set(variantIndex, voltageRegulationOn);
-            String variantId = danglingLine.getNetwork().getVariantManager().getVariantId(variantIndex);
             n.invalidateValidationLevel();
-            danglingLine.notifyUpdate("voltageRegulationOn", variantId, oldValue, voltageRegulationOn);
+            danglingLine.notifyUpdate("voltageRegulationOn", variantIndex, oldValue, voltageRegulationOn);
             return this;
         }
 
@@ -171,9 +168,8 @@ class DanglingLineImpl extends AbstractConnectable<DanglingLine> implements Dang
             ValidationUtil.checkVoltageControl(danglingLine, voltageRegulationOn.get(variantIndex), targetV, targetQ.get(variantIndex),
                     n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
             double oldValue = this.targetV.set(variantIndex, targetV);
-            String variantId = danglingLine.getNetwork().getVariantManager().getVariantId(variantIndex);
             n.invalidateValidationLevel();
-            danglingLine.notifyUpdate("targetV", variantId, oldValue, targetV);
+            danglingLine.notifyUpdate("targetV", variantIndex, oldValue, targetV);
             return this;
         }
 
@@ -335,9 +331,8 @@ class DanglingLineImpl extends AbstractConnectable<DanglingLine> implements Dang
         NetworkImpl n = getNetwork();
         int variantIndex = n.getVariantIndex();
         double oldValue = this.p0.set(variantIndex, p0);
-        String variantId = n.getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("p0", variantId, oldValue, p0);
+        notifyUpdate("p0", variantIndex, oldValue, p0);
         return this;
     }
 
@@ -351,9 +346,8 @@ class DanglingLineImpl extends AbstractConnectable<DanglingLine> implements Dang
         NetworkImpl n = getNetwork();
         int variantIndex = n.getVariantIndex();
         double oldValue = this.q0.set(variantIndex, q0);
-        String variantId = n.getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("q0", variantId, oldValue, q0);
+        notifyUpdate("q0", variantIndex, oldValue, q0);
         return this;
     }
 
@@ -9,7 +9,6 @@ package com.powsybl.iidm.network.impl;
 
 import com.powsybl.commons.ref.Ref;
 import com.powsybl.iidm.network.*;
-import gnu.trove.list.array.TDoubleArrayList;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -32,11 +31,11 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
 
     // attributes depending on the variant
 
-    private final TDoubleArrayList targetP;
+    private final VariantDoubleArray targetP;
 
-    private final TDoubleArrayList targetQ;
+    private final VariantDoubleArray targetQ;
 
-    private final TDoubleArrayList targetV;
+    private final VariantDoubleArray targetV;
 
     private final boolean isCondenser;
 
@@ -56,14 +55,9 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
         int variantArraySize = network.get().getVariantManager().getVariantArraySize();
         regulatingPoint = new RegulatingPoint(id, this::getTerminal, variantArraySize, voltageRegulatorOn, voltageRegulatorOn);
         regulatingPoint.setRegulatingTerminal(regulatingTerminal);
-        this.targetP = new TDoubleArrayList(variantArraySize);
-        this.targetQ = new TDoubleArrayList(variantArraySize);
-        this.targetV = new TDoubleArrayList(variantArraySize);
-        for (int i = 0; i < variantArraySize; i++) {
-            this.targetP.add(targetP);
-            this.targetQ.add(targetQ);
-            this.targetV.add(targetV);
-        }
+        this.targetP = VariantDoubleArray.create(network, targetP);
+        this.targetQ = VariantDoubleArray.create(network, targetQ);
+        this.targetV = VariantDoubleArray.create(network, targetV);
         this.isCondenser = isCondenser;
     }
 
@@ -130,9 +124,8 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
                 n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         boolean oldValue = regulatingPoint.setRegulating(variantIndex, voltageRegulatorOn);
         regulatingPoint.setUseVoltageRegulation(voltageRegulatorOn);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("voltageRegulatorOn", variantId, oldValue, voltageRegulatorOn);
+        notifyUpdate("voltageRegulatorOn", variantIndex, oldValue, voltageRegulatorOn);
         return this;
     }
 
@@ -161,9 +154,8 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
         ValidationUtil.checkActivePowerSetpoint(this, targetP, n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         int variantIndex = network.get().getVariantIndex();
         double oldValue = this.targetP.set(network.get().getVariantIndex(), targetP);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("targetP", variantId, oldValue, targetP);
+        notifyUpdate("targetP", variantIndex, oldValue, targetP);
         return this;
     }
 
@@ -179,9 +171,8 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
         ValidationUtil.checkVoltageControl(this, regulatingPoint.isRegulating(variantIndex),
                 targetV.get(variantIndex), targetQ, n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         double oldValue = this.targetQ.set(variantIndex, targetQ);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("targetQ", variantId, oldValue, targetQ);
+        notifyUpdate("targetQ", variantIndex, oldValue, targetQ);
         return this;
     }
 
@@ -197,9 +188,8 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
         ValidationUtil.checkVoltageControl(this, regulatingPoint.isRegulating(variantIndex),
                 targetV, targetQ.get(variantIndex), n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         double oldValue = this.targetV.set(variantIndex, targetV);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("targetV", variantId, oldValue, targetV);
+        notifyUpdate("targetV", variantIndex, oldValue, targetV);
         return this;
     }
 
@@ -256,40 +246,36 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
     @Override
     public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
         super.extendVariantArraySize(initVariantArraySize, number, sourceIndex);
-        targetP.ensureCapacity(targetP.size() + number);
-        targetQ.ensureCapacity(targetQ.size() + number);
-        targetV.ensureCapacity(targetV.size() + number);
-        for (int i = 0; i < number; i++) {
-            targetP.add(targetP.get(sourceIndex));
-            targetQ.add(targetQ.get(sourceIndex));
-            targetV.add(targetV.get(sourceIndex));
-        }
+        targetP.extendVariantArraySize(number, sourceIndex);
+        targetQ.extendVariantArraySize(number, sourceIndex);
+        targetV.extendVariantArraySize(number, sourceIndex);
         regulatingPoint.extendVariantArraySize(initVariantArraySize, number, sourceIndex);
     }
 
     @Override
     public void reduceVariantArraySize(int number) {
         super.reduceVariantArraySize(number);
-        targetP.remove(targetP.size() - number, number);
-        targetQ.remove(targetQ.size() - number, number);
-        targetV.remove(targetV.size() - number, number);
+        targetP.reduceVariantArraySize(number);
+        targetQ.reduceVariantArraySize(number);
+        targetV.reduceVariantArraySize(number);
         regulatingPoint.reduceVariantArraySize(number);
     }
 
     @Override
     public void deleteVariantArrayElement(int index) {
         super.deleteVariantArrayElement(index);
+        targetP.deleteVariantArrayElement(index);
+        targetQ.deleteVariantArrayElement(index);
+        targetV.deleteVariantArrayElement(index);
         regulatingPoint.deleteVariantArrayElement(index);
     }
 
     @Override
     public void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
         super.allocateVariantArrayElement(indexes, sourceIndex);
-        for (int index : indexes) {
-            targetP.set(index, targetP.get(sourceIndex));
-            targetQ.set(index, targetQ.get(sourceIndex));
-            targetV.set(index, targetV.get(sourceIndex));
-        }
+        targetP.allocateVariantArrayElement(indexes, sourceIndex);
+        targetQ.allocateVariantArrayElement(indexes, sourceIndex);
+        targetV.allocateVariantArrayElement(indexes, sourceIndex);
         regulatingPoint.allocateVariantArrayElement(indexes, sourceIndex);
     }
 
@@ -70,8 +70,16 @@ class HvdcLineImpl extends AbstractIdentifiable<HvdcLine> implements HvdcLine {
         getNetwork().getListeners().notifyUpdate(this, attribute, oldValue, newValue);
     }
 
-    protected void notifyUpdate(String attribute, String variantId, Object oldValue, Object newValue) {
-        getNetwork().getListeners().notifyUpdate(this, attribute, variantId, oldValue, newValue);
+    protected void notifyUpdate(String attribute, double oldValue, double newValue) {
+        getNetwork().getListeners().notifyUpdate(this, attribute, oldValue, newValue);
+    }
+
+    protected void notifyUpdate(String attribute, int variantIndex, Object oldValue, Object newValue) {
+        getNetwork().getListeners().notifyUpdate(this, attribute, variantIndex, oldValue, newValue);
+    }
+
+    protected void notifyUpdate(String attribute, int variantIndex, double oldValue, double newValue) {
+        getNetwork().getListeners().notifyUpdate(this, attribute, variantIndex, oldValue, newValue);
     }
 
     @Override
@@ -103,9 +111,8 @@ class HvdcLineImpl extends AbstractIdentifiable<HvdcLine> implements HvdcLine {
         int variantIndex = n.getVariantIndex();
         ConvertersMode oldValue = this.convertersMode.get(variantIndex) != -1 ? ConvertersMode.values()[this.convertersMode.get(variantIndex)] : null;
         this.convertersMode.set(variantIndex, convertersMode != null ? convertersMode.ordinal() : -1);
-        String variantId = n.getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("convertersMode", variantId, oldValue, convertersMode);
+        notifyUpdate("convertersMode", variantIndex, oldValue, convertersMode);
         return this;
     }
 
@@ -163,9 +170,8 @@ class HvdcLineImpl extends AbstractIdentifiable<HvdcLine> implements HvdcLine {
                 n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         int variantIndex = n.getVariantIndex();
         double oldValue = this.activePowerSetpoint.set(variantIndex, activePowerSetpoint);
-        String variantId = n.getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("activePowerSetpoint", variantId, oldValue, activePowerSetpoint);
+        notifyUpdate("activePowerSetpoint", variantIndex, oldValue, activePowerSetpoint);
         return this;
     }
 
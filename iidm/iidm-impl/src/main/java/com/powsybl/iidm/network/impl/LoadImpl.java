@@ -12,7 +12,6 @@ import com.powsybl.iidm.network.LoadModel;
 import com.powsybl.iidm.network.LoadType;
 import com.powsybl.iidm.network.ValidationUtil;
 import com.powsybl.commons.ref.Ref;
-import gnu.trove.list.array.TDoubleArrayList;
 
 import java.util.Optional;
 
@@ -30,9 +29,9 @@ class LoadImpl extends AbstractConnectable<Load> implements Load {
 
     // attributes depending on the variant
 
-    private final TDoubleArrayList p0;
+    private final VariantDoubleArray p0;
 
-    private final TDoubleArrayList q0;
+    private final VariantDoubleArray q0;
 
     LoadImpl(Ref<NetworkImpl> networkRef,
              String id, String name, boolean fictitious, LoadType loadType, LoadModel model,
@@ -41,13 +40,8 @@ class LoadImpl extends AbstractConnectable<Load> implements Load {
         this.network = networkRef;
         this.loadType = loadType;
         this.model = model;
-        int variantArraySize = network.get().getVariantManager().getVariantArraySize();
-        this.p0 = new TDoubleArrayList(variantArraySize);
-        this.q0 = new TDoubleArrayList(variantArraySize);
-        for (int i = 0; i < variantArraySize; i++) {
-            this.p0.add(p0);
-            this.q0.add(q0);
-        }
+        this.p0 = VariantDoubleArray.create(network, p0);
+        this.q0 = VariantDoubleArray.create(network, q0);
     }
 
     @Override
@@ -85,9 +79,8 @@ class LoadImpl extends AbstractConnectable<Load> implements Load {
         ValidationUtil.checkP0(this, p0, n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         int variantIndex = network.get().getVariantIndex();
         double oldValue = this.p0.set(variantIndex, p0);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("p0", variantId, oldValue, p0);
+        notifyUpdate("p0", variantIndex, oldValue, p0);
         return this;
     }
 
@@ -102,9 +95,8 @@ class LoadImpl extends AbstractConnectable<Load> implements Load {
         ValidationUtil.checkQ0(this, q0, n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         int variantIndex = network.get().getVariantIndex();
         double oldValue = this.q0.set(variantIndex, q0);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("q0", variantId, oldValue, q0);
+        notifyUpdate("q0", variantIndex, oldValue, q0);
         return this;
     }
 
@@ -116,34 +108,29 @@ class LoadImpl extends AbstractConnectable<Load> implements Load {
     @Override
     public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
         super.extendVariantArraySize(initVariantArraySize, number, sourceIndex);
-        p0.ensureCapacity(p0.size() + number);
-        q0.ensureCapacity(q0.size() + number);
-        for (int i = 0; i < number; i++) {
-            p0.add(p0.get(sourceIndex));
-            q0.add(q0.get(sourceIndex));
-        }
+        p0.extendVariantArraySize(number, sourceIndex);
+        q0.extendVariantArraySize(number, sourceIndex);
     }
 
     @Override
     public void reduceVariantArraySize(int number) {
         super.reduceVariantArraySize(number);
-        p0.remove(p0.size() - number, number);
-        q0.remove(q0.size() - number, number);
+        p0.reduceVariantArraySize(number);
+        q0.reduceVariantArraySize(number);
     }
 
     @Override
     public void deleteVariantArrayElement(int index) {
         super.deleteVariantArrayElement(index);
-        // nothing to do
+        p0.deleteVariantArrayElement(index);
+        q0.deleteVariantArrayElement(index);
     }
 
     @Override
     public void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
         super.allocateVariantArrayElement(indexes, sourceIndex);
-        for (int index : indexes) {
-            p0.set(index, p0.get(sourceIndex));
-            q0.set(index, q0.get(sourceIndex));
-        }
+        p0.allocateVariantArrayElement(indexes, sourceIndex);
+        q0.allocateVariantArrayElement(indexes, sourceIndex);
     }
 
 }
@@ -63,7 +63,7 @@ public class NetworkImpl extends AbstractNetwork implements VariantManagerHolder
 
     private AbstractReportNodeContext reportNodeContext;
 
-    private final NetworkListenerList listeners = new NetworkListenerList();
+    private final NetworkListenerList listeners;
 
     private final Map<String, SubnetworkImpl> subnetworks = new LinkedHashMap<>();
 
@@ -128,6 +128,7 @@ public class NetworkImpl extends AbstractNetwork implements VariantManagerHolder
         ref.setRef(new RefObj<>(this));
         this.reportNodeContext = new SimpleReportNodeContext();
         variantManager = new VariantManagerImpl(this);
+        listeners = new NetworkListenerList(variantManager::getVariantId);
         variants = new VariantArray<>(ref, VariantImpl::new);
         // add the network the object list as it is a multi variant object
         // and it needs to be notified when and extension or a reduction of
@@ -969,7 +970,7 @@ public class NetworkImpl extends AbstractNetwork implements VariantManagerHolder
     public void extendVariantArraySize(int initVariantArraySize, int number, final int sourceIndex) {
         super.extendVariantArraySize(initVariantArraySize, number, sourceIndex);
 
-        variants.push(number, () -> variants.copy(sourceIndex));
+        variants.push(number);
     }
 
     @Override
@@ -990,7 +991,7 @@ public class NetworkImpl extends AbstractNetwork implements VariantManagerHolder
     public void allocateVariantArrayElement(int[] indexes, final int sourceIndex) {
         super.allocateVariantArrayElement(indexes, sourceIndex);
 
-        variants.allocate(indexes, () -> variants.copy(sourceIndex));
+        variants.allocate(indexes);
     }
 
     private static void checkIndependentNetwork(Network network) {
@@ -9,13 +9,16 @@ package com.powsybl.iidm.network.impl;
 
 import com.powsybl.commons.extensions.Extension;
 import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.NetworkListener;
+import com.powsybl.iidm.network.StateTable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 /**
@@ -27,6 +30,14 @@ public class NetworkListenerList {
 
     private final List<NetworkListener> listeners = new ArrayList<>();
 
+    private final ThreadLocal<Boolean> updateNotificationDisabled = ThreadLocal.withInitial(() -> false);
+
+    private final IntFunction<String> variantIdProvider;
+
+    NetworkListenerList(IntFunction<String> variantIdProvider) {
+        this.variantIdProvider = Objects.requireNonNull(variantIdProvider);
+    }
+
     void add(NetworkListener listener) {
         listeners.add(listener);
     }
@@ -35,6 +46,94 @@ public class NetworkListenerList {
         listeners.remove(listener);
     }
 
+    /**
+     * Run an action without notifying the listeners of the attribute updates it makes on the current thread.
+     */
+    void runWithoutUpdateNotification(Runnable action) {
+        if (listeners.isEmpty()) {
+            action.run();
+            return;
+        }
+        boolean disabled = updateNotificationDisabled.get();
+        updateNotificationDisabled.set(true);
+        try {
+            action.run();
+        } finally {
+            updateNotificationDisabled.set(disabled);
+        }
+    }
+
+    // Primitive specializations: the values are only boxed, and the variant id only looked up, when there are
+    // listeners to notify. Values are compared as Double.equals, Integer.equals and Boolean.equals would.
+
+    void notifyUpdate(Identifiable<?> identifiable, String attribute, double oldValue, double newValue) {
+        if (!listeners.isEmpty() && Double.compare(oldValue, newValue) != 0) {
+            notifyUpdateListeners(identifiable, attribute, oldValue, newValue);
+        }
+    }
+
+    void notifyUpdate(Identifiable<?> identifiable, String attribute, int oldValue, int newValue) {
+        if (!listeners.isEmpty() && oldValue != newValue) {
+            notifyUpdateListeners(identifiable, attribute, oldValue, newValue);
+        }
+    }
+
+    void notifyUpdate(Identifiable<?> identifiable, String attribute, boolean oldValue, boolean newValue) {
+        if (!listeners.isEmpty() && oldValue != newValue) {
+            notifyUpdateListeners(identifiable, attribute, oldValue, newValue);
+        }
+    }
+
+    void notifyUpdate(Identifiable<?> identifiable, Supplier<String> attribute, int variantIndex, double oldValue, double newValue) {
+        if (!listeners.isEmpty() && Double.compare(oldValue, newValue) != 0) {
+            notifyUpdateListeners(identifiable, attribute.get(), getVariantId(variantIndex), oldValue, newValue);
+        }
+    }
+
+    void notifyUpdate(Identifiable<?> identifiable, Supplier<String> attribute, int variantIndex, boolean oldValue, boolean newValue) {
+        if (!listeners.isEmpty() && oldValue != newValue) {
+            notifyUpdateListeners(identifiable, attribute.get(), getVariantId(variantIndex), oldValue, newValue);
+        }
+    }
+
+    void notifyUpdate(Identifiable<?> identifiable, Supplier<String> attribute, int variantIndex, Object oldValue, Object newValue) {
+        if (!listeners.isEmpty() && !Objects.equals(oldValue, newValue)) {
+            notifyUpdateListeners(identifiable, attribute.get(), getVariantId(variantIndex), oldValue, newValue);
+        }
+    }
+
+    void notifyUpdate(Identifiable<?> identifiable, String attribute, int variantIndex, double oldValue, double newValue) {
+        if (!listeners.isEmpty() && Double.compare(oldValue, newValue) != 0) {
+            notifyUpdateListeners(identifiable, attribute, getVariantId(variantIndex), oldValue, newValue);
+        }
+    }
+
+    void notifyUpdate(Identifiable<?> identifiable, String attribute, int variantIndex, int oldValue, int newValue) {
+        if (!listeners.isEmpty() && oldValue != newValue) {
+            notifyUpdateListeners(identifiable, attribute, getVariantId(variantIndex), oldValue, newValue);
+        }
+    }
+
+    void notifyUpdate(Identifiable<?> identifiable, String attribute, int variantIndex, boolean oldValue, boolean newValue) {
+        if (!listeners.isEmpty() && oldValue != newValue) {
+            notifyUpdateListeners(identifiable, attribute, getVariantId(variantIndex), oldValue, newValue);
+        }
+    }
+
+    /**
+     * Variant dependent notifications which values are not primitive: the variant id is only looked up when there
+     * are listeners to notify.
+     */
+    void notifyUpdate(Identifiable<?> identifiable, String attribute, int variantIndex, Object oldValue, Object newValue) {
+        if (!listeners.isEmpty() && !Objects.equals(oldValue, newValue)) {
+            notifyUpdateListeners(identifiable, attribute, getVariantId(variantIndex), oldValue, newValue);
+        }
+    }
+
+    private String getVariantId(int variantIndex) {
+        return variantIdProvider.apply(variantIndex);
+    }
+
     void notifyUpdate(Identifiable<?> identifiable, Supplier<String> attribute, Object oldValue, Object newValue) {
         if (!listeners.isEmpty() && !Objects.equals(oldValue, newValue)) {
             notifyUpdateListeners(identifiable, attribute.get(), oldValue, newValue);
@@ -48,6 +147,9 @@ public class NetworkListenerList {
     }
 
     private void notifyUpdateListeners(Identifiable<?> identifiable, String attribute, Object oldValue, Object newValue) {
+        if (Boolean.TRUE.equals(updateNotificationDisabled.get())) {
+            return;
+        }
         for (NetworkListener listener : listeners) {
             try {
                 listener.onUpdate(identifiable, attribute, oldValue, newValue);
@@ -57,22 +159,23 @@ public class NetworkListenerList {
         }
     }
 
-    void notifyUpdate(Identifiable<?> identifiable, Supplier<String> attribute, String variantId, Object oldValue, Object newValue) {
-        if (!listeners.isEmpty() && !Objects.equals(oldValue, newValue)) {
-            notifyUpdateListeners(identifiable, attribute.get(), variantId, oldValue, newValue);
+    private void notifyUpdateListeners(Identifiable<?> identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+        if (Boolean.TRUE.equals(updateNotificationDisabled.get())) {
+            return;
         }
-    }
-
-    void notifyUpdate(Identifiable<?> identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
-        if (!listeners.isEmpty() && !Objects.equals(oldValue, newValue)) {
-            notifyUpdateListeners(identifiable, attribute, variantId, oldValue, newValue);
+        for (NetworkListener listener : listeners) {
+            try {
+                listener.onUpdate(identifiable, attribute, variantId, oldValue, newValue);
+            } catch (Exception t) {
+                LOGGER.error(t.toString(), t);
+            }
         }
     }
 
-    private void notifyUpdateListeners(Identifiable<?> identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+    void notifyStateUpdate(Network network, StateTable table, String variantId) {
         for (NetworkListener listener : listeners) {
             try {
-                listener.onUpdate(identifiable, attribute, variantId, oldValue, newValue);
+                listener.onStateUpdate(network, table, variantId);
             } catch (Exception t) {
                 LOGGER.error(t.toString(), t);
             }
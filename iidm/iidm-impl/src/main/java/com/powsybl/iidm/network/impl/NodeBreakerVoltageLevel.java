@@ -64,7 +64,7 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
 
     private static final BusNamingStrategy NAMING_STRATEGY = new LowestNodeNumberBusNamingStrategy();
 
-    private final UndirectedGraphImpl<NodeTerminal, SwitchImpl> graph = new UndirectedGraphImpl<>(NODE_INDEX_LIMIT);
+    private final UndirectedGraph<NodeTerminal, SwitchImpl> graph = createGraph();
 
     private final Map<String, Integer> switches = new HashMap<>();
 
@@ -251,8 +251,15 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
 
         protected BusCache busCache;
 
+        // workspace of the traversals checking if a switch status change modifies the buses, reset after each use
+        private boolean[] encountered = new boolean[0];
+
         protected void updateCache() {
-            updateCache(Switch::isOpen);
+            updateCache(getTerminatePredicate());
+        }
+
+        protected Predicate<SwitchImpl> getTerminatePredicate() {
+            return Switch::isOpen;
         }
 
         protected BusChecker getBusChecker() {
@@ -317,6 +324,64 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
             LOGGER.trace("Found buses {}", id2bus.values());
         }
 
+        /**
+         * Check if the change of the open status of the switch associated to the given edge modifies the buses of
+         * this topology. The cache is expected to be up-to-date with the status of the switch before the change, so
+         * that only the bus containing the switch has to be visited.
+         *
+         * @return true if buses have changed or if there is no cache to compare with, false otherwise
+         */
+        boolean isChangedBySwitchStatus(int e) {
+            if (busCache == null) {
+                return true;
+            }
+            int v1 = graph.getEdgeVertex1(e);
+            int v2 = graph.getEdgeVertex2(e);
+            if (v1 == v2) {
+                return false;
+            }
+            CalculatedBus bus1 = busCache.getBus(v1);
+            CalculatedBus bus2 = busCache.getBus(v2);
+            Predicate<SwitchImpl> terminate = getTerminatePredicate();
+            if (!terminate.test(graph.getEdgeObject(e))) {
+                // switch closed: buses are unchanged only if both sides already belonged to the same bus
+                return bus1 == null || bus1 != bus2;
+            }
+            if (bus1 == null) {
+                // switch opened inside a set of nodes which is not a bus: bus validity criteria are monotonic, so the
+                // two resulting subsets of nodes cannot be buses either
+                return bus2 != null;
+            }
+            if (bus1 != bus2) {
+                return true;
+            }
+            // switch opened inside a bus: the bus is unchanged if both sides are still connected by another path
+            if (encountered.length < graph.getVertexCapacity()) {
+                encountered = new boolean[graph.getVertexCapacity()];
+            }
+            TIntArrayList traversed = new TIntArrayList();
+            traversed.add(v1);
+            try {
+                boolean connected = !graph.traverse(v1, TraversalType.BREADTH_FIRST, (n1, e1, n2) -> {
+                    SwitchImpl aSwitch = graph.getEdgeObject(e1);
+                    if (aSwitch != null && terminate.test(aSwitch)) {
+                        return TraverseResult.TERMINATE_PATH;
+                    }
+                    if (n2 == v2) {
+                        return TraverseResult.TERMINATE_TRAVERSER;
+                    }
+                    traversed.add(n2);
+                    return TraverseResult.CONTINUE;
+                }, encountered);
+                return !connected;
+            } finally {
+                // only the vertices reached by the traversal have been marked
+                for (int i = 0; i < traversed.size(); i++) {
+                    encountered[traversed.getQuick(i)] = false;
+                }
+            }
+        }
+
         protected void invalidateCache() {
             // detach buses
             if (busCache != null) {
@@ -390,8 +455,8 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
     class CalculatedBusBreakerTopology extends CalculatedBusTopology {
 
         @Override
-        protected void updateCache() {
-            updateCache(sw -> sw.isOpen() || sw.isRetained());
+        protected Predicate<SwitchImpl> getTerminatePredicate() {
+            return sw -> sw.isOpen() || sw.isRetained();
         }
 
         @Override
@@ -591,6 +656,30 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
         getNetwork().getSynchronousComponentsManager().invalidate();
     }
 
+    @Override
+    public void invalidateCacheOnSwitchOpenChange(SwitchImpl aSwitch) {
+        Integer e = getEdge(aSwitch.getId(), false);
+        if (e == null) {
+            invalidateCache(aSwitch.isRetained());
+            return;
+        }
+        // only invalidate views whose buses are really modified by the new switch status, so that opening a switch
+        // in a meshed substation does not trigger a network wide topology and components computation
+        VariantImpl variant = variants.get();
+        boolean busBreakerViewChanged = !aSwitch.isRetained() && variant.calculatedBusBreakerTopology.isChangedBySwitchStatus(e);
+        boolean busViewChanged = variant.calculatedBusTopology.isChangedBySwitchStatus(e);
+        if (busBreakerViewChanged) {
+            variant.calculatedBusBreakerTopology.invalidateCache();
+            getNetwork().getBusBreakerView().invalidateCache();
+        }
+        if (busViewChanged) {
+            variant.calculatedBusTopology.invalidateCache();
+            getNetwork().getBusView().invalidateCache();
+            getNetwork().getConnectedComponentsManager().invalidate();
+            getNetwork().getSynchronousComponentsManager().invalidate();
+        }
+    }
+
     private Integer getEdge(String switchId, boolean throwException) {
         Integer edge = switches.get(switchId);
         if (throwException && edge == null) {
@@ -659,8 +748,7 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
             }
             int variantIndex = getNetwork().getVariantIndex();
             double oldValue = p0ByVariant.set(getNetwork().getVariantIndex(), p0);
-            String variantId = getNetwork().getVariantManager().getVariantId(variantIndex);
-            getNetwork().getListeners().notifyUpdate(NodeBreakerVoltageLevel.this, "fictitiousP0", variantId, oldValue, p0);
+            getNetwork().getListeners().notifyUpdate(NodeBreakerVoltageLevel.this, "fictitiousP0", variantIndex, oldValue, p0);
             TIntSet toRemove = clearFictitiousInjections(fictitiousP0ByNode);
             synchronized (fictitiousP0ByNode) {
                 toRemove.forEach(n -> {
@@ -698,8 +786,7 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
             }
             int variantIndex = getNetwork().getVariantIndex();
             double oldValue = q0ByVariant.set(getNetwork().getVariantIndex(), q0);
-            String variantId = getNetwork().getVariantManager().getVariantId(variantIndex);
-            getNetwork().getListeners().notifyUpdate(NodeBreakerVoltageLevel.this, "fictitiousQ0", variantId, oldValue, q0);
+            getNetwork().getListeners().notifyUpdate(NodeBreakerVoltageLevel.this, "fictitiousQ0", variantIndex, oldValue, q0);
             TIntSet toRemove = clearFictitiousInjections(fictitiousQ0ByNode);
             synchronized (fictitiousQ0ByNode) {
                 toRemove.forEach(n -> {
@@ -1386,7 +1473,7 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
     @Override
     public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
         super.extendVariantArraySize(initVariantArraySize, number, sourceIndex);
-        variants.push(number, VariantImpl::new);
+        variants.push(number);
     }
 
     @Override
@@ -1404,7 +1491,7 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
     @Override
     public void allocateVariantArrayElement(int[] indexes, final int sourceIndex) {
         super.allocateVariantArrayElement(indexes, sourceIndex);
-        variants.allocate(indexes, VariantImpl::new);
+        variants.allocate(indexes);
     }
 
     @Override
@@ -131,8 +131,12 @@ class NodeTerminal extends AbstractTerminal {
         }
     }
 
-    protected void notifyUpdate(String attribute, String variantId, Object oldValue, Object newValue) {
-        getConnectable().notifyUpdate(attribute, variantId, oldValue, newValue);
+    protected void notifyUpdate(String attribute, int variantIndex, double oldValue, double newValue) {
+        getConnectable().notifyUpdate(attribute, variantIndex, oldValue, newValue);
+    }
+
+    protected void notifyUpdate(String attribute, int variantIndex, int oldValue, int newValue) {
+        getConnectable().notifyUpdate(attribute, variantIndex, oldValue, newValue);
     }
 
     public int getNode() {
@@ -156,8 +160,7 @@ class NodeTerminal extends AbstractTerminal {
         }
         int variantIndex = getVariantManagerHolder().getVariantIndex();
         double oldValue = this.v.set(variantIndex, v);
-        String variantId = getVariantManagerHolder().getVariantManager().getVariantId(variantIndex);
-        notifyUpdate("v", variantId, oldValue, v);
+        notifyUpdate("v", variantIndex, oldValue, v);
     }
 
     double getAngle() {
@@ -173,8 +176,7 @@ class NodeTerminal extends AbstractTerminal {
         }
         int variantIndex = getVariantManagerHolder().getVariantIndex();
         double oldValue = this.angle.set(variantIndex, angle);
-        String variantId = getVariantManagerHolder().getVariantManager().getVariantId(variantIndex);
-        notifyUpdate("angle", variantId, oldValue, angle);
+        notifyUpdate("angle", variantIndex, oldValue, angle);
     }
 
     int getConnectedComponentNumber() {
@@ -190,8 +192,7 @@ class NodeTerminal extends AbstractTerminal {
         }
         int variantIndex = getVariantManagerHolder().getVariantIndex();
         int oldValue = this.connectedComponentNumber.set(variantIndex, connectedComponentNumber);
-        String variantId = getVariantManagerHolder().getVariantManager().getVariantId(variantIndex);
-        notifyUpdate("connectedComponentNumber", variantId, oldValue, connectedComponentNumber);
+        notifyUpdate("connectedComponentNumber", variantIndex, oldValue, connectedComponentNumber);
     }
 
     int getSynchronousComponentNumber() {
@@ -207,8 +208,7 @@ class NodeTerminal extends AbstractTerminal {
         }
         int variantIndex = getVariantManagerHolder().getVariantIndex();
         int oldValue = this.synchronousComponentNumber.set(variantIndex, componentNumber);
-        String variantId = getVariantManagerHolder().getVariantManager().getVariantId(variantIndex);
-        notifyUpdate("synchronousComponentNumber", variantId, oldValue, componentNumber);
+        notifyUpdate("synchronousComponentNumber", variantIndex, oldValue, componentNumber);
     }
 
     @Override
@@ -42,8 +42,8 @@ class PhaseTapChangerImpl extends AbstractTapChanger<PhaseTapChangerParent, Phas
         getNetwork().getListeners().notifyUpdate(parent.getTransformer(), attribute, oldValue, newValue);
     }
 
-    protected void notifyUpdate(Supplier<String> attribute, String variantId, Object oldValue, Object newValue) {
-        getNetwork().getListeners().notifyUpdate(parent.getTransformer(), attribute, variantId, oldValue, newValue);
+    protected void notifyUpdate(Supplier<String> attribute, int variantIndex, double oldValue, double newValue) {
+        getNetwork().getListeners().notifyUpdate(parent.getTransformer(), attribute, variantIndex, oldValue, newValue);
     }
 
     @Override
@@ -114,9 +114,8 @@ class PhaseTapChangerImpl extends AbstractTapChanger<PhaseTapChangerParent, Phas
                 isRegulating(), getRegulationTerminal(), n, n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         int variantIndex = network.get().getVariantIndex();
         double oldValue = this.regulationValue.set(variantIndex, regulationValue);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate(() -> getTapChangerAttribute() + ".regulationValue", variantId, oldValue, regulationValue);
+        notifyUpdate(() -> getTapChangerAttribute() + ".regulationValue", variantIndex, oldValue, regulationValue);
         return this;
     }
 
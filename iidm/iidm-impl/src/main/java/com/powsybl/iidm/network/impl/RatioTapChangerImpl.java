@@ -44,8 +44,8 @@ class RatioTapChangerImpl extends AbstractTapChanger<RatioTapChangerParent, Rati
         getNetwork().getListeners().notifyUpdate(parent.getTransformer(), attribute, oldValue, newValue);
     }
 
-    protected void notifyUpdate(Supplier<String> attribute, String variantId, Object oldValue, Object newValue) {
-        getNetwork().getListeners().notifyUpdate(parent.getTransformer(), attribute, variantId, oldValue, newValue);
+    protected void notifyUpdate(Supplier<String> attribute, int variantIndex, double oldValue, double newValue) {
+        getNetwork().getListeners().notifyUpdate(parent.getTransformer(), attribute, variantIndex, oldValue, newValue);
     }
 
     @Override
@@ -125,9 +125,8 @@ class RatioTapChangerImpl extends AbstractTapChanger<RatioTapChangerParent, Rati
         if (!Double.isNaN(targetV)) {
             regulationMode = RegulationMode.VOLTAGE;
         }
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate(() -> getTapChangerAttribute() + ".regulationValue", variantId, oldRegulationValue, targetV);
+        notifyUpdate(() -> getTapChangerAttribute() + ".regulationValue", variantIndex, oldRegulationValue, targetV);
         notifyUpdate(() -> getTapChangerAttribute() + ".regulationMode", oldRegulationMode, regulationMode);
         return this;
     }
@@ -163,9 +162,8 @@ class RatioTapChangerImpl extends AbstractTapChanger<RatioTapChangerParent, Rati
                 n, n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         int variantIndex = network.get().getVariantIndex();
         double oldValue = this.regulationValue.set(variantIndex, regulationValue);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate(() -> getTapChangerAttribute() + ".regulationValue", variantId, oldValue, regulationValue);
+        notifyUpdate(() -> getTapChangerAttribute() + ".regulationValue", variantIndex, oldValue, regulationValue);
         return this;
     }
 
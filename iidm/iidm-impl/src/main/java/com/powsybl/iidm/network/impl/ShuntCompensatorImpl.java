@@ -30,7 +30,7 @@ class ShuntCompensatorImpl extends AbstractConnectable<ShuntCompensator> impleme
     // attributes depending on the variant
 
     /* the current number of section switched on */
-    private final ArrayList<Integer> sectionCount;
+    private final VariantValueArray<Integer> sectionCount;
 
     /* the target voltage value */
     private final TDoubleArrayList targetV;
@@ -47,11 +47,10 @@ class ShuntCompensatorImpl extends AbstractConnectable<ShuntCompensator> impleme
         int variantArraySize = this.network.get().getVariantManager().getVariantArraySize();
         regulatingPoint = new RegulatingPoint(id, this::getTerminal, variantArraySize, voltageRegulatorOn, true);
         regulatingPoint.setRegulatingTerminal(regulatingTerminal);
-        this.sectionCount = new ArrayList<>(variantArraySize);
+        this.sectionCount = VariantValueArray.create(network, sectionCount);
         this.targetV = new TDoubleArrayList(variantArraySize);
         this.targetDeadband = new TDoubleArrayList(variantArraySize);
         for (int i = 0; i < variantArraySize; i++) {
-            this.sectionCount.add(sectionCount);
             this.targetV.add(targetV);
             this.targetDeadband.add(targetDeadband);
         }
@@ -93,9 +92,8 @@ class ShuntCompensatorImpl extends AbstractConnectable<ShuntCompensator> impleme
         }
         int variantIndex = n.getVariantIndex();
         Integer oldValue = this.sectionCount.set(variantIndex, sectionCount);
-        String variantId = n.getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("sectionCount", variantId, oldValue, sectionCount);
+        notifyUpdate("sectionCount", variantIndex, oldValue, Integer.valueOf(sectionCount));
         return this;
     }
 
@@ -106,9 +104,8 @@ class ShuntCompensatorImpl extends AbstractConnectable<ShuntCompensator> impleme
                 n.getReportNodeContext().getReportNode());
         int variantIndex = network.get().getVariantIndex();
         Integer oldValue = this.sectionCount.set(variantIndex, null);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("sectionCount", variantId, oldValue, null);
+        notifyUpdate("sectionCount", variantIndex, oldValue, null);
         return this;
     }
 
@@ -182,9 +179,8 @@ class ShuntCompensatorImpl extends AbstractConnectable<ShuntCompensator> impleme
         ValidationUtil.checkTargetDeadband(this, SHUNT_COMPENSATOR, voltageRegulatorOn, targetDeadband.get(variantIndex),
                 n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         boolean oldValue = regulatingPoint.setRegulating(variantIndex, voltageRegulatorOn);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("voltageRegulatorOn", variantId, oldValue, voltageRegulatorOn);
+        notifyUpdate("voltageRegulatorOn", variantIndex, oldValue, voltageRegulatorOn);
         return this;
     }
 
@@ -200,9 +196,8 @@ class ShuntCompensatorImpl extends AbstractConnectable<ShuntCompensator> impleme
         ValidationUtil.checkVoltageControl(this, regulatingPoint.isRegulating(variantIndex), targetV,
                 n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         double oldValue = this.targetV.set(variantIndex, targetV);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("targetV", variantId, oldValue, targetV);
+        notifyUpdate("targetV", variantIndex, oldValue, targetV);
         return this;
     }
 
@@ -218,9 +213,8 @@ class ShuntCompensatorImpl extends AbstractConnectable<ShuntCompensator> impleme
         ValidationUtil.checkTargetDeadband(this, SHUNT_COMPENSATOR, regulatingPoint.isRegulating(variantIndex), targetDeadband,
                 n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         double oldValue = this.targetDeadband.set(variantIndex, targetDeadband);
-        String variantId = network.get().getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("targetDeadband", variantId, oldValue, targetDeadband);
+        notifyUpdate("targetDeadband", variantIndex, oldValue, targetDeadband);
         return this;
     }
 
@@ -233,11 +227,10 @@ class ShuntCompensatorImpl extends AbstractConnectable<ShuntCompensator> impleme
     @Override
     public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
         super.extendVariantArraySize(initVariantArraySize, number, sourceIndex);
-        sectionCount.ensureCapacity(sectionCount.size() + number);
+        sectionCount.extendVariantArraySize(number, sourceIndex);
         targetV.ensureCapacity(targetV.size() + number);
         targetDeadband.ensureCapacity(targetDeadband.size() + number);
         for (int i = 0; i < number; i++) {
-            sectionCount.add(sectionCount.get(sourceIndex));
             targetV.add(targetV.get(sourceIndex));
             targetDeadband.add(targetDeadband.get(sourceIndex));
         }
@@ -247,9 +240,7 @@ class ShuntCompensatorImpl extends AbstractConnectable<ShuntCompensator> impleme
     @Override
     public void reduceVariantArraySize(int number) {
         super.reduceVariantArraySize(number);
-        List<Integer> tmpInt = new ArrayList<>(sectionCount.subList(0, sectionCount.size() - number));
-        sectionCount.clear();
-        sectionCount.addAll(tmpInt);
+        sectionCount.reduceVariantArraySize(number);
         targetV.remove(targetV.size() - number, number);
         targetDeadband.remove(targetDeadband.size() - number, number);
         regulatingPoint.reduceVariantArraySize(number);
@@ -258,14 +249,15 @@ class ShuntCompensatorImpl extends AbstractConnectable<ShuntCompensator> impleme
     @Override
     public void deleteVariantArrayElement(int index) {
         super.deleteVariantArrayElement(index);
+        sectionCount.deleteVariantArrayElement(index);
         regulatingPoint.deleteVariantArrayElement(index);
     }
 
     @Override
     public void allocateVariantArrayElement(int[] indexes, final int sourceIndex) {
         super.allocateVariantArrayElement(indexes, sourceIndex);
+        sectionCount.allocateVariantArrayElement(indexes, sourceIndex);
         for (int index : indexes) {
-            sectionCount.set(index, sectionCount.get(sourceIndex));
             targetV.set(index, targetV.get(sourceIndex));
             targetDeadband.set(index, targetDeadband.get(sourceIndex));
         }
@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Bulk export and import of the state of the elements of a network, see {@link Network#exportState} and
+ * {@link Network#importState}.
+ *
+ * @author Elia Group
+ */
+final class StateTables {
+
+    private StateTables() {
+    }
+
+    static StateTable exportState(AbstractNetwork network, IdentifiableType identifiableType, Collection<StateAttribute> attributes) {
+        List<Identifiable<?>> elements = getElements(network, identifiableType);
+        StateTable table = new StateTable(identifiableType, elements.stream().map(Identifiable::getId).toList(), attributes);
+        readState(elements, table, network.getNetwork().getVariantIndex());
+        return table;
+    }
+
+    /**
+     * The table is imported atomically: the current values of the imported attributes are saved beforehand, and
+     * restored if a value is rejected, so that the network is left unchanged on failure.
+     */
+    static void importState(AbstractNetwork network, StateTable table) {
+        List<Identifiable<?>> elements = resolveElements(network, table);
+        NetworkImpl rootNetwork = network.getNetwork();
+        int variantIndex = rootNetwork.getVariantIndex();
+        NetworkListenerList listeners = rootNetwork.getListeners();
+        StateTable previousState = new StateTable(table.getIdentifiableType(), table.getIds(), table.getAttributes());
+        readState(elements, previousState, variantIndex);
+        listeners.runWithoutUpdateNotification(() -> {
+            try {
+                writeState(elements, table, variantIndex, true);
+            } catch (RuntimeException e) {
+                writeState(elements, previousState, variantIndex, false);
+                throw e;
+            }
+        });
+        listeners.notifyStateUpdate(network, table, rootNetwork.getVariantManager().getVariantId(variantIndex));
+    }
+
+    private static void readState(List<Identifiable<?>> elements, StateTable table, int variantIndex) {
+        for (StateAttribute attribute : table.getAttributes()) {
+            switch (attribute.getValueType()) {
+                case DOUBLE -> {
+                    double[] values = table.getDoubles(attribute);
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = getDouble(elements.get(i), attribute, variantIndex);
+                    }
+                }
+                case INT -> {
+                    int[] values = table.getInts(attribute);
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = getInt(elements.get(i), attribute);
+                    }
+                }
+                case BOOLEAN -> {
+                    boolean[] values = table.getBooleans(attribute);
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = ((Switch) elements.get(i)).isOpen();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Undefined int values are always skipped. Undefined double values are skipped when importing a table, but
+     * written when restoring a saved state, as they may be the previous values of the attributes.
+     */
+    private static void writeState(List<Identifiable<?>> elements, StateTable table, int variantIndex, boolean skipUndefinedDoubles) {
+        for (StateAttribute attribute : table.getAttributes()) {
+            switch (attribute.getValueType()) {
+                case DOUBLE -> {
+                    double[] values = table.getDoubles(attribute);
+                    for (int i = 0; i < values.length; i++) {
+                        if (!skipUndefinedDoubles || !Double.isNaN(values[i])) {
+                            setDouble(elements.get(i), attribute, variantIndex, values[i]);
+                        }
+                    }
+                }
+                case INT -> {
+                    int[] values = table.getInts(attribute);
+                    for (int i = 0; i < values.length; i++) {
+                        if (values[i] != StateTable.UNDEFINED_INT) {
+                            setInt(elements.get(i), attribute, values[i]);
+                        }
+                    }
+                }
+                case BOOLEAN -> {
+                    boolean[] values = table.getBooleans(attribute);
+                    for (int i = 0; i < values.length; i++) {
+                        ((Switch) elements.get(i)).setOpen(values[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<Identifiable<?>> getElements(AbstractNetwork network, IdentifiableType identifiableType) {
+        if (identifiableType == IdentifiableType.BUS) {
+            return network.getBusView().getBusStream().map(Function.<Identifiable<?>>identity()).toList();
+        }
+        return network.getIdentifiableStream(identifiableType).toList();
+    }
+
+    /**
+     * The elements of a table exported from the network are in the iteration order of the network: they are only
+     * looked up by id if the table has been created for other elements or if the network has been modified since.
+     */
+    private static List<Identifiable<?>> resolveElements(AbstractNetwork network, StateTable table) {
+        List<Identifiable<?>> elements = getElements(network, table.getIdentifiableType());
+        List<String> ids = table.getIds();
+        if (elements.size() == ids.size()) {
+            boolean sameOrder = true;
+            for (int i = 0; i < ids.size() && sameOrder; i++) {
+                sameOrder = elements.get(i).getId().equals(ids.get(i));
+            }
+            if (sameOrder) {
+                return elements;
+            }
+        }
+        return ids.stream().<Identifiable<?>>map(id -> getElement(network, table.getIdentifiableType(), id)).toList();
+    }
+
+    private static Identifiable<?> getElement(AbstractNetwork network, IdentifiableType identifiableType, String id) {
+        Identifiable<?> element = identifiableType == IdentifiableType.BUS ? network.getBusView().getBus(id) : network.getIdentifiable(id);
+        if (element == null || element.getType() != identifiableType) {
+            throw new PowsyblException(identifiableType + " '" + id + "' not found");
+        }
+        return element;
+    }
+
+    private static AbstractTerminal getTerminal(Identifiable<?> element, ThreeSides side) {
+        Terminal terminal;
+        if (side == null) {
+            terminal = ((Injection<?>) element).getTerminal();
+        } else if (element instanceof ThreeWindingsTransformer twt) {
+            terminal = twt.getTerminal(side);
+        } else {
+            terminal = ((Branch<?>) element).getTerminal(side.toTwoSides());
+        }
+        return (AbstractTerminal) terminal;
+    }
+
+    private static ThreeSides getSide(StateAttribute attribute) {
+        return switch (attribute) {
+            case P1, Q1 -> ThreeSides.ONE;
+            case P2, Q2 -> ThreeSides.TWO;
+            case P3, Q3 -> ThreeSides.THREE;
+            default -> null;
+        };
+    }
+
+    private static double getDouble(Identifiable<?> element, StateAttribute attribute, int variantIndex) {
+        return switch (attribute) {
+            case P, P1, P2, P3 -> getTerminal(element, getSide(attribute)).p.get(variantIndex);
+            case Q, Q1, Q2, Q3 -> getTerminal(element, getSide(attribute)).q.get(variantIndex);
+            case V -> ((Bus) element).getV();
+            case ANGLE -> ((Bus) element).getAngle();
+            case TARGET_P -> element instanceof Battery battery ? battery.getTargetP() : ((Generator) element).getTargetP();
+            case TARGET_Q -> element instanceof Battery battery ? battery.getTargetQ() : ((Generator) element).getTargetQ();
+            case TARGET_V -> ((Generator) element).getTargetV();
+            case P0 -> ((Load) element).getP0();
+            case Q0 -> ((Load) element).getQ0();
+            default -> throw new IllegalStateException("Unexpected double attribute: " + attribute);
+        };
+    }
+
+    private static void setDouble(Identifiable<?> element, StateAttribute attribute, int variantIndex, double value) {
+        switch (attribute) {
+            case P, P1, P2, P3 -> getTerminal(element, getSide(attribute)).setPWithoutNotification(variantIndex, value);
+            case Q, Q1, Q2, Q3 -> getTerminal(element, getSide(attribute)).setQWithoutNotification(variantIndex, value);
+            case V -> ((Bus) element).setV(value);
+            case ANGLE -> ((Bus) element).setAngle(value);
+            case TARGET_P -> {
+                if (element instanceof Battery battery) {
+                    battery.setTargetP(value);
+                } else {
+                    ((Generator) element).setTargetP(value);
+                }
+            }
+            case TARGET_Q -> {
+                if (element instanceof Battery battery) {
+                    battery.setTargetQ(value);
+                } else {
+                    ((Generator) element).setTargetQ(value);
+                }
+            }
+            case TARGET_V -> ((Generator) element).setTargetV(value);
+            case P0 -> ((Load) element).setP0(value);
+            case Q0 -> ((Load) element).setQ0(value);
+            default -> throw new IllegalStateException("Unexpected double attribute: " + attribute);
+        }
+    }
+
+    private static int getInt(Identifiable<?> element, StateAttribute attribute) {
+        return switch (attribute) {
+            case SECTION_COUNT -> ((ShuntCompensator) element).getSectionCount();
+            case RATIO_TAP_POSITION -> ((TwoWindingsTransformer) element).getOptionalRatioTapChanger()
+                    .map(TapChanger::getTapPosition)
+                    .orElse(StateTable.UNDEFINED_INT);
+            case PHASE_TAP_POSITION -> ((TwoWindingsTransformer) element).getOptionalPhaseTapChanger()
+                    .map(TapChanger::getTapPosition)
+                    .orElse(StateTable.UNDEFINED_INT);
+            default -> throw new IllegalStateException("Unexpected int attribute: " + attribute);
+        };
+    }
+
+    private static void setInt(Identifiable<?> element, StateAttribute attribute, int value) {
+        switch (attribute) {
+            case SECTION_COUNT -> ((ShuntCompensator) element).setSectionCount(value);
+            case RATIO_TAP_POSITION -> ((TwoWindingsTransformer) element).getOptionalRatioTapChanger()
+                    .orElseThrow(() -> new PowsyblException("Two windings transformer '" + element.getId() + "' has no ratio tap changer"))
+                    .setTapPosition(value);
+            case PHASE_TAP_POSITION -> ((TwoWindingsTransformer) element).getOptionalPhaseTapChanger()
+                    .orElseThrow(() -> new PowsyblException("Two windings transformer '" + element.getId() + "' has no phase tap changer"))
+                    .setTapPosition(value);
+            default -> throw new IllegalStateException("Unexpected int attribute: " + attribute);
+        }
+    }
+}
@@ -98,9 +98,8 @@ class StaticVarCompensatorImpl extends AbstractConnectable<StaticVarCompensator>
                 n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         int variantIndex = n.getVariantIndex();
         double oldValue = this.voltageSetpoint.set(variantIndex, voltageSetpoint);
-        String variantId = n.getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("voltageSetpoint", variantId, oldValue, voltageSetpoint);
+        notifyUpdate("voltageSetpoint", variantIndex, oldValue, voltageSetpoint);
         return this;
     }
 
@@ -116,9 +115,8 @@ class StaticVarCompensatorImpl extends AbstractConnectable<StaticVarCompensator>
                 n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         int variantIndex = n.getVariantIndex();
         double oldValue = this.reactivePowerSetpoint.set(variantIndex, reactivePowerSetpoint);
-        String variantId = n.getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("reactivePowerSetpoint", variantId, oldValue, reactivePowerSetpoint);
+        notifyUpdate("reactivePowerSetpoint", variantIndex, oldValue, reactivePowerSetpoint);
         return this;
     }
 
@@ -137,9 +135,8 @@ class StaticVarCompensatorImpl extends AbstractConnectable<StaticVarCompensator>
         int oldValueOrdinal = regulatingPoint.setRegulationMode(variantIndex,
                 regulationMode != null ? regulationMode.ordinal() : -1);
         regulatingPoint.setUseVoltageRegulation(regulationMode == RegulationMode.VOLTAGE);
-        String variantId = n.getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("regulationMode", variantId, oldValueOrdinal == -1 ? null : RegulationMode.values()[oldValueOrdinal], regulationMode);
+        notifyUpdate("regulationMode", variantIndex, oldValueOrdinal == -1 ? null : RegulationMode.values()[oldValueOrdinal], regulationMode);
         return this;
     }
 
@@ -7,7 +7,6 @@
  */
 package com.powsybl.iidm.network.impl;
 
-import com.powsybl.commons.util.trove.TBooleanArrayList;
 import com.powsybl.iidm.network.*;
 
 /**
@@ -20,22 +19,17 @@ class SwitchImpl extends AbstractIdentifiable<Switch> implements Switch, MultiVa
 
     private final SwitchKind kind;
 
-    private final TBooleanArrayList open;
+    private final VariantValueArray<Boolean> open;
 
-    private final TBooleanArrayList retained;
+    private final VariantValueArray<Boolean> retained;
 
     SwitchImpl(VoltageLevelExt voltageLevel,
                String id, String name, boolean fictitious, SwitchKind kind, final boolean open, boolean retained) {
         super(id, name, fictitious);
         this.voltageLevel = voltageLevel;
         this.kind = kind;
-        int variantArraySize = voltageLevel.getNetwork().getVariantManager().getVariantArraySize();
-        this.open = new TBooleanArrayList(variantArraySize);
-        this.retained = new TBooleanArrayList(variantArraySize);
-        for (int i = 0; i < variantArraySize; i++) {
-            this.open.add(open);
-            this.retained.add(retained);
-        }
+        this.open = VariantValueArray.create(voltageLevel::getNetwork, open);
+        this.retained = VariantValueArray.create(voltageLevel::getNetwork, retained);
     }
 
     @Override
@@ -70,9 +64,8 @@ class SwitchImpl extends AbstractIdentifiable<Switch> implements Switch, MultiVa
         boolean oldValue = this.open.get(index);
         if (oldValue != open) {
             this.open.set(index, open);
-            voltageLevel.invalidateCache(isRetained());
-            String variantId = network.getVariantManager().getVariantId(index);
-            network.getListeners().notifyUpdate(this, "open", variantId, oldValue, open);
+            voltageLevel.invalidateCacheOnSwitchOpenChange(this);
+            network.getListeners().notifyUpdate(this, "open", index, oldValue, open);
         }
     }
 
@@ -92,8 +85,7 @@ class SwitchImpl extends AbstractIdentifiable<Switch> implements Switch, MultiVa
         if (oldValue != retained) {
             this.retained.set(index, retained);
             voltageLevel.invalidateCache();
-            String variantId = network.getVariantManager().getVariantId(index);
-            network.getListeners().notifyUpdate(this, "retained", variantId, oldValue, retained);
+            network.getListeners().notifyUpdate(this, "retained", index, oldValue, retained);
         }
     }
 
@@ -112,34 +104,31 @@ class SwitchImpl extends AbstractIdentifiable<Switch> implements Switch, MultiVa
     public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
         super.extendVariantArraySize(initVariantArraySize, number, sourceIndex);
 
-        open.ensureCapacity(open.size() + number);
-        open.fill(initVariantArraySize, initVariantArraySize + number, open.get(sourceIndex));
-        retained.ensureCapacity(retained.size() + number);
-        retained.fill(initVariantArraySize, initVariantArraySize + number, retained.get(sourceIndex));
+        open.extendVariantArraySize(number, sourceIndex);
+        retained.extendVariantArraySize(number, sourceIndex);
     }
 
     @Override
     public void reduceVariantArraySize(int number) {
         super.reduceVariantArraySize(number);
 
-        open.remove(open.size() - number, number);
-        retained.remove(retained.size() - number, number);
+        open.reduceVariantArraySize(number);
+        retained.reduceVariantArraySize(number);
     }
 
     @Override
     public void deleteVariantArrayElement(int index) {
         super.deleteVariantArrayElement(index);
-        // nothing to do
+        open.deleteVariantArrayElement(index);
+        retained.deleteVariantArrayElement(index);
     }
 
     @Override
     public void allocateVariantArrayElement(int[] indexes, final int sourceIndex) {
         super.allocateVariantArrayElement(indexes, sourceIndex);
 
-        for (int index : indexes) {
-            open.set(index, open.get(sourceIndex));
-            retained.set(index, retained.get(sourceIndex));
-        }
+        open.allocateVariantArrayElement(indexes, sourceIndex);
+        retained.allocateVariantArrayElement(indexes, sourceIndex);
     }
 
     @Override
@@ -11,9 +11,16 @@ import com.powsybl.commons.ref.Ref;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * To easily manage an array of variant.
+ * <p>
+ * Variants are lazily allocated: extending or allocating the array only reserves the slots, the variant object
+ * itself is created by the factory the first time it is accessed. Cloning a variant is then almost free for objects
+ * that are never accessed in the new variant (which is the common case for topology caches of voltage levels
+ * untouched by a contingency). As a consequence, variants managed by this class must not inherit any state from the
+ * source variant: a newly allocated variant is always equivalent to a fresh one.
  *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
@@ -21,37 +28,48 @@ class VariantArray<S extends Variant> {
 
     private final Ref<? extends VariantManagerHolder> variantManagerHolder;
 
+    private final VariantFactory<S> variantFactory;
+
     private final List<S> variants;
 
     VariantArray(Ref<? extends VariantManagerHolder> variantManagerHolder, VariantFactory<S> variantFactory) {
         this.variantManagerHolder = variantManagerHolder;
+        this.variantFactory = Objects.requireNonNull(variantFactory);
         VariantManagerImpl variantManager = variantManagerHolder.get().getVariantManager();
         variants = Collections.synchronizedList(new ArrayList<S>(variantManager.getVariantArraySize()));
         for (int i = 0; i < variantManager.getVariantArraySize(); i++) {
             variants.add(null);
         }
-        for (int i : variantManager.getVariantIndexes()) {
-            variants.set(i, variantFactory.newVariant());
-        }
     }
 
     S get() {
-        return variants.get(variantManagerHolder.get().getVariantManager().getVariantContext().getVariantIndex());
-    }
-
-    void push(int number, VariantFactory<S> variantFactory) {
-        for (int i = 0; i < number; i++) {
-            variants.add(variantFactory.newVariant());
+        int index = variantManagerHolder.get().getVariantManager().getVariantContext().getVariantIndex();
+        synchronized (variants) {
+            S variant = variants.get(index);
+            if (variant == null) {
+                variant = variantFactory.newVariant();
+                variants.set(index, variant);
+            }
+            return variant;
         }
     }
 
-    void push(VariantFactory<S> variantFactory) {
-        variants.add(variantFactory.newVariant());
+    /**
+     * Reserve {@code number} new variant slots at the end of the array.
+     */
+    void push(int number) {
+        synchronized (variants) {
+            for (int i = 0; i < number; i++) {
+                variants.add(null);
+            }
+        }
     }
 
     void pop(int number) {
-        for (int i = 0; i < number; i++) {
-            variants.remove(variants.size() - 1);
+        synchronized (variants) {
+            for (int i = 0; i < number; i++) {
+                variants.remove(variants.size() - 1);
+            }
         }
     }
 
@@ -59,14 +77,23 @@ class VariantArray<S extends Variant> {
         variants.set(index, null);
     }
 
-    void allocate(int[] indexes, VariantFactory<S> variantFactory) {
-        for (int index : indexes) {
-            variants.set(index, variantFactory.newVariant());
+    /**
+     * Reset the variant slots at the given indexes, variants will be recreated on next access.
+     */
+    void allocate(int[] indexes) {
+        synchronized (variants) {
+            for (int index : indexes) {
+                variants.set(index, null);
+            }
         }
     }
 
-    S copy(int index) {
-        return variants.get(index).copy();
+    /**
+     * Number of variants actually created, for test purpose.
+     */
+    int getAllocatedCount() {
+        synchronized (variants) {
+            return (int) variants.stream().filter(Objects::nonNull).count();
+        }
     }
-
 }
@@ -0,0 +1,197 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.commons.ref.Ref;
+import gnu.trove.list.array.TDoubleArrayList;
+import gnu.trove.map.hash.TIntDoubleHashMap;
+
+import java.util.Objects;
+
+/**
+ * Values of a double attribute for all the variants of a network.
+ * <p>
+ * By default, the values are stored in a dense array indexed by variant, and cloning a variant copies the value of the
+ * source variant. With the delta variant storage ({@link VariantManagerImpl#isDeltaVariantStorage()}), a variant only
+ * stores the values which have been modified since it has been cloned: cloning a variant does not copy anything, and
+ * the value of a variant is the one of the variant it has been cloned from, recursively, until a stored value is
+ * found. Modifying a variant which has been cloned first stores its previous value in the clones which do not have
+ * their own value.
+ * </p>
+ *
+ * @author Elia Group
+ */
+interface VariantDoubleArray {
+
+    /**
+     * Create an array with the same value for all the variants, using the storage enabled on the network.
+     */
+    static VariantDoubleArray create(Ref<? extends VariantManagerHolder> variantManagerHolder, double value) {
+        VariantManagerImpl variantManager = variantManagerHolder.get().getVariantManager();
+        return variantManager.isDeltaVariantStorage() ? new Delta(variantManagerHolder, value)
+                                                      : new Dense(variantManager.getVariantArraySize(), value);
+    }
+
+    double get(int variantIndex);
+
+    /**
+     * Set the value of a variant and return the previous one.
+     */
+    double set(int variantIndex, double value);
+
+    void extendVariantArraySize(int number, int sourceIndex);
+
+    void reduceVariantArraySize(int number);
+
+    void deleteVariantArrayElement(int index);
+
+    void allocateVariantArrayElement(int[] indexes, int sourceIndex);
+
+    /**
+     * Number of values actually stored, for test purpose.
+     */
+    int getStoredValueCount();
+
+    final class Dense implements VariantDoubleArray {
+
+        private final TDoubleArrayList values;
+
+        private Dense(int variantArraySize, double value) {
+            values = new TDoubleArrayList(variantArraySize);
+            for (int i = 0; i < variantArraySize; i++) {
+                values.add(value);
+            }
+        }
+
+        @Override
+        public double get(int variantIndex) {
+            return values.get(variantIndex);
+        }
+
+        @Override
+        public double set(int variantIndex, double value) {
+            return values.set(variantIndex, value);
+        }
+
+        @Override
+        public void extendVariantArraySize(int number, int sourceIndex) {
+            values.ensureCapacity(values.size() + number);
+            for (int i = 0; i < number; i++) {
+                values.add(values.get(sourceIndex));
+            }
+        }
+
+        @Override
+        public void reduceVariantArraySize(int number) {
+            values.remove(values.size() - number, number);
+        }
+
+        @Override
+        public void deleteVariantArrayElement(int index) {
+            // nothing to do
+        }
+
+        @Override
+        public void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
+            for (int index : indexes) {
+                values.set(index, values.get(sourceIndex));
+            }
+        }
+
+        @Override
+        public int getStoredValueCount() {
+            return values.size();
+        }
+    }
+
+    /**
+     * The variant tree is managed by {@link VariantManagerImpl}, which updates it after the arrays have been notified
+     * of a variant removal or reallocation, and which guards it with its own lock. Accesses to the values are
+     * synchronized so that variants can be read and modified by several threads, see
+     * {@link com.powsybl.iidm.network.VariantManager#allowVariantMultiThreadAccess(boolean)}.
+     */
+    final class Delta implements VariantDoubleArray {
+
+        private final Ref<? extends VariantManagerHolder> variantManagerHolder;
+
+        private final TIntDoubleHashMap values = new TIntDoubleHashMap(1);
+
+        private Delta(Ref<? extends VariantManagerHolder> variantManagerHolder, double value) {
+            this.variantManagerHolder = Objects.requireNonNull(variantManagerHolder);
+            VariantManagerImpl variantManager = variantManagerHolder.get().getVariantManager();
+            for (int index : variantManager.getVariantIndexes()) {
+                if (variantManager.getSourceVariantIndex(index) == -1) {
+                    values.put(index, value);
+                }
+            }
+        }
+
+        private VariantManagerImpl getVariantManager() {
+            return variantManagerHolder.get().getVariantManager();
+        }
+
+        @Override
+        public synchronized double get(int variantIndex) {
+            int index = getVariantManager().findVariantIndex(variantIndex, values::containsKey);
+            return index != -1 ? values.get(index) : Double.NaN;
+        }
+
+        @Override
+        public synchronized double set(int variantIndex, double value) {
+            double oldValue = get(variantIndex);
+            detach(variantIndex, oldValue);
+            values.put(variantIndex, value);
+            return oldValue;
+        }
+
+        /**
+         * Store a value in the clones of a variant which do not have their own one.
+         */
+        private void detach(int index, double value) {
+            getVariantManager().forEachClonedVariant(index, clone -> {
+                if (!values.containsKey(clone)) {
+                    values.put(clone, value);
+                }
+            });
+        }
+
+        @Override
+        public void extendVariantArraySize(int number, int sourceIndex) {
+            // the new variants have no value of their own
+        }
+
+        @Override
+        public synchronized void reduceVariantArraySize(int number) {
+            int variantArraySize = getVariantManager().getVariantArraySize();
+            for (int index = variantArraySize - number; index < variantArraySize; index++) {
+                deleteVariantArrayElement(index);
+            }
+        }
+
+        @Override
+        public synchronized void deleteVariantArrayElement(int index) {
+            if (values.containsKey(index)) {
+                detach(index, values.remove(index));
+            }
+        }
+
+        @Override
+        public synchronized void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
+            for (int index : indexes) {
+                if (index != sourceIndex) {
+                    deleteVariantArrayElement(index);
+                }
+            }
+        }
+
+        @Override
+        public synchronized int getStoredValueCount() {
+            return values.size();
+        }
+    }
+}
@@ -12,12 +12,18 @@ import com.google.common.collect.FluentIterable;
 import com.google.common.collect.HashBiMap;
 import com.google.common.primitives.Ints;
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.iidm.network.VariantManager;
 import com.powsybl.iidm.network.VariantManagerConstants;
+import gnu.trove.list.array.TIntArrayList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 
 /**
  *
@@ -29,6 +35,8 @@ public class VariantManagerImpl implements VariantManager {
 
     private static final int INITIAL_VARIANT_INDEX = 0;
 
+    static final boolean DELTA_VARIANT_STORAGE = loadDeltaVariantStorage(PlatformConfig.defaultConfig());
+
     private VariantContext variantContext;
 
     private final NetworkIndex networkIndex;
@@ -41,6 +49,17 @@ public class VariantManagerImpl implements VariantManager {
 
     private final NetworkImpl network;
 
+    private boolean deltaVariantStorage = DELTA_VARIANT_STORAGE;
+
+    // Index of the variant each variant has been cloned from (-1 for the initial variant and unused indexes), and
+    // number of variants cloned from each variant, used by the delta variant storage. Variants may be cloned and read
+    // by several threads when multi-thread access is allowed, so the variant tree is only accessed under this lock
+    private final TIntArrayList sourceIndexes = new TIntArrayList();
+
+    private final TIntArrayList cloneCounts = new TIntArrayList();
+
+    private final ReadWriteLock variantTreeLock = new ReentrantReadWriteLock();
+
     VariantManagerImpl(NetworkImpl network) {
         this.network = network;
         this.variantContext = new MultiVariantContext(INITIAL_VARIANT_INDEX);
@@ -48,6 +67,117 @@ public class VariantManagerImpl implements VariantManager {
         // the network has always a zero index initial variant
         id2index.put(VariantManagerConstants.INITIAL_VARIANT_ID, INITIAL_VARIANT_INDEX);
         variantArraySize = INITIAL_VARIANT_INDEX + 1;
+        sourceIndexes.add(-1);
+        cloneCounts.add(0);
+    }
+
+    static boolean loadDeltaVariantStorage(PlatformConfig platformConfig) {
+        return platformConfig
+            .getOptionalModuleConfig("iidm")
+            .map(moduleConfig -> moduleConfig.getBooleanProperty("delta-variant-storage", false))
+            .orElse(false);
+    }
+
+    /**
+     * If true, the attributes stored in a {@link VariantDoubleArray} (p and q of terminals, targets of generators and
+     * batteries, p0 and q0 of loads) or in a {@link VariantValueArray} (open and retained states of switches, tap
+     * positions, section counts of shunt compensators) of the elements created from now on only store the values
+     * modified in each variant, so that cloning a variant does not copy them. Defaults to the {@code delta-variant-storage} property
+     * of the {@code iidm} module.
+     */
+    boolean isDeltaVariantStorage() {
+        return deltaVariantStorage;
+    }
+
+    void setDeltaVariantStorage(boolean deltaVariantStorage) {
+        this.deltaVariantStorage = deltaVariantStorage;
+    }
+
+    /**
+     * Get the index of the variant the given variant has been cloned from, or -1 if it is not a clone.
+     */
+    int getSourceVariantIndex(int index) {
+        variantTreeLock.readLock().lock();
+        try {
+            return sourceIndexes.get(index);
+        } finally {
+            variantTreeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find, starting from the given variant and going up the variants it has been cloned from, the first variant
+     * accepted by the predicate.
+     *
+     * @return the index of the variant, or -1 if there is none.
+     */
+    int findVariantIndex(int index, IntPredicate predicate) {
+        variantTreeLock.readLock().lock();
+        try {
+            int i = index;
+            while (i != -1 && !predicate.test(i)) {
+                i = sourceIndexes.get(i);
+            }
+            return i;
+        } finally {
+            variantTreeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Apply an action to the indexes of the variants cloned from the given variant. The variant tree cannot be
+     * modified by the action.
+     */
+    void forEachClonedVariant(int index, IntConsumer action) {
+        variantTreeLock.readLock().lock();
+        try {
+            int count = cloneCounts.get(index);
+            for (int i = 0; i < sourceIndexes.size() && count > 0; i++) {
+                if (sourceIndexes.get(i) == index) {
+                    action.accept(i);
+                    count--;
+                }
+            }
+        } finally {
+            variantTreeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of variants cloned from the given variant, for test purpose.
+     */
+    int getCloneCount(int index) {
+        variantTreeLock.readLock().lock();
+        try {
+            return cloneCounts.get(index);
+        } finally {
+            variantTreeLock.readLock().unlock();
+        }
+    }
+
+    // called with the write lock of the variant tree held
+    private void setSourceVariantIndex(int index, int sourceIndex) {
+        int oldSourceIndex = sourceIndexes.set(index, sourceIndex);
+        if (oldSourceIndex != -1) {
+            cloneCounts.set(oldSourceIndex, cloneCounts.get(oldSourceIndex) - 1);
+        }
+        if (sourceIndex != -1) {
+            cloneCounts.set(sourceIndex, cloneCounts.get(sourceIndex) + 1);
+        }
+    }
+
+    /**
+     * Remove a variant from the variant tree, the variants cloned from it are then considered as cloned from its
+     * source variant. Called with the write lock of the variant tree held.
+     */
+    private void detachVariant(int index) {
+        int sourceIndex = sourceIndexes.get(index);
+        for (int i = 0; i < sourceIndexes.size() && cloneCounts.get(index) > 0; i++) {
+            if (sourceIndexes.get(i) == index) {
+                setSourceVariantIndex(i, sourceIndex);
+            }
+        }
+        setSourceVariantIndex(index, -1);
     }
 
     VariantContext getVariantContext() {
@@ -163,6 +293,16 @@ public class VariantManagerImpl implements VariantManager {
             for (MultiVariantObject obj : getStafulObjects()) {
                 obj.extendVariantArraySize(initVariantArraySize, extendedCount, sourceIndex);
             }
+            variantTreeLock.writeLock().lock();
+            try {
+                for (int i = 0; i < extendedCount; i++) {
+                    sourceIndexes.add(-1);
+                    cloneCounts.add(0);
+                    setSourceVariantIndex(initVariantArraySize + i, sourceIndex);
+                }
+            } finally {
+                variantTreeLock.writeLock().unlock();
+            }
             LOGGER.trace("Extending variant array size to {} (+{})", variantArraySize, extendedCount);
         }
     }
@@ -173,6 +313,7 @@ public class VariantManagerImpl implements VariantManager {
             for (MultiVariantObject obj : getStafulObjects()) {
                 obj.allocateVariantArrayElement(indexes, sourceIndex);
             }
+            reallocateVariants(indexes, sourceIndex);
             if (LOGGER.isTraceEnabled()) {
                 LOGGER.trace("Recycling variant array indexes {}", Arrays.toString(indexes));
             }
@@ -182,12 +323,27 @@ public class VariantManagerImpl implements VariantManager {
             for (MultiVariantObject obj : getStafulObjects()) {
                 obj.allocateVariantArrayElement(indexes, sourceIndex);
             }
+            reallocateVariants(indexes, sourceIndex);
             if (LOGGER.isTraceEnabled()) {
                 LOGGER.trace("Overwriting variant array indexes {}", Arrays.toString(indexes));
             }
         }
     }
 
+    private void reallocateVariants(int[] indexes, int sourceIndex) {
+        variantTreeLock.writeLock().lock();
+        try {
+            for (int index : indexes) {
+                if (index != sourceIndex) {
+                    detachVariant(index);
+                    setSourceVariantIndex(index, sourceIndex);
+                }
+            }
+        } finally {
+            variantTreeLock.writeLock().unlock();
+        }
+    }
+
     @Override
     public void removeVariant(String variantId) {
         if (VariantManagerConstants.INITIAL_VARIANT_ID.equals(variantId)) {
@@ -213,6 +369,16 @@ public class VariantManagerImpl implements VariantManager {
             for (MultiVariantObject obj : getStafulObjects()) {
                 obj.reduceVariantArraySize(number);
             }
+            variantTreeLock.writeLock().lock();
+            try {
+                for (int j = variantArraySize - 1; j >= variantArraySize - number; j--) {
+                    detachVariant(j);
+                }
+                sourceIndexes.remove(variantArraySize - number, number);
+                cloneCounts.remove(variantArraySize - number, number);
+            } finally {
+                variantTreeLock.writeLock().unlock();
+            }
             variantArraySize -= number;
             LOGGER.trace("Reducing variant array size to {}", variantArraySize);
         } else {
@@ -222,6 +388,12 @@ public class VariantManagerImpl implements VariantManager {
             for (MultiVariantObject obj : getStafulObjects()) {
                 obj.deleteVariantArrayElement(index);
             }
+            variantTreeLock.writeLock().lock();
+            try {
+                detachVariant(index);
+            } finally {
+                variantTreeLock.writeLock().unlock();
+            }
             LOGGER.trace("Deleting variant array element at index {}", index);
         }
         // if the removed variant is the working variant, unset the working variant
@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.commons.ref.Ref;
+import gnu.trove.map.hash.TIntObjectHashMap;
+
+import java.util.ArrayList;
+import java.util.Objects;
+
+/**
+ * Values of an attribute, possibly null, for all the variants of a network, stored as {@link VariantDoubleArray}
+ * stores double values: in a dense list indexed by variant by default, or only for the variants in which they have
+ * been modified with the delta variant storage ({@link VariantManagerImpl#isDeltaVariantStorage()}).
+ *
+ * @author Elia Group
+ */
+interface VariantValueArray<T> {
+
+    /**
+     * Create an array with the same value for all the variants, using the storage enabled on the network.
+     */
+    static <T> VariantValueArray<T> create(Ref<? extends VariantManagerHolder> variantManagerHolder, T value) {
+        VariantManagerImpl variantManager = variantManagerHolder.get().getVariantManager();
+        return variantManager.isDeltaVariantStorage() ? new Delta<>(variantManagerHolder, value)
+                                                      : new Dense<>(variantManager.getVariantArraySize(), value);
+    }
+
+    T get(int variantIndex);
+
+    /**
+     * Set the value of a variant and return the previous one.
+     */
+    T set(int variantIndex, T value);
+
+    void extendVariantArraySize(int number, int sourceIndex);
+
+    void reduceVariantArraySize(int number);
+
+    void deleteVariantArrayElement(int index);
+
+    void allocateVariantArrayElement(int[] indexes, int sourceIndex);
+
+    /**
+     * Number of values actually stored, for test purpose.
+     */
+    int getStoredValueCount();
+
+    final class Dense<T> implements VariantValueArray<T> {
+
+        private final ArrayList<T> values;
+
+        private Dense(int variantArraySize, T value) {
+            values = new ArrayList<>(variantArraySize);
+            for (int i = 0; i < variantArraySize; i++) {
+                values.add(value);
+            }
+        }
+
+        @Override
+        public T get(int variantIndex) {
+            return values.get(variantIndex);
+        }
+
+        @Override
+        public T set(int variantIndex, T value) {
+            return values.set(variantIndex, value);
+        }
+
+        @Override
+        public void extendVariantArraySize(int number, int sourceIndex) {
+            values.ensureCapacity(values.size() + number);
+            for (int i = 0; i < number; i++) {
+                values.add(values.get(sourceIndex));
+            }
+        }
+
+        @Override
+        public void reduceVariantArraySize(int number) {
+            values.subList(values.size() - number, values.size()).clear();
+        }
+
+        @Override
+        public void deleteVariantArrayElement(int index) {
+            // nothing to do
+        }
+
+        @Override
+        public void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
+            for (int index : indexes) {
+                values.set(index, values.get(sourceIndex));
+            }
+        }
+
+        @Override
+        public int getStoredValueCount() {
+            return values.size();
+        }
+    }
+
+    /**
+     * Same as {@link VariantDoubleArray.Delta}, null being a value like any other.
+     */
+    final class Delta<T> implements VariantValueArray<T> {
+
+        private final Ref<? extends VariantManagerHolder> variantManagerHolder;
+
+        private final TIntObjectHashMap<T> values = new TIntObjectHashMap<>(1);
+
+        private Delta(Ref<? extends VariantManagerHolder> variantManagerHolder, T value) {
+            this.variantManagerHolder = Objects.requireNonNull(variantManagerHolder);
+            VariantManagerImpl variantManager = variantManagerHolder.get().getVariantManager();
+            for (int index : variantManager.getVariantIndexes()) {
+                if (variantManager.getSourceVariantIndex(index) == -1) {
+                    values.put(index, value);
+                }
+            }
+        }
+
+        private VariantManagerImpl getVariantManager() {
+            return variantManagerHolder.get().getVariantManager();
+        }
+
+        @Override
+        public synchronized T get(int variantIndex) {
+            int index = getVariantManager().findVariantIndex(variantIndex, values::containsKey);
+            return index != -1 ? values.get(index) : null;
+        }
+
+        @Override
+        public synchronized T set(int variantIndex, T value) {
+            T oldValue = get(variantIndex);
+            detach(variantIndex, oldValue);
+            values.put(variantIndex, value);
+            return oldValue;
+        }
+
+        /**
+         * Store a value in the clones of a variant which do not have their own one.
+         */
+        private void detach(int index, T value) {
+            getVariantManager().forEachClonedVariant(index, clone -> {
+                if (!values.containsKey(clone)) {
+                    values.put(clone, value);
+                }
+            });
+        }
+
+        @Override
+        public void extendVariantArraySize(int number, int sourceIndex) {
+            // the new variants have no value of their own
+        }
+
+        @Override
+        public synchronized void reduceVariantArraySize(int number) {
+            int variantArraySize = getVariantManager().getVariantArraySize();
+            for (int index = variantArraySize - number; index < variantArraySize; index++) {
+                deleteVariantArrayElement(index);
+            }
+        }
+
+        @Override
+        public synchronized void deleteVariantArrayElement(int index) {
+            if (values.containsKey(index)) {
+                detach(index, values.remove(index));
+            }
+        }
+
+        @Override
+        public synchronized void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
+            for (int index : indexes) {
+                if (index != sourceIndex) {
+                    deleteVariantArrayElement(index);
+                }
+            }
+        }
+
+        @Override
+        public synchronized int getStoredValueCount() {
+            return values.size();
+        }
+    }
+}
@@ -69,6 +69,13 @@ interface VoltageLevelExt extends VoltageLevel, MultiVariantObject {
 
     void invalidateCache(boolean exceptBusBreakerView);
 
+    /**
+     * Invalidate topology caches after the open status of a switch of this voltage level has changed.
+     */
+    default void invalidateCacheOnSwitchOpenChange(SwitchImpl aSwitch) {
+        invalidateCache(aSwitch.isRetained());
+    }
+
     String getSubnetworkId();
 
     Ref<NetworkImpl> getNetworkRef();
@@ -64,9 +64,8 @@ class VscConverterStationImpl extends AbstractHvdcConverterStation<VscConverterS
         boolean oldValue = this.regulatingPoint.isRegulating(variantIndex);
         this.regulatingPoint.setRegulating(variantIndex, voltageRegulatorOn);
         regulatingPoint.setUseVoltageRegulation(voltageRegulatorOn);
-        String variantId = n.getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("voltageRegulatorOn", variantId, oldValue, voltageRegulatorOn);
+        notifyUpdate("voltageRegulatorOn", variantIndex, oldValue, voltageRegulatorOn);
         return this;
     }
 
@@ -82,9 +81,8 @@ class VscConverterStationImpl extends AbstractHvdcConverterStation<VscConverterS
         ValidationUtil.checkVoltageControl(this, regulatingPoint.isRegulating(variantIndex), voltageSetpoint, reactivePowerSetpoint.get(variantIndex),
                 n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         double oldValue = this.voltageSetpoint.set(variantIndex, voltageSetpoint);
-        String variantId = n.getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("voltageSetpoint", variantId, oldValue, voltageSetpoint);
+        notifyUpdate("voltageSetpoint", variantIndex, oldValue, voltageSetpoint);
         return this;
     }
 
@@ -100,9 +98,8 @@ class VscConverterStationImpl extends AbstractHvdcConverterStation<VscConverterS
         ValidationUtil.checkVoltageControl(this, regulatingPoint.isRegulating(variantIndex), voltageSetpoint.get(variantIndex), reactivePowerSetpoint,
                 n.getMinValidationLevel(), n.getReportNodeContext().getReportNode());
         double oldValue = this.reactivePowerSetpoint.set(variantIndex, reactivePowerSetpoint);
-        String variantId = n.getVariantManager().getVariantId(variantIndex);
         n.invalidateValidationLevel();
-        notifyUpdate("reactivePowerSetpoint", variantId, oldValue, reactivePowerSetpoint);
+        notifyUpdate("reactivePowerSetpoint", variantIndex, oldValue, reactivePowerSetpoint);
         return this;
     }
 
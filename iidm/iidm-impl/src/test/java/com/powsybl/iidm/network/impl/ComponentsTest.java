@@ -7,12 +7,18 @@
  */
 package com.powsybl.iidm.network.impl;
 
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Bus;
 import com.powsybl.iidm.network.HvdcLine;
 import com.powsybl.iidm.network.LoadType;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -62,6 +68,40 @@ class ComponentsTest {
         synchronousComponents.forEach(sc -> assertEquals(1, sc.getSize()));
     }
 
+    @Test
+    void disconnectionQueries() {
+        NetworkImpl network = (NetworkImpl) EurostagTutorialExample1Factory.create();
+        Bus genBus = network.getBusView().getBus("VLGEN_0");
+        Bus loadBus = network.getBusView().getBus("VLLOAD_0");
+        NetworkImpl.ConnectedComponentsManager ccm = network.getConnectedComponentsManager();
+        assertTrue(ccm.isConnected(genBus, loadBus, Set.of()));
+        assertTrue(ccm.isConnected(genBus, loadBus, Set.of("NHV1_NHV2_1")));
+        assertFalse(ccm.isConnected(genBus, loadBus, Set.of("NHV1_NHV2_1", "NHV1_NHV2_2")));
+        assertEquals(List.of(), ccm.getDisconnectedBuses(genBus, Set.of("NHV1_NHV2_1")));
+        assertEquals(List.of(network.getBusView().getBus("VLHV2_0"), loadBus),
+                ccm.getDisconnectedBuses(genBus, Set.of("NHV1_NHV2_1", "NHV1_NHV2_2")));
+        assertEquals(List.of(genBus), ccm.getDisconnectedBuses(loadBus, Set.of("NGEN_NHV1")));
+
+        // the network itself is not modified
+        assertEquals(1, network.getBusView().getConnectedComponents().size());
+        assertEquals(4, genBus.getConnectedComponent().getSize());
+
+        Bus otherBus = network.getBusBreakerView().getBus("NGEN");
+        Set<String> noIds = Set.of();
+        PowsyblException e = assertThrows(PowsyblException.class, () -> ccm.isConnected(otherBus, loadBus, noIds));
+        assertEquals("Bus 'NGEN' not found in the bus view", e.getMessage());
+    }
+
+    @Test
+    void dcLineDisconnectionQueries() {
+        NetworkImpl network = (NetworkImpl) createSmallDcNetwork();
+        Bus bus1 = network.getBusView().getBus("voltageLevel1_0");
+        Bus bus2 = network.getBusView().getBus("voltageLevel2_0");
+        assertTrue(network.getConnectedComponentsManager().isConnected(bus1, bus2, Set.of()));
+        assertFalse(network.getConnectedComponentsManager().isConnected(bus1, bus2, Set.of("DcLine")));
+        assertFalse(network.getSynchronousComponentsManager().isConnected(bus1, bus2, Set.of()));
+    }
+
     private Network createSmallDcNetwork() {
         final var network = Network.create("smallDc", "test");
         final var voltageLevel1 = network.newVoltageLevel()
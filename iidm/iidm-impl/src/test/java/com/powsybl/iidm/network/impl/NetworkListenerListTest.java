@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.iidm.network.DefaultNetworkListener;
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Elia Group
+ */
+class NetworkListenerListTest {
+
+    private record Update(String attribute, String variantId, Object oldValue, Object newValue) {
+    }
+
+    @Test
+    void testVariantIdOnlyResolvedWithListeners() {
+        AtomicInteger resolutions = new AtomicInteger();
+        NetworkListenerList listeners = new NetworkListenerList(index -> {
+            resolutions.incrementAndGet();
+            return "v" + index;
+        });
+        Identifiable<?> identifiable = EurostagTutorialExample1Factory.create().getGenerator("GEN");
+        listeners.notifyUpdate(identifiable, "targetP", 1, 1.0, 2.0);
+        assertEquals(0, resolutions.get());
+
+        List<Update> updates = new ArrayList<>();
+        listeners.add(new DefaultNetworkListener() {
+            @Override
+            public void onUpdate(Identifiable<?> identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+                updates.add(new Update(attribute, variantId, oldValue, newValue));
+            }
+        });
+        listeners.notifyUpdate(identifiable, "targetP", 1, 1.0, 2.0);
+        listeners.notifyUpdate(identifiable, "targetP", 1, Double.NaN, Double.NaN);
+        listeners.notifyUpdate(identifiable, "targetP", 1, 0.0, -0.0);
+        listeners.notifyUpdate(identifiable, "sectionCount", 2, 3, 3);
+        listeners.notifyUpdate(identifiable, "sectionCount", 2, 3, 4);
+        listeners.notifyUpdate(identifiable, "open", 0, true, false);
+        assertEquals(List.of(new Update("targetP", "v1", 1.0, 2.0),
+                        new Update("targetP", "v1", 0.0, -0.0),
+                        new Update("sectionCount", "v2", 3, 4),
+                        new Update("open", "v0", true, false)),
+                updates);
+        assertEquals(4, resolutions.get());
+    }
+
+    @Test
+    void testSetterNotifications() {
+        Network network = EurostagTutorialExample1Factory.create();
+        network.getVariantManager().cloneVariant(network.getVariantManager().getWorkingVariantId(), "other");
+        network.getVariantManager().setWorkingVariant("other");
+        List<Update> updates = new ArrayList<>();
+        network.addListener(new DefaultNetworkListener() {
+            @Override
+            public void onUpdate(Identifiable<?> identifiable, String attribute, Object oldValue, Object newValue) {
+                updates.add(new Update(attribute, null, oldValue, newValue));
+            }
+
+            @Override
+            public void onUpdate(Identifiable<?> identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+                updates.add(new Update(attribute, variantId, oldValue, newValue));
+            }
+        });
+        Generator gen = network.getGenerator("GEN");
+        gen.setTargetP(600);
+        gen.setTargetP(600);
+        gen.setMaxP(10000);
+        gen.setVoltageRegulatorOn(false);
+        gen.getTerminal().setP(-600);
+        network.getTwoWindingsTransformer("NHV2_NLOAD").getRatioTapChanger().setTapPosition(0);
+        assertEquals(List.of(new Update("targetP", "other", 607.0, 600.0),
+                        new Update("maxP", null, 9999.99, 10000.0),
+                        new Update("voltageRegulatorOn", "other", true, false),
+                        new Update("p", "other", Double.NaN, -600.0),
+                        new Update("ratioTapChanger.tapPosition", "other", 1, 0)),
+                updates);
+    }
+}
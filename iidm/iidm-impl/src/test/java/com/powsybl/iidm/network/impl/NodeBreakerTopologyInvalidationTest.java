@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Elia Group
+ */
+class NodeBreakerTopologyInvalidationTest {
+
+    /**
+     * <pre>
+     *     L
+     *     |
+     *  ---1---
+     *  |     |
+     * BR1   BR2
+     *  |     |
+     *  ---0--- BBS1
+     * </pre>
+     */
+    private static Network createDiamondNetwork() {
+        Network network = Network.create("test", "test");
+        Substation s = network.newSubstation()
+            .setId("S")
+            .setCountry(Country.FR)
+            .add();
+        VoltageLevel vl = s.newVoltageLevel()
+            .setId("VL")
+            .setNominalV(400.0)
+            .setTopologyKind(TopologyKind.NODE_BREAKER)
+            .add();
+        vl.getNodeBreakerView().newBusbarSection()
+            .setId("BBS1")
+            .setNode(0)
+            .add();
+        vl.newLoad()
+            .setId("L")
+            .setNode(1)
+            .setP0(1)
+            .setQ0(1)
+            .add();
+        vl.getNodeBreakerView().newBreaker()
+            .setId("BR1")
+            .setNode1(1)
+            .setNode2(0)
+            .setOpen(false)
+            .add();
+        vl.getNodeBreakerView().newBreaker()
+            .setId("BR2")
+            .setNode1(1)
+            .setNode2(0)
+            .setOpen(false)
+            .add();
+        return network;
+    }
+
+    @Test
+    void testBusKeptWhenTopologyIsUnchanged() {
+        Network network = createDiamondNetwork();
+        Load load = network.getLoad("L");
+        Bus bus = load.getTerminal().getBusView().getBus();
+        Bus busBreakerViewBus = load.getTerminal().getBusBreakerView().getBus();
+        assertNotNull(bus);
+
+        // load still connected to the busbar through BR2
+        network.getSwitch("BR1").setOpen(true);
+        assertSame(bus, load.getTerminal().getBusView().getBus());
+        assertSame(busBreakerViewBus, load.getTerminal().getBusBreakerView().getBus());
+        assertEquals(ComponentConstants.MAIN_NUM, bus.getConnectedComponent().getNum());
+
+        // load disconnected
+        network.getSwitch("BR2").setOpen(true);
+        assertNull(load.getTerminal().getBusView().getBus());
+        assertThrows(Exception.class, bus::getV);
+        assertNotSame(busBreakerViewBus, load.getTerminal().getBusBreakerView().getBus());
+
+        // load reconnected
+        network.getSwitch("BR1").setOpen(false);
+        Bus newBus = load.getTerminal().getBusView().getBus();
+        assertNotNull(newBus);
+        assertEquals(bus.getId(), newBus.getId());
+
+        // closing a parallel switch does not change anything
+        network.getSwitch("BR2").setOpen(false);
+        assertSame(newBus, load.getTerminal().getBusView().getBus());
+    }
+
+    @Test
+    void testSameTopologyAsFullRecomputation() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        for (Switch sw : network.getSwitches()) {
+            for (boolean open : new boolean[] {!sw.isOpen(), sw.isOpen()}) {
+                // fill the caches before the change
+                getTopology(network);
+                sw.setOpen(open);
+                Map<String, String> incremental = getTopology(network);
+                network.getVoltageLevelStream().forEach(vl -> ((VoltageLevelExt) vl).invalidateCache());
+                assertEquals(getTopology(network), incremental, "Switch " + sw.getId());
+            }
+        }
+    }
+
+    private static Map<String, String> getTopology(Network network) {
+        Map<String, String> topology = new TreeMap<>();
+        network.getConnectableStream().forEach(c -> {
+            for (int i = 0; i < c.getTerminals().size(); i++) {
+                Terminal t = (Terminal) c.getTerminals().get(i);
+                Bus bus = t.getBusView().getBus();
+                Bus busBreakerViewBus = t.getBusBreakerView().getBus();
+                topology.put(c.getId() + "/" + i, (bus != null ? bus.getId() + "/" + bus.getConnectedComponent().getNum() + "/" + bus.getSynchronousComponent().getNum() : "null")
+                        + "/" + (busBreakerViewBus != null ? busBreakerViewBus.getId() : "null"));
+            }
+        });
+        return topology;
+    }
+}
@@ -38,4 +38,19 @@ class TestAbstractVoltageLevel {
             assertEquals(5, AbstractVoltageLevel.loadNodeIndexLimit(platformConfig));
         }
     }
+
+    @Test
+    void testLoadCsrGraph() throws IOException {
+        assertFalse(AbstractVoltageLevel.CSR_GRAPH);
+        assertFalse(AbstractVoltageLevel.loadCsrGraph(PlatformConfig.defaultConfig()));
+
+        try (FileSystem fileSystem = Jimfs.newFileSystem(Configuration.unix())) {
+
+            InMemoryPlatformConfig platformConfig = new InMemoryPlatformConfig(fileSystem);
+            MapModuleConfig moduleConfig = platformConfig.createModuleConfig("iidm");
+            moduleConfig.setStringProperty("csr-graph", "true");
+
+            assertTrue(AbstractVoltageLevel.loadCsrGraph(platformConfig));
+        }
+    }
 }
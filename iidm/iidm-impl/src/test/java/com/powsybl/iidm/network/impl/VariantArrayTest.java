@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.commons.ref.RefObj;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Elia Group
+ */
+class VariantArrayTest {
+
+    private static final class VariantMock implements Variant {
+
+        @Override
+        public VariantMock copy() {
+            return new VariantMock();
+        }
+    }
+
+    @Test
+    void testLazyAllocation() {
+        NetworkImpl network = (NetworkImpl) Network.create("test", "no-format");
+        VariantArray<VariantMock> variants = new VariantArray<>(new RefObj<>(network), VariantMock::new);
+        assertEquals(0, variants.getAllocatedCount());
+
+        VariantMock initial = variants.get();
+        assertNotNull(initial);
+        assertSame(initial, variants.get());
+        assertEquals(1, variants.getAllocatedCount());
+
+        // cloning only reserves slots
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, List.of("v1", "v2"));
+        variants.push(2);
+        assertEquals(1, variants.getAllocatedCount());
+
+        network.getVariantManager().setWorkingVariant("v2");
+        VariantMock v2 = variants.get();
+        assertNotSame(initial, v2);
+        assertEquals(2, variants.getAllocatedCount());
+
+        // re-allocating a slot resets it
+        variants.allocate(new int[] {2});
+        assertEquals(1, variants.getAllocatedCount());
+        assertNotSame(v2, variants.get());
+
+        variants.delete(2);
+        variants.pop(2);
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertSame(initial, variants.get());
+        assertEquals(1, variants.getAllocatedCount());
+    }
+}
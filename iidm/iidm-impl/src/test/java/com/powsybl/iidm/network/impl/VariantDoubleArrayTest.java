@@ -0,0 +1,276 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.commons.ref.RefObj;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Elia Group
+ */
+class VariantDoubleArrayTest {
+
+    private static NetworkFactory createNetworkFactory(boolean deltaVariantStorage) {
+        return new NetworkFactoryImpl() {
+            @Override
+            public Network createNetwork(String id, String sourceFormat) {
+                NetworkImpl network = (NetworkImpl) super.createNetwork(id, sourceFormat);
+                network.getVariantManager().setDeltaVariantStorage(deltaVariantStorage);
+                return network;
+            }
+        };
+    }
+
+    private static Network createNetwork(boolean deltaVariantStorage) {
+        return EurostagTutorialExample1Factory.create(createNetworkFactory(deltaVariantStorage));
+    }
+
+    @Test
+    void testCloneDoesNotCopyValues() {
+        NetworkImpl network = (NetworkImpl) Network.create("test", "no-format");
+        network.getVariantManager().setDeltaVariantStorage(true);
+        VariantDoubleArray values = VariantDoubleArray.create(new RefObj<>(network), 1);
+        assertEquals(1, values.getStoredValueCount());
+
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, List.of("v1", "v2", "v3"));
+        assertEquals(1, values.getStoredValueCount());
+        assertEquals(1, values.get(3));
+
+        // only the modified variant stores its value
+        assertEquals(1, values.set(2, 2));
+        assertEquals(2, values.getStoredValueCount());
+        assertEquals(1, values.get(1));
+        assertEquals(2, values.get(2));
+
+        // modifying the source variant keeps the previous value in the clones
+        values.set(0, 3);
+        assertEquals(3, values.get(0));
+        assertEquals(1, values.get(1));
+        assertEquals(2, values.get(2));
+        assertEquals(1, values.get(3));
+    }
+
+    @Test
+    void testNullValues() {
+        NetworkImpl network = (NetworkImpl) Network.create("test", "no-format");
+        network.getVariantManager().setDeltaVariantStorage(true);
+        VariantValueArray<Integer> values = VariantValueArray.create(new RefObj<>(network), null);
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, List.of("v1", "v2"));
+        assertEquals(1, values.getStoredValueCount());
+        assertNull(values.set(1, 1));
+        assertNull(values.get(2));
+
+        // a null value is kept in the clones like any other value
+        assertNull(values.set(0, 2));
+        assertEquals(2, values.get(0));
+        assertEquals(1, values.get(1));
+        assertNull(values.get(2));
+        assertEquals(3, values.getStoredValueCount());
+    }
+
+    @Test
+    void testVariantTree() {
+        Network network = createNetwork(true);
+        VariantManager variantManager = network.getVariantManager();
+        Generator gen = network.getGenerator("GEN");
+        Load load = network.getLoad("LOAD");
+
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v1");
+        variantManager.setWorkingVariant("v1");
+        gen.setTargetP(500);
+        load.getTerminal().setP(550);
+        variantManager.cloneVariant("v1", "v2");
+
+        // removing an intermediate variant keeps the values of its clones
+        variantManager.removeVariant("v1");
+        variantManager.setWorkingVariant("v2");
+        assertEquals(500, gen.getTargetP());
+        assertEquals(550, load.getTerminal().getP());
+
+        // a recycled index does not inherit the values of the removed variant
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v3");
+        variantManager.setWorkingVariant("v3");
+        assertEquals(607, gen.getTargetP());
+        assertTrue(Double.isNaN(load.getTerminal().getP()));
+
+        // overwriting a variant with one of its clones
+        variantManager.setWorkingVariant("v2");
+        load.setP0(700);
+        variantManager.cloneVariant("v2", "v4");
+        variantManager.cloneVariant("v4", "v2", true);
+        assertEquals(700, load.getP0());
+        assertEquals(500, gen.getTargetP());
+
+        // removing a variant with clones, then the last variant, which has a clone at a recycled index
+        variantManager.setWorkingVariant("v4");
+        gen.setTargetQ(10);
+        variantManager.cloneVariant("v4", "v5");
+        variantManager.removeVariant("v4");
+        variantManager.removeVariant("v3");
+        variantManager.cloneVariant("v5", "v6");
+        variantManager.removeVariant("v5");
+        variantManager.setWorkingVariant("v6");
+        assertEquals(10, gen.getTargetQ());
+        assertEquals(700, load.getP0());
+        assertEquals(500, gen.getTargetP());
+    }
+
+    private static List<Object> getValues(Network network, List<String> variantIds, Function<Network, List<Object>> attributes) {
+        List<Object> values = new ArrayList<>();
+        for (String variantId : variantIds) {
+            network.getVariantManager().setWorkingVariant(variantId);
+            values.addAll(attributes.apply(network));
+        }
+        return values;
+    }
+
+    /**
+     * Apply the same random sequence of clones, removals and modifications to a network with the dense storage and
+     * to a network with the delta storage, checking after each step that all the variants have the same values.
+     */
+    private static void checkSameValuesAsDenseStorage(Function<NetworkFactory, Network> networkCreator,
+                                                      Function<Network, List<Object>> attributes,
+                                                      BiConsumer<Network, Integer> modification) {
+        Network dense = networkCreator.apply(createNetworkFactory(false));
+        Network delta = networkCreator.apply(createNetworkFactory(true));
+        List<String> variantIds = new ArrayList<>(List.of(VariantManagerConstants.INITIAL_VARIANT_ID));
+        Random random = new Random(42);
+        for (int step = 0; step < 2000; step++) {
+            String variantId = variantIds.get(random.nextInt(variantIds.size()));
+            int operation = random.nextInt(10);
+            if (operation < 2) {
+                String cloneId = "v" + step;
+                boolean overwrite = variantIds.size() > 1 && random.nextBoolean();
+                if (overwrite) {
+                    cloneId = variantIds.get(random.nextInt(variantIds.size()));
+                } else {
+                    variantIds.add(cloneId);
+                }
+                for (Network network : List.of(dense, delta)) {
+                    network.getVariantManager().cloneVariant(variantId, cloneId, overwrite);
+                }
+            } else if (operation < 4 && !variantId.equals(VariantManagerConstants.INITIAL_VARIANT_ID)) {
+                variantIds.remove(variantId);
+                for (Network network : List.of(dense, delta)) {
+                    network.getVariantManager().removeVariant(variantId);
+                }
+            } else {
+                int value = random.nextInt(Integer.MAX_VALUE);
+                for (Network network : List.of(dense, delta)) {
+                    network.getVariantManager().setWorkingVariant(variantId);
+                    modification.accept(network, value);
+                }
+            }
+            assertEquals(getValues(dense, variantIds, attributes), getValues(delta, variantIds, attributes), "step " + step);
+        }
+    }
+
+    @Test
+    void testSameValuesAsDenseStorage() {
+        checkSameValuesAsDenseStorage(EurostagTutorialExample1Factory::create,
+            network -> List.of(network.getGenerator("GEN").getTargetP(),
+                               network.getGenerator("GEN").getTargetV(),
+                               network.getLoad("LOAD").getQ0(),
+                               network.getLoad("LOAD").getTerminal().getP(),
+                               network.getTwoWindingsTransformer("NGEN_NHV1").getTerminal2().getQ()),
+            (network, value) -> {
+                double v = 1 + value % 100;
+                switch (value % 5) {
+                    case 0 -> network.getGenerator("GEN").setTargetP(v);
+                    case 1 -> network.getGenerator("GEN").setTargetV(v);
+                    case 2 -> network.getLoad("LOAD").setQ0(v);
+                    case 3 -> network.getLoad("LOAD").getTerminal().setP(v);
+                    default -> network.getTwoWindingsTransformer("NGEN_NHV1").getTerminal2().setQ(v);
+                }
+            });
+    }
+
+    @Test
+    void testSameDiscreteValuesAsDenseStorage() {
+        List<String> switchIds = List.of("S1VL1_LD1_BREAKER", "S1VL1_TWT_BREAKER", "S1VL2_GH1_BREAKER");
+        checkSameValuesAsDenseStorage(FourSubstationsNodeBreakerFactory::create,
+            network -> {
+                List<Object> values = new ArrayList<>();
+                switchIds.forEach(id -> values.add(network.getSwitch(id).isOpen()));
+                values.add(network.getSwitch(switchIds.get(0)).isRetained());
+                TwoWindingsTransformer twt = network.getTwoWindingsTransformer("TWT");
+                values.add(twt.getPhaseTapChanger().getTapPosition());
+                values.add(twt.getRatioTapChanger().getTapPosition());
+                values.add(network.getShuntCompensator("SHUNT").getSectionCount());
+                return values;
+            },
+            (network, value) -> {
+                TwoWindingsTransformer twt = network.getTwoWindingsTransformer("TWT");
+                switch (value % 6) {
+                    case 0, 1, 2 -> network.getSwitch(switchIds.get(value % 3)).setOpen(value % 12 < 6);
+                    case 3 -> twt.getPhaseTapChanger().setTapPosition(value % (twt.getPhaseTapChanger().getHighTapPosition() + 1));
+                    case 4 -> twt.getRatioTapChanger().setTapPosition(value % (twt.getRatioTapChanger().getHighTapPosition() + 1));
+                    default -> network.getShuntCompensator("SHUNT").setSectionCount(value % 2);
+                }
+            });
+    }
+
+    @Test
+    void testConcurrentClones() throws Exception {
+        // as in a security analysis, each thread repeatedly overwrites its own variant with a clone of the same variant
+        Network network = createNetwork(true);
+        VariantManagerImpl variantManager = (VariantManagerImpl) network.getVariantManager();
+        variantManager.allowVariantMultiThreadAccess(true);
+        int threadCount = 4;
+        for (int t = 0; t < threadCount; t++) {
+            variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "t" + t);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                String variantId = "t" + t;
+                double targetP = 1000.0 * (t + 1);
+                futures.add(executor.submit(() -> {
+                    Generator gen = network.getGenerator("GEN");
+                    for (int i = 0; i < 500; i++) {
+                        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, variantId, true);
+                        variantManager.setWorkingVariant(variantId);
+                        assertEquals(607, gen.getTargetP());
+                        gen.setTargetP(targetP + i);
+                        assertEquals(targetP + i, gen.getTargetP());
+                        assertEquals(600, network.getLoad("LOAD").getP0());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // no clone has been lost
+        assertEquals(threadCount, variantManager.getCloneCount(0));
+        variantManager.setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(607, network.getGenerator("GEN").getTargetP());
+        for (int t = 0; t < threadCount; t++) {
+            variantManager.setWorkingVariant("t" + t);
+            assertEquals(1000.0 * (t + 1) + 499, network.getGenerator("GEN").getTargetP());
+        }
+    }
+}
@@ -43,6 +43,10 @@ abstract class AbstractComplexIdentifiableSerDe<T extends Identifiable<T>, A ext
         List<Consumer<T>> toApply = new ArrayList<>();
         A adder = createAdder(parent);
         String id = readIdentifierAttributes(adder, context);
+        if (!isRetained(id, parent, context)) {
+            context.getReader().skipChildNodes();
+            return;
+        }
         readRootElementAttributes(adder, parent, toApply, context);
         readSubElements(id, adder, toApply, context);
         if (postponeElementCreation()) {
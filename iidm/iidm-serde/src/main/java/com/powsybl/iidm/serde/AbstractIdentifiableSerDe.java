@@ -54,6 +54,14 @@ abstract class AbstractIdentifiableSerDe<T extends Identifiable<? super T>, A ex
 
     public abstract void read(P parent, NetworkDeserializerContext context);
 
+    /**
+     * Is the element retained by the import projection? This is checked as soon as its identifier attributes are
+     * read: if not, its remaining attributes and its sub-elements are skipped.
+     */
+    protected boolean isRetained(String id, P parent, NetworkDeserializerContext context) {
+        return true;
+    }
+
     protected String readIdentifierAttributes(A adder, NetworkDeserializerContext context) {
         String id = context.getAnonymizer().deanonymizeString(context.getReader().readStringAttribute("id"));
         String name = context.getAnonymizer().deanonymizeString(context.getReader().readStringAttribute("name"));
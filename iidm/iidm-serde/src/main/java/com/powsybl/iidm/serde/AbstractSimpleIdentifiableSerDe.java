@@ -35,7 +35,11 @@ abstract class AbstractSimpleIdentifiableSerDe<T extends Identifiable<? super T>
     @Override
     public final void read(P parent, NetworkDeserializerContext context) {
         A adder = createAdder(parent);
-        readIdentifierAttributes(adder, context);
+        String id = readIdentifierAttributes(adder, context);
+        if (!isRetained(id, parent, context)) {
+            context.getReader().skipChildNodes();
+            return;
+        }
         T identifiable = readRootElementAttributes(adder, parent, context);
         if (identifiable != null) {
             readSubElements(identifiable, context);
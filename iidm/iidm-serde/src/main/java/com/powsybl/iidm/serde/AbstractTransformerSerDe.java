@@ -204,7 +204,8 @@ abstract class AbstractTransformerSerDe<T extends Connectable<T>, A extends Iden
     }
 
     private static void readTapChangerTerminalRef(TapChangerAdder<?, ?, ?, ?, ?, ?> adder, Terminal terminal, NetworkDeserializerContext context) {
-        TerminalRefSerDe.readTerminalRef(context, terminal.getVoltageLevel().getNetwork(), tRef -> {
+        // A regulation of a terminal left out by the import projection falls back to a local regulation
+        TerminalRefSerDe.readTerminalRef(context, terminal.getVoltageLevel().getNetwork(), terminal, tRef -> {
             adder.setRegulationTerminal(tRef);
             adder.add();
         });
@@ -46,11 +46,11 @@ public class AreaBoundarySerDe {
         boolean ac = context.getReader().readBooleanAttribute("ac");
         AreaBoundaryAdder adder = holder.newAreaBoundary().setAc(ac);
         String type = context.getReader().readStringAttribute("type");
+        // The boundary is added once its reference is resolved, which is not the case if it has been left out by the import projection
         switch (type) {
-            case TERMINAL_REF -> TerminalRefSerDe.readTerminalRef(context, holder.getNetwork(), adder::setTerminal);
-            case BoundaryRefSerDe.ROOT_ELEMENT_NAME -> BoundaryRefSerDe.readBoundaryRef(context, holder.getNetwork(), adder::setBoundary);
+            case TERMINAL_REF -> TerminalRefSerDe.readTerminalRef(context, holder.getNetwork(), terminal -> adder.setTerminal(terminal).add());
+            case BoundaryRefSerDe.ROOT_ELEMENT_NAME -> BoundaryRefSerDe.readBoundaryRef(context, holder.getNetwork(), boundary -> adder.setBoundary(boundary).add());
             default -> throw new PowsyblException("Unexpected element for AreaBoundary: " + type + ". Should be " + BoundaryRefSerDe.ROOT_ELEMENT_NAME + " or " + TERMINAL_REF);
         }
-        context.getEndTasks().add(adder::add);
     }
 }
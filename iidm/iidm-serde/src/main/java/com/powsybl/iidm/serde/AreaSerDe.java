@@ -54,6 +54,11 @@ public class AreaSerDe extends AbstractSimpleIdentifiableSerDe<Area, AreaAdder,
         return network.newArea();
     }
 
+    @Override
+    protected boolean isRetained(String id, Network network, NetworkDeserializerContext context) {
+        return context.getProjection().isRetained(IdentifiableType.AREA);
+    }
+
     @Override
     protected Area readRootElementAttributes(final AreaAdder adder, final Network parent, final NetworkDeserializerContext context) {
         String areaType = context.getAnonymizer().deanonymizeString(context.getReader().readStringAttribute("areaType"));
@@ -9,6 +9,7 @@ package com.powsybl.iidm.serde;
 
 import com.powsybl.iidm.network.Battery;
 import com.powsybl.iidm.network.BatteryAdder;
+import com.powsybl.iidm.network.IdentifiableType;
 import com.powsybl.iidm.network.VoltageLevel;
 import com.powsybl.iidm.serde.util.IidmSerDeUtil;
 
@@ -53,6 +54,11 @@ class BatterySerDe extends AbstractSimpleIdentifiableSerDe<Battery, BatteryAdder
         return vl.newBattery();
     }
 
+    @Override
+    protected boolean isRetained(String id, VoltageLevel vl, NetworkDeserializerContext context) {
+        return context.getProjection().isRetained(IdentifiableType.BATTERY);
+    }
+
     @Override
     protected Battery readRootElementAttributes(BatteryAdder adder, VoltageLevel voltageLevel, NetworkDeserializerContext context) {
         double targetP = context.getReader().readDoubleAttribute(
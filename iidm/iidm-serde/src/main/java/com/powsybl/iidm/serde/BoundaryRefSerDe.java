@@ -28,7 +28,9 @@ public final class BoundaryRefSerDe {
         context.getReader().readEndNode();
         context.getEndTasks().add(() -> {
             DanglingLine danglingLine = network.getDanglingLine(id);
-            endTaskTerminalConsumer.accept(danglingLine.getBoundary());
+            if (danglingLine != null || !context.isPartialImport()) {
+                endTaskTerminalConsumer.accept(danglingLine.getBoundary());
+            }
         });
     }
 
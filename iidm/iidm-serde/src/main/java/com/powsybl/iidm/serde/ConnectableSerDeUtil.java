@@ -103,15 +103,24 @@ public final class ConnectableSerDeUtil {
         busAdder.accept(context.getAnonymizer().deanonymizeString(context.getReader().readStringAttribute(CONNECTABLE_BUS + suffix)));
     }
 
-    public static void readVoltageLevelAndNodeOrBus(BranchAdder<?, ?> adder, Network network, NetworkDeserializerContext context) {
-        readVoltageLevelAndNodeOrBus("1", adder::setVoltageLevel1, adder::setNode1, adder::setBus1, adder::setConnectableBus1, network, context);
-        readVoltageLevelAndNodeOrBus("2", adder::setVoltageLevel2, adder::setNode2, adder::setBus2, adder::setConnectableBus2, network, context);
+    /**
+     * Read the voltage level and the node or bus of both sides of a branch.
+     * @return false if a voltage level has been left out by the import projection, in which case the attributes
+     * following its id are not read
+     */
+    public static boolean readVoltageLevelAndNodeOrBus(BranchAdder<?, ?> adder, Network network, NetworkDeserializerContext context) {
+        return readVoltageLevelAndNodeOrBus("1", adder::setVoltageLevel1, adder::setNode1, adder::setBus1, adder::setConnectableBus1, network, context)
+                && readVoltageLevelAndNodeOrBus("2", adder::setVoltageLevel2, adder::setNode2, adder::setBus2, adder::setConnectableBus2, network, context);
     }
 
-    private static void readVoltageLevelAndNodeOrBus(String suffix, Consumer<String> voltageLevelSetter, IntConsumer nodeSetter, Consumer<String> busSetter, Consumer<String> connectableBusSetter, Network network, NetworkDeserializerContext context) {
+    private static boolean readVoltageLevelAndNodeOrBus(String suffix, Consumer<String> voltageLevelSetter, IntConsumer nodeSetter, Consumer<String> busSetter, Consumer<String> connectableBusSetter, Network network, NetworkDeserializerContext context) {
         String voltageLevelId = context.getAnonymizer().deanonymizeString(context.getReader().readStringAttribute("voltageLevelId" + suffix));
+        if (context.isPartialImport() && network.getVoltageLevel(voltageLevelId) == null) {
+            return false;
+        }
         voltageLevelSetter.accept(voltageLevelId);
         readNodeOrBus(suffix, getTopologKind(voltageLevelId, network), nodeSetter, busSetter, connectableBusSetter, context);
+        return true;
     }
 
     private static void readNodeOrBus(String suffix, TopologyKind topologyKind, IntConsumer nodeSetter, Consumer<String> busSetter, Consumer<String> connectableBusSetter, NetworkDeserializerContext context) {
@@ -133,8 +142,13 @@ public final class ConnectableSerDeUtil {
         return vl.getTopologyKind();
     }
 
-    public static void readNodeOrBus(int index, LegAdder adder, Network network, NetworkDeserializerContext context) {
-        readVoltageLevelAndNodeOrBus(String.valueOf(index), adder::setVoltageLevel, adder::setNode, adder::setBus, adder::setConnectableBus, network, context);
+    /**
+     * Read the voltage level and the node or bus of a three windings transformer leg.
+     * @return false if the voltage level has been left out by the import projection, in which case the attributes
+     * following its id are not read
+     */
+    public static boolean readNodeOrBus(int index, LegAdder adder, Network network, NetworkDeserializerContext context) {
+        return readVoltageLevelAndNodeOrBus(String.valueOf(index), adder::setVoltageLevel, adder::setNode, adder::setBus, adder::setConnectableBus, network, context);
     }
 
     public static void writePQ(Integer index, Terminal t, TreeDataWriter writer) {
@@ -177,6 +191,10 @@ public final class ConnectableSerDeUtil {
 
     private static <L extends LoadingLimits, A extends LoadingLimitsAdder<L, A>> void readLoadingLimits(String type, A adder, NetworkDeserializerContext context) {
         TreeDataReader reader = context.getReader();
+        if (!context.getProjection().isWithLimits()) {
+            reader.skipChildNodes();
+            return;
+        }
         IidmVersion iidmVersion = context.getVersion();
         ImportOptions options = context.getOptions();
         ValidationLevel minimalValidationLevel = options.getMinimalValidationLevel().orElse(context.getNetworkValidationLevel());
@@ -222,12 +240,20 @@ public final class ConnectableSerDeUtil {
     }
 
     static void readLoadingLimitsGroup(Function<String, OperationalLimitsGroup> groupBuilder, String groupElementName, NetworkDeserializerContext context) {
+        if (!context.getProjection().isWithLimits()) {
+            context.getReader().skipChildNodes();
+            return;
+        }
         String id = context.getReader().readStringAttribute("id");
         OperationalLimitsGroup group = groupBuilder.apply(id);
         readAllLoadingLimits(groupElementName, group, context);
     }
 
     static void readLoadingLimitsGroups(FlowsLimitsHolder h, String groupElementName, NetworkDeserializerContext context) {
+        if (!context.getProjection().isWithLimits()) {
+            context.getReader().skipChildNodes();
+            return;
+        }
         String id = context.getReader().readStringAttribute("id");
         OperationalLimitsGroup group = h.newOperationalLimitsGroup(id);
         readAllLoadingLimits(groupElementName, group, context);
@@ -280,7 +306,7 @@ public final class ConnectableSerDeUtil {
     static void readSelectedGroupId(Integer index, Consumer<String> selectedGroupIdSetter, NetworkDeserializerContext context) {
         String suffix = index == null ? "" : String.valueOf(index);
         String selectedGroupId = context.getReader().readStringAttribute(SELECTED_GROUP_ID + suffix);
-        if (selectedGroupId != null) {
+        if (selectedGroupId != null && context.getProjection().isWithLimits()) {
             context.getEndTasks().add(() -> selectedGroupIdSetter.accept(selectedGroupId));
         }
     }
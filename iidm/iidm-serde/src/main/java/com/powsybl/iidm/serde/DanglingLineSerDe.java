@@ -10,6 +10,7 @@ package com.powsybl.iidm.serde;
 import com.powsybl.iidm.network.DanglingLine;
 import com.powsybl.iidm.network.DanglingLine.Generation;
 import com.powsybl.iidm.network.DanglingLineAdder;
+import com.powsybl.iidm.network.IdentifiableType;
 import com.powsybl.iidm.network.Terminal;
 import com.powsybl.iidm.network.VoltageLevel;
 import com.powsybl.iidm.serde.util.IidmSerDeUtil;
@@ -100,6 +101,11 @@ class DanglingLineSerDe extends AbstractSimpleIdentifiableSerDe<DanglingLine, Da
         return parent.newDanglingLine();
     }
 
+    @Override
+    protected boolean isRetained(String id, VoltageLevel vl, NetworkDeserializerContext context) {
+        return context.getProjection().isRetained(IdentifiableType.DANGLING_LINE);
+    }
+
     @Override
     protected void writeSubElements(DanglingLine dl, VoltageLevel vl, NetworkSerializerContext context) {
         if (dl.getGeneration() != null) {
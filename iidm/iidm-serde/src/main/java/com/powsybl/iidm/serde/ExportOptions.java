@@ -65,6 +65,12 @@ public class ExportOptions extends AbstractOptions<ExportOptions> {
 
     private boolean withAutomationSystems = true;
 
+    /**
+     * Write each substation in a separate block, indexed at the start of the file, so that the blocks can be decoded
+     * in parallel when reading the network. The resulting file can only be read by {@link NetworkSerDe}.
+     */
+    private boolean substationBlocks = false;
+
     public ExportOptions() {
     }
 
@@ -237,6 +243,15 @@ public class ExportOptions extends AbstractOptions<ExportOptions> {
         return this;
     }
 
+    public boolean isSubstationBlocks() {
+        return substationBlocks;
+    }
+
+    public ExportOptions setSubstationBlocks(boolean substationBlocks) {
+        this.substationBlocks = substationBlocks;
+        return this;
+    }
+
     public boolean isWithAutomationSystems() {
         return withAutomationSystems;
     }
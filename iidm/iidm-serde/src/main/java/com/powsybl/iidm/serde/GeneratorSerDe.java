@@ -56,6 +56,11 @@ class GeneratorSerDe extends AbstractSimpleIdentifiableSerDe<Generator, Generato
         return vl.newGenerator();
     }
 
+    @Override
+    protected boolean isRetained(String id, VoltageLevel vl, NetworkDeserializerContext context) {
+        return context.getProjection().isRetained(IdentifiableType.GENERATOR);
+    }
+
     @Override
     protected Generator readRootElementAttributes(GeneratorAdder adder, VoltageLevel voltageLevel, NetworkDeserializerContext context) {
         EnergySource energySource = context.getReader().readEnumAttribute("energySource", EnergySource.class);
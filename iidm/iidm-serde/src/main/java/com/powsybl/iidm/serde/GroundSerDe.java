@@ -9,6 +9,7 @@ package com.powsybl.iidm.serde;
 
 import com.powsybl.iidm.network.Ground;
 import com.powsybl.iidm.network.GroundAdder;
+import com.powsybl.iidm.network.IdentifiableType;
 import com.powsybl.iidm.network.VoltageLevel;
 
 import static com.powsybl.iidm.serde.ConnectableSerDeUtil.readNodeOrBus;
@@ -39,6 +40,11 @@ public class GroundSerDe extends AbstractSimpleIdentifiableSerDe<Ground, GroundA
         return voltageLevel.newGround();
     }
 
+    @Override
+    protected boolean isRetained(String id, VoltageLevel vl, NetworkDeserializerContext context) {
+        return context.getProjection().isRetained(IdentifiableType.GROUND);
+    }
+
     @Override
     protected Ground readRootElementAttributes(GroundAdder adder, VoltageLevel parent, NetworkDeserializerContext context) {
         readNodeOrBus(adder, context, parent.getTopologyKind());
@@ -9,6 +9,7 @@ package com.powsybl.iidm.serde;
 
 import com.powsybl.iidm.network.HvdcLine;
 import com.powsybl.iidm.network.HvdcLineAdder;
+import com.powsybl.iidm.network.IdentifiableType;
 import com.powsybl.iidm.network.Network;
 
 /**
@@ -43,6 +44,11 @@ class HvdcLineSerDe extends AbstractSimpleIdentifiableSerDe<HvdcLine, HvdcLineAd
         return n.newHvdcLine();
     }
 
+    @Override
+    protected boolean isRetained(String id, Network network, NetworkDeserializerContext context) {
+        return context.getProjection().isRetained(IdentifiableType.HVDC_LINE);
+    }
+
     @Override
     protected HvdcLine readRootElementAttributes(HvdcLineAdder adder, Network network, NetworkDeserializerContext context) {
         double r = context.getReader().readDoubleAttribute("r");
@@ -52,6 +58,10 @@ class HvdcLineSerDe extends AbstractSimpleIdentifiableSerDe<HvdcLine, HvdcLineAd
         double maxP = context.getReader().readDoubleAttribute("maxP");
         String converterStation1 = context.getAnonymizer().deanonymizeString(context.getReader().readStringAttribute("converterStation1"));
         String converterStation2 = context.getAnonymizer().deanonymizeString(context.getReader().readStringAttribute("converterStation2"));
+        if (context.isPartialImport()
+                && (network.getHvdcConverterStation(converterStation1) == null || network.getHvdcConverterStation(converterStation2) == null)) {
+            return null;
+        }
         return adder.setR(r)
                 .setNominalV(nominalV)
                 .setConvertersMode(convertersMode)
@@ -27,6 +27,8 @@ public class ImportOptions extends AbstractOptions<ImportOptions> {
 
     private ValidationLevel minimalValidationLevel = null;
 
+    private ImportProjection projection = null;
+
     public ImportOptions() {
     }
 
@@ -105,4 +107,17 @@ public class ImportOptions extends AbstractOptions<ImportOptions> {
     public Optional<ValidationLevel> getMinimalValidationLevel() {
         return Optional.ofNullable(minimalValidationLevel);
     }
+
+    /**
+     * <p>Import only a part of the network, the rest being skipped while reading.</p>
+     * <p>If null, the whole network is imported.</p>
+     */
+    public ImportOptions setProjection(ImportProjection projection) {
+        this.projection = projection;
+        return this;
+    }
+
+    public Optional<ImportProjection> getProjection() {
+        return Optional.ofNullable(projection);
+    }
 }
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.serde;
+
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.IdentifiableType;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * <p>Part of a network to import. The elements left out are skipped by the reader without being created.</p>
+ * <p>Substations are filtered on their id and on their country, voltage levels on their id. Voltage levels which do
+ * not belong to a substation are only imported when neither the countries nor the substation ids are restricted.
+ * Within the imported voltage levels, the topology (buses, switches and busbar sections) is always imported, the
+ * other equipments are filtered on their type.</p>
+ * <p>The equipments connected to a voltage level left out, like the lines or the transformers, are left out too, as
+ * well as the tie lines and the HVDC lines whose dangling lines or converter stations are left out. References to an
+ * equipment left out are ignored: remote regulations fall back to a local regulation, area boundaries and voltage
+ * angle limits referencing it are not imported. Overload management systems are only imported if no equipment is
+ * left out.</p>
+ * <p>An import projection is not supported in binary format, which cannot skip a part of the network.</p>
+ *
+ * @author Elia Group
+ */
+public class ImportProjection {
+
+    private Set<Country> countries = null;
+    private Set<String> substationIds = null;
+    private Set<String> voltageLevelIds = null;
+    private Set<IdentifiableType> elementTypes = null;
+    private boolean withExtensions = true;
+    private boolean withProperties = true;
+    private boolean withLimits = true;
+
+    public Optional<Set<Country>> getCountries() {
+        return Optional.ofNullable(countries);
+    }
+
+    /**
+     * Import only the substations located in the given countries, or all the substations if null
+     */
+    public ImportProjection setCountries(Set<Country> countries) {
+        this.countries = countries != null ? Set.copyOf(countries) : null;
+        return this;
+    }
+
+    public Optional<Set<String>> getSubstationIds() {
+        return Optional.ofNullable(substationIds);
+    }
+
+    /**
+     * Import only the substations with the given ids, or all the substations if null
+     */
+    public ImportProjection setSubstationIds(Set<String> substationIds) {
+        this.substationIds = substationIds != null ? Set.copyOf(substationIds) : null;
+        return this;
+    }
+
+    public Optional<Set<String>> getVoltageLevelIds() {
+        return Optional.ofNullable(voltageLevelIds);
+    }
+
+    /**
+     * Import only the voltage levels with the given ids, or all the voltage levels if null
+     */
+    public ImportProjection setVoltageLevelIds(Set<String> voltageLevelIds) {
+        this.voltageLevelIds = voltageLevelIds != null ? Set.copyOf(voltageLevelIds) : null;
+        return this;
+    }
+
+    public Optional<Set<IdentifiableType>> getElementTypes() {
+        return Optional.ofNullable(elementTypes);
+    }
+
+    /**
+     * Import only the equipments of the given types, or all the equipments if null. Substations, voltage levels and
+     * their topology are always imported.
+     */
+    public ImportProjection setElementTypes(Set<IdentifiableType> elementTypes) {
+        this.elementTypes = elementTypes != null ? Set.copyOf(elementTypes) : null;
+        return this;
+    }
+
+    public boolean isWithExtensions() {
+        return withExtensions;
+    }
+
+    public ImportProjection setWithExtensions(boolean withExtensions) {
+        this.withExtensions = withExtensions;
+        return this;
+    }
+
+    public boolean isWithProperties() {
+        return withProperties;
+    }
+
+    public ImportProjection setWithProperties(boolean withProperties) {
+        this.withProperties = withProperties;
+        return this;
+    }
+
+    public boolean isWithLimits() {
+        return withLimits;
+    }
+
+    public ImportProjection setWithLimits(boolean withLimits) {
+        this.withLimits = withLimits;
+        return this;
+    }
+
+    boolean isSubstationRetained(String id) {
+        return substationIds == null || substationIds.contains(id);
+    }
+
+    boolean isCountryRetained(Country country) {
+        return countries == null || country != null && countries.contains(country);
+    }
+
+    boolean isVoltageLevelRetained(String id, boolean inSubstation) {
+        return (inSubstation || countries == null && substationIds == null)
+                && (voltageLevelIds == null || voltageLevelIds.contains(id));
+    }
+
+    boolean isRetained(IdentifiableType type) {
+        return elementTypes == null || elementTypes.contains(type);
+    }
+
+    boolean isWithAllEquipments() {
+        return countries == null && substationIds == null && voltageLevelIds == null && elementTypes == null;
+    }
+}
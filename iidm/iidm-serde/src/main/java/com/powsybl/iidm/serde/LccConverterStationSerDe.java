@@ -7,6 +7,7 @@
  */
 package com.powsybl.iidm.serde;
 
+import com.powsybl.iidm.network.IdentifiableType;
 import com.powsybl.iidm.network.LccConverterStation;
 import com.powsybl.iidm.network.LccConverterStationAdder;
 import com.powsybl.iidm.network.VoltageLevel;
@@ -42,6 +43,11 @@ public class LccConverterStationSerDe extends AbstractSimpleIdentifiableSerDe<Lc
         return vl.newLccConverterStation();
     }
 
+    @Override
+    protected boolean isRetained(String id, VoltageLevel vl, NetworkDeserializerContext context) {
+        return context.getProjection().isRetained(IdentifiableType.HVDC_CONVERTER_STATION);
+    }
+
     @Override
     protected LccConverterStation readRootElementAttributes(LccConverterStationAdder adder, VoltageLevel voltageLevel, NetworkDeserializerContext context) {
         float lossFactor = context.getReader().readFloatAttribute("lossFactor");
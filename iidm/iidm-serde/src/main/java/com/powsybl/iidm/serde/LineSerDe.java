@@ -7,6 +7,7 @@
  */
 package com.powsybl.iidm.serde;
 
+import com.powsybl.iidm.network.IdentifiableType;
 import com.powsybl.iidm.network.Line;
 import com.powsybl.iidm.network.LineAdder;
 import com.powsybl.iidm.network.Network;
@@ -59,6 +60,11 @@ class LineSerDe extends AbstractSimpleIdentifiableSerDe<Line, LineAdder, Network
         return n.newLine();
     }
 
+    @Override
+    protected boolean isRetained(String id, Network network, NetworkDeserializerContext context) {
+        return context.getProjection().isRetained(IdentifiableType.LINE);
+    }
+
     @Override
     protected Line readRootElementAttributes(LineAdder adder, Network network, NetworkDeserializerContext context) {
         double r = context.getReader().readDoubleAttribute("r");
@@ -73,7 +79,9 @@ class LineSerDe extends AbstractSimpleIdentifiableSerDe<Line, LineAdder, Network
                 .setB1(b1)
                 .setG2(g2)
                 .setB2(b2);
-        ConnectableSerDeUtil.readVoltageLevelAndNodeOrBus(adder, network, context);
+        if (!ConnectableSerDeUtil.readVoltageLevelAndNodeOrBus(adder, network, context)) {
+            return null;
+        }
         Line l = adder.add();
         readOptionalPQ(1, l.getTerminal1(), context.getReader());
         readOptionalPQ(2, l.getTerminal2(), context.getReader());
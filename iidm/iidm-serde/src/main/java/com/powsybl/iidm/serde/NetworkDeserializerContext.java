@@ -25,11 +25,15 @@ import static com.powsybl.iidm.serde.IidmSerDeConstants.CURRENT_IIDM_VERSION;
  */
 public class NetworkDeserializerContext extends AbstractNetworkSerDeContext<ImportOptions> implements DeserializerContext {
 
-    private final TreeDataReader reader;
+    private TreeDataReader reader;
+
+    private SubstationBlockReader substationBlockReader;
 
     private final List<Runnable> endTasks = new ArrayList<>();
     private final ImportOptions options;
 
+    private final ImportProjection projection;
+
     private final Map<String, String> extensionVersions;
 
     private ValidationLevel networkValidationLevel;
@@ -43,6 +47,7 @@ public class NetworkDeserializerContext extends AbstractNetworkSerDeContext<Impo
         super(anonymizer, version);
         this.reader = Objects.requireNonNull(reader);
         this.options = Objects.requireNonNull(options);
+        this.projection = options.getProjection().orElseGet(ImportProjection::new);
         this.extensionVersions = extensionVersions;
     }
 
@@ -51,6 +56,23 @@ public class NetworkDeserializerContext extends AbstractNetworkSerDeContext<Impo
         return reader;
     }
 
+    /**
+     * Replace the reader, to read a part of the network from elsewhere, and return the previous one
+     */
+    TreeDataReader setReader(TreeDataReader reader) {
+        TreeDataReader previousReader = this.reader;
+        this.reader = Objects.requireNonNull(reader);
+        return previousReader;
+    }
+
+    SubstationBlockReader getSubstationBlockReader() {
+        return substationBlockReader;
+    }
+
+    void setSubstationBlockReader(SubstationBlockReader substationBlockReader) {
+        this.substationBlockReader = substationBlockReader;
+    }
+
     public List<Runnable> getEndTasks() {
         return endTasks;
     }
@@ -64,6 +86,17 @@ public class NetworkDeserializerContext extends AbstractNetworkSerDeContext<Impo
         return options;
     }
 
+    ImportProjection getProjection() {
+        return projection;
+    }
+
+    /**
+     * Is only a part of the network imported? In that case, the references to the equipments left out are ignored.
+     */
+    public boolean isPartialImport() {
+        return options.getProjection().isPresent();
+    }
+
     public boolean containsExtensionVersion(String extensionName, String version) {
         return version != null && version.equals(extensionVersions.get(extensionName));
     }
@@ -13,7 +13,10 @@ import com.google.common.collect.HashBiMap;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.binary.BinReader;
 import com.powsybl.commons.binary.BinWriter;
+import com.powsybl.commons.binary.ByteBufferBinReader;
 import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.datasource.DataSourceUtil;
+import com.powsybl.commons.datasource.DirectoryDataSource;
 import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import com.powsybl.commons.exceptions.UncheckedSaxException;
 import com.powsybl.commons.exceptions.UncheckedXmlStreamException;
@@ -21,7 +24,10 @@ import com.powsybl.commons.extensions.Extension;
 import com.powsybl.commons.extensions.ExtensionProviders;
 import com.powsybl.commons.extensions.ExtensionSerDe;
 import com.powsybl.commons.io.TreeDataFormat;
+import com.powsybl.commons.io.ByteBufferInputStream;
 import com.powsybl.commons.io.TreeDataHeader;
+import com.powsybl.commons.io.TreeDataNodeCodec;
+import com.powsybl.commons.io.TreeDataNodeReader;
 import com.powsybl.commons.io.TreeDataReader;
 import com.powsybl.commons.io.TreeDataWriter;
 import com.powsybl.commons.json.JsonReader;
@@ -46,7 +52,10 @@ import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.ZonedDateTime;
@@ -84,6 +93,13 @@ public final class NetworkSerDe {
     /** Magic number for binary iidm files ("Binary IIDM" in ASCII) */
     static final byte[] BIIDM_MAGIC_NUMBER = {0x42, 0x69, 0x6e, 0x61, 0x72, 0x79, 0x20, 0x49, 0x49, 0x44, 0x4d};
 
+    /** Magic number for iidm files with substation blocks ("Blocks IIDM" in ASCII) */
+    static final byte[] BLOCKS_IIDM_MAGIC_NUMBER = {0x42, 0x6c, 0x6f, 0x63, 0x6b, 0x73, 0x20, 0x49, 0x49, 0x44, 0x4d};
+
+    private static final String SUBSTATION_BLOCKS_ELEMENT_NAME = "substationBlocks";
+    private static final String FIRST_BLOCK = "first";
+    private static final String BLOCK_COUNT = "count";
+
     private static final Supplier<ExtensionProviders<ExtensionSerDe>> EXTENSIONS_SUPPLIER =
             Suppliers.memoize(() -> ExtensionProviders.createProvider(ExtensionSerDe.class, EXTENSION_CATEGORY_NAME));
 
@@ -389,6 +405,11 @@ public final class NetworkSerDe {
     }
 
     private static void writeSubstations(Network n, NetworkSerializerContext context) {
+        SubstationBlockWriter blockWriter = context.getSubstationBlockWriter();
+        if (blockWriter != null) {
+            writeSubstationBlocks(n, context, blockWriter);
+            return;
+        }
         context.getWriter().writeStartNodes();
         for (Substation s : IidmSerDeUtil.sorted(n.getSubstations(), context.getOptions())) {
             if (isElementWrittenInsideNetwork(s, n, context)) {
@@ -398,6 +419,26 @@ public final class NetworkSerDe {
         context.getWriter().writeEndNodes();
     }
 
+    /**
+     * Write the substations in blocks, which are referenced from the main document by their index range
+     */
+    private static void writeSubstationBlocks(Network n, NetworkSerializerContext context, SubstationBlockWriter blockWriter) {
+        int firstBlock = blockWriter.getBlockCount();
+        for (Substation s : IidmSerDeUtil.sorted(n.getSubstations(), context.getOptions())) {
+            if (isElementWrittenInsideNetwork(s, n, context)) {
+                blockWriter.write(s, n, context);
+            }
+        }
+        int blockCount = blockWriter.getBlockCount() - firstBlock;
+        if (blockCount > 0) {
+            TreeDataWriter writer = context.getWriter();
+            writer.writeStartNode(context.getNamespaceURI(), SUBSTATION_BLOCKS_ELEMENT_NAME);
+            writer.writeIntAttribute(FIRST_BLOCK, firstBlock);
+            writer.writeIntAttribute(BLOCK_COUNT, blockCount);
+            writer.writeEndNode();
+        }
+    }
+
     private static void writeLines(Network n, NetworkSerializerContext context) {
         BusFilter filter = context.getFilter();
         context.getWriter().writeStartNodes();
@@ -451,6 +492,9 @@ public final class NetworkSerDe {
     }
 
     public static Anonymizer write(Network n, ExportOptions options, OutputStream os) {
+        if (options.isSubstationBlocks()) {
+            return writeWithSubstationBlocks(n, options, os);
+        }
         try (TreeDataWriter writer = createTreeDataWriter(n, options, os)) {
             NetworkSerializerContext context = createContext(n, options, writer);
             writer.setVersions(getExtensionVersions(n, options));
@@ -459,6 +503,42 @@ public final class NetworkSerDe {
         }
     }
 
+    /**
+     * Write the network in a container made of:
+     * <ul>
+     *     <li>the magic number, followed by the format of the main document and of the blocks</li>
+     *     <li>the index of the substation blocks, see {@link SubstationBlockWriter#writeIndex}</li>
+     *     <li>the size of the main document, followed by the main document, where each group of substations
+     *     is replaced by a reference to their blocks</li>
+     *     <li>the substation blocks</li>
+     * </ul>
+     */
+    private static Anonymizer writeWithSubstationBlocks(Network n, ExportOptions options, OutputStream os) {
+        SubstationBlockWriter blockWriter = new SubstationBlockWriter(TreeDataNodeCodec.of(options.getFormat()));
+        ByteArrayOutputStream mainDocument = new ByteArrayOutputStream();
+        Anonymizer anonymizer;
+        try (TreeDataWriter writer = createTreeDataWriter(n, options, mainDocument)) {
+            NetworkSerializerContext context = createContext(n, options, writer);
+            context.setSubstationBlockWriter(blockWriter);
+            writer.setVersions(getExtensionVersions(n, options));
+            write(n, context);
+            anonymizer = context.getAnonymizer();
+        }
+        try {
+            DataOutputStream dos = new DataOutputStream(os);
+            dos.write(BLOCKS_IIDM_MAGIC_NUMBER);
+            dos.writeByte(options.getFormat().ordinal());
+            blockWriter.writeIndex(dos);
+            dos.writeInt(mainDocument.size());
+            mainDocument.writeTo(dos);
+            blockWriter.writeBlocks(dos);
+            dos.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return anonymizer;
+    }
+
     /**
      * Return true if the given element has to be written in the given network, false otherwise
      */
@@ -526,11 +606,58 @@ public final class NetworkSerDe {
     }
 
     public static Network read(InputStream is, ImportOptions config, Anonymizer anonymizer, NetworkFactory networkFactory, ReportNode reportNode) {
-        try (TreeDataReader reader = createTreeDataReader(is, config)) {
+        InputStream markableIs = is.markSupported() ? is : new BufferedInputStream(is);
+        try {
+            if (hasSubstationBlocks(markableIs)) {
+                return readWithSubstationBlocks(ByteBuffer.wrap(markableIs.readAllBytes()), config, anonymizer, networkFactory, reportNode);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try (TreeDataReader reader = createTreeDataReader(markableIs, config)) {
             return read(reader, config, anonymizer, networkFactory, reportNode);
         }
     }
 
+    private static boolean hasSubstationBlocks(InputStream is) throws IOException {
+        is.mark(BLOCKS_IIDM_MAGIC_NUMBER.length);
+        byte[] start = is.readNBytes(BLOCKS_IIDM_MAGIC_NUMBER.length);
+        is.reset();
+        return Arrays.equals(start, BLOCKS_IIDM_MAGIC_NUMBER);
+    }
+
+    private static boolean hasSubstationBlocks(ByteBuffer buffer) {
+        return buffer.remaining() >= BLOCKS_IIDM_MAGIC_NUMBER.length
+                && buffer.slice(buffer.position(), BLOCKS_IIDM_MAGIC_NUMBER.length).equals(ByteBuffer.wrap(BLOCKS_IIDM_MAGIC_NUMBER));
+    }
+
+    /**
+     * Read a network written with substation blocks: the blocks are decoded in parallel while the main document is
+     * read, and attached to the network in the order of the main document.
+     */
+    private static Network readWithSubstationBlocks(ByteBuffer container, ImportOptions config, Anonymizer anonymizer,
+                                                    NetworkFactory networkFactory, ReportNode reportNode) {
+        ByteBuffer buffer = container.duplicate().order(ByteOrder.BIG_ENDIAN);
+        buffer.position(buffer.position() + BLOCKS_IIDM_MAGIC_NUMBER.length);
+        TreeDataFormat format = TreeDataFormat.values()[buffer.get()];
+        if (format != config.getFormat()) {
+            throw new PowsyblException("Cannot read network with substation blocks in " + format + " format, " + config.getFormat() + " format expected");
+        }
+        int[] offsets = new int[buffer.getInt() + 1];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = buffer.getInt();
+        }
+        int mainDocumentSize = buffer.getInt();
+        ByteBuffer mainDocument = buffer.slice(buffer.position(), mainDocumentSize);
+        ByteBuffer blocks = buffer.slice(buffer.position() + mainDocumentSize, offsets[offsets.length - 1]);
+        try (SubstationBlockReader blockReader = new SubstationBlockReader(blocks, offsets, TreeDataNodeCodec.of(format));
+             TreeDataReader reader = format == TreeDataFormat.BIN
+                     ? new ByteBufferBinReader(mainDocument, BIIDM_MAGIC_NUMBER)
+                     : createTreeDataReader(new ByteBufferInputStream(mainDocument), config)) {
+            return read(reader, config, anonymizer, networkFactory, reportNode, blockReader);
+        }
+    }
+
     private static TreeDataReader createTreeDataReader(InputStream is, ImportOptions config) {
         return switch (config.getFormat()) {
             case XML -> createXmlReader(is, config);
@@ -627,6 +754,25 @@ public final class NetworkSerDe {
         return namespaceVersionMap;
     }
 
+    private static void readSubstationBlocks(Network network, NetworkDeserializerContext context) {
+        SubstationBlockReader blockReader = context.getSubstationBlockReader();
+        if (blockReader == null) {
+            throw new PowsyblException("Substation blocks can only be read from a network written with substation blocks");
+        }
+        TreeDataReader reader = context.getReader();
+        int firstBlock = reader.readIntAttribute(FIRST_BLOCK);
+        int blockCount = reader.readIntAttribute(BLOCK_COUNT);
+        reader.readEndNode();
+        for (int i = firstBlock; i < firstBlock + blockCount; i++) {
+            context.setReader(new TreeDataNodeReader(blockReader.getBlock(i)));
+            try {
+                SubstationSerDe.INSTANCE.read(network, context);
+            } finally {
+                context.setReader(reader);
+            }
+        }
+    }
+
     private static void readNetworkElement(String elementName, Deque<Network> networks, NetworkFactory networkFactory, NetworkDeserializerContext context,
                                            Set<String> extensionNamesImported, Set<String> extensionNamesNotFound) {
         switch (elementName) {
@@ -636,6 +782,7 @@ public final class NetworkSerDe {
             case AreaSerDe.ROOT_ELEMENT_NAME -> checkSupportedAndReadArea(context, networks);
             case VoltageLevelSerDe.ROOT_ELEMENT_NAME -> checkSupportedAndReadVoltageLevel(context, networks);
             case SubstationSerDe.ROOT_ELEMENT_NAME -> SubstationSerDe.INSTANCE.read(networks.peek(), context);
+            case SUBSTATION_BLOCKS_ELEMENT_NAME -> readSubstationBlocks(networks.peek(), context);
             case LineSerDe.ROOT_ELEMENT_NAME -> LineSerDe.INSTANCE.read(networks.peek(), context);
             case TieLineSerDe.ROOT_ELEMENT_NAME -> TieLineSerDe.INSTANCE.read(networks.peek(), context);
             case HvdcLineSerDe.ROOT_ELEMENT_NAME -> HvdcLineSerDe.INSTANCE.read(networks.peek(), context);
@@ -680,9 +827,18 @@ public final class NetworkSerDe {
     }
 
     private static void findExtendableAndReadExtension(Network network, NetworkDeserializerContext context, Set<String> extensionNamesImported, Set<String> extensionNamesNotFound) {
+        if (!context.getProjection().isWithExtensions()) {
+            context.getReader().skipChildNodes();
+            return;
+        }
         String id2 = context.getAnonymizer().deanonymizeString(context.getReader().readStringAttribute("id"));
         Identifiable identifiable = network.getIdentifiable(id2);
         if (identifiable == null) {
+            if (context.isPartialImport()) {
+                // The extendable has been left out by the import projection
+                context.getReader().skipChildNodes();
+                return;
+            }
             throw new PowsyblException("Identifiable " + id2 + " not found");
         }
         readExtensions(identifiable, context, extensionNamesImported, extensionNamesNotFound);
@@ -732,13 +888,23 @@ public final class NetworkSerDe {
 
     public static Network read(TreeDataReader reader, ImportOptions config, Anonymizer anonymizer,
                                NetworkFactory networkFactory, ReportNode reportNode) {
+        return read(reader, config, anonymizer, networkFactory, reportNode, null);
+    }
+
+    private static Network read(TreeDataReader reader, ImportOptions config, Anonymizer anonymizer,
+                                NetworkFactory networkFactory, ReportNode reportNode, SubstationBlockReader blockReader) {
         Objects.requireNonNull(reader);
         Objects.requireNonNull(networkFactory);
         Objects.requireNonNull(reportNode);
+        if (config.getProjection().isPresent() && config.getFormat() == TreeDataFormat.BIN) {
+            // Binary nodes are not self-describing, they cannot be skipped without being decoded
+            throw new PowsyblException("Import projection is not supported in " + TreeDataFormat.BIN + " format");
+        }
 
         TreeDataHeader header = reader.readHeader();
         IidmVersion iidmVersion = IidmVersion.of(header.rootVersion(), ".");
         NetworkDeserializerContext context = new NetworkDeserializerContext(anonymizer, reader, config, iidmVersion, header.extensionVersions());
+        context.setSubstationBlockReader(blockReader);
 
         Network network = initNetwork(networkFactory, context, reader, null);
         network.getReportNodeContext().pushReportNode(reportNode);
@@ -784,15 +950,58 @@ public final class NetworkSerDe {
             }
         }
         //Read the base file with the extensions declared in the extensions list
+        Path mappableFile = getMappableFile(dataSource, dataSourceExt, options);
+        if (mappableFile != null) {
+            return readMapped(mappableFile, options, anonymizer, networkFactory, reportNode);
+        }
         try (InputStream isb = dataSource.newInputStream(null, dataSourceExt)) {
             network = NetworkSerDe.read(isb, options, anonymizer, networkFactory, reportNode);
         }
         return network;
     }
 
+    /**
+     * Binary files which are stored uncompressed on the default file system are read from a memory mapped buffer
+     * rather than from a stream. Returns null if the given data source file cannot be mapped.
+     */
+    private static Path getMappableFile(ReadOnlyDataSource dataSource, String dataSourceExt, ImportOptions options) {
+        if (dataSource.getClass() == DirectoryDataSource.class) {
+            DirectoryDataSource directoryDataSource = (DirectoryDataSource) dataSource;
+            if (directoryDataSource.getCompressionFormat() != null || directoryDataSource.getObserver() != null) {
+                return null;
+            }
+            Path file = directoryDataSource.getDirectory().resolve(DataSourceUtil.getFileName(directoryDataSource.getBaseName(), null, dataSourceExt));
+            return isMappable(file, options) ? file : null;
+        }
+        return null;
+    }
+
+    private static boolean isMappable(Path file, ImportOptions options) {
+        // Only the default file system guarantees the support of memory mapped files
+        return options.getFormat() == TreeDataFormat.BIN
+                && file.getFileSystem() == FileSystems.getDefault()
+                && Files.isRegularFile(file);
+    }
+
+    private static Network readMapped(Path file, ImportOptions options, Anonymizer anonymizer, NetworkFactory networkFactory,
+                                      ReportNode reportNode) throws IOException {
+        ByteBuffer buffer = ByteBufferBinReader.mapFile(file);
+        if (hasSubstationBlocks(buffer)) {
+            return readWithSubstationBlocks(buffer, options, anonymizer, networkFactory, reportNode);
+        }
+        try (TreeDataReader reader = new ByteBufferBinReader(buffer, BIIDM_MAGIC_NUMBER)) {
+            return read(reader, options, anonymizer, networkFactory, reportNode);
+        }
+    }
+
     public static Network read(Path xmlFile, ImportOptions options) {
-        try (InputStream is = Files.newInputStream(xmlFile)) {
-            return read(is, options, null);
+        try {
+            if (isMappable(xmlFile, options)) {
+                return readMapped(xmlFile, options, null, NetworkFactory.findDefault(), ReportNode.NO_OP);
+            }
+            try (InputStream is = Files.newInputStream(xmlFile)) {
+                return read(is, options, null);
+            }
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -822,8 +1031,11 @@ public final class NetworkSerDe {
                 ExtensionSerDe extensionXmlSerializer = EXTENSIONS_SUPPLIER.get().findProvider(extensionName);
                 if (extensionXmlSerializer != null) {
                     Extension<? extends Identifiable<?>> extension = extensionXmlSerializer.read(identifiable, context);
-                    identifiable.addExtension(extensionXmlSerializer.getExtensionClass(), extension);
-                    extensionNamesImported.add(extensionName);
+                    // No extension is created if it references an equipment left out by the import projection
+                    if (extension != null) {
+                        identifiable.addExtension(extensionXmlSerializer.getExtensionClass(), extension);
+                        extensionNamesImported.add(extensionName);
+                    }
                 } else {
                     extensionNamesNotFound.add(extensionName);
                     context.getReader().skipChildNodes();
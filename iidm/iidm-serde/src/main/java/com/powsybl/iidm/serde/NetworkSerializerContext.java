@@ -20,11 +20,12 @@ import java.util.*;
  */
 public class NetworkSerializerContext extends AbstractNetworkSerDeContext<ExportOptions> implements SerializerContext {
 
-    private final TreeDataWriter writer;
+    private TreeDataWriter writer;
     private final ExportOptions options;
     private final BusFilter filter;
     private final boolean valid;
     private final Set<Identifiable> exportedEquipments;
+    private SubstationBlockWriter substationBlockWriter;
 
     NetworkSerializerContext(Anonymizer anonymizer, TreeDataWriter writer, ExportOptions options, BusFilter filter, IidmVersion version, boolean valid) {
         super(anonymizer, version);
@@ -40,6 +41,23 @@ public class NetworkSerializerContext extends AbstractNetworkSerDeContext<Export
         return writer;
     }
 
+    /**
+     * Replace the writer, to write a part of the network elsewhere, and return the previous one
+     */
+    TreeDataWriter setWriter(TreeDataWriter writer) {
+        TreeDataWriter previousWriter = this.writer;
+        this.writer = Objects.requireNonNull(writer);
+        return previousWriter;
+    }
+
+    SubstationBlockWriter getSubstationBlockWriter() {
+        return substationBlockWriter;
+    }
+
+    void setSubstationBlockWriter(SubstationBlockWriter substationBlockWriter) {
+        this.substationBlockWriter = substationBlockWriter;
+    }
+
     @Override
     public ExportOptions getOptions() {
         return options;
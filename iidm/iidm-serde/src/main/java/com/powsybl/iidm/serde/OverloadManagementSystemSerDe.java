@@ -93,6 +93,13 @@ class OverloadManagementSystemSerDe extends AbstractComplexIdentifiableSerDe<Ove
         return s.newOverloadManagementSystem();
     }
 
+    @Override
+    protected boolean isRetained(String id, Substation s, NetworkDeserializerContext context) {
+        // Overload management systems may reference any equipment of the network, they are only imported if none
+        // has been left out
+        return context.getProjection().isWithAllEquipments();
+    }
+
     @Override
     protected void readRootElementAttributes(OverloadManagementSystemAdder adder,
                                              Substation parent,
@@ -41,10 +41,18 @@ public final class PropertiesSerDe {
     }
 
     public static void read(Identifiable identifiable, NetworkDeserializerContext context) {
+        if (!context.getProjection().isWithProperties()) {
+            context.getReader().skipChildNodes();
+            return;
+        }
         read(context).accept(identifiable);
     }
 
     public static <T extends Identifiable> void read(List<Consumer<T>> toApply, NetworkDeserializerContext context) {
+        if (!context.getProjection().isWithProperties()) {
+            context.getReader().skipChildNodes();
+            return;
+        }
         toApply.add(read(context));
     }
 
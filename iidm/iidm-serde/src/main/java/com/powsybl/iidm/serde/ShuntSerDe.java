@@ -108,6 +108,11 @@ class ShuntSerDe extends AbstractComplexIdentifiableSerDe<ShuntCompensator, Shun
         return parent.newShuntCompensator();
     }
 
+    @Override
+    protected boolean isRetained(String id, VoltageLevel vl, NetworkDeserializerContext context) {
+        return context.getProjection().isRetained(IdentifiableType.SHUNT_COMPENSATOR);
+    }
+
     private static void writeModel(ShuntCompensator sc, NetworkSerializerContext context) {
         if (sc.getModelType() == ShuntCompensatorModelType.LINEAR) {
             context.getWriter().writeStartNode(context.getVersion().getNamespaceURI(context.isValid()), SHUNT_LINEAR_MODEL);
@@ -178,7 +183,12 @@ class ShuntSerDe extends AbstractComplexIdentifiableSerDe<ShuntCompensator, Shun
                     String regId = context.getAnonymizer().deanonymizeString(context.getReader().readStringAttribute("id"));
                     ThreeSides regSide = context.getReader().readEnumAttribute("side", ThreeSides.class);
                     context.getReader().readEndNode();
-                    toApply.add(sc -> context.getEndTasks().add(() -> sc.setRegulatingTerminal(TerminalRefSerDe.resolve(regId, regSide, sc.getNetwork()))));
+                    toApply.add(sc -> context.getEndTasks().add(() -> {
+                        Terminal regulatingTerminal = TerminalRefSerDe.resolve(regId, regSide, sc.getNetwork(), context);
+                        if (regulatingTerminal != null) {
+                            sc.setRegulatingTerminal(regulatingTerminal);
+                        }
+                    }));
                 }
                 case SHUNT_LINEAR_MODEL -> {
                     IidmSerDeUtil.assertMinimumVersion(ROOT_ELEMENT_NAME, SHUNT_LINEAR_MODEL, IidmSerDeUtil.ErrorMessage.NOT_SUPPORTED, IidmVersion.V_1_3, context);
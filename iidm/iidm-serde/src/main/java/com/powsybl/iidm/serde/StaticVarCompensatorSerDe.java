@@ -7,6 +7,7 @@
  */
 package com.powsybl.iidm.serde;
 
+import com.powsybl.iidm.network.IdentifiableType;
 import com.powsybl.iidm.network.StaticVarCompensator;
 import com.powsybl.iidm.network.StaticVarCompensatorAdder;
 import com.powsybl.iidm.network.VoltageLevel;
@@ -61,6 +62,11 @@ public class StaticVarCompensatorSerDe extends AbstractSimpleIdentifiableSerDe<S
         return vl.newStaticVarCompensator();
     }
 
+    @Override
+    protected boolean isRetained(String id, VoltageLevel vl, NetworkDeserializerContext context) {
+        return context.getProjection().isRetained(IdentifiableType.STATIC_VAR_COMPENSATOR);
+    }
+
     @Override
     protected StaticVarCompensator readRootElementAttributes(StaticVarCompensatorAdder adder, VoltageLevel voltageLevel, NetworkDeserializerContext context) {
         double bMin = context.getReader().readDoubleAttribute("bMin");
@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.serde;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.io.ByteBufferInputStream;
+import com.powsybl.commons.io.TreeDataNode;
+import com.powsybl.commons.io.TreeDataNodeCodec;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Decodes the substation blocks written by {@link SubstationBlockWriter} in parallel, ahead of their attachment to
+ * the network which is done sequentially while reading the main document.
+ * <p>
+ * The blocks are expected to be requested in increasing order. To limit the memory used by decoded blocks, only a
+ * bounded number of blocks is decoded ahead of the last requested one.
+ *
+ * @author Elia Group
+ */
+final class SubstationBlockReader implements AutoCloseable {
+
+    private static final int BLOCKS_AHEAD_PER_THREAD = 4;
+
+    private final ByteBuffer blocks;
+
+    private final int[] offsets;
+
+    private final TreeDataNodeCodec codec;
+
+    private final Future<TreeDataNode>[] futures;
+
+    private final ExecutorService executor;
+
+    private final int blocksAhead;
+
+    private int submittedCount = 0;
+
+    /**
+     * @param blocks the bytes of all the blocks
+     * @param offsets the offset of each block, followed by the end offset of the last one
+     */
+    @SuppressWarnings("unchecked")
+    SubstationBlockReader(ByteBuffer blocks, int[] offsets, TreeDataNodeCodec codec) {
+        this.blocks = Objects.requireNonNull(blocks);
+        this.offsets = Objects.requireNonNull(offsets);
+        this.codec = Objects.requireNonNull(codec);
+        int blockCount = offsets.length - 1;
+        this.futures = new Future[blockCount];
+        int threadCount = Math.max(1, Math.min(blockCount, Runtime.getRuntime().availableProcessors()));
+        this.executor = Executors.newFixedThreadPool(threadCount);
+        this.blocksAhead = threadCount * BLOCKS_AHEAD_PER_THREAD;
+        submitUpTo(blocksAhead);
+    }
+
+    private void submitUpTo(int count) {
+        int end = Math.min(count, futures.length);
+        for (; submittedCount < end; submittedCount++) {
+            int index = submittedCount;
+            futures[index] = executor.submit(() -> decode(index));
+        }
+    }
+
+    private TreeDataNode decode(int index) {
+        // Slices are independent views of the blocks, they can be read concurrently
+        ByteBuffer block = blocks.slice(offsets[index], offsets[index + 1] - offsets[index]);
+        return codec.read(new ByteBufferInputStream(block));
+    }
+
+    TreeDataNode getBlock(int index) {
+        if (index < 0 || index >= futures.length) {
+            throw new PowsyblException("Substation block " + index + " not found, " + futures.length + " blocks available");
+        }
+        submitUpTo(index + 1 + blocksAhead);
+        Future<TreeDataNode> future = futures[index];
+        if (future == null) {
+            throw new PowsyblException("Substation block " + index + " has already been read");
+        }
+        // The decoded block is only referenced until it is attached to the network
+        futures[index] = null;
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PowsyblException("Interrupted while decoding substation block " + index, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new PowsyblException(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
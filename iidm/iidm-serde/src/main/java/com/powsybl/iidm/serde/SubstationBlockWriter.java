@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.serde;
+
+import com.powsybl.commons.io.TreeDataNodeCodec;
+import com.powsybl.commons.io.TreeDataNodeWriter;
+import com.powsybl.commons.io.TreeDataWriter;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Substation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes each substation, with its voltage levels and their equipments, in a separate block which can be decoded
+ * independently of the others. The blocks are kept in memory and written after the main document, preceded by their
+ * offsets.
+ *
+ * @author Elia Group
+ */
+final class SubstationBlockWriter {
+
+    private final TreeDataNodeCodec codec;
+
+    private final ByteArrayOutputStream blocks = new ByteArrayOutputStream();
+
+    private final List<Integer> offsets = new ArrayList<>();
+
+    SubstationBlockWriter(TreeDataNodeCodec codec) {
+        this.codec = Objects.requireNonNull(codec);
+    }
+
+    int getBlockCount() {
+        return offsets.size();
+    }
+
+    void write(Substation substation, Network network, NetworkSerializerContext context) {
+        TreeDataNodeWriter blockWriter = new TreeDataNodeWriter();
+        TreeDataWriter writer = context.setWriter(blockWriter);
+        try {
+            SubstationSerDe.INSTANCE.write(substation, network, context);
+        } finally {
+            context.setWriter(writer);
+        }
+        offsets.add(blocks.size());
+        codec.write(blockWriter.getRoot(), blocks);
+    }
+
+    /**
+     * Write the number of blocks, the offset of each block followed by the end offset of the last one, relative to
+     * the start of the first block
+     */
+    void writeIndex(DataOutputStream dos) throws IOException {
+        dos.writeInt(offsets.size());
+        for (int offset : offsets) {
+            dos.writeInt(offset);
+        }
+        dos.writeInt(blocks.size());
+    }
+
+    void writeBlocks(DataOutputStream dos) throws IOException {
+        blocks.writeTo(dos);
+    }
+}
@@ -141,12 +141,20 @@ class SubstationSerDe extends AbstractSimpleIdentifiableSerDe<Substation, Substa
         return network.newSubstation();
     }
 
+    @Override
+    protected boolean isRetained(String id, Network network, NetworkDeserializerContext context) {
+        return context.getProjection().isSubstationRetained(id);
+    }
+
     @Override
     protected Substation readRootElementAttributes(SubstationAdder adder, Network network, NetworkDeserializerContext context) {
 
         Country country = Optional.ofNullable(context.getReader().readStringAttribute(COUNTRY))
                 .map(c -> context.getAnonymizer().deanonymizeCountry(Country.valueOf(c)))
                 .orElse(null);
+        if (!context.getProjection().isCountryRetained(country)) {
+            return null;
+        }
         String tso = context.getAnonymizer().deanonymizeString(context.getReader().readStringAttribute("tso"));
         String[] geographicalTags = context.getReader().readStringArrayAttribute("geographicalTags").stream()
                 .map(tag -> context.getAnonymizer().deanonymizeString(tag)).toArray(String[]::new);
@@ -72,23 +72,57 @@ public final class TerminalRefSerDe {
         }
     }
 
+    /**
+     * Read a reference to a terminal which has already been read.
+     * @return the terminal, or null if its equipment has been left out by the import projection
+     */
     public static Terminal readTerminal(NetworkDeserializerContext context, Network n) {
         String id = context.getAnonymizer().deanonymizeString(context.getReader().readStringAttribute(ID));
         ThreeSides side = context.getReader().readEnumAttribute(SIDE, ThreeSides.class);
         context.getReader().readEndNode();
-        return TerminalRefSerDe.resolve(id, side, n);
+        return TerminalRefSerDe.resolve(id, side, n, context);
     }
 
+    /**
+     * Read a reference to a terminal, which is resolved once the whole network has been read. The consumer is not
+     * called if the equipment of the terminal has been left out by the import projection.
+     */
     public static void readTerminalRef(NetworkDeserializerContext context, Network network, Consumer<Terminal> endTaskTerminalConsumer) {
+        readTerminalRef(context, network, null, endTaskTerminalConsumer);
+    }
+
+    /**
+     * Read a reference to a terminal, which is resolved once the whole network has been read. The default terminal is
+     * given to the consumer if the equipment of the terminal has been left out by the import projection, the consumer
+     * is not called if it is null.
+     */
+    public static void readTerminalRef(NetworkDeserializerContext context, Network network, Terminal defaultTerminal,
+                                       Consumer<Terminal> endTaskTerminalConsumer) {
         String id = context.getAnonymizer().deanonymizeString(context.getReader().readStringAttribute(ID));
         ThreeSides side = context.getReader().readEnumAttribute(SIDE, ThreeSides.class);
         context.getReader().readEndNode();
         context.getEndTasks().add(() -> {
-            Terminal t = resolve(id, side, network);
-            endTaskTerminalConsumer.accept(t);
+            Terminal t = resolve(id, side, network, context);
+            if (t == null) {
+                t = defaultTerminal;
+            }
+            if (t != null) {
+                endTaskTerminalConsumer.accept(t);
+            }
         });
     }
 
+    /**
+     * Same as {@link #resolve(String, ThreeSides, Network)}, but returns null if the identifiable has been left out by
+     * the import projection.
+     */
+    static Terminal resolve(String id, ThreeSides side, Network network, NetworkDeserializerContext context) {
+        if (context.isPartialImport() && network.getIdentifiable(id) == null) {
+            return null;
+        }
+        return resolve(id, side, network);
+    }
+
     public static Terminal resolve(String id, ThreeSides side, Network network) {
         Identifiable<?> identifiable = network.getIdentifiable(id);
         if (identifiable == null) {
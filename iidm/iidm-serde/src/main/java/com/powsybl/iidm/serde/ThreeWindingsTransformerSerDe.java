@@ -111,6 +111,11 @@ class ThreeWindingsTransformerSerDe extends AbstractTransformerSerDe<ThreeWindin
         return s.newThreeWindingsTransformer();
     }
 
+    @Override
+    protected boolean isRetained(String id, Substation s, NetworkDeserializerContext context) {
+        return context.getProjection().isRetained(IdentifiableType.THREE_WINDINGS_TRANSFORMER);
+    }
+
     @Override
     protected ThreeWindingsTransformer readRootElementAttributes(ThreeWindingsTransformerAdder adder, Substation s, NetworkDeserializerContext context) {
         LegAdder legAdder1 = adder.newLeg1();
@@ -152,9 +157,11 @@ class ThreeWindingsTransformerSerDe extends AbstractTransformerSerDe<ThreeWindin
             adder.setRatedU0(ratedU0);
         });
 
-        readNodeOrBus(1, legAdder1, s.getNetwork(), context);
-        readNodeOrBus(2, legAdder2, s.getNetwork(), context);
-        readNodeOrBus(3, legAdder3, s.getNetwork(), context);
+        if (!readNodeOrBus(1, legAdder1, s.getNetwork(), context)
+                || !readNodeOrBus(2, legAdder2, s.getNetwork(), context)
+                || !readNodeOrBus(3, legAdder3, s.getNetwork(), context)) {
+            return null;
+        }
         legAdder1.add();
         legAdder2.add();
         legAdder3.add();
@@ -86,6 +86,11 @@ class TieLineSerDe extends AbstractSimpleIdentifiableSerDe<TieLine, TieLineAdder
         return n.newTieLine();
     }
 
+    @Override
+    protected boolean isRetained(String id, Network network, NetworkDeserializerContext context) {
+        return context.getProjection().isRetained(IdentifiableType.TIE_LINE);
+    }
+
     private static DanglingLine readDanglingLine(DanglingLineAdder adder, String pairingKey, NetworkDeserializerContext context, int side) {
         String id = context.getAnonymizer().deanonymizeString(context.getReader().readStringAttribute("id_" + side));
         String name = context.getAnonymizer().deanonymizeString(context.getReader().readStringAttribute("name_" + side));
@@ -129,10 +134,15 @@ class TieLineSerDe extends AbstractSimpleIdentifiableSerDe<TieLine, TieLineAdder
 
     @Override
     protected TieLine readRootElementAttributes(TieLineAdder adder, Network network, NetworkDeserializerContext context) {
+        boolean[] leftOut = new boolean[1];
         IidmSerDeUtil.runUntilMaximumVersion(IidmVersion.V_1_9, context, () -> {
             String pairingKey = context.getReader().readStringAttribute("ucteXnodeCode");
             DanglingLineAdder adderDl1 = readVlAndNodeOrBus(context, network, 1);
-            DanglingLineAdder adderDl2 = readVlAndNodeOrBus(context, network, 2);
+            DanglingLineAdder adderDl2 = adderDl1 != null ? readVlAndNodeOrBus(context, network, 2) : null;
+            if (adderDl2 == null) {
+                leftOut[0] = true;
+                return;
+            }
             OptionalDouble p1 = context.getReader().readOptionalDoubleAttribute("p1");
             OptionalDouble q1 = context.getReader().readOptionalDoubleAttribute("q1");
             OptionalDouble p2 = context.getReader().readOptionalDoubleAttribute("p2");
@@ -148,14 +158,21 @@ class TieLineSerDe extends AbstractSimpleIdentifiableSerDe<TieLine, TieLineAdder
         IidmSerDeUtil.runFromMinimumVersion(IidmVersion.V_1_10, context, () -> {
             String dl1Id = context.getReader().readStringAttribute("danglingLineId1");
             String dl2Id = context.getReader().readStringAttribute("danglingLineId2");
+            leftOut[0] = context.isPartialImport() && (network.getDanglingLine(dl1Id) == null || network.getDanglingLine(dl2Id) == null);
             adder.setDanglingLine1(dl1Id).setDanglingLine2(dl2Id);
         });
-        return adder.add();
+        return leftOut[0] ? null : adder.add();
     }
 
+    /**
+     * @return the adder of the dangling line, or null if its voltage level has been left out by the import projection
+     */
     private static DanglingLineAdder readVlAndNodeOrBus(NetworkDeserializerContext context, Network network, int side) {
         String voltageLevelId = context.getAnonymizer().deanonymizeString(context.getReader().readStringAttribute("voltageLevelId" + side));
         VoltageLevel voltageLevel = network.getVoltageLevel(voltageLevelId);
+        if (voltageLevel == null && context.isPartialImport()) {
+            return null;
+        }
         DanglingLineAdder adderDl1 = voltageLevel.newDanglingLine();
         readNodeOrBus(adderDl1, String.valueOf(side), context, voltageLevel.getTopologyKind());
         return adderDl1;
@@ -66,6 +66,11 @@ class TwoWindingsTransformerSerDe extends AbstractTransformerSerDe<TwoWindingsTr
         return s.newTwoWindingsTransformer();
     }
 
+    @Override
+    protected boolean isRetained(String id, Substation s, NetworkDeserializerContext context) {
+        return context.getProjection().isRetained(IdentifiableType.TWO_WINDINGS_TRANSFORMER);
+    }
+
     @Override
     protected TwoWindingsTransformer readRootElementAttributes(TwoWindingsTransformerAdder adder, Substation s, NetworkDeserializerContext context) {
         double r = context.getReader().readDoubleAttribute("r");
@@ -81,7 +86,9 @@ class TwoWindingsTransformerSerDe extends AbstractTransformerSerDe<TwoWindingsTr
                 .setRatedU1(ratedU1)
                 .setRatedU2(ratedU2);
         readRatedS("ratedS", context, adder::setRatedS);
-        ConnectableSerDeUtil.readVoltageLevelAndNodeOrBus(adder, s.getNetwork(), context);
+        if (!ConnectableSerDeUtil.readVoltageLevelAndNodeOrBus(adder, s.getNetwork(), context)) {
+            return null;
+        }
         TwoWindingsTransformer twt = adder.add();
         readOptionalPQ(1, twt.getTerminal1(), context.getReader());
         readOptionalPQ(2, twt.getTerminal2(), context.getReader());
@@ -59,8 +59,13 @@ public final class VoltageAngleLimitSerDe {
             adder.setId(id);
             lowLimit.ifPresent(adder::setLowLimit);
             highLimit.ifPresent(adder::setHighLimit);
+            boolean[] leftOut = new boolean[1];
             context.getReader().readChildNodes(elementName -> {
                 Terminal terminal = TerminalRefSerDe.readTerminal(context, network);
+                if (terminal == null) {
+                    leftOut[0] = true;
+                    return;
+                }
                 switch (elementName) {
                     case FROM -> adder.from(terminal);
                     case TO -> adder.to(terminal);
@@ -68,7 +73,9 @@ public final class VoltageAngleLimitSerDe {
                 }
             });
 
-            adder.add();
+            if (!leftOut[0]) {
+                adder.add();
+            }
         });
     }
 
@@ -25,7 +25,9 @@ public final class VoltageLevelRefSerDe {
         context.getReader().readEndNode();
         context.getEndTasks().add(() -> {
             VoltageLevel voltageLevel = network.getVoltageLevel(id);
-            endTaskTerminalConsumer.accept(voltageLevel);
+            if (voltageLevel != null || !context.isPartialImport()) {
+                endTaskTerminalConsumer.accept(voltageLevel);
+            }
         });
     }
 
@@ -293,6 +293,11 @@ class VoltageLevelSerDe extends AbstractSimpleIdentifiableSerDe<VoltageLevel, Vo
         throw new IllegalStateException();
     }
 
+    @Override
+    protected boolean isRetained(String id, Container<? extends Identifiable<?>> c, NetworkDeserializerContext context) {
+        return context.getProjection().isVoltageLevelRetained(id, c instanceof Substation);
+    }
+
     @Override
     protected VoltageLevel readRootElementAttributes(VoltageLevelAdder adder, Container<? extends Identifiable<?>> c, NetworkDeserializerContext context) {
         double nominalV = context.getReader().readDoubleAttribute("nominalV");
@@ -355,7 +360,9 @@ class VoltageLevelSerDe extends AbstractSimpleIdentifiableSerDe<VoltageLevel, Vo
                 String name = context.getReader().readStringAttribute(NAME);
                 String value = context.getReader().readStringAttribute(VALUE);
                 context.getReader().readEndNode();
-                properties.put(name, value);
+                if (context.getProjection().isWithProperties()) {
+                    properties.put(name, value);
+                }
             } else {
                 throw new PowsyblException(String.format("Unknown element name '%s' in 'bus'", elementName));
             }
@@ -7,6 +7,7 @@
  */
 package com.powsybl.iidm.serde;
 
+import com.powsybl.iidm.network.IdentifiableType;
 import com.powsybl.iidm.network.VoltageLevel;
 import com.powsybl.iidm.network.VscConverterStation;
 import com.powsybl.iidm.network.VscConverterStationAdder;
@@ -57,6 +58,11 @@ class VscConverterStationSerDe extends AbstractSimpleIdentifiableSerDe<VscConver
         return vl.newVscConverterStation();
     }
 
+    @Override
+    protected boolean isRetained(String id, VoltageLevel vl, NetworkDeserializerContext context) {
+        return context.getProjection().isRetained(IdentifiableType.HVDC_CONVERTER_STATION);
+    }
+
     @Override
     protected VscConverterStation readRootElementAttributes(VscConverterStationAdder adder, VoltageLevel voltageLevel, NetworkDeserializerContext context) {
         boolean voltageRegulatorOn = context.getReader().readBooleanAttribute("voltageRegulatorOn");
@@ -69,10 +69,12 @@ public class ReferencePrioritiesSerDe<C extends Connectable<C>> extends Abstract
             if (elementName.equals(REFERENCE_PRIORITY_ROOT_ELEMENT_NAME)) {
                 int priority = reader.readIntAttribute("priority");
                 Terminal terminal = TerminalRefSerDe.readTerminal(networkContext, extendable.getNetwork());
-                referencePriorities.newReferencePriority()
-                        .setPriority(priority)
-                        .setTerminal(terminal)
-                        .add();
+                if (terminal != null) {
+                    referencePriorities.newReferencePriority()
+                            .setPriority(priority)
+                            .setTerminal(terminal)
+                            .add();
+                }
             } else {
                 throw new PowsyblException("Unknown element name '" + elementName + "' in 'referencePriorities'");
             }
@@ -67,7 +67,9 @@ public class ReferenceTerminalsSerDe extends AbstractExtensionSerDe<Network,
         reader.readChildNodes(elementName -> {
             if (elementName.equals(REFERENCE_TERMINAL_ROOT_ELEMENT_NAME)) {
                 Terminal terminal = TerminalRefSerDe.readTerminal(networkContext, extendable.getNetwork());
-                terminals.add(terminal);
+                if (terminal != null) {
+                    terminals.add(terminal);
+                }
             } else {
                 throw new PowsyblException("Unknown element name '" + elementName + "' in 'referenceTerminals'");
             }
@@ -49,6 +49,9 @@ public class RemoteReactivePowerControlSerDe extends AbstractExtensionSerDe<Gene
         boolean enabled = context.getReader().readBooleanAttribute("enabled");
         double targetQ = context.getReader().readDoubleAttribute("targetQ");
         Terminal terminal = TerminalRefSerDe.readTerminal(networkContext, extendable.getNetwork());
+        if (terminal == null) {
+            return null;
+        }
         return extendable.newExtension(RemoteReactivePowerControlAdder.class)
                 .withEnabled(enabled)
                 .withTargetQ(targetQ)
@@ -80,6 +80,9 @@ public class SlackTerminalSerDe extends AbstractVersionableNetworkExtensionSerDe
     @Override
     public SlackTerminal read(VoltageLevel voltageLevel, DeserializerContext context) {
         Terminal terminal = TerminalRefSerDe.readTerminal((NetworkDeserializerContext) context, voltageLevel.getNetwork());
+        if (terminal == null) {
+            return null;
+        }
         return voltageLevel.newExtension(SlackTerminalAdder.class)
                 .withTerminal(terminal)
                 .add();
@@ -7,12 +7,23 @@
  */
 package com.powsybl.iidm.serde;
 
+import com.powsybl.commons.binary.ByteBufferBinReader;
+import com.powsybl.commons.datasource.DirectoryDataSource;
 import com.powsybl.commons.io.TreeDataFormat;
+import com.powsybl.commons.report.ReportNode;
 import com.powsybl.iidm.network.Line;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.NetworkFactory;
 import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Optional;
 
@@ -48,4 +59,43 @@ class BinaryTest extends AbstractIidmSerDeTest {
         assertEquals(Optional.empty(), l0.getSelectedOperationalLimitsGroupId1());
         assertEquals(Optional.of(""), l0.getSelectedOperationalLimitsGroupId2());
     }
+
+    @Test
+    void testByteBufferReader() {
+        Network network = EurostagTutorialExample1Factory.createWithMoreGenerators();
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkSerDe.write(network, new ExportOptions().setFormat(TreeDataFormat.BIN), os);
+        byte[] bytes = os.toByteArray();
+
+        ImportOptions options = new ImportOptions().setFormat(TreeDataFormat.BIN);
+        String expected = toXml(NetworkSerDe.read(new ByteArrayInputStream(bytes), options, null));
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        for (ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.wrap(bytes), directBuffer}) {
+            try (ByteBufferBinReader reader = new ByteBufferBinReader(buffer, NetworkSerDe.BIIDM_MAGIC_NUMBER)) {
+                Network read = NetworkSerDe.read(reader, options, null, NetworkFactory.findDefault(), ReportNode.NO_OP);
+                assertEquals(expected, toXml(read));
+            }
+        }
+    }
+
+    @Test
+    void testMappedFile(@TempDir Path dir) throws IOException {
+        Network network = EurostagTutorialExample1Factory.createWithMoreGenerators();
+        String expected = toXml(network);
+        ExportOptions exportOptions = new ExportOptions().setFormat(TreeDataFormat.BIN);
+        ImportOptions importOptions = new ImportOptions().setFormat(TreeDataFormat.BIN);
+
+        Path file = dir.resolve("network.biidm");
+        NetworkSerDe.write(network, exportOptions, file);
+        assertEquals(expected, toXml(NetworkSerDe.read(file, importOptions)));
+
+        DirectoryDataSource dataSource = new DirectoryDataSource(dir, "network");
+        assertEquals(expected, toXml(NetworkSerDe.read(dataSource, NetworkFactory.findDefault(), importOptions, "biidm", ReportNode.NO_OP)));
+    }
+
+    private static String toXml(Network network) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkSerDe.write(network, os);
+        return os.toString(StandardCharsets.UTF_8);
+    }
 }
@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.serde;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.io.TreeDataFormat;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.extensions.ActivePowerControl;
+import com.powsybl.iidm.network.extensions.ActivePowerControlAdder;
+import com.powsybl.iidm.network.extensions.SlackTerminal;
+import com.powsybl.iidm.network.extensions.SlackTerminalAdder;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Elia Group
+ */
+class ImportProjectionTest extends AbstractIidmSerDeTest {
+
+    private static Network read(Network network, TreeDataFormat format, boolean substationBlocks, ImportProjection projection) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkSerDe.write(network, new ExportOptions().setFormat(format).setSubstationBlocks(substationBlocks), os);
+        ImportOptions options = new ImportOptions().setFormat(format).setProjection(projection);
+        return NetworkSerDe.read(new ByteArrayInputStream(os.toByteArray()), options, null);
+    }
+
+    private static Network read(Network network, TreeDataFormat format, ImportProjection projection) {
+        return read(network, format, false, projection);
+    }
+
+    private static List<String> ids(Iterable<? extends Identifiable<?>> identifiables) {
+        List<String> ids = new ArrayList<>();
+        identifiables.forEach(i -> ids.add(i.getId()));
+        return ids;
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = TreeDataFormat.class, names = {"XML", "JSON"})
+    void testCountries(TreeDataFormat format) {
+        Network network = EurostagTutorialExample1Factory.createWithTieLinesAndAreas();
+        network.getSubstation("P2").setCountry(Country.BE);
+        for (boolean substationBlocks : new boolean[] {false, true}) {
+            Network read = read(network, format, substationBlocks, new ImportProjection().setCountries(Set.of(Country.FR)));
+            assertEquals(List.of("P1"), ids(read.getSubstations()));
+            assertEquals(List.of("VLGEN", "VLHV1"), ids(read.getVoltageLevels()));
+            assertEquals(List.of("GEN"), ids(read.getGenerators()));
+            assertEquals(List.of("NGEN_NHV1"), ids(read.getTwoWindingsTransformers()));
+            assertEquals(List.of("NHV1_XNODE1", "NHV1_XNODE2"), ids(read.getDanglingLines()));
+            assertEquals(0, read.getLoadCount());
+            assertEquals(0, read.getTieLineCount());
+
+            // Areas only reference the imported voltage levels and boundaries
+            Area areaA = read.getArea("ControlArea_A");
+            assertEquals(2, areaA.getVoltageLevelStream().count());
+            assertEquals(2, areaA.getAreaBoundaryStream().count());
+            Area areaB = read.getArea("ControlArea_B");
+            assertEquals(0, areaB.getVoltageLevelStream().count());
+            assertEquals(0, areaB.getAreaBoundaryStream().count());
+            assertEquals(2, read.getArea("Region_AB").getVoltageLevelStream().count());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = TreeDataFormat.class, names = {"XML", "JSON"})
+    void testSubstationsAndVoltageLevels(TreeDataFormat format) {
+        Network network = EurostagTutorialExample1Factory.create();
+
+        Network read = read(network, format, new ImportProjection().setSubstationIds(Set.of("P2")));
+        assertEquals(List.of("P2"), ids(read.getSubstations()));
+        assertEquals(List.of("NHV2_NLOAD"), ids(read.getTwoWindingsTransformers()));
+        assertEquals(List.of("LOAD"), ids(read.getLoads()));
+        assertEquals(0, read.getLineCount());
+
+        read = read(network, format, new ImportProjection().setVoltageLevelIds(Set.of("VLGEN", "VLHV1", "VLHV2")));
+        assertEquals(List.of("P1", "P2"), ids(read.getSubstations()));
+        assertEquals(List.of("VLGEN", "VLHV1", "VLHV2"), ids(read.getVoltageLevels()));
+        assertEquals(List.of("NGEN_NHV1"), ids(read.getTwoWindingsTransformers()));
+        assertEquals(List.of("NHV1_NHV2_1", "NHV1_NHV2_2"), ids(read.getLines()));
+        assertEquals(0, read.getLoadCount());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = TreeDataFormat.class, names = {"XML", "JSON"})
+    void testElementTypes(TreeDataFormat format) {
+        Network network = EurostagTutorialExample1Factory.createWithVoltageAngleLimit();
+        Generator gen = network.getGenerator("GEN");
+        gen.setRegulatingTerminal(network.getTwoWindingsTransformer("NGEN_NHV1").getTerminal2());
+        network.getVoltageLevel("VLLOAD").newExtension(SlackTerminalAdder.class)
+                .withTerminal(network.getLoad("LOAD").getTerminal())
+                .add();
+
+        Network read = read(network, format, new ImportProjection().setElementTypes(Set.of(IdentifiableType.GENERATOR)));
+        assertEquals(2, read.getSubstationCount());
+        assertEquals(4, read.getVoltageLevelCount());
+        assertEquals(List.of("NGEN", "NHV1", "NHV2", "NLOAD"), ids(read.getBusBreakerView().getBuses()));
+        assertEquals(List.of("GEN"), ids(read.getGenerators()));
+        assertEquals(0, read.getLoadCount());
+        assertEquals(0, read.getLineCount());
+        assertEquals(0, read.getTwoWindingsTransformerCount());
+        assertEquals(0, read.getVoltageAngleLimitsStream().count());
+        assertNull(read.getVoltageLevel("VLLOAD").getExtension(SlackTerminal.class));
+
+        // The remote regulation falls back to a local one
+        Generator readGen = read.getGenerator("GEN");
+        assertSame(readGen.getTerminal(), readGen.getRegulatingTerminal());
+
+        read = read(network, format, new ImportProjection().setElementTypes(Set.of(IdentifiableType.LINE, IdentifiableType.TWO_WINDINGS_TRANSFORMER)));
+        assertEquals(0, read.getGeneratorCount());
+        assertEquals(2, read.getLineCount());
+        assertEquals(2, read.getTwoWindingsTransformerCount());
+        assertEquals(List.of("VOLTAGE_ANGLE_LIMIT_NHV1_NHV2_1", "VOLTAGE_ANGLE_LIMIT_NHV1_NHV2_2"),
+                read.getVoltageAngleLimitsStream().map(VoltageAngleLimit::getId).toList());
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = TreeDataFormat.class, names = {"XML", "JSON"})
+    void testWithoutLimitsPropertiesAndExtensions(TreeDataFormat format) {
+        Network network = EurostagTutorialExample1Factory.createWithFixedCurrentLimits();
+        network.getLine("NHV1_NHV2_1").setProperty("key", "value");
+        network.setProperty("networkKey", "value");
+        network.getGenerator("GEN").newExtension(ActivePowerControlAdder.class)
+                .withParticipate(true)
+                .withDroop(4.0)
+                .add();
+
+        Network read = read(network, format, new ImportProjection());
+        assertEquals(toXml(network), toXml(read));
+
+        read = read(network, format, new ImportProjection()
+                .setWithLimits(false)
+                .setWithProperties(false)
+                .setWithExtensions(false));
+        Line line = read.getLine("NHV1_NHV2_1");
+        assertTrue(line.getOperationalLimitsGroups1().isEmpty());
+        assertTrue(line.getOperationalLimitsGroups2().isEmpty());
+        assertFalse(line.hasProperty());
+        assertFalse(read.hasProperty());
+        assertNull(read.getGenerator("GEN").getExtension(ActivePowerControl.class));
+        assertEquals(network.getLineCount(), read.getLineCount());
+    }
+
+    @Test
+    void testBinaryNotSupported() {
+        Network network = EurostagTutorialExample1Factory.create();
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkSerDe.write(network, new ExportOptions().setFormat(TreeDataFormat.BIN), os);
+        ImportOptions options = new ImportOptions().setFormat(TreeDataFormat.BIN).setProjection(new ImportProjection());
+        ByteArrayInputStream is = new ByteArrayInputStream(os.toByteArray());
+        PowsyblException e = assertThrows(PowsyblException.class, () -> NetworkSerDe.read(is, options, null));
+        assertEquals("Import projection is not supported in BIN format", e.getMessage());
+    }
+
+    private static String toXml(Network network) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkSerDe.write(network, os);
+        return os.toString(StandardCharsets.UTF_8);
+    }
+}
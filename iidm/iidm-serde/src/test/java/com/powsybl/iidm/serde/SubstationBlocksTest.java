@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.serde;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.io.TreeDataFormat;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.powsybl.iidm.serde.IidmSerDeConstants.CURRENT_IIDM_VERSION;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Elia Group
+ */
+class SubstationBlocksTest extends AbstractIidmSerDeTest {
+
+    private List<Network> createNetworks() {
+        Network eurostag = EurostagTutorialExample1Factory.createWithMoreGenerators();
+        eurostag.getSubstation("P1").setProperty("key", "value");
+        eurostag.getSubstation("P1").addAlias("P1 alias");
+        eurostag.getVoltageLevel("VLGEN").setProperty("key", "value");
+        return List.of(eurostag,
+                FourSubstationsNodeBreakerFactory.create(),
+                ThreeWindingsTransformerNetworkFactory.createWithCurrentLimits(),
+                MultipleExtensionsTestNetworkFactory.create(),
+                NetworkSerDe.read(getVersionedNetworkAsStream("subnetworks.xml", CURRENT_IIDM_VERSION)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(TreeDataFormat.class)
+    void testRoundTrip(TreeDataFormat format) {
+        for (Network network : createNetworks()) {
+            ByteArrayOutputStream os = new ByteArrayOutputStream();
+            NetworkSerDe.write(network, new ExportOptions().setFormat(format).setSubstationBlocks(true), os);
+            byte[] bytes = os.toByteArray();
+            assertArrayEquals(NetworkSerDe.BLOCKS_IIDM_MAGIC_NUMBER, Arrays.copyOf(bytes, NetworkSerDe.BLOCKS_IIDM_MAGIC_NUMBER.length));
+
+            Network read = NetworkSerDe.read(new ByteArrayInputStream(bytes), new ImportOptions().setFormat(format), null);
+            assertEquals(toXml(network), toXml(read), network.getId());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(TreeDataFormat.class)
+    void testFile(TreeDataFormat format, @TempDir Path dir) {
+        // Binary files on the default file system are memory mapped
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        Path file = dir.resolve("network");
+        NetworkSerDe.write(network, new ExportOptions().setFormat(format).setSubstationBlocks(true), file);
+        assertEquals(toXml(network), toXml(NetworkSerDe.read(file, new ImportOptions().setFormat(format))));
+    }
+
+    @ParameterizedTest
+    @EnumSource(TreeDataFormat.class)
+    void testFormatMismatch(TreeDataFormat format) {
+        Network network = EurostagTutorialExample1Factory.create();
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkSerDe.write(network, new ExportOptions().setFormat(format).setSubstationBlocks(true), os);
+        TreeDataFormat otherFormat = format == TreeDataFormat.XML ? TreeDataFormat.JSON : TreeDataFormat.XML;
+        ImportOptions options = new ImportOptions().setFormat(otherFormat);
+        ByteArrayInputStream is = new ByteArrayInputStream(os.toByteArray());
+        PowsyblException e = assertThrows(PowsyblException.class, () -> NetworkSerDe.read(is, options, null));
+        assertEquals("Cannot read network with substation blocks in " + format + " format, " + otherFormat + " format expected", e.getMessage());
+    }
+
+    private static String toXml(Network network) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkSerDe.write(network, os);
+        return os.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,216 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.tck;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Elia Group
+ */
+public abstract class AbstractStateTableTest {
+
+    @Test
+    public void testExportInjections() {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        StateTable table = network.exportState(IdentifiableType.GENERATOR, List.of(StateAttribute.P, StateAttribute.Q, StateAttribute.TARGET_P));
+        assertEquals(List.of("GEN"), table.getIds());
+        assertEquals(Set.of(StateAttribute.P, StateAttribute.Q, StateAttribute.TARGET_P), table.getAttributes());
+        Generator gen = network.getGenerator("GEN");
+        assertArrayEquals(new double[] {gen.getTerminal().getP()}, table.getDoubles(StateAttribute.P));
+        assertArrayEquals(new double[] {gen.getTerminal().getQ()}, table.getDoubles(StateAttribute.Q));
+        assertArrayEquals(new double[] {gen.getTargetP()}, table.getDoubles(StateAttribute.TARGET_P));
+
+        table = network.exportState(IdentifiableType.BUS, List.of(StateAttribute.V, StateAttribute.ANGLE));
+        assertEquals(network.getBusView().getBusStream().map(Bus::getId).toList(), table.getIds());
+        for (int i = 0; i < table.size(); i++) {
+            Bus bus = network.getBusView().getBus(table.getIds().get(i));
+            assertEquals(bus.getV(), table.getDoubles(StateAttribute.V)[i]);
+            assertEquals(bus.getAngle(), table.getDoubles(StateAttribute.ANGLE)[i]);
+        }
+
+        table = network.exportState(IdentifiableType.TWO_WINDINGS_TRANSFORMER, List.of(StateAttribute.P1, StateAttribute.Q2, StateAttribute.RATIO_TAP_POSITION));
+        assertEquals(List.of("NGEN_NHV1", "NHV2_NLOAD"), table.getIds());
+        TwoWindingsTransformer twt = network.getTwoWindingsTransformer("NGEN_NHV1");
+        assertEquals(twt.getTerminal1().getP(), table.getDoubles(StateAttribute.P1)[0]);
+        assertEquals(twt.getTerminal2().getQ(), table.getDoubles(StateAttribute.Q2)[0]);
+        assertArrayEquals(new int[] {StateTable.UNDEFINED_INT, 1}, table.getInts(StateAttribute.RATIO_TAP_POSITION));
+    }
+
+    @Test
+    public void testImport() {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        List<String> updates = new ArrayList<>();
+        List<StateTable> stateUpdates = new ArrayList<>();
+        network.addListener(new DefaultNetworkListener() {
+            @Override
+            public void onUpdate(Identifiable<?> identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+                updates.add(identifiable.getId() + "." + attribute);
+            }
+
+            @Override
+            public void onStateUpdate(Network n, StateTable table, String variantId) {
+                assertSame(network, n);
+                assertEquals(VariantManagerConstants.INITIAL_VARIANT_ID, variantId);
+                stateUpdates.add(table);
+            }
+        });
+
+        StateTable table = network.exportState(IdentifiableType.LOAD, List.of(StateAttribute.P, StateAttribute.Q, StateAttribute.P0));
+        table.getDoubles(StateAttribute.P)[0] = 601;
+        table.getDoubles(StateAttribute.Q)[0] = 201;
+        table.getDoubles(StateAttribute.P0)[0] = 602;
+        network.importState(table);
+        Load load = network.getLoad("LOAD");
+        assertEquals(601, load.getTerminal().getP());
+        assertEquals(201, load.getTerminal().getQ());
+        assertEquals(602, load.getP0());
+        assertTrue(updates.isEmpty());
+        assertEquals(List.of(table), stateUpdates);
+
+        table = network.exportState(IdentifiableType.TWO_WINDINGS_TRANSFORMER, List.of(StateAttribute.RATIO_TAP_POSITION));
+        table.getInts(StateAttribute.RATIO_TAP_POSITION)[1] = 2;
+        network.importState(table);
+        assertEquals(2, network.getTwoWindingsTransformer("NHV2_NLOAD").getRatioTapChanger().getTapPosition());
+
+        table = network.exportState(IdentifiableType.BUS, List.of(StateAttribute.V));
+        table.getDoubles(StateAttribute.V)[0] = 25;
+        network.importState(table);
+        assertEquals(25, network.getBusView().getBus(table.getIds().get(0)).getV());
+        assertTrue(updates.isEmpty());
+        assertEquals(3, stateUpdates.size());
+
+        // individual updates are notified again after a bulk import
+        load.setP0(603);
+        assertEquals(List.of("LOAD.p0"), updates);
+    }
+
+    @Test
+    public void testImportVariant() {
+        Network network = EurostagTutorialExample1Factory.create();
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        network.getVariantManager().setWorkingVariant("v");
+        StateTable table = network.exportState(IdentifiableType.GENERATOR, List.of(StateAttribute.TARGET_P, StateAttribute.P));
+        table.getDoubles(StateAttribute.TARGET_P)[0] = 550;
+        table.getDoubles(StateAttribute.P)[0] = -550;
+        network.importState(table);
+        Generator gen = network.getGenerator("GEN");
+        assertEquals(550, gen.getTargetP());
+        assertEquals(-550, gen.getTerminal().getP());
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(607, gen.getTargetP());
+        assertTrue(Double.isNaN(gen.getTerminal().getP()));
+    }
+
+    @Test
+    public void testImportSwitches() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        int busCount = network.getBusView().getBusStream().toList().size();
+        StateTable table = network.exportState(IdentifiableType.SWITCH, List.of(StateAttribute.OPEN));
+        assertEquals(network.getSwitchCount(), table.size());
+        int index = table.getIds().indexOf("S1VL2_GH1_BREAKER");
+        assertFalse(table.getBooleans(StateAttribute.OPEN)[index]);
+        table.getBooleans(StateAttribute.OPEN)[index] = true;
+        network.importState(table);
+        assertTrue(network.getSwitch("S1VL2_GH1_BREAKER").isOpen());
+        assertNull(network.getGenerator("GH1").getTerminal().getBusView().getBus());
+        assertEquals(busCount, network.getBusView().getBusStream().toList().size());
+    }
+
+    @Test
+    public void testImportSubset() {
+        Network network = EurostagTutorialExample1Factory.create();
+        StateTable table = new StateTable(IdentifiableType.TWO_WINDINGS_TRANSFORMER, List.of("NHV2_NLOAD"),
+                List.of(StateAttribute.P1, StateAttribute.RATIO_TAP_POSITION, StateAttribute.PHASE_TAP_POSITION));
+        assertTrue(Double.isNaN(table.getDoubles(StateAttribute.P1)[0]));
+        table.getDoubles(StateAttribute.P1)[0] = 600;
+        table.getInts(StateAttribute.RATIO_TAP_POSITION)[0] = 0;
+        network.importState(table);
+        TwoWindingsTransformer twt = network.getTwoWindingsTransformer("NHV2_NLOAD");
+        assertEquals(600, twt.getTerminal1().getP());
+        assertEquals(0, twt.getRatioTapChanger().getTapPosition());
+
+        table.getInts(StateAttribute.PHASE_TAP_POSITION)[0] = 0;
+        PowsyblException e = assertThrows(PowsyblException.class, () -> network.importState(table));
+        assertEquals("Two windings transformer 'NHV2_NLOAD' has no phase tap changer", e.getMessage());
+
+        StateTable unknown = new StateTable(IdentifiableType.LOAD, List.of("GEN"), List.of(StateAttribute.P));
+        e = assertThrows(PowsyblException.class, () -> network.importState(unknown));
+        assertEquals("LOAD 'GEN' not found", e.getMessage());
+    }
+
+    @Test
+    public void testInvalidValues() {
+        Network network = EurostagTutorialExample1Factory.create();
+        List<StateAttribute> attributes = List.of(StateAttribute.V);
+        PowsyblException e = assertThrows(PowsyblException.class, () -> network.exportState(IdentifiableType.GENERATOR, attributes));
+        assertEquals("State attribute V is not applicable to GENERATOR", e.getMessage());
+
+        StateTable table = network.exportState(IdentifiableType.TWO_WINDINGS_TRANSFORMER, List.of(StateAttribute.RATIO_TAP_POSITION));
+        e = assertThrows(PowsyblException.class, () -> table.getDoubles(StateAttribute.RATIO_TAP_POSITION));
+        assertEquals("State attribute RATIO_TAP_POSITION is of type INT", e.getMessage());
+        e = assertThrows(PowsyblException.class, () -> table.getDoubles(StateAttribute.P1));
+        assertEquals("State attribute P1 not found in table", e.getMessage());
+
+        table.getInts(StateAttribute.RATIO_TAP_POSITION)[1] = 5;
+        assertThrows(ValidationException.class, () -> network.importState(table));
+    }
+
+    @Test
+    public void testFailedImportIsRolledBack() {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        List<StateTable> stateUpdates = new ArrayList<>();
+        network.addListener(new DefaultNetworkListener() {
+            @Override
+            public void onStateUpdate(Network n, StateTable table, String variantId) {
+                stateUpdates.add(table);
+            }
+        });
+        Generator gen = network.getGenerator("GEN");
+        double q = gen.getTerminal().getQ();
+        double targetP = gen.getTargetP();
+        double targetV = gen.getTargetV();
+        gen.getTerminal().setP(Double.NaN);
+
+        // attributes are imported in the order of the enum: p, q and target p are applied before target v is rejected
+        StateTable table = network.exportState(IdentifiableType.GENERATOR,
+                List.of(StateAttribute.P, StateAttribute.Q, StateAttribute.TARGET_P, StateAttribute.TARGET_V));
+        table.getDoubles(StateAttribute.P)[0] = -500;
+        table.getDoubles(StateAttribute.Q)[0] = -100;
+        table.getDoubles(StateAttribute.TARGET_P)[0] = 500;
+        table.getDoubles(StateAttribute.TARGET_V)[0] = -1;
+        assertThrows(ValidationException.class, () -> network.importState(table));
+        // previous values are restored, including undefined ones
+        assertTrue(Double.isNaN(gen.getTerminal().getP()));
+        assertEquals(q, gen.getTerminal().getQ());
+        assertEquals(targetP, gen.getTargetP());
+        assertEquals(targetV, gen.getTargetV());
+        assertTrue(stateUpdates.isEmpty());
+    }
+
+    @Test
+    public void testUndefinedValuesAreSkipped() {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        Generator gen = network.getGenerator("GEN");
+        double q = gen.getTerminal().getQ();
+        StateTable table = new StateTable(IdentifiableType.GENERATOR, List.of("GEN"), List.of(StateAttribute.P, StateAttribute.Q));
+        table.getDoubles(StateAttribute.P)[0] = -600;
+        network.importState(table);
+        assertEquals(-600, gen.getTerminal().getP());
+        assertEquals(q, gen.getTerminal().getQ());
+    }
+}
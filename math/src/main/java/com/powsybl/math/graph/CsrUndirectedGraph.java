@@ -0,0 +1,752 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.math.graph;
+
+import com.powsybl.commons.PowsyblException;
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.list.linked.TIntLinkedList;
+
+import java.io.PrintStream;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An {@link UndirectedGraph} implementation storing vertices and edges in primitive arrays.
+ * <p>
+ * The edge endpoints are stored in two parallel int arrays and the adjacency of the graph is a compressed sparse row
+ * (CSR) structure, built lazily after a modification of the graph and published as an immutable snapshot: reads and
+ * traversals never take a lock, and a traversal keeps working on the snapshot it started with. The arrays used by the
+ * traversals are recycled from one traversal to the next.
+ * </p>
+ * The indices of the vertices and of the edges, and the order of the edges connected to a vertex, are the same as the
+ * ones of {@link UndirectedGraphImpl}, except that the lowest free index is reused when a vertex is added. As for
+ * {@link UndirectedGraphImpl}, modifications must not be concurrent with other calls.
+ *
+ * @author Elia Group
+ */
+public class CsrUndirectedGraph<V, E> implements UndirectedGraph<V, E> {
+
+    private static final int VERTICES_CAPACITY = 10;
+
+    private static final int EDGES_CAPACITY = 15;
+
+    /**
+     * Immutable adjacency of the graph: the edges connected to vertex v are
+     * {@code adjacentEdges[offsets[v]]..adjacentEdges[offsets[v + 1] - 1]}, by increasing edge index.
+     */
+    private static final class Snapshot {
+
+        private final int vertexCapacity;
+
+        private final int[] offsets;
+
+        private final int[] adjacentEdges;
+
+        private final int[] edgeV1;
+
+        private final int[] edgeV2;
+
+        private Snapshot(int vertexCapacity, int edgeCapacity, int[] edgeV1, int[] edgeV2) {
+            this.vertexCapacity = vertexCapacity;
+            this.edgeV1 = Arrays.copyOf(edgeV1, edgeCapacity);
+            this.edgeV2 = Arrays.copyOf(edgeV2, edgeCapacity);
+            offsets = new int[vertexCapacity + 1];
+            for (int e = 0; e < edgeCapacity; e++) {
+                if (edgeV1[e] != -1) {
+                    offsets[edgeV1[e] + 1]++;
+                    offsets[edgeV2[e] + 1]++;
+                }
+            }
+            for (int v = 0; v < vertexCapacity; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+            adjacentEdges = new int[offsets[vertexCapacity]];
+            int[] next = Arrays.copyOf(offsets, vertexCapacity);
+            for (int e = 0; e < edgeCapacity; e++) {
+                if (edgeV1[e] != -1) {
+                    adjacentEdges[next[edgeV1[e]]++] = e;
+                    adjacentEdges[next[edgeV2[e]]++] = e;
+                }
+            }
+        }
+
+        private int getDegree(int v) {
+            return offsets[v + 1] - offsets[v];
+        }
+    }
+
+    /**
+     * Arrays reused from one traversal to the next.
+     */
+    private static final class Workspace {
+
+        private boolean[] encountered = new boolean[0];
+
+        private int[] edgesToTraverse = new int[0];
+
+        private boolean[] getEncountered(int size) {
+            if (encountered.length < size) {
+                encountered = new boolean[size];
+            } else {
+                Arrays.fill(encountered, 0, size, false);
+            }
+            return encountered;
+        }
+
+        private int[] getEdgesToTraverse(int size) {
+            if (edgesToTraverse.length < size) {
+                edgesToTraverse = new int[size];
+            }
+            return edgesToTraverse;
+        }
+    }
+
+    /* vertices */
+    private Object[] vertexObjects = new Object[VERTICES_CAPACITY];
+
+    private boolean[] vertexPresent = new boolean[VERTICES_CAPACITY];
+
+    private int vertexCapacity = 0;
+
+    private int vertexCount = 0;
+
+    private final BitSet availableVertices = new BitSet();
+
+    /* edges, a removed edge has its endpoints set to -1 */
+    private int[] edgeV1 = new int[EDGES_CAPACITY];
+
+    private int[] edgeV2 = new int[EDGES_CAPACITY];
+
+    private Object[] edgeObjects = new Object[EDGES_CAPACITY];
+
+    private int edgeCapacity = 0;
+
+    private final TIntLinkedList removedEdges = new TIntLinkedList();
+
+    /* cached adjacency, null when outdated */
+    private volatile Snapshot snapshot;
+
+    /* a traversal workspace ready to be reused, nested or concurrent traversals allocate their own */
+    private final AtomicReference<Workspace> workspaceCache = new AtomicReference<>();
+
+    private final List<UndirectedGraphListener<V, E>> listeners = new CopyOnWriteArrayList<>();
+
+    private final int vertexLimit;
+
+    public CsrUndirectedGraph(int vertexLimit) {
+        if (vertexLimit < 1) {
+            throw new PowsyblException("Vertex limit should be positive");
+        }
+        this.vertexLimit = vertexLimit;
+    }
+
+    private void checkVertex(int v) {
+        if (v < 0 || v >= vertexCapacity || !vertexPresent[v]) {
+            throw new PowsyblException("Vertex " + v + " not found");
+        }
+    }
+
+    private void checkEdge(int e) {
+        if (e < 0 || e >= edgeCapacity || edgeV1[e] == -1) {
+            throw new PowsyblException("Edge " + e + " not found");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V vertexObject(int v) {
+        return (V) vertexObjects[v];
+    }
+
+    @SuppressWarnings("unchecked")
+    private E edgeObject(int e) {
+        return (E) edgeObjects[e];
+    }
+
+    private void ensureVertexCapacity(int capacity) {
+        if (capacity > vertexObjects.length) {
+            int newLength = Math.max(capacity, vertexObjects.length * 2);
+            vertexObjects = Arrays.copyOf(vertexObjects, newLength);
+            vertexPresent = Arrays.copyOf(vertexPresent, newLength);
+        }
+    }
+
+    private void ensureEdgeCapacity(int capacity) {
+        if (capacity > edgeObjects.length) {
+            int newLength = Math.max(capacity, edgeObjects.length * 2);
+            edgeV1 = Arrays.copyOf(edgeV1, newLength);
+            edgeV2 = Arrays.copyOf(edgeV2, newLength);
+            edgeObjects = Arrays.copyOf(edgeObjects, newLength);
+        }
+    }
+
+    private void setVertexPresent(int v) {
+        vertexPresent[v] = true;
+        vertexObjects[v] = null;
+        vertexCount++;
+        invalidateSnapshot();
+        notifyVertexAdded(v);
+    }
+
+    @Override
+    public int addVertex() {
+        int v = availableVertices.nextSetBit(0);
+        if (v == -1) {
+            v = vertexCapacity;
+            ensureVertexCapacity(v + 1);
+            vertexCapacity++;
+        } else {
+            availableVertices.clear(v);
+        }
+        setVertexPresent(v);
+        return v;
+    }
+
+    @Override
+    public void addVertexIfNotPresent(int v) {
+        if (v < 0) {
+            throw new PowsyblException("Invalid vertex " + v);
+        }
+        if (v >= this.vertexLimit) {
+            throw new PowsyblException("Vertex index too high: " + v + ". Limit is " + this.vertexLimit);
+        }
+        if (v < vertexCapacity) {
+            if (availableVertices.get(v)) {
+                availableVertices.clear(v);
+                setVertexPresent(v);
+            }
+        } else {
+            ensureVertexCapacity(v + 1);
+            availableVertices.set(vertexCapacity, v);
+            vertexCapacity = v + 1;
+            setVertexPresent(v);
+        }
+    }
+
+    @Override
+    public boolean vertexExists(int v) {
+        if (v < 0) {
+            throw new PowsyblException("Invalid vertex " + v);
+        }
+        return v < vertexCapacity && vertexPresent[v];
+    }
+
+    private V removeVertexInternal(int v) {
+        V obj = vertexObject(v);
+        vertexPresent[v] = false;
+        vertexObjects[v] = null;
+        vertexCount--;
+        if (v == vertexCapacity - 1) {
+            vertexCapacity--;
+            cleanVertices(v - 1);
+        } else {
+            availableVertices.set(v);
+        }
+        notifyVertexRemoved(v, obj);
+        return obj;
+    }
+
+    private void cleanVertices(int v) {
+        for (int i = v; i >= 0; i--) {
+            if (!availableVertices.get(i)) {
+                return;
+            }
+            availableVertices.clear(i);
+            vertexCapacity--;
+        }
+    }
+
+    @Override
+    public V removeVertex(int v) {
+        checkVertex(v);
+        for (int e = 0; e < edgeCapacity; e++) {
+            if (edgeV1[e] == v || edgeV2[e] == v) {
+                throw new PowsyblException("An edge is connected to vertex " + v);
+            }
+        }
+        V obj = removeVertexInternal(v);
+        invalidateSnapshot();
+        return obj;
+    }
+
+    @Override
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    @Override
+    public void removeAllVertices() {
+        if (getEdgeCount() > 0) {
+            throw new PowsyblException("Cannot remove all vertices because there is still some edges in the graph");
+        }
+        Arrays.fill(vertexObjects, 0, vertexCapacity, null);
+        Arrays.fill(vertexPresent, 0, vertexCapacity, false);
+        vertexCapacity = 0;
+        vertexCount = 0;
+        availableVertices.clear();
+        invalidateSnapshot();
+        notifyAllVerticesRemoved();
+    }
+
+    @Override
+    public int addEdge(int v1, int v2, E obj) {
+        checkVertex(v1);
+        checkVertex(v2);
+        int e;
+        if (removedEdges.isEmpty()) {
+            e = edgeCapacity;
+            ensureEdgeCapacity(e + 1);
+            edgeCapacity++;
+        } else {
+            e = removedEdges.removeAt(0);
+        }
+        edgeV1[e] = v1;
+        edgeV2[e] = v2;
+        edgeObjects[e] = obj;
+        invalidateSnapshot();
+        notifyEdgeAdded(e, obj);
+        return e;
+    }
+
+    @Override
+    public E removeEdge(int e) {
+        checkEdge(e);
+        E obj = edgeObject(e);
+        notifyEdgeBeforeRemoval(e, obj);
+        edgeV1[e] = -1;
+        edgeV2[e] = -1;
+        edgeObjects[e] = null;
+        if (e == edgeCapacity - 1) {
+            edgeCapacity--;
+        } else {
+            removedEdges.add(e);
+        }
+        invalidateSnapshot();
+        notifyEdgeRemoved(e, obj);
+        return obj;
+    }
+
+    @Override
+    public void removeAllEdges() {
+        Collection<E> allEdges = getEdgeObjectStream().collect(Collectors.toList());
+        notifyAllEdgesBeforeRemoval(allEdges);
+        Arrays.fill(edgeV1, 0, edgeCapacity, -1);
+        Arrays.fill(edgeV2, 0, edgeCapacity, -1);
+        Arrays.fill(edgeObjects, 0, edgeCapacity, null);
+        edgeCapacity = 0;
+        removedEdges.clear();
+        invalidateSnapshot();
+        notifyAllEdgesRemoved(allEdges);
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return edgeCapacity - removedEdges.size();
+    }
+
+    @Override
+    public int[] getVertices() {
+        int[] vertices = new int[vertexCount];
+        int i = 0;
+        for (int v = 0; v < vertexCapacity; v++) {
+            if (vertexPresent[v]) {
+                vertices[i++] = v;
+            }
+        }
+        return vertices;
+    }
+
+    @Override
+    public int[] getEdges() {
+        int[] edges = new int[getEdgeCount()];
+        int i = 0;
+        for (int e = 0; e < edgeCapacity; e++) {
+            if (edgeV1[e] != -1) {
+                edges[i++] = e;
+            }
+        }
+        return edges;
+    }
+
+    @Override
+    public int getVertexCapacity() {
+        return vertexCapacity;
+    }
+
+    @Override
+    public Iterable<V> getVerticesObj() {
+        return () -> getVertexObjectStream().iterator();
+    }
+
+    @Override
+    public Stream<V> getVertexObjectStream() {
+        return IntStream.range(0, vertexCapacity).filter(v -> vertexPresent[v]).mapToObj(this::vertexObject);
+    }
+
+    @Override
+    public V getVertexObject(int v) {
+        checkVertex(v);
+        return vertexObject(v);
+    }
+
+    @Override
+    public void setVertexObject(int v, V obj) {
+        checkVertex(v);
+        vertexObjects[v] = obj;
+        notifyVertexObjectSet(v, obj);
+    }
+
+    @Override
+    public int getEdgeVertex1(int e) {
+        checkEdge(e);
+        return edgeV1[e];
+    }
+
+    @Override
+    public int getEdgeVertex2(int e) {
+        checkEdge(e);
+        return edgeV2[e];
+    }
+
+    @Override
+    public List<E> getEdgeObjectsConnectedToVertex(int v) {
+        return getEdgeObjectConnectedToVertexStream(v).collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<E> getEdgeObjectConnectedToVertexStream(int v) {
+        return getEdgeConnectedToVertexStream(v).mapToObj(this::getEdgeObject);
+    }
+
+    @Override
+    public List<Integer> getEdgesConnectedToVertex(int v) {
+        return getEdgeConnectedToVertexStream(v).boxed().collect(Collectors.toList());
+    }
+
+    @Override
+    public IntStream getEdgeConnectedToVertexStream(int v) {
+        checkVertex(v);
+        Snapshot s = getSnapshot();
+        return Arrays.stream(s.adjacentEdges, s.offsets[v], s.offsets[v + 1]);
+    }
+
+    @Override
+    public Iterable<E> getEdgesObject() {
+        return () -> getEdgeObjectStream().iterator();
+    }
+
+    @Override
+    public Stream<E> getEdgeObjectStream() {
+        return IntStream.range(0, edgeCapacity).filter(e -> edgeV1[e] != -1).mapToObj(this::edgeObject);
+    }
+
+    @Override
+    public E getEdgeObject(int e) {
+        checkEdge(e);
+        return edgeObject(e);
+    }
+
+    @Override
+    public List<E> getEdgeObjects(int v1, int v2) {
+        checkVertex(v1);
+        checkVertex(v2);
+        List<E> objects = new ArrayList<>(1);
+        Snapshot s = getSnapshot();
+        for (int i = s.offsets[v1]; i < s.offsets[v1 + 1]; i++) {
+            int e = s.adjacentEdges[i];
+            if (s.edgeV1[e] == v1 && s.edgeV2[e] == v2
+                    || s.edgeV1[e] == v2 && s.edgeV2[e] == v1) {
+                objects.add(edgeObject(e));
+            }
+        }
+        return objects;
+    }
+
+    /**
+     * Get the adjacency of the graph, building it if the graph has been modified since the last call.
+     */
+    private Snapshot getSnapshot() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            s = new Snapshot(vertexCapacity, edgeCapacity, edgeV1, edgeV2);
+            snapshot = s;
+        }
+        return s;
+    }
+
+    private void invalidateSnapshot() {
+        snapshot = null;
+    }
+
+    private Workspace acquireWorkspace() {
+        Workspace workspace = workspaceCache.getAndSet(null);
+        return workspace != null ? workspace : new Workspace();
+    }
+
+    private void releaseWorkspace(Workspace workspace) {
+        workspaceCache.set(workspace);
+    }
+
+    /**
+     * Mark the vertex as encountered and push its adjacent edges, in reverse order for a depth-first traversal so that
+     * the first adjacent edge is the first one to be popped.
+     *
+     * @return the new end of the edges to traverse.
+     */
+    private static int traverseVertex(Snapshot s, int v, boolean[] encountered, int[] edgesToTraverse, int end,
+                                      TraversalType traversalType) {
+        encountered[v] = true;
+        int first = s.offsets[v];
+        int last = s.offsets[v + 1];
+        int newEnd = end;
+        for (int i = first; i < last; i++) {
+            int iEdge = switch (traversalType) {
+                case DEPTH_FIRST -> last - 1 - (i - first);
+                case BREADTH_FIRST -> i;
+            };
+            edgesToTraverse[newEnd++] = s.adjacentEdges[iEdge];
+        }
+        return newEnd;
+    }
+
+    /**
+     * Each vertex is expanded at most once, so the edges to traverse never exceed the size of the adjacency and the
+     * array can be used as a stack (depth-first) or as a queue (breadth-first) without wrapping around.
+     */
+    private static boolean traverse(Snapshot s, int v, TraversalType traversalType, Traverser traverser,
+                                    boolean[] encountered, int[] edgesToTraverse) {
+        int start = 0;
+        int end = traverseVertex(s, v, encountered, edgesToTraverse, 0, traversalType);
+        boolean keepGoing = true;
+        while (start < end && keepGoing) {
+            int e = switch (traversalType) {
+                case DEPTH_FIRST -> edgesToTraverse[--end];
+                case BREADTH_FIRST -> edgesToTraverse[start++];
+            };
+            int v1 = s.edgeV1[e];
+            int v2 = s.edgeV2[e];
+            if (!encountered[v1] || !encountered[v2]) {
+                boolean flipEdge = encountered[v2];
+                int vOrigin = flipEdge ? v2 : v1;
+                int vDest = flipEdge ? v1 : v2;
+                switch (traverser.traverse(vOrigin, e, vDest)) {
+                    case CONTINUE -> end = traverseVertex(s, vDest, encountered, edgesToTraverse, end, traversalType);
+                    case TERMINATE_TRAVERSER -> keepGoing = false;
+                    case TERMINATE_PATH -> {
+                        // Path ends on edge e before reaching vDest, continuing with next edge to traverse
+                    }
+                }
+            }
+        }
+        return keepGoing;
+    }
+
+    @Override
+    public boolean traverse(int v, TraversalType traversalType, Traverser traverser, boolean[] encountered) {
+        checkVertex(v);
+        Objects.requireNonNull(traverser);
+        Objects.requireNonNull(encountered);
+
+        if (encountered.length < vertexCapacity) {
+            throw new PowsyblException("Encountered array is too small");
+        }
+
+        Snapshot s = getSnapshot();
+        Workspace workspace = acquireWorkspace();
+        try {
+            return traverse(s, v, traversalType, traverser, encountered, workspace.getEdgesToTraverse(s.adjacentEdges.length));
+        } finally {
+            releaseWorkspace(workspace);
+        }
+    }
+
+    @Override
+    public boolean traverse(int v, TraversalType traversalType, Traverser traverser) {
+        return traverse(new int[] {v}, traversalType, traverser);
+    }
+
+    @Override
+    public boolean traverse(int[] startingVertices, TraversalType traversalType, Traverser traverser) {
+        Objects.requireNonNull(traverser);
+        Snapshot s = getSnapshot();
+        Workspace workspace = acquireWorkspace();
+        try {
+            boolean[] encountered = workspace.getEncountered(s.vertexCapacity);
+            int[] edgesToTraverse = workspace.getEdgesToTraverse(s.adjacentEdges.length);
+            for (int startingVertex : startingVertices) {
+                checkVertex(startingVertex);
+                if (!encountered[startingVertex] && !traverse(s, startingVertex, traversalType, traverser, encountered, edgesToTraverse)) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            releaseWorkspace(workspace);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * In the output, the paths are sorted by size considering the number of switches in each path.
+     * </p>
+     */
+    @Override
+    public List<TIntArrayList> findAllPaths(int from, Predicate<V> pathComplete, Predicate<? super E> pathCancelled) {
+        return findAllPaths(from, pathComplete, pathCancelled, Comparator.comparing(TIntArrayList::size));
+    }
+
+    @Override
+    public List<TIntArrayList> findAllPaths(int from, Predicate<V> pathComplete, Predicate<? super E> pathCancelled,
+                                            Comparator<TIntArrayList> comparator) {
+        Objects.requireNonNull(pathComplete);
+        checkVertex(from);
+        Snapshot s = getSnapshot();
+        List<TIntArrayList> paths = new ArrayList<>();
+        findAllPaths(s, from, pathComplete, pathCancelled, new TIntArrayList(1), new BitSet(s.vertexCapacity), paths);
+        paths.sort(comparator);
+        return paths;
+    }
+
+    /**
+     * Continue the paths from vertex v through each of its adjacent edges which is not cancelled, the last adjacent
+     * edge reusing the current path and encountered vertices instead of copies.
+     */
+    private void findAllPaths(Snapshot s, int v, Predicate<V> pathComplete, Predicate<? super E> pathCancelled,
+                              TIntArrayList path, BitSet encountered, List<TIntArrayList> paths) {
+        encountered.set(v);
+        int last = s.offsets[v + 1] - 1;
+        for (int i = s.offsets[v]; i <= last; i++) {
+            int e = s.adjacentEdges[i];
+            if (pathCancelled != null && pathCancelled.test(edgeObject(e))) {
+                continue;
+            }
+            int vNext = s.edgeV1[e] == v ? s.edgeV2[e] : s.edgeV1[e];
+            if (!encountered.get(vNext)) {
+                TIntArrayList nextPath;
+                BitSet nextEncountered;
+                if (i < last) {
+                    nextPath = new TIntArrayList(path);
+                    nextEncountered = (BitSet) encountered.clone();
+                } else {
+                    nextPath = path;
+                    nextEncountered = encountered;
+                }
+                nextPath.add(e);
+                if (pathComplete.test(vertexObject(vNext))) {
+                    paths.add(nextPath);
+                } else {
+                    findAllPaths(s, vNext, pathComplete, pathCancelled, nextPath, nextEncountered, paths);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void addListener(UndirectedGraphListener<V, E> l) {
+        listeners.add(l);
+    }
+
+    @Override
+    public void removeListener(UndirectedGraphListener<V, E> l) {
+        listeners.remove(l);
+    }
+
+    private void notifyVertexAdded(int v) {
+        for (UndirectedGraphListener<V, E> l : listeners) {
+            l.vertexAdded(v);
+        }
+    }
+
+    private void notifyVertexObjectSet(int v, V obj) {
+        for (UndirectedGraphListener<V, E> l : listeners) {
+            l.vertexObjectSet(v, obj);
+        }
+    }
+
+    private void notifyVertexRemoved(int v, V obj) {
+        for (UndirectedGraphListener<V, E> l : listeners) {
+            l.vertexRemoved(v, obj);
+        }
+    }
+
+    private void notifyAllVerticesRemoved() {
+        for (UndirectedGraphListener<V, E> l : listeners) {
+            l.allVerticesRemoved();
+        }
+    }
+
+    private void notifyEdgeAdded(int e, E obj) {
+        for (UndirectedGraphListener<V, E> l : listeners) {
+            l.edgeAdded(e, obj);
+        }
+    }
+
+    private void notifyEdgeRemoved(int e, E obj) {
+        for (UndirectedGraphListener<V, E> l : listeners) {
+            l.edgeRemoved(e, obj);
+        }
+    }
+
+    private void notifyEdgeBeforeRemoval(int e, E obj) {
+        for (UndirectedGraphListener<V, E> l : listeners) {
+            l.edgeBeforeRemoval(e, obj);
+        }
+    }
+
+    private void notifyAllEdgesBeforeRemoval(Collection<E> obj) {
+        for (UndirectedGraphListener<V, E> l : listeners) {
+            l.allEdgesBeforeRemoval(obj);
+        }
+    }
+
+    private void notifyAllEdgesRemoved(Collection<E> obj) {
+        for (UndirectedGraphListener<V, E> l : listeners) {
+            l.allEdgesRemoved(obj);
+        }
+    }
+
+    @Override
+    public void print(PrintStream out, Function<V, String> vertexToString, Function<E, String> edgeToString) {
+        out.append("Vertices:").append(System.lineSeparator());
+        for (int v = 0; v < vertexCapacity; v++) {
+            if (vertexPresent[v]) {
+                String str = vertexToString == null ? Objects.toString(vertexObject(v)) : vertexToString.apply(vertexObject(v));
+                out.append(Integer.toString(v)).append(": ")
+                        .append(str)
+                        .append(System.lineSeparator());
+            }
+        }
+        out.append("Edges:").append(System.lineSeparator());
+        for (int e = 0; e < edgeCapacity; e++) {
+            if (edgeV1[e] != -1) {
+                String str = edgeToString == null ? Objects.toString(edgeObject(e)) : edgeToString.apply(edgeObject(e));
+                out.append(Integer.toString(e)).append(": ")
+                        .append(Integer.toString(edgeV1[e])).append("<->")
+                        .append(Integer.toString(edgeV2[e])).append(" ")
+                        .append(str).append(System.lineSeparator());
+            }
+        }
+    }
+
+    @Override
+    public void removeIsolatedVertices() {
+        Snapshot s = getSnapshot();
+        for (int v = 0; v < s.vertexCapacity && v < vertexCapacity; v++) {
+            if (vertexPresent[v] && vertexObjects[v] == null && s.getDegree(v) == 0) {
+                removeVertexInternal(v);
+            }
+        }
+        invalidateSnapshot();
+    }
+}
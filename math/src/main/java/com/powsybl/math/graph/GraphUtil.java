@@ -10,6 +10,7 @@ package com.powsybl.math.graph;
 import gnu.trove.list.array.TIntArrayList;
 
 import java.util.*;
+import java.util.stream.IntStream;
 
 /**
  *
@@ -85,6 +86,69 @@ public final class GraphUtil {
             }
         }
 
+        return orderBySize(componentNumber, componentSizes);
+    }
+
+    /**
+     * Compute the connected components of a graph given as two arrays of edge endpoints, using a {@link UnionFind}.
+     * The result is the same as the one of {@link #computeConnectedComponents(TIntArrayList[])} on the equivalent
+     * adjacency list.
+     *
+     * @param vertexCount the number of vertices of the graph.
+     * @param edgeVertex1 the first vertex of each edge.
+     * @param edgeVertex2 the second vertex of each edge.
+     * @param parallel if true, the edges are merged in parallel.
+     */
+    public static ConnectedComponentsComputationResult computeConnectedComponents(int vertexCount, int[] edgeVertex1, int[] edgeVertex2,
+                                                                                 boolean parallel) {
+        return computeConnectedComponents(computeUnionFind(vertexCount, edgeVertex1, edgeVertex2, parallel));
+    }
+
+    /**
+     * Merge the endpoints of each edge in a new {@link UnionFind}.
+     *
+     * @param vertexCount the number of vertices of the graph.
+     * @param edgeVertex1 the first vertex of each edge.
+     * @param edgeVertex2 the second vertex of each edge.
+     * @param parallel if true, the edges are merged in parallel.
+     */
+    public static UnionFind computeUnionFind(int vertexCount, int[] edgeVertex1, int[] edgeVertex2, boolean parallel) {
+        Objects.requireNonNull(edgeVertex1);
+        Objects.requireNonNull(edgeVertex2);
+        if (edgeVertex1.length != edgeVertex2.length) {
+            throw new IllegalArgumentException("Edge vertex arrays have different lengths");
+        }
+        UnionFind unionFind = new UnionFind(vertexCount);
+        IntStream edges = IntStream.range(0, edgeVertex1.length);
+        if (parallel) {
+            edges = edges.parallel();
+        }
+        edges.forEach(e -> unionFind.union(edgeVertex1[e], edgeVertex2[e]));
+        return unionFind;
+    }
+
+    /**
+     * Compute the connected components corresponding to the sets of a {@link UnionFind}, numbered by decreasing size.
+     */
+    public static ConnectedComponentsComputationResult computeConnectedComponents(UnionFind unionFind) {
+        int[] componentNumber = new int[unionFind.size()];
+        List<Integer> componentSizes = new ArrayList<>();
+        for (int v = 0; v < componentNumber.length; v++) {
+            // the root of a set is its lowest vertex, so it is always numbered before the other vertices of the set
+            int root = unionFind.find(v);
+            if (root == v) {
+                componentNumber[v] = componentSizes.size();
+                componentSizes.add(1);
+            } else {
+                int c = componentNumber[root];
+                componentNumber[v] = c;
+                componentSizes.set(c, componentSizes.get(c) + 1);
+            }
+        }
+        return orderBySize(componentNumber, componentSizes);
+    }
+
+    private static ConnectedComponentsComputationResult orderBySize(int[] componentNumber, List<Integer> componentSizes) {
         // sort components by size
         int nbComponents = componentSizes.size();
         ConnectedComponent[] components = new ConnectedComponent[nbComponents];
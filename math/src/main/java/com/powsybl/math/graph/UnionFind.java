@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.math.graph;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A disjoint-set forest over the vertices {@code 0..size-1}, which can be updated concurrently without locking.
+ * <p>
+ * The root of a set is always its lowest vertex: when two sets are merged, the root with the highest index is linked
+ * to the other one. The representative of a set returned by {@link #find(int)} is hence deterministic, whatever the
+ * order of the unions and the number of threads performing them.
+ * </p>
+ *
+ * @author Elia Group
+ */
+public final class UnionFind {
+
+    /* the parent of a vertex is always lower than or equal to the vertex */
+    private final AtomicIntegerArray parents;
+
+    public UnionFind(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Invalid size " + size);
+        }
+        int[] array = new int[size];
+        for (int v = 0; v < size; v++) {
+            array[v] = v;
+        }
+        parents = new AtomicIntegerArray(array);
+    }
+
+    private UnionFind(AtomicIntegerArray parents) {
+        this.parents = parents;
+    }
+
+    /**
+     * Get the number of vertices.
+     */
+    public int size() {
+        return parents.length();
+    }
+
+    /**
+     * Get the lowest vertex of the set containing the given vertex, halving the path to it on the way.
+     */
+    public int find(int v) {
+        int u = v;
+        int parent = parents.get(u);
+        while (parent != u) {
+            int grandParent = parents.get(parent);
+            // a failed update only means that another thread already shortened the path
+            parents.compareAndSet(u, parent, grandParent);
+            u = grandParent;
+            parent = parents.get(u);
+        }
+        return u;
+    }
+
+    /**
+     * Merge the sets containing the two given vertices.
+     *
+     * @return true if the vertices were in different sets, false otherwise.
+     */
+    public boolean union(int v1, int v2) {
+        while (true) {
+            int root1 = find(v1);
+            int root2 = find(v2);
+            if (root1 == root2) {
+                return false;
+            }
+            int lowRoot = Math.min(root1, root2);
+            int highRoot = Math.max(root1, root2);
+            if (parents.compareAndSet(highRoot, highRoot, lowRoot)) {
+                return true;
+            }
+            // highRoot has been linked by another thread in the meantime
+        }
+    }
+
+    /**
+     * Check if the two given vertices are in the same set.
+     */
+    public boolean connected(int v1, int v2) {
+        while (true) {
+            int root1 = find(v1);
+            int root2 = find(v2);
+            if (root1 == root2) {
+                return true;
+            }
+            if (parents.get(root1) == root1) {
+                return false;
+            }
+            // root1 has been linked by another thread in the meantime
+        }
+    }
+
+    /**
+     * Create an independent copy of this forest, for instance to evaluate additional unions without modifying it.
+     */
+    public UnionFind copy() {
+        int[] array = new int[parents.length()];
+        for (int v = 0; v < array.length; v++) {
+            array[v] = parents.get(v);
+        }
+        return new UnionFind(new AtomicIntegerArray(array));
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.math.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the tests of {@link UndirectedGraphImplTest} on a {@link CsrUndirectedGraph}.
+ *
+ * @author Elia Group
+ */
+class CsrUndirectedGraphTest extends UndirectedGraphImplTest {
+
+    @Override
+    protected <V, E> UndirectedGraph<V, E> createGraph(int vertexLimit) {
+        return new CsrUndirectedGraph<>(vertexLimit);
+    }
+
+    @Test
+    void testLowestVertexReused() {
+        for (int i = 0; i < 5; i++) {
+            graph.addVertex();
+        }
+        graph.removeVertex(3);
+        graph.removeVertex(1);
+        assertEquals(1, graph.addVertex());
+        assertEquals(3, graph.addVertex());
+        assertEquals(5, graph.addVertex());
+
+        graph.removeVertex(5);
+        graph.removeVertex(3);
+        graph.removeVertex(4);
+        assertEquals(3, graph.getVertexCapacity());
+        graph.addVertexIfNotPresent(6);
+        assertArrayEquals(new int[] {0, 1, 2, 6}, graph.getVertices());
+        assertEquals(3, graph.addVertex());
+    }
+
+    @Test
+    void testSelfLoopAndParallelEdges() {
+        graph.addVertex();
+        graph.addVertex();
+        graph.addEdge(0, 1, "a");
+        graph.addEdge(1, 1, "b");
+        graph.addEdge(1, 0, "c");
+        assertEquals(List.of(0, 1, 1, 2), graph.getEdgesConnectedToVertex(1));
+        assertEquals(List.of("a", "c"), graph.getEdgeObjects(0, 1));
+        assertEquals(List.of("b", "b"), graph.getEdgeObjects(1, 1));
+        graph.removeEdge(0);
+        assertEquals(List.of(2), graph.getEdgesConnectedToVertex(0));
+        assertEquals(0, graph.addEdge(0, 0, "d"));
+    }
+
+    @Test
+    void testNestedTraversalAndModification() {
+        for (int i = 0; i < 4; i++) {
+            graph.addVertex();
+        }
+        graph.addEdge(0, 1, null);
+        graph.addEdge(1, 2, null);
+        graph.addEdge(2, 3, null);
+
+        // the inner traversals do not interfere with the outer one, which also ignores the edges added meanwhile
+        List<Integer> traversed = new ArrayList<>();
+        List<Integer> reached = new ArrayList<>();
+        graph.traverse(0, TraversalType.BREADTH_FIRST, (v1, e, v2) -> {
+            traversed.add(e);
+            int[] count = new int[1];
+            graph.traverse(v2, TraversalType.DEPTH_FIRST, (w1, f, w2) -> {
+                count[0]++;
+                return TraverseResult.CONTINUE;
+            });
+            reached.add(count[0]);
+            graph.addEdge(v2, 0, null);
+            return TraverseResult.CONTINUE;
+        });
+        assertEquals(List.of(0, 1, 2), traversed);
+        assertEquals(List.of(3, 3, 3), reached);
+        assertEquals(6, graph.getEdgeCount());
+    }
+}
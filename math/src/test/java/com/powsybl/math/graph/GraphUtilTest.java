@@ -10,6 +10,9 @@ package com.powsybl.math.graph;
 import gnu.trove.list.array.TIntArrayList;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
@@ -37,4 +40,29 @@ class GraphUtilTest {
         assertEquals(2, result.getComponentNumber()[1]);
     }
 
+    @Test
+    void testComputeConnectedComponentsWithUnionFind() {
+        int vertexCount = 20000;
+        int edgeCount = 15000;
+        Random random = new Random(42);
+        int[] edgeVertex1 = new int[edgeCount];
+        int[] edgeVertex2 = new int[edgeCount];
+        TIntArrayList[] adjacencyList = new TIntArrayList[vertexCount];
+        for (int i = 0; i < adjacencyList.length; i++) {
+            adjacencyList[i] = new TIntArrayList();
+        }
+        for (int e = 0; e < edgeCount; e++) {
+            edgeVertex1[e] = random.nextInt(vertexCount);
+            edgeVertex2[e] = random.nextInt(vertexCount);
+            adjacencyList[edgeVertex1[e]].add(edgeVertex2[e]);
+            adjacencyList[edgeVertex2[e]].add(edgeVertex1[e]);
+        }
+
+        GraphUtil.ConnectedComponentsComputationResult expected = GraphUtil.computeConnectedComponents(adjacencyList);
+        for (boolean parallel : new boolean[] {false, true}) {
+            GraphUtil.ConnectedComponentsComputationResult result = GraphUtil.computeConnectedComponents(vertexCount, edgeVertex1, edgeVertex2, parallel);
+            assertArrayEquals(expected.getComponentSize(), result.getComponentSize());
+            assertArrayEquals(expected.getComponentNumber(), result.getComponentNumber());
+        }
+    }
 }
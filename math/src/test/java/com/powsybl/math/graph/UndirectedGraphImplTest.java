@@ -30,11 +30,11 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 class UndirectedGraphImplTest {
 
-    private static final class Vertex {
+    protected static final class Vertex {
 
         private final String name;
 
-        private Vertex(String name) {
+        Vertex(String name) {
             this.name = name;
         }
 
@@ -47,14 +47,18 @@ class UndirectedGraphImplTest {
 
     private static final int VERTEX_LIMIT = 100;
 
-    private UndirectedGraph<Vertex, Object> graph;
+    protected UndirectedGraph<Vertex, Object> graph;
 
     UndirectedGraphImplTest() {
     }
 
+    protected <V, E> UndirectedGraph<V, E> createGraph(int vertexLimit) {
+        return new UndirectedGraphImpl<>(vertexLimit);
+    }
+
     @BeforeEach
     void setUp() {
-        graph = new UndirectedGraphImpl<>(VERTEX_LIMIT);
+        graph = createGraph(VERTEX_LIMIT);
     }
 
     @AfterEach
@@ -66,7 +70,7 @@ class UndirectedGraphImplTest {
     void testConstructor() {
         assertEquals(0, graph.getVertexCount());
         assertEquals(0, graph.getEdgeCount());
-        PowsyblException e = assertThrows(PowsyblException.class, () -> new UndirectedGraphImpl<>(0));
+        PowsyblException e = assertThrows(PowsyblException.class, () -> createGraph(0));
         assertEquals("Vertex limit should be positive", e.getMessage());
     }
 
@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.math.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Elia Group
+ */
+class UnionFindTest {
+
+    @Test
+    void test() {
+        UnionFind unionFind = new UnionFind(6);
+        assertEquals(6, unionFind.size());
+        assertTrue(unionFind.union(4, 5));
+        assertTrue(unionFind.union(5, 2));
+        assertFalse(unionFind.union(2, 4));
+        assertTrue(unionFind.union(0, 1));
+        assertEquals(2, unionFind.find(4));
+        assertEquals(2, unionFind.find(5));
+        assertEquals(0, unionFind.find(1));
+        assertEquals(3, unionFind.find(3));
+        assertTrue(unionFind.connected(4, 2));
+        assertFalse(unionFind.connected(1, 2));
+
+        UnionFind copy = unionFind.copy();
+        assertTrue(copy.union(1, 5));
+        assertTrue(copy.connected(0, 4));
+        assertFalse(unionFind.connected(0, 4));
+
+        assertThrows(IllegalArgumentException.class, () -> new UnionFind(-1));
+    }
+
+    @Test
+    void testConcurrentUnions() {
+        int size = 100000;
+        UnionFind unionFind = new UnionFind(size);
+        // link each vertex to the previous one with the same parity
+        IntStream.range(2, size).parallel().forEach(v -> unionFind.union(v, v - 2));
+        IntStream.range(0, size).parallel().forEach(v -> assertEquals(v % 2, unionFind.find(v)));
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security;
+
+import com.powsybl.security.results.OperatorStrategyResult;
+import com.powsybl.security.results.PostContingencyResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Keeps all the results in memory, so that they are part of the final {@link SecurityAnalysisResult}.
+ *
+ * @author Elia Group
+ */
+public class InMemorySecurityAnalysisResultSink implements SecurityAnalysisResultSink {
+
+    private final List<PostContingencyResult> postContingencyResults = Collections.synchronizedList(new ArrayList<>());
+    private final List<OperatorStrategyResult> operatorStrategyResults = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public void onPostContingencyResult(PostContingencyResult result) {
+        postContingencyResults.add(Objects.requireNonNull(result));
+    }
+
+    @Override
+    public void onOperatorStrategyResult(OperatorStrategyResult result) {
+        operatorStrategyResults.add(Objects.requireNonNull(result));
+    }
+
+    @Override
+    public List<PostContingencyResult> getPostContingencyResults() {
+        return postContingencyResults;
+    }
+
+    @Override
+    public List<OperatorStrategyResult> getOperatorStrategyResults() {
+        return operatorStrategyResults;
+    }
+}
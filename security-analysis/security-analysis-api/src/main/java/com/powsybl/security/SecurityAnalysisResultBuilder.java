@@ -17,6 +17,7 @@ import com.powsybl.security.results.OperatorStrategyResult;
 import com.powsybl.security.strategy.OperatorStrategy;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Facilitates the creation of security analysis results.
@@ -31,26 +32,32 @@ public class SecurityAnalysisResultBuilder {
     private final LimitViolationFilter filter;
     private final SecurityAnalysisResultContext context;
     private final List<SecurityAnalysisInterceptor> interceptors;
+    private final SecurityAnalysisResultSink sink;
+    private final AtomicBoolean sinkEnded = new AtomicBoolean(false);
 
     // Below are volatile objects used for building the actual complete result
     private PreContingencyResult preContingencyResult;
-    private final List<PostContingencyResult> postContingencyResults = Collections.synchronizedList(new ArrayList<>());
-    private final List<OperatorStrategyResult> operatorStrategyResults = Collections.synchronizedList(new ArrayList<>());
 
+    /**
+     * Creates a builder handing post-contingency and operator strategy results to the given sink as soon as they are
+     * complete, instead of keeping them in memory until the end of the analysis.
+     */
     public SecurityAnalysisResultBuilder(LimitViolationFilter filter, SecurityAnalysisResultContext context,
-                                         Collection<SecurityAnalysisInterceptor> interceptors) {
+                                         Collection<SecurityAnalysisInterceptor> interceptors, SecurityAnalysisResultSink sink) {
         this.filter = Objects.requireNonNull(filter);
         this.context = Objects.requireNonNull(context);
         this.interceptors = ImmutableList.copyOf(interceptors);
+        this.sink = Objects.requireNonNull(sink);
         this.preContingencyResult = new PreContingencyResult();
     }
 
-    public SecurityAnalysisResultBuilder(LimitViolationFilter filter, SecurityAnalysisResultContext context) {
-        this(filter, context, Collections.emptyList());
+    public SecurityAnalysisResultBuilder(LimitViolationFilter filter, SecurityAnalysisResultContext context,
+                                         Collection<SecurityAnalysisInterceptor> interceptors) {
+        this(filter, context, interceptors, new InMemorySecurityAnalysisResultSink());
     }
 
-    private void addPostContingencyResult(PostContingencyResult result) {
-        postContingencyResults.add(Objects.requireNonNull(result));
+    public SecurityAnalysisResultBuilder(LimitViolationFilter filter, SecurityAnalysisResultContext context) {
+        this(filter, context, Collections.emptyList());
     }
 
     /**
@@ -113,6 +120,16 @@ public class SecurityAnalysisResultBuilder {
         return new OperatorStrategyResultBuilder(strategy, strategyContext);
     }
 
+    /**
+     * Ends the sink, so that it can flush or release what it holds. It is called by {@link #build()}, and must be
+     * called by the analysis when it fails before building the result. Only the first call ends the sink.
+     */
+    public void endSink() {
+        if (sinkEnded.compareAndSet(false, true)) {
+            sink.end();
+        }
+    }
+
     /**
      * Finalizes the result.
      *
@@ -123,8 +140,11 @@ public class SecurityAnalysisResultBuilder {
             throw new IllegalStateException("Pre-contingency result is not yet defined, cannot build security analysis result.");
         }
 
-        SecurityAnalysisResult res = new SecurityAnalysisResult(preContingencyResult, postContingencyResults, operatorStrategyResults);
-        res.setNetworkMetadata(new NetworkMetadata(context.getNetwork()));
+        NetworkMetadata networkMetadata = new NetworkMetadata(context.getNetwork());
+        sink.onNetworkMetadata(networkMetadata);
+        endSink();
+        SecurityAnalysisResult res = new SecurityAnalysisResult(preContingencyResult, sink.getPostContingencyResults(), sink.getOperatorStrategyResults());
+        res.setNetworkMetadata(networkMetadata);
         interceptors.forEach(i -> i.onSecurityAnalysisResult(res, context));
 
         return res;
@@ -230,6 +250,7 @@ public class SecurityAnalysisResultBuilder {
             List<LimitViolation> filteredViolations = filter.apply(violations, context.getNetwork());
             preContingencyResult = new PreContingencyResult(status, new LimitViolationsResult(filteredViolations), new NetworkResult(branchResults, busResults, threeWindingsTransformerResults));
             interceptors.forEach(i -> i.onPreContingencyResult(preContingencyResult, resultContext));
+            sink.onPreContingencyResult(preContingencyResult);
             return SecurityAnalysisResultBuilder.this;
         }
     }
@@ -275,7 +296,7 @@ public class SecurityAnalysisResultBuilder {
             PostContingencyResult res = new PostContingencyResult(contingency, status, filteredViolations,
                     branchResults, busResults, threeWindingsTransformerResults, connectivityResult);
             interceptors.forEach(i -> i.onPostContingencyResult(res, resultContext));
-            addPostContingencyResult(res);
+            sink.onPostContingencyResult(res);
 
             return SecurityAnalysisResultBuilder.this;
         }
@@ -306,7 +327,7 @@ public class SecurityAnalysisResultBuilder {
         public SecurityAnalysisResultBuilder endOperatorStrategy() {
             OperatorStrategyResult res = new OperatorStrategyResult(strategy, conditionalActionsResult);
             //TODO: call to interceptors
-            operatorStrategyResults.add(res);
+            sink.onOperatorStrategyResult(res);
             return SecurityAnalysisResultBuilder.this;
         }
 
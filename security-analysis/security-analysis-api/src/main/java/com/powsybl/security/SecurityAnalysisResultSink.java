@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security;
+
+import com.powsybl.security.results.OperatorStrategyResult;
+import com.powsybl.security.results.PostContingencyResult;
+import com.powsybl.security.results.PreContingencyResult;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Consumer of the results of a security analysis, notified by the {@link SecurityAnalysisResultBuilder} as soon as
+ * the result of a situation is complete.
+ * <p>
+ * The default implementation, {@link InMemorySecurityAnalysisResultSink}, keeps all the results in memory so that
+ * they are part of the final {@link SecurityAnalysisResult}. Other implementations may stream them to a file or a
+ * database, so that the memory used by the analysis does not depend on the number of contingencies: in that case the
+ * final {@link SecurityAnalysisResult} only contains the results returned by {@link #getPostContingencyResults()} and
+ * {@link #getOperatorStrategyResults()}.
+ * <p>
+ * Post-contingency and operator strategy results may be handed to the sink concurrently by several threads.
+ *
+ * @author Elia Group
+ */
+public interface SecurityAnalysisResultSink {
+
+    default void onPreContingencyResult(PreContingencyResult result) {
+        // nothing by default
+    }
+
+    void onPostContingencyResult(PostContingencyResult result);
+
+    void onOperatorStrategyResult(OperatorStrategyResult result);
+
+    /**
+     * Called with the metadata of the analysed network when the final result is built, before the sink is ended.
+     */
+    default void onNetworkMetadata(NetworkMetadata networkMetadata) {
+        // nothing by default
+    }
+
+    /**
+     * Called once all the results have been handed to the sink, before the final result is built, or once the
+     * analysis has failed. See {@link SecurityAnalysisResultBuilder#endSink()}.
+     */
+    default void end() {
+        // nothing by default
+    }
+
+    /**
+     * Post-contingency results kept by the sink, to be included in the final {@link SecurityAnalysisResult}.
+     */
+    default List<PostContingencyResult> getPostContingencyResults() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Operator strategy results kept by the sink, to be included in the final {@link SecurityAnalysisResult}.
+     */
+    default List<OperatorStrategyResult> getOperatorStrategyResults() {
+        return Collections.emptyList();
+    }
+}
@@ -24,6 +24,7 @@ public class SecurityAnalysisRunParameters extends AbstractSecurityAnalysisRunPa
 
     private SecurityAnalysisParameters securityAnalysisParameters;
     private List<LimitReduction> limitReductions = new ArrayList<>();
+    private SecurityAnalysisResultSink resultSink;
 
     /**
      * Returns a {@link SecurityAnalysisRunParameters} instance with default value on each field.
@@ -51,6 +52,13 @@ public class SecurityAnalysisRunParameters extends AbstractSecurityAnalysisRunPa
         return limitReductions;
     }
 
+    /**
+     * Sink to which the results are handed as soon as they are complete, null if results are kept in memory.
+     */
+    public SecurityAnalysisResultSink getResultSink() {
+        return resultSink;
+    }
+
     /**
      * Sets the security analysis parameters, see {@link SecurityAnalysisParameters}.
      */
@@ -69,6 +77,16 @@ public class SecurityAnalysisRunParameters extends AbstractSecurityAnalysisRunPa
         return self();
     }
 
+    /**
+     * Sets the sink to which the results are handed as soon as they are complete, see {@link SecurityAnalysisResultSink}.
+     * By default, results are kept in memory.
+     */
+    public SecurityAnalysisRunParameters setResultSink(SecurityAnalysisResultSink resultSink) {
+        Objects.requireNonNull(resultSink, "Result sink should not be null");
+        this.resultSink = resultSink;
+        return self();
+    }
+
     public SecurityAnalysisRunParameters addLimitReduction(LimitReduction limitReduction) {
         Objects.requireNonNull(limitReduction, "LimitReduction should not be null");
         limitReductions.add(limitReduction);
@@ -0,0 +1,527 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security.binary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.action.json.ActionJsonModule;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.ThreeSides;
+import com.powsybl.loadflow.LoadFlowResult;
+import com.powsybl.security.*;
+import com.powsybl.security.json.SecurityAnalysisJsonModule;
+import com.powsybl.security.results.*;
+import com.powsybl.security.strategy.OperatorStrategy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+import static com.powsybl.security.binary.BinarySecurityAnalysisResultWriter.*;
+
+/**
+ * Reads a security analysis result written by {@link BinarySecurityAnalysisResultWriter}.
+ * <p>
+ * The file is memory-mapped once when the reader is created, and only the dictionary and the indexes are decoded. The
+ * block of a situation is decoded only when its result is requested, so that the result of one contingency, or the
+ * violations of one element, can be read without decoding the rest of the file. The blocks are mapped in segments of
+ * at most 2 GB, split at block boundaries, so that bigger files can be read as well.
+ *
+ * @author Elia Group
+ */
+public class BinarySecurityAnalysisResultReader implements Closeable {
+
+    private static final int MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+
+    private record BlockIndex(long offset, int length) {
+    }
+
+    private final FileChannel channel;
+    private final ObjectMapper objectMapper;
+
+    private final long[] segmentOffsets;
+    private final ByteBuffer[] segments;
+
+    private final String[] strings;
+    private final BlockIndex preContingencyBlock;
+    private final List<String> contingencyIds = new ArrayList<>();
+    private final List<BlockIndex> contingencyBlocks = new ArrayList<>();
+    private final Map<String, Integer> contingencySituations = new HashMap<>();
+    private final List<String> operatorStrategyIds = new ArrayList<>();
+    private final List<BlockIndex> operatorStrategyBlocks = new ArrayList<>();
+    private final Map<String, Integer> operatorStrategySituations = new HashMap<>();
+    private final Map<String, int[]> contingencySituationsBySubject = new HashMap<>();
+    private final Map<String, int[]> operatorStrategySituationsBySubject = new HashMap<>();
+    private final NetworkMetadata networkMetadata;
+
+    public BinarySecurityAnalysisResultReader(Path file) {
+        this(file, MAX_SEGMENT_SIZE);
+    }
+
+    BinarySecurityAnalysisResultReader(Path file, int maxSegmentSize) {
+        Objects.requireNonNull(file);
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            long size = channel.size();
+            int headerSize = MAGIC.length + Integer.BYTES;
+            if (size < headerSize + FOOTER_SIZE) {
+                throw new PowsyblException("Invalid binary security analysis result file: too small");
+            }
+            ByteBuffer header = read(0, headerSize);
+            checkMagic(header);
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new PowsyblException("Unsupported binary security analysis result version: " + version);
+            }
+
+            ByteBuffer footer = read(size - FOOTER_SIZE, FOOTER_SIZE);
+            long dictionaryOffset = footer.getLong();
+            long preContingencyOffset = footer.getLong();
+            int preContingencyLength = (int) footer.getLong();
+            checkMagic(footer);
+            preContingencyBlock = preContingencyOffset != -1 ? new BlockIndex(preContingencyOffset, preContingencyLength) : null;
+
+            ByteBuffer trailer = read(dictionaryOffset, (int) (size - FOOTER_SIZE - dictionaryOffset));
+            strings = new String[trailer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[trailer.getInt()];
+                trailer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            readBlockIndexes(trailer, contingencyIds, contingencyBlocks, contingencySituations);
+            readBlockIndexes(trailer, operatorStrategyIds, operatorStrategyBlocks, operatorStrategySituations);
+            readSituationsBySubject(trailer, contingencySituationsBySubject);
+            readSituationsBySubject(trailer, operatorStrategySituationsBySubject);
+            networkMetadata = readNetworkMetadata(trailer);
+
+            List<Long> offsets = new ArrayList<>();
+            List<ByteBuffer> buffers = new ArrayList<>();
+            mapSegments(headerSize, dictionaryOffset, maxSegmentSize, offsets, buffers);
+            segmentOffsets = offsets.stream().mapToLong(Long::longValue).toArray();
+            segments = buffers.toArray(new ByteBuffer[0]);
+        } catch (IOException e) {
+            closeQuietly();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            closeQuietly();
+            throw e;
+        }
+        objectMapper = JsonUtil.createObjectMapper()
+                .registerModule(new SecurityAnalysisJsonModule())
+                .registerModule(new ActionJsonModule());
+    }
+
+    private void closeQuietly() {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // already failing
+        }
+    }
+
+    private ByteBuffer read(long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new PowsyblException("Invalid binary security analysis result file: unexpected end of file");
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Map the blocks, from the end of the header to the dictionary, in as few segments as possible. A new segment is
+     * started at a block which does not fit in the current one.
+     */
+    private void mapSegments(long blocksOffset, long blocksEnd, int maxSegmentSize, List<Long> offsets, List<ByteBuffer> buffers) throws IOException {
+        List<BlockIndex> blocks = new ArrayList<>(contingencyBlocks.size() + operatorStrategyBlocks.size() + 1);
+        if (preContingencyBlock != null) {
+            blocks.add(preContingencyBlock);
+        }
+        blocks.addAll(contingencyBlocks);
+        blocks.addAll(operatorStrategyBlocks);
+        blocks.sort(Comparator.comparingLong(BlockIndex::offset));
+        long segmentOffset = blocksOffset;
+        for (BlockIndex block : blocks) {
+            if (block.offset() > segmentOffset && block.offset() + block.length() - segmentOffset > maxSegmentSize) {
+                offsets.add(segmentOffset);
+                buffers.add(channel.map(FileChannel.MapMode.READ_ONLY, segmentOffset, block.offset() - segmentOffset));
+                segmentOffset = block.offset();
+            }
+        }
+        offsets.add(segmentOffset);
+        buffers.add(channel.map(FileChannel.MapMode.READ_ONLY, segmentOffset, blocksEnd - segmentOffset));
+    }
+
+    private void readBlockIndexes(ByteBuffer buffer, List<String> ids, List<BlockIndex> blocks, Map<String, Integer> situations) {
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            String id = strings[buffer.getInt()];
+            ids.add(id);
+            blocks.add(new BlockIndex(buffer.getLong(), buffer.getInt()));
+            situations.put(id, i);
+        }
+    }
+
+    private void readSituationsBySubject(ByteBuffer buffer, Map<String, int[]> situationsBySubject) {
+        int subjectCount = buffer.getInt();
+        for (int i = 0; i < subjectCount; i++) {
+            String subjectId = strings[buffer.getInt()];
+            int[] situations = new int[buffer.getInt()];
+            for (int j = 0; j < situations.length; j++) {
+                situations[j] = buffer.getInt();
+            }
+            situationsBySubject.put(subjectId, situations);
+        }
+    }
+
+    private static void checkMagic(ByteBuffer buffer) {
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new PowsyblException("Invalid binary security analysis result file: wrong magic number");
+        }
+    }
+
+    private NetworkMetadata readNetworkMetadata(ByteBuffer buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        String id = strings[buffer.getInt()];
+        String sourceFormat = strings[buffer.getInt()];
+        ZonedDateTime caseDate = ZonedDateTime.parse(strings[buffer.getInt()]);
+        int forecastDistance = buffer.getInt();
+        return new NetworkMetadata(id, sourceFormat, caseDate, forecastDistance);
+    }
+
+    /**
+     * A view of the block in the mapping, with its own position.
+     */
+    private ByteBuffer getBlock(BlockIndex block) {
+        int segment = Arrays.binarySearch(segmentOffsets, block.offset());
+        if (segment < 0) {
+            segment = -segment - 2;
+        }
+        return segments[segment].slice((int) (block.offset() - segmentOffsets[segment]), block.length());
+    }
+
+    int getSegmentCount() {
+        return segments.length;
+    }
+
+    public NetworkMetadata getNetworkMetadata() {
+        return networkMetadata;
+    }
+
+    /**
+     * Ids of the contingencies, in the order their results have been written.
+     */
+    public List<String> getContingencyIds() {
+        return Collections.unmodifiableList(contingencyIds);
+    }
+
+    /**
+     * Ids of the operator strategies, in the order their results have been written.
+     */
+    public List<String> getOperatorStrategyIds() {
+        return Collections.unmodifiableList(operatorStrategyIds);
+    }
+
+    public PreContingencyResult getPreContingencyResult() {
+        if (preContingencyBlock == null) {
+            return new PreContingencyResult();
+        }
+        ByteBuffer buffer = getBlock(preContingencyBlock);
+        LoadFlowResult.ComponentResult.Status status = LoadFlowResult.ComponentResult.Status.valueOf(strings[buffer.getInt()]);
+        LimitViolationsResult limitViolationsResult = readLimitViolationsResult(buffer);
+        NetworkResult networkResult = readNetworkResult(buffer);
+        return new PreContingencyResult(status, limitViolationsResult, networkResult);
+    }
+
+    /**
+     * Result of the given contingency, or empty if no result has been written for it.
+     */
+    public Optional<PostContingencyResult> getPostContingencyResult(String contingencyId) {
+        Objects.requireNonNull(contingencyId);
+        Integer situation = contingencySituations.get(contingencyId);
+        return situation == null ? Optional.empty() : Optional.of(readPostContingencyResult(contingencyBlocks.get(situation)));
+    }
+
+    public List<PostContingencyResult> getPostContingencyResults() {
+        return contingencyBlocks.stream().map(this::readPostContingencyResult).toList();
+    }
+
+    /**
+     * Result of the given operator strategy, or empty if no result has been written for it.
+     */
+    public Optional<OperatorStrategyResult> getOperatorStrategyResult(String operatorStrategyId) {
+        Objects.requireNonNull(operatorStrategyId);
+        Integer situation = operatorStrategySituations.get(operatorStrategyId);
+        return situation == null ? Optional.empty() : Optional.of(readOperatorStrategyResult(operatorStrategyBlocks.get(situation)));
+    }
+
+    public List<OperatorStrategyResult> getOperatorStrategyResults() {
+        return operatorStrategyBlocks.stream().map(this::readOperatorStrategyResult).toList();
+    }
+
+    /**
+     * Limit violations of the given element after each contingency, indexed by contingency id. Only the blocks of the
+     * contingencies in which the element has a violation are read, and their network results are not decoded.
+     */
+    public Map<String, List<LimitViolation>> getPostContingencyLimitViolations(String subjectId) {
+        Objects.requireNonNull(subjectId);
+        Map<String, List<LimitViolation>> violationsByContingency = new LinkedHashMap<>();
+        for (int situation : contingencySituationsBySubject.getOrDefault(subjectId, new int[0])) {
+            if (situation != PRE_CONTINGENCY_SITUATION) {
+                ByteBuffer buffer = getBlock(contingencyBlocks.get(situation));
+                skipJson(buffer);
+                skipStatusAndConnectivityResult(buffer);
+                violationsByContingency.put(contingencyIds.get(situation), readLimitViolations(buffer, subjectId));
+            }
+        }
+        return violationsByContingency;
+    }
+
+    /**
+     * Limit violations of the given element after each operator strategy, indexed by operator strategy id, the
+     * violations of all the conditional actions of a strategy being listed in order. Only the blocks of the operator
+     * strategies in which the element has a violation are read, and their network results are not decoded.
+     */
+    public Map<String, List<LimitViolation>> getOperatorStrategyLimitViolations(String subjectId) {
+        Objects.requireNonNull(subjectId);
+        Map<String, List<LimitViolation>> violationsByOperatorStrategy = new LinkedHashMap<>();
+        for (int situation : operatorStrategySituationsBySubject.getOrDefault(subjectId, new int[0])) {
+            ByteBuffer buffer = getBlock(operatorStrategyBlocks.get(situation));
+            skipJson(buffer);
+            int count = buffer.getInt();
+            List<LimitViolation> violations = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                // conditional actions id and status
+                buffer.position(buffer.position() + 2 * Integer.BYTES);
+                violations.addAll(readLimitViolations(buffer, subjectId));
+                skipNetworkResult(buffer);
+            }
+            violationsByOperatorStrategy.put(operatorStrategyIds.get(situation), violations);
+        }
+        return violationsByOperatorStrategy;
+    }
+
+    private List<LimitViolation> readLimitViolations(ByteBuffer buffer, String subjectId) {
+        return readLimitViolationsResult(buffer).getLimitViolations().stream()
+                .filter(v -> v.getSubjectId().equals(subjectId))
+                .toList();
+    }
+
+    /**
+     * Read the whole result.
+     */
+    public SecurityAnalysisResult read() {
+        SecurityAnalysisResult result = new SecurityAnalysisResult(getPreContingencyResult(), getPostContingencyResults(), getOperatorStrategyResults());
+        result.setNetworkMetadata(networkMetadata);
+        return result;
+    }
+
+    private PostContingencyResult readPostContingencyResult(BlockIndex block) {
+        ByteBuffer buffer = getBlock(block);
+        Contingency contingency = readJson(buffer, Contingency.class);
+        PostContingencyComputationStatus status = PostContingencyComputationStatus.valueOf(strings[buffer.getInt()]);
+        ConnectivityResult connectivityResult = readConnectivityResult(buffer);
+        LimitViolationsResult limitViolationsResult = readLimitViolationsResult(buffer);
+        NetworkResult networkResult = readNetworkResult(buffer);
+        return new PostContingencyResult(contingency, status, limitViolationsResult, networkResult, connectivityResult);
+    }
+
+    private OperatorStrategyResult readOperatorStrategyResult(BlockIndex block) {
+        ByteBuffer buffer = getBlock(block);
+        OperatorStrategy operatorStrategy = readJson(buffer, OperatorStrategy.class);
+        int count = buffer.getInt();
+        List<OperatorStrategyResult.ConditionalActionsResult> conditionalActionsResults = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String conditionalActionsId = readString(buffer);
+            PostContingencyComputationStatus status = PostContingencyComputationStatus.valueOf(strings[buffer.getInt()]);
+            LimitViolationsResult limitViolationsResult = readLimitViolationsResult(buffer);
+            NetworkResult networkResult = readNetworkResult(buffer);
+            conditionalActionsResults.add(new OperatorStrategyResult.ConditionalActionsResult(conditionalActionsId, status, limitViolationsResult, networkResult));
+        }
+        return new OperatorStrategyResult(operatorStrategy, conditionalActionsResults);
+    }
+
+    private <T> T readJson(ByteBuffer buffer, Class<T> clazz) {
+        byte[] json = new byte[buffer.getInt()];
+        buffer.get(json);
+        try {
+            return objectMapper.readValue(json, clazz);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void skipJson(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        buffer.position(buffer.position() + length);
+    }
+
+    private String readString(ByteBuffer buffer) {
+        int index = buffer.getInt();
+        return index == NO_STRING ? null : strings[index];
+    }
+
+    private List<String> readStrings(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(strings[buffer.getInt()]);
+        }
+        return values;
+    }
+
+    private int[] readInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        return values;
+    }
+
+    private double[] readDoubles(ByteBuffer buffer, int count) {
+        double[] values = new double[count];
+        buffer.asDoubleBuffer().get(values);
+        buffer.position(buffer.position() + count * Double.BYTES);
+        return values;
+    }
+
+    private ConnectivityResult readConnectivityResult(ByteBuffer buffer) {
+        int createdSynchronousComponentCount = buffer.getInt();
+        int createdConnectedComponentCount = buffer.getInt();
+        double disconnectedLoadActivePower = buffer.getDouble();
+        double disconnectedGenerationActivePower = buffer.getDouble();
+        Set<String> disconnectedElements = new LinkedHashSet<>(readStrings(buffer));
+        return new ConnectivityResult(createdSynchronousComponentCount, createdConnectedComponentCount,
+                disconnectedLoadActivePower, disconnectedGenerationActivePower, disconnectedElements);
+    }
+
+    private static void skipStatusAndConnectivityResult(ByteBuffer buffer) {
+        buffer.position(buffer.position() + 3 * Integer.BYTES + 2 * Double.BYTES);
+        int disconnectedElementCount = buffer.getInt();
+        buffer.position(buffer.position() + disconnectedElementCount * Integer.BYTES);
+    }
+
+    private LimitViolationsResult readLimitViolationsResult(ByteBuffer buffer) {
+        boolean computationOk = buffer.get() != 0;
+        List<String> actionsTaken = readStrings(buffer);
+        int count = buffer.getInt();
+        int[] subjectIds = readInts(buffer, count);
+        int[] subjectNames = readInts(buffer, count);
+        int[] limitTypes = readInts(buffer, count);
+        int[] limitNames = readInts(buffer, count);
+        int[] acceptableDurations = readInts(buffer, count);
+        double[] limits = readDoubles(buffer, count);
+        double[] limitReductions = readDoubles(buffer, count);
+        double[] values = readDoubles(buffer, count);
+        int[] sides = readInts(buffer, count);
+        List<LimitViolation> violations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ViolationLocation location = readViolationLocation(buffer);
+            violations.add(new LimitViolation(strings[subjectIds[i]],
+                    subjectNames[i] == NO_STRING ? null : strings[subjectNames[i]],
+                    LimitViolationType.valueOf(strings[limitTypes[i]]),
+                    limitNames[i] == NO_STRING ? null : strings[limitNames[i]],
+                    acceptableDurations[i], limits[i], limitReductions[i], values[i],
+                    sides[i] == NO_STRING ? null : ThreeSides.valueOf(strings[sides[i]]),
+                    location));
+        }
+        return new LimitViolationsResult(computationOk, violations, actionsTaken);
+    }
+
+    private ViolationLocation readViolationLocation(ByteBuffer buffer) {
+        byte type = buffer.get();
+        return switch (type) {
+            case NO_LOCATION -> null;
+            case BUS_BREAKER_LOCATION -> new BusBreakerViolationLocation(readStrings(buffer));
+            case NODE_BREAKER_LOCATION -> {
+                String voltageLevelId = strings[buffer.getInt()];
+                int[] nodes = readInts(buffer, buffer.getInt());
+                yield new NodeBreakerViolationLocation(voltageLevelId, Arrays.stream(nodes).boxed().toList());
+            }
+            default -> throw new PowsyblException("Unexpected violation location type: " + type);
+        };
+    }
+
+    private NetworkResult readNetworkResult(ByteBuffer buffer) {
+        int branchCount = buffer.getInt();
+        int[] branchIds = readInts(buffer, branchCount);
+        double[] p1 = readDoubles(buffer, branchCount);
+        double[] q1 = readDoubles(buffer, branchCount);
+        double[] i1 = readDoubles(buffer, branchCount);
+        double[] p2 = readDoubles(buffer, branchCount);
+        double[] q2 = readDoubles(buffer, branchCount);
+        double[] i2 = readDoubles(buffer, branchCount);
+        double[] flowTransfers = readDoubles(buffer, branchCount);
+        List<BranchResult> branchResults = new ArrayList<>(branchCount);
+        for (int i = 0; i < branchCount; i++) {
+            branchResults.add(new BranchResult(strings[branchIds[i]], p1[i], q1[i], i1[i], p2[i], q2[i], i2[i], flowTransfers[i]));
+        }
+
+        int busCount = buffer.getInt();
+        int[] voltageLevelIds = readInts(buffer, busCount);
+        int[] busIds = readInts(buffer, busCount);
+        double[] v = readDoubles(buffer, busCount);
+        double[] angle = readDoubles(buffer, busCount);
+        List<BusResult> busResults = new ArrayList<>(busCount);
+        for (int i = 0; i < busCount; i++) {
+            busResults.add(new BusResult(strings[voltageLevelIds[i]], strings[busIds[i]], v[i], angle[i]));
+        }
+
+        int t3wCount = buffer.getInt();
+        int[] t3wIds = readInts(buffer, t3wCount);
+        double[] t3wP1 = readDoubles(buffer, t3wCount);
+        double[] t3wQ1 = readDoubles(buffer, t3wCount);
+        double[] t3wI1 = readDoubles(buffer, t3wCount);
+        double[] t3wP2 = readDoubles(buffer, t3wCount);
+        double[] t3wQ2 = readDoubles(buffer, t3wCount);
+        double[] t3wI2 = readDoubles(buffer, t3wCount);
+        double[] t3wP3 = readDoubles(buffer, t3wCount);
+        double[] t3wQ3 = readDoubles(buffer, t3wCount);
+        double[] t3wI3 = readDoubles(buffer, t3wCount);
+        List<ThreeWindingsTransformerResult> t3wResults = new ArrayList<>(t3wCount);
+        for (int i = 0; i < t3wCount; i++) {
+            t3wResults.add(new ThreeWindingsTransformerResult(strings[t3wIds[i]], t3wP1[i], t3wQ1[i], t3wI1[i],
+                    t3wP2[i], t3wQ2[i], t3wI2[i], t3wP3[i], t3wQ3[i], t3wI3[i]));
+        }
+        return new NetworkResult(branchResults, busResults, t3wResults);
+    }
+
+    private static void skipNetworkResult(ByteBuffer buffer) {
+        int branchCount = buffer.getInt();
+        buffer.position(buffer.position() + branchCount * (Integer.BYTES + 7 * Double.BYTES));
+        int busCount = buffer.getInt();
+        buffer.position(buffer.position() + busCount * (2 * Integer.BYTES + 2 * Double.BYTES));
+        int t3wCount = buffer.getInt();
+        buffer.position(buffer.position() + t3wCount * (Integer.BYTES + 9 * Double.BYTES));
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,453 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security.binary;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.CountingOutputStream;
+import com.powsybl.action.json.ActionJsonModule;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.security.*;
+import com.powsybl.security.json.SecurityAnalysisJsonModule;
+import com.powsybl.security.results.*;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes a security analysis result in a compact binary format allowing random access to the result of one
+ * contingency, see {@link BinarySecurityAnalysisResultReader}.
+ * <p>
+ * The file starts with a header, followed by one block per situation (pre-contingency, contingency or operator
+ * strategy), written as soon as its result is available. Inside a block, results are stored by columns: all the
+ * element ids first, then one array per value. Strings are replaced by their index in a dictionary written after the
+ * blocks, followed by the index of the blocks by contingency and operator strategy, the lists of contingencies and of
+ * operator strategies in which each element has a limit violation, the network metadata, and finally a fixed size
+ * footer. Contingency ids, as well as operator strategy ids, have to be unique.
+ * <p>
+ * Contingencies and operator strategies definitions are stored in JSON inside their block. Extensions of the results
+ * are not written.
+ * <p>
+ * This writer is a {@link SecurityAnalysisResultSink}, so that results can be written while the analysis is running.
+ * Results handed concurrently are serialized in parallel, only the append of their block to the output is
+ * synchronized. The file is complete once {@link #end()} has been called. The output stream is not closed by the writer.
+ *
+ * @author Elia Group
+ */
+public class BinarySecurityAnalysisResultWriter implements SecurityAnalysisResultSink {
+
+    static final byte[] MAGIC = {'P', 'S', 'A', 'R'};
+    static final int VERSION = 1;
+    static final int FOOTER_SIZE = 3 * Long.BYTES + MAGIC.length;
+    static final int NO_STRING = -1;
+    static final int PRE_CONTINGENCY_SITUATION = -1;
+    static final byte NO_LOCATION = 0;
+    static final byte BUS_BREAKER_LOCATION = 1;
+    static final byte NODE_BREAKER_LOCATION = 2;
+
+    private record BlockIndex(int idIndex, long offset, int length) {
+    }
+
+    /**
+     * A block serialized outside the lock, with the subjects of the limit violations it contains.
+     */
+    private static final class Block {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private final Set<Integer> subjectIndexes = new LinkedHashSet<>();
+    }
+
+    private interface BlockContentWriter {
+        void write(Block block) throws IOException;
+    }
+
+    private final CountingOutputStream countingOutputStream;
+    private final DataOutputStream out;
+    private final ObjectMapper objectMapper;
+
+    // the dictionary is filled concurrently while serializing blocks, indexes are given in order of insertion
+    private final Map<String, Integer> stringIndexes = new ConcurrentHashMap<>();
+    private final AtomicInteger stringCount = new AtomicInteger();
+
+    // below fields are guarded by the writer monitor
+    private long preContingencyOffset = -1;
+    private int preContingencyLength = 0;
+    private final List<BlockIndex> contingencyBlocks = new ArrayList<>();
+    private final Set<Integer> contingencyIdIndexes = new HashSet<>();
+    private final List<BlockIndex> operatorStrategyBlocks = new ArrayList<>();
+    private final Set<Integer> operatorStrategyIdIndexes = new HashSet<>();
+    private final Map<Integer, List<Integer>> contingencySituationsBySubject = new LinkedHashMap<>();
+    private final Map<Integer, List<Integer>> operatorStrategySituationsBySubject = new LinkedHashMap<>();
+    private NetworkMetadata networkMetadata;
+    private boolean ended = false;
+
+    public BinarySecurityAnalysisResultWriter(OutputStream os) {
+        this.countingOutputStream = new CountingOutputStream(new BufferedOutputStream(Objects.requireNonNull(os)));
+        this.out = new DataOutputStream(countingOutputStream);
+        this.objectMapper = JsonUtil.createObjectMapper()
+                .registerModule(new SecurityAnalysisJsonModule())
+                .registerModule(new ActionJsonModule());
+        try {
+            out.write(MAGIC);
+            out.writeInt(VERSION);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void write(SecurityAnalysisResult result, Path file) {
+        Objects.requireNonNull(result);
+        try (OutputStream os = Files.newOutputStream(file)) {
+            write(result, os);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void write(SecurityAnalysisResult result, OutputStream os) {
+        Objects.requireNonNull(result);
+        BinarySecurityAnalysisResultWriter writer = new BinarySecurityAnalysisResultWriter(os);
+        if (result.getNetworkMetadata() != null) {
+            writer.onNetworkMetadata(result.getNetworkMetadata());
+        }
+        writer.onPreContingencyResult(result.getPreContingencyResult());
+        result.getPostContingencyResults().forEach(writer::onPostContingencyResult);
+        result.getOperatorStrategyResults().forEach(writer::onOperatorStrategyResult);
+        writer.end();
+    }
+
+    @Override
+    public synchronized void onNetworkMetadata(NetworkMetadata networkMetadata) {
+        this.networkMetadata = Objects.requireNonNull(networkMetadata);
+    }
+
+    private int stringIndex(String s) {
+        if (s == null) {
+            return NO_STRING;
+        }
+        return stringIndexes.computeIfAbsent(s, k -> stringCount.getAndIncrement());
+    }
+
+    private void checkNotEnded() {
+        if (ended) {
+            throw new PowsyblException("Binary security analysis result has already been ended");
+        }
+    }
+
+    @Override
+    public void onPreContingencyResult(PreContingencyResult result) {
+        Objects.requireNonNull(result);
+        Block block = writeBlock(b -> {
+            b.out.writeInt(stringIndex(result.getStatus().name()));
+            writeLimitViolationsResult(b, result.getLimitViolationsResult());
+            writeNetworkResult(b.out, result.getNetworkResult());
+        });
+        appendPreContingencyBlock(block);
+    }
+
+    private synchronized void appendPreContingencyBlock(Block block) {
+        checkNotEnded();
+        if (preContingencyOffset != -1) {
+            throw new PowsyblException("Pre-contingency result has already been written");
+        }
+        preContingencyOffset = appendBlock(block);
+        preContingencyLength = block.bytes.size();
+        indexSubjects(contingencySituationsBySubject, block, PRE_CONTINGENCY_SITUATION);
+    }
+
+    @Override
+    public void onPostContingencyResult(PostContingencyResult result) {
+        Objects.requireNonNull(result);
+        Block block = writeBlock(b -> {
+            writeJson(b.out, result.getContingency());
+            b.out.writeInt(stringIndex(result.getStatus().name()));
+            ConnectivityResult connectivityResult = result.getConnectivityResult();
+            b.out.writeInt(connectivityResult.getCreatedSynchronousComponentCount());
+            b.out.writeInt(connectivityResult.getCreatedConnectedComponentCount());
+            b.out.writeDouble(connectivityResult.getDisconnectedLoadActivePower());
+            b.out.writeDouble(connectivityResult.getDisconnectedGenerationActivePower());
+            writeStrings(b.out, connectivityResult.getDisconnectedElements());
+            writeLimitViolationsResult(b, result.getLimitViolationsResult());
+            writeNetworkResult(b.out, result.getNetworkResult());
+        });
+        appendBlock(block, result.getContingency().getId(), contingencyIdIndexes, contingencyBlocks, contingencySituationsBySubject, "contingency");
+    }
+
+    @Override
+    public void onOperatorStrategyResult(OperatorStrategyResult result) {
+        Objects.requireNonNull(result);
+        Block block = writeBlock(b -> {
+            writeJson(b.out, result.getOperatorStrategy());
+            b.out.writeInt(result.getConditionalActionsResults().size());
+            for (OperatorStrategyResult.ConditionalActionsResult conditionalActionsResult : result.getConditionalActionsResults()) {
+                b.out.writeInt(stringIndex(conditionalActionsResult.getConditionalActionsId()));
+                b.out.writeInt(stringIndex(conditionalActionsResult.getStatus().name()));
+                writeLimitViolationsResult(b, conditionalActionsResult.getLimitViolationsResult());
+                writeNetworkResult(b.out, conditionalActionsResult.getNetworkResult());
+            }
+        });
+        appendBlock(block, result.getOperatorStrategy().getId(), operatorStrategyIdIndexes, operatorStrategyBlocks, operatorStrategySituationsBySubject, "operator strategy");
+    }
+
+    /**
+     * Append the block of a contingency or an operator strategy, its situation being its index in the list of blocks.
+     */
+    private synchronized void appendBlock(Block block, String id, Set<Integer> idIndexes, List<BlockIndex> blocks,
+                                          Map<Integer, List<Integer>> situationsBySubject, String type) {
+        checkNotEnded();
+        int idIndex = stringIndex(id);
+        if (!idIndexes.add(idIndex)) {
+            throw new PowsyblException("Result of " + type + " '" + id + "' has already been written");
+        }
+        int situation = blocks.size();
+        long offset = appendBlock(block);
+        blocks.add(new BlockIndex(idIndex, offset, block.bytes.size()));
+        indexSubjects(situationsBySubject, block, situation);
+    }
+
+    @Override
+    public synchronized void end() {
+        checkNotEnded();
+        try {
+            int[] networkMetadataStrings = networkMetadata == null ? null : new int[] {
+                stringIndex(networkMetadata.getId()),
+                stringIndex(networkMetadata.getSourceFormat()),
+                stringIndex(networkMetadata.getCaseDate().toString())
+            };
+            String[] strings = new String[stringIndexes.size()];
+            stringIndexes.forEach((s, index) -> strings[index] = s);
+            long dictionaryOffset = countingOutputStream.getCount();
+            out.writeInt(strings.length);
+            for (String s : strings) {
+                byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            writeBlockIndexes(contingencyBlocks);
+            writeBlockIndexes(operatorStrategyBlocks);
+            writeSituationsBySubject(contingencySituationsBySubject);
+            writeSituationsBySubject(operatorStrategySituationsBySubject);
+            out.writeBoolean(networkMetadataStrings != null);
+            if (networkMetadataStrings != null) {
+                for (int index : networkMetadataStrings) {
+                    out.writeInt(index);
+                }
+                out.writeInt(networkMetadata.getForecastDistance());
+            }
+            out.writeLong(dictionaryOffset);
+            out.writeLong(preContingencyOffset);
+            out.writeLong(preContingencyLength);
+            out.write(MAGIC);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ended = true;
+    }
+
+    private void writeBlockIndexes(List<BlockIndex> blocks) throws IOException {
+        out.writeInt(blocks.size());
+        for (BlockIndex block : blocks) {
+            out.writeInt(block.idIndex());
+            out.writeLong(block.offset());
+            out.writeInt(block.length());
+        }
+    }
+
+    private void writeSituationsBySubject(Map<Integer, List<Integer>> situationsBySubject) throws IOException {
+        out.writeInt(situationsBySubject.size());
+        for (Map.Entry<Integer, List<Integer>> e : situationsBySubject.entrySet()) {
+            out.writeInt(e.getKey());
+            out.writeInt(e.getValue().size());
+            for (int situation : e.getValue()) {
+                out.writeInt(situation);
+            }
+        }
+    }
+
+    private static Block writeBlock(BlockContentWriter contentWriter) {
+        Block block = new Block();
+        try {
+            contentWriter.write(block);
+            block.out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return block;
+    }
+
+    private long appendBlock(Block block) {
+        long offset = countingOutputStream.getCount();
+        try {
+            block.bytes.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return offset;
+    }
+
+    private static void indexSubjects(Map<Integer, List<Integer>> situationsBySubject, Block block, int situation) {
+        for (int subjectIndex : block.subjectIndexes) {
+            situationsBySubject.computeIfAbsent(subjectIndex, k -> new ArrayList<>(1)).add(situation);
+        }
+    }
+
+    private void writeJson(DataOutputStream blockOut, Object value) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(value);
+        blockOut.writeInt(json.length);
+        blockOut.write(json);
+    }
+
+    private void writeStrings(DataOutputStream blockOut, Collection<String> values) throws IOException {
+        blockOut.writeInt(values.size());
+        for (String value : values) {
+            blockOut.writeInt(stringIndex(value));
+        }
+    }
+
+    private void writeLimitViolationsResult(Block block, LimitViolationsResult result) throws IOException {
+        DataOutputStream blockOut = block.out;
+        blockOut.writeBoolean(result.isComputationOk());
+        writeStrings(blockOut, result.getActionsTaken());
+        List<LimitViolation> violations = result.getLimitViolations();
+        blockOut.writeInt(violations.size());
+        for (LimitViolation violation : violations) {
+            int subjectIndex = stringIndex(violation.getSubjectId());
+            blockOut.writeInt(subjectIndex);
+            block.subjectIndexes.add(subjectIndex);
+        }
+        for (LimitViolation violation : violations) {
+            blockOut.writeInt(stringIndex(violation.getSubjectName()));
+        }
+        for (LimitViolation violation : violations) {
+            blockOut.writeInt(stringIndex(violation.getLimitType().name()));
+        }
+        for (LimitViolation violation : violations) {
+            blockOut.writeInt(stringIndex(violation.getLimitName()));
+        }
+        for (LimitViolation violation : violations) {
+            blockOut.writeInt(violation.getAcceptableDuration());
+        }
+        for (LimitViolation violation : violations) {
+            blockOut.writeDouble(violation.getLimit());
+        }
+        for (LimitViolation violation : violations) {
+            blockOut.writeDouble(violation.getLimitReduction());
+        }
+        for (LimitViolation violation : violations) {
+            blockOut.writeDouble(violation.getValue());
+        }
+        for (LimitViolation violation : violations) {
+            blockOut.writeInt(violation.getSide() != null ? stringIndex(violation.getSide().name()) : NO_STRING);
+        }
+        for (LimitViolation violation : violations) {
+            writeViolationLocation(blockOut, violation.getViolationLocation().orElse(null));
+        }
+    }
+
+    private void writeViolationLocation(DataOutputStream blockOut, ViolationLocation location) throws IOException {
+        if (location instanceof BusBreakerViolationLocation busBreakerLocation) {
+            blockOut.writeByte(BUS_BREAKER_LOCATION);
+            writeStrings(blockOut, busBreakerLocation.getBusIds());
+        } else if (location instanceof NodeBreakerViolationLocation nodeBreakerLocation) {
+            blockOut.writeByte(NODE_BREAKER_LOCATION);
+            blockOut.writeInt(stringIndex(nodeBreakerLocation.getVoltageLevelId()));
+            blockOut.writeInt(nodeBreakerLocation.getNodes().size());
+            for (int node : nodeBreakerLocation.getNodes()) {
+                blockOut.writeInt(node);
+            }
+        } else if (location == null) {
+            blockOut.writeByte(NO_LOCATION);
+        } else {
+            throw new PowsyblException("Unsupported violation location type: " + location.getType());
+        }
+    }
+
+    private void writeNetworkResult(DataOutputStream blockOut, NetworkResult result) throws IOException {
+        List<BranchResult> branchResults = result.getBranchResults();
+        blockOut.writeInt(branchResults.size());
+        for (BranchResult r : branchResults) {
+            blockOut.writeInt(stringIndex(r.getBranchId()));
+        }
+        for (BranchResult r : branchResults) {
+            blockOut.writeDouble(r.getP1());
+        }
+        for (BranchResult r : branchResults) {
+            blockOut.writeDouble(r.getQ1());
+        }
+        for (BranchResult r : branchResults) {
+            blockOut.writeDouble(r.getI1());
+        }
+        for (BranchResult r : branchResults) {
+            blockOut.writeDouble(r.getP2());
+        }
+        for (BranchResult r : branchResults) {
+            blockOut.writeDouble(r.getQ2());
+        }
+        for (BranchResult r : branchResults) {
+            blockOut.writeDouble(r.getI2());
+        }
+        for (BranchResult r : branchResults) {
+            blockOut.writeDouble(r.getFlowTransfer());
+        }
+
+        List<BusResult> busResults = result.getBusResults();
+        blockOut.writeInt(busResults.size());
+        for (BusResult r : busResults) {
+            blockOut.writeInt(stringIndex(r.getVoltageLevelId()));
+        }
+        for (BusResult r : busResults) {
+            blockOut.writeInt(stringIndex(r.getBusId()));
+        }
+        for (BusResult r : busResults) {
+            blockOut.writeDouble(r.getV());
+        }
+        for (BusResult r : busResults) {
+            blockOut.writeDouble(r.getAngle());
+        }
+
+        List<ThreeWindingsTransformerResult> t3wResults = result.getThreeWindingsTransformerResults();
+        blockOut.writeInt(t3wResults.size());
+        for (ThreeWindingsTransformerResult r : t3wResults) {
+            blockOut.writeInt(stringIndex(r.getThreeWindingsTransformerId()));
+        }
+        for (ThreeWindingsTransformerResult r : t3wResults) {
+            blockOut.writeDouble(r.getP1());
+        }
+        for (ThreeWindingsTransformerResult r : t3wResults) {
+            blockOut.writeDouble(r.getQ1());
+        }
+        for (ThreeWindingsTransformerResult r : t3wResults) {
+            blockOut.writeDouble(r.getI1());
+        }
+        for (ThreeWindingsTransformerResult r : t3wResults) {
+            blockOut.writeDouble(r.getP2());
+        }
+        for (ThreeWindingsTransformerResult r : t3wResults) {
+            blockOut.writeDouble(r.getQ2());
+        }
+        for (ThreeWindingsTransformerResult r : t3wResults) {
+            blockOut.writeDouble(r.getI2());
+        }
+        for (ThreeWindingsTransformerResult r : t3wResults) {
+            blockOut.writeDouble(r.getP3());
+        }
+        for (ThreeWindingsTransformerResult r : t3wResults) {
+            blockOut.writeDouble(r.getQ3());
+        }
+        for (ThreeWindingsTransformerResult r : t3wResults) {
+            blockOut.writeDouble(r.getI3());
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.powsybl.action.json.ActionJsonModule;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.security.SecurityAnalysisResultSink;
+import com.powsybl.security.results.OperatorStrategyResult;
+import com.powsybl.security.results.PostContingencyResult;
+import com.powsybl.security.results.PreContingencyResult;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Writes each result of a security analysis as a JSON object on its own line, as soon as it is complete.
+ * <p>
+ * The first line holds the version of the format, then each line is an object with a single field, named
+ * {@value #PRE_CONTINGENCY_RESULT}, {@value #POST_CONTINGENCY_RESULT} or {@value #OPERATOR_STRATEGY_RESULT},
+ * whose value is serialized as in a {@link com.powsybl.security.SecurityAnalysisResult} JSON file.
+ * The written lines can be replayed into another sink with {@link #read(Reader, SecurityAnalysisResultSink)}.
+ * <p>
+ * The writer is not closed by the sink.
+ *
+ * @author Elia Group
+ */
+public class JsonLinesSecurityAnalysisResultSink implements SecurityAnalysisResultSink {
+
+    public static final String PRE_CONTINGENCY_RESULT = "preContingencyResult";
+    public static final String POST_CONTINGENCY_RESULT = "postContingencyResult";
+    public static final String OPERATOR_STRATEGY_RESULT = "operatorStrategyResult";
+    private static final String VERSION = "version";
+
+    private final Writer writer;
+
+    private final ObjectWriter objectWriter;
+
+    public JsonLinesSecurityAnalysisResultSink(Writer writer) {
+        this.writer = Objects.requireNonNull(writer);
+        this.objectWriter = createObjectMapper().writer();
+        writeLine(VERSION, SecurityAnalysisResultSerializer.VERSION);
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        return JsonUtil.createObjectMapper()
+                .registerModule(new SecurityAnalysisJsonModule())
+                .registerModule(new ActionJsonModule());
+    }
+
+    private void writeLine(String name, Object value) {
+        String line;
+        try {
+            // serialization is done outside of the lock, only the write to the underlying writer is serialized
+            line = objectWriter.writeValueAsString(Map.of(name, value));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        synchronized (writer) {
+            try {
+                writer.write(line);
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    public void onPreContingencyResult(PreContingencyResult result) {
+        writeLine(PRE_CONTINGENCY_RESULT, Objects.requireNonNull(result));
+    }
+
+    @Override
+    public void onPostContingencyResult(PostContingencyResult result) {
+        writeLine(POST_CONTINGENCY_RESULT, Objects.requireNonNull(result));
+    }
+
+    @Override
+    public void onOperatorStrategyResult(OperatorStrategyResult result) {
+        writeLine(OPERATOR_STRATEGY_RESULT, Objects.requireNonNull(result));
+    }
+
+    @Override
+    public void end() {
+        synchronized (writer) {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Reads results written by a {@link JsonLinesSecurityAnalysisResultSink} one line at a time and hands them to the
+     * given sink, so that only one result is in memory at a time.
+     */
+    public static void read(Reader reader, SecurityAnalysisResultSink sink) {
+        Objects.requireNonNull(reader);
+        Objects.requireNonNull(sink);
+        ObjectMapper objectMapper = createObjectMapper();
+        BufferedReader bufferedReader = reader instanceof BufferedReader br ? br : new BufferedReader(reader);
+        try {
+            String line;
+            while ((line = bufferedReader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    readLine(objectMapper, line, sink);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        sink.end();
+    }
+
+    private static void readLine(ObjectMapper objectMapper, String line, SecurityAnalysisResultSink sink) throws IOException {
+        JsonNode node = objectMapper.readTree(line);
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        if (!fields.hasNext()) {
+            throw new PowsyblException("Unexpected empty line content");
+        }
+        Map.Entry<String, JsonNode> field = fields.next();
+        switch (field.getKey()) {
+            case VERSION -> {
+                String version = field.getValue().asText();
+                if (!SecurityAnalysisResultSerializer.VERSION.equals(version)) {
+                    throw new PowsyblException("Unsupported version: " + version);
+                }
+            }
+            case PRE_CONTINGENCY_RESULT -> sink.onPreContingencyResult(objectMapper.treeToValue(field.getValue(), PreContingencyResult.class));
+            case POST_CONTINGENCY_RESULT -> sink.onPostContingencyResult(objectMapper.treeToValue(field.getValue(), PostContingencyResult.class));
+            case OPERATOR_STRATEGY_RESULT -> sink.onOperatorStrategyResult(objectMapper.treeToValue(field.getValue(), OperatorStrategyResult.class));
+            default -> throw new PowsyblException("Unexpected field: " + field.getKey());
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security.binary;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.contingency.ContingencyContext;
+import com.powsybl.iidm.network.ThreeSides;
+import com.powsybl.loadflow.LoadFlowResult;
+import com.powsybl.security.*;
+import com.powsybl.security.condition.TrueCondition;
+import com.powsybl.security.json.SecurityAnalysisJsonModule;
+import com.powsybl.security.json.SecurityAnalysisResultSerializer;
+import com.powsybl.security.results.*;
+import com.powsybl.security.strategy.OperatorStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Elia Group
+ */
+class BinarySecurityAnalysisResultTest {
+
+    @TempDir
+    Path tmpDir;
+
+    private static SecurityAnalysisResult createResult() {
+        LimitViolation preViolation = new LimitViolation("VL1", "vl1", LimitViolationType.HIGH_VOLTAGE, null, Integer.MAX_VALUE,
+                420, 1, 430, null, new BusBreakerViolationLocation(List.of("B1", "B2")));
+        PreContingencyResult preContingencyResult = new PreContingencyResult(LoadFlowResult.ComponentResult.Status.CONVERGED,
+                new LimitViolationsResult(List.of(preViolation)),
+                new NetworkResult(List.of(new BranchResult("L1", 1, 2, 3, 4, 5, 6)),
+                        List.of(new BusResult("VL1", "B1", 430, 0.1)),
+                        List.of(new ThreeWindingsTransformerResult("T3W", 1, 2, 3, 4, 5, 6, 7, 8, 9))));
+
+        List<PostContingencyResult> postContingencyResults = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            List<LimitViolation> violations = new ArrayList<>();
+            violations.add(new LimitViolation("L" + i, null, LimitViolationType.CURRENT, "20'", 1200, 1000, 0.9, 1100 + i, ThreeSides.ONE));
+            if (i % 2 == 0) {
+                violations.add(new LimitViolation("VL1", null, LimitViolationType.LOW_VOLTAGE, null, Integer.MAX_VALUE,
+                        380, 1, 370 - i, null, new NodeBreakerViolationLocation("VL1", List.of(1, 2, 3))));
+            }
+            postContingencyResults.add(new PostContingencyResult(new Contingency("c" + i),
+                    i == 3 ? PostContingencyComputationStatus.FAILED : PostContingencyComputationStatus.CONVERGED,
+                    new LimitViolationsResult(violations, List.of("action" + i)),
+                    List.of(new BranchResult("L1", i, 2, 3, 4, 5, 6, 0.5), new BranchResult("L2", 1, i, 3, 4, 5, 6, Double.NaN)),
+                    List.of(new BusResult("VL1", "B1", 400 + i, 0.1)),
+                    List.of(),
+                    new ConnectivityResult(1, 2, 10, 20, Set.of("LD" + i))));
+        }
+
+        OperatorStrategy strategy = new OperatorStrategy("strategy", ContingencyContext.specificContingency("c0"), new TrueCondition(), List.of("action0"));
+        OperatorStrategyResult operatorStrategyResult = new OperatorStrategyResult(strategy, PostContingencyComputationStatus.CONVERGED,
+                new LimitViolationsResult(List.of(new LimitViolation("L1", null, LimitViolationType.CURRENT, "20'", 1200, 1000, 0.9, 1050, ThreeSides.TWO))),
+                new NetworkResult(List.of(new BranchResult("L1", 1, 2, 3, 4, 5, 6)), List.of(), List.of()));
+
+        SecurityAnalysisResult result = new SecurityAnalysisResult(preContingencyResult, postContingencyResults, List.of(operatorStrategyResult));
+        result.setNetworkMetadata(new NetworkMetadata("network", "test", ZonedDateTime.parse("2026-01-01T10:00:00.000+01:00"), 0));
+        return result;
+    }
+
+    private static String toJson(SecurityAnalysisResult result) throws IOException {
+        StringWriter writer = new StringWriter();
+        SecurityAnalysisResultSerializer.write(result, writer);
+        return writer.toString();
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        SecurityAnalysisResult result = createResult();
+        Path file = tmpDir.resolve("result.bin");
+        BinarySecurityAnalysisResultWriter.write(result, file);
+
+        try (BinarySecurityAnalysisResultReader reader = new BinarySecurityAnalysisResultReader(file)) {
+            assertEquals(List.of("c0", "c1", "c2", "c3", "c4"), reader.getContingencyIds());
+            assertEquals(List.of("strategy"), reader.getOperatorStrategyIds());
+            assertEquals(toJson(result), toJson(reader.read()));
+        }
+    }
+
+    @Test
+    void testRandomAccess() {
+        Path file = tmpDir.resolve("result.bin");
+        BinarySecurityAnalysisResultWriter.write(createResult(), file);
+
+        try (BinarySecurityAnalysisResultReader reader = new BinarySecurityAnalysisResultReader(file)) {
+            PostContingencyResult c3 = reader.getPostContingencyResult("c3").orElseThrow();
+            assertEquals("c3", c3.getContingency().getId());
+            assertEquals(PostContingencyComputationStatus.FAILED, c3.getStatus());
+            assertEquals(1103, c3.getLimitViolationsResult().getLimitViolations().get(0).getValue());
+            assertEquals(3, c3.getNetworkResult().getBranchResult("L1").getP1());
+            assertEquals(Set.of("LD3"), c3.getConnectivityResult().getDisconnectedElements());
+            assertTrue(reader.getPostContingencyResult("unknown").isEmpty());
+
+            Map<String, List<LimitViolation>> violations = reader.getPostContingencyLimitViolations("VL1");
+            assertEquals(List.of("c0", "c2", "c4"), List.copyOf(violations.keySet()));
+            LimitViolation violation = violations.get("c4").get(0);
+            assertEquals(366, violation.getValue());
+            NodeBreakerViolationLocation location = (NodeBreakerViolationLocation) violation.getViolationLocation().orElseThrow();
+            assertEquals(List.of(1, 2, 3), location.getNodes());
+            violations = reader.getPostContingencyLimitViolations("L1");
+            assertEquals(Set.of("c1"), violations.keySet());
+            assertEquals(1, violations.get("c1").size());
+            violation = violations.get("c1").get(0);
+            assertEquals(LimitViolationType.CURRENT, violation.getLimitType());
+            assertEquals("20'", violation.getLimitName());
+            assertEquals(1200, violation.getAcceptableDuration());
+            assertEquals(0.9, violation.getLimitReduction());
+            assertEquals(ThreeSides.ONE, violation.getSide());
+            assertTrue(reader.getPostContingencyLimitViolations("unknown").isEmpty());
+        }
+    }
+
+    @Test
+    void testOperatorStrategyRandomAccess() {
+        Path file = tmpDir.resolve("result.bin");
+        BinarySecurityAnalysisResultWriter.write(createResult(), file);
+
+        try (BinarySecurityAnalysisResultReader reader = new BinarySecurityAnalysisResultReader(file)) {
+            OperatorStrategyResult strategy = reader.getOperatorStrategyResult("strategy").orElseThrow();
+            assertEquals("c0", strategy.getOperatorStrategy().getContingencyContext().getContingencyId());
+            assertEquals(1, strategy.getNetworkResult().getBranchResult("L1").getP1());
+            assertTrue(reader.getOperatorStrategyResult("unknown").isEmpty());
+
+            Map<String, List<LimitViolation>> violations = reader.getOperatorStrategyLimitViolations("L1");
+            assertEquals(Set.of("strategy"), violations.keySet());
+            assertEquals(1050, violations.get("strategy").get(0).getValue());
+            assertEquals(ThreeSides.TWO, violations.get("strategy").get(0).getSide());
+            assertTrue(reader.getOperatorStrategyLimitViolations("VL1").isEmpty());
+        }
+    }
+
+    @Test
+    void testDuplicateIds() {
+        BinarySecurityAnalysisResultWriter writer = new BinarySecurityAnalysisResultWriter(OutputStream.nullOutputStream());
+        SecurityAnalysisResult result = createResult();
+        writer.onPostContingencyResult(result.getPostContingencyResults().get(0));
+        PostContingencyResult contingencyResult = result.getPostContingencyResults().get(0);
+        PowsyblException e = assertThrows(PowsyblException.class, () -> writer.onPostContingencyResult(contingencyResult));
+        assertEquals("Result of contingency 'c0' has already been written", e.getMessage());
+        writer.onOperatorStrategyResult(result.getOperatorStrategyResults().get(0));
+        OperatorStrategyResult strategyResult = result.getOperatorStrategyResults().get(0);
+        e = assertThrows(PowsyblException.class, () -> writer.onOperatorStrategyResult(strategyResult));
+        assertEquals("Result of operator strategy 'strategy' has already been written", e.getMessage());
+    }
+
+    @Test
+    void testSegments() throws IOException {
+        SecurityAnalysisResult result = createResult();
+        Path file = tmpDir.resolve("result.bin");
+        BinarySecurityAnalysisResultWriter.write(result, file);
+
+        try (BinarySecurityAnalysisResultReader reader = new BinarySecurityAnalysisResultReader(file)) {
+            assertEquals(1, reader.getSegmentCount());
+        }
+        // one segment per block
+        try (BinarySecurityAnalysisResultReader reader = new BinarySecurityAnalysisResultReader(file, 1)) {
+            assertEquals(7, reader.getSegmentCount());
+            assertEquals(toJson(result), toJson(reader.read()));
+            assertEquals(List.of("c0", "c2", "c4"), List.copyOf(reader.getPostContingencyLimitViolations("VL1").keySet()));
+        }
+    }
+
+    @Test
+    void testConcurrentWrites() throws Exception {
+        SecurityAnalysisResult result = createResult();
+        List<PostContingencyResult> postContingencyResults = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            PostContingencyResult r = result.getPostContingencyResults().get(i % 5);
+            postContingencyResults.add(new PostContingencyResult(new Contingency("c" + i), r.getStatus(), r.getLimitViolationsResult(),
+                    r.getNetworkResult(), r.getConnectivityResult()));
+        }
+        Path file = tmpDir.resolve("result.bin");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (OutputStream os = Files.newOutputStream(file)) {
+            BinarySecurityAnalysisResultWriter writer = new BinarySecurityAnalysisResultWriter(os);
+            writer.onPreContingencyResult(result.getPreContingencyResult());
+            List<Future<?>> futures = postContingencyResults.stream()
+                    .map(r -> executor.submit(() -> writer.onPostContingencyResult(r)))
+                    .collect(Collectors.toList());
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            writer.end();
+        } finally {
+            executor.shutdown();
+        }
+
+        try (BinarySecurityAnalysisResultReader reader = new BinarySecurityAnalysisResultReader(file)) {
+            assertEquals(200, reader.getContingencyIds().size());
+            for (PostContingencyResult expected : postContingencyResults) {
+                String id = expected.getContingency().getId();
+                assertEquals(toJson(expected), toJson(reader.getPostContingencyResult(id).orElseThrow()));
+            }
+            assertEquals(120, reader.getPostContingencyLimitViolations("VL1").size());
+        }
+    }
+
+    private static String toJson(PostContingencyResult result) throws IOException {
+        return JsonUtil.createObjectMapper().registerModule(new SecurityAnalysisJsonModule()).writeValueAsString(result);
+    }
+
+    @Test
+    void testInvalidFile() throws IOException {
+        Path file = tmpDir.resolve("invalid.bin");
+        Files.writeString(file, "this is not a binary security analysis result file");
+        PowsyblException e = assertThrows(PowsyblException.class, () -> new BinarySecurityAnalysisResultReader(file));
+        assertEquals("Invalid binary security analysis result file: wrong magic number", e.getMessage());
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.action.json.ActionJsonModule;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.contingency.ContingencyContext;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.loadflow.LoadFlowResult;
+import com.powsybl.security.*;
+import com.powsybl.security.condition.TrueCondition;
+import com.powsybl.security.interceptors.RunningContext;
+import com.powsybl.security.results.BranchResult;
+import com.powsybl.security.results.BusResult;
+import com.powsybl.security.results.ConnectivityResult;
+import com.powsybl.security.results.PostContingencyResult;
+import com.powsybl.security.strategy.OperatorStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Elia Group
+ */
+class JsonLinesSecurityAnalysisResultSinkTest {
+
+    private final Network network = EurostagTutorialExample1Factory.createWithCurrentLimits();
+
+    private SecurityAnalysisResult buildResult(SecurityAnalysisResultSink sink) {
+        SecurityAnalysisResultBuilder builder = new SecurityAnalysisResultBuilder(new LimitViolationFilter(),
+                new RunningContext(network, network.getVariantManager().getWorkingVariantId()), Collections.emptyList(), sink);
+        builder.preContingency()
+                .setStatus(LoadFlowResult.ComponentResult.Status.CONVERGED)
+                .addBusResult(new BusResult("VLHV1", "VLHV1_0", 400, 0.1))
+                .endPreContingency();
+        for (int i = 0; i < 10; i++) {
+            builder.contingency(new Contingency("c" + i))
+                    .setStatus(PostContingencyComputationStatus.CONVERGED)
+                    .setConnectivityResult(new ConnectivityResult(0, 0, 0.0, 0.0, Collections.emptySet()))
+                    .addViolation(LimitViolations.highVoltage().subject("VLHV1").value(430 + i).limit(420).build())
+                    .addBranchResult(new BranchResult("NHV1_NHV2_1", i, 2, 3, 4, 5, 6, 0))
+                    .endContingency();
+        }
+        OperatorStrategy strategy = new OperatorStrategy("strategy", ContingencyContext.specificContingency("c0"), new TrueCondition(), List.of("action"));
+        builder.operatorStrategy(strategy)
+                .newConditionalActionsResult("strategy")
+                .setStatus(PostContingencyComputationStatus.CONVERGED)
+                .endConditionalActions()
+                .endOperatorStrategy();
+        return builder.build();
+    }
+
+    @Test
+    void test() throws IOException {
+        StringWriter writer = new StringWriter();
+        SecurityAnalysisResult streamedResult = buildResult(new JsonLinesSecurityAnalysisResultSink(writer));
+
+        // results have been streamed, only the pre-contingency result is kept
+        assertEquals(LoadFlowResult.ComponentResult.Status.CONVERGED, streamedResult.getPreContingencyResult().getStatus());
+        assertTrue(streamedResult.getPostContingencyResults().isEmpty());
+        assertTrue(streamedResult.getOperatorStrategyResults().isEmpty());
+        assertEquals(13, writer.toString().lines().count());
+
+        InMemorySecurityAnalysisResultSink readSink = new InMemorySecurityAnalysisResultSink();
+        JsonLinesSecurityAnalysisResultSink.read(new StringReader(writer.toString()), readSink);
+
+        SecurityAnalysisResult inMemoryResult = buildResult(new InMemorySecurityAnalysisResultSink());
+        ObjectMapper objectMapper = JsonUtil.createObjectMapper()
+                .registerModule(new SecurityAnalysisJsonModule())
+                .registerModule(new ActionJsonModule());
+        assertEquals(objectMapper.writeValueAsString(inMemoryResult.getPostContingencyResults()),
+                objectMapper.writeValueAsString(readSink.getPostContingencyResults()));
+        assertEquals(objectMapper.writeValueAsString(inMemoryResult.getOperatorStrategyResults()),
+                objectMapper.writeValueAsString(readSink.getOperatorStrategyResults()));
+    }
+
+    @Test
+    void testConcurrentResults() throws Exception {
+        StringWriter writer = new StringWriter();
+        JsonLinesSecurityAnalysisResultSink sink = new JsonLinesSecurityAnalysisResultSink(writer);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = IntStream.range(0, 200)
+                    .mapToObj(i -> executor.submit(() -> sink.onPostContingencyResult(new PostContingencyResult(new Contingency("c" + i),
+                            PostContingencyComputationStatus.CONVERGED, List.of(LimitViolations.highVoltage().subject("VLHV1").value(430 + i).limit(420).build())))))
+                    .collect(Collectors.toList());
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        sink.end();
+
+        // lines are not interleaved, each result is read back
+        InMemorySecurityAnalysisResultSink readSink = new InMemorySecurityAnalysisResultSink();
+        JsonLinesSecurityAnalysisResultSink.read(new StringReader(writer.toString()), readSink);
+        assertEquals(201, writer.toString().lines().count());
+        assertEquals(IntStream.range(0, 200).mapToObj(i -> "c" + i).collect(Collectors.toSet()),
+                readSink.getPostContingencyResults().stream().map(r -> r.getContingency().getId()).collect(Collectors.toSet()));
+        for (PostContingencyResult result : readSink.getPostContingencyResults()) {
+            int i = Integer.parseInt(result.getContingency().getId().substring(1));
+            assertEquals(430 + i, result.getLimitViolationsResult().getLimitViolations().get(0).getValue());
+        }
+        assertTrue(readSink.getOperatorStrategyResults().isEmpty());
+    }
+
+    @Test
+    void testInvalidContent() {
+        InMemorySecurityAnalysisResultSink sink = new InMemorySecurityAnalysisResultSink();
+        PowsyblException e = assertThrows(PowsyblException.class, () -> JsonLinesSecurityAnalysisResultSink.read(new StringReader("{\"version\":\"0.1\"}"), sink));
+        assertEquals("Unsupported version: 0.1", e.getMessage());
+        e = assertThrows(PowsyblException.class, () -> JsonLinesSecurityAnalysisResultSink.read(new StringReader("{\"foo\":1}"), sink));
+        assertEquals("Unexpected field: foo", e.getMessage());
+    }
+}
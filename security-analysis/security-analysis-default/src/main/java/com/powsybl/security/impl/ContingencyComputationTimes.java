@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security.impl;
+
+import com.powsybl.commons.extensions.AbstractExtension;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.security.SecurityAnalysisResult;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Computation times of the contingencies of a {@link DefaultSecurityAnalysis}, added to its result.
+ * <p>
+ * Contingencies are identified by their position in the queue of the analysis, which is the order in which they have
+ * been scheduled, so that contingencies with the same id are told apart. The extension is not serialized.
+ * </p>
+ *
+ * @author Elia Group
+ */
+public class ContingencyComputationTimes extends AbstractExtension<SecurityAnalysisResult> {
+
+    public static final String NAME = "contingencyComputationTimes";
+
+    private final List<Contingency> contingencies;
+
+    private final long[] durations;
+
+    private final int workerCount;
+
+    private final long totalDuration;
+
+    /**
+     * @param contingencies the contingencies, in the order of the queue.
+     * @param durations the durations in ms, indexed by queue position, -1 for the contingencies which have not been computed.
+     */
+    public ContingencyComputationTimes(List<Contingency> contingencies, long[] durations, int workerCount, long totalDuration) {
+        this.contingencies = List.copyOf(contingencies);
+        this.durations = Objects.requireNonNull(durations).clone();
+        if (this.durations.length != this.contingencies.size()) {
+            throw new IllegalArgumentException("Expected " + this.contingencies.size() + " durations, got " + durations.length);
+        }
+        this.workerCount = workerCount;
+        this.totalDuration = totalDuration;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Number of contingencies in the queue.
+     */
+    public int getContingencyCount() {
+        return contingencies.size();
+    }
+
+    /**
+     * Contingency at the given position of the queue.
+     */
+    public Contingency getContingency(int position) {
+        return contingencies.get(position);
+    }
+
+    /**
+     * Computation time in ms of the contingency at the given position of the queue, including the application of the
+     * contingency, the load flow and the detection of violations, or -1 if it has not been computed.
+     */
+    public long getDuration(int position) {
+        Objects.checkIndex(position, durations.length);
+        return durations[position];
+    }
+
+    /**
+     * Number of workers, and so of working variants, which have computed the contingencies.
+     */
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    /**
+     * Time in ms from the start of the first contingency to the end of the last one.
+     */
+    public long getTotalDuration() {
+        return totalDuration;
+    }
+}
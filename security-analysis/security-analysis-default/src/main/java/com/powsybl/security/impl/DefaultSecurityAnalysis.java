@@ -8,7 +8,6 @@
 package com.powsybl.security.impl;
 
 import com.powsybl.commons.config.PlatformConfig;
-import com.powsybl.commons.exceptions.UncheckedInterruptedException;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.computation.ComputationManager;
 import com.powsybl.contingency.ContingenciesProvider;
@@ -36,6 +35,8 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -48,18 +49,29 @@ public class DefaultSecurityAnalysis {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultSecurityAnalysis.class);
 
+    private static final String MODULE_NAME = "default-security-analysis";
+
     /**
-     * This executor is used to create the variants of the network, submit the tasks
-     * for computing contingency loadflows and submit the tasks for checking for the
-     * violations. Submitting tasks itself is blocking because we can only run a
-     * limited number of loadflows in parallel because we need the memory for the
-     * variant, and we don't want to submit tasks that would immediately block to
-     * get an available variant (they hurt the performance of the executor who
-     * excutes them)
+     * Maximum number of variants, and so of loadflows running in parallel, for one analysis.
+     * If not configured, one variant is created per available core of the computation manager.
      */
-    private static final ExecutorService SCHEDULER_EXECUTOR = createThreadPool(getOptionalIntProperty("default-security-analysis", "scheduler-pool-size", 10));
+    private static final int MAX_VARIANTS_PER_ANALYSIS = getOptionalIntProperty(MODULE_NAME, "max-variants-per-analysis", Integer.MAX_VALUE);
+
+    static {
+        // contingencies are now scheduled on the executor of the computation manager
+        PlatformConfig.defaultConfig()
+            .getOptionalModuleConfig(MODULE_NAME)
+            .filter(m -> m.hasProperty("scheduler-pool-size"))
+            .ifPresent(m -> LOGGER.warn("Property '{}' of module '{}' is not used anymore and is ignored", "scheduler-pool-size", MODULE_NAME));
+    }
+
+    private static final int SLOWEST_CONTINGENCIES_LOGGED = 10;
 
-    private static final int MAX_VARIANTS_PER_ANALYSIS = getOptionalIntProperty("default-security-analysis", "max-variants-per-analysis", 10);
+    /**
+     * Contingencies with more elements are expected to be longer to simulate, so they are scheduled first to
+     * avoid a long tail at the end of the analysis.
+     */
+    static final Comparator<Contingency> EXPECTED_COST_COMPARATOR = Comparator.<Contingency>comparingInt(c -> c.getElements().size()).reversed();
 
     /**
      * Return the value of the property or the default value if the module or the property doesn't exist in the configuration.
@@ -76,13 +88,6 @@ public class DefaultSecurityAnalysis {
             .orElse(defaultValue);
     }
 
-    private static ExecutorService createThreadPool(int poolSize) {
-        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 1L, TimeUnit.NANOSECONDS, new LinkedBlockingQueue<>());
-        executor.allowCoreThreadTimeOut(true);
-
-        return executor;
-    }
-
     private final ComputationManager computationManager;
     private final Network network;
     private final LimitViolationDetector violationDetector;
@@ -90,6 +95,7 @@ public class DefaultSecurityAnalysis {
     private final List<SecurityAnalysisInterceptor> interceptors;
     private final StateMonitorIndex monitorIndex;
     private final ReportNode reportNode;
+    private SecurityAnalysisResultSink resultSink;
 
     public DefaultSecurityAnalysis(Network network, LimitViolationFilter filter, ComputationManager computationManager,
                                    List<StateMonitor> monitors, ReportNode reportNode) {
@@ -117,8 +123,17 @@ public class DefaultSecurityAnalysis {
         return interceptors.remove(interceptor);
     }
 
+    /**
+     * Sets the sink to which the results are handed as soon as they are computed.
+     * If not set, the results are kept in memory and returned in the {@link SecurityAnalysisReport}.
+     */
+    public void setResultSink(SecurityAnalysisResultSink resultSink) {
+        this.resultSink = Objects.requireNonNull(resultSink);
+    }
+
     private SecurityAnalysisResultBuilder createResultBuilder(String initialWorkingStateId) {
-        return new SecurityAnalysisResultBuilder(violationFilter, new RunningContext(network, initialWorkingStateId), interceptors);
+        return new SecurityAnalysisResultBuilder(violationFilter, new RunningContext(network, initialWorkingStateId), interceptors,
+            resultSink != null ? resultSink : new InMemorySecurityAnalysisResultSink());
     }
 
     public CompletableFuture<SecurityAnalysisReport> run(String workingVariantId,
@@ -144,14 +159,25 @@ public class DefaultSecurityAnalysis {
                             network.getVariantManager().setWorkingVariant(workingVariantId);
                             setPreContingencyOkAndCheckViolations(resultBuilder);
                         }, computationManager.getExecutor())
-                        .thenComposeAsync(aVoid ->
-                                submitAllLoadFlows(workingVariantId, contingenciesProvider, postContParameters, resultBuilder),
-                            SCHEDULER_EXECUTOR);
+                        .thenCompose(aVoid ->
+                                submitAllLoadFlows(workingVariantId, contingenciesProvider, postContParameters, resultBuilder));
                 } else {
                     return setPreContingencyKo(resultBuilder);
                 }
             })
-            .thenApply(aVoid -> new SecurityAnalysisReport(resultBuilder.build()));
+            .thenApply(computationTimes -> {
+                SecurityAnalysisResult result = resultBuilder.build();
+                if (computationTimes != null) {
+                    result.addExtension(ContingencyComputationTimes.class, computationTimes);
+                }
+                return new SecurityAnalysisReport(result);
+            })
+            .whenComplete((report, throwable) -> {
+                // the sink is ended when the result is built, it also has to be when the analysis fails
+                if (throwable != null) {
+                    resultBuilder.endSink();
+                }
+            });
     }
 
     private void setPreContingencyOkAndCheckViolations(SecurityAnalysisResultBuilder resultBuilder) {
@@ -164,28 +190,50 @@ public class DefaultSecurityAnalysis {
         builder.endPreContingency();
     }
 
-    private CompletableFuture<Void> setPreContingencyKo(SecurityAnalysisResultBuilder resultBuilder) {
+    private CompletableFuture<ContingencyComputationTimes> setPreContingencyKo(SecurityAnalysisResultBuilder resultBuilder) {
         resultBuilder.preContingency().setStatus(LoadFlowResult.ComponentResult.Status.FAILED).endPreContingency();
         return CompletableFuture.completedFuture(null);
     }
 
-    private CompletableFuture<Void> submitAllLoadFlows(String workingVariantId,
-                                                       ContingenciesProvider contingenciesProvider, LoadFlowParameters postContParameters,
-                                                       SecurityAnalysisResultBuilder resultBuilder) {
+    private CompletableFuture<ContingencyComputationTimes> submitAllLoadFlows(String workingVariantId,
+                                                                              ContingenciesProvider contingenciesProvider, LoadFlowParameters postContParameters,
+                                                                              SecurityAnalysisResultBuilder resultBuilder) {
 
-        List<Contingency> contingencies = contingenciesProvider.getContingencies(network);
+        List<Contingency> contingencies = new ArrayList<>(contingenciesProvider.getContingencies(network));
+        contingencies.sort(EXPECTED_COST_COMPARATOR);
         int workerCount = Math.min(MAX_VARIANTS_PER_ANALYSIS, Math.min(computationManager.getResourcesStatus().getAvailableCores(), contingencies.isEmpty() ? 1 : contingencies.size()));
         List<String> variantIds = makeWorkingVariantsNames(workerCount);
-        BlockingQueue<String> queue = new ArrayBlockingQueue<>(workerCount, false, variantIds);
 
         network.getVariantManager().allowVariantMultiThreadAccess(true);
         network.getVariantManager().cloneVariant(workingVariantId, variantIds);
 
+        // each worker owns a variant and takes the next contingency of the shared queue as soon as the previous
+        // one is done, so that no thread is ever blocked waiting for a variant. Durations are indexed by queue
+        // position, as contingency ids are not necessarily unique
+        AtomicInteger nextPosition = new AtomicInteger();
+        AtomicLongArray durations = new AtomicLongArray(contingencies.size());
+        for (int position = 0; position < contingencies.size(); position++) {
+            durations.set(position, -1);
+        }
+        long startTime = System.currentTimeMillis();
+        LOGGER.debug("Running {} contingencies on {} workers", contingencies.size(), workerCount);
+
         return CompletableFuture
-            .allOf(contingencies.stream()
-                .map(contingency -> submitOneLoadFlow(workingVariantId, contingency, postContParameters, resultBuilder, queue))
+            .allOf(variantIds.stream()
+                .map(postContVariantId -> runWorker(workingVariantId, postContVariantId, contingencies, nextPosition, postContParameters, resultBuilder, durations))
                 .toArray(CompletableFuture[]::new))
-            .whenComplete((aVoid, throwable) -> variantIds.forEach(network.getVariantManager()::removeVariant));
+            .handle((aVoid, throwable) -> {
+                variantIds.forEach(network.getVariantManager()::removeVariant);
+                long[] durationArray = new long[durations.length()];
+                Arrays.setAll(durationArray, durations::get);
+                ContingencyComputationTimes computationTimes = new ContingencyComputationTimes(contingencies, durationArray,
+                    workerCount, System.currentTimeMillis() - startTime);
+                logDurations(computationTimes);
+                if (throwable != null) {
+                    throw throwable instanceof CompletionException e ? e : new CompletionException(throwable);
+                }
+                return computationTimes;
+            });
     }
 
     private static List<String> makeWorkingVariantsNames(int workerCount) {
@@ -193,23 +241,60 @@ public class DefaultSecurityAnalysis {
         return IntStream.range(0, workerCount).mapToObj(i -> hash + "_" + i).collect(Collectors.toList());
     }
 
-    // Block for an available variant, then submit a loadflow on this variant, then
-    // make the variant available again
-    private CompletableFuture<Void> submitOneLoadFlow(String workingVariantId, Contingency contingency, LoadFlowParameters postContParameters,
-                                                      SecurityAnalysisResultBuilder resultBuilder, BlockingQueue<String> queue) {
-        return CompletableFuture.completedFuture(null).thenCompose(aaVoid -> {
-            String postContVariantId = getVariantId(queue);
-            return runOneLoadFlowAsync(workingVariantId, postContVariantId, postContParameters, resultBuilder, contingency)
-                .whenComplete((aVoid, throwable) -> queue.add(postContVariantId));
-        });
+    private CompletableFuture<Void> runWorker(String workingVariantId, String postContVariantId, List<Contingency> contingencies,
+                                              AtomicInteger nextPosition, LoadFlowParameters postContParameters,
+                                              SecurityAnalysisResultBuilder resultBuilder, AtomicLongArray durations) {
+        CompletableFuture<Void> workerFuture = new CompletableFuture<>();
+        runNextLoadFlows(workingVariantId, postContVariantId, contingencies, nextPosition, postContParameters, resultBuilder, durations, workerFuture);
+        return workerFuture;
+    }
+
+    // Loop on contingencies while loadflows complete synchronously, and resume from the completion callback
+    // otherwise, so that the stack does not grow with the number of contingencies
+    private void runNextLoadFlows(String workingVariantId, String postContVariantId, List<Contingency> contingencies,
+                                  AtomicInteger nextPosition, LoadFlowParameters postContParameters,
+                                  SecurityAnalysisResultBuilder resultBuilder, AtomicLongArray durations,
+                                  CompletableFuture<Void> workerFuture) {
+        int position;
+        while ((position = nextPosition.getAndIncrement()) < contingencies.size()) {
+            Contingency contingency = contingencies.get(position);
+            int contingencyPosition = position;
+            long startTime = System.currentTimeMillis();
+            CompletableFuture<Void> future = runOneLoadFlowAsync(workingVariantId, postContVariantId, postContParameters, resultBuilder, contingency)
+                .whenComplete((aVoid, throwable) -> {
+                    long duration = System.currentTimeMillis() - startTime;
+                    durations.set(contingencyPosition, duration);
+                    LOGGER.debug("Worker {} computed contingency '{}' at position {} in {} ms", postContVariantId, contingency.getId(), contingencyPosition, duration);
+                });
+            if (!future.isDone() || future.isCompletedExceptionally()) {
+                future.whenComplete((aVoid, throwable) -> {
+                    if (throwable != null) {
+                        workerFuture.completeExceptionally(throwable);
+                    } else {
+                        runNextLoadFlows(workingVariantId, postContVariantId, contingencies, nextPosition, postContParameters, resultBuilder, durations, workerFuture);
+                    }
+                });
+                return;
+            }
+        }
+        workerFuture.complete(null);
     }
 
-    private static String getVariantId(BlockingQueue<String> queue) {
-        try {
-            return queue.take();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new UncheckedInterruptedException(e);
+    private static void logDurations(ContingencyComputationTimes computationTimes) {
+        if (LOGGER.isInfoEnabled() && computationTimes.getContingencyCount() > 0) {
+            List<Integer> computedPositions = IntStream.range(0, computationTimes.getContingencyCount())
+                .filter(position -> computationTimes.getDuration(position) >= 0)
+                .boxed()
+                .toList();
+            List<String> slowest = computedPositions.stream()
+                .sorted(Comparator.comparingLong(computationTimes::getDuration).reversed())
+                .limit(SLOWEST_CONTINGENCIES_LOGGED)
+                .map(position -> "'" + computationTimes.getContingency(position).getId() + "' at position " + position
+                    + " (" + computationTimes.getDuration(position) + " ms)")
+                .toList();
+            LOGGER.info("{} contingencies computed on {} workers in {} ms, slowest ones: {}",
+                computedPositions.size(), computationTimes.getWorkerCount(), computationTimes.getTotalDuration(),
+                String.join(", ", slowest));
         }
     }
 
@@ -28,6 +28,9 @@ public class DefaultSecurityAnalysisProvider implements SecurityAnalysisProvider
         DefaultSecurityAnalysis securityAnalysis = new DefaultSecurityAnalysis(network, runParameters.getFilter(),
                 runParameters.getComputationManager(), runParameters.getMonitors(), runParameters.getReportNode());
         runParameters.getInterceptors().forEach(securityAnalysis::addInterceptor);
+        if (runParameters.getResultSink() != null) {
+            securityAnalysis.setResultSink(runParameters.getResultSink());
+        }
         return securityAnalysis.run(workingVariantId, runParameters.getSecurityAnalysisParameters(), contingenciesProvider);
     }
 
@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.computation.ComputationResourcesStatus;
+import com.powsybl.contingency.BranchContingency;
+import com.powsybl.contingency.ContingenciesProvider;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.security.*;
+import com.powsybl.security.binary.BinarySecurityAnalysisResultReader;
+import com.powsybl.security.binary.BinarySecurityAnalysisResultWriter;
+import com.powsybl.security.json.JsonLinesSecurityAnalysisResultSink;
+import com.powsybl.security.json.SecurityAnalysisJsonModule;
+import com.powsybl.security.results.OperatorStrategyResult;
+import com.powsybl.security.results.PostContingencyResult;
+import com.powsybl.security.results.PreContingencyResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Elia Group
+ */
+class SecurityAnalysisResultSinkTest {
+
+    private static final int CONTINGENCY_COUNT = 200;
+
+    @TempDir
+    Path tmpDir;
+
+    private ExecutorService executor;
+
+    private ComputationManager computationManager;
+
+    private final ContingenciesProvider contingenciesProvider = n -> IntStream.range(0, CONTINGENCY_COUNT)
+        .mapToObj(i -> new Contingency("c" + i, new BranchContingency(i % 2 == 0 ? "NHV1_NHV2_1" : "NHV1_NHV2_2")))
+        .toList();
+
+    @BeforeEach
+    void setUp() {
+        // several threads, so that results are handed to the sink concurrently
+        executor = Executors.newFixedThreadPool(4);
+        computationManager = Mockito.mock(ComputationManager.class);
+        Mockito.when(computationManager.getExecutor()).thenReturn(executor);
+        ComputationResourcesStatus computationResourcesStatus = Mockito.mock(ComputationResourcesStatus.class);
+        Mockito.when(computationResourcesStatus.getAvailableCores()).thenReturn(4);
+        Mockito.when(computationManager.getResourcesStatus()).thenReturn(computationResourcesStatus);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    private SecurityAnalysisReport run(SecurityAnalysisResultSink sink) {
+        Network network = EurostagTutorialExample1Factory.createWithFixedCurrentLimits();
+        SecurityAnalysisRunParameters runParameters = new SecurityAnalysisRunParameters()
+            .setComputationManager(computationManager);
+        if (sink != null) {
+            runParameters.setResultSink(sink);
+        }
+        return SecurityAnalysis.find("DefaultSecurityAnalysis")
+            .run(network, VariantManagerConstants.INITIAL_VARIANT_ID, contingenciesProvider, runParameters);
+    }
+
+    private static String toJson(Object value) throws Exception {
+        ObjectMapper objectMapper = JsonUtil.createObjectMapper().registerModule(new SecurityAnalysisJsonModule());
+        return objectMapper.writeValueAsString(value);
+    }
+
+    private static List<PostContingencyResult> sortByContingency(List<PostContingencyResult> results) {
+        return results.stream().sorted(Comparator.comparing(r -> r.getContingency().getId())).toList();
+    }
+
+    @Test
+    void testJsonLinesSinkThroughProvider() throws Exception {
+        StringWriter writer = new StringWriter();
+        SecurityAnalysisResult streamedResult = run(new JsonLinesSecurityAnalysisResultSink(writer)).getResult();
+
+        // the returned result only contains the pre-contingency result
+        assertTrue(streamedResult.getPostContingencyResults().isEmpty());
+        assertTrue(streamedResult.getOperatorStrategyResults().isEmpty());
+        assertFalse(streamedResult.getPreContingencyResult().getLimitViolationsResult().getLimitViolations().isEmpty());
+        assertEquals(CONTINGENCY_COUNT + 2, writer.toString().lines().count());
+
+        // replaying the file gives the same results as an analysis keeping them in memory
+        List<PreContingencyResult> replayedPreContingencyResults = new ArrayList<>();
+        InMemorySecurityAnalysisResultSink replayedSink = new InMemorySecurityAnalysisResultSink() {
+            @Override
+            public void onPreContingencyResult(PreContingencyResult result) {
+                replayedPreContingencyResults.add(result);
+            }
+        };
+        JsonLinesSecurityAnalysisResultSink.read(new StringReader(writer.toString()), replayedSink);
+
+        SecurityAnalysisResult inMemoryResult = run(null).getResult();
+        assertEquals(CONTINGENCY_COUNT, inMemoryResult.getPostContingencyResults().size());
+        assertEquals(toJson(inMemoryResult.getPreContingencyResult()), toJson(streamedResult.getPreContingencyResult()));
+        assertEquals(toJson(List.of(inMemoryResult.getPreContingencyResult())), toJson(replayedPreContingencyResults));
+        assertEquals(toJson(sortByContingency(inMemoryResult.getPostContingencyResults())),
+            toJson(sortByContingency(replayedSink.getPostContingencyResults())));
+    }
+
+    @Test
+    void testBinarySinkThroughProvider() throws Exception {
+        Path file = tmpDir.resolve("result.bin");
+        SecurityAnalysisResult streamedResult;
+        try (OutputStream os = Files.newOutputStream(file)) {
+            streamedResult = run(new BinarySecurityAnalysisResultWriter(os)).getResult();
+        }
+
+        SecurityAnalysisResult inMemoryResult = run(null).getResult();
+        try (BinarySecurityAnalysisResultReader reader = new BinarySecurityAnalysisResultReader(file)) {
+            assertEquals(toJson(streamedResult.getNetworkMetadata()), toJson(reader.getNetworkMetadata()));
+            assertEquals("sim1", reader.getNetworkMetadata().getId());
+            // extensions are not written, only the values are compared
+            assertEquals(violationValues(inMemoryResult.getPreContingencyResult().getLimitViolationsResult()),
+                violationValues(reader.getPreContingencyResult().getLimitViolationsResult()));
+            List<PostContingencyResult> expected = sortByContingency(inMemoryResult.getPostContingencyResults());
+            List<PostContingencyResult> actual = sortByContingency(reader.getPostContingencyResults());
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getContingency().getId(), actual.get(i).getContingency().getId());
+                assertEquals(expected.get(i).getStatus(), actual.get(i).getStatus());
+                assertEquals(violationValues(expected.get(i).getLimitViolationsResult()), violationValues(actual.get(i).getLimitViolationsResult()));
+            }
+        }
+    }
+
+    private static List<String> violationValues(LimitViolationsResult result) {
+        return result.getLimitViolations().stream()
+            .map(v -> v.getSubjectId() + " " + v.getLimitType() + " " + v.getSide() + " " + v.getValue())
+            .toList();
+    }
+
+    private static class CountingSink implements SecurityAnalysisResultSink {
+
+        private final AtomicInteger postContingencyResultCount = new AtomicInteger();
+
+        private final AtomicInteger endCount = new AtomicInteger();
+
+        @Override
+        public void onPostContingencyResult(PostContingencyResult result) {
+            postContingencyResultCount.incrementAndGet();
+        }
+
+        @Override
+        public void onOperatorStrategyResult(OperatorStrategyResult result) {
+            // not expected
+        }
+
+        @Override
+        public void end() {
+            endCount.incrementAndGet();
+        }
+    }
+
+    @Test
+    void testSinkEnded() {
+        CountingSink sink = new CountingSink();
+        run(sink);
+        assertEquals(CONTINGENCY_COUNT, sink.postContingencyResultCount.get());
+        assertEquals(1, sink.endCount.get());
+
+        // the sink is also ended when the analysis fails
+        CountingSink failedSink = new CountingSink();
+        Network network = EurostagTutorialExample1Factory.createWithFixedCurrentLimits();
+        DefaultSecurityAnalysis securityAnalysis = new DefaultSecurityAnalysis(network, new LimitViolationFilter(),
+            computationManager, Collections.emptyList(), ReportNode.NO_OP);
+        securityAnalysis.setResultSink(failedSink);
+        ContingenciesProvider failingProvider = n -> {
+            throw new PowsyblException("Contingencies cannot be created");
+        };
+        CompletionException e = assertThrows(CompletionException.class,
+            () -> securityAnalysis.run(VariantManagerConstants.INITIAL_VARIANT_ID, new SecurityAnalysisParameters(), failingProvider).join());
+        assertEquals("Contingencies cannot be created", e.getCause().getMessage());
+        assertEquals(1, failedSink.endCount.get());
+    }
+}
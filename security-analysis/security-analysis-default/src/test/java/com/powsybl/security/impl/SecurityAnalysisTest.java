@@ -47,6 +47,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -177,6 +178,52 @@ class SecurityAnalysisTest {
         assertEquals(1, interceptorMock.getOnSecurityAnalysisResultCount());
     }
 
+    @Test
+    void runMoreContingenciesThanWorkers() {
+        Network network = EurostagTutorialExample1Factory.create();
+        // more contingencies than workers, so that each worker computes many of them one after the other
+        // the last contingency has the same id as the first one
+        List<Contingency> contingencies = IntStream.range(0, 501)
+            .mapToObj(i -> new Contingency("c" + i % 500, new BranchContingency(i % 2 == 0 ? "NHV1_NHV2_1" : "NHV1_NHV2_2")))
+            .toList();
+        ContingenciesProvider contingenciesProvider = n -> contingencies;
+
+        DefaultSecurityAnalysis defaultSecurityAnalysis = new DefaultSecurityAnalysis(network, new LimitViolationFilter(),
+            createMockComputationManager(), Collections.emptyList(), ReportNode.NO_OP);
+        SecurityAnalysisResult result = defaultSecurityAnalysis.run(VariantManagerConstants.INITIAL_VARIANT_ID, new SecurityAnalysisParameters(), contingenciesProvider)
+            .join()
+            .getResult();
+
+        assertEquals(501, result.getPostContingencyResults().size());
+        assertEquals(500, result.getPostContingencyResults().stream().map(r -> r.getContingency().getId()).distinct().count());
+
+        // computation times are indexed by queue position, contingencies with the same id are both kept
+        ContingencyComputationTimes computationTimes = result.getExtension(ContingencyComputationTimes.class);
+        assertNotNull(computationTimes);
+        assertEquals(4, computationTimes.getWorkerCount());
+        assertEquals(501, computationTimes.getContingencyCount());
+        for (int position = 0; position < 501; position++) {
+            // all the contingencies have the same expected cost, so the queue keeps their order
+            assertSame(contingencies.get(position), computationTimes.getContingency(position));
+            assertTrue(computationTimes.getDuration(position) >= 0);
+        }
+        assertEquals("c0", computationTimes.getContingency(500).getId());
+        assertTrue(computationTimes.getTotalDuration() >= 0);
+        // working variants have been removed
+        assertEquals(Set.of(VariantManagerConstants.INITIAL_VARIANT_ID), Set.copyOf(network.getVariantManager().getVariantIds()));
+    }
+
+    @Test
+    void testContingenciesOrderedByExpectedCost() {
+        Contingency small = new Contingency("small", new BranchContingency("L1"));
+        Contingency big = new Contingency("big", new BranchContingency("L1"), new BranchContingency("L2"), new GeneratorContingency("G"));
+        Contingency medium1 = new Contingency("medium1", new BranchContingency("L1"), new BranchContingency("L2"));
+        Contingency medium2 = new Contingency("medium2", new BranchContingency("L3"), new BranchContingency("L4"));
+        List<Contingency> contingencies = new ArrayList<>(List.of(small, medium1, big, medium2));
+        contingencies.sort(DefaultSecurityAnalysis.EXPECTED_COST_COMPARATOR);
+        assertEquals(List.of(big, medium1, medium2, small), contingencies);
+    }
+
     private SecurityAnalysisRunParameters createSecurityAnalysisRunParameters(SecurityAnalysisInterceptor interceptor) {
         return new SecurityAnalysisRunParameters()
                 .setSecurityAnalysisParameters(SecurityAnalysisParameters.load(platformConfig))
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import java.util.*;
+
+/**
+ * Sensitivity analysis result storing the sensitivity values and the function reference values in primitive arrays,
+ * one block per state (pre-contingency state, then each contingency) indexed by factor index for the values and by
+ * function index for the function references.
+ * <p>
+ * Values are found by index arithmetic after a lookup of the function and of the variable in a compact dictionary of
+ * the factors, so no object is created per value. The {@link SensitivityValue} objects are only created by the
+ * methods returning lists of values, sorted by contingency index then by factor index. Results are filled through a
+ * {@link SensitivityResultDenseWriter}.
+ * </p>
+ * As for {@link SensitivityAnalysisResult}, if several factors have the same function and variable, the value of the one
+ * with the highest index is returned, and the function reference is the one of the factor of the function with the
+ * highest index.
+ *
+ * @author Elia Group
+ */
+public class DenseSensitivityAnalysisResult extends SensitivityAnalysisResult {
+
+    private final SensitivityFactorDictionary dictionary;
+
+    private final Map<String, Integer> contingencyIndices = new HashMap<>();
+
+    /* blocks indexed by state: 0 for the pre-contingency state, contingency index + 1 otherwise */
+    private final double[][] values;
+
+    private final BitSet[] valuesDefined;
+
+    private final double[][] functionReferences;
+
+    private final BitSet[] functionReferencesDefined;
+
+    DenseSensitivityAnalysisResult(List<SensitivityFactor> factors, List<SensitivityContingencyStatus> contingencyStatuses,
+                                   SensitivityFactorDictionary dictionary, double[][] values, BitSet[] valuesDefined,
+                                   double[][] functionReferences, BitSet[] functionReferencesDefined) {
+        super(factors, contingencyStatuses);
+        this.dictionary = Objects.requireNonNull(dictionary);
+        this.values = Objects.requireNonNull(values);
+        this.valuesDefined = Objects.requireNonNull(valuesDefined);
+        this.functionReferences = Objects.requireNonNull(functionReferences);
+        this.functionReferencesDefined = Objects.requireNonNull(functionReferencesDefined);
+        for (int i = 0; i < contingencyStatuses.size(); i++) {
+            contingencyIndices.put(contingencyStatuses.get(i).getContingencyId(), i);
+        }
+    }
+
+    private int getState(String contingencyId) {
+        if (contingencyId == null) {
+            return 0;
+        }
+        Integer contingencyIndex = contingencyIndices.get(contingencyId);
+        return contingencyIndex != null ? contingencyIndex + 1 : -1;
+    }
+
+    private static boolean isDefined(BitSet[] defined, int state, int index) {
+        return state != -1 && defined[state] != null && defined[state].get(index);
+    }
+
+    private void addValues(int state, List<SensitivityValue> list) {
+        BitSet defined = valuesDefined[state];
+        if (defined != null) {
+            for (int factorIndex = defined.nextSetBit(0); factorIndex >= 0; factorIndex = defined.nextSetBit(factorIndex + 1)) {
+                list.add(new SensitivityValue(factorIndex, state - 1, values[state][factorIndex],
+                        functionReferences[state][dictionary.getFunctionIndex(factorIndex)]));
+            }
+        }
+    }
+
+    @Override
+    public List<SensitivityValue> getValues() {
+        List<SensitivityValue> list = new ArrayList<>();
+        for (int state = 0; state < values.length; state++) {
+            addValues(state, list);
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    @Override
+    public List<SensitivityValue> getValues(String contingencyId) {
+        int state = getState(contingencyId);
+        if (state == -1) {
+            return Collections.emptyList();
+        }
+        List<SensitivityValue> list = new ArrayList<>();
+        addValues(state, list);
+        return Collections.unmodifiableList(list);
+    }
+
+    @Override
+    public List<SensitivityValue> getPreContingencyValues() {
+        return getValues(null);
+    }
+
+    @Override
+    public double getSensitivityValue(String contingencyId, String variableId, String functionId, SensitivityFunctionType functionType, SensitivityVariableType variableType) {
+        int state = getState(contingencyId);
+        int factorIndex = dictionary.findFactor(dictionary.getFunctionIndex(functionType, functionId),
+                dictionary.getVariableIndex(variableType, variableId),
+                f -> isDefined(valuesDefined, state, f));
+        if (factorIndex == -1) {
+            throw createValueNotFoundException(contingencyId, variableId, functionId, functionType);
+        }
+        return values[state][factorIndex];
+    }
+
+    @Override
+    public double getFunctionReferenceValue(String contingencyId, String functionId, SensitivityFunctionType functionType) {
+        int state = getState(contingencyId);
+        int functionIndex = dictionary.getFunctionIndex(functionType, functionId);
+        if (functionIndex == -1 || !isDefined(functionReferencesDefined, state, functionIndex)) {
+            throw createFunctionReferenceNotFoundException(contingencyId, functionId, functionType);
+        }
+        return functionReferences[state][functionIndex];
+    }
+}
@@ -141,9 +141,35 @@ public class SensitivityAnalysisResult {
      * @param values result values of the sensitivity analysis in pre-contingency state and post-contingency states.
      */
     public SensitivityAnalysisResult(List<SensitivityFactor> factors, List<SensitivityContingencyStatus> contingencyStatuses, List<SensitivityValue> values) {
+        this(factors, contingencyStatuses, Collections.unmodifiableList(Objects.requireNonNull(values)), true);
+    }
+
+    /**
+     * Constructor for the implementations storing the sensitivity values themselves, which have to override the
+     * methods giving access to them.
+     *
+     * @param factors the list of sensitivity factors that have been computed.
+     * @param contingencyStatuses the list of contingencies and their associated computation status.
+     */
+    protected SensitivityAnalysisResult(List<SensitivityFactor> factors, List<SensitivityContingencyStatus> contingencyStatuses) {
+        this(factors, contingencyStatuses, Collections.emptyList(), false);
+    }
+
+    private SensitivityAnalysisResult(List<SensitivityFactor> factors, List<SensitivityContingencyStatus> contingencyStatuses,
+                                      List<SensitivityValue> values, boolean indexValues) {
         this.factors = Collections.unmodifiableList(Objects.requireNonNull(factors));
         this.contingencyStatuses = Collections.unmodifiableList(Objects.requireNonNull(contingencyStatuses));
-        this.values = Collections.unmodifiableList(Objects.requireNonNull(values));
+        this.values = values;
+        if (indexValues) {
+            indexValues();
+        }
+
+        for (SensitivityContingencyStatus status : contingencyStatuses) {
+            this.statusByContingencyId.put(status.getContingencyId(), status);
+        }
+    }
+
+    private void indexValues() {
         for (SensitivityValue value : values) {
             SensitivityFactor factor = factors.get(value.getFactorIndex());
             String contingencyId = value.getContingencyIndex() != -1 ? contingencyStatuses.get(value.getContingencyIndex()).getContingencyId() : null;
@@ -152,10 +178,6 @@ public class SensitivityAnalysisResult {
             valuesByContingencyIdAndFunctionAndVariable.put(new SensitivityValueKey(contingencyId, factor.getVariableId(), factor.getFunctionId(), factor.getFunctionType(), factor.getVariableType()), value);
             functionReferenceByContingencyAndFunction.put(Triple.of(factor.getFunctionType(), contingencyId, factor.getFunctionId()), value.getFunctionReference());
         }
-
-        for (SensitivityContingencyStatus status : contingencyStatuses) {
-            this.statusByContingencyId.put(status.getContingencyId(), status);
-        }
     }
 
     /**
@@ -218,8 +240,12 @@ public class SensitivityAnalysisResult {
         if (value != null) {
             return value.getValue();
         }
-        throw new PowsyblException("Sensitivity value not found for contingency '" + contingencyId + "', function '"
-                                   + functionId + "', variable '" + variableId + "'" + "', functionType '" + functionType);
+        throw createValueNotFoundException(contingencyId, variableId, functionId, functionType);
+    }
+
+    protected static PowsyblException createValueNotFoundException(String contingencyId, String variableId, String functionId, SensitivityFunctionType functionType) {
+        return new PowsyblException("Sensitivity value not found for contingency '" + contingencyId + "', function '"
+                                    + functionId + "', variable '" + variableId + "'" + "', functionType '" + functionType);
     }
 
     /**
@@ -406,12 +432,16 @@ public class SensitivityAnalysisResult {
     public double getFunctionReferenceValue(String contingencyId, String functionId, SensitivityFunctionType functionType) {
         Double value = functionReferenceByContingencyAndFunction.get(Triple.of(functionType, contingencyId, functionId));
         if (value == null) {
-            throw new PowsyblException("Reference flow value not found for contingency '" + contingencyId + "', function '" + functionId + "'"
-                                       + "', functionType '" + functionType);
+            throw createFunctionReferenceNotFoundException(contingencyId, functionId, functionType);
         }
         return value;
     }
 
+    protected static PowsyblException createFunctionReferenceNotFoundException(String contingencyId, String functionId, SensitivityFunctionType functionType) {
+        return new PowsyblException("Reference flow value not found for contingency '" + contingencyId + "', function '" + functionId + "'"
+                                    + "', functionType '" + functionType);
+    }
+
     /**
      * Get the function reference associated to a given contingency Id and a given function id and function type BRANCH_ACTIVE_POWER_1.
      *
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * Compact index of a list of sensitivity factors: functions and variables are numbered by order of appearance and the
+ * factors are found from a (function, variable) pair through an open addressing hash table of primitive arrays.
+ *
+ * @author Elia Group
+ */
+final class SensitivityFactorDictionary {
+
+    private final Map<SensitivityFunctionType, Map<String, Integer>> functionIndices = new EnumMap<>(SensitivityFunctionType.class);
+
+    private final Map<SensitivityVariableType, Map<String, Integer>> variableIndices = new EnumMap<>(SensitivityVariableType.class);
+
+    private final int[] factorFunctionIndices;
+
+    private int functionCount = 0;
+
+    private int variableCount = 0;
+
+    /* hash table from a (function, variable) pair to the first factor of this pair, -1 keys are free slots */
+    private final long[] pairKeys;
+
+    private final int[] pairFirstFactors;
+
+    /* next factor with the same (function, variable) pair, -1 for the last one */
+    private final int[] nextFactors;
+
+    SensitivityFactorDictionary(List<SensitivityFactor> factors) {
+        Objects.requireNonNull(factors);
+        int factorCount = factors.size();
+        factorFunctionIndices = new int[factorCount];
+        int[] factorVariableIndices = new int[factorCount];
+        for (int i = 0; i < factorCount; i++) {
+            SensitivityFactor factor = factors.get(i);
+            factorFunctionIndices[i] = functionIndices.computeIfAbsent(factor.getFunctionType(), k -> new HashMap<>())
+                    .computeIfAbsent(factor.getFunctionId(), k -> functionCount++);
+            factorVariableIndices[i] = variableIndices.computeIfAbsent(factor.getVariableType(), k -> new HashMap<>())
+                    .computeIfAbsent(factor.getVariableId(), k -> variableCount++);
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(1, factorCount) * 2 - 1) << 1;
+        pairKeys = new long[capacity];
+        Arrays.fill(pairKeys, -1);
+        pairFirstFactors = new int[capacity];
+        nextFactors = new int[factorCount];
+        int[] lastFactors = new int[capacity];
+        for (int i = 0; i < factorCount; i++) {
+            int slot = findSlot(getPairKey(factorFunctionIndices[i], factorVariableIndices[i]));
+            nextFactors[i] = -1;
+            if (pairKeys[slot] == -1) {
+                pairKeys[slot] = getPairKey(factorFunctionIndices[i], factorVariableIndices[i]);
+                pairFirstFactors[slot] = i;
+            } else {
+                nextFactors[lastFactors[slot]] = i;
+            }
+            lastFactors[slot] = i;
+        }
+    }
+
+    private long getPairKey(int functionIndex, int variableIndex) {
+        return (long) functionIndex * variableCount + variableIndex;
+    }
+
+    private int findSlot(long key) {
+        int mask = pairKeys.length - 1;
+        long h = key * 0x9E3779B97F4A7C15L;
+        int slot = (int) (h ^ (h >>> 32)) & mask;
+        while (pairKeys[slot] != -1 && pairKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    int getFactorCount() {
+        return factorFunctionIndices.length;
+    }
+
+    int getFunctionCount() {
+        return functionCount;
+    }
+
+    int getFunctionIndex(int factorIndex) {
+        return factorFunctionIndices[factorIndex];
+    }
+
+    /**
+     * @return the index of the function, or -1 if no factor has this function.
+     */
+    int getFunctionIndex(SensitivityFunctionType functionType, String functionId) {
+        Map<String, Integer> indices = functionIndices.get(functionType);
+        Integer index = indices != null ? indices.get(functionId) : null;
+        return index != null ? index : -1;
+    }
+
+    /**
+     * @return the index of the variable, or -1 if no factor has this variable.
+     */
+    int getVariableIndex(SensitivityVariableType variableType, String variableId) {
+        Map<String, Integer> indices = variableIndices.get(variableType);
+        Integer index = indices != null ? indices.get(variableId) : null;
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Find the last factor, by order of index, of the given function and variable accepted by the filter.
+     *
+     * @return the index of the factor, or -1 if there is none.
+     */
+    int findFactor(int functionIndex, int variableIndex, IntPredicate filter) {
+        if (functionIndex == -1 || variableIndex == -1) {
+            return -1;
+        }
+        int slot = findSlot(getPairKey(functionIndex, variableIndex));
+        if (pairKeys[slot] == -1) {
+            return -1;
+        }
+        int found = -1;
+        for (int factor = pairFirstFactors[slot]; factor != -1; factor = nextFactors[factor]) {
+            if (filter.test(factor)) {
+                found = factor;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,215 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.contingency.ContingencyContext;
+import com.powsybl.contingency.ContingencyContextType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * Compact description of the sensitivity factors of a cross product of function ids and variable ids, all with the
+ * same function type, variable type and contingency context, as usually needed for PTDF or OTDF computations.
+ * <p>
+ * Factors are numbered function first: the factor of index {@code i} has the function {@code i / variableCount} and
+ * the variable {@code i % variableCount}. They are only created on demand, see {@link #getFactor(int)} and
+ * {@link #getFactors()}, or not at all when the matrix is read through a {@link SensitivityFactorMatrixReader}.
+ * </p>
+ *
+ * @author Elia Group
+ */
+public class SensitivityFactorMatrix {
+
+    private final SensitivityFunctionType functionType;
+
+    private final List<String> functionIds;
+
+    private final SensitivityVariableType variableType;
+
+    private final List<String> variableIds;
+
+    private final boolean variableSet;
+
+    private final ContingencyContext contingencyContext;
+
+    public SensitivityFactorMatrix(SensitivityFunctionType functionType, List<String> functionIds,
+                                   SensitivityVariableType variableType, List<String> variableIds,
+                                   boolean variableSet, ContingencyContext contingencyContext) {
+        this.functionType = Objects.requireNonNull(functionType);
+        this.functionIds = List.copyOf(functionIds);
+        this.variableType = Objects.requireNonNull(variableType);
+        this.variableIds = List.copyOf(variableIds);
+        this.variableSet = variableSet;
+        this.contingencyContext = Objects.requireNonNull(contingencyContext);
+        long factorCount = (long) this.functionIds.size() * this.variableIds.size();
+        if (factorCount > Integer.MAX_VALUE) {
+            throw new PowsyblException("Too many factors in the matrix: " + factorCount);
+        }
+    }
+
+    public SensitivityFunctionType getFunctionType() {
+        return functionType;
+    }
+
+    public List<String> getFunctionIds() {
+        return functionIds;
+    }
+
+    public SensitivityVariableType getVariableType() {
+        return variableType;
+    }
+
+    public List<String> getVariableIds() {
+        return variableIds;
+    }
+
+    public boolean isVariableSet() {
+        return variableSet;
+    }
+
+    public ContingencyContext getContingencyContext() {
+        return contingencyContext;
+    }
+
+    public int getFactorCount() {
+        return functionIds.size() * variableIds.size();
+    }
+
+    public SensitivityFactor getFactor(int index) {
+        Objects.checkIndex(index, getFactorCount());
+        return new SensitivityFactor(functionType, functionIds.get(index / variableIds.size()), variableType,
+                variableIds.get(index % variableIds.size()), variableSet, contingencyContext);
+    }
+
+    /**
+     * Get a view of the factors of this matrix, which are created each time they are accessed.
+     */
+    public List<SensitivityFactor> getFactors() {
+        return new FactorList();
+    }
+
+    /**
+     * Notify the handler of each factor of this matrix, by order of index.
+     */
+    public void read(SensitivityFactorReader.Handler handler) {
+        Objects.requireNonNull(handler);
+        for (String functionId : functionIds) {
+            for (String variableId : variableIds) {
+                handler.onFactor(functionType, functionId, variableType, variableId, variableSet, contingencyContext);
+            }
+        }
+    }
+
+    private final class FactorList extends AbstractList<SensitivityFactor> implements RandomAccess {
+
+        @Override
+        public SensitivityFactor get(int index) {
+            return getFactor(index);
+        }
+
+        @Override
+        public int size() {
+            return getFactorCount();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SensitivityFactorMatrix(" +
+                "functionType=" + functionType +
+                ", functionIds=" + functionIds +
+                ", variableType=" + variableType +
+                ", variableIds=" + variableIds +
+                ", variableSet=" + variableSet +
+                ", contingencyContext=" + contingencyContext +
+                ')';
+    }
+
+    public static void writeJson(JsonGenerator jsonGenerator, SensitivityFactorMatrix matrix) {
+        try {
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeStringField("functionType", matrix.getFunctionType().name());
+            writeIds(jsonGenerator, "functionIds", matrix.getFunctionIds());
+            jsonGenerator.writeStringField("variableType", matrix.getVariableType().name());
+            writeIds(jsonGenerator, "variableIds", matrix.getVariableIds());
+            jsonGenerator.writeBooleanField("variableSet", matrix.isVariableSet());
+            jsonGenerator.writeStringField("contingencyContextType", matrix.getContingencyContext().getContextType().name());
+            if (matrix.getContingencyContext().getContingencyId() != null) {
+                jsonGenerator.writeStringField("contingencyId", matrix.getContingencyContext().getContingencyId());
+            }
+            jsonGenerator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeIds(JsonGenerator jsonGenerator, String fieldName, List<String> ids) throws IOException {
+        jsonGenerator.writeFieldName(fieldName);
+        jsonGenerator.writeStartArray();
+        for (String id : ids) {
+            jsonGenerator.writeString(id);
+        }
+        jsonGenerator.writeEndArray();
+    }
+
+    public static SensitivityFactorMatrix parseJson(JsonParser parser) {
+        Objects.requireNonNull(parser);
+        try {
+            SensitivityFunctionType functionType = null;
+            List<String> functionIds = null;
+            SensitivityVariableType variableType = null;
+            List<String> variableIds = null;
+            boolean variableSet = false;
+            ContingencyContextType contingencyContextType = null;
+            String contingencyId = null;
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME) {
+                    String fieldName = parser.currentName();
+                    switch (fieldName) {
+                        case "functionType" -> functionType = SensitivityFunctionType.valueOf(parser.nextTextValue());
+                        case "functionIds" -> functionIds = parseIds(parser);
+                        case "variableType" -> variableType = SensitivityVariableType.valueOf(parser.nextTextValue());
+                        case "variableIds" -> variableIds = parseIds(parser);
+                        case "variableSet" -> variableSet = parser.nextBooleanValue();
+                        case "contingencyContextType" -> contingencyContextType = ContingencyContextType.valueOf(parser.nextTextValue());
+                        case "contingencyId" -> contingencyId = parser.nextTextValue();
+                        default -> throw new PowsyblException("Unexpected field: " + fieldName);
+                    }
+                } else if (token == JsonToken.END_OBJECT) {
+                    return new SensitivityFactorMatrix(functionType, functionIds, variableType, variableIds, variableSet,
+                            ContingencyContext.create(contingencyId, contingencyContextType));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        throw new PowsyblException("Parsing error");
+    }
+
+    private static List<String> parseIds(JsonParser parser) throws IOException {
+        List<String> ids = new ArrayList<>();
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new PowsyblException("Array of ids expected");
+        }
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.VALUE_STRING) {
+                throw new PowsyblException("Unexpected token: " + token);
+            }
+            ids.add(parser.getText());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.powsybl.commons.json.JsonUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Factor reader of a JSON array of {@link SensitivityFactorMatrix}. Matrices are parsed and expanded one by one, so
+ * only one of them is in memory at a time.
+ *
+ * @author Elia Group
+ */
+public class SensitivityFactorMatrixJsonReader implements SensitivityFactorReader {
+
+    private final Path jsonFile;
+
+    public SensitivityFactorMatrixJsonReader(Path jsonFile) {
+        this.jsonFile = Objects.requireNonNull(jsonFile);
+    }
+
+    @Override
+    public void read(Handler handler) {
+        Objects.requireNonNull(handler);
+
+        JsonUtil.parseJson(jsonFile, parser -> {
+            try {
+                JsonToken token;
+                while ((token = parser.nextToken()) != null) {
+                    if (token == JsonToken.START_OBJECT) {
+                        SensitivityFactorMatrix.parseJson(parser).read(handler);
+                    } else if (token == JsonToken.END_ARRAY) {
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        });
+    }
+}
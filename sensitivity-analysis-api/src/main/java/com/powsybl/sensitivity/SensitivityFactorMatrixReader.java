@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Factor reader expanding a list of {@link SensitivityFactorMatrix} without creating any {@link SensitivityFactor}.
+ * The index of a factor is its index in its matrix, shifted by the factor count of the previous matrices.
+ *
+ * @author Elia Group
+ */
+public class SensitivityFactorMatrixReader implements SensitivityFactorReader {
+
+    private final List<SensitivityFactorMatrix> matrices;
+
+    /* index of the first factor of each matrix, followed by the total factor count */
+    private final int[] offsets;
+
+    public SensitivityFactorMatrixReader(List<SensitivityFactorMatrix> matrices) {
+        this.matrices = List.copyOf(matrices);
+        offsets = new int[this.matrices.size() + 1];
+        for (int i = 0; i < this.matrices.size(); i++) {
+            offsets[i + 1] = Math.addExact(offsets[i], this.matrices.get(i).getFactorCount());
+        }
+    }
+
+    public List<SensitivityFactorMatrix> getMatrices() {
+        return matrices;
+    }
+
+    public int getFactorCount() {
+        return offsets[matrices.size()];
+    }
+
+    /**
+     * Get a view of the factors of all the matrices, in the order they are read, which are created each time they are
+     * accessed. It can be given, for instance, to a {@link SensitivityResultDenseWriter}.
+     */
+    public List<SensitivityFactor> getFactors() {
+        return new FactorList();
+    }
+
+    @Override
+    public void read(Handler handler) {
+        Objects.requireNonNull(handler);
+        for (SensitivityFactorMatrix matrix : matrices) {
+            matrix.read(handler);
+        }
+    }
+
+    private final class FactorList extends AbstractList<SensitivityFactor> implements RandomAccess {
+
+        @Override
+        public SensitivityFactor get(int index) {
+            Objects.checkIndex(index, size());
+            int i = Arrays.binarySearch(offsets, index);
+            // with empty matrices several offsets are equal, the matrix of the factor is the last one of them
+            int matrixIndex = i >= 0 ? i : -i - 2;
+            while (offsets[matrixIndex + 1] == index) {
+                matrixIndex++;
+            }
+            return matrices.get(matrixIndex).getFactor(index - offsets[matrixIndex]);
+        }
+
+        @Override
+        public int size() {
+            return getFactorCount();
+        }
+    }
+}
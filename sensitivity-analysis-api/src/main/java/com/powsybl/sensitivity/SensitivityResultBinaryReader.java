@@ -0,0 +1,282 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.io.table.TableFormatter;
+import com.powsybl.contingency.Contingency;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.IntPredicate;
+
+import static com.powsybl.sensitivity.SensitivityResultBinaryWriter.*;
+
+/**
+ * Reader of a binary result file written by a {@link SensitivityResultBinaryWriter}.
+ * <p>
+ * Only the contingency statuses and the block index are loaded when the reader is created. The values of a contingency
+ * or of a function are then read by seeking to the blocks whose ranges of contingency or factor indices may contain
+ * them, which is efficient when the values have been written contingency by contingency or factor by factor, as done by
+ * most providers. The whole file can also be replayed to any other {@link SensitivityResultWriter}, for instance to
+ * convert it to the CSV or JSON formats.
+ * </p>
+ *
+ * @author Elia Group
+ */
+public class SensitivityResultBinaryReader implements AutoCloseable {
+
+    private record Block(long offset, int recordCount, int minContingencyIndex, int maxContingencyIndex,
+                         int minFactorIndex, int maxFactorIndex) {
+    }
+
+    private final FileChannel channel;
+
+    private final List<String> contingencyIds = new ArrayList<>();
+
+    private final Map<String, Integer> contingencyIndices = new HashMap<>();
+
+    private final List<SensitivityAnalysisResult.Status> statuses = new ArrayList<>();
+
+    private final List<Block> blocks = new ArrayList<>();
+
+    public SensitivityResultBinaryReader(Path file) {
+        Objects.requireNonNull(file);
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            readHeaderAndFooter();
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    private ByteBuffer read(long offset, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new PowsyblException("Unexpected end of sensitivity result file");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private void readHeaderAndFooter() throws IOException {
+        long size = channel.size();
+        if (size < HEADER_SIZE + TRAILER_SIZE) {
+            throw new PowsyblException("Invalid sensitivity result file");
+        }
+        ByteBuffer header = read(0, HEADER_SIZE);
+        if (header.getInt() != MAGIC) {
+            throw new PowsyblException("Invalid sensitivity result file");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new PowsyblException("Unsupported sensitivity result file version: " + version);
+        }
+        ByteBuffer trailer = read(size - TRAILER_SIZE, TRAILER_SIZE);
+        long statusOffset = trailer.getLong();
+        long indexOffset = trailer.getLong();
+        if (trailer.getInt() != MAGIC) {
+            throw new PowsyblException("Incomplete sensitivity result file, the writer has not been closed");
+        }
+
+        DataInputStream dis = new DataInputStream(new ByteArrayInputStream(read(statusOffset, (int) (indexOffset - statusOffset)).array()));
+        int contingencyCount = dis.readInt();
+        SensitivityAnalysisResult.Status[] allStatuses = SensitivityAnalysisResult.Status.values();
+        for (int i = 0; i < contingencyCount; i++) {
+            String contingencyId = dis.readUTF();
+            byte status = dis.readByte();
+            contingencyIds.add(contingencyId);
+            contingencyIndices.put(contingencyId, i);
+            statuses.add(status != NO_STATUS ? allStatuses[status] : null);
+        }
+
+        ByteBuffer index = read(indexOffset, (int) (size - TRAILER_SIZE - indexOffset));
+        int blockCount = index.getInt();
+        for (int i = 0; i < blockCount; i++) {
+            blocks.add(new Block(index.getLong(), index.getInt(), index.getInt(), index.getInt(), index.getInt(), index.getInt()));
+        }
+    }
+
+    public List<String> getContingencyIds() {
+        return Collections.unmodifiableList(contingencyIds);
+    }
+
+    /**
+     * Get the status of each contingency whose status has been written.
+     */
+    public List<SensitivityAnalysisResult.SensitivityContingencyStatus> getContingencyStatuses() {
+        List<SensitivityAnalysisResult.SensitivityContingencyStatus> list = new ArrayList<>();
+        for (int i = 0; i < contingencyIds.size(); i++) {
+            if (statuses.get(i) != null) {
+                list.add(new SensitivityAnalysisResult.SensitivityContingencyStatus(contingencyIds.get(i), statuses.get(i)));
+            }
+        }
+        return list;
+    }
+
+    public long getValueCount() {
+        return blocks.stream().mapToLong(Block::recordCount).sum();
+    }
+
+    private void readBlock(Block block, SensitivityResultWriter writer, IntPredicate contingencyFilter, IntPredicate factorFilter) throws IOException {
+        ByteBuffer buffer = read(block.offset(), block.recordCount() * RECORD_SIZE);
+        for (int i = 0; i < block.recordCount(); i++) {
+            int factorIndex = buffer.getInt();
+            int contingencyIndex = buffer.getInt();
+            double value = buffer.getDouble();
+            double functionReference = buffer.getDouble();
+            if (contingencyFilter.test(contingencyIndex) && factorFilter.test(factorIndex)) {
+                writer.writeSensitivityValue(factorIndex, contingencyIndex, value, functionReference);
+            }
+        }
+    }
+
+    /**
+     * Write all the values, in the order they have been written, then all the contingency statuses to the given writer.
+     */
+    public void read(SensitivityResultWriter writer) {
+        Objects.requireNonNull(writer);
+        try {
+            for (Block block : blocks) {
+                readBlock(block, writer, c -> true, f -> true);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (int i = 0; i < statuses.size(); i++) {
+            if (statuses.get(i) != null) {
+                writer.writeContingencyStatus(i, statuses.get(i));
+            }
+        }
+    }
+
+    private List<SensitivityValue> readValues(IntPredicate blockFilter, IntPredicate contingencyFilter, IntPredicate factorFilter) {
+        List<SensitivityValue> values = new ArrayList<>();
+        SensitivityResultWriter collector = new SensitivityResultWriter() {
+            @Override
+            public void writeSensitivityValue(int factorIndex, int contingencyIndex, double value, double functionReference) {
+                values.add(new SensitivityValue(factorIndex, contingencyIndex, value, functionReference));
+            }
+
+            @Override
+            public void writeContingencyStatus(int contingencyIndex, SensitivityAnalysisResult.Status status) {
+                // only values are collected
+            }
+        };
+        try {
+            for (int i = 0; i < blocks.size(); i++) {
+                if (blockFilter.test(i)) {
+                    readBlock(blocks.get(i), collector, contingencyFilter, factorFilter);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return values;
+    }
+
+    /**
+     * Get all the values, in the order they have been written.
+     */
+    public List<SensitivityValue> getValues() {
+        return readValues(b -> true, c -> true, f -> true);
+    }
+
+    /**
+     * Get the values of a contingency, or the pre-contingency values if the contingency id is null.
+     */
+    public List<SensitivityValue> getValues(String contingencyId) {
+        int contingencyIndex;
+        if (contingencyId == null) {
+            contingencyIndex = -1;
+        } else {
+            Integer index = contingencyIndices.get(contingencyId);
+            if (index == null) {
+                return Collections.emptyList();
+            }
+            contingencyIndex = index;
+        }
+        return readValues(b -> blocks.get(b).minContingencyIndex() <= contingencyIndex && contingencyIndex <= blocks.get(b).maxContingencyIndex(),
+            c -> c == contingencyIndex, f -> true);
+    }
+
+    /**
+     * Get the values, for all the states, of the factors monitoring the given function.
+     *
+     * @param factors the factors of the computation which has written the file.
+     */
+    public List<SensitivityValue> getFunctionValues(List<SensitivityFactor> factors, SensitivityFunctionType functionType, String functionId) {
+        Objects.requireNonNull(factors);
+        Objects.requireNonNull(functionType);
+        Objects.requireNonNull(functionId);
+        BitSet factorIndices = new BitSet();
+        for (int i = 0; i < factors.size(); i++) {
+            SensitivityFactor factor = factors.get(i);
+            if (factor.getFunctionType() == functionType && factor.getFunctionId().equals(functionId)) {
+                factorIndices.set(i);
+            }
+        }
+        if (factorIndices.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return readValues(b -> {
+            Block block = blocks.get(b);
+            int f = factorIndices.nextSetBit(block.minFactorIndex());
+            return f != -1 && f <= block.maxFactorIndex();
+        }, c -> true, factorIndices::get);
+    }
+
+    /**
+     * Convert the file to the CSV format of {@link SensitivityResultCsvWriter}.
+     */
+    public void writeCsv(Writer writer, Writer statusWriter) {
+        try (TableFormatter formatter = SensitivityResultCsvWriter.createTableFormatter(writer);
+             TableFormatter statusFormatter = SensitivityResultCsvWriter.createContingencyStatusTableFormatter(statusWriter)) {
+            read(new SensitivityResultCsvWriter(formatter, statusFormatter, createContingencies()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Convert the file to the JSON format of {@link SensitivityResultJsonWriter}, which requires the status of all the
+     * contingencies.
+     */
+    public void writeJson(JsonGenerator jsonGenerator) {
+        try (SensitivityResultJsonWriter writer = new SensitivityResultJsonWriter(jsonGenerator, createContingencies())) {
+            read(writer);
+        }
+    }
+
+    private List<Contingency> createContingencies() {
+        return contingencyIds.stream().map(id -> new Contingency(id)).toList();
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import com.powsybl.contingency.Contingency;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Result writer streaming the sensitivity values to a binary file, to be read back with a
+ * {@link SensitivityResultBinaryReader}.
+ * <p>
+ * The file starts with a header (magic number and format version) followed by blocks of fixed width records
+ * (factor index and contingency index as int, value and function reference as double). The contingency ids and
+ * statuses are written on {@link #close()}, followed by an index of the blocks, giving for each one its offset, its
+ * record count and its ranges of contingency and factor indices, and by a fixed size trailer pointing to these two
+ * sections. All numbers are big-endian.
+ * </p>
+ *
+ * @author Elia Group
+ */
+public class SensitivityResultBinaryWriter implements SensitivityResultWriter, AutoCloseable {
+
+    static final int MAGIC = 0x50535242; // "PSRB"
+
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    static final int RECORD_SIZE = 2 * Integer.BYTES + 2 * Double.BYTES;
+
+    static final int BLOCK_INDEX_ENTRY_SIZE = Long.BYTES + 5 * Integer.BYTES;
+
+    static final int TRAILER_SIZE = 2 * Long.BYTES + Integer.BYTES;
+
+    static final int DEFAULT_BLOCK_RECORD_COUNT = 4096;
+
+    static final byte NO_STATUS = -1;
+
+    private final FileChannel channel;
+
+    private final List<Contingency> contingencies;
+
+    private final byte[] statuses;
+
+    private final ByteBuffer block;
+
+    private final List<long[]> blockIndex = new ArrayList<>();
+
+    private int minContingencyIndex;
+
+    private int maxContingencyIndex;
+
+    private int minFactorIndex;
+
+    private int maxFactorIndex;
+
+    public SensitivityResultBinaryWriter(Path file, List<Contingency> contingencies) {
+        this(file, contingencies, DEFAULT_BLOCK_RECORD_COUNT);
+    }
+
+    public SensitivityResultBinaryWriter(Path file, List<Contingency> contingencies, int blockRecordCount) {
+        Objects.requireNonNull(file);
+        this.contingencies = Objects.requireNonNull(contingencies);
+        if (blockRecordCount <= 0) {
+            throw new IllegalArgumentException("Invalid block record count " + blockRecordCount);
+        }
+        statuses = new byte[contingencies.size()];
+        Arrays.fill(statuses, NO_STATUS);
+        block = ByteBuffer.allocate(blockRecordCount * RECORD_SIZE);
+        resetBlockRanges();
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            write(ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void resetBlockRanges() {
+        minContingencyIndex = Integer.MAX_VALUE;
+        maxContingencyIndex = Integer.MIN_VALUE;
+        minFactorIndex = Integer.MAX_VALUE;
+        maxFactorIndex = Integer.MIN_VALUE;
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        if (block.position() > 0) {
+            blockIndex.add(new long[] {channel.position(), block.position() / RECORD_SIZE,
+                minContingencyIndex, maxContingencyIndex, minFactorIndex, maxFactorIndex});
+            write(block.flip());
+            block.clear();
+            resetBlockRanges();
+        }
+    }
+
+    @Override
+    public void writeSensitivityValue(int factorIndex, int contingencyIndex, double value, double functionReference) {
+        if (!block.hasRemaining()) {
+            try {
+                flushBlock();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        block.putInt(factorIndex)
+                .putInt(contingencyIndex)
+                .putDouble(value)
+                .putDouble(functionReference);
+        minContingencyIndex = Math.min(minContingencyIndex, contingencyIndex);
+        maxContingencyIndex = Math.max(maxContingencyIndex, contingencyIndex);
+        minFactorIndex = Math.min(minFactorIndex, factorIndex);
+        maxFactorIndex = Math.max(maxFactorIndex, factorIndex);
+    }
+
+    @Override
+    public void writeContingencyStatus(int contingencyIndex, SensitivityAnalysisResult.Status status) {
+        statuses[contingencyIndex] = (byte) status.ordinal();
+    }
+
+    @Override
+    public void close() {
+        try (channel) {
+            flushBlock();
+
+            long statusOffset = channel.position();
+            ByteArrayOutputStream os = new ByteArrayOutputStream();
+            DataOutputStream dos = new DataOutputStream(os);
+            dos.writeInt(contingencies.size());
+            for (int i = 0; i < contingencies.size(); i++) {
+                dos.writeUTF(contingencies.get(i).getId());
+                dos.writeByte(statuses[i]);
+            }
+            dos.flush();
+            write(ByteBuffer.wrap(os.toByteArray()));
+
+            long indexOffset = channel.position();
+            ByteBuffer index = ByteBuffer.allocate(Integer.BYTES + blockIndex.size() * BLOCK_INDEX_ENTRY_SIZE + TRAILER_SIZE);
+            index.putInt(blockIndex.size());
+            for (long[] entry : blockIndex) {
+                index.putLong(entry[0]);
+                for (int i = 1; i < entry.length; i++) {
+                    index.putInt((int) entry[i]);
+                }
+            }
+            index.putLong(statusOffset)
+                    .putLong(indexOffset)
+                    .putInt(MAGIC);
+            write(index.flip());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import com.powsybl.contingency.Contingency;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Result writer storing the values in primitive arrays, to build a {@link DenseSensitivityAnalysisResult}.
+ * The array of a state (pre-contingency state or contingency) is only allocated when a first value of this state is
+ * written.
+ *
+ * @author Elia Group
+ */
+public class SensitivityResultDenseWriter implements SensitivityResultWriter {
+
+    private final List<SensitivityFactor> factors;
+
+    private final List<Contingency> contingencies;
+
+    private final SensitivityFactorDictionary dictionary;
+
+    private final List<SensitivityAnalysisResult.SensitivityContingencyStatus> contingencyStatuses;
+
+    private final double[][] values;
+
+    private final BitSet[] valuesDefined;
+
+    private final double[][] functionReferences;
+
+    private final BitSet[] functionReferencesDefined;
+
+    /* index of the factor which has written each function reference */
+    private final int[][] functionReferenceFactors;
+
+    public SensitivityResultDenseWriter(List<SensitivityFactor> factors, List<Contingency> contingencies) {
+        this.factors = Objects.requireNonNull(factors);
+        this.contingencies = Objects.requireNonNull(contingencies);
+        dictionary = new SensitivityFactorDictionary(factors);
+        contingencyStatuses = new ArrayList<>(Collections.nCopies(contingencies.size(), null));
+        int stateCount = contingencies.size() + 1;
+        values = new double[stateCount][];
+        valuesDefined = new BitSet[stateCount];
+        functionReferences = new double[stateCount][];
+        functionReferencesDefined = new BitSet[stateCount];
+        functionReferenceFactors = new int[stateCount][];
+    }
+
+    @Override
+    public void writeSensitivityValue(int factorIndex, int contingencyIndex, double value, double functionReference) {
+        int state = contingencyIndex + 1;
+        if (values[state] == null) {
+            values[state] = new double[dictionary.getFactorCount()];
+            valuesDefined[state] = new BitSet(dictionary.getFactorCount());
+            functionReferences[state] = new double[dictionary.getFunctionCount()];
+            functionReferencesDefined[state] = new BitSet(dictionary.getFunctionCount());
+            functionReferenceFactors[state] = new int[dictionary.getFunctionCount()];
+        }
+        values[state][factorIndex] = value;
+        valuesDefined[state].set(factorIndex);
+        int functionIndex = dictionary.getFunctionIndex(factorIndex);
+        // whatever the writing order, keep the reference of the factor with the highest index, as SensitivityAnalysisResult does
+        if (!functionReferencesDefined[state].get(functionIndex) || factorIndex >= functionReferenceFactors[state][functionIndex]) {
+            functionReferences[state][functionIndex] = functionReference;
+            functionReferencesDefined[state].set(functionIndex);
+            functionReferenceFactors[state][functionIndex] = factorIndex;
+        }
+    }
+
+    @Override
+    public void writeContingencyStatus(int contingencyIndex, SensitivityAnalysisResult.Status status) {
+        contingencyStatuses.set(contingencyIndex, new SensitivityAnalysisResult.SensitivityContingencyStatus(contingencies.get(contingencyIndex).getId(), status));
+    }
+
+    /**
+     * Create a result from the values written so far. The result shares the arrays of this writer, which should not be
+     * used anymore.
+     */
+    public DenseSensitivityAnalysisResult getResult() {
+        return new DenseSensitivityAnalysisResult(factors, contingencyStatuses, dictionary, values, valuesDefined,
+                functionReferences, functionReferencesDefined);
+    }
+}
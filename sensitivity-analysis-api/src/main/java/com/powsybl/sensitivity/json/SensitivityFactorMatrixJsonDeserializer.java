@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.powsybl.sensitivity.SensitivityFactorMatrix;
+
+/**
+ * @author Elia Group
+ */
+public class SensitivityFactorMatrixJsonDeserializer extends StdDeserializer<SensitivityFactorMatrix> {
+
+    public SensitivityFactorMatrixJsonDeserializer() {
+        super(SensitivityFactorMatrix.class);
+    }
+
+    @Override
+    public SensitivityFactorMatrix deserialize(JsonParser jsonParser, DeserializationContext deserializationContext) {
+        return SensitivityFactorMatrix.parseJson(jsonParser);
+    }
+}
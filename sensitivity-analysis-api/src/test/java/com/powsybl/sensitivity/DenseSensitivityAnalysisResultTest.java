@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.contingency.ContingencyContext;
+import com.powsybl.contingency.ContingencyContextType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Elia Group
+ */
+class DenseSensitivityAnalysisResultTest {
+
+    @Test
+    void testSameResultsAsModel() {
+        List<SensitivityFactor> factors = new ArrayList<>();
+        for (SensitivityFunctionType functionType : List.of(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, SensitivityFunctionType.BRANCH_CURRENT_2)) {
+            for (int f = 0; f < 20; f++) {
+                for (int v = 0; v < 15; v++) {
+                    if ((f + v) % 3 != 0) {
+                        factors.add(new SensitivityFactor(functionType, "l" + f, SensitivityVariableType.INJECTION_ACTIVE_POWER, "g" + v,
+                                false, v % 2 == 0 ? ContingencyContext.all() : ContingencyContext.none()));
+                    }
+                }
+            }
+        }
+        List<Contingency> contingencies = List.of(new Contingency("c1"), new Contingency("c2"), new Contingency("c3"));
+
+        SensitivityResultModelWriter modelWriter = new SensitivityResultModelWriter(contingencies);
+        SensitivityResultDenseWriter denseWriter = new SensitivityResultDenseWriter(factors, contingencies);
+        Random random = new Random(7);
+        for (int c = -1; c < contingencies.size(); c++) {
+            for (int i = 0; i < factors.size(); i++) {
+                // no value for the last contingency, as for a failed computation
+                if ((c == -1 || factors.get(i).getContingencyContext().getContextType() == ContingencyContextType.ALL) && c != 2) {
+                    double reference = factors.get(i).getFunctionId().hashCode() + c;
+                    double value = random.nextDouble();
+                    modelWriter.writeSensitivityValue(i, c, value, reference);
+                    denseWriter.writeSensitivityValue(i, c, value, reference);
+                }
+            }
+        }
+        for (int c = 0; c < contingencies.size(); c++) {
+            SensitivityAnalysisResult.Status status = c == 2 ? SensitivityAnalysisResult.Status.FAILURE : SensitivityAnalysisResult.Status.SUCCESS;
+            modelWriter.writeContingencyStatus(c, status);
+            denseWriter.writeContingencyStatus(c, status);
+        }
+
+        SensitivityAnalysisResult expected = new SensitivityAnalysisResult(factors, modelWriter.getContingencyStatuses(), modelWriter.getValues());
+        DenseSensitivityAnalysisResult result = denseWriter.getResult();
+
+        assertEquals(factors.size(), result.getFactors().size());
+        assertEquals(SensitivityAnalysisResult.Status.FAILURE, result.getContingencyStatus("c3"));
+        Comparator<SensitivityValue> order = Comparator.comparingInt(SensitivityValue::getContingencyIndex).thenComparingInt(SensitivityValue::getFactorIndex);
+        assertEquals(expected.getValues().stream().sorted(order).map(SensitivityValue::toString).toList(),
+                result.getValues().stream().map(SensitivityValue::toString).toList());
+        for (String contingencyId : new String[] {null, "c1", "c2", "c3", "unknown"}) {
+            assertEquals(expected.getValues(contingencyId).size(), result.getValues(contingencyId).size());
+        }
+        assertEquals(expected.getPreContingencyValues().size(), result.getPreContingencyValues().size());
+
+        for (SensitivityValue value : expected.getValues()) {
+            SensitivityFactor factor = factors.get(value.getFactorIndex());
+            String contingencyId = value.getContingencyIndex() == -1 ? null : contingencies.get(value.getContingencyIndex()).getId();
+            assertEquals(value.getValue(), result.getSensitivityValue(contingencyId, factor.getVariableId(), factor.getFunctionId(),
+                    factor.getFunctionType(), factor.getVariableType()));
+            assertEquals(value.getFunctionReference(), result.getFunctionReferenceValue(contingencyId, factor.getFunctionId(), factor.getFunctionType()));
+        }
+        assertEquals(expected.getBranchFlow1SensitivityValue("g1", "l0", SensitivityVariableType.INJECTION_ACTIVE_POWER),
+                result.getBranchFlow1SensitivityValue("g1", "l0", SensitivityVariableType.INJECTION_ACTIVE_POWER));
+        assertEquals(expected.getBranchCurrent2FunctionReferenceValue("c1", "l1"), result.getBranchCurrent2FunctionReferenceValue("c1", "l1"));
+
+        // factor (l0, g0) has been filtered out, factor (l0, g1) has no value after a contingency
+        PowsyblException e = assertThrows(PowsyblException.class, () -> result.getBranchFlow1SensitivityValue("g0", "l0", SensitivityVariableType.INJECTION_ACTIVE_POWER));
+        assertEquals("Sensitivity value not found for contingency 'null', function 'l0', variable 'g0'', functionType 'BRANCH_ACTIVE_POWER_1", e.getMessage());
+        assertThrows(PowsyblException.class, () -> result.getBranchFlow1SensitivityValue("c1", "g1", "l0", SensitivityVariableType.INJECTION_ACTIVE_POWER));
+        assertThrows(PowsyblException.class, () -> result.getBranchFlow1SensitivityValue("c3", "g2", "l0", SensitivityVariableType.INJECTION_ACTIVE_POWER));
+        assertThrows(PowsyblException.class, () -> result.getBranchFlow1SensitivityValue("unknown", "g2", "l0", SensitivityVariableType.INJECTION_ACTIVE_POWER));
+        assertThrows(PowsyblException.class, () -> result.getBranchFlow2SensitivityValue("g2", "l0", SensitivityVariableType.INJECTION_ACTIVE_POWER));
+        e = assertThrows(PowsyblException.class, () -> result.getBranchFlow1FunctionReferenceValue("c3", "l0"));
+        assertEquals("Reference flow value not found for contingency 'c3', function 'l0'', functionType 'BRANCH_ACTIVE_POWER_1", e.getMessage());
+        assertThrows(PowsyblException.class, () -> result.getBranchFlow1FunctionReferenceValue("l99"));
+    }
+
+    @Test
+    void testSameFunctionAndVariable() {
+        List<SensitivityFactor> factors = List.of(
+                new SensitivityFactor(SensitivityFunctionType.BUS_VOLTAGE, "b", SensitivityVariableType.BUS_TARGET_VOLTAGE, "g", false, ContingencyContext.none()),
+                new SensitivityFactor(SensitivityFunctionType.BUS_VOLTAGE, "b", SensitivityVariableType.BUS_TARGET_VOLTAGE, "g", false, ContingencyContext.specificContingency("c")));
+        SensitivityResultDenseWriter writer = new SensitivityResultDenseWriter(factors, List.of(new Contingency("c")));
+        writer.writeSensitivityValue(0, -1, 1, 10);
+        writer.writeSensitivityValue(1, 0, 2, 20);
+        writer.writeContingencyStatus(0, SensitivityAnalysisResult.Status.SUCCESS);
+        DenseSensitivityAnalysisResult result = writer.getResult();
+        assertEquals(1, result.getBusVoltageSensitivityValue("g", "b", SensitivityVariableType.BUS_TARGET_VOLTAGE));
+        assertEquals(2, result.getBusVoltageSensitivityValue("c", "g", "b", SensitivityVariableType.BUS_TARGET_VOLTAGE));
+        assertEquals(20, result.getBusVoltageFunctionReferenceValue("c", "b"));
+    }
+
+    @Test
+    void testSameFactorsAsBaseResult() {
+        SensitivityFactor factor = new SensitivityFactor(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, "l", SensitivityVariableType.INJECTION_ACTIVE_POWER, "g", false, ContingencyContext.all());
+        List<SensitivityFactor> factors = List.of(factor, factor, factor);
+        List<Contingency> contingencies = List.of(new Contingency("c"));
+        SensitivityResultDenseWriter writer = new SensitivityResultDenseWriter(factors, contingencies);
+        // written in reverse order of index, the last factor wins anyway
+        writer.writeSensitivityValue(2, -1, 3, 30);
+        writer.writeSensitivityValue(1, -1, 2, 20);
+        writer.writeSensitivityValue(0, -1, 1, 10);
+        writer.writeSensitivityValue(0, 0, 4, 40);
+        writer.writeSensitivityValue(1, 0, 5, 50);
+        writer.writeContingencyStatus(0, SensitivityAnalysisResult.Status.SUCCESS);
+        DenseSensitivityAnalysisResult result = writer.getResult();
+        assertEquals(3, result.getBranchFlow1SensitivityValue("g", "l", SensitivityVariableType.INJECTION_ACTIVE_POWER));
+        assertEquals(30, result.getBranchFlow1FunctionReferenceValue("l"));
+        assertEquals(5, result.getBranchFlow1SensitivityValue("c", "g", "l", SensitivityVariableType.INJECTION_ACTIVE_POWER));
+        assertEquals(50, result.getBranchFlow1FunctionReferenceValue("c", "l"));
+
+        SensitivityAnalysisResult expected = new SensitivityAnalysisResult(factors, result.getContingencyStatuses(), result.getValues());
+        for (String contingencyId : new String[] {null, "c"}) {
+            assertEquals(expected.getBranchFlow1SensitivityValue(contingencyId, "g", "l", SensitivityVariableType.INJECTION_ACTIVE_POWER),
+                    result.getBranchFlow1SensitivityValue(contingencyId, "g", "l", SensitivityVariableType.INJECTION_ACTIVE_POWER));
+            assertEquals(expected.getBranchFlow1FunctionReferenceValue(contingencyId, "l"), result.getBranchFlow1FunctionReferenceValue(contingencyId, "l"));
+        }
+    }
+}
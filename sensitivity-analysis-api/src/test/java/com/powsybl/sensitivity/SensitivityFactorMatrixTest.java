@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.commons.test.AbstractSerDeTest;
+import com.powsybl.contingency.ContingencyContext;
+import com.powsybl.sensitivity.json.JsonSensitivityAnalysisParameters;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Elia Group
+ */
+class SensitivityFactorMatrixTest extends AbstractSerDeTest {
+
+    private static final SensitivityFactorMatrix MATRIX = new SensitivityFactorMatrix(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, List.of("l12", "l13", "l23"),
+            SensitivityVariableType.INJECTION_ACTIVE_POWER, List.of("g1", "g2"), false, ContingencyContext.specificContingency("c1"));
+
+    private static final SensitivityFactorMatrix MATRIX2 = new SensitivityFactorMatrix(SensitivityFunctionType.BUS_VOLTAGE, List.of("b1"),
+            SensitivityVariableType.BUS_TARGET_VOLTAGE, List.of("g1", "g2", "g3"), false, ContingencyContext.none());
+
+    private static final SensitivityFactorMatrix EMPTY_MATRIX = new SensitivityFactorMatrix(SensitivityFunctionType.BRANCH_CURRENT_1, List.of("l12"),
+            SensitivityVariableType.INJECTION_ACTIVE_POWER, List.of(), false, ContingencyContext.all());
+
+    private static List<String> toStrings(List<SensitivityFactor> factors) {
+        return factors.stream().map(SensitivityFactor::toString).toList();
+    }
+
+    private static List<String> read(SensitivityFactorReader reader) {
+        List<SensitivityFactor> factors = new ArrayList<>();
+        reader.read((functionType, functionId, variableType, variableId, variableSet, contingencyContext)
+            -> factors.add(new SensitivityFactor(functionType, functionId, variableType, variableId, variableSet, contingencyContext)));
+        return toStrings(factors);
+    }
+
+    @Test
+    void test() {
+        assertEquals(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, MATRIX.getFunctionType());
+        assertEquals(List.of("l12", "l13", "l23"), MATRIX.getFunctionIds());
+        assertEquals(SensitivityVariableType.INJECTION_ACTIVE_POWER, MATRIX.getVariableType());
+        assertEquals(List.of("g1", "g2"), MATRIX.getVariableIds());
+        assertFalse(MATRIX.isVariableSet());
+        assertEquals(ContingencyContext.specificContingency("c1"), MATRIX.getContingencyContext());
+        assertEquals(6, MATRIX.getFactorCount());
+        assertEquals("SensitivityFactorMatrix(functionType=BRANCH_ACTIVE_POWER_1, functionIds=[l12, l13, l23], variableType=INJECTION_ACTIVE_POWER, variableIds=[g1, g2], variableSet=false, contingencyContext=ContingencyContext(contingencyId='c1', contextType=SPECIFIC))",
+                MATRIX.toString());
+
+        SensitivityFactor factor = MATRIX.getFactor(3);
+        assertEquals("l13", factor.getFunctionId());
+        assertEquals("g2", factor.getVariableId());
+        assertThrows(IndexOutOfBoundsException.class, () -> MATRIX.getFactor(6));
+
+        List<String> expected = toStrings(SensitivityFactor.createMatrix(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, List.of("l12", "l13", "l23"),
+                SensitivityVariableType.INJECTION_ACTIVE_POWER, List.of("g1", "g2"), false, ContingencyContext.specificContingency("c1")));
+        assertEquals(expected, toStrings(MATRIX.getFactors()));
+        assertEquals(expected, read(MATRIX::read));
+        assertTrue(EMPTY_MATRIX.getFactors().isEmpty());
+    }
+
+    @Test
+    void testReader() {
+        SensitivityFactorMatrixReader reader = new SensitivityFactorMatrixReader(List.of(EMPTY_MATRIX, MATRIX, EMPTY_MATRIX, MATRIX2, EMPTY_MATRIX));
+        assertEquals(5, reader.getMatrices().size());
+        assertEquals(9, reader.getFactorCount());
+        List<String> expected = new ArrayList<>(toStrings(MATRIX.getFactors()));
+        expected.addAll(toStrings(MATRIX2.getFactors()));
+        assertEquals(expected, read(reader));
+        assertEquals(expected, toStrings(reader.getFactors()));
+        assertThrows(IndexOutOfBoundsException.class, () -> reader.getFactors().get(9));
+    }
+
+    @Test
+    void testJson() throws IOException {
+        ObjectMapper objectMapper = JsonSensitivityAnalysisParameters.createObjectMapper();
+        SensitivityFactorMatrix matrix = roundTripTest(MATRIX, (matrix1, jsonFile) -> JsonUtil.writeJson(jsonFile, matrix1, objectMapper),
+            jsonFile -> JsonUtil.readJson(jsonFile, SensitivityFactorMatrix.class, objectMapper), "/factorMatrixRef.json");
+        assertEquals(MATRIX.toString(), matrix.toString());
+
+        Path jsonFile = tmpDir.resolve("matrices.json");
+        JsonUtil.writeJson(jsonFile, List.of(MATRIX, MATRIX2), objectMapper);
+        assertEquals(read(new SensitivityFactorMatrixReader(List.of(MATRIX, MATRIX2))), read(new SensitivityFactorMatrixJsonReader(jsonFile)));
+    }
+}
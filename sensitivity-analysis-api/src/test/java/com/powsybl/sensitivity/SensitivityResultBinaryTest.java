@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.sensitivity;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.io.table.TableFormatter;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.commons.test.AbstractSerDeTest;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.contingency.ContingencyContext;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Elia Group
+ */
+class SensitivityResultBinaryTest extends AbstractSerDeTest {
+
+    private static final List<Contingency> CONTINGENCIES = List.of(new Contingency("c1"), new Contingency("c2"), new Contingency("c3"));
+
+    private static final List<SensitivityFactor> FACTORS = new SensitivityFactorMatrixReader(List.of(
+            new SensitivityFactorMatrix(SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, List.of("l1", "l2", "l3"),
+                    SensitivityVariableType.INJECTION_ACTIVE_POWER, List.of("g1", "g2"), false, ContingencyContext.all())))
+            .getFactors();
+
+    private static void writeValues(SensitivityResultWriter writer) {
+        for (int c = -1; c < CONTINGENCIES.size(); c++) {
+            for (int f = 0; f < FACTORS.size(); f++) {
+                writer.writeSensitivityValue(f, c, f * 0.1 + c, c * 100.0 + f / 2);
+            }
+        }
+        for (int c = 0; c < CONTINGENCIES.size(); c++) {
+            writer.writeContingencyStatus(c, c == 1 ? SensitivityAnalysisResult.Status.FAILURE : SensitivityAnalysisResult.Status.SUCCESS);
+        }
+    }
+
+    private Path writeBinary() {
+        Path file = tmpDir.resolve("result.bin");
+        // small blocks to have values of a contingency spread over several blocks
+        try (SensitivityResultBinaryWriter writer = new SensitivityResultBinaryWriter(file, CONTINGENCIES, 4)) {
+            writeValues(writer);
+        }
+        return file;
+    }
+
+    private static List<String> toStrings(List<SensitivityValue> values) {
+        return values.stream().map(SensitivityValue::toString).toList();
+    }
+
+    private static List<String> statusesToStrings(List<SensitivityAnalysisResult.SensitivityContingencyStatus> statuses) {
+        return statuses.stream().map(s -> s.getContingencyId() + " " + s.getStatus()).toList();
+    }
+
+    @Test
+    void testRead() {
+        SensitivityResultModelWriter expected = new SensitivityResultModelWriter(CONTINGENCIES);
+        writeValues(expected);
+        SensitivityResultModelWriter actual = new SensitivityResultModelWriter(CONTINGENCIES);
+        try (SensitivityResultBinaryReader reader = new SensitivityResultBinaryReader(writeBinary())) {
+            assertEquals(List.of("c1", "c2", "c3"), reader.getContingencyIds());
+            assertEquals(24, reader.getValueCount());
+            assertEquals(toStrings(expected.getValues()), toStrings(reader.getValues()));
+            assertEquals(statusesToStrings(expected.getContingencyStatuses()), statusesToStrings(reader.getContingencyStatuses()));
+            reader.read(actual);
+
+            assertEquals(toStrings(expected.getValues().subList(0, 6)), toStrings(reader.getValues(null)));
+            assertEquals(toStrings(expected.getValues().subList(12, 18)), toStrings(reader.getValues("c2")));
+            assertTrue(reader.getValues("unknown").isEmpty());
+
+            List<SensitivityValue> l2Values = reader.getFunctionValues(FACTORS, SensitivityFunctionType.BRANCH_ACTIVE_POWER_1, "l2");
+            assertEquals(8, l2Values.size());
+            assertTrue(l2Values.stream().allMatch(v -> v.getFactorIndex() == 2 || v.getFactorIndex() == 3));
+            assertTrue(reader.getFunctionValues(FACTORS, SensitivityFunctionType.BRANCH_ACTIVE_POWER_2, "l2").isEmpty());
+        }
+        assertEquals(toStrings(expected.getValues()), toStrings(actual.getValues()));
+        assertEquals(statusesToStrings(expected.getContingencyStatuses()), statusesToStrings(actual.getContingencyStatuses()));
+    }
+
+    @Test
+    void testConvert() throws IOException {
+        StringWriter expectedCsv = new StringWriter();
+        StringWriter expectedStatusCsv = new StringWriter();
+        try (TableFormatter formatter = SensitivityResultCsvWriter.createTableFormatter(expectedCsv);
+             TableFormatter statusFormatter = SensitivityResultCsvWriter.createContingencyStatusTableFormatter(expectedStatusCsv)) {
+            writeValues(new SensitivityResultCsvWriter(formatter, statusFormatter, CONTINGENCIES));
+        }
+        StringWriter expectedJson = new StringWriter();
+        try (JsonGenerator generator = JsonUtil.createJsonFactory().createGenerator(expectedJson);
+             SensitivityResultJsonWriter writer = new SensitivityResultJsonWriter(generator, CONTINGENCIES)) {
+            writeValues(writer);
+        }
+
+        StringWriter csv = new StringWriter();
+        StringWriter statusCsv = new StringWriter();
+        StringWriter json = new StringWriter();
+        try (SensitivityResultBinaryReader reader = new SensitivityResultBinaryReader(writeBinary());
+             JsonGenerator generator = JsonUtil.createJsonFactory().createGenerator(json)) {
+            reader.writeCsv(csv, statusCsv);
+            reader.writeJson(generator);
+        }
+        assertEquals(expectedCsv.toString(), csv.toString());
+        assertEquals(expectedStatusCsv.toString(), statusCsv.toString());
+        assertEquals(expectedJson.toString(), json.toString());
+    }
+
+    @Test
+    void testEmpty() {
+        Path file = tmpDir.resolve("empty.bin");
+        new SensitivityResultBinaryWriter(file, List.of()).close();
+        try (SensitivityResultBinaryReader reader = new SensitivityResultBinaryReader(file)) {
+            assertEquals(0, reader.getValueCount());
+            assertTrue(reader.getValues().isEmpty());
+            assertTrue(reader.getContingencyStatuses().isEmpty());
+        }
+    }
+
+    @Test
+    void testInvalidFiles() throws IOException {
+        Path notClosed = tmpDir.resolve("not-closed.bin");
+        SensitivityResultBinaryWriter writer = new SensitivityResultBinaryWriter(notClosed, CONTINGENCIES, 4);
+        writeValues(writer);
+        PowsyblException e = assertThrows(PowsyblException.class, () -> new SensitivityResultBinaryReader(notClosed));
+        assertEquals("Incomplete sensitivity result file, the writer has not been closed", e.getMessage());
+        writer.close();
+
+        Path invalid = Files.writeString(tmpDir.resolve("invalid.bin"), "Contingency ID;Factor index;Function ref value;Sensitivity value");
+        e = assertThrows(PowsyblException.class, () -> new SensitivityResultBinaryReader(invalid));
+        assertEquals("Invalid sensitivity result file", e.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> new SensitivityResultBinaryWriter(tmpDir.resolve("result.bin"), CONTINGENCIES, 0));
+    }
+}
@@ -167,6 +167,13 @@ public class CalculatedTimeSeries implements DoubleTimeSeries {
         if (metadata.getIndex() == InfiniteTimeSeriesIndex.INSTANCE) {
             throw new TimeSeriesException("Impossible to fill buffer because calculated time series has not been synchronized on a finite time index");
         }
+        double[] values = evaluateAll();
+        if (values != null) {
+            for (int i = 0; i < values.length; i++) {
+                consumer.accept(values[i], i);
+            }
+            return;
+        }
         Iterator<DoublePoint> it = iterator();
         DoublePoint prevPoint = null;
         while (it.hasNext()) {
@@ -185,6 +192,32 @@ public class CalculatedTimeSeries implements DoubleTimeSeries {
         }
     }
 
+    /**
+     * Evaluate the calculation on all the points of the index at once, on the uncompressed values of the time series.
+     * As the values of the time series are constant between two points of a compressed time series, this gives the
+     * same result as evaluating at each point and filling the gaps, unless the calculation depends on the time.
+     *
+     * @return the values, or null if the calculation cannot be evaluated this way
+     */
+    private double[] evaluateAll() {
+        List<DoubleTimeSeries> timeSeriesList = loadData();
+        CompiledNodeCalc compiledNodeCalc = CompiledNodeCalc.compile(resolve(timeSeriesList));
+        if (compiledNodeCalc.isTimeDependent()) {
+            return null;
+        }
+        int pointCount = metadata.getIndex().getPointCount();
+        double[][] values = new double[timeSeriesList.size()][];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = timeSeriesList.get(i).toArray();
+            if (values[i].length != pointCount) {
+                return null;
+            }
+        }
+        double[] result = new double[pointCount];
+        compiledNodeCalc.evaluate(values, 0, pointCount, result, 0);
+        return result;
+    }
+
     @Override
     public void fillBuffer(DoubleBuffer buffer, int timeSeriesOffset) {
         Objects.requireNonNull(buffer);
@@ -216,35 +249,35 @@ public class CalculatedTimeSeries implements DoubleTimeSeries {
         return index;
     }
 
-    private static DoublePoint evaluateMultiPoint(NodeCalc resolvedNodeCalc, DoubleMultiPoint multiPoint) {
-        double value = NodeCalcEvaluator.eval(resolvedNodeCalc, multiPoint);
+    private static DoublePoint evaluateMultiPoint(CompiledNodeCalc compiledNodeCalc, DoubleMultiPoint multiPoint) {
+        double value = compiledNodeCalc.evaluate(multiPoint);
         return new DoublePoint(multiPoint.getIndex(), multiPoint.getTime(), value);
     }
 
-    private static DoublePoint evaluate(NodeCalc resolvedNodeCalc) {
-        double value = NodeCalcEvaluator.eval(resolvedNodeCalc, null);
+    private static DoublePoint evaluate(CompiledNodeCalc compiledNodeCalc) {
+        double value = compiledNodeCalc.evaluate(null);
         return new DoublePoint(0, InfiniteTimeSeriesIndex.START_TIME, value);
     }
 
     @Override
     public Stream<DoublePoint> stream() {
         List<DoubleTimeSeries> timeSeriesList = loadData();
-        NodeCalc resolvedNodeCalc = resolve(timeSeriesList);
+        CompiledNodeCalc compiledNodeCalc = CompiledNodeCalc.compile(resolve(timeSeriesList));
         if (timeSeriesList.isEmpty()) {
-            return Stream.of(evaluate(resolvedNodeCalc));
+            return Stream.of(evaluate(compiledNodeCalc));
         } else {
-            return DoubleTimeSeries.stream(timeSeriesList).map(multiPoint -> evaluateMultiPoint(resolvedNodeCalc, multiPoint));
+            return DoubleTimeSeries.stream(timeSeriesList).map(multiPoint -> evaluateMultiPoint(compiledNodeCalc, multiPoint));
         }
     }
 
     @Override
     public Iterator<DoublePoint> iterator() {
         List<DoubleTimeSeries> timeSeriesList = loadData();
-        NodeCalc resolvedNodeCalc = resolve(timeSeriesList);
+        CompiledNodeCalc compiledNodeCalc = CompiledNodeCalc.compile(resolve(timeSeriesList));
         if (timeSeriesList.isEmpty()) {
-            return Iterators.singletonIterator(evaluate(resolvedNodeCalc));
+            return Iterators.singletonIterator(evaluate(compiledNodeCalc));
         } else {
-            return Iterators.transform(DoubleTimeSeries.iterator(timeSeriesList), multiPoint -> evaluateMultiPoint(resolvedNodeCalc, multiPoint));
+            return Iterators.transform(DoubleTimeSeries.iterator(timeSeriesList), multiPoint -> evaluateMultiPoint(compiledNodeCalc, multiPoint));
         }
     }
 
@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.powsybl.commons.util.trove.TDoubleArrayListHack;
+import com.powsybl.commons.util.trove.TIntArrayListHack;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An uncompressed chunk whose values are read from a buffer, for instance a view of a memory mapped file written by
+ * {@link MappedTimeSeriesStore}, instead of being copied to the heap. The buffer is only read with absolute accesses,
+ * so the chunk can be shared by several threads.
+ *
+ * @author Elia Group
+ */
+final class MappedDoubleDataChunk extends AbstractUncompressedDataChunk implements DoubleDataChunk {
+
+    private final DoubleBuffer values;
+
+    MappedDoubleDataChunk(int offset, DoubleBuffer values) {
+        super(offset);
+        this.values = Objects.requireNonNull(values).slice();
+    }
+
+    /**
+     * A read only view of the values.
+     */
+    DoubleBuffer getValues() {
+        return values.asReadOnlyBuffer();
+    }
+
+    @Override
+    public int getLength() {
+        return values.limit();
+    }
+
+    @Override
+    public int getEstimatedSize() {
+        return Double.BYTES * values.limit();
+    }
+
+    @Override
+    public TimeSeriesDataType getDataType() {
+        return TimeSeriesDataType.DOUBLE;
+    }
+
+    @Override
+    public void fillBuffer(DoubleBuffer buffer, int timeSeriesOffset) {
+        Objects.requireNonNull(buffer);
+        buffer.put(timeSeriesOffset + offset, values, 0, values.limit());
+    }
+
+    @Override
+    public void fillBuffer(BigDoubleBuffer buffer, long timeSeriesOffset) {
+        Objects.requireNonNull(buffer);
+        for (int i = 0; i < values.limit(); i++) {
+            buffer.put(timeSeriesOffset + offset + i, values.get(i));
+        }
+    }
+
+    @Override
+    public DoubleDataChunk tryToCompress() {
+        TDoubleArrayListHack stepValues = new TDoubleArrayListHack();
+        TIntArrayListHack stepLengths = new TIntArrayListHack();
+        int estimatedSize = getEstimatedSize();
+        for (int i = 0; i < values.limit(); i++) {
+            double value = values.get(i);
+            int previousIndex = stepValues.size() - 1;
+            if (previousIndex >= 0 && stepValues.getQuick(previousIndex) == value) {
+                stepLengths.set(previousIndex, stepLengths.getQuick(previousIndex) + 1);
+            } else {
+                stepValues.add(value);
+                stepLengths.add(1);
+            }
+            if (CompressedDoubleDataChunk.getEstimatedSize(stepValues.size(), stepLengths.size()) >= estimatedSize) {
+                // compression is inefficient
+                return this;
+            }
+        }
+        return new CompressedDoubleDataChunk(offset, values.limit(), stepValues.toArray(), stepLengths.toArray());
+    }
+
+    @Override
+    public Split<DoublePoint, DoubleDataChunk> splitAt(int splitIndex) {
+        // split at offset is not allowed because it will result to a null left chunk
+        if (splitIndex <= offset || splitIndex > (offset + values.limit() - 1)) {
+            throw new IllegalArgumentException("Split index " + splitIndex + " out of chunk range ]" + offset
+                    + ", " + (offset + values.limit() - 1) + "]");
+        }
+        int length1 = splitIndex - offset;
+        return new Split<>(new MappedDoubleDataChunk(offset, values.slice(0, length1)),
+                           new MappedDoubleDataChunk(splitIndex, values.slice(length1, values.limit() - length1)));
+    }
+
+    @Override
+    public DoubleDataChunk append(final DoubleDataChunk otherChunk) {
+        if (getOffset() + getLength() != otherChunk.getOffset()) {
+            throw new IllegalArgumentException("Chunks are not successive. First offset is " + getOffset()
+                                               + " and first size is " + getLength() + "; second offset should be " +
+                                               (getOffset() + getLength()) + "but is " + otherChunk.getOffset());
+        }
+        if (!(otherChunk instanceof MappedDoubleDataChunk chunk)) {
+            throw new IllegalArgumentException("The chunks to merge have to have the same implentation. One of them is " + this.getClass()
+                                               + ", the other one is " + otherChunk.getClass());
+        }
+        // the values of the appended chunk are not contiguous in the buffer, they are copied
+        double[] appended = new double[getLength() + chunk.getLength()];
+        values.get(0, appended, 0, getLength());
+        chunk.values.get(0, appended, getLength(), chunk.getLength());
+        return new MappedDoubleDataChunk(offset, DoubleBuffer.wrap(appended));
+    }
+
+    @Override
+    public Stream<DoublePoint> stream(TimeSeriesIndex index) {
+        Objects.requireNonNull(index);
+        return IntStream.range(0, values.limit()).mapToObj(i -> new DoublePoint(offset + i, index.getTimeAt(offset + i), values.get(i)));
+    }
+
+    @Override
+    public Iterator<DoublePoint> iterator(TimeSeriesIndex index) {
+        Objects.requireNonNull(index);
+        return new Iterator<>() {
+
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < values.limit();
+            }
+
+            @Override
+            public DoublePoint next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                DoublePoint point = new DoublePoint(offset + i, index.getTimeAt(offset + i), values.get(i));
+                i++;
+                return point;
+            }
+        };
+    }
+
+    @Override
+    protected void writeValuesJson(JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        for (int i = 0; i < values.limit(); i++) {
+            generator.writeNumber(values.get(i));
+        }
+        generator.writeEndArray();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(offset, values);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof MappedDoubleDataChunk other) {
+            return offset == other.offset && values.equals(other.values);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,498 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import com.google.common.io.CountingOutputStream;
+import com.powsybl.commons.json.JsonUtil;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * A read only time series store backed by a binary file, which is memory mapped.
+ * <p>
+ * The chunks of each version of each time series are written contiguously, followed by an index giving, for each
+ * time series, its metadata and the location of each of its versions in the file. Only the index is read when the
+ * store is opened: the data of a time series is only read, from a mapping of its own region of the file, when it is
+ * requested. Files are therefore not limited to the size of a single mapping, nor to the available heap.
+ * <p>
+ * The values of the uncompressed chunks of double time series are not copied: the chunks are views of the mapping,
+ * which remain valid after the store has been closed. The step values and lengths of compressed chunks and the string
+ * values, which have to be decoded, are read to the heap.
+ * <p>
+ * Files are written with a {@link Writer}, which can be directly fed by {@link TimeSeries#parseCsv(Path, TimeSeriesCsvConfig, com.powsybl.commons.report.ReportNode, java.util.function.BiConsumer)}
+ * to convert a CSV file version by version.
+ *
+ * @author Elia Group
+ */
+public class MappedTimeSeriesStore implements ReadOnlyTimeSeriesStore, Closeable {
+
+    private static final byte[] MAGIC = {'P', 'T', 'S', 'S'};
+    private static final int FORMAT_VERSION = 1;
+    private static final int FOOTER_SIZE = Long.BYTES + MAGIC.length;
+
+    private static final byte UNCOMPRESSED = 0;
+    private static final byte COMPRESSED = 1;
+
+    private record Location(long offset, long length) {
+    }
+
+    private record Entry(TimeSeriesMetadata metadata, SortedMap<Integer, Location> locations) {
+    }
+
+    private final FileChannel channel;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    public MappedTimeSeriesStore(Path file) {
+        Objects.requireNonNull(file);
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            try {
+                readIndex();
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void checkMagic(ByteBuffer buffer) {
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new TimeSeriesException("Invalid time series store file: wrong magic number");
+        }
+    }
+
+    private void readIndex() throws IOException {
+        long size = channel.size();
+        if (size < MAGIC.length + Integer.BYTES + FOOTER_SIZE) {
+            throw new TimeSeriesException("Invalid time series store file: too small");
+        }
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, MAGIC.length + Integer.BYTES);
+        checkMagic(header);
+        int formatVersion = header.getInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new TimeSeriesException("Unsupported time series store file version: " + formatVersion);
+        }
+        MappedByteBuffer footer = channel.map(FileChannel.MapMode.READ_ONLY, size - FOOTER_SIZE, FOOTER_SIZE);
+        long indexOffset = footer.getLong();
+        checkMagic(footer);
+
+        MappedByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, indexOffset, size - FOOTER_SIZE - indexOffset);
+        int entryCount = index.getInt();
+        for (int i = 0; i < entryCount; i++) {
+            TimeSeriesMetadata metadata = JsonUtil.parseJson(readString(index), TimeSeriesMetadata::parseJson);
+            int versionCount = index.getInt();
+            SortedMap<Integer, Location> locations = new TreeMap<>();
+            for (int j = 0; j < versionCount; j++) {
+                int version = index.getInt();
+                locations.put(version, new Location(index.getLong(), index.getLong()));
+            }
+            entries.put(metadata.getName(), new Entry(metadata, locations));
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == -1) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private ByteBuffer map(Location location) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, location.offset(), location.length());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<DoubleDataChunk> readDoubleChunks(ByteBuffer buffer) {
+        int chunkCount = buffer.getInt();
+        List<DoubleDataChunk> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            byte type = buffer.get();
+            int offset = buffer.getInt();
+            if (type == UNCOMPRESSED) {
+                int byteCount = buffer.getInt() * Double.BYTES;
+                DoubleBuffer values = buffer.slice(buffer.position(), byteCount).asDoubleBuffer();
+                buffer.position(buffer.position() + byteCount);
+                chunks.add(new MappedDoubleDataChunk(offset, values));
+            } else {
+                int uncompressedLength = buffer.getInt();
+                int stepCount = buffer.getInt();
+                double[] stepValues = new double[stepCount];
+                buffer.asDoubleBuffer().get(stepValues);
+                buffer.position(buffer.position() + stepCount * Double.BYTES);
+                int[] stepLengths = new int[stepCount];
+                buffer.asIntBuffer().get(stepLengths);
+                buffer.position(buffer.position() + stepCount * Integer.BYTES);
+                chunks.add(new CompressedDoubleDataChunk(offset, uncompressedLength, stepValues, stepLengths));
+            }
+        }
+        return chunks;
+    }
+
+    private static List<StringDataChunk> readStringChunks(ByteBuffer buffer) {
+        int chunkCount = buffer.getInt();
+        List<StringDataChunk> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            byte type = buffer.get();
+            int offset = buffer.getInt();
+            if (type == UNCOMPRESSED) {
+                String[] values = new String[buffer.getInt()];
+                for (int j = 0; j < values.length; j++) {
+                    values[j] = readString(buffer);
+                }
+                chunks.add(new UncompressedStringDataChunk(offset, values));
+            } else {
+                int uncompressedLength = buffer.getInt();
+                String[] stepValues = new String[buffer.getInt()];
+                for (int j = 0; j < stepValues.length; j++) {
+                    stepValues[j] = readString(buffer);
+                }
+                int[] stepLengths = new int[stepValues.length];
+                buffer.asIntBuffer().get(stepLengths);
+                buffer.position(buffer.position() + stepLengths.length * Integer.BYTES);
+                chunks.add(new CompressedStringDataChunk(offset, uncompressedLength, stepValues, stepLengths));
+            }
+        }
+        return chunks;
+    }
+
+    private boolean hasDataType(String timeSeriesName, TimeSeriesDataType dataType) {
+        Entry entry = entries.get(timeSeriesName);
+        return entry != null && entry.metadata().getDataType() == dataType;
+    }
+
+    private Optional<Entry> getEntry(String timeSeriesName, TimeSeriesDataType dataType) {
+        Objects.requireNonNull(timeSeriesName);
+        Entry entry = entries.get(timeSeriesName);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.metadata().getDataType() != dataType) {
+            throw new TimeSeriesException("Time series '" + timeSeriesName + "' is not a " + dataType + " time series");
+        }
+        return Optional.of(entry);
+    }
+
+    @Override
+    public Set<String> getTimeSeriesNames(TimeSeriesFilter filter) {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    @Override
+    public boolean timeSeriesExists(String timeSeriesName) {
+        return entries.containsKey(timeSeriesName);
+    }
+
+    @Override
+    public Optional<TimeSeriesMetadata> getTimeSeriesMetadata(String timeSeriesName) {
+        Objects.requireNonNull(timeSeriesName);
+        return Optional.ofNullable(entries.get(timeSeriesName)).map(Entry::metadata);
+    }
+
+    @Override
+    public List<TimeSeriesMetadata> getTimeSeriesMetadata(Set<String> timeSeriesNames) {
+        Objects.requireNonNull(timeSeriesNames);
+        return timeSeriesNames.stream()
+                .map(this::getTimeSeriesMetadata)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Set<Integer> getTimeSeriesDataVersions() {
+        return entries.values().stream()
+                .flatMap(entry -> entry.locations().keySet().stream())
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    @Override
+    public Set<Integer> getTimeSeriesDataVersions(String timeSeriesName) {
+        Objects.requireNonNull(timeSeriesName);
+        Entry entry = entries.get(timeSeriesName);
+        return entry != null ? Collections.unmodifiableSet(entry.locations().keySet()) : Collections.emptySet();
+    }
+
+    @Override
+    public Optional<DoubleTimeSeries> getDoubleTimeSeries(String timeSeriesName, int version) {
+        return getEntry(timeSeriesName, TimeSeriesDataType.DOUBLE).flatMap(entry -> {
+            Location location = entry.locations().get(version);
+            if (location == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new StoredDoubleTimeSeries(entry.metadata(), readDoubleChunks(map(location))));
+        });
+    }
+
+    @Override
+    public List<DoubleTimeSeries> getDoubleTimeSeries(Set<String> timeSeriesNames, int version) {
+        Objects.requireNonNull(timeSeriesNames);
+        return timeSeriesNames.stream()
+                .filter(timeSeriesName -> hasDataType(timeSeriesName, TimeSeriesDataType.DOUBLE))
+                .map(timeSeriesName -> getDoubleTimeSeries(timeSeriesName, version))
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<DoubleTimeSeries> getDoubleTimeSeries(int version) {
+        return entries.values().stream()
+                .filter(entry -> entry.metadata().getDataType() == TimeSeriesDataType.DOUBLE)
+                .map(entry -> getDoubleTimeSeries(entry.metadata().getName(), version))
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<StringTimeSeries> getStringTimeSeries(String timeSeriesName, int version) {
+        return getEntry(timeSeriesName, TimeSeriesDataType.STRING).flatMap(entry -> {
+            Location location = entry.locations().get(version);
+            if (location == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new StringTimeSeries(entry.metadata(), readStringChunks(map(location))));
+        });
+    }
+
+    @Override
+    public List<StringTimeSeries> getStringTimeSeries(Set<String> timeSeriesNames, int version) {
+        Objects.requireNonNull(timeSeriesNames);
+        return timeSeriesNames.stream()
+                .filter(timeSeriesName -> hasDataType(timeSeriesName, TimeSeriesDataType.STRING))
+                .map(timeSeriesName -> getStringTimeSeries(timeSeriesName, version))
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void addListener(TimeSeriesStoreListener listener) {
+        // the store is read only, listeners are never notified
+    }
+
+    @Override
+    public void removeListener(TimeSeriesStoreListener listener) {
+        // the store is read only, listeners are never notified
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static Writer writer(Path file) {
+        return new Writer(file);
+    }
+
+    /**
+     * Write all the versions of a list of time series, as returned by {@link TimeSeries#parseCsv(Path)}, to a file.
+     */
+    public static void write(Path file, Map<Integer, List<TimeSeries>> timeSeriesPerVersion) {
+        Objects.requireNonNull(timeSeriesPerVersion);
+        try (Writer writer = writer(file)) {
+            timeSeriesPerVersion.forEach(writer::add);
+        }
+    }
+
+    /**
+     * Write time series to a store file, version by version. Only the index is kept in memory, the data being written
+     * as soon as it is added.
+     */
+    public static final class Writer implements Closeable {
+
+        private final CountingOutputStream countingOutputStream;
+
+        private final DataOutputStream os;
+
+        private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+        private final ByteBuffer buffer = ByteBuffer.allocate(8192);
+
+        private Writer(Path file) {
+            Objects.requireNonNull(file);
+            try {
+                countingOutputStream = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+                os = new DataOutputStream(countingOutputStream);
+                os.write(MAGIC);
+                os.writeInt(FORMAT_VERSION);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Add a version of time series. Each version of a time series can only be added once, and all its versions
+         * must have the same metadata.
+         */
+        public void add(int version, List<? extends TimeSeries> timeSeriesList) {
+            Objects.requireNonNull(timeSeriesList);
+            try {
+                for (TimeSeries timeSeries : timeSeriesList) {
+                    add(version, timeSeries);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void add(int version, TimeSeries<?, ?> timeSeries) throws IOException {
+            // copy of the metadata, as the index of a calculated time series is only known through getIndex()
+            TimeSeriesMetadata metadata = new TimeSeriesMetadata(timeSeries.getMetadata().getName(), timeSeries.getMetadata().getDataType(),
+                    timeSeries.getMetadata().getTags(), timeSeries.getMetadata().getIndex());
+            Entry entry = entries.computeIfAbsent(metadata.getName(), name -> new Entry(metadata, new TreeMap<>()));
+            if (!entry.metadata().equals(metadata)) {
+                throw new TimeSeriesException("Versions of time series '" + metadata.getName() + "' have different metadata");
+            }
+            if (entry.locations().containsKey(version)) {
+                throw new TimeSeriesException("Version " + version + " of time series '" + metadata.getName() + "' has already been added");
+            }
+            long offset = countingOutputStream.getCount();
+            if (timeSeries instanceof StoredDoubleTimeSeries storedDoubleTimeSeries) {
+                writeDoubleChunks(storedDoubleTimeSeries.getChunks());
+            } else if (timeSeries instanceof DoubleTimeSeries doubleTimeSeries) {
+                // for instance a calculated time series, whose values are materialized
+                writeDoubleChunks(List.of(new UncompressedDoubleDataChunk(0, doubleTimeSeries.toArray()).tryToCompress()));
+            } else if (timeSeries instanceof StringTimeSeries stringTimeSeries) {
+                writeStringChunks(stringTimeSeries.getChunks());
+            } else {
+                throw new TimeSeriesException("Unsupported time series type: " + timeSeries.getClass().getName());
+            }
+            entry.locations().put(version, new Location(offset, countingOutputStream.getCount() - offset));
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                os.writeInt(-1);
+            } else {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                os.writeInt(bytes.length);
+                os.write(bytes);
+            }
+        }
+
+        private void writeDoubles(double[] values) throws IOException {
+            int maxCount = buffer.capacity() / Double.BYTES;
+            for (int i = 0; i < values.length; i += maxCount) {
+                int count = Math.min(maxCount, values.length - i);
+                buffer.clear();
+                buffer.asDoubleBuffer().put(values, i, count);
+                os.write(buffer.array(), 0, count * Double.BYTES);
+            }
+        }
+
+        private void writeDoubles(DoubleBuffer values) throws IOException {
+            int maxCount = buffer.capacity() / Double.BYTES;
+            for (int i = 0; i < values.limit(); i += maxCount) {
+                int count = Math.min(maxCount, values.limit() - i);
+                buffer.clear();
+                buffer.asDoubleBuffer().put(0, values, i, count);
+                os.write(buffer.array(), 0, count * Double.BYTES);
+            }
+        }
+
+        private void writeDoubleChunks(List<DoubleDataChunk> chunks) throws IOException {
+            os.writeInt(chunks.size());
+            for (DoubleDataChunk chunk : chunks) {
+                if (chunk instanceof UncompressedDoubleDataChunk uncompressed) {
+                    os.writeByte(UNCOMPRESSED);
+                    os.writeInt(uncompressed.getOffset());
+                    os.writeInt(uncompressed.getValues().length);
+                    writeDoubles(uncompressed.getValues());
+                } else if (chunk instanceof MappedDoubleDataChunk mapped) {
+                    // for instance a chunk read from another store
+                    os.writeByte(UNCOMPRESSED);
+                    os.writeInt(mapped.getOffset());
+                    os.writeInt(mapped.getLength());
+                    writeDoubles(mapped.getValues());
+                } else if (chunk instanceof CompressedDoubleDataChunk compressed) {
+                    os.writeByte(COMPRESSED);
+                    os.writeInt(compressed.getOffset());
+                    os.writeInt(compressed.getUncompressedLength());
+                    os.writeInt(compressed.getStepValues().length);
+                    writeDoubles(compressed.getStepValues());
+                    for (int length : compressed.getStepLengths()) {
+                        os.writeInt(length);
+                    }
+                } else {
+                    throw new TimeSeriesException("Unsupported chunk type: " + chunk.getClass().getName());
+                }
+            }
+        }
+
+        private void writeStringChunks(List<StringDataChunk> chunks) throws IOException {
+            os.writeInt(chunks.size());
+            for (StringDataChunk chunk : chunks) {
+                if (chunk instanceof UncompressedStringDataChunk uncompressed) {
+                    os.writeByte(UNCOMPRESSED);
+                    os.writeInt(uncompressed.getOffset());
+                    os.writeInt(uncompressed.getValues().length);
+                    for (String value : uncompressed.getValues()) {
+                        writeString(value);
+                    }
+                } else if (chunk instanceof CompressedStringDataChunk compressed) {
+                    os.writeByte(COMPRESSED);
+                    os.writeInt(compressed.getOffset());
+                    os.writeInt(compressed.getUncompressedLength());
+                    os.writeInt(compressed.getStepValues().length);
+                    for (String value : compressed.getStepValues()) {
+                        writeString(value);
+                    }
+                    for (int length : compressed.getStepLengths()) {
+                        os.writeInt(length);
+                    }
+                } else {
+                    throw new TimeSeriesException("Unsupported chunk type: " + chunk.getClass().getName());
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                long indexOffset = countingOutputStream.getCount();
+                os.writeInt(entries.size());
+                for (Entry entry : entries.values()) {
+                    writeString(JsonUtil.toJson(entry.metadata()::writeJson));
+                    os.writeInt(entry.locations().size());
+                    for (Map.Entry<Integer, Location> e : entry.locations().entrySet()) {
+                        os.writeInt(e.getKey());
+                        os.writeLong(e.getValue().offset());
+                        os.writeLong(e.getValue().length());
+                    }
+                }
+                os.writeLong(indexOffset);
+                os.write(MAGIC);
+                os.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -30,7 +30,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -165,11 +169,9 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
 
     static Map<Integer, List<TimeSeries>> parseCsv(Path file, TimeSeriesCsvConfig timeSeriesCsvConfig,
                                                    ReportNode reportNode) {
-        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
-            return parseCsv(reader, timeSeriesCsvConfig, reportNode);
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
+        Map<Integer, List<TimeSeries>> timeSeriesPerVersion = new HashMap<>();
+        parseCsv(file, timeSeriesCsvConfig, reportNode, timeSeriesPerVersion::put);
+        return timeSeriesPerVersion;
     }
 
     static double parseDouble(String token) {
@@ -181,6 +183,18 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
     }
 
     class CsvParsingContext {
+
+        /**
+         * Approximate number of tokens buffered before being parsed, to bound the memory used by the raw lines
+         */
+        private static final int BATCH_TOKEN_COUNT = 1_000_000;
+
+        /**
+         * Number of columns parsed by each task, columns of wider files being parsed in parallel by the executor of
+         * the {@link TimeSeriesCsvConfig}
+         */
+        private static final int COLUMNS_PER_TASK = 256;
+
         private final List<String> names;
         private final TimeSeriesCsvConfig timeSeriesCsvConfig;
         private final int fixedColumns;
@@ -190,6 +204,9 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
 
         private final List<Long> times = new ArrayList<>();
 
+        private final List<String[]> lines = new ArrayList<>();
+        private final int batchSize;
+
         private TimeSeriesIndex refIndex;
 
         CsvParsingContext(List<String> names) {
@@ -202,6 +219,7 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
             this.fixedColumns = timeSeriesCsvConfig.versioned() ? 2 : 1;
             dataTypes = new TimeSeriesDataType[names.size()];
             values = new Object[names.size()];
+            batchSize = Math.max(1, BATCH_TOKEN_COUNT / expectedTokens());
         }
 
         private static TimeSeriesException assertDataType(TimeSeriesDataType dataType) {
@@ -227,38 +245,46 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
         }
 
         int getVersion(String[] tokens, ReportNode reportNode) {
-            // Initialisation at the default unversioned value
-            int version = DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES;
-
-            // Change the value if it is versioned
-            if (timeSeriesCsvConfig.versioned()) {
-                version = Integer.parseInt(tokens[1]);
-
-                // If the version is equals to the default version, either log a warning or throw an exception
-                if (version == DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES) {
-                    String line = String.join(";", tokens);
-                    if (timeSeriesCsvConfig.withStrictVersioningImport()) {
-                        throw new TimeSeriesException(String.format("The version number for a versioned TimeSeries cannot be equals to the default version number (%s) at line \"%s\"",
-                            DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES,
-                            line));
-                    } else {
-                        reportNode.newReportNode()
-                            .withMessageTemplate("invalidVersionNumber", "The version number for a versioned TimeSeries should not be equals to the default version number (${versionNumber}) at line \"${line}\"")
-                            .withSeverity(TypedValue.WARN_SEVERITY)
-                            .withUntypedValue("versionNumber", DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES)
-                            .withUntypedValue("line", line)
-                            .add();
-                        LOGGER.warn("The version number for a versioned TimeSeries should not be equals to the default version number ({}) at line \"{}}\"",
-                            DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES,
-                            line);
-                    }
-                }
+            int version = parseVersion(tokens);
+            if (isInvalidVersion(version)) {
+                checkInvalidVersion(String.join(";", tokens), reportNode);
             }
             return version;
         }
 
+        int parseVersion(String[] tokens) {
+            // the default unversioned value, unless it is versioned
+            return timeSeriesCsvConfig.versioned() ? Integer.parseInt(tokens[1]) : DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES;
+        }
+
+        boolean isInvalidVersion(int version) {
+            return timeSeriesCsvConfig.versioned() && version == DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES;
+        }
+
+        /**
+         * The version number of a versioned line is equal to the default version, either log a warning or throw an
+         * exception
+         */
+        void checkInvalidVersion(String line, ReportNode reportNode) {
+            if (timeSeriesCsvConfig.withStrictVersioningImport()) {
+                throw new TimeSeriesException(String.format("The version number for a versioned TimeSeries cannot be equals to the default version number (%s) at line \"%s\"",
+                    DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES,
+                    line));
+            } else {
+                reportNode.newReportNode()
+                    .withMessageTemplate("invalidVersionNumber", "The version number for a versioned TimeSeries should not be equals to the default version number (${versionNumber}) at line \"${line}\"")
+                    .withSeverity(TypedValue.WARN_SEVERITY)
+                    .withUntypedValue("versionNumber", DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES)
+                    .withUntypedValue("line", line)
+                    .add();
+                LOGGER.warn("The version number for a versioned TimeSeries should not be equals to the default version number ({}) at line \"{}}\"",
+                    DEFAULT_VERSION_NUMBER_FOR_UNVERSIONED_TIMESERIES,
+                    line);
+            }
+        }
+
         int timesSize() {
-            return times.size();
+            return times.size() + lines.size();
         }
 
         int expectedTokens() {
@@ -290,26 +316,134 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
             }
         }
 
-        void parseLine(String[] tokens) {
-            for (int i = fixedColumns; i < tokens.length; i++) {
-                String token = tokens[i] != null ? tokens[i].trim() : "";
-                parseToken(i, token);
+        /**
+         * Buffer a line, buffered lines being parsed by batch, column by column
+         */
+        void addLine(String[] tokens) {
+            lines.add(tokens);
+            if (lines.size() >= batchSize) {
+                parseLines();
+            }
+        }
+
+        void parseLines() {
+            if (lines.isEmpty()) {
+                return;
             }
+            int end = expectedTokens();
+            if (end - fixedColumns <= COLUMNS_PER_TASK) {
+                parseColumns(fixedColumns, end);
+            } else {
+                // each column is parsed by only one task, so values and data types are never shared between tasks
+                List<CompletableFuture<Void>> futures = new ArrayList<>();
+                for (int start = fixedColumns; start < end; start += COLUMNS_PER_TASK) {
+                    int taskStart = start;
+                    int taskEnd = Math.min(start + COLUMNS_PER_TASK, end);
+                    futures.add(CompletableFuture.runAsync(() -> parseColumns(taskStart, taskEnd), timeSeriesCsvConfig.executor()));
+                }
+                try {
+                    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof RuntimeException cause) {
+                        throw cause;
+                    }
+                    throw e;
+                }
+            }
+            for (String[] tokens : lines) {
+                parseTokenTime(tokens);
+            }
+            lines.clear();
+        }
 
-            parseTokenTime(tokens);
+        private void parseColumns(int start, int end) {
+            for (String[] tokens : lines) {
+                for (int i = start; i < end; i++) {
+                    String token = tokens[i] != null ? tokens[i].trim() : "";
+                    parseToken(i, token);
+                }
+            }
         }
 
         void parseTokenTime(String[] tokens) {
-            TimeFormat timeFormat = timeSeriesCsvConfig.timeFormat();
-            switch (timeFormat) {
-                case DATE_TIME -> times.add(ZonedDateTime.parse(tokens[0]).toInstant().toEpochMilli());
-                case FRACTIONS_OF_SECOND -> {
-                    double time = Double.parseDouble(tokens[0]) * 1000;
-                    times.add((long) time);
+            times.add(parseTime(tokens[0]));
+        }
+
+        long parseTime(String token) {
+            return switch (timeSeriesCsvConfig.timeFormat()) {
+                case DATE_TIME -> ZonedDateTime.parse(token).toInstant().toEpochMilli();
+                case FRACTIONS_OF_SECOND -> (long) (Double.parseDouble(token) * 1000);
+                case MILLIS -> (long) Double.parseDouble(token);
+            };
+        }
+
+        /**
+         * Set the data types of the columns from the values of a line, as done when parsing the first line
+         */
+        void initDataTypes(String[] tokens) {
+            for (int i = fixedColumns; i < tokens.length; i++) {
+                if (dataTypes[i - fixedColumns] == null) {
+                    String token = tokens[i] != null ? tokens[i].trim() : "";
+                    if (Doubles.tryParse(token) != null) {
+                        dataTypes[i - fixedColumns] = TimeSeriesDataType.DOUBLE;
+                        values[i - fixedColumns] = createDoubleValues();
+                    } else {
+                        dataTypes[i - fixedColumns] = TimeSeriesDataType.STRING;
+                        values[i - fixedColumns] = createStringValues();
+                    }
                 }
-                case MILLIS -> {
-                    double millis = Double.parseDouble(tokens[0]);
-                    times.add((long) millis);
+            }
+        }
+
+        /**
+         * Arrays of {@code lineCount} values, one per column, {@code double[]} or {@code String[]} depending on the
+         * data type of the column
+         */
+        Object[] createColumnValues(int lineCount) {
+            Object[] columnValues = new Object[dataTypes.length];
+            for (int i = 0; i < dataTypes.length; i++) {
+                if (dataTypes[i] == TimeSeriesDataType.DOUBLE) {
+                    columnValues[i] = new double[lineCount];
+                } else if (dataTypes[i] == TimeSeriesDataType.STRING) {
+                    columnValues[i] = new String[lineCount];
+                }
+            }
+            return columnValues;
+        }
+
+        /**
+         * Convert the values of a line to the column arrays created by {@link #createColumnValues(int)}. Data types
+         * have to be initialized, and are only read, so that several lines can be converted concurrently.
+         */
+        void convertLine(String[] tokens, int line, long[] lineTimes, Object[] columnValues) {
+            lineTimes[line] = parseTime(tokens[0]);
+            for (int i = fixedColumns; i < tokens.length; i++) {
+                String token = tokens[i] != null ? tokens[i].trim() : "";
+                if (dataTypes[i - fixedColumns] == TimeSeriesDataType.DOUBLE) {
+                    ((double[]) columnValues[i - fixedColumns])[line] = parseDouble(token);
+                } else if (dataTypes[i - fixedColumns] == TimeSeriesDataType.STRING) {
+                    ((String[]) columnValues[i - fixedColumns])[line] = checkString(token);
+                } else {
+                    throw assertDataType(dataTypes[i - fixedColumns]);
+                }
+            }
+        }
+
+        /**
+         * Add the converted lines {@code from} to {@code to} (excluded)
+         */
+        void addLines(long[] lineTimes, Object[] columnValues, int from, int to) {
+            parseLines();
+            for (int line = from; line < to; line++) {
+                times.add(lineTimes[line]);
+            }
+            for (int i = 0; i < dataTypes.length; i++) {
+                if (dataTypes[i] == TimeSeriesDataType.DOUBLE) {
+                    ((TDoubleArrayList) values[i]).add((double[]) columnValues[i], from, to - from);
+                } else if (dataTypes[i] == TimeSeriesDataType.STRING) {
+                    ((List<String>) values[i]).addAll(Arrays.asList((String[]) columnValues[i]).subList(from, to));
+                } else {
+                    throw assertDataType(dataTypes[i]);
                 }
             }
         }
@@ -317,6 +451,7 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
         void reInit() {
             // re-init
             times.clear();
+            lines.clear();
             for (int i = 0; i < dataTypes.length; i++) {
                 if (dataTypes[i] == TimeSeriesDataType.DOUBLE) {
                     ((TDoubleArrayList) values[i]).clear();
@@ -329,6 +464,8 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
         }
 
         List<TimeSeries> createTimeSeries() {
+            parseLines();
+
             // check time spacing is regular
             TimeSeriesIndex index = getTimeSeriesIndex();
 
@@ -393,6 +530,11 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
 
     static void readCsvValues(ResultIterator<String[], ParsingContext> iterator, CsvParsingContext context,
                               Map<Integer, List<TimeSeries>> timeSeriesPerVersion, ReportNode reportNode) {
+        readCsvValues(iterator, context, timeSeriesPerVersion::put, reportNode);
+    }
+
+    static void readCsvValues(ResultIterator<String[], ParsingContext> iterator, CsvParsingContext context,
+                              BiConsumer<Integer, List<TimeSeries>> versionConsumer, ReportNode reportNode) {
         int currentVersion = Integer.MIN_VALUE;
         while (iterator.hasNext()) {
             String[] tokens = iterator.next();
@@ -405,22 +547,24 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
             if (currentVersion == Integer.MIN_VALUE) {
                 currentVersion = version;
             } else if (version != currentVersion) {
-                timeSeriesPerVersion.put(currentVersion, context.createTimeSeries());
+                versionConsumer.accept(currentVersion, context.createTimeSeries());
                 context.reInit();
                 currentVersion = version;
             }
 
-            context.parseLine(tokens);
+            context.addLine(tokens);
         }
-        timeSeriesPerVersion.put(currentVersion, context.createTimeSeries());
+        versionConsumer.accept(currentVersion, context.createTimeSeries());
     }
 
     static CsvParsingContext readCsvHeader(ResultIterator<String[], ParsingContext> iterator, TimeSeriesCsvConfig timeSeriesCsvConfig) {
         if (!iterator.hasNext()) {
             throw new TimeSeriesException("CSV header is missing");
         }
-        String[] tokens = iterator.next();
+        return readCsvHeader(iterator.next(), timeSeriesCsvConfig);
+    }
 
+    static CsvParsingContext readCsvHeader(String[] tokens, TimeSeriesCsvConfig timeSeriesCsvConfig) {
         checkCsvHeader(timeSeriesCsvConfig, tokens);
 
         List<String> duplicates = new ArrayList<>();
@@ -437,6 +581,15 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
         return new CsvParsingContext(names, timeSeriesCsvConfig);
     }
 
+    static CsvParserSettings createCsvParserSettings(TimeSeriesCsvConfig timeSeriesCsvConfig) {
+        CsvParserSettings settings = new CsvParserSettings();
+        settings.getFormat().setDelimiter(timeSeriesCsvConfig.separator());
+        settings.getFormat().setQuoteEscape('"');
+        settings.getFormat().setLineSeparator(System.lineSeparator());
+        settings.setMaxColumns(timeSeriesCsvConfig.getMaxColumns());
+        return settings;
+    }
+
     static void checkCsvHeader(TimeSeriesCsvConfig timeSeriesCsvConfig, String[] tokens) {
         String separatorStr = Character.toString(timeSeriesCsvConfig.separator());
         if (timeSeriesCsvConfig.versioned() && (tokens.length < 3 || !"time".equalsIgnoreCase(tokens[0]) || !"version".equalsIgnoreCase(tokens[1]))) {
@@ -452,33 +605,68 @@ public interface TimeSeries<P extends AbstractPoint, T extends TimeSeries<P, T>>
 
     static Map<Integer, List<TimeSeries>> parseCsv(BufferedReader reader, TimeSeriesCsvConfig timeSeriesCsvConfig,
                                                    ReportNode reportNode) {
+        Map<Integer, List<TimeSeries>> timeSeriesPerVersion = new HashMap<>();
+        parseCsv(reader, timeSeriesCsvConfig, reportNode, timeSeriesPerVersion::put);
+        return timeSeriesPerVersion;
+    }
+
+    /**
+     * Parse a CSV file and stream the time series version by version: the time series of a version are given to
+     * {@code versionConsumer} as soon as all the lines of this version have been read, so that only one version is
+     * kept in memory at a time. Files bigger than {@link TimeSeriesCsvRangeParser#DEFAULT_RANGE_SIZE} are split in
+     * ranges of lines parsed in parallel by the executor of the {@link TimeSeriesCsvConfig}, see
+     * {@link TimeSeriesCsvRangeParser}.
+     */
+    static void parseCsv(Path file, TimeSeriesCsvConfig timeSeriesCsvConfig, ReportNode reportNode,
+                         BiConsumer<Integer, List<TimeSeries>> versionConsumer) {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(versionConsumer);
+        try {
+            if (Files.size(file) > TimeSeriesCsvRangeParser.DEFAULT_RANGE_SIZE) {
+                TimeSeriesCsvRangeParser parser = new TimeSeriesCsvRangeParser(file, timeSeriesCsvConfig, TimeSeriesCsvRangeParser.DEFAULT_RANGE_SIZE);
+                logCsvParsing(reportNode, versionConsumer, consumer -> parser.parse(reportNode, consumer));
+            } else {
+                try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    parseCsv(reader, timeSeriesCsvConfig, reportNode, versionConsumer);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void parseCsv(BufferedReader reader, TimeSeriesCsvConfig timeSeriesCsvConfig, ReportNode reportNode,
+                         BiConsumer<Integer, List<TimeSeries>> versionConsumer) {
         Objects.requireNonNull(reader);
+        Objects.requireNonNull(versionConsumer);
+
+        logCsvParsing(reportNode, versionConsumer, consumer -> {
+            CsvParser csvParser = new CsvParser(createCsvParserSettings(timeSeriesCsvConfig));
+            ResultIterator<String[], ParsingContext> iterator = csvParser.iterate(reader).iterator();
+            CsvParsingContext context = readCsvHeader(iterator, timeSeriesCsvConfig);
+            readCsvValues(iterator, context, consumer, reportNode);
+        });
+    }
 
+    private static void logCsvParsing(ReportNode reportNode, BiConsumer<Integer, List<TimeSeries>> versionConsumer,
+                                      Consumer<BiConsumer<Integer, List<TimeSeries>>> parsing) {
         Stopwatch stopwatch = Stopwatch.createStarted();
 
-        Map<Integer, List<TimeSeries>> timeSeriesPerVersion = new HashMap<>();
-
-        CsvParserSettings settings = new CsvParserSettings();
-        settings.getFormat().setDelimiter(timeSeriesCsvConfig.separator());
-        settings.getFormat().setQuoteEscape('"');
-        settings.getFormat().setLineSeparator(System.lineSeparator());
-        settings.setMaxColumns(timeSeriesCsvConfig.getMaxColumns());
-        CsvParser csvParser = new CsvParser(settings);
-        ResultIterator<String[], ParsingContext> iterator = csvParser.iterate(reader).iterator();
-        CsvParsingContext context = readCsvHeader(iterator, timeSeriesCsvConfig);
-        readCsvValues(iterator, context, timeSeriesPerVersion, reportNode);
+        int[] timeSeriesCount = new int[1];
+        parsing.accept((version, timeSeriesList) -> {
+            timeSeriesCount[0] += timeSeriesList.size();
+            versionConsumer.accept(version, timeSeriesList);
+        });
 
         long timing = stopwatch.elapsed(TimeUnit.MILLISECONDS);
         LOGGER.info("{} time series loaded from CSV in {} ms",
-                timeSeriesPerVersion.values().stream().mapToInt(List::size).sum(),
+                timeSeriesCount[0],
                     timing);
         reportNode.newReportNode()
             .withMessageTemplate("timeseriesLoadingTime", "${tsNumber} time series loaded from CSV in ${timing} ms")
-            .withUntypedValue("tsNumber", timeSeriesPerVersion.values().stream().mapToInt(List::size).sum())
+            .withUntypedValue("tsNumber", timeSeriesCount[0])
             .withUntypedValue("timing", timing)
             .add();
-
-        return timeSeriesPerVersion;
     }
 
     void writeJson(JsonGenerator generator);
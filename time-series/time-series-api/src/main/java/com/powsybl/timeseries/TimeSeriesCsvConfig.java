@@ -11,6 +11,9 @@ import com.powsybl.timeseries.TimeSeries.TimeFormat;
 
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * @author Marcos de Miguel {@literal <demiguelm at aia.es>}
@@ -23,6 +26,7 @@ public class TimeSeriesCsvConfig {
     private final char separator;
     private final int maxColumns;
     private final boolean strictVersioningImport;
+    private final Executor executor;
 
     public TimeSeriesCsvConfig() {
         this(ZoneId.systemDefault(), TimeSeriesConstants.DEFAULT_SEPARATOR, true, TimeFormat.DATE_TIME, DEFAULT_MAX_COLUMNS, true);
@@ -49,12 +53,21 @@ public class TimeSeriesCsvConfig {
     }
 
     public TimeSeriesCsvConfig(ZoneId zoneId, char separator, boolean versioned, TimeFormat timeFormat, int maxColumns, boolean strictVersioningImport) {
+        this(zoneId, separator, versioned, timeFormat, maxColumns, strictVersioningImport, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param executor the executor parsing the columns of wide files in parallel, the common fork-join pool by default.
+     */
+    public TimeSeriesCsvConfig(ZoneId zoneId, char separator, boolean versioned, TimeFormat timeFormat, int maxColumns, boolean strictVersioningImport,
+                               Executor executor) {
         this.dateTimeFormatter = DateTimeFormatter.ISO_OFFSET_DATE_TIME.withZone(zoneId);
         this.separator = separator;
         this.versioned = versioned;
         this.timeFormat = timeFormat;
         this.maxColumns = maxColumns;
         this.strictVersioningImport = strictVersioningImport;
+        this.executor = Objects.requireNonNull(executor);
     }
 
     public char separator() {
@@ -80,4 +93,8 @@ public class TimeSeriesCsvConfig {
     public boolean withStrictVersioningImport() {
         return strictVersioningImport;
     }
+
+    public Executor executor() {
+        return executor;
+    }
 }
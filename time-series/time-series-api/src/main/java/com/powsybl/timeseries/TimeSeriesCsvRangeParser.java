@@ -0,0 +1,227 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import com.powsybl.commons.report.ReportNode;
+import com.univocity.parsers.csv.CsvParser;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+
+/**
+ * Parses a CSV time series file by ranges of bytes. The file is split on line boundaries, and each range is
+ * tokenized and converted to column arrays by a task of the executor of the {@link TimeSeriesCsvConfig}. The converted
+ * ranges are then added in order to the {@link TimeSeries.CsvParsingContext}, so that versions are streamed and errors
+ * are reported as when the file is parsed line by line.
+ * <p>
+ * At most one range per available processor is parsed at a time, to bound the memory used. Values must not contain
+ * line breaks, which is the case of the files written by {@link TimeSeriesTable}.
+ *
+ * @author Elia Group
+ */
+final class TimeSeriesCsvRangeParser {
+
+    static final int DEFAULT_RANGE_SIZE = 8 * 1024 * 1024;
+
+    private static final int LINE_SCAN_SIZE = 8 * 1024;
+
+    /**
+     * Lines of a range converted to column arrays, the conversion stopping at the first line inconsistent with the
+     * header.
+     */
+    private static final class ParsedRange {
+
+        private final int lineCount;
+        private final long[] times;
+        private final int[] versions;
+        private final Object[] columnValues;
+        private final Map<Integer, String> invalidVersionLines = new HashMap<>();
+        private int inconsistentLine = -1;
+
+        private ParsedRange(int lineCount, TimeSeries.CsvParsingContext context) {
+            this.lineCount = lineCount;
+            times = new long[lineCount];
+            versions = new int[lineCount];
+            columnValues = context.createColumnValues(lineCount);
+        }
+
+        private int convertedLineCount() {
+            return inconsistentLine != -1 ? inconsistentLine : lineCount;
+        }
+    }
+
+    private final Path file;
+    private final TimeSeriesCsvConfig timeSeriesCsvConfig;
+    private final int rangeSize;
+
+    private int currentVersion = Integer.MIN_VALUE;
+
+    TimeSeriesCsvRangeParser(Path file, TimeSeriesCsvConfig timeSeriesCsvConfig, int rangeSize) {
+        this.file = Objects.requireNonNull(file);
+        this.timeSeriesCsvConfig = Objects.requireNonNull(timeSeriesCsvConfig);
+        if (rangeSize < 1) {
+            throw new IllegalArgumentException("Invalid range size: " + rangeSize);
+        }
+        this.rangeSize = rangeSize;
+    }
+
+    void parse(ReportNode reportNode, BiConsumer<Integer, List<TimeSeries>> versionConsumer) {
+        Objects.requireNonNull(reportNode);
+        Objects.requireNonNull(versionConsumer);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            parse(channel, reportNode, versionConsumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void parse(FileChannel channel, ReportNode reportNode, BiConsumer<Integer, List<TimeSeries>> versionConsumer) throws IOException {
+        long size = channel.size();
+        CsvParser csvParser = new CsvParser(TimeSeries.createCsvParserSettings(timeSeriesCsvConfig));
+
+        long headerEnd = nextLineStart(channel, 0, size);
+        String[] header = csvParser.parseLine(read(channel, 0, headerEnd));
+        if (header == null) {
+            throw new TimeSeriesException("CSV header is missing");
+        }
+        TimeSeries.CsvParsingContext context = TimeSeries.readCsvHeader(header, timeSeriesCsvConfig);
+
+        // data types are set by the first line, before the ranges are converted
+        String[] firstLine = csvParser.parseLine(read(channel, headerEnd, nextLineStart(channel, headerEnd, size)));
+        if (firstLine != null && firstLine.length == context.expectedTokens()) {
+            context.initDataTypes(firstLine);
+        }
+
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        Deque<CompletableFuture<ParsedRange>> pendingRanges = new ArrayDeque<>(parallelism);
+        try {
+            long position = headerEnd;
+            while (position < size || !pendingRanges.isEmpty()) {
+                // keep the executor busy while the ranges are added in order
+                while (position < size && pendingRanges.size() < parallelism) {
+                    long start = position;
+                    long end = nextLineStart(channel, Math.min(start + rangeSize, size), size);
+                    pendingRanges.add(CompletableFuture.supplyAsync(() -> parseRange(channel, start, end, context), timeSeriesCsvConfig.executor()));
+                    position = end;
+                }
+                addRange(join(pendingRanges.poll()), context, reportNode, versionConsumer);
+            }
+        } finally {
+            pendingRanges.forEach(f -> f.cancel(false));
+        }
+        versionConsumer.accept(currentVersion, context.createTimeSeries());
+    }
+
+    private static ParsedRange join(CompletableFuture<ParsedRange> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Start of the line following the given position, or the end of the file.
+     */
+    private static long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(LINE_SCAN_SIZE);
+        long scanPosition = position;
+        while (scanPosition < size) {
+            buffer.clear();
+            int count = channel.read(buffer, scanPosition);
+            if (count < 0) {
+                break;
+            }
+            for (int i = 0; i < count; i++) {
+                if (buffer.get(i) == '\n') {
+                    return scanPosition + i + 1;
+                }
+            }
+            scanPosition += count;
+        }
+        return size;
+    }
+
+    private static String read(FileChannel channel, long start, long end) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, start + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file " + channel);
+            }
+        }
+        // ranges are split after a line feed, which is never part of a multi-byte UTF-8 character
+        return new String(buffer.array(), StandardCharsets.UTF_8);
+    }
+
+    private ParsedRange parseRange(FileChannel channel, long start, long end, TimeSeries.CsvParsingContext context) {
+        List<String[]> lines;
+        try {
+            lines = new CsvParser(TimeSeries.createCsvParserSettings(timeSeriesCsvConfig)).parseAll(new StringReader(read(channel, start, end)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ParsedRange range = new ParsedRange(lines.size(), context);
+        for (int line = 0; line < lines.size(); line++) {
+            String[] tokens = lines.get(line);
+            if (tokens.length != context.expectedTokens()) {
+                range.inconsistentLine = line;
+                break;
+            }
+            int version = context.parseVersion(tokens);
+            if (context.isInvalidVersion(version)) {
+                range.invalidVersionLines.put(line, String.join(";", tokens));
+            }
+            range.versions[line] = version;
+            context.convertLine(tokens, line, range.times, range.columnValues);
+        }
+        return range;
+    }
+
+    /**
+     * Add the lines of a range to the context, the time series of the current version being given to the consumer when
+     * the version changes.
+     */
+    private void addRange(ParsedRange range, TimeSeries.CsvParsingContext context, ReportNode reportNode,
+                          BiConsumer<Integer, List<TimeSeries>> versionConsumer) {
+        int lineCount = range.convertedLineCount();
+        int from = 0;
+        for (int line = 0; line < lineCount; line++) {
+            String invalidVersionLine = range.invalidVersionLines.get(line);
+            if (invalidVersionLine != null) {
+                context.checkInvalidVersion(invalidVersionLine, reportNode);
+            }
+            int version = range.versions[line];
+            if (currentVersion == Integer.MIN_VALUE) {
+                currentVersion = version;
+            } else if (version != currentVersion) {
+                context.addLines(range.times, range.columnValues, from, line);
+                from = line;
+                versionConsumer.accept(currentVersion, context.createTimeSeries());
+                context.reInit();
+                currentVersion = version;
+            }
+        }
+        context.addLines(range.times, range.columnValues, from, lineCount);
+        if (range.inconsistentLine != -1) {
+            throw new TimeSeriesException("Columns of line " + context.timesSize() + " are inconsistent with header");
+        }
+    }
+}
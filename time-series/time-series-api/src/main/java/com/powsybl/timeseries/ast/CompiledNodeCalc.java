@@ -0,0 +1,376 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries.ast;
+
+import com.powsybl.timeseries.DoubleMultiPoint;
+import gnu.trove.list.array.TDoubleArrayList;
+import gnu.trove.list.array.TIntArrayList;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A resolved {@link NodeCalc} tree compiled once into a flat stack machine program, so that it can be evaluated many
+ * times without any allocation nor boxing.
+ * <p>
+ * The program is evaluated either point by point, with the same results as {@link NodeCalcEvaluator}, or on whole
+ * chunks of values, each instruction being applied to a chunk of points before moving to the next instruction.
+ * The tree is compiled and evaluated without recursion, so that very deep trees (for instance sums of thousands of
+ * time series) are supported.
+ * <p>
+ * A compiled program holds its evaluation buffers, so it is not thread safe.
+ *
+ * @author Elia Group
+ */
+public final class CompiledNodeCalc {
+
+    static final int CHUNK_SIZE = 1024;
+
+    private static final int CONST = 0;
+    private static final int TIME_SERIES = 1;
+    private static final int TIME = 2;
+    private static final int LOAD_CACHE = 3;
+    private static final int STORE_CACHE = 4;
+    private static final int PLUS = 5;
+    private static final int MINUS = 6;
+    private static final int MULTIPLY = 7;
+    private static final int DIVIDE = 8;
+    private static final int LESS_THAN = 9;
+    private static final int LESS_THAN_OR_EQUALS_TO = 10;
+    private static final int GREATER_THAN = 11;
+    private static final int GREATER_THAN_OR_EQUALS_TO = 12;
+    private static final int EQUALS = 13;
+    private static final int NOT_EQUALS = 14;
+    private static final int BINARY_MIN = 15;
+    private static final int BINARY_MAX = 16;
+    private static final int ABS = 17;
+    private static final int NEGATIVE = 18;
+    private static final int MIN = 19;
+    private static final int MAX = 20;
+
+    /**
+     * Pairs of (opcode, operand), the operand being an index in constants, a time series num or a cache slot.
+     */
+    private final int[] code;
+    private final double[] constants;
+    private final int maxStackSize;
+    private final int cacheSize;
+    private final boolean timeDependent;
+
+    private final double[] stack;
+    private final double[] cache;
+    private double[][] chunkStack;
+    private double[][] chunkCache;
+
+    private CompiledNodeCalc(int[] code, double[] constants, int maxStackSize, int cacheSize, boolean timeDependent) {
+        this.code = code;
+        this.constants = constants;
+        this.maxStackSize = maxStackSize;
+        this.cacheSize = cacheSize;
+        this.timeDependent = timeDependent;
+        stack = new double[maxStackSize];
+        cache = new double[cacheSize];
+    }
+
+    /**
+     * Compile a resolved tree, time series being referenced by their num.
+     */
+    public static CompiledNodeCalc compile(NodeCalc nodeCalc) {
+        return new Compiler().compile(Objects.requireNonNull(nodeCalc));
+    }
+
+    /**
+     * Whether the result depends on the time of the points, in which case it cannot be evaluated on chunks of values.
+     */
+    public boolean isTimeDependent() {
+        return timeDependent;
+    }
+
+    /**
+     * Evaluate the tree on one point, with exactly the same result as {@link NodeCalcEvaluator#eval}.
+     */
+    public double evaluate(DoubleMultiPoint multiPoint) {
+        int sp = 0;
+        for (int pc = 0; pc < code.length; pc += 2) {
+            int operand = code[pc + 1];
+            switch (code[pc]) {
+                case CONST -> stack[sp++] = constants[operand];
+                case TIME_SERIES -> {
+                    if (multiPoint == null) {
+                        throw new IllegalStateException("Multi point is null");
+                    }
+                    stack[sp++] = multiPoint.getValue(operand);
+                }
+                case TIME -> {
+                    if (multiPoint == null) {
+                        throw new IllegalStateException("Multi point is null");
+                    }
+                    stack[sp++] = multiPoint.getTime();
+                }
+                case LOAD_CACHE -> stack[sp++] = cache[operand];
+                case STORE_CACHE -> cache[operand] = stack[sp - 1];
+                case ABS -> stack[sp - 1] = Math.abs(stack[sp - 1]);
+                case NEGATIVE -> stack[sp - 1] = -stack[sp - 1];
+                case MIN -> stack[sp - 1] = Math.min(stack[sp - 1], constants[operand]);
+                case MAX -> stack[sp - 1] = Math.max(stack[sp - 1], constants[operand]);
+                default -> {
+                    sp--;
+                    stack[sp - 1] = evaluateBinary(code[pc], stack[sp - 1], stack[sp]);
+                }
+            }
+        }
+        return stack[0];
+    }
+
+    private static double evaluateBinary(int opcode, double left, double right) {
+        return switch (opcode) {
+            case PLUS -> left + right;
+            case MINUS -> left - right;
+            case MULTIPLY -> left * right;
+            case DIVIDE -> left / right;
+            case LESS_THAN -> left < right ? 1d : 0d;
+            case LESS_THAN_OR_EQUALS_TO -> left <= right ? 1d : 0d;
+            case GREATER_THAN -> left > right ? 1d : 0d;
+            case GREATER_THAN_OR_EQUALS_TO -> left >= right ? 1d : 0d;
+            case EQUALS -> left == right ? 1d : 0d;
+            case NOT_EQUALS -> left != right ? 1d : 0d;
+            case BINARY_MIN -> Math.min(left, right);
+            case BINARY_MAX -> Math.max(left, right);
+            default -> throw new IllegalStateException("Unknown opcode: " + opcode);
+        };
+    }
+
+    /**
+     * Evaluate the tree on {@code length} consecutive points.
+     *
+     * @param values       dense values of the time series, indexed by time series num
+     * @param offset       index of the first point to evaluate in {@code values}
+     * @param length       number of points to evaluate
+     * @param result       array receiving the results
+     * @param resultOffset index in {@code result} of the result of the first point
+     */
+    public void evaluate(double[][] values, int offset, int length, double[] result, int resultOffset) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(result);
+        if (timeDependent) {
+            throw new IllegalStateException("A time dependent calculation cannot be evaluated on chunks");
+        }
+        if (chunkStack == null) {
+            chunkStack = new double[maxStackSize][CHUNK_SIZE];
+            chunkCache = new double[cacheSize][CHUNK_SIZE];
+        }
+        for (int chunkOffset = 0; chunkOffset < length; chunkOffset += CHUNK_SIZE) {
+            int n = Math.min(CHUNK_SIZE, length - chunkOffset);
+            evaluateChunk(values, offset + chunkOffset, n);
+            System.arraycopy(chunkStack[0], 0, result, resultOffset + chunkOffset, n);
+        }
+    }
+
+    private void evaluateChunk(double[][] values, int offset, int n) {
+        int sp = 0;
+        for (int pc = 0; pc < code.length; pc += 2) {
+            int operand = code[pc + 1];
+            switch (code[pc]) {
+                case CONST -> Arrays.fill(chunkStack[sp++], 0, n, constants[operand]);
+                case TIME_SERIES -> System.arraycopy(values[operand], offset, chunkStack[sp++], 0, n);
+                case LOAD_CACHE -> System.arraycopy(chunkCache[operand], 0, chunkStack[sp++], 0, n);
+                case STORE_CACHE -> System.arraycopy(chunkStack[sp - 1], 0, chunkCache[operand], 0, n);
+                case ABS -> {
+                    double[] a = chunkStack[sp - 1];
+                    for (int i = 0; i < n; i++) {
+                        a[i] = Math.abs(a[i]);
+                    }
+                }
+                case NEGATIVE -> {
+                    double[] a = chunkStack[sp - 1];
+                    for (int i = 0; i < n; i++) {
+                        a[i] = -a[i];
+                    }
+                }
+                case MIN -> {
+                    double[] a = chunkStack[sp - 1];
+                    double min = constants[operand];
+                    for (int i = 0; i < n; i++) {
+                        a[i] = Math.min(a[i], min);
+                    }
+                }
+                case MAX -> {
+                    double[] a = chunkStack[sp - 1];
+                    double max = constants[operand];
+                    for (int i = 0; i < n; i++) {
+                        a[i] = Math.max(a[i], max);
+                    }
+                }
+                default -> {
+                    sp--;
+                    evaluateBinaryChunk(code[pc], chunkStack[sp - 1], chunkStack[sp], n);
+                }
+            }
+        }
+    }
+
+    private static void evaluateBinaryChunk(int opcode, double[] a, double[] b, int n) {
+        // one loop per operator, so that the JIT can vectorize the arithmetic ones
+        switch (opcode) {
+            case PLUS -> {
+                for (int i = 0; i < n; i++) {
+                    a[i] = a[i] + b[i];
+                }
+            }
+            case MINUS -> {
+                for (int i = 0; i < n; i++) {
+                    a[i] = a[i] - b[i];
+                }
+            }
+            case MULTIPLY -> {
+                for (int i = 0; i < n; i++) {
+                    a[i] = a[i] * b[i];
+                }
+            }
+            case DIVIDE -> {
+                for (int i = 0; i < n; i++) {
+                    a[i] = a[i] / b[i];
+                }
+            }
+            case BINARY_MIN -> {
+                for (int i = 0; i < n; i++) {
+                    a[i] = Math.min(a[i], b[i]);
+                }
+            }
+            case BINARY_MAX -> {
+                for (int i = 0; i < n; i++) {
+                    a[i] = Math.max(a[i], b[i]);
+                }
+            }
+            default -> {
+                for (int i = 0; i < n; i++) {
+                    a[i] = evaluateBinary(opcode, a[i], b[i]);
+                }
+            }
+        }
+    }
+
+    private static final class Compiler {
+
+        private final TIntArrayList code = new TIntArrayList();
+        private final TDoubleArrayList constants = new TDoubleArrayList();
+        private final Map<CachedNodeCalc, Integer> cacheSlots = new IdentityHashMap<>();
+        private int stackSize = 0;
+        private int maxStackSize = 0;
+        private boolean timeDependent = false;
+
+        private record Frame(NodeCalc nodeCalc, boolean expanded) {
+        }
+
+        private void emit(int opcode, int operand, int stackDelta) {
+            code.add(opcode);
+            code.add(operand);
+            stackSize += stackDelta;
+            maxStackSize = Math.max(maxStackSize, stackSize);
+        }
+
+        private int constant(double value) {
+            constants.add(value);
+            return constants.size() - 1;
+        }
+
+        private static int binaryOpcode(BinaryOperation.Operator operator) {
+            return switch (operator) {
+                case PLUS -> PLUS;
+                case MINUS -> MINUS;
+                case MULTIPLY -> MULTIPLY;
+                case DIVIDE -> DIVIDE;
+                case LESS_THAN -> LESS_THAN;
+                case LESS_THAN_OR_EQUALS_TO -> LESS_THAN_OR_EQUALS_TO;
+                case GREATER_THAN -> GREATER_THAN;
+                case GREATER_THAN_OR_EQUALS_TO -> GREATER_THAN_OR_EQUALS_TO;
+                case EQUALS -> EQUALS;
+                case NOT_EQUALS -> NOT_EQUALS;
+            };
+        }
+
+        CompiledNodeCalc compile(NodeCalc root) {
+            // left-right depth first traversal: children of a node are pushed once the node is expanded, and the
+            // instruction of the node is emitted when it is popped again, after all its children
+            Deque<Frame> frames = new ArrayDeque<>();
+            frames.push(new Frame(root, false));
+            while (!frames.isEmpty()) {
+                Frame frame = frames.pop();
+                if (frame.expanded()) {
+                    emitExpanded(frame.nodeCalc());
+                } else {
+                    expand(frame.nodeCalc(), frames);
+                }
+            }
+            return new CompiledNodeCalc(code.toArray(), constants.toArray(), Math.max(1, maxStackSize), cacheSlots.size(), timeDependent);
+        }
+
+        private void expand(NodeCalc nodeCalc, Deque<Frame> frames) {
+            if (nodeCalc instanceof LiteralNodeCalc literal) {
+                emit(CONST, constant(literal.toDouble()), 1);
+            } else if (nodeCalc instanceof TimeSeriesNumNodeCalc timeSeriesNum) {
+                emit(TIME_SERIES, timeSeriesNum.getTimeSeriesNum(), 1);
+            } else if (nodeCalc instanceof TimeSeriesNameNodeCalc) {
+                throw new IllegalStateException("NodeCalc should have been resolved before");
+            } else if (nodeCalc instanceof TimeNodeCalc) {
+                // the child of a time node is not evaluated
+                timeDependent = true;
+                emit(TIME, 0, 1);
+            } else if (nodeCalc instanceof CachedNodeCalc cached) {
+                Integer slot = cacheSlots.get(cached);
+                if (slot != null) {
+                    // the same node has already been evaluated on the left of this one
+                    emit(LOAD_CACHE, slot, 1);
+                } else {
+                    cacheSlots.put(cached, cacheSlots.size());
+                    frames.push(new Frame(cached, true));
+                    frames.push(new Frame(cached.getChild(), false));
+                }
+            } else if (nodeCalc instanceof AbstractSingleChildNodeCalc singleChild) {
+                frames.push(new Frame(singleChild, true));
+                frames.push(new Frame(singleChild.getChild(), false));
+            } else if (nodeCalc instanceof AbstractBinaryNodeCalc binary) {
+                frames.push(new Frame(binary, true));
+                frames.push(new Frame(binary.getRight(), false));
+                frames.push(new Frame(binary.getLeft(), false));
+            } else {
+                throw new IllegalStateException("Unsupported node: " + nodeCalc.getClass().getName());
+            }
+        }
+
+        private void emitExpanded(NodeCalc nodeCalc) {
+            if (nodeCalc instanceof CachedNodeCalc cached) {
+                emit(STORE_CACHE, cacheSlots.get(cached), 0);
+            } else if (nodeCalc instanceof UnaryOperation unary) {
+                switch (unary.getOperator()) {
+                    case ABS -> emit(ABS, 0, 0);
+                    case NEGATIVE -> emit(NEGATIVE, 0, 0);
+                    case POSITIVE -> {
+                        // nothing to do
+                    }
+                }
+            } else if (nodeCalc instanceof MinNodeCalc min) {
+                emit(MIN, constant(min.getMin()), 0);
+            } else if (nodeCalc instanceof MaxNodeCalc max) {
+                emit(MAX, constant(max.getMax()), 0);
+            } else if (nodeCalc instanceof BinaryOperation binary) {
+                emit(binaryOpcode(binary.getOperator()), 0, -1);
+            } else if (nodeCalc instanceof BinaryMinCalc) {
+                emit(BINARY_MIN, 0, -1);
+            } else if (nodeCalc instanceof BinaryMaxCalc) {
+                emit(BINARY_MAX, 0, -1);
+            } else {
+                throw new IllegalStateException("Unsupported node: " + nodeCalc.getClass().getName());
+            }
+        }
+    }
+}
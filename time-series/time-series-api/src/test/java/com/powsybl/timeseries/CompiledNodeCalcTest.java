@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import com.powsybl.timeseries.ast.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Elia Group
+ */
+class CompiledNodeCalcTest {
+
+    private static final int POINT_COUNT = 2500;
+
+    private final TimeSeriesIndex index = new RegularTimeSeriesIndex(0, POINT_COUNT - 1, 1);
+
+    private final double[][] values = new double[2][POINT_COUNT];
+
+    private final List<DoubleTimeSeries> timeSeriesList;
+
+    CompiledNodeCalcTest() {
+        for (int i = 0; i < POINT_COUNT; i++) {
+            values[0][i] = Math.sin(i) * 10;
+            values[1][i] = i % 7 - 3;
+        }
+        timeSeriesList = List.of(TimeSeries.createDouble("a", index, values[0]), TimeSeries.createDouble("b", index, values[1]));
+    }
+
+    private void assertSameAsEvaluator(NodeCalc nodeCalc) {
+        CompiledNodeCalc compiledNodeCalc = CompiledNodeCalc.compile(nodeCalc);
+        DoubleTimeSeries.stream(timeSeriesList).forEach(multiPoint ->
+                assertEquals(NodeCalcEvaluator.eval(nodeCalc, multiPoint), compiledNodeCalc.evaluate(multiPoint), 0d));
+        if (!compiledNodeCalc.isTimeDependent()) {
+            double[] result = new double[POINT_COUNT + 1];
+            compiledNodeCalc.evaluate(values, 0, POINT_COUNT, result, 1);
+            DoubleTimeSeries.stream(timeSeriesList).forEach(multiPoint ->
+                    assertEquals(NodeCalcEvaluator.eval(nodeCalc, multiPoint), result[multiPoint.getIndex() + 1], 0d));
+        }
+    }
+
+    @Test
+    void testOperators() {
+        NodeCalc a = new TimeSeriesNumNodeCalc(0);
+        NodeCalc b = new TimeSeriesNumNodeCalc(1);
+        assertSameAsEvaluator(new IntegerNodeCalc(3));
+        assertSameAsEvaluator(a);
+        assertSameAsEvaluator(BinaryOperation.plus(a, b));
+        assertSameAsEvaluator(BinaryOperation.minus(a, new DoubleNodeCalc(1.5)));
+        assertSameAsEvaluator(BinaryOperation.multiply(new FloatNodeCalc(2f), b));
+        assertSameAsEvaluator(BinaryOperation.div(a, b));
+        assertSameAsEvaluator(BinaryOperation.lessThan(a, b));
+        assertSameAsEvaluator(BinaryOperation.lessThanOrEqualsTo(a, b));
+        assertSameAsEvaluator(BinaryOperation.greaterThan(a, b));
+        assertSameAsEvaluator(BinaryOperation.greaterThanOrEqualsTo(a, b));
+        assertSameAsEvaluator(BinaryOperation.equals(b, new IntegerNodeCalc(0)));
+        assertSameAsEvaluator(BinaryOperation.notEquals(b, new IntegerNodeCalc(0)));
+        assertSameAsEvaluator(new BinaryMinCalc(a, b));
+        assertSameAsEvaluator(new BinaryMaxCalc(a, b));
+        assertSameAsEvaluator(UnaryOperation.abs(a));
+        assertSameAsEvaluator(UnaryOperation.negative(a));
+        assertSameAsEvaluator(UnaryOperation.positive(a));
+        assertSameAsEvaluator(new MinNodeCalc(a, 2));
+        assertSameAsEvaluator(new MaxNodeCalc(a, -2));
+        assertSameAsEvaluator(BinaryOperation.plus(new TimeNodeCalc(a), b));
+    }
+
+    @Test
+    void testCachedNode() {
+        NodeCalc cached = new CachedNodeCalc(BinaryOperation.multiply(new TimeSeriesNumNodeCalc(0), new TimeSeriesNumNodeCalc(1)));
+        NodeCalc nodeCalc = BinaryOperation.minus(BinaryOperation.plus(cached, UnaryOperation.abs(cached)), cached);
+        assertSameAsEvaluator(nodeCalc);
+    }
+
+    @Test
+    void testDeepTree() {
+        NodeCalc nodeCalc = new TimeSeriesNumNodeCalc(0);
+        for (int i = 0; i < 50000; i++) {
+            nodeCalc = BinaryOperation.plus(nodeCalc, new TimeSeriesNumNodeCalc(i % 2));
+        }
+        assertSameAsEvaluator(nodeCalc);
+    }
+
+    @Test
+    void testErrors() {
+        CompiledNodeCalc timeDependent = CompiledNodeCalc.compile(new TimeNodeCalc(new IntegerNodeCalc(0)));
+        assertTrue(timeDependent.isTimeDependent());
+        double[] result = new double[1];
+        assertThrows(IllegalStateException.class, () -> timeDependent.evaluate(values, 0, 1, result, 0));
+        assertThrows(IllegalStateException.class, () -> timeDependent.evaluate(null));
+
+        NodeCalc unresolved = new TimeSeriesNameNodeCalc("a");
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> CompiledNodeCalc.compile(unresolved));
+        assertEquals("NodeCalc should have been resolved before", e.getMessage());
+    }
+}
@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.timeseries;
+
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.timeseries.ast.BinaryOperation;
+import com.powsybl.timeseries.ast.IntegerNodeCalc;
+import com.powsybl.timeseries.ast.TimeSeriesNameNodeCalc;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Elia Group
+ */
+class MappedTimeSeriesStoreTest {
+
+    @TempDir
+    Path tmpDir;
+
+    private final TimeSeriesIndex index = new RegularTimeSeriesIndex(0, 5, 1);
+
+    @Test
+    void testWriteAndRead() {
+        DoubleTimeSeries ts1v1 = new StoredDoubleTimeSeries(new TimeSeriesMetadata("ts1", TimeSeriesDataType.DOUBLE, Map.of("tag", "value"), index),
+                new UncompressedDoubleDataChunk(0, new double[] {1, 2, 3}),
+                new CompressedDoubleDataChunk(3, 3, new double[] {4, 5}, new int[] {2, 1}));
+        DoubleTimeSeries ts1v2 = new StoredDoubleTimeSeries(ts1v1.getMetadata(), new UncompressedDoubleDataChunk(0, new double[] {6, 5, 4, 3, 2, 1}));
+        StringTimeSeries ts2v1 = new StringTimeSeries(new TimeSeriesMetadata("ts2", TimeSeriesDataType.STRING, index),
+                new UncompressedStringDataChunk(0, new String[] {"a", null, "b"}),
+                new CompressedStringDataChunk(3, 3, new String[] {"c", null}, new int[] {1, 2}));
+        CalculatedTimeSeries ts3v1 = new CalculatedTimeSeries("ts3", BinaryOperation.plus(new TimeSeriesNameNodeCalc("ts1"), new IntegerNodeCalc(1)),
+                new FromStoreTimeSeriesNameResolver(new ReadOnlyTimeSeriesStoreCache(ts1v1), 1));
+        ts3v1.synchronize(index);
+
+        Path file = tmpDir.resolve("store.bin");
+        try (MappedTimeSeriesStore.Writer writer = MappedTimeSeriesStore.writer(file)) {
+            writer.add(1, List.of(ts1v1, ts2v1, ts3v1));
+            writer.add(2, List.of(ts1v2));
+        }
+
+        try (MappedTimeSeriesStore store = new MappedTimeSeriesStore(file)) {
+            assertEquals(Set.of("ts1", "ts2", "ts3"), store.getTimeSeriesNames(new TimeSeriesFilter()));
+            assertTrue(store.timeSeriesExists("ts2"));
+            assertFalse(store.timeSeriesExists("ts4"));
+            assertEquals(ts1v1.getMetadata(), store.getTimeSeriesMetadata("ts1").orElseThrow());
+            assertEquals(2, store.getTimeSeriesMetadata(Set.of("ts1", "ts2", "ts4")).size());
+            assertEquals(Set.of(1, 2), store.getTimeSeriesDataVersions());
+            assertEquals(Set.of(1), store.getTimeSeriesDataVersions("ts2"));
+            assertTrue(store.getTimeSeriesDataVersions("ts4").isEmpty());
+
+            // uncompressed chunks are read as views of the file, which have the same content
+            DoubleTimeSeries readTs1v1 = store.getDoubleTimeSeries("ts1", 1).orElseThrow();
+            assertInstanceOf(MappedDoubleDataChunk.class, ((StoredDoubleTimeSeries) readTs1v1).getChunks().get(0));
+            assertEquals(ts1v1.toJson(), readTs1v1.toJson());
+            assertArrayEquals(new double[] {1, 2, 3, 4, 4, 5}, readTs1v1.toArray(), 0);
+            assertArrayEquals(new double[] {6, 5, 4, 3, 2, 1}, store.getDoubleTimeSeries("ts1", 2).orElseThrow().toArray(), 0);
+            assertTrue(store.getDoubleTimeSeries("ts1", 3).isEmpty());
+            assertTrue(store.getDoubleTimeSeries("ts4", 1).isEmpty());
+            assertArrayEquals(new double[] {2, 3, 4, 5, 5, 6}, store.getDoubleTimeSeries("ts3", 1).orElseThrow().toArray(), 0);
+            assertEquals(2, store.getDoubleTimeSeries(1).size());
+            assertEquals(1, store.getDoubleTimeSeries(Set.of("ts1", "ts2"), 2).size());
+
+            StringTimeSeries readTs2v1 = store.getStringTimeSeries("ts2", 1).orElseThrow();
+            assertEquals(ts2v1, readTs2v1);
+            assertArrayEquals(new String[] {"a", null, "b", "c", null, null}, readTs2v1.toArray());
+            assertEquals(1, store.getStringTimeSeries(Set.of("ts1", "ts2"), 1).size());
+
+            TimeSeriesException e = assertThrows(TimeSeriesException.class, () -> store.getDoubleTimeSeries("ts2", 1));
+            assertEquals("Time series 'ts2' is not a DOUBLE time series", e.getMessage());
+        }
+    }
+
+    @Test
+    void testMappedChunks() {
+        DoubleTimeSeries ts1 = TimeSeries.createDouble("ts1", index, 1, 2, 3, 3, 3, 3);
+        Path file = tmpDir.resolve("store.bin");
+        MappedTimeSeriesStore.write(file, Map.of(1, List.of(ts1)));
+        DoubleTimeSeries readTs1;
+        try (MappedTimeSeriesStore store = new MappedTimeSeriesStore(file)) {
+            // read only store, listeners are accepted but never notified
+            TimeSeriesStoreListener listener = Assertions::fail;
+            store.addListener(listener);
+            store.removeListener(listener);
+            readTs1 = store.getDoubleTimeSeries("ts1", 1).orElseThrow();
+
+            // a store can be copied, the mapped chunks are written like uncompressed ones
+            Path copy = tmpDir.resolve("copy.bin");
+            MappedTimeSeriesStore.write(copy, Map.of(1, List.of(readTs1)));
+            try (MappedTimeSeriesStore copyStore = new MappedTimeSeriesStore(copy)) {
+                assertEquals(readTs1, copyStore.getDoubleTimeSeries("ts1", 1).orElseThrow());
+            }
+        }
+
+        // the mapping is still readable once the store is closed
+        assertArrayEquals(new double[] {1, 2, 3, 3, 3, 3}, readTs1.toArray(), 0);
+        MappedDoubleDataChunk chunk = (MappedDoubleDataChunk) ((StoredDoubleTimeSeries) readTs1).getChunks().get(0);
+        assertEquals(6, chunk.getLength());
+        assertEquals(48, chunk.getEstimatedSize());
+        assertFalse(chunk.isCompressed());
+        assertEquals(new UncompressedDoubleDataChunk(0, new double[] {1, 2, 3, 3, 3, 3}).toJson(), chunk.toJson());
+        assertEquals(new CompressedDoubleDataChunk(0, 6, new double[] {1, 2, 3}, new int[] {1, 1, 4}), chunk.tryToCompress());
+        assertEquals(List.of(1d, 2d, 3d, 3d, 3d, 3d), chunk.stream(index).map(DoublePoint::getValue).toList());
+        assertEquals(1, chunk.iterator(index).next().getValue());
+
+        DataChunk.Split<DoublePoint, DoubleDataChunk> split = chunk.splitAt(2);
+        assertEquals(new MappedDoubleDataChunk(0, DoubleBuffer.wrap(new double[] {1, 2})), split.getChunk1());
+        assertEquals(new MappedDoubleDataChunk(2, DoubleBuffer.wrap(new double[] {3, 3, 3, 3})), split.getChunk2());
+        assertSame(split.getChunk1(), split.getChunk1().tryToCompress());
+        assertEquals(chunk, split.getChunk1().append(split.getChunk2()));
+        assertThrows(IllegalArgumentException.class, () -> chunk.splitAt(0));
+        DoubleDataChunk other = new UncompressedDoubleDataChunk(6, new double[] {4});
+        assertThrows(IllegalArgumentException.class, () -> chunk.append(other));
+    }
+
+    @Test
+    void testConvertCsvByVersion() {
+        String csv = String.join(System.lineSeparator(),
+                "Time;Version;ts1;ts2",
+                "0;1;1.0;",
+                "1;1;;a",
+                "2;1;3.0;b",
+                "0;2;4.0;c",
+                "1;2;5.0;",
+                "2;2;6.0;d") + System.lineSeparator();
+        TimeSeriesCsvConfig timeSeriesCsvConfig = new TimeSeriesCsvConfig(';', true, TimeSeries.TimeFormat.MILLIS);
+        Map<Integer, List<TimeSeries>> timeSeriesPerVersion = TimeSeries.parseCsv(csv, timeSeriesCsvConfig);
+
+        Path csvFile = tmpDir.resolve("timeseries.csv");
+        Path file = tmpDir.resolve("store.bin");
+        try (MappedTimeSeriesStore.Writer writer = MappedTimeSeriesStore.writer(file)) {
+            Files.writeString(csvFile, csv);
+            TimeSeries.parseCsv(csvFile, timeSeriesCsvConfig, ReportNode.NO_OP, writer::add);
+        } catch (IOException e) {
+            fail();
+        }
+
+        try (MappedTimeSeriesStore store = new MappedTimeSeriesStore(file)) {
+            assertEquals(Set.of(1, 2), store.getTimeSeriesDataVersions());
+            for (int version : List.of(1, 2)) {
+                assertEquals(timeSeriesPerVersion.get(version).get(0).toJson(), store.getDoubleTimeSeries("ts1", version).orElseThrow().toJson());
+                assertEquals(timeSeriesPerVersion.get(version).get(1), store.getStringTimeSeries("ts2", version).orElseThrow());
+            }
+        }
+    }
+
+    @Test
+    void testErrors() throws IOException {
+        DoubleTimeSeries ts1 = TimeSeries.createDouble("ts1", index, 1, 2, 3, 4, 5, 6);
+        Path file = tmpDir.resolve("store.bin");
+        try (MappedTimeSeriesStore.Writer writer = MappedTimeSeriesStore.writer(file)) {
+            writer.add(1, List.of(ts1));
+            List<TimeSeries> ts1Again = List.of(ts1);
+            TimeSeriesException e = assertThrows(TimeSeriesException.class, () -> writer.add(1, ts1Again));
+            assertEquals("Version 1 of time series 'ts1' has already been added", e.getMessage());
+            List<TimeSeries> otherIndex = List.of(TimeSeries.createDouble("ts1", new RegularTimeSeriesIndex(0, 1, 1), 1, 2));
+            e = assertThrows(TimeSeriesException.class, () -> writer.add(2, otherIndex));
+            assertEquals("Versions of time series 'ts1' have different metadata", e.getMessage());
+        }
+
+        Path invalidFile = tmpDir.resolve("invalid.bin");
+        Files.writeString(invalidFile, "this is not a time series store file");
+        TimeSeriesException e = assertThrows(TimeSeriesException.class, () -> new MappedTimeSeriesStore(invalidFile));
+        assertEquals("Invalid time series store file: wrong magic number", e.getMessage());
+    }
+}
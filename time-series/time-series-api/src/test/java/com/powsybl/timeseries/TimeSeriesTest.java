@@ -10,16 +10,20 @@ package com.powsybl.timeseries;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.timeseries.TimeSeries.TimeFormat;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.UncheckedIOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -30,6 +34,9 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 class TimeSeriesTest {
 
+    @TempDir
+    Path tmpDir;
+
     private void assertOnParsedTimeSeries(Map<Integer, List<TimeSeries>> timeSeriesPerVersion, Class<?> className) {
         assertEquals(2, timeSeriesPerVersion.size());
         assertEquals(2, timeSeriesPerVersion.get(1).size());
@@ -265,6 +272,134 @@ class TimeSeriesTest {
         assertOnParsedTimeSeries(timeSeriesPerVersion, RegularTimeSeriesIndex.class);
     }
 
+    private static String createWideCsv(int columnCount, int rowCount, int versionCount, String invalidToken) {
+        StringBuilder csv = new StringBuilder("Time;Version");
+        for (int j = 0; j < columnCount; j++) {
+            csv.append(";ts").append(j);
+        }
+        csv.append(System.lineSeparator());
+        for (int version = 1; version <= versionCount; version++) {
+            for (int i = 0; i < rowCount; i++) {
+                csv.append(i).append(';').append(version);
+                for (int j = 0; j < columnCount; j++) {
+                    csv.append(';');
+                    if (j == 1) {
+                        csv.append('s').append(i);
+                    } else if (invalidToken != null && j == columnCount - 1 && i == rowCount - 1) {
+                        csv.append(invalidToken);
+                    } else {
+                        csv.append(version * 1000 + i + j);
+                    }
+                }
+                csv.append(System.lineSeparator());
+            }
+        }
+        return csv.toString();
+    }
+
+    @Test
+    void testParseWideCsvByVersion() {
+        // more columns and rows than parsed by a single task and buffered in a single batch
+        int columnCount = 1000;
+        int rowCount = 1500;
+        String csv = createWideCsv(columnCount, rowCount, 3, null);
+
+        TimeSeriesCsvConfig timeSeriesCsvConfig = new TimeSeriesCsvConfig(';', true, TimeFormat.MILLIS);
+        List<Integer> versions = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new StringReader(csv))) {
+            TimeSeries.parseCsv(reader, timeSeriesCsvConfig, ReportNode.NO_OP, (version, timeSeriesList) -> {
+                versions.add(version);
+                assertEquals(columnCount, timeSeriesList.size());
+                assertEquals(new RegularTimeSeriesIndex(0, rowCount - 1, 1), timeSeriesList.get(0).getMetadata().getIndex());
+                String[] strings = ((StringTimeSeries) timeSeriesList.get(1)).toArray();
+                assertEquals("s" + (rowCount - 1), strings[rowCount - 1]);
+                for (int j : new int[] {0, 300, columnCount - 1}) {
+                    double[] values = ((DoubleTimeSeries) timeSeriesList.get(j)).toArray();
+                    assertEquals(rowCount, values.length);
+                    for (int i = 0; i < rowCount; i++) {
+                        assertEquals(version * 1000 + i + j, values[i], 0);
+                    }
+                }
+            });
+        } catch (IOException e) {
+            fail();
+        }
+        assertEquals(List.of(1, 2, 3), versions);
+    }
+
+    @Test
+    void testParseWideCsvWithExecutor() {
+        String csv = createWideCsv(1000, 10, 1, null);
+        AtomicInteger taskCount = new AtomicInteger();
+        Executor executor = task -> {
+            taskCount.incrementAndGet();
+            task.run();
+        };
+        TimeSeriesCsvConfig timeSeriesCsvConfig = new TimeSeriesCsvConfig(ZoneId.of("UTC"), ';', true, TimeFormat.MILLIS, 20000, true, executor);
+        Map<Integer, List<TimeSeries>> timeSeriesPerVersion = TimeSeries.parseCsv(csv, timeSeriesCsvConfig);
+        assertEquals(1000, timeSeriesPerVersion.get(1).size());
+        // one task per group of 256 columns
+        assertEquals(4, taskCount.get());
+    }
+
+    private static Map<Integer, List<TimeSeries>> parseCsvByRanges(Path file, TimeSeriesCsvConfig timeSeriesCsvConfig, int rangeSize) {
+        Map<Integer, List<TimeSeries>> timeSeriesPerVersion = new LinkedHashMap<>();
+        new TimeSeriesCsvRangeParser(file, timeSeriesCsvConfig, rangeSize).parse(ReportNode.NO_OP, timeSeriesPerVersion::put);
+        return timeSeriesPerVersion;
+    }
+
+    @Test
+    void testParseCsvByRanges() throws IOException {
+        String csv = createWideCsv(20, 100, 3, null);
+        Path file = tmpDir.resolve("timeseries.csv");
+        Files.writeString(file, csv);
+        AtomicInteger taskCount = new AtomicInteger();
+        Executor executor = task -> {
+            taskCount.incrementAndGet();
+            task.run();
+        };
+        TimeSeriesCsvConfig timeSeriesCsvConfig = new TimeSeriesCsvConfig(ZoneId.of("UTC"), ';', true, TimeFormat.MILLIS, 20000, true, executor);
+
+        // ranges smaller than a line, than a version, and as big as the file
+        Map<Integer, List<TimeSeries>> expected = TimeSeries.parseCsv(csv, timeSeriesCsvConfig);
+        for (int rangeSize : new int[] {1, 1000, csv.length()}) {
+            Map<Integer, List<TimeSeries>> timeSeriesPerVersion = parseCsvByRanges(file, timeSeriesCsvConfig, rangeSize);
+            assertEquals(List.of(1, 2, 3), List.copyOf(timeSeriesPerVersion.keySet()));
+            assertEquals(expected, timeSeriesPerVersion);
+        }
+        // one task per line with the smallest ranges
+        assertTrue(taskCount.get() > 300);
+    }
+
+    @Test
+    void testParseCsvByRangesErrors() throws IOException {
+        TimeSeriesCsvConfig timeSeriesCsvConfig = new TimeSeriesCsvConfig(';', true, TimeFormat.MILLIS);
+        Path file = tmpDir.resolve("timeseries.csv");
+        Files.writeString(file, createWideCsv(20, 100, 2, "a"));
+        assertThrows(NumberFormatException.class, () -> parseCsvByRanges(file, timeSeriesCsvConfig, 1000));
+
+        // same message as when parsed line by line
+        String csv = createWideCsv(20, 100, 2, null).replace(System.lineSeparator() + "50;2;", System.lineSeparator() + "50;2;;");
+        Files.writeString(file, csv);
+        TimeSeriesException expected = assertThrows(TimeSeriesException.class, () -> TimeSeries.parseCsv(csv, timeSeriesCsvConfig));
+        TimeSeriesException e = assertThrows(TimeSeriesException.class, () -> parseCsvByRanges(file, timeSeriesCsvConfig, 1000));
+        assertEquals("Columns of line 50 are inconsistent with header", e.getMessage());
+        assertEquals(expected.getMessage(), e.getMessage());
+
+        String unversionedCsv = createWideCsv(20, 100, 1, null).replace(System.lineSeparator() + "50;1;", System.lineSeparator() + "50;-1;");
+        Files.writeString(file, unversionedCsv);
+        TimeSeriesCsvConfig strictConfig = new TimeSeriesCsvConfig(';', true, TimeFormat.MILLIS, true);
+        e = assertThrows(TimeSeriesException.class, () -> parseCsvByRanges(file, strictConfig, 1000));
+        assertTrue(e.getMessage().startsWith("The version number for a versioned TimeSeries cannot be equals to the default version number (-1) at line \"50;-1;"));
+    }
+
+    @Test
+    void testParseWideCsvError() {
+        String csv = createWideCsv(1000, 10, 1, "a");
+        TimeSeriesCsvConfig timeSeriesCsvConfig = new TimeSeriesCsvConfig(';', true, TimeFormat.MILLIS);
+        assertThrows(NumberFormatException.class, () -> TimeSeries.parseCsv(csv, timeSeriesCsvConfig));
+    }
+
     @Test
     void testErrors() {
         TimeSeriesCsvConfig timeSeriesCsvConfig = new TimeSeriesCsvConfig(';', false, TimeFormat.DATE_TIME);
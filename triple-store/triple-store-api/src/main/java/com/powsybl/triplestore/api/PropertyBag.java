@@ -27,12 +27,17 @@ public class PropertyBag extends HashMap<String, String> {
     }
 
     public PropertyBag(List<String> propertyNames, boolean removeInitialUnderscoreForIdentifiers, boolean decodeEscapedIdentifiers) {
-        super(propertyNames.size());
+        // sized so that all the properties can be put without rehashing
+        super(capacity(propertyNames.size()));
         this.propertyNames = propertyNames;
         this.removeInitialUnderscoreForIdentifiers = removeInitialUnderscoreForIdentifiers;
         this.decodeEscapedIdentifiers = decodeEscapedIdentifiers;
     }
 
+    private static int capacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
     public List<String> propertyNames() {
         return propertyNames;
     }
@@ -88,30 +93,38 @@ public class PropertyBag extends HashMap<String, String> {
         return asDouble(property, Double.NaN);
     }
 
+    // A single lookup in the common case, containsKey is only needed to tell a missing property from a null value
+    private boolean isMissing(String property, String value) {
+        return value == null && !containsKey(property);
+    }
+
     public double asDouble(String property, double defaultValue) {
-        if (!containsKey(property)) {
+        String value = get(property);
+        if (isMissing(property, value)) {
             return defaultValue;
         }
         try {
-            return Double.parseDouble(get(property));
+            return Double.parseDouble(value);
         } catch (NumberFormatException x) {
-            LOG.warn("Invalid value for property {} : {}", property, get(property));
+            LOG.warn("Invalid value for property {} : {}", property, value);
             return Double.NaN;
         }
     }
 
     public Optional<Boolean> asBoolean(String property) {
-        if (!containsKey(property)) {
+        String value = get(property);
+        if (isMissing(property, value)) {
             return Optional.empty();
         }
-        return Optional.of(Boolean.parseBoolean(get(property)));
+        return Optional.of(Boolean.parseBoolean(value));
     }
 
     public boolean asBoolean(String property, boolean defaultValue) {
-        if (!containsKey(property)) {
+        String value = get(property);
+        if (isMissing(property, value)) {
             return defaultValue;
         }
-        return Boolean.parseBoolean(get(property));
+        return Boolean.parseBoolean(value);
     }
 
     public int asInt(String property) {
@@ -119,10 +132,11 @@ public class PropertyBag extends HashMap<String, String> {
     }
 
     public int asInt(String property, int defaultValue) {
-        if (!containsKey(property)) {
+        String value = get(property);
+        if (isMissing(property, value)) {
             return defaultValue;
         }
-        return Integer.parseInt(get(property));
+        return Integer.parseInt(value);
     }
 
     public String tabulateLocals() {
@@ -173,13 +187,18 @@ public class PropertyBag extends HashMap<String, String> {
             if (removeInitialUnderscoreForIdentifiers && !s1.isEmpty() && s1.charAt(0) == '_') {
                 s1 = s1.substring(1);
             }
-            if (decodeEscapedIdentifiers) {
+            // decoding always allocates, most identifiers do not need it
+            if (decodeEscapedIdentifiers && needsDecoding(s1)) {
                 s1 = URLDecoder.decode(s1, StandardCharsets.UTF_8);
             }
         }
         return s1;
     }
 
+    private static boolean needsDecoding(String s) {
+        return s.indexOf('%') >= 0 || s.indexOf('+') >= 0;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(super.hashCode(), propertyNames, removeInitialUnderscoreForIdentifiers);
@@ -9,7 +9,9 @@
 package com.powsybl.triplestore.api;
 
 import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
 import java.util.List;
@@ -43,6 +45,25 @@ public interface TripleStore {
      */
     void read(InputStream is, String base, String contextName);
 
+    /**
+     * Read several files of a data source, the statements of each file being stored under a context named after it.
+     * The default implementation reads the files one after the other, implementations may read them concurrently.
+     *
+     * @param ds the data source containing the files
+     * @param base the base URI used to convert relative URI's to absolute URI's
+     * @param contextNames names of the files to read, also used as context names
+     * @throws TripleStoreReadException if a file cannot be read
+     */
+    default void read(ReadOnlyDataSource ds, String base, List<String> contextNames) {
+        for (String contextName : contextNames) {
+            try (InputStream is = ds.newInputStream(contextName)) {
+                read(is, base, contextName);
+            } catch (IOException x) {
+                throw new TripleStoreReadException(base, contextName, x);
+            }
+        }
+    }
+
     /**
      * Write the contents of the Triplestore in the given data source.
      * Statements in each context will be written to separate fileNames in the output data source
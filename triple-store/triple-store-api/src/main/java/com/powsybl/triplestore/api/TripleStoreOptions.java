@@ -14,6 +14,7 @@ public class TripleStoreOptions {
 
     private boolean removeInitialUnderscoreForIdentifiers = true;
     private boolean unescapeIdentifiers = true;
+    private int readParallelism = Runtime.getRuntime().availableProcessors();
 
     public TripleStoreOptions() {
     }
@@ -40,4 +41,20 @@ public class TripleStoreOptions {
         this.unescapeIdentifiers = unescapeIdentifiers;
         return this;
     }
+
+    /**
+     * Maximum number of files parsed concurrently when several files are read at once, by default the number of
+     * available processors.
+     */
+    public int getReadParallelism() {
+        return readParallelism;
+    }
+
+    public TripleStoreOptions setReadParallelism(int readParallelism) {
+        if (readParallelism < 1) {
+            throw new IllegalArgumentException("Invalid read parallelism: " + readParallelism);
+        }
+        this.readParallelism = readParallelism;
+        return this;
+    }
 }
@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.triplestore.api;
+
+/**
+ * Failure to read one of the files of a data source, see {@link TripleStore#read(com.powsybl.commons.datasource.ReadOnlyDataSource, String, java.util.List)}.
+ *
+ * @author Elia Group
+ */
+public class TripleStoreReadException extends TripleStoreException {
+
+    private final String contextName;
+
+    public TripleStoreReadException(String base, String contextName, Throwable t) {
+        super(String.format("Reading %s %s", base, contextName), t);
+        this.contextName = contextName;
+    }
+
+    /**
+     * Get the name of the file which could not be read.
+     */
+    public String getContextName() {
+        return contextName;
+    }
+}
@@ -74,6 +74,21 @@ class PropertyBagTest {
         assertEquals("enumValue0", localsWithUnderscoreWithEscape.getLocal("enum"));
     }
 
+    @Test
+    void testIdentifierDecoding() {
+        PropertyBag ids = new PropertyBag(Arrays.asList("plain", "plus", "missing", "null"), true);
+        ids.put("plain", "http://example.com/#_id0-id1");
+        ids.put("plus", "http://example.com/#_id0+id1");
+        ids.put("null", null);
+        assertEquals("id0-id1", ids.getId("plain"));
+        assertEquals("id0 id1", ids.getId("plus"));
+        assertNull(ids.getId("missing"));
+        assertEquals(1.5, ids.asDouble("missing", 1.5));
+        assertEquals(2, ids.asInt("missing", 2));
+        assertTrue(ids.asBoolean("missing").isEmpty());
+        assertThrows(NullPointerException.class, () -> ids.asDouble("null", 1.5));
+    }
+
     @Test
     void testTabulateLocals() {
         String expected = String.join(System.lineSeparator(),
@@ -9,9 +9,11 @@
 package com.powsybl.triplestore.impl.rdf4j;
 
 import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import com.powsybl.triplestore.api.*;
 import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.model.*;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.model.util.URIUtil;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.query.*;
@@ -21,11 +23,13 @@ import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
 import org.eclipse.rdf4j.repository.RepositoryResult;
 import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.rio.ParserConfig;
 import org.eclipse.rdf4j.rio.RDFFormat;
 import org.eclipse.rdf4j.rio.RDFWriter;
 import org.eclipse.rdf4j.rio.Rio;
 import org.eclipse.rdf4j.rio.helpers.BasicParserSettings;
 import org.eclipse.rdf4j.rio.helpers.BasicWriterSettings;
+import org.eclipse.rdf4j.rio.helpers.ParseErrorLogger;
 import org.eclipse.rdf4j.rio.helpers.XMLParserSettings;
 import org.eclipse.rdf4j.sail.memory.MemoryStore;
 import org.slf4j.Logger;
@@ -36,6 +40,10 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -68,17 +76,20 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
         this.writeBySubject = writeBySubject;
     }
 
+    private static void addNonFatalErrors(ParserConfig parserConfig) {
+        // Report invalid identifiers but do not fail
+        // (sometimes RDF identifiers contain spaces or begin with #)
+        // This is the default behavior for other triple store engines (e.g. Jena)
+        parserConfig.addNonFatalError(XMLParserSettings.FAIL_ON_INVALID_NCNAME);
+        parserConfig.addNonFatalError(BasicParserSettings.VERIFY_URI_SYNTAX);
+        parserConfig.addNonFatalError(XMLParserSettings.FAIL_ON_DUPLICATE_RDF_ID);
+    }
+
     @Override
     public void read(InputStream is, String baseName, String contextName) {
         try (RepositoryConnection conn = repo.getConnection()) {
             conn.setIsolationLevel(IsolationLevels.NONE);
-
-            // Report invalid identifiers but do not fail
-            // (sometimes RDF identifiers contain spaces or begin with #)
-            // This is the default behavior for other triple store engines (e.g. Jena)
-            conn.getParserConfig().addNonFatalError(XMLParserSettings.FAIL_ON_INVALID_NCNAME);
-            conn.getParserConfig().addNonFatalError(BasicParserSettings.VERIFY_URI_SYNTAX);
-            conn.getParserConfig().addNonFatalError(XMLParserSettings.FAIL_ON_DUPLICATE_RDF_ID);
+            addNonFatalErrors(conn.getParserConfig());
 
             Resource context = context(conn, contextName);
             // We add data with a context (graph) to keep the source of information
@@ -90,6 +101,83 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
         }
     }
 
+    /**
+     * Files are parsed concurrently, each one into its own model, by a bounded number of workers. Parsed models are
+     * added to the repository one after the other, in the order of the files, so that the content of the repository
+     * is the same as when reading the files sequentially. The parsing of a file is only started once the model of the
+     * file read parallelism positions before it has been added, so that at most this number of parsed models are kept
+     * in memory.
+     */
+    @Override
+    public void read(ReadOnlyDataSource ds, String baseName, List<String> contextNames) {
+        Objects.requireNonNull(ds);
+        Objects.requireNonNull(contextNames);
+        int parallelism = Math.min(getOptions().getReadParallelism(), contextNames.size());
+        if (parallelism <= 1) {
+            super.read(ds, baseName, contextNames);
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            Deque<Future<Model>> models = new ArrayDeque<>(parallelism);
+            int next = 0;
+            for (; next < parallelism; next++) {
+                String contextName = contextNames.get(next);
+                models.add(executor.submit(() -> parse(ds, baseName, contextName)));
+            }
+            for (String contextName : contextNames) {
+                add(getParsedModel(models.remove()), baseName, contextName);
+                if (next < contextNames.size()) {
+                    String nextContextName = contextNames.get(next++);
+                    models.add(executor.submit(() -> parse(ds, baseName, nextContextName)));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Model parse(ReadOnlyDataSource ds, String baseName, String contextName) {
+        ParserConfig parserConfig = new ParserConfig();
+        addNonFatalErrors(parserConfig);
+        try (InputStream is = ds.newInputStream(contextName)) {
+            return Rio.parse(is, baseName, guessFormatFromName(contextName), parserConfig,
+                    SimpleValueFactory.getInstance(), new ParseErrorLogger());
+        } catch (IOException x) {
+            throw new TripleStoreReadException(baseName, contextName, x);
+        }
+    }
+
+    private static Model getParsedModel(Future<Model> model) {
+        try {
+            return model.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TripleStoreException("Interrupted while reading", e);
+        } catch (ExecutionException e) {
+            // parsing only throws unchecked exceptions, which are rethrown as if the file had been read by this thread
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    private void add(Model model, String baseName, String contextName) {
+        try (RepositoryConnection conn = repo.getConnection()) {
+            conn.setIsolationLevel(IsolationLevels.NONE);
+            Resource context = context(conn, contextName);
+            conn.add(model, context);
+            // As when adding directly from the input stream, namespaces declared in a file do not override existing ones
+            for (Namespace namespace : model.getNamespaces()) {
+                if (conn.getNamespace(namespace.getPrefix()) == null) {
+                    conn.setNamespace(namespace.getPrefix(), namespace.getName());
+                }
+            }
+            addNamespaceForBase(conn, baseName);
+        }
+    }
+
     private static RDFFormat guessFormatFromName(String name) {
         if (name.endsWith(".ttl")) {
             return RDFFormat.TURTLE;
@@ -186,16 +274,18 @@ public class TripleStoreRDF4J extends AbstractPowsyblTripleStore {
             // This means that we have to filter distinct results
             try (TupleQueryResult r = QueryResults.distinctResults(q.evaluate())) {
                 List<String> names = r.getBindingNames();
+                boolean removeInitialUnderscoreForIdentifiers = getOptions().isRemoveInitialUnderscoreForIdentifiers();
+                boolean unescapeIdentifiers = getOptions().unescapeIdentifiers();
                 while (r.hasNext()) {
                     BindingSet s = r.next();
-                    PropertyBag result = new PropertyBag(names, getOptions().isRemoveInitialUnderscoreForIdentifiers(), getOptions().unescapeIdentifiers());
+                    PropertyBag result = new PropertyBag(names, removeInitialUnderscoreForIdentifiers, unescapeIdentifiers);
 
-                    names.forEach(name -> {
-                        if (s.hasBinding(name)) {
-                            String value = s.getBinding(name).getValue().stringValue();
-                            result.put(name, value);
+                    for (String name : names) {
+                        Value value = s.getValue(name);
+                        if (value != null) {
+                            result.put(name, value.stringValue());
                         }
-                    });
+                    }
                     if (result.size() > 0) {
                         results.add(result);
                     }
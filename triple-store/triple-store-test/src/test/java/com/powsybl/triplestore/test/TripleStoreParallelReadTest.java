@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2026, Elia Group (https://www.eliagroup.eu)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.triplestore.test;
+
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.commons.datasource.ReadOnlyMemDataSource;
+import com.powsybl.commons.datasource.ResourceDataSource;
+import com.powsybl.commons.datasource.ResourceSet;
+import com.powsybl.triplestore.api.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Elia Group
+ */
+class TripleStoreParallelReadTest {
+
+    private static final String BASE = "foo:foaf";
+    private static final List<String> NAMES = List.of("abc-nicks.ttl", "abc-lastNames.ttl");
+
+    private final ReadOnlyDataSource dataSource = new ResourceDataSource("abc", new ResourceSet("/foaf", NAMES));
+
+    private static TripleStore read(String impl, ReadOnlyDataSource dataSource, int readParallelism) {
+        TripleStore tripleStore = TripleStoreFactory.create(impl, new TripleStoreOptions().setReadParallelism(readParallelism));
+        tripleStore.read(dataSource, BASE, NAMES);
+        return tripleStore;
+    }
+
+    @Test
+    void testSameContentsAsSequentialRead() {
+        QueryCatalog queries = new QueryCatalog("foaf/foaf-graphs.sparql");
+        TripleStoreFactory.allImplementations().forEach(impl -> {
+            TripleStore sequential = read(impl, dataSource, 1);
+            TripleStore parallel = read(impl, dataSource, 4);
+            assertEquals(sequential.contextNames(), parallel.contextNames());
+            assertEquals(sequential.getNamespaces(), parallel.getNamespaces());
+            String query = queries.get("lastNamesGraphs");
+            for (String property : List.of("lastName", "graphLastnames", "graphPersons")) {
+                assertEquals(sequential.query(query).pluckLocals(property), parallel.query(query).pluckLocals(property));
+            }
+        });
+    }
+
+    @Test
+    void testMissingFile() {
+        ReadOnlyDataSource incomplete = new ResourceDataSource("abc", new ResourceSet("/foaf", NAMES.get(0)));
+        TripleStoreFactory.allImplementations().forEach(impl -> {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> read(impl, incomplete, 4));
+            assertEquals("File 'abc-lastNames.ttl' not found", e.getMessage());
+        });
+    }
+
+    @Test
+    void testBoundedParsedModels() {
+        int parallelism = 2;
+        List<String> names = new ArrayList<>();
+        TripleStoreFactory.allImplementations().forEach(impl -> {
+            TripleStore tripleStore = TripleStoreFactory.create(impl, new TripleStoreOptions().setReadParallelism(parallelism));
+            AtomicInteger violations = new AtomicInteger();
+            ReadOnlyMemDataSource ds = new ReadOnlyMemDataSource() {
+                @Override
+                public InputStream newInputStream(String fileName) throws IOException {
+                    // a file is only opened once the file parallelism positions before it has been added
+                    int index = names.indexOf(fileName);
+                    if (index >= parallelism && tripleStore.contextNames().stream().noneMatch(c -> c.endsWith(names.get(index - parallelism)))) {
+                        violations.incrementAndGet();
+                    }
+                    return super.newInputStream(fileName);
+                }
+            };
+            names.clear();
+            for (int i = 0; i < 10; i++) {
+                String name = "file" + i + ".ttl";
+                names.add(name);
+                ds.putData(name, ("@prefix foaf: <http://xmlns.com/foaf/0.1/> .\n<http://example.org/p" + i + "> foaf:nick \"p" + i + "\" .\n")
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+            tripleStore.read(ds, BASE, names);
+            assertEquals(names.size(), tripleStore.contextNames().size());
+            assertEquals(0, violations.get());
+        });
+    }
+
+    @Test
+    void testReadFailure() {
+        ReadOnlyMemDataSource failing = new ReadOnlyMemDataSource() {
+            @Override
+            public InputStream newInputStream(String fileName) throws IOException {
+                throw new IOException("Broken " + fileName);
+            }
+        };
+        for (int readParallelism : new int[] {1, 4}) {
+            TripleStoreFactory.allImplementations().forEach(impl -> {
+                TripleStoreReadException e = assertThrows(TripleStoreReadException.class, () -> read(impl, failing, readParallelism));
+                assertEquals("abc-nicks.ttl", e.getContextName());
+                assertEquals("Reading foo:foaf abc-nicks.ttl", e.getMessage());
+                assertEquals("Broken abc-nicks.ttl", e.getCause().getMessage());
+            });
+        }
+    }
+
+    @Test
+    void testInvalidReadParallelism() {
+        TripleStoreOptions options = new TripleStoreOptions();
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> options.setReadParallelism(0));
+        assertEquals("Invalid read parallelism: 0", e.getMessage());
+    }
+}